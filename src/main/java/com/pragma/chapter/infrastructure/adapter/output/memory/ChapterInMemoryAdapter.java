@@ -0,0 +1,66 @@
+package com.pragma.chapter.infrastructure.adapter.output.memory;
+
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.chapter.domain.port.output.ChapterRepository;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory {@link ChapterRepository} for the {@code memory} profile.
+ */
+@Component
+@Primary
+@Profile("memory")
+public class ChapterInMemoryAdapter implements ChapterRepository {
+
+    private final Map<String, Chapter> chapters = new ConcurrentHashMap<>();
+    private final Map<String, String> idsByName = new ConcurrentHashMap<>();
+
+    @Override
+    public synchronized Chapter save(Chapter chapter) {
+        Chapter stored = copy(chapter);
+        if (stored.getId() == null) {
+            stored.setId(UUID.randomUUID().toString());
+        }
+        Chapter previous = chapters.put(stored.getId(), stored);
+        if (previous != null && previous.getName() != null) {
+            idsByName.remove(previous.getName(), previous.getId());
+        }
+        if (stored.getName() != null) {
+            idsByName.put(stored.getName(), stored.getId());
+        }
+        return copy(stored);
+    }
+
+    @Override
+    public List<Chapter> findAll() {
+        return chapters.values().stream().map(ChapterInMemoryAdapter::copy).collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<Chapter> findById(String id) {
+        return Optional.ofNullable(id).map(chapters::get).map(ChapterInMemoryAdapter::copy);
+    }
+
+    @Override
+    public Optional<Chapter> findByName(String name) {
+        return Optional.ofNullable(name).map(idsByName::get).flatMap(this::findById);
+    }
+
+    public synchronized void clear() {
+        chapters.clear();
+        idsByName.clear();
+    }
+
+    static Chapter copy(Chapter chapter) {
+        return chapter == null ? null : new Chapter(chapter.getId(), chapter.getName());
+    }
+}
@@ -0,0 +1,67 @@
+package com.pragma.exports.application.service;
+
+import com.pragma.exports.domain.port.input.ExportDataUseCase;
+import com.pragma.feedbacks.domain.model.Feedback;
+import com.pragma.feedbacks.domain.port.output.FeedbackRepository;
+import com.pragma.tutoring_sessions.domain.model.TutoringSession;
+import com.pragma.tutoring_sessions.domain.port.output.TutoringSessionRepository;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.port.output.TutoringRepository;
+import com.pragma.tutorings_requests.domain.model.TutoringRequest;
+import com.pragma.tutorings_requests.domain.port.output.TutoringRequestRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportService implements ExportDataUseCase {
+
+    private final TutoringRepository tutoringRepository;
+    private final TutoringRequestRepository tutoringRequestRepository;
+    private final TutoringSessionRepository tutoringSessionRepository;
+    private final FeedbackRepository feedbackRepository;
+
+    @Override
+    public long exportTutorings(Consumer<Tutoring> consumer) {
+        AtomicLong count = new AtomicLong();
+        tutoringRepository.streamAll(counting(consumer, count));
+        log.info("Exportación de tutorías completada: {} registros", count.get());
+        return count.get();
+    }
+
+    @Override
+    public long exportTutoringRequests(Consumer<TutoringRequest> consumer) {
+        AtomicLong count = new AtomicLong();
+        tutoringRequestRepository.streamAll(counting(consumer, count));
+        log.info("Exportación de solicitudes de tutoría completada: {} registros", count.get());
+        return count.get();
+    }
+
+    @Override
+    public long exportTutoringSessions(Consumer<TutoringSession> consumer) {
+        AtomicLong count = new AtomicLong();
+        tutoringSessionRepository.streamAll(counting(consumer, count));
+        log.info("Exportación de sesiones de tutoría completada: {} registros", count.get());
+        return count.get();
+    }
+
+    @Override
+    public long exportFeedbacks(Consumer<Feedback> consumer) {
+        AtomicLong count = new AtomicLong();
+        feedbackRepository.streamAll(counting(consumer, count));
+        log.info("Exportación de feedbacks completada: {} registros", count.get());
+        return count.get();
+    }
+
+    private static <T> Consumer<T> counting(Consumer<T> consumer, AtomicLong count) {
+        return item -> {
+            consumer.accept(item);
+            count.incrementAndGet();
+        };
+    }
+}
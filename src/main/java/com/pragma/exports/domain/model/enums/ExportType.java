@@ -0,0 +1,27 @@
+package com.pragma.exports.domain.model.enums;
+
+import java.util.Arrays;
+
+public enum ExportType {
+    TUTORINGS("tutorings"),
+    TUTORING_REQUESTS("tutoring-requests"),
+    TUTORING_SESSIONS("tutoring-sessions"),
+    FEEDBACKS("feedbacks");
+
+    private final String path;
+
+    ExportType(String path) {
+        this.path = path;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public static ExportType fromPath(String path) {
+        return Arrays.stream(values())
+                .filter(type -> type.path.equalsIgnoreCase(path))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Tipo de exportación desconocido: " + path));
+    }
+}
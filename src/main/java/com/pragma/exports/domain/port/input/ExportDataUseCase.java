@@ -0,0 +1,19 @@
+package com.pragma.exports.domain.port.input;
+
+import com.pragma.feedbacks.domain.model.Feedback;
+import com.pragma.tutoring_sessions.domain.model.TutoringSession;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings_requests.domain.model.TutoringRequest;
+
+import java.util.function.Consumer;
+
+/**
+ * Full-table exports. Every record is handed to the consumer as it is read, so callers can write it
+ * out without the whole table ever being held in memory. Returns the number of exported records.
+ */
+public interface ExportDataUseCase {
+    long exportTutorings(Consumer<Tutoring> consumer);
+    long exportTutoringRequests(Consumer<TutoringRequest> consumer);
+    long exportTutoringSessions(Consumer<TutoringSession> consumer);
+    long exportFeedbacks(Consumer<Feedback> consumer);
+}
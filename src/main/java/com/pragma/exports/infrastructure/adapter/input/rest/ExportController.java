@@ -0,0 +1,106 @@
+package com.pragma.exports.infrastructure.adapter.input.rest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.pragma.exports.domain.model.enums.ExportType;
+import com.pragma.exports.domain.port.input.ExportDataUseCase;
+import com.pragma.feedbacks.infrastructure.adapter.input.rest.mapper.FeedbackDtoMapper;
+import com.pragma.shared.context.UserContextHelper;
+import com.pragma.tutoring_sessions.infrastructure.adapter.input.rest.mapper.TutoringSessionDtoMapper;
+import com.pragma.tutorings.infrastructure.adapter.input.rest.mapper.TutoringDtoMapper;
+import com.pragma.tutorings_requests.infrastructure.adapter.input.rest.mapper.TutoringRequestDtoMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams whole tables as NDJSON (one JSON document per line). Records are serialised as the repository
+ * reads them, so neither the rows nor the response body are ever held in memory in full.
+ */
+@RestController
+@RequestMapping("/api/v1/exports")
+@RequiredArgsConstructor
+@Slf4j
+public class ExportController {
+
+    static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
+    private final ExportDataUseCase exportDataUseCase;
+    private final TutoringDtoMapper tutoringDtoMapper;
+    private final TutoringRequestDtoMapper tutoringRequestDtoMapper;
+    private final TutoringSessionDtoMapper tutoringSessionDtoMapper;
+    private final FeedbackDtoMapper feedbackDtoMapper;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping("/{type}")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable String type,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        // Las exportaciones incluyen datos de todos los usuarios
+        UserContextHelper.requireAdminRole();
+        ExportType exportType = ExportType.fromPath(type);
+        log.info("Administrador {} exportando {}", UserContextHelper.getCurrentUserEmail(), exportType.getPath());
+
+        StreamingResponseBody body = out -> {
+            OutputStream target = gzip ? new GZIPOutputStream(out, GZIP_BUFFER_SIZE) : out;
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(target)) {
+                // Cada documento termina en salto de línea; sin separador entre documentos raíz
+                generator.setRootValueSeparator(null);
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                ObjectWriter objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+                write(exportType, new NdjsonWriter(objectWriter, generator));
+            }
+            if (target instanceof GZIPOutputStream gzipStream) {
+                gzipStream.finish();
+            }
+        };
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(NDJSON);
+        headers.setContentDisposition(ContentDisposition.attachment().filename(exportType.getPath() + ".ndjson").build());
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return ResponseEntity.ok().headers(headers).body(body);
+    }
+
+    private void write(ExportType type, NdjsonWriter writer) {
+        switch (type) {
+            case TUTORINGS -> exportDataUseCase.exportTutorings(tutoring -> writer.write(tutoringDtoMapper.toDto(tutoring)));
+            case TUTORING_REQUESTS -> exportDataUseCase.exportTutoringRequests(
+                    request -> writer.write(tutoringRequestDtoMapper.toDto(request)));
+            case TUTORING_SESSIONS -> exportDataUseCase.exportTutoringSessions(
+                    session -> writer.write(tutoringSessionDtoMapper.toDto(session)));
+            case FEEDBACKS -> exportDataUseCase.exportFeedbacks(feedback -> writer.write(feedbackDtoMapper.toDto(feedback)));
+        }
+    }
+
+    private record NdjsonWriter(ObjectWriter objectWriter, JsonGenerator generator) {
+
+        void write(Object dto) {
+            try {
+                objectWriter.writeValue(generator, dto);
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.pragma.feedbacks.application.service;
+
+import com.pragma.feedbacks.domain.event.FeedbackSubmitted;
+import com.pragma.feedbacks.domain.port.output.FeedbackRepository;
+import com.pragma.shared.events.DomainEventHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds submitted feedback to the rating aggregates outside the request. The increments commit together
+ * with the event being marked as dispatched, so a redelivered event is never counted twice.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedbackRatingHandler implements DomainEventHandler<FeedbackSubmitted> {
+
+    private final FeedbackRepository feedbackRepository;
+    private final RatingService ratingService;
+
+    @Override
+    public Class<FeedbackSubmitted> eventType() {
+        return FeedbackSubmitted.class;
+    }
+
+    @Override
+    public void handle(FeedbackSubmitted event) {
+        feedbackRepository.findById(event.feedbackId()).ifPresentOrElse(ratingService::record,
+                () -> log.warn("Feedback {} no encontrado, no se agrega a las valoraciones", event.feedbackId()));
+    }
+}
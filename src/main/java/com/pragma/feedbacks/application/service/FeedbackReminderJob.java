@@ -0,0 +1,97 @@
+package com.pragma.feedbacks.application.service;
+
+import com.pragma.feedbacks.domain.model.PendingFeedback;
+import com.pragma.feedbacks.domain.port.output.FeedbackRepository;
+import com.pragma.notifications.domain.port.output.NotificationSender;
+import com.pragma.shared.config.ReminderProperties;
+import com.pragma.shared.scheduling.JobLeaseRepository;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.usuarios.domain.model.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reminds the tutor and/or tutee of every active tutoring that still lacks their feedback.
+ * Pending tutorings come from a single anti-join query, read in id-ordered batches so the
+ * job never holds more than {@code app.reminders.feedback-batch-size} tutorings in memory.
+ * Only the replica holding the {@code feedback-reminders} lease sends them; the lease is renewed
+ * after each batch and left to expire instead of released, so a replica whose cron fires a little
+ * later does not send the same reminders again.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedbackReminderJob {
+
+    static final String JOB = "feedback-reminders";
+
+    private final FeedbackRepository feedbackRepository;
+    private final NotificationSender notificationSender;
+    private final ReminderProperties reminderProperties;
+    private final JobLeaseRepository jobLeaseRepository;
+
+    private final String owner = UUID.randomUUID().toString();
+
+    @Scheduled(cron = "${app.reminders.feedback-cron:0 0 9 * * MON-FRI}", zone = "${app.sessions.default-zone:UTC}")
+    public void run() {
+        if (!reminderProperties.isEnabled()) {
+            return;
+        }
+        int sent = remindPendingFeedback();
+        log.info("Recordatorios de feedback pendiente enviados: {}", sent);
+    }
+
+    /**
+     * Sends one reminder per missing feedback while this replica holds the lease and returns how many were sent.
+     */
+    public int remindPendingFeedback() {
+        if (!renewLease()) {
+            log.info("Otra réplica está enviando los recordatorios de feedback");
+            return 0;
+        }
+        int batchSize = reminderProperties.getFeedbackBatchSize();
+        int sent = 0;
+        String lastId = "";
+        List<PendingFeedback> batch;
+        do {
+            batch = feedbackRepository.findActiveTutoringsMissingFeedback(lastId, batchSize);
+            for (PendingFeedback pending : batch) {
+                Tutoring tutoring = pending.tutoring();
+                if (pending.tutorMissing()) {
+                    sent += remind(tutoring.getTutor(), tutoring);
+                }
+                if (pending.tuteeMissing()) {
+                    sent += remind(tutoring.getTutee(), tutoring);
+                }
+                lastId = tutoring.getId();
+            }
+        } while (batch.size() == batchSize && renewLease());
+        return sent;
+    }
+
+    private boolean renewLease() {
+        Instant now = Instant.now();
+        return jobLeaseRepository.tryAcquire(JOB, owner, now, now.plus(reminderProperties.getFeedbackLeaseDuration()));
+    }
+
+    private int remind(User recipient, Tutoring tutoring) {
+        if (recipient == null) {
+            return 0;
+        }
+        try {
+            notificationSender.send(recipient, "Recordatorio: tienes pendiente registrar tu feedback de la tutoría "
+                    + tutoring.getId() + ".");
+            return 1;
+        } catch (RuntimeException e) {
+            log.warn("No se pudo enviar el recordatorio de feedback a {} para la tutoría {}: {}",
+                    recipient.getId(), tutoring.getId(), e.getMessage());
+            return 0;
+        }
+    }
+}
@@ -1,8 +1,14 @@
 package com.pragma.feedbacks.application.service;
 
+import com.pragma.feedbacks.domain.event.FeedbackSubmitted;
 import com.pragma.feedbacks.domain.model.Feedback;
+import com.pragma.feedbacks.domain.model.RatingAggregate;
+import com.pragma.feedbacks.domain.model.enums.FeedbackKind;
 import com.pragma.feedbacks.domain.port.input.CreateFeedbackUseCase;
 import com.pragma.feedbacks.domain.port.output.FeedbackRepository;
+import com.pragma.search.domain.model.enums.SearchDocumentType;
+import com.pragma.search.domain.port.input.IndexTextUseCase;
+import com.pragma.shared.events.DomainEventPublisher;
 import com.pragma.tutorings.domain.model.Tutoring;
 import com.pragma.tutorings.domain.port.output.TutoringRepository;
 import com.pragma.usuarios.domain.model.User;
@@ -10,7 +16,9 @@ import com.pragma.usuarios.domain.port.output.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.Date;
 
 @Service
@@ -21,10 +29,18 @@ public class FeedbackService implements CreateFeedbackUseCase {
     private final FeedbackRepository feedbackRepository;
     private final TutoringRepository tutoringRepository;
     private final UserRepository userRepository;
+    private final IndexTextUseCase indexTextUseCase;
+    private final DomainEventPublisher domainEventPublisher;
 
     @Override
+    @Transactional
     public Feedback createFeedback(Feedback feedback) {
         log.info("Creando feedback para la tutoría con ID: {}", feedback.getTutoring().getId());
+
+        if (!RatingAggregate.isValidScore(feedback.getScore())) {
+            throw new IllegalArgumentException("La puntuación debe estar entre " + RatingAggregate.MIN_SCORE
+                    + " y " + RatingAggregate.MAX_SCORE);
+        }
         
         // Validar que la tutoría existe y cargar sus datos completos
         Tutoring tutoring = tutoringRepository.findById(feedback.getTutoring().getId())
@@ -40,10 +56,16 @@ public class FeedbackService implements CreateFeedbackUseCase {
         // Asignar los objetos completos
         feedback.setTutoring(tutoring);
         feedback.setEvaluator(evaluator);
+        feedback.setKind(FeedbackKind.Evaluacion);
         
         // Guardar el feedback
         Feedback savedFeedback = feedbackRepository.save(feedback);
         log.info("Feedback creado exitosamente con ID: {}", savedFeedback.getId());
+
+        // Los agregados de valoración del tutor y su capítulo se actualizan al despachar el evento
+        domainEventPublisher.publish(new FeedbackSubmitted(savedFeedback.getId(), tutoring.getId(), evaluator.getId(),
+                savedFeedback.getScore(), savedFeedback.getKind(), Instant.now()));
+        indexTextUseCase.index(SearchDocumentType.FEEDBACK, savedFeedback.getId(), savedFeedback.getComments());
         
         return savedFeedback;
     }
@@ -18,4 +18,9 @@ public class GetFeedbacksService implements GetFeedbacksUseCase {
     public List<Feedback> getFeedbacksByTutoringId(String tutoringId) {
         return feedbackRepository.findByTutoringId(tutoringId);
     }
+
+    @Override
+    public List<Feedback> getFeedbacksByTutoringId(String tutoringId, boolean includeHistory) {
+        return includeHistory ? feedbackRepository.findByTutoringIdIncludingHistory(tutoringId) : getFeedbacksByTutoringId(tutoringId);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.pragma.feedbacks.application.service;
+
+import com.pragma.feedbacks.domain.model.Feedback;
+import com.pragma.feedbacks.domain.model.RatingAggregate;
+import com.pragma.feedbacks.domain.model.enums.FeedbackKind;
+import com.pragma.feedbacks.domain.model.enums.RatingScope;
+import com.pragma.feedbacks.domain.port.input.GetRatingSummaryUseCase;
+import com.pragma.feedbacks.domain.port.output.RatingAggregateRepository;
+import com.pragma.recommendations.domain.port.input.UpdateTutorProfileUseCase;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.usuarios.domain.model.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Maintains the tutor and chapter rating aggregates and serves them.
+ * Only scored evaluations written about the tutor (i.e. not by the tutor) are counted;
+ * the chapter is the tutor's chapter.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RatingService implements GetRatingSummaryUseCase {
+
+    private final RatingAggregateRepository ratingAggregateRepository;
+    private final UpdateTutorProfileUseCase updateTutorProfileUseCase;
+
+    public void record(Feedback feedback) {
+        if (feedback.getKind() != FeedbackKind.Evaluacion || !RatingAggregate.isValidScore(feedback.getScore())) {
+            return;
+        }
+        Tutoring tutoring = feedback.getTutoring();
+        User tutor = tutoring == null ? null : tutoring.getTutor();
+        if (tutor == null || tutor.getId() == null) {
+            log.warn("Feedback {} sin tutor asociado, no se agrega a las valoraciones", feedback.getId());
+            return;
+        }
+        if (feedback.getEvaluator() != null && tutor.getId().equals(feedback.getEvaluator().getId())) {
+            return; // Valoración del tutor sobre el tutorado
+        }
+
+        ratingAggregateRepository.increment(RatingScope.TUTOR, tutor.getId(), feedback.getScore());
+        updateTutorProfileUseCase.ratingRecorded(tutor.getId(), feedback.getScore());
+        if (tutor.getChapter() != null && tutor.getChapter().getId() != null) {
+            ratingAggregateRepository.increment(RatingScope.CHAPTER, tutor.getChapter().getId(), feedback.getScore());
+        }
+    }
+
+    @Override
+    public RatingAggregate getTutorRatings(String tutorId) {
+        return ratingAggregateRepository.findByScope(RatingScope.TUTOR, tutorId)
+                .orElseGet(() -> RatingAggregate.empty(RatingScope.TUTOR, tutorId));
+    }
+
+    @Override
+    public RatingAggregate getChapterRatings(String chapterId) {
+        return ratingAggregateRepository.findByScope(RatingScope.CHAPTER, chapterId)
+                .orElseGet(() -> RatingAggregate.empty(RatingScope.CHAPTER, chapterId));
+    }
+}
@@ -0,0 +1,13 @@
+package com.pragma.feedbacks.domain.event;
+
+import com.pragma.feedbacks.domain.model.enums.FeedbackKind;
+import com.pragma.shared.events.DomainEvent;
+
+import java.time.Instant;
+
+/**
+ * A participant submitted feedback on a tutoring.
+ */
+public record FeedbackSubmitted(String feedbackId, String tutoringId, String evaluatorId, Integer score,
+                                FeedbackKind kind, Instant occurredAt) implements DomainEvent {
+}
@@ -1,5 +1,6 @@
 package com.pragma.feedbacks.domain.model;
 
+import com.pragma.feedbacks.domain.model.enums.FeedbackKind;
 import com.pragma.tutorings.domain.model.Tutoring;
 import com.pragma.usuarios.domain.model.User;
 import lombok.AllArgsConstructor;
@@ -16,6 +17,7 @@ public class Feedback {
     private User evaluator;
     private Date evaluationDate;
     private Tutoring tutoring;
-    private String score;
+    private Integer score;
     private String comments;
+    private FeedbackKind kind;
 }
\ No newline at end of file
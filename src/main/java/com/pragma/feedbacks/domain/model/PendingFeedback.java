@@ -0,0 +1,9 @@
+package com.pragma.feedbacks.domain.model;
+
+import com.pragma.tutorings.domain.model.Tutoring;
+
+/**
+ * Active tutoring in which the tutor, the tutee or both have not submitted feedback yet.
+ */
+public record PendingFeedback(Tutoring tutoring, boolean tutorMissing, boolean tuteeMissing) {
+}
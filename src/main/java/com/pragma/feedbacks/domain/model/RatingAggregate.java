@@ -0,0 +1,68 @@
+package com.pragma.feedbacks.domain.model;
+
+import com.pragma.feedbacks.domain.model.enums.RatingScope;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Running totals of the scores received by a tutor or by the tutors of a chapter.
+ * Average, standard deviation and distribution are derived from the totals without reading feedbacks.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingAggregate {
+
+    public static final int MIN_SCORE = 1;
+    public static final int MAX_SCORE = 5;
+
+    private RatingScope scope;
+    private String scopeId;
+    private long count;
+    private long sum;
+    private long sumOfSquares;
+    private long[] histogram = new long[MAX_SCORE - MIN_SCORE + 1];
+
+    public static RatingAggregate empty(RatingScope scope, String scopeId) {
+        return new RatingAggregate(scope, scopeId, 0, 0, 0, new long[MAX_SCORE - MIN_SCORE + 1]);
+    }
+
+    public void add(int score) {
+        count++;
+        sum += score;
+        sumOfSquares += (long) score * score;
+        histogram[score - MIN_SCORE]++;
+    }
+
+    public Double average() {
+        return count == 0 ? null : (double) sum / count;
+    }
+
+    /**
+     * Population standard deviation, computed as sqrt(E[x²] - E[x]²).
+     */
+    public Double standardDeviation() {
+        if (count == 0) {
+            return null;
+        }
+        double mean = (double) sum / count;
+        double variance = (double) sumOfSquares / count - mean * mean;
+        return Math.sqrt(Math.max(variance, 0));
+    }
+
+    public Map<Integer, Long> distribution() {
+        Map<Integer, Long> distribution = new LinkedHashMap<>();
+        for (int score = MIN_SCORE; score <= MAX_SCORE; score++) {
+            distribution.put(score, histogram[score - MIN_SCORE]);
+        }
+        return distribution;
+    }
+
+    public static boolean isValidScore(Integer score) {
+        return score != null && score >= MIN_SCORE && score <= MAX_SCORE;
+    }
+}
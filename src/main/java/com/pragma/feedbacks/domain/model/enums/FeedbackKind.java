@@ -0,0 +1,6 @@
+package com.pragma.feedbacks.domain.model.enums;
+
+public enum FeedbackKind {
+    Evaluacion,  // Valoración escrita por un participante, con puntuación
+    Cancelacion  // Nota generada por el sistema al solicitar o aprobar una cancelación, sin puntuación
+}
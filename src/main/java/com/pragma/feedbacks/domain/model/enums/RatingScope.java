@@ -0,0 +1,6 @@
+package com.pragma.feedbacks.domain.model.enums;
+
+public enum RatingScope {
+    TUTOR,
+    CHAPTER
+}
@@ -6,4 +6,9 @@ import java.util.List;
 
 public interface GetFeedbacksUseCase {
     List<Feedback> getFeedbacksByTutoringId(String tutoringId);
+
+    /**
+     * With {@code includeHistory}, the feedbacks of an archived tutoring are returned too.
+     */
+    List<Feedback> getFeedbacksByTutoringId(String tutoringId, boolean includeHistory);
 }
\ No newline at end of file
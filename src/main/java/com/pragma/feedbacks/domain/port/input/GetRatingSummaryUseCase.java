@@ -0,0 +1,8 @@
+package com.pragma.feedbacks.domain.port.input;
+
+import com.pragma.feedbacks.domain.model.RatingAggregate;
+
+public interface GetRatingSummaryUseCase {
+    RatingAggregate getTutorRatings(String tutorId);
+    RatingAggregate getChapterRatings(String chapterId);
+}
@@ -1,13 +1,32 @@
 package com.pragma.feedbacks.domain.port.output;
 
 import com.pragma.feedbacks.domain.model.Feedback;
+import com.pragma.feedbacks.domain.model.PendingFeedback;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface FeedbackRepository {
     Feedback save(Feedback feedback);
     Optional<Feedback> findById(String id);
     List<Feedback> findByTutoringId(String tutoringId);
+
+    /**
+     * Like {@link #findByTutoringId(String)}, followed by the archived feedbacks of the tutoring.
+     */
+    List<Feedback> findByTutoringIdIncludingHistory(String tutoringId);
     List<Feedback> findByTutoringIdAndEvaluatorId(String tutoringId, String evaluatorId);
+    boolean existsByTutoringIdAndEvaluatorId(String tutoringId, String evaluatorId);
+
+    /**
+     * Hands every feedback to {@code consumer}, one chunk at a time, without holding the table in memory.
+     */
+    void streamAll(Consumer<Feedback> consumer);
+
+    /**
+     * Active tutorings with id greater than {@code afterTutoringId} that lack tutor or tutee feedback,
+     * ordered by id, at most {@code limit}.
+     */
+    List<PendingFeedback> findActiveTutoringsMissingFeedback(String afterTutoringId, int limit);
 }
\ No newline at end of file
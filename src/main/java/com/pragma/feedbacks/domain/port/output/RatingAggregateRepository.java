@@ -0,0 +1,13 @@
+package com.pragma.feedbacks.domain.port.output;
+
+import com.pragma.feedbacks.domain.model.RatingAggregate;
+import com.pragma.feedbacks.domain.model.enums.RatingScope;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface RatingAggregateRepository {
+    void increment(RatingScope scope, String scopeId, int score);
+    Optional<RatingAggregate> findByScope(RatingScope scope, String scopeId);
+    List<RatingAggregate> findAllByScope(RatingScope scope);
+}
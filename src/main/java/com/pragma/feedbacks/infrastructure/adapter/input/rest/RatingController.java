@@ -0,0 +1,33 @@
+package com.pragma.feedbacks.infrastructure.adapter.input.rest;
+
+import com.pragma.feedbacks.domain.port.input.GetRatingSummaryUseCase;
+import com.pragma.feedbacks.infrastructure.adapter.input.rest.dto.RatingSummaryDto;
+import com.pragma.feedbacks.infrastructure.adapter.input.rest.mapper.RatingSummaryDtoMapper;
+import com.pragma.shared.dto.OkResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/ratings")
+@RequiredArgsConstructor
+public class RatingController {
+
+    private final GetRatingSummaryUseCase getRatingSummaryUseCase;
+    private final RatingSummaryDtoMapper ratingSummaryDtoMapper;
+
+    @GetMapping("/tutors/{tutorId}")
+    public ResponseEntity<OkResponseDto<RatingSummaryDto>> getTutorRatings(@PathVariable String tutorId) {
+        RatingSummaryDto summary = ratingSummaryDtoMapper.toDto(getRatingSummaryUseCase.getTutorRatings(tutorId));
+        return ResponseEntity.ok(OkResponseDto.of("Valoraciones del tutor obtenidas exitosamente", summary));
+    }
+
+    @GetMapping("/chapters/{chapterId}")
+    public ResponseEntity<OkResponseDto<RatingSummaryDto>> getChapterRatings(@PathVariable String chapterId) {
+        RatingSummaryDto summary = ratingSummaryDtoMapper.toDto(getRatingSummaryUseCase.getChapterRatings(chapterId));
+        return ResponseEntity.ok(OkResponseDto.of("Valoraciones del capítulo obtenidas exitosamente", summary));
+    }
+}
@@ -1,6 +1,8 @@
 package com.pragma.feedbacks.infrastructure.adapter.input.rest.dto;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -17,8 +19,10 @@ public class CreateFeedbackDto {
     @NotBlank(message = "El ID de la tutoría es obligatorio")
     private String tutoringId;
     
-    @NotBlank(message = "La puntuación es obligatoria")
-    private String score;
+    @NotNull(message = "La puntuación es obligatoria")
+    @Min(value = 1, message = "La puntuación debe estar entre 1 y 5")
+    @Max(value = 5, message = "La puntuación debe estar entre 1 y 5")
+    private Integer score;
     
     @NotBlank(message = "Los comentarios son obligatorios")
     private String comments;
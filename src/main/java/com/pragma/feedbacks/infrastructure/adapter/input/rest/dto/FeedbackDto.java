@@ -1,5 +1,6 @@
 package com.pragma.feedbacks.infrastructure.adapter.input.rest.dto;
 
+import com.pragma.feedbacks.domain.model.enums.FeedbackKind;
 import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.TutoringDto;
 import com.pragma.usuarios.infrastructure.adapter.input.rest.dto.UserDto;
 import lombok.AllArgsConstructor;
@@ -16,6 +17,7 @@ public class FeedbackDto {
     private UserDto evaluator;
     private Date evaluationDate;
     private TutoringDto tutoring;
-    private String score;
+    private Integer score;
     private String comments;
+    private FeedbackKind kind;
 }
\ No newline at end of file
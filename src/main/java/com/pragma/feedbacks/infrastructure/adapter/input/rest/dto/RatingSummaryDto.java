@@ -0,0 +1,20 @@
+package com.pragma.feedbacks.infrastructure.adapter.input.rest.dto;
+
+import com.pragma.feedbacks.domain.model.enums.RatingScope;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingSummaryDto {
+    private RatingScope scope;
+    private String scopeId;
+    private long count;
+    private Double average;
+    private Double standardDeviation;
+    private Map<Integer, Long> distribution;
+}
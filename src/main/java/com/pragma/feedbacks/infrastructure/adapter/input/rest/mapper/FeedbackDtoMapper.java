@@ -17,6 +17,7 @@ public interface FeedbackDtoMapper {
     
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "evaluationDate", ignore = true)
+    @Mapping(target = "kind", ignore = true)
     @Mapping(source = "evaluatorId", target = "evaluator.id")
     @Mapping(source = "tutoringId", target = "tutoring.id")
     Feedback toDomain(CreateFeedbackDto dto);
@@ -0,0 +1,15 @@
+package com.pragma.feedbacks.infrastructure.adapter.input.rest.mapper;
+
+import com.pragma.feedbacks.domain.model.RatingAggregate;
+import com.pragma.feedbacks.infrastructure.adapter.input.rest.dto.RatingSummaryDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface RatingSummaryDtoMapper {
+
+    @Mapping(target = "average", expression = "java(aggregate.average())")
+    @Mapping(target = "standardDeviation", expression = "java(aggregate.standardDeviation())")
+    @Mapping(target = "distribution", expression = "java(aggregate.distribution())")
+    RatingSummaryDto toDto(RatingAggregate aggregate);
+}
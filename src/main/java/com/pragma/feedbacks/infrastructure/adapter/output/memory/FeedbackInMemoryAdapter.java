@@ -0,0 +1,188 @@
+package com.pragma.feedbacks.infrastructure.adapter.output.memory;
+
+import com.pragma.feedbacks.domain.model.Feedback;
+import com.pragma.feedbacks.domain.model.PendingFeedback;
+import com.pragma.feedbacks.domain.port.output.FeedbackRepository;
+import com.pragma.shared.persistence.memory.InMemoryIndex;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings.infrastructure.adapter.output.memory.TutoringInMemoryAdapter;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.infrastructure.adapter.output.memory.UserInMemoryAdapter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory {@link FeedbackRepository} for the {@code memory} profile, indexed by tutoring.
+ * Feedbacks of archived tutorings are kept apart, grouped by tutoring.
+ */
+@Component
+@Primary
+@Profile("memory")
+@RequiredArgsConstructor
+public class FeedbackInMemoryAdapter implements FeedbackRepository {
+
+    private final UserInMemoryAdapter userAdapter;
+    private final TutoringInMemoryAdapter tutoringAdapter;
+
+    private final Map<String, Feedback> feedbacks = new ConcurrentHashMap<>();
+    private final InMemoryIndex<String> byTutoring = new InMemoryIndex<>();
+    private final Map<String, List<Feedback>> archivedByTutoring = new ConcurrentHashMap<>();
+
+    @Override
+    public synchronized Feedback save(Feedback feedback) {
+        Feedback stored = new Feedback(feedback.getId(), reference(feedback.getEvaluator()), copyDate(feedback.getEvaluationDate()),
+                reference(feedback.getTutoring()), feedback.getScore(), feedback.getComments(), feedback.getKind());
+        if (stored.getId() == null) {
+            stored.setId(UUID.randomUUID().toString());
+        }
+        Feedback previous = feedbacks.put(stored.getId(), stored);
+        byTutoring.update(tutoringId(previous), tutoringId(stored), stored.getId());
+        return hydrate(stored);
+    }
+
+    @Override
+    public Optional<Feedback> findById(String id) {
+        return Optional.ofNullable(id).map(feedbacks::get).map(this::hydrate);
+    }
+
+    @Override
+    public List<Feedback> findByTutoringId(String tutoringId) {
+        return byTutoring.get(tutoringId).stream()
+                .map(feedbacks::get)
+                .filter(Objects::nonNull)
+                .filter(feedback -> tutoringId.equals(tutoringId(feedback)))
+                .map(this::hydrate)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Feedback> findByTutoringIdIncludingHistory(String tutoringId) {
+        List<Feedback> result = findByTutoringId(tutoringId);
+        archivedByTutoring.getOrDefault(tutoringId, List.of()).stream()
+                .map(this::hydrate)
+                .forEach(result::add);
+        return result;
+    }
+
+    @Override
+    public List<Feedback> findByTutoringIdAndEvaluatorId(String tutoringId, String evaluatorId) {
+        return findByTutoringId(tutoringId).stream()
+                .filter(feedback -> feedback.getEvaluator() != null && Objects.equals(evaluatorId, feedback.getEvaluator().getId()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean existsByTutoringIdAndEvaluatorId(String tutoringId, String evaluatorId) {
+        return byTutoring.get(tutoringId).stream()
+                .map(feedbacks::get)
+                .filter(Objects::nonNull)
+                .anyMatch(feedback -> tutoringId.equals(tutoringId(feedback)) && feedback.getEvaluator() != null
+                        && Objects.equals(evaluatorId, feedback.getEvaluator().getId()));
+    }
+
+    @Override
+    public void streamAll(Consumer<Feedback> consumer) {
+        feedbacks.values().stream().map(this::hydrate).forEach(consumer);
+    }
+
+    @Override
+    public List<PendingFeedback> findActiveTutoringsMissingFeedback(String afterTutoringId, int limit) {
+        return tutoringAdapter.findByStatus(TutoringStatus.Activa).stream()
+                .filter(tutoring -> tutoring.getId().compareTo(afterTutoringId) > 0)
+                .sorted(Comparator.comparing(Tutoring::getId))
+                .map(tutoring -> new PendingFeedback(tutoring,
+                        !existsByTutoringIdAndEvaluatorId(tutoring.getId(), userId(tutoring.getTutor())),
+                        !existsByTutoringIdAndEvaluatorId(tutoring.getId(), userId(tutoring.getTutee()))))
+                .filter(pending -> pending.tutorMissing() || pending.tuteeMissing())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    public List<Feedback> findAll() {
+        return feedbacks.values().stream().map(this::hydrate).collect(Collectors.toList());
+    }
+
+    /**
+     * Moves the feedbacks of the given tutorings to the archive.
+     */
+    public synchronized void archive(Collection<String> tutoringIds) {
+        for (String tutoringId : tutoringIds) {
+            List<Feedback> moved = new ArrayList<>();
+            for (String id : byTutoring.get(tutoringId)) {
+                Feedback feedback = feedbacks.remove(id);
+                if (feedback != null) {
+                    byTutoring.update(tutoringId, null, id);
+                    moved.add(feedback);
+                }
+            }
+            if (!moved.isEmpty()) {
+                archivedByTutoring.merge(tutoringId, moved, (a, b) -> {
+                    List<Feedback> all = new ArrayList<>(a);
+                    all.addAll(b);
+                    return all;
+                });
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        feedbacks.clear();
+        archivedByTutoring.clear();
+        byTutoring.clear();
+    }
+
+    private Feedback hydrate(Feedback stored) {
+        User evaluator = stored.getEvaluator() == null ? null
+                : userAdapter.findById(stored.getEvaluator().getId()).orElse(null);
+        Tutoring tutoring = stored.getTutoring() == null ? null
+                : tutoringAdapter.findByIdIncludingHistory(stored.getTutoring().getId()).orElse(null);
+        return new Feedback(stored.getId(), evaluator, copyDate(stored.getEvaluationDate()), tutoring,
+                stored.getScore(), stored.getComments(), stored.getKind());
+    }
+
+    private static User reference(User user) {
+        if (user == null || user.getId() == null) {
+            return null;
+        }
+        User reference = new User();
+        reference.setId(user.getId());
+        return reference;
+    }
+
+    private static Tutoring reference(Tutoring tutoring) {
+        if (tutoring == null || tutoring.getId() == null) {
+            return null;
+        }
+        Tutoring reference = new Tutoring();
+        reference.setId(tutoring.getId());
+        return reference;
+    }
+
+    private static String tutoringId(Feedback feedback) {
+        return feedback == null || feedback.getTutoring() == null ? null : feedback.getTutoring().getId();
+    }
+
+    private static String userId(User user) {
+        return user == null ? null : user.getId();
+    }
+
+    private static Date copyDate(Date date) {
+        return date == null ? null : new Date(date.getTime());
+    }
+}
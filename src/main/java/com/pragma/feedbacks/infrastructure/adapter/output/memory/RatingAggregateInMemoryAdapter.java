@@ -0,0 +1,51 @@
+package com.pragma.feedbacks.infrastructure.adapter.output.memory;
+
+import com.pragma.feedbacks.domain.model.RatingAggregate;
+import com.pragma.feedbacks.domain.model.enums.RatingScope;
+import com.pragma.feedbacks.domain.port.output.RatingAggregateRepository;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory {@link RatingAggregateRepository} for the {@code memory} profile.
+ */
+@Component
+@Primary
+@Profile("memory")
+public class RatingAggregateInMemoryAdapter implements RatingAggregateRepository {
+
+    private final Map<String, RatingAggregate> aggregates = new ConcurrentHashMap<>();
+
+    @Override
+    public synchronized void increment(RatingScope scope, String scopeId, int score) {
+        aggregates.computeIfAbsent(scope + ":" + scopeId, id -> RatingAggregate.empty(scope, scopeId)).add(score);
+    }
+
+    @Override
+    public synchronized Optional<RatingAggregate> findByScope(RatingScope scope, String scopeId) {
+        return Optional.ofNullable(aggregates.get(scope + ":" + scopeId)).map(RatingAggregateInMemoryAdapter::copy);
+    }
+
+    @Override
+    public synchronized List<RatingAggregate> findAllByScope(RatingScope scope) {
+        return aggregates.values().stream()
+                .filter(aggregate -> aggregate.getScope() == scope)
+                .map(RatingAggregateInMemoryAdapter::copy)
+                .toList();
+    }
+
+    public synchronized void clear() {
+        aggregates.clear();
+    }
+
+    private static RatingAggregate copy(RatingAggregate aggregate) {
+        return new RatingAggregate(aggregate.getScope(), aggregate.getScopeId(), aggregate.getCount(), aggregate.getSum(),
+                aggregate.getSumOfSquares(), aggregate.getHistogram().clone());
+    }
+}
@@ -1,15 +1,29 @@
 package com.pragma.feedbacks.infrastructure.adapter.output.persistence;
 
 import com.pragma.feedbacks.domain.model.Feedback;
+import com.pragma.feedbacks.domain.model.PendingFeedback;
 import com.pragma.feedbacks.domain.port.output.FeedbackRepository;
+import com.pragma.feedbacks.infrastructure.adapter.output.persistence.entity.ArchivedFeedbackEntity;
 import com.pragma.feedbacks.infrastructure.adapter.output.persistence.entity.FeedbackEntity;
 import com.pragma.feedbacks.infrastructure.adapter.output.persistence.mapper.FeedbackMapper;
 import com.pragma.feedbacks.infrastructure.adapter.output.persistence.repository.SpringDataFeedbackRepository;
+import com.pragma.shared.config.ExportProperties;
+import com.pragma.shared.persistence.ScrollingQuery;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings.infrastructure.adapter.output.persistence.TutoringPersistenceAdapter;
+import com.pragma.tutorings.infrastructure.adapter.output.persistence.entity.TutoringEntity;
+import com.pragma.tutorings.infrastructure.adapter.output.persistence.mapper.TutoringMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
@@ -17,6 +31,10 @@ public class FeedbackPersistenceAdapter implements FeedbackRepository {
 
     private final SpringDataFeedbackRepository feedbackRepository;
     private final FeedbackMapper feedbackMapper;
+    private final TutoringMapper tutoringMapper;
+    private final TutoringPersistenceAdapter tutoringAdapter;
+    private final EntityManager entityManager;
+    private final ExportProperties exportProperties;
 
     @Override
     public Feedback save(Feedback feedback) {
@@ -37,9 +55,45 @@ public class FeedbackPersistenceAdapter implements FeedbackRepository {
         return feedbackMapper.toDomainList(entities);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Feedback> findByTutoringIdIncludingHistory(String tutoringId) {
+        List<Feedback> archived = entityManager.createQuery("SELECT DISTINCT f FROM ArchivedFeedbackEntity f "
+                        + "JOIN FETCH f.tutoringId t LEFT JOIN FETCH t.skills WHERE t.id = :tutoringId", ArchivedFeedbackEntity.class)
+                .setParameter("tutoringId", tutoringId)
+                .getResultStream()
+                .map(feedbackMapper::archivedToDomain)
+                .toList();
+        return Stream.concat(findByTutoringId(tutoringId).stream(), archived.stream()).toList();
+    }
+
     @Override
     public List<Feedback> findByTutoringIdAndEvaluatorId(String tutoringId, String evaluatorId) {
         List<FeedbackEntity> entities = feedbackRepository.findByTutoringIdIdAndEvaluatorIdId(tutoringId, evaluatorId);
         return feedbackMapper.toDomainList(entities);
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean existsByTutoringIdAndEvaluatorId(String tutoringId, String evaluatorId) {
+        return feedbackRepository.existsByTutoringIdIdAndEvaluatorIdId(tutoringId, evaluatorId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<Feedback> consumer) {
+        TypedQuery<FeedbackEntity> query = entityManager.createQuery(
+                "SELECT f FROM FeedbackEntity f LEFT JOIN FETCH f.evaluatorId LEFT JOIN FETCH f.tutoringId", FeedbackEntity.class);
+        ScrollingQuery.forEachChunk(entityManager, query, exportProperties.getChunkSize(), chunk -> {
+            tutoringAdapter.fetchSkills(chunk.stream().map(FeedbackEntity::getTutoringId).toList());
+            chunk.forEach(entity -> consumer.accept(feedbackMapper.toDomain(entity)));
+        });
+    }
+
+    @Override
+    public List<PendingFeedback> findActiveTutoringsMissingFeedback(String afterTutoringId, int limit) {
+        return feedbackRepository.findMissingFeedback(TutoringStatus.Activa, afterTutoringId, PageRequest.ofSize(limit)).stream()
+                .map(row -> new PendingFeedback(tutoringMapper.toDomain((TutoringEntity) row[0]),
+                        Boolean.TRUE.equals(row[1]), Boolean.TRUE.equals(row[2])))
+                .toList();
+    }
+}
@@ -0,0 +1,44 @@
+package com.pragma.feedbacks.infrastructure.adapter.output.persistence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Classifies feedbacks created while the score was free text: {@code "N/A"} becomes a cancellation note,
+ * scores between 1 and 5 are copied to {@code rating} and added to the rating aggregates. Runs once at
+ * startup in id order, one transaction per batch; rows whose text score is neither (non numeric or out
+ * of range, e.g. a legacy {@code "10"}) are kept as evaluations without score and logged.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedbackScoreBackfill {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final FeedbackScoreBackfillBatch backfillBatch;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        String lastId = "";
+        int rated = 0;
+        int notes = 0;
+        int invalid = 0;
+        FeedbackScoreBackfillBatch.Result batch;
+        do {
+            batch = backfillBatch.migrate(lastId, BATCH_SIZE);
+            rated += batch.rated();
+            notes += batch.notes();
+            invalid += batch.invalid();
+            lastId = batch.lastId();
+        } while (batch.size() == BATCH_SIZE);
+
+        if (rated > 0 || notes > 0 || invalid > 0) {
+            log.info("Migración de puntuaciones de feedback: {} valoraciones, {} notas de cancelación, {} no válidas",
+                    rated, notes, invalid);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.pragma.feedbacks.infrastructure.adapter.output.persistence;
+
+import com.pragma.feedbacks.application.service.RatingService;
+import com.pragma.feedbacks.domain.model.RatingAggregate;
+import com.pragma.feedbacks.domain.model.enums.FeedbackKind;
+import com.pragma.feedbacks.infrastructure.adapter.output.persistence.entity.FeedbackEntity;
+import com.pragma.feedbacks.infrastructure.adapter.output.persistence.mapper.FeedbackMapper;
+import com.pragma.feedbacks.infrastructure.adapter.output.persistence.repository.SpringDataFeedbackRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Migrates one batch of legacy feedback scores. The classified rows and the aggregates they feed are
+ * written in the same transaction, so a crash never leaves a row migrated without being counted.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedbackScoreBackfillBatch {
+
+    private static final String NOT_APPLICABLE = "N/A";
+
+    private final SpringDataFeedbackRepository repository;
+    private final FeedbackMapper feedbackMapper;
+    private final RatingService ratingService;
+
+    /**
+     * Classifies up to {@code size} unmigrated feedbacks with an id greater than {@code afterId}.
+     */
+    @Transactional
+    public Result migrate(String afterId, int size) {
+        List<FeedbackEntity> batch = repository.findByKindIsNullAndIdGreaterThanOrderByIdAsc(afterId, PageRequest.ofSize(size));
+        int rated = 0;
+        int notes = 0;
+        int invalid = 0;
+        for (FeedbackEntity feedback : batch) {
+            String legacy = feedback.getLegacyScore() == null ? "" : feedback.getLegacyScore().trim();
+            if (legacy.isEmpty() || NOT_APPLICABLE.equalsIgnoreCase(legacy)) {
+                feedback.setKind(FeedbackKind.Cancelacion);
+                notes++;
+                continue;
+            }
+            feedback.setKind(FeedbackKind.Evaluacion);
+            Integer score = parse(legacy);
+            if (RatingAggregate.isValidScore(score)) {
+                feedback.setScore(score);
+                rated++;
+            } else {
+                invalid++;
+                log.warn("Feedback {} con puntuación '{}' fuera de {}-{}, se conserva sin puntuación",
+                        feedback.getId(), legacy, RatingAggregate.MIN_SCORE, RatingAggregate.MAX_SCORE);
+            }
+        }
+        repository.saveAll(batch);
+        batch.stream()
+                .filter(feedback -> feedback.getScore() != null)
+                .map(feedbackMapper::toDomain)
+                .forEach(ratingService::record);
+        String lastId = batch.isEmpty() ? afterId : batch.get(batch.size() - 1).getId();
+        return new Result(batch.size(), lastId, rated, notes, invalid);
+    }
+
+    private static Integer parse(String legacy) {
+        try {
+            return Integer.valueOf(legacy);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public record Result(int size, String lastId, int rated, int notes, int invalid) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.pragma.feedbacks.infrastructure.adapter.output.persistence;
+
+import com.pragma.feedbacks.domain.model.RatingAggregate;
+import com.pragma.feedbacks.domain.model.enums.RatingScope;
+import com.pragma.feedbacks.domain.port.output.RatingAggregateRepository;
+import com.pragma.feedbacks.infrastructure.adapter.output.persistence.entity.RatingAggregateEntity;
+import com.pragma.feedbacks.infrastructure.adapter.output.persistence.repository.SpringDataRatingAggregateRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class RatingAggregatePersistenceAdapter implements RatingAggregateRepository {
+
+    private final SpringDataRatingAggregateRepository repository;
+
+    @Override
+    @Transactional
+    public void increment(RatingScope scope, String scopeId, int score) {
+        repository.increment(id(scope, scopeId), scope, scopeId, score, (long) score * score);
+    }
+
+    @Override
+    public Optional<RatingAggregate> findByScope(RatingScope scope, String scopeId) {
+        return repository.findById(id(scope, scopeId)).map(RatingAggregatePersistenceAdapter::toModel);
+    }
+
+    @Override
+    public List<RatingAggregate> findAllByScope(RatingScope scope) {
+        return repository.findByScope(scope).stream().map(RatingAggregatePersistenceAdapter::toModel).toList();
+    }
+
+    private static String id(RatingScope scope, String scopeId) {
+        return scope + ":" + scopeId;
+    }
+
+    private static RatingAggregate toModel(RatingAggregateEntity entity) {
+        return new RatingAggregate(entity.getScope(), entity.getScopeId(), entity.getRatingCount(),
+                entity.getRatingSum(), entity.getRatingSumSquares(),
+                new long[]{entity.getBucket1(), entity.getBucket2(), entity.getBucket3(), entity.getBucket4(), entity.getBucket5()});
+    }
+}
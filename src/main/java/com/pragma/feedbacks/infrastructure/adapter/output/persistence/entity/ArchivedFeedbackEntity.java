@@ -0,0 +1,48 @@
+package com.pragma.feedbacks.infrastructure.adapter.output.persistence.entity;
+
+import com.pragma.feedbacks.domain.model.enums.FeedbackKind;
+import com.pragma.tutorings.infrastructure.adapter.output.persistence.entity.ArchivedTutoringEntity;
+import com.pragma.usuarios.infrastructure.adapter.output.persistence.entity.UsersEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * Feedback of an archived tutoring. Same columns as {@link FeedbackEntity}.
+ */
+@Entity
+@Table(name = "feedbacks_archive", indexes = {
+        @Index(name = "idx_feedbacks_archive_tutoring", columnList = "tutoring_id_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedFeedbackEntity {
+    @Id
+    private String id;
+
+    @ManyToOne(fetch = FetchType.EAGER)
+    private UsersEntity evaluatorId;
+
+    @Column(name = "evaluation_date")
+    private Date evaluationDate;
+
+    @ManyToOne(fetch = FetchType.EAGER)
+    private ArchivedTutoringEntity tutoringId;
+
+    @Column(name = "rating")
+    private Integer score;
+
+    @Column(name = "score")
+    private String legacyScore;
+
+    @Column(name = "comments", nullable = false)
+    private String comments;
+
+    @Column(name = "kind")
+    @Enumerated(EnumType.STRING)
+    private FeedbackKind kind;
+}
@@ -1,5 +1,6 @@
 package com.pragma.feedbacks.infrastructure.adapter.output.persistence.entity;
 
+import com.pragma.feedbacks.domain.model.enums.FeedbackKind;
 import com.pragma.tutorings.infrastructure.adapter.output.persistence.entity.TutoringEntity;
 import com.pragma.usuarios.infrastructure.adapter.output.persistence.entity.UsersEntity;
 import jakarta.persistence.*;
@@ -10,7 +11,9 @@ import lombok.NoArgsConstructor;
 import java.util.Date;
 
 @Entity
-@Table(name = "feedbacks")
+@Table(name = "feedbacks", indexes = {
+        @Index(name = "idx_feedbacks_tutoring_evaluator", columnList = "tutoring_id_id, evaluator_id_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -28,9 +31,16 @@ public class FeedbackEntity {
     @ManyToOne(fetch = FetchType.EAGER)
     private TutoringEntity tutoringId;
 
+    @Column(name = "rating")
+    private Integer score; // "Puntuación de 1 a 5; nula en las notas de cancelación"
+
     @Column(name = "score")
-    private String score;
+    private String legacyScore; // "Puntuación en texto anterior a rating; solo se lee para migrar"
 
     @Column(name = "comments", nullable = false)
     private String comments;
+
+    @Column(name = "kind")
+    @Enumerated(EnumType.STRING)
+    private FeedbackKind kind; // "Evaluacion o Cancelacion"
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.pragma.feedbacks.infrastructure.adapter.output.persistence.entity;
+
+import com.pragma.feedbacks.domain.model.enums.RatingScope;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "rating_aggregates")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingAggregateEntity {
+    @Id
+    private String id; // "<scope>:<scopeId>"
+
+    @Column(name = "scope", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private RatingScope scope; // "Tutor o capítulo"
+
+    @Column(name = "scope_id", nullable = false)
+    private String scopeId; // "ID del tutor o del capítulo"
+
+    @Column(name = "rating_count", nullable = false)
+    private long ratingCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @Column(name = "rating_sum_squares", nullable = false)
+    private long ratingSumSquares;
+
+    @Column(name = "bucket_1", nullable = false)
+    private long bucket1;
+
+    @Column(name = "bucket_2", nullable = false)
+    private long bucket2;
+
+    @Column(name = "bucket_3", nullable = false)
+    private long bucket3;
+
+    @Column(name = "bucket_4", nullable = false)
+    private long bucket4;
+
+    @Column(name = "bucket_5", nullable = false)
+    private long bucket5;
+}
@@ -1,6 +1,7 @@
 package com.pragma.feedbacks.infrastructure.adapter.output.persistence.mapper;
 
 import com.pragma.feedbacks.domain.model.Feedback;
+import com.pragma.feedbacks.infrastructure.adapter.output.persistence.entity.ArchivedFeedbackEntity;
 import com.pragma.feedbacks.infrastructure.adapter.output.persistence.entity.FeedbackEntity;
 import com.pragma.tutorings.infrastructure.adapter.output.persistence.mapper.TutoringMapper;
 import com.pragma.usuarios.infrastructure.adapter.output.persistence.mapper.UserMapper;
@@ -14,6 +15,7 @@ public interface FeedbackMapper {
     
     @Mapping(source = "evaluator", target = "evaluatorId")
     @Mapping(source = "tutoring", target = "tutoringId")
+    @Mapping(target = "legacyScore", ignore = true)
     FeedbackEntity toEntity(Feedback feedback);
     
     @Mapping(source = "evaluatorId", target = "evaluator")
@@ -21,4 +23,8 @@ public interface FeedbackMapper {
     Feedback toDomain(FeedbackEntity entity);
     
     List<Feedback> toDomainList(List<FeedbackEntity> entities);
+
+    @Mapping(source = "evaluatorId", target = "evaluator")
+    @Mapping(source = "tutoringId", target = "tutoring")
+    Feedback archivedToDomain(ArchivedFeedbackEntity entity);
 }
\ No newline at end of file
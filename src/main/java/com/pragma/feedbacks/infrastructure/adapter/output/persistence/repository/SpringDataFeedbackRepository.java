@@ -1,7 +1,11 @@
 package com.pragma.feedbacks.infrastructure.adapter.output.persistence.repository;
 
 import com.pragma.feedbacks.infrastructure.adapter.output.persistence.entity.FeedbackEntity;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,4 +14,21 @@ import java.util.List;
 public interface SpringDataFeedbackRepository extends JpaRepository<FeedbackEntity, String> {
     List<FeedbackEntity> findByTutoringIdIdAndEvaluatorIdId(String tutoringId, String evaluatorId);
     List<FeedbackEntity> findByTutoringIdId(String tutoringId);
+    List<FeedbackEntity> findByKindIsNullAndIdGreaterThanOrderByIdAsc(String lastId, Pageable pageable);
+
+    boolean existsByTutoringIdIdAndEvaluatorIdId(String tutoringId, String evaluatorId);
+
+    /**
+     * Anti-join: tutorings in {@code status} without feedback from their tutor or tutee, keyset-paginated by id.
+     * Each row is {@code [TutoringEntity, tutorMissing, tuteeMissing]}.
+     */
+    @Query("SELECT t,"
+            + " CASE WHEN EXISTS (SELECT 1 FROM FeedbackEntity f WHERE f.tutoringId = t AND f.evaluatorId = t.tutorId) THEN false ELSE true END,"
+            + " CASE WHEN EXISTS (SELECT 1 FROM FeedbackEntity f WHERE f.tutoringId = t AND f.evaluatorId = t.tuteeId) THEN false ELSE true END"
+            + " FROM TutoringEntity t"
+            + " WHERE t.status = :status AND t.id > :lastId"
+            + " AND (NOT EXISTS (SELECT 1 FROM FeedbackEntity f WHERE f.tutoringId = t AND f.evaluatorId = t.tutorId)"
+            + " OR NOT EXISTS (SELECT 1 FROM FeedbackEntity f WHERE f.tutoringId = t AND f.evaluatorId = t.tuteeId))"
+            + " ORDER BY t.id")
+    List<Object[]> findMissingFeedback(@Param("status") TutoringStatus status, @Param("lastId") String lastId, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.pragma.feedbacks.infrastructure.adapter.output.persistence.repository;
+
+import com.pragma.feedbacks.domain.model.enums.RatingScope;
+import com.pragma.feedbacks.infrastructure.adapter.output.persistence.entity.RatingAggregateEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SpringDataRatingAggregateRepository extends JpaRepository<RatingAggregateEntity, String> {
+
+    // Upsert atómico: la primera valoración inserta la fila y las siguientes la incrementan en la misma
+    // sentencia, sin lectura previa ni carrera entre dos primeras valoraciones concurrentes. No limpia el
+    // contexto de persistencia porque se ejecuta dentro de la transacción que guarda el feedback
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO RatingAggregateEntity (id, scope, scopeId, ratingCount, ratingSum, ratingSumSquares, " +
+           "bucket1, bucket2, bucket3, bucket4, bucket5) " +
+           "VALUES (:id, :scope, :scopeId, 1, :score, :square, " +
+           "CASE WHEN :score = 1 THEN 1 ELSE 0 END, " +
+           "CASE WHEN :score = 2 THEN 1 ELSE 0 END, " +
+           "CASE WHEN :score = 3 THEN 1 ELSE 0 END, " +
+           "CASE WHEN :score = 4 THEN 1 ELSE 0 END, " +
+           "CASE WHEN :score = 5 THEN 1 ELSE 0 END) " +
+           "ON CONFLICT(id) DO UPDATE SET " +
+           "ratingCount = ratingCount + 1, " +
+           "ratingSum = ratingSum + :score, " +
+           "ratingSumSquares = ratingSumSquares + :square, " +
+           "bucket1 = bucket1 + CASE WHEN :score = 1 THEN 1 ELSE 0 END, " +
+           "bucket2 = bucket2 + CASE WHEN :score = 2 THEN 1 ELSE 0 END, " +
+           "bucket3 = bucket3 + CASE WHEN :score = 3 THEN 1 ELSE 0 END, " +
+           "bucket4 = bucket4 + CASE WHEN :score = 4 THEN 1 ELSE 0 END, " +
+           "bucket5 = bucket5 + CASE WHEN :score = 5 THEN 1 ELSE 0 END")
+    int increment(@Param("id") String id, @Param("scope") RatingScope scope, @Param("scopeId") String scopeId,
+                  @Param("score") long score, @Param("square") long square);
+
+    List<RatingAggregateEntity> findByScope(RatingScope scope);
+}
@@ -0,0 +1,39 @@
+package com.pragma.notifications.application.service;
+
+import com.pragma.notifications.domain.event.NotificationRequested;
+import com.pragma.notifications.domain.port.output.NotificationSender;
+import com.pragma.shared.events.DomainEventHandler;
+import com.pragma.usuarios.domain.port.input.FindUserByIdUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sends a requested notification to its single recipient. Runs outside the delivery transaction; a retry
+ * repeats only this message, and only if the event could not be marked as dispatched after the send.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationRequestedSender implements DomainEventHandler<NotificationRequested> {
+
+    private final FindUserByIdUseCase findUserByIdUseCase;
+    private final NotificationSender notificationSender;
+
+    @Override
+    public Class<NotificationRequested> eventType() {
+        return NotificationRequested.class;
+    }
+
+    @Override
+    public boolean external() {
+        return true;
+    }
+
+    @Override
+    public void handle(NotificationRequested event) {
+        findUserByIdUseCase.findUserById(event.recipientId()).ifPresentOrElse(
+                recipient -> notificationSender.send(recipient, event.message()),
+                () -> log.warn("Usuario {} no encontrado, no se le envía la notificación", event.recipientId()));
+    }
+}
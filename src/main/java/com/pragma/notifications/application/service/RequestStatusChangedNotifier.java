@@ -0,0 +1,33 @@
+package com.pragma.notifications.application.service;
+
+import com.pragma.notifications.domain.event.NotificationRequested;
+import com.pragma.shared.events.DomainEventHandler;
+import com.pragma.shared.events.DomainEventPublisher;
+import com.pragma.tutorings_requests.domain.event.RequestStatusChanged;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Asks for the tutee to be told that their tutoring request changed status.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestStatusChangedNotifier implements DomainEventHandler<RequestStatusChanged> {
+
+    private final DomainEventPublisher domainEventPublisher;
+
+    @Override
+    public Class<RequestStatusChanged> eventType() {
+        return RequestStatusChanged.class;
+    }
+
+    @Override
+    public void handle(RequestStatusChanged event) {
+        if (event.tuteeId() == null) {
+            return;
+        }
+        domainEventPublisher.publish(new NotificationRequested(event.tuteeId(),
+                "Tu solicitud de tutoría " + event.requestId() + " pasó a estado " + event.newStatus() + ".",
+                event.occurredAt()));
+    }
+}
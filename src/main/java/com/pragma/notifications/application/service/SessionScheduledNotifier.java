@@ -0,0 +1,43 @@
+package com.pragma.notifications.application.service;
+
+import com.pragma.notifications.domain.event.NotificationRequested;
+import com.pragma.shared.config.TutoringSessionProperties;
+import com.pragma.shared.events.DomainEventHandler;
+import com.pragma.shared.events.DomainEventPublisher;
+import com.pragma.tutoring_sessions.domain.event.SessionScheduled;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Asks for the tutor and the tutee to be told that a session of their tutoring was scheduled.
+ */
+@Component
+@RequiredArgsConstructor
+public class SessionScheduledNotifier implements DomainEventHandler<SessionScheduled> {
+
+    private static final DateTimeFormatter FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final DomainEventPublisher domainEventPublisher;
+    private final TutoringSessionProperties sessionProperties;
+
+    @Override
+    public Class<SessionScheduled> eventType() {
+        return SessionScheduled.class;
+    }
+
+    @Override
+    public void handle(SessionScheduled event) {
+        String zone = sessionProperties.getDefaultZone();
+        String message = "Nueva sesión de la tutoría " + event.tutoringId() + " programada para el "
+                + FORMAT.format(event.datetime().atZone(ZoneId.of(zone))) + " (" + zone + "), "
+                + event.durationMinutes() + " min.";
+        domainEventPublisher.publishAll(Stream.of(event.tutorId(), event.tuteeId()).filter(Objects::nonNull)
+                .map(userId -> new NotificationRequested(userId, message, event.occurredAt()))
+                .toList());
+    }
+}
@@ -0,0 +1,33 @@
+package com.pragma.notifications.application.service;
+
+import com.pragma.notifications.domain.event.NotificationRequested;
+import com.pragma.shared.events.DomainEventHandler;
+import com.pragma.shared.events.DomainEventPublisher;
+import com.pragma.tutorings.domain.event.TutoringCreated;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Asks for the tutor and the tutee to be told that their tutoring was created.
+ */
+@Component
+@RequiredArgsConstructor
+public class TutoringCreatedNotifier implements DomainEventHandler<TutoringCreated> {
+
+    private final DomainEventPublisher domainEventPublisher;
+
+    @Override
+    public Class<TutoringCreated> eventType() {
+        return TutoringCreated.class;
+    }
+
+    @Override
+    public void handle(TutoringCreated event) {
+        String message = "Se creó la tutoría " + event.tutoringId() + ". Ya puedes programar la primera sesión.";
+        domainEventPublisher.publishAll(List.of(
+                new NotificationRequested(event.tutorId(), message, event.occurredAt()),
+                new NotificationRequested(event.tuteeId(), message, event.occurredAt())));
+    }
+}
@@ -0,0 +1,36 @@
+package com.pragma.notifications.application.service;
+
+import com.pragma.notifications.domain.event.NotificationRequested;
+import com.pragma.shared.events.DomainEventHandler;
+import com.pragma.shared.events.DomainEventPublisher;
+import com.pragma.tutorings.domain.event.TutoringStatusChanged;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Asks for the tutor and the tutee to be told that their tutoring changed status, except whoever changed it.
+ */
+@Component
+@RequiredArgsConstructor
+public class TutoringStatusChangedNotifier implements DomainEventHandler<TutoringStatusChanged> {
+
+    private final DomainEventPublisher domainEventPublisher;
+
+    @Override
+    public Class<TutoringStatusChanged> eventType() {
+        return TutoringStatusChanged.class;
+    }
+
+    @Override
+    public void handle(TutoringStatusChanged event) {
+        String message = "La tutoría " + event.tutoringId() + " pasó a estado " + event.newStatus() + ".";
+        domainEventPublisher.publishAll(Stream.of(event.tutorId(), event.tuteeId())
+                .filter(Objects::nonNull)
+                .filter(userId -> !userId.equals(event.actorId()))
+                .map(userId -> new NotificationRequested(userId, message, event.occurredAt()))
+                .toList());
+    }
+}
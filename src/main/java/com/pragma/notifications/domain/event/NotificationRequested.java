@@ -0,0 +1,12 @@
+package com.pragma.notifications.domain.event;
+
+import com.pragma.shared.events.DomainEvent;
+
+import java.time.Instant;
+
+/**
+ * A message must be sent to one user. One event per recipient, so a retried delivery only repeats the
+ * message to the recipient whose send did not go through.
+ */
+public record NotificationRequested(String recipientId, String message, Instant occurredAt) implements DomainEvent {
+}
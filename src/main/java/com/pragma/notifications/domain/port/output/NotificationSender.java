@@ -0,0 +1,10 @@
+package com.pragma.notifications.domain.port.output;
+
+import com.pragma.usuarios.domain.model.User;
+
+/**
+ * Delivers a direct notification to a user. Implementations decide the channel (Slack, email, ...).
+ */
+public interface NotificationSender {
+    void send(User recipient, String message);
+}
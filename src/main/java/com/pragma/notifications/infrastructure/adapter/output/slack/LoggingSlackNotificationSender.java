@@ -0,0 +1,24 @@
+package com.pragma.notifications.infrastructure.adapter.output.slack;
+
+import com.pragma.notifications.domain.port.output.NotificationSender;
+import com.pragma.usuarios.domain.model.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local stand-in for the Slack notifier: writes the message that would be sent to the user's
+ * {@code slackId} to the log. A real Slack adapter can replace it by declaring a {@code @Primary} bean.
+ */
+@Slf4j
+@Component
+public class LoggingSlackNotificationSender implements NotificationSender {
+
+    @Override
+    public void send(User recipient, String message) {
+        if (recipient == null || recipient.getSlackId() == null || recipient.getSlackId().isBlank()) {
+            log.warn("Notificación no enviada: el usuario {} no tiene slackId", recipient == null ? null : recipient.getId());
+            return;
+        }
+        log.info("Slack [{}] -> {}", recipient.getSlackId(), message);
+    }
+}
@@ -0,0 +1,76 @@
+package com.pragma.recommendations.application.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Chooses at most one tutor per request without exceeding any tutor's free capacity. Among the plans
+ * that assign the most requests it returns the one with the highest total score, solved as a
+ * min-cost max-flow on source → request (1) → candidate tutor (1) → sink (free capacity), where an
+ * edge to a tutor costs how far its score is below the best score of the whole problem.
+ */
+final class AssignmentSolver {
+
+    static final long COST_SCALE = 1_000_000;
+
+    private AssignmentSolver() {
+    }
+
+    record Candidate(String tutorId, double score) {
+    }
+
+    record Choice(int request, String tutorId, double score) {
+    }
+
+    /**
+     * @param candidatesByRequest candidate tutors of each request, by request position
+     * @param freeCapacity        tutorings each tutor can still take
+     * @return the chosen tutor of every assigned request, in request order
+     */
+    static List<Choice> solve(List<List<Candidate>> candidatesByRequest, Map<String, Integer> freeCapacity) {
+        Map<String, Integer> tutorNodes = new LinkedHashMap<>();
+        double best = 0;
+        for (List<Candidate> candidates : candidatesByRequest) {
+            for (Candidate candidate : candidates) {
+                if (freeCapacity.getOrDefault(candidate.tutorId(), 0) > 0) {
+                    tutorNodes.putIfAbsent(candidate.tutorId(), candidatesByRequest.size() + 1 + tutorNodes.size());
+                    best = Math.max(best, candidate.score());
+                }
+            }
+        }
+        int source = 0;
+        int sink = candidatesByRequest.size() + tutorNodes.size() + 1;
+        MinCostFlow network = new MinCostFlow(sink + 1);
+
+        Map<Integer, Candidate> candidateByEdge = new HashMap<>();
+        Map<Integer, Integer> requestByEdge = new HashMap<>();
+        for (int request = 0; request < candidatesByRequest.size(); request++) {
+            network.addEdge(source, request + 1, 1, 0);
+            for (Candidate candidate : candidatesByRequest.get(request)) {
+                Integer tutorNode = tutorNodes.get(candidate.tutorId());
+                if (tutorNode == null) {
+                    continue;
+                }
+                long cost = Math.round((best - candidate.score()) * COST_SCALE);
+                int edge = network.addEdge(request + 1, tutorNode, 1, Math.max(cost, 0));
+                candidateByEdge.put(edge, candidate);
+                requestByEdge.put(edge, request);
+            }
+        }
+        tutorNodes.forEach((tutorId, node) -> network.addEdge(node, sink, freeCapacity.get(tutorId), 0));
+
+        network.solve(source, sink);
+
+        List<Choice> choices = new ArrayList<>();
+        candidateByEdge.forEach((edge, candidate) -> {
+            if (network.flow(edge) > 0) {
+                choices.add(new Choice(requestByEdge.get(edge), candidate.tutorId(), candidate.score()));
+            }
+        });
+        choices.sort((a, b) -> Integer.compare(a.request(), b.request()));
+        return choices;
+    }
+}
@@ -0,0 +1,110 @@
+package com.pragma.recommendations.application.service;
+
+import com.pragma.recommendations.domain.model.AssignmentPlan;
+import com.pragma.recommendations.domain.model.PlannedAssignment;
+import com.pragma.recommendations.domain.model.TutorRecommendation;
+import com.pragma.recommendations.domain.port.input.PlanAssignmentsUseCase;
+import com.pragma.shared.config.RecommendationProperties;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.port.input.CreateTutoringUseCase;
+import com.pragma.tutorings_requests.domain.model.TutoringRequest;
+import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import com.pragma.tutorings_requests.domain.port.output.TutoringRequestRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Assigns every open request ({@code Conversando}) to a tutor at once. Each request considers its
+ * best-ranked tutors from the recommendation index and {@link AssignmentSolver} picks the plan that
+ * assigns the most requests with the highest total score within each tutor's free capacity.
+ * Computing the plan only reads, in a read-only transaction. Applying it recomputes the plan and creates
+ * the tutorings through {@link CreateTutoringUseCase} in one transaction: if any of them fails, none is created.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AutoAssignmentService implements PlanAssignmentsUseCase {
+
+    private static final Comparator<TutoringRequest> OLDEST_FIRST = Comparator
+            .comparing(TutoringRequest::getRequestDate, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(TutoringRequest::getId);
+
+    private final TutoringRequestRepository tutoringRequestRepository;
+    private final RecommendationService recommendationService;
+    private final CreateTutoringUseCase createTutoringUseCase;
+    private final RecommendationProperties recommendationProperties;
+
+    @Override
+    @Transactional(readOnly = true)
+    public AssignmentPlan planAssignments() {
+        return plan(openRequests(), true);
+    }
+
+    @Override
+    @Transactional
+    public AssignmentPlan applyAssignments() {
+        List<TutoringRequest> requests = openRequests();
+        AssignmentPlan plan = plan(requests, false);
+        Map<String, TutoringRequest> byId = new HashMap<>();
+        requests.forEach(request -> byId.put(request.getId(), request));
+        for (PlannedAssignment assignment : plan.getAssignments()) {
+            Tutoring tutoring = createTutoringUseCase.createTutoring(assignment.getRequestId(), assignment.getTutorId(),
+                    byId.get(assignment.getRequestId()).getNeedsDescription());
+            assignment.setTutoringId(tutoring.getId());
+        }
+        log.info("Plan de asignación aplicado: {} tutorías creadas, {} solicitudes sin asignar",
+                plan.getAssignments().size(), plan.getUnassignedRequestIds().size());
+        return plan;
+    }
+
+    private List<TutoringRequest> openRequests() {
+        List<TutoringRequest> requests = new ArrayList<>(
+                tutoringRequestRepository.findWithFilters(null, null, RequestStatus.Conversando, null));
+        requests.sort(OLDEST_FIRST);
+        return requests;
+    }
+
+    private AssignmentPlan plan(List<TutoringRequest> requests, boolean dryRun) {
+        log.info("Calculando plan de asignación para {} solicitudes en estado Conversando", requests.size());
+
+        int candidates = Math.max(1, recommendationProperties.getAssignmentCandidates());
+        List<List<AssignmentSolver.Candidate>> candidatesByRequest = new ArrayList<>(requests.size());
+        Map<String, Integer> freeCapacity = new HashMap<>();
+        for (TutoringRequest request : requests) {
+            List<AssignmentSolver.Candidate> ranked = new ArrayList<>();
+            for (TutorRecommendation recommendation : recommendationService.rankCandidates(request, candidates)) {
+                ranked.add(new AssignmentSolver.Candidate(recommendation.getTutorId(), recommendation.getScore()));
+                freeCapacity.put(recommendation.getTutorId(), recommendation.getRemainingCapacity());
+            }
+            candidatesByRequest.add(ranked);
+        }
+
+        List<PlannedAssignment> assignments = new ArrayList<>();
+        Set<Integer> assigned = new HashSet<>();
+        double totalScore = 0;
+        for (AssignmentSolver.Choice choice : AssignmentSolver.solve(candidatesByRequest, freeCapacity)) {
+            TutoringRequest request = requests.get(choice.request());
+            String tuteeId = request.getTutee() == null ? null : request.getTutee().getId();
+            assignments.add(new PlannedAssignment(request.getId(), tuteeId, choice.tutorId(), choice.score(), null));
+            assigned.add(choice.request());
+            totalScore += choice.score();
+        }
+        List<String> unassigned = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            if (!assigned.contains(i)) {
+                unassigned.add(requests.get(i).getId());
+            }
+        }
+        return new AssignmentPlan(dryRun, assignments, unassigned, totalScore);
+    }
+}
@@ -0,0 +1,121 @@
+package com.pragma.recommendations.application.service;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+
+/**
+ * Min-cost max-flow with successive shortest paths. Costs must be non-negative, so every
+ * augmenting path is found with Dijkstra over reduced costs (Johnson potentials) and the
+ * total work is O(F · E log V) for a flow of F units.
+ */
+class MinCostFlow {
+
+    private static final long INFINITY = Long.MAX_VALUE / 4;
+
+    private final int nodes;
+    private int[] head;
+    private int[] next = new int[16];
+    private int[] to = new int[16];
+    private int[] capacity = new int[16];
+    private long[] cost = new long[16];
+    private int edges;
+
+    MinCostFlow(int nodes) {
+        this.nodes = nodes;
+        this.head = new int[nodes];
+        Arrays.fill(head, -1);
+    }
+
+    record Result(int flow, long cost) {
+    }
+
+    /**
+     * Adds an edge and its residual twin. Returns the edge id, usable with {@link #flow(int)}.
+     */
+    int addEdge(int from, int target, int edgeCapacity, long edgeCost) {
+        if (edgeCost < 0) {
+            throw new IllegalArgumentException("Edge costs must be non-negative");
+        }
+        int id = edges;
+        append(from, target, edgeCapacity, edgeCost);
+        append(target, from, 0, -edgeCost);
+        return id;
+    }
+
+    /**
+     * Flow currently sent through the edge returned by {@link #addEdge}.
+     */
+    int flow(int edge) {
+        return capacity[edge ^ 1];
+    }
+
+    Result solve(int source, int sink) {
+        long[] potential = new long[nodes];
+        long[] distance = new long[nodes];
+        int[] viaEdge = new int[nodes];
+        int flow = 0;
+        long totalCost = 0;
+
+        while (true) {
+            Arrays.fill(distance, INFINITY);
+            Arrays.fill(viaEdge, -1);
+            distance[source] = 0;
+            PriorityQueue<long[]> queue = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+            queue.add(new long[]{0, source});
+            while (!queue.isEmpty()) {
+                long[] item = queue.poll();
+                int node = (int) item[1];
+                if (item[0] > distance[node]) {
+                    continue;
+                }
+                for (int edge = head[node]; edge != -1; edge = next[edge]) {
+                    if (capacity[edge] == 0) {
+                        continue;
+                    }
+                    int target = to[edge];
+                    long candidate = distance[node] + cost[edge] + potential[node] - potential[target];
+                    if (candidate < distance[target]) {
+                        distance[target] = candidate;
+                        viaEdge[target] = edge;
+                        queue.add(new long[]{candidate, target});
+                    }
+                }
+            }
+            if (distance[sink] == INFINITY) {
+                return new Result(flow, totalCost);
+            }
+            for (int node = 0; node < nodes; node++) {
+                if (distance[node] < INFINITY) {
+                    potential[node] += distance[node];
+                }
+            }
+
+            int pushed = Integer.MAX_VALUE;
+            for (int node = sink; node != source; node = to[viaEdge[node] ^ 1]) {
+                pushed = Math.min(pushed, capacity[viaEdge[node]]);
+            }
+            for (int node = sink; node != source; node = to[viaEdge[node] ^ 1]) {
+                capacity[viaEdge[node]] -= pushed;
+                capacity[viaEdge[node] ^ 1] += pushed;
+                totalCost += (long) pushed * cost[viaEdge[node]];
+            }
+            flow += pushed;
+        }
+    }
+
+    private void append(int from, int target, int edgeCapacity, long edgeCost) {
+        if (edges == to.length) {
+            int size = edges * 2;
+            next = Arrays.copyOf(next, size);
+            to = Arrays.copyOf(to, size);
+            capacity = Arrays.copyOf(capacity, size);
+            cost = Arrays.copyOf(cost, size);
+        }
+        to[edges] = target;
+        capacity[edges] = edgeCapacity;
+        cost[edges] = edgeCost;
+        next[edges] = head[from];
+        head[from] = edges;
+        edges++;
+    }
+}
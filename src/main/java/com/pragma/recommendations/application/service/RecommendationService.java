@@ -0,0 +1,116 @@
+package com.pragma.recommendations.application.service;
+
+import com.pragma.feedbacks.domain.model.RatingAggregate;
+import com.pragma.feedbacks.domain.model.enums.RatingScope;
+import com.pragma.feedbacks.domain.port.output.RatingAggregateRepository;
+import com.pragma.recommendations.domain.model.TutorRecommendation;
+import com.pragma.recommendations.domain.model.TutoringSkills;
+import com.pragma.recommendations.domain.port.input.RecommendTutorsUseCase;
+import com.pragma.recommendations.domain.port.input.UpdateTutorProfileUseCase;
+import com.pragma.recommendations.domain.port.output.TutorProfileSourceRepository;
+import com.pragma.shared.config.RecommendationProperties;
+import com.pragma.shared.persistence.AfterCommit;
+import com.pragma.skills.domain.model.Skill;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings_requests.domain.model.TutoringRequest;
+import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import com.pragma.tutorings_requests.domain.port.output.TutoringRequestRepository;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.port.output.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RecommendationService implements RecommendTutorsUseCase, UpdateTutorProfileUseCase {
+
+    static final int MAX_LIMIT = 50;
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final TutoringRequestRepository tutoringRequestRepository;
+    private final UserRepository userRepository;
+    private final RatingAggregateRepository ratingAggregateRepository;
+    private final TutorProfileSourceRepository tutorProfileSourceRepository;
+    private final RecommendationProperties recommendationProperties;
+    private final TutorIndex index;
+
+    @Override
+    public List<TutorRecommendation> recommendTutors(String tutoringRequestId, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("El límite debe estar entre 1 y " + MAX_LIMIT);
+        }
+        TutoringRequest request = tutoringRequestRepository.findById(tutoringRequestId)
+                .orElseThrow(() -> new IllegalArgumentException("La solicitud de tutoría no existe"));
+        if (request.getRequestStatus() != RequestStatus.Aprobada && request.getRequestStatus() != RequestStatus.Conversando) {
+            log.error("La solicitud de tutoría con ID: {} está en estado {}", tutoringRequestId, request.getRequestStatus());
+            throw new IllegalStateException("Solo se pueden recomendar tutores para solicitudes en estado Aprobada o Conversando");
+        }
+        return rankCandidates(request, limit);
+    }
+
+    /**
+     * Best {@code limit} tutors with free capacity for {@code request}, without checking its status.
+     */
+    public List<TutorRecommendation> rankCandidates(TutoringRequest request, int limit) {
+        List<String> skillIds = request.getSkills() == null ? List.of() : request.getSkills().stream()
+                .filter(Objects::nonNull)
+                .map(Skill::getId)
+                .toList();
+        return index.rank(request.getTutee(), skillIds, limit, recommendationProperties);
+    }
+
+    @Override
+    public void userSaved(User user) {
+        if (user != null) {
+            AfterCommit.run(() -> index.putUser(user));
+        }
+    }
+
+    @Override
+    public void tutoringSaved(Tutoring tutoring) {
+        if (tutoring == null || tutoring.getTutor() == null) {
+            return;
+        }
+        List<String> skillIds = tutoring.getSkills() == null ? List.of() : tutoring.getSkills().stream()
+                .filter(Objects::nonNull)
+                .map(Skill::getId)
+                .toList();
+        boolean active = tutoring.getStatus() == TutoringStatus.Activa;
+        AfterCommit.run(() -> index.putTutoring(tutoring.getId(), tutoring.getTutor().getId(), active, skillIds));
+    }
+
+    @Override
+    public void ratingRecorded(String tutorId, int score) {
+        AfterCommit.run(() -> index.addRating(tutorId, score));
+    }
+
+    /**
+     * Rebuilds every tutor profile into a fresh index (users, then tutorings in id order by batches, then the
+     * tutor rating aggregates) and swaps it in once loaded.
+     */
+    public int rebuild() {
+        index.rebuild(fresh -> {
+            userRepository.findAll().forEach(fresh::putUser);
+            String lastId = "";
+            List<TutoringSkills> batch;
+            do {
+                batch = tutorProfileSourceRepository.findTutoringSkills(lastId, REBUILD_BATCH_SIZE);
+                for (TutoringSkills tutoring : batch) {
+                    fresh.putTutoring(tutoring.tutoringId(), tutoring.tutorId(),
+                            tutoring.status() == TutoringStatus.Activa, tutoring.skillIds());
+                    lastId = tutoring.tutoringId();
+                }
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+            for (RatingAggregate aggregate : ratingAggregateRepository.findAllByScope(RatingScope.TUTOR)) {
+                fresh.setRating(aggregate.getScopeId(), aggregate.getCount(), aggregate.getSum());
+            }
+        });
+        return index.size();
+    }
+}
@@ -0,0 +1,96 @@
+package com.pragma.recommendations.application.service;
+
+import com.pragma.recommendations.domain.model.TutorSkillProfile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Inverted index from skill to the tutors who have taught it. Each skill keeps its profiles sorted by
+ * completed tutorings, then tutorings, then most recent teaching, so a lookup reads only the first
+ * {@code limit} entries instead of joining {@code tutoring} with {@code tutoring_skills}.
+ * A single instance is shared by the application and loaded at startup by {@link TutorSkillProfileLoader}.
+ */
+@Component
+public class SkillTutorIndex {
+
+    private static final Comparator<TutorSkillProfile> MOST_TAUGHT_FIRST = Comparator
+            .comparingLong(TutorSkillProfile::getCompletedCount).reversed()
+            .thenComparing(Comparator.comparingLong(TutorSkillProfile::getTutoringCount).reversed())
+            .thenComparing(TutorSkillProfile::getLastTaughtAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(TutorSkillProfile::getTutorId);
+
+    private final Map<String, NavigableSet<TutorSkillProfile>> bySkill = new HashMap<>();
+    private final Map<String, TutorSkillProfile> byKey = new HashMap<>();
+
+    /**
+     * Adds or replaces a profile.
+     */
+    public synchronized void put(TutorSkillProfile profile) {
+        if (profile.getTutorId() == null || profile.getSkillId() == null) {
+            return;
+        }
+        TutorSkillProfile previous = byKey.remove(profile.key());
+        if (previous != null) {
+            bySkill.get(previous.getSkillId()).remove(previous);
+        }
+        TutorSkillProfile copy = copy(profile);
+        byKey.put(copy.key(), copy);
+        bySkill.computeIfAbsent(copy.getSkillId(), id -> new TreeSet<>(MOST_TAUGHT_FIRST)).add(copy);
+    }
+
+    /**
+     * Applies the same increment the repository applied to the stored profile.
+     */
+    public synchronized void increment(String tutorId, String skillId, int tutorings, int completed, Date taughtAt) {
+        TutorSkillProfile current = byKey.get(TutorSkillProfile.key(tutorId, skillId));
+        TutorSkillProfile updated = current == null
+                ? new TutorSkillProfile(tutorId, skillId, 0, 0, null)
+                : copy(current);
+        updated.setTutoringCount(updated.getTutoringCount() + tutorings);
+        updated.setCompletedCount(updated.getCompletedCount() + completed);
+        if (taughtAt != null && (updated.getLastTaughtAt() == null || taughtAt.after(updated.getLastTaughtAt()))) {
+            updated.setLastTaughtAt(taughtAt);
+        }
+        put(updated);
+    }
+
+    /**
+     * Tutors who have taught {@code skillId}, most experienced first.
+     */
+    public synchronized List<TutorSkillProfile> findTutors(String skillId, int limit) {
+        NavigableSet<TutorSkillProfile> profiles = bySkill.get(skillId);
+        List<TutorSkillProfile> result = new ArrayList<>();
+        if (profiles == null) {
+            return result;
+        }
+        for (TutorSkillProfile profile : profiles) {
+            if (result.size() == limit) {
+                break;
+            }
+            result.add(copy(profile));
+        }
+        return result;
+    }
+
+    public synchronized void clear() {
+        bySkill.clear();
+        byKey.clear();
+    }
+
+    public synchronized int size() {
+        return byKey.size();
+    }
+
+    private static TutorSkillProfile copy(TutorSkillProfile profile) {
+        return new TutorSkillProfile(profile.getTutorId(), profile.getSkillId(), profile.getTutoringCount(),
+                profile.getCompletedCount(), profile.getLastTaughtAt());
+    }
+}
@@ -0,0 +1,297 @@
+package com.pragma.recommendations.application.service;
+
+import com.pragma.feedbacks.domain.model.RatingAggregate;
+import com.pragma.recommendations.domain.model.TutorRecommendation;
+import com.pragma.shared.config.RecommendationProperties;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory profile of every tutor: the skills of the tutorings they have given as a {@link BitSet}
+ * (one bit per skill), their active tutorings, rating totals and the user attributes used for ranking.
+ * Profiles are updated one write at a time, so ranking a request never reads the {@code tutoring} table:
+ * it costs one bitset intersection per tutor and a bounded heap of {@code limit} entries.
+ * Reads run concurrently; writes are exclusive. A rebuild fills a fresh index off to the side and swaps it in,
+ * so requests keep ranking against the previous profiles instead of an empty or half-loaded index.
+ */
+@Component
+public class TutorIndex {
+
+    static final double RATING_PRIOR_MEAN = 3.0;
+    static final int RATING_PRIOR_WEIGHT = 3;
+
+    private static final Comparator<TutorRecommendation> WORST_FIRST = Comparator
+            .comparingDouble(TutorRecommendation::getScore)
+            .thenComparing(TutorRecommendation::getTutorId, Comparator.reverseOrder());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile Profiles current = new Profiles();
+    // Escrituras recibidas durante una reconstrucción, para aplicarlas también al índice nuevo
+    private List<Consumer<Profiles>> pendingWrites;
+
+    /**
+     * Adds or refreshes the attributes of a user. Only tutors and administrators are ranked, but the
+     * profile is kept for other roles so their history survives a role change.
+     */
+    public void putUser(User user) {
+        if (user == null || user.getId() == null) {
+            return;
+        }
+        String chapterId = user.getChapter() == null ? null : user.getChapter().getId();
+        boolean candidate = user.getRol() == RolUsuario.Tutor || user.getRol() == RolUsuario.Administrador;
+        write(profiles -> {
+            TutorProfile profile = profiles.profile(user.getId());
+            profile.firstName = user.getFirstName();
+            profile.lastName = user.getLastName();
+            profile.email = user.getEmail();
+            profile.chapterId = chapterId;
+            profile.seniority = user.getSeniority();
+            profile.activeTutoringLimit = user.getActiveTutoringLimit();
+            profile.candidate = candidate;
+        });
+    }
+
+    /**
+     * Records a tutoring of {@code tutorId}, replacing what was recorded for it before: its skills become
+     * part of the tutor's skill set (skills removed from the tutoring, or a tutoring moved to another tutor,
+     * leave the previous tutor's set unless another of their tutorings has them) and it counts towards
+     * the tutor's capacity while {@code active}.
+     */
+    public void putTutoring(String tutoringId, String tutorId, boolean active, Collection<String> skillIds) {
+        if (tutoringId == null || tutorId == null) {
+            return;
+        }
+        List<String> skills = skillIds == null ? List.of() : skillIds.stream().filter(Objects::nonNull).distinct().toList();
+        write(profiles -> profiles.putTutoring(tutoringId, tutorId, active, skills));
+    }
+
+    public void addRating(String tutorId, int score) {
+        if (tutorId == null) {
+            return;
+        }
+        write(profiles -> {
+            TutorProfile profile = profiles.profile(tutorId);
+            profile.ratingCount++;
+            profile.ratingSum += score;
+        });
+    }
+
+    public void setRating(String tutorId, long count, long sum) {
+        if (tutorId == null) {
+            return;
+        }
+        write(profiles -> {
+            TutorProfile profile = profiles.profile(tutorId);
+            profile.ratingCount = count;
+            profile.ratingSum = sum;
+        });
+    }
+
+    /**
+     * Loads a fresh index with {@code loader} and swaps it in. Writes received while loading are applied
+     * to the fresh index before the swap, so none is lost.
+     */
+    public void rebuild(Consumer<TutorIndex> loader) {
+        lock.writeLock().lock();
+        try {
+            pendingWrites = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        TutorIndex fresh = new TutorIndex();
+        boolean loaded = false;
+        try {
+            loader.accept(fresh);
+            loaded = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                List<Consumer<Profiles>> writes = pendingWrites;
+                pendingWrites = null;
+                // Si la carga falla se conserva el índice anterior
+                if (loaded) {
+                    writes.forEach(pending -> pending.accept(fresh.current));
+                    current = fresh.current;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return (int) current.profiles.values().stream().filter(profile -> profile.candidate).count();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ranks the tutors with free capacity for a request of {@code tutee} on {@code skillIds},
+     * best first. The tutee is never recommended to themselves.
+     */
+    public List<TutorRecommendation> rank(User tutee, Collection<String> skillIds, int limit, RecommendationProperties weights) {
+        String tuteeId = tutee == null ? null : tutee.getId();
+        String tuteeChapterId = tutee == null || tutee.getChapter() == null ? null : tutee.getChapter().getId();
+        int tuteeSeniority = tutee == null ? 0 : tutee.getSeniority();
+        Set<String> requested = new HashSet<>();
+        if (skillIds != null) {
+            skillIds.stream().filter(Objects::nonNull).forEach(requested::add);
+        }
+        int idealGap = Math.max(1, weights.getIdealSeniorityGap());
+
+        PriorityQueue<TutorRecommendation> best = new PriorityQueue<>(limit + 1, WORST_FIRST);
+        lock.readLock().lock();
+        try {
+            Profiles profiles = current;
+            BitSet wanted = new BitSet();
+            for (String skillId : requested) {
+                Integer bit = profiles.skillBits.get(skillId);
+                if (bit != null) {
+                    wanted.set(bit);
+                }
+            }
+            BitSet common = new BitSet();
+            for (TutorProfile profile : profiles.profiles.values()) {
+                int remaining = profile.activeTutoringLimit - profile.activeTutorings.size();
+                if (!profile.candidate || remaining <= 0 || profile.tutorId.equals(tuteeId)) {
+                    continue;
+                }
+                common.clear();
+                common.or(wanted);
+                common.and(profile.skills);
+                int matched = common.cardinality();
+                boolean sameChapter = tuteeChapterId != null && tuteeChapterId.equals(profile.chapterId);
+                int seniorityGap = profile.seniority - tuteeSeniority;
+
+                double score = weights.getSkillWeight() * (requested.isEmpty() ? 0 : (double) matched / requested.size())
+                        + weights.getChapterWeight() * (sameChapter ? 1 : 0)
+                        + weights.getSeniorityWeight() * Math.min(Math.max(seniorityGap, 0), idealGap) / idealGap
+                        + weights.getCapacityWeight() * remaining / profile.activeTutoringLimit
+                        + weights.getRatingWeight() * normalizedRating(profile);
+
+                best.add(new TutorRecommendation(profile.tutorId, profile.firstName, profile.lastName, profile.email,
+                        profile.chapterId, score, matched, requested.size(), sameChapter, seniorityGap,
+                        profile.activeTutorings.size(), remaining,
+                        profile.ratingCount == 0 ? null : (double) profile.ratingSum / profile.ratingCount,
+                        profile.ratingCount));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<TutorRecommendation> ranked = new ArrayList<>(best);
+        ranked.sort(WORST_FIRST.reversed());
+        return ranked;
+    }
+
+    // Promedio bayesiano: con pocas valoraciones el promedio se acerca al valor neutro
+    private static double normalizedRating(TutorProfile profile) {
+        double mean = (profile.ratingSum + RATING_PRIOR_MEAN * RATING_PRIOR_WEIGHT)
+                / (profile.ratingCount + RATING_PRIOR_WEIGHT);
+        return (mean - RatingAggregate.MIN_SCORE) / (RatingAggregate.MAX_SCORE - RatingAggregate.MIN_SCORE);
+    }
+
+    private void write(Consumer<Profiles> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(current);
+            if (pendingWrites != null) {
+                pendingWrites.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private record TutoringEntry(String tutorId, int[] skillBits) {
+    }
+
+    private static final class Profiles {
+        private final Map<String, Integer> skillBits = new HashMap<>();
+        private final Map<String, TutorProfile> profiles = new HashMap<>();
+        private final Map<String, TutoringEntry> tutorings = new HashMap<>();
+
+        private TutorProfile profile(String tutorId) {
+            return profiles.computeIfAbsent(tutorId, TutorProfile::new);
+        }
+
+        private void putTutoring(String tutoringId, String tutorId, boolean active, List<String> skillIds) {
+            TutoringEntry previous = tutorings.get(tutoringId);
+            if (previous != null) {
+                TutorProfile previousTutor = profile(previous.tutorId());
+                previousTutor.removeSkills(previous.skillBits());
+                previousTutor.activeTutorings.remove(tutoringId);
+            }
+            int[] bits = skillIds.stream().mapToInt(this::bit).toArray();
+            TutorProfile profile = profile(tutorId);
+            profile.addSkills(bits);
+            if (active) {
+                profile.activeTutorings.add(tutoringId);
+            }
+            tutorings.put(tutoringId, new TutoringEntry(tutorId, bits));
+        }
+
+        private int bit(String skillId) {
+            return skillBits.computeIfAbsent(skillId, id -> skillBits.size());
+        }
+    }
+
+    private static final class TutorProfile {
+        private final String tutorId;
+        private final BitSet skills = new BitSet();
+        // Tutorías del tutor que incluyen cada habilidad: el bit se apaga cuando llega a cero
+        private final Map<Integer, Integer> skillTutorings = new HashMap<>();
+        private final Set<String> activeTutorings = new HashSet<>();
+        private String firstName;
+        private String lastName;
+        private String email;
+        private String chapterId;
+        private int seniority;
+        private int activeTutoringLimit;
+        private boolean candidate;
+        private long ratingCount;
+        private long ratingSum;
+
+        private TutorProfile(String tutorId) {
+            this.tutorId = tutorId;
+        }
+
+        private void addSkills(int[] bits) {
+            for (int bit : bits) {
+                skillTutorings.merge(bit, 1, Integer::sum);
+                skills.set(bit);
+            }
+        }
+
+        private void removeSkills(int[] bits) {
+            for (int bit : bits) {
+                if (skillTutorings.merge(bit, -1, Integer::sum) <= 0) {
+                    skillTutorings.remove(bit);
+                    skills.clear(bit);
+                }
+            }
+        }
+    }
+}
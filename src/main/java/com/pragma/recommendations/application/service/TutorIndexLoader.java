@@ -0,0 +1,28 @@
+package com.pragma.recommendations.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the tutor profiles used by the recommendations once the application is ready (after the backfills).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TutorIndexLoader {
+
+    private final RecommendationService recommendationService;
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long started = System.currentTimeMillis();
+        int tutors = recommendationService.rebuild();
+        log.info("Perfiles de tutores para recomendaciones cargados: {} tutores en {} ms", tutors, System.currentTimeMillis() - started);
+    }
+}
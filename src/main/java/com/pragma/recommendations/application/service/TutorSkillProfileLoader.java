@@ -0,0 +1,28 @@
+package com.pragma.recommendations.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the skill → tutors index once the application is ready, seeding the profiles from history if needed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TutorSkillProfileLoader {
+
+    private final TutorSkillProfileService tutorSkillProfileService;
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long started = System.currentTimeMillis();
+        int profiles = tutorSkillProfileService.rebuild();
+        log.info("Índice de habilidades de tutores cargado: {} perfiles en {} ms", profiles, System.currentTimeMillis() - started);
+    }
+}
@@ -0,0 +1,89 @@
+package com.pragma.recommendations.application.service;
+
+import com.pragma.recommendations.domain.model.TutorSkillProfile;
+import com.pragma.recommendations.domain.port.input.FindTutorsBySkillUseCase;
+import com.pragma.recommendations.domain.port.input.RecordTutorSkillsUseCase;
+import com.pragma.recommendations.domain.port.output.TutorProfileSourceRepository;
+import com.pragma.recommendations.domain.port.output.TutorSkillProfileRepository;
+import com.pragma.shared.persistence.AfterCommit;
+import com.pragma.skills.domain.model.Skill;
+import com.pragma.tutorings.domain.model.Tutoring;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TutorSkillProfileService implements RecordTutorSkillsUseCase, FindTutorsBySkillUseCase {
+
+    static final int MAX_LIMIT = 100;
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final TutorSkillProfileRepository tutorSkillProfileRepository;
+    private final TutorProfileSourceRepository tutorProfileSourceRepository;
+    private final SkillTutorIndex index;
+
+    @Override
+    public List<TutorSkillProfile> findTutorsBySkill(String skillId, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("El límite debe estar entre 1 y " + MAX_LIMIT);
+        }
+        return index.findTutors(skillId, limit);
+    }
+
+    @Override
+    public void tutoringCreated(Tutoring tutoring) {
+        record(tutoring, 1, 0, tutoring == null ? null : tutoring.getCreatedAt());
+    }
+
+    @Override
+    public void tutoringCompleted(Tutoring tutoring) {
+        record(tutoring, 0, 1, tutoring == null ? null : tutoring.getUpdatedAt());
+    }
+
+    /**
+     * Seeds the profiles from the tutoring history the first time, then loads them into the index by batches.
+     */
+    public int rebuild() {
+        if (tutorSkillProfileRepository.count() == 0) {
+            List<TutorSkillProfile> history = tutorProfileSourceRepository.aggregateSkillHistory();
+            if (!history.isEmpty()) {
+                tutorSkillProfileRepository.saveAll(history);
+                log.info("Perfiles de habilidades de tutores generados desde el histórico: {}", history.size());
+            }
+        }
+        index.clear();
+        String lastKey = "";
+        List<TutorSkillProfile> batch;
+        do {
+            batch = tutorSkillProfileRepository.findAfter(lastKey, REBUILD_BATCH_SIZE);
+            for (TutorSkillProfile profile : batch) {
+                index.put(profile);
+                lastKey = profile.key();
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+        return index.size();
+    }
+
+    private void record(Tutoring tutoring, int tutorings, int completed, Date taughtAt) {
+        if (tutoring == null || tutoring.getTutor() == null || tutoring.getSkills() == null) {
+            return;
+        }
+        String tutorId = tutoring.getTutor().getId();
+        Date at = taughtAt == null ? new Date() : taughtAt;
+        List<String> skillIds = tutoring.getSkills().stream()
+                .filter(Objects::nonNull)
+                .map(Skill::getId)
+                .distinct()
+                .toList();
+        for (String skillId : skillIds) {
+            tutorSkillProfileRepository.increment(tutorId, skillId, tutorings, completed, at);
+        }
+        AfterCommit.run(() -> skillIds.forEach(skillId -> index.increment(tutorId, skillId, tutorings, completed, at)));
+    }
+}
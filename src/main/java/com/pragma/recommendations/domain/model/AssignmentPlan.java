@@ -0,0 +1,21 @@
+package com.pragma.recommendations.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Assignment of open requests to tutors. When {@code dryRun} is false the plan has been applied
+ * and every assignment carries the id of the tutoring created for it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssignmentPlan {
+    private boolean dryRun;
+    private List<PlannedAssignment> assignments;
+    private List<String> unassignedRequestIds;
+    private double totalScore;
+}
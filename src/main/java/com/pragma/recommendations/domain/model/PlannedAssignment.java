@@ -0,0 +1,16 @@
+package com.pragma.recommendations.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlannedAssignment {
+    private String requestId;
+    private String tuteeId;
+    private String tutorId;
+    private double score;
+    private String tutoringId;
+}
@@ -0,0 +1,30 @@
+package com.pragma.recommendations.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * How often a tutor has taught a skill: tutorings created with it, how many of them were completed
+ * and when the tutor last started or completed one. Maintained on each write, never recomputed per query.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TutorSkillProfile {
+    private String tutorId;
+    private String skillId;
+    private long tutoringCount;
+    private long completedCount;
+    private Date lastTaughtAt;
+
+    public static String key(String tutorId, String skillId) {
+        return tutorId + ":" + skillId;
+    }
+
+    public String key() {
+        return key(tutorId, skillId);
+    }
+}
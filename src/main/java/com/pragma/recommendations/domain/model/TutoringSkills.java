@@ -0,0 +1,11 @@
+package com.pragma.recommendations.domain.model;
+
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+
+import java.util.List;
+
+/**
+ * The part of a tutoring the recommendation index needs: who tutored it, whether it is active and its skills.
+ */
+public record TutoringSkills(String tutoringId, String tutorId, TutoringStatus status, List<String> skillIds) {
+}
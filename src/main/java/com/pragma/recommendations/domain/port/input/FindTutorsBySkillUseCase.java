@@ -0,0 +1,9 @@
+package com.pragma.recommendations.domain.port.input;
+
+import com.pragma.recommendations.domain.model.TutorSkillProfile;
+
+import java.util.List;
+
+public interface FindTutorsBySkillUseCase {
+    List<TutorSkillProfile> findTutorsBySkill(String skillId, int limit);
+}
@@ -0,0 +1,9 @@
+package com.pragma.recommendations.domain.port.input;
+
+import com.pragma.recommendations.domain.model.AssignmentPlan;
+
+public interface PlanAssignmentsUseCase {
+    AssignmentPlan planAssignments();
+
+    AssignmentPlan applyAssignments();
+}
@@ -0,0 +1,9 @@
+package com.pragma.recommendations.domain.port.input;
+
+import com.pragma.recommendations.domain.model.TutorRecommendation;
+
+import java.util.List;
+
+public interface RecommendTutorsUseCase {
+    List<TutorRecommendation> recommendTutors(String tutoringRequestId, int limit);
+}
@@ -0,0 +1,11 @@
+package com.pragma.recommendations.domain.port.input;
+
+import com.pragma.tutorings.domain.model.Tutoring;
+
+/**
+ * Keeps the tutor skill profiles in sync with the tutorings that are created or completed.
+ */
+public interface RecordTutorSkillsUseCase {
+    void tutoringCreated(Tutoring tutoring);
+    void tutoringCompleted(Tutoring tutoring);
+}
@@ -0,0 +1,13 @@
+package com.pragma.recommendations.domain.port.input;
+
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.usuarios.domain.model.User;
+
+/**
+ * Keeps the recommendation index in sync with the writes that change a tutor's profile.
+ */
+public interface UpdateTutorProfileUseCase {
+    void userSaved(User user);
+    void tutoringSaved(Tutoring tutoring);
+    void ratingRecorded(String tutorId, int score);
+}
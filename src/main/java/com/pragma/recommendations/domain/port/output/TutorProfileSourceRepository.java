@@ -0,0 +1,20 @@
+package com.pragma.recommendations.domain.port.output;
+
+import com.pragma.recommendations.domain.model.TutorSkillProfile;
+import com.pragma.recommendations.domain.model.TutoringSkills;
+
+import java.util.List;
+
+public interface TutorProfileSourceRepository {
+    /**
+     * Tutorings with id greater than {@code afterId}, ordered by id, at most {@code limit}, with their skill ids.
+     * Tutorings without tutor are skipped.
+     */
+    List<TutoringSkills> findTutoringSkills(String afterId, int limit);
+
+    /**
+     * Skill profiles of every tutor aggregated from the whole tutoring history, grouped by tutor and skill.
+     * Used once to seed the materialized profiles.
+     */
+    List<TutorSkillProfile> aggregateSkillHistory();
+}
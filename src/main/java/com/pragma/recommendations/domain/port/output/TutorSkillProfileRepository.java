@@ -0,0 +1,23 @@
+package com.pragma.recommendations.domain.port.output;
+
+import com.pragma.recommendations.domain.model.TutorSkillProfile;
+
+import java.util.Date;
+import java.util.List;
+
+public interface TutorSkillProfileRepository {
+    /**
+     * Adds {@code tutorings} and {@code completed} to the profile of the tutor for the skill, creating it if missing,
+     * and moves {@code lastTaughtAt} forward to {@code taughtAt}.
+     */
+    void increment(String tutorId, String skillId, int tutorings, int completed, Date taughtAt);
+
+    void saveAll(List<TutorSkillProfile> profiles);
+
+    /**
+     * Profiles with {@link TutorSkillProfile#key()} greater than {@code afterKey}, ordered by key, at most {@code limit}.
+     */
+    List<TutorSkillProfile> findAfter(String afterKey, int limit);
+
+    long count();
+}
@@ -0,0 +1,43 @@
+package com.pragma.recommendations.infrastructure.adapter.input.rest;
+
+import com.pragma.recommendations.domain.port.input.PlanAssignmentsUseCase;
+import com.pragma.recommendations.infrastructure.adapter.input.rest.dto.AssignmentPlanDto;
+import com.pragma.recommendations.infrastructure.adapter.input.rest.mapper.AssignmentPlanDtoMapper;
+import com.pragma.shared.context.UserContextHelper;
+import com.pragma.shared.dto.OkResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/tutoring-requests")
+@RequiredArgsConstructor
+@Slf4j
+public class AutoAssignmentController {
+
+    private final PlanAssignmentsUseCase planAssignmentsUseCase;
+    private final AssignmentPlanDtoMapper assignmentPlanDtoMapper;
+
+    @PostMapping("/auto-assignment")
+    public ResponseEntity<OkResponseDto<AssignmentPlanDto>> planAssignments(
+            @RequestParam(defaultValue = "true") boolean dryRun) {
+        // Solo los administradores asignan tutores
+        UserContextHelper.requireAdminRole();
+        log.info("Administrador {} calculando plan de asignación automática (dryRun={})",
+                UserContextHelper.getCurrentUserEmail(), dryRun);
+
+        if (dryRun) {
+            AssignmentPlanDto plan = assignmentPlanDtoMapper.toDto(planAssignmentsUseCase.planAssignments());
+            return ResponseEntity.ok(OkResponseDto.of("Plan de asignación calculado exitosamente", plan));
+        }
+        AssignmentPlanDto plan = assignmentPlanDtoMapper.toDto(planAssignmentsUseCase.applyAssignments());
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(OkResponseDto.of("Plan de asignación aplicado exitosamente", plan));
+    }
+}
@@ -0,0 +1,41 @@
+package com.pragma.recommendations.infrastructure.adapter.input.rest;
+
+import com.pragma.recommendations.domain.port.input.RecommendTutorsUseCase;
+import com.pragma.recommendations.infrastructure.adapter.input.rest.dto.TutorRecommendationDto;
+import com.pragma.recommendations.infrastructure.adapter.input.rest.mapper.TutorRecommendationDtoMapper;
+import com.pragma.shared.context.UserContextHelper;
+import com.pragma.shared.dto.OkResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/tutoring-requests")
+@RequiredArgsConstructor
+@Slf4j
+public class TutorRecommendationController {
+
+    private final RecommendTutorsUseCase recommendTutorsUseCase;
+    private final TutorRecommendationDtoMapper tutorRecommendationDtoMapper;
+
+    @GetMapping("/{requestId}/recommendations")
+    public ResponseEntity<OkResponseDto<List<TutorRecommendationDto>>> recommendTutors(
+            @PathVariable String requestId,
+            @RequestParam(defaultValue = "10") int limit) {
+        // Solo los administradores asignan tutores
+        UserContextHelper.requireAdminRole();
+        log.debug("Administrador {} consultando tutores recomendados para la solicitud {}",
+                UserContextHelper.getCurrentUserEmail(), requestId);
+
+        List<TutorRecommendationDto> recommendations = tutorRecommendationDtoMapper.toDtoList(
+                recommendTutorsUseCase.recommendTutors(requestId, limit));
+        return ResponseEntity.ok(OkResponseDto.of("Tutores recomendados obtenidos exitosamente", recommendations));
+    }
+}
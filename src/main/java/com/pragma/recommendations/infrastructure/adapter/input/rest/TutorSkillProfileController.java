@@ -0,0 +1,40 @@
+package com.pragma.recommendations.infrastructure.adapter.input.rest;
+
+import com.pragma.recommendations.domain.port.input.FindTutorsBySkillUseCase;
+import com.pragma.recommendations.infrastructure.adapter.input.rest.dto.TutorSkillProfileDto;
+import com.pragma.recommendations.infrastructure.adapter.input.rest.mapper.TutorSkillProfileDtoMapper;
+import com.pragma.shared.context.UserContextHelper;
+import com.pragma.shared.dto.OkResponseDto;
+import com.pragma.usuarios.domain.model.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/skills")
+@RequiredArgsConstructor
+@Slf4j
+public class TutorSkillProfileController {
+
+    private final FindTutorsBySkillUseCase findTutorsBySkillUseCase;
+    private final TutorSkillProfileDtoMapper tutorSkillProfileDtoMapper;
+
+    @GetMapping("/{skillId}/tutors")
+    public ResponseEntity<OkResponseDto<List<TutorSkillProfileDto>>> findTutorsBySkill(
+            @PathVariable String skillId,
+            @RequestParam(defaultValue = "20") int limit) {
+        User currentUser = UserContextHelper.getCurrentUserOrThrow();
+        log.debug("Usuario {} consultando tutores de la habilidad {}", currentUser.getEmail(), skillId);
+
+        List<TutorSkillProfileDto> tutors = tutorSkillProfileDtoMapper.toDtoList(
+                findTutorsBySkillUseCase.findTutorsBySkill(skillId, limit));
+        return ResponseEntity.ok(OkResponseDto.of("Tutores de la habilidad obtenidos exitosamente", tutors));
+    }
+}
@@ -0,0 +1,17 @@
+package com.pragma.recommendations.infrastructure.adapter.input.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssignmentPlanDto {
+    private boolean dryRun;
+    private List<PlannedAssignmentDto> assignments;
+    private List<String> unassignedRequestIds;
+    private double totalScore;
+}
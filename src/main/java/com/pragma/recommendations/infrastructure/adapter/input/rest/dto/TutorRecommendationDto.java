@@ -0,0 +1,25 @@
+package com.pragma.recommendations.infrastructure.adapter.input.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TutorRecommendationDto {
+    private String tutorId;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String chapterId;
+    private double score;
+    private int matchedSkills;
+    private int requestedSkills;
+    private boolean sameChapter;
+    private int seniorityGap;
+    private int activeTutorings;
+    private int remainingCapacity;
+    private Double averageRating;
+    private long ratingCount;
+}
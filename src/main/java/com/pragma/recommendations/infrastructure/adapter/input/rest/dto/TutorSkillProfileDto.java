@@ -0,0 +1,18 @@
+package com.pragma.recommendations.infrastructure.adapter.input.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TutorSkillProfileDto {
+    private String tutorId;
+    private String skillId;
+    private long tutoringCount;
+    private long completedCount;
+    private Date lastTaughtAt;
+}
@@ -0,0 +1,15 @@
+package com.pragma.recommendations.infrastructure.adapter.input.rest.mapper;
+
+import com.pragma.recommendations.domain.model.AssignmentPlan;
+import com.pragma.recommendations.domain.model.PlannedAssignment;
+import com.pragma.recommendations.infrastructure.adapter.input.rest.dto.AssignmentPlanDto;
+import com.pragma.recommendations.infrastructure.adapter.input.rest.dto.PlannedAssignmentDto;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface AssignmentPlanDtoMapper {
+
+    AssignmentPlanDto toDto(AssignmentPlan plan);
+
+    PlannedAssignmentDto toDto(PlannedAssignment assignment);
+}
@@ -0,0 +1,15 @@
+package com.pragma.recommendations.infrastructure.adapter.input.rest.mapper;
+
+import com.pragma.recommendations.domain.model.TutorRecommendation;
+import com.pragma.recommendations.infrastructure.adapter.input.rest.dto.TutorRecommendationDto;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface TutorRecommendationDtoMapper {
+
+    TutorRecommendationDto toDto(TutorRecommendation recommendation);
+
+    List<TutorRecommendationDto> toDtoList(List<TutorRecommendation> recommendations);
+}
@@ -0,0 +1,15 @@
+package com.pragma.recommendations.infrastructure.adapter.input.rest.mapper;
+
+import com.pragma.recommendations.domain.model.TutorSkillProfile;
+import com.pragma.recommendations.infrastructure.adapter.input.rest.dto.TutorSkillProfileDto;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface TutorSkillProfileDtoMapper {
+
+    TutorSkillProfileDto toDto(TutorSkillProfile profile);
+
+    List<TutorSkillProfileDto> toDtoList(List<TutorSkillProfile> profiles);
+}
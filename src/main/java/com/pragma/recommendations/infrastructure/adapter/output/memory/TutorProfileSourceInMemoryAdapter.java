@@ -0,0 +1,69 @@
+package com.pragma.recommendations.infrastructure.adapter.output.memory;
+
+import com.pragma.recommendations.domain.model.TutorSkillProfile;
+import com.pragma.recommendations.domain.model.TutoringSkills;
+import com.pragma.recommendations.domain.port.output.TutorProfileSourceRepository;
+import com.pragma.skills.domain.model.Skill;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings.infrastructure.adapter.output.memory.TutoringInMemoryAdapter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * In-memory {@link TutorProfileSourceRepository} for the {@code memory} profile, read from the tutoring adapter.
+ */
+@Component
+@Primary
+@Profile("memory")
+@RequiredArgsConstructor
+public class TutorProfileSourceInMemoryAdapter implements TutorProfileSourceRepository {
+
+    private final TutoringInMemoryAdapter tutoringAdapter;
+
+    @Override
+    public List<TutoringSkills> findTutoringSkills(String afterId, int limit) {
+        return tutoringAdapter.findAll().stream()
+                .filter(tutoring -> tutoring.getTutor() != null && tutoring.getId().compareTo(afterId) > 0)
+                .sorted(Comparator.comparing(Tutoring::getId))
+                .limit(limit)
+                .map(tutoring -> new TutoringSkills(tutoring.getId(), tutoring.getTutor().getId(), tutoring.getStatus(),
+                        tutoring.getSkills() == null ? List.of() : tutoring.getSkills().stream()
+                                .filter(Objects::nonNull)
+                                .map(Skill::getId)
+                                .toList()))
+                .toList();
+    }
+
+    @Override
+    public List<TutorSkillProfile> aggregateSkillHistory() {
+        Map<String, TutorSkillProfile> profiles = new TreeMap<>();
+        for (Tutoring tutoring : tutoringAdapter.findAll()) {
+            if (tutoring.getTutor() == null || tutoring.getSkills() == null) {
+                continue;
+            }
+            boolean completed = tutoring.getStatus() == TutoringStatus.Completada;
+            Date taughtAt = completed ? tutoring.getUpdatedAt() : tutoring.getCreatedAt();
+            tutoring.getSkills().stream().filter(Objects::nonNull).map(Skill::getId).distinct().forEach(skillId -> {
+                TutorSkillProfile profile = profiles.computeIfAbsent(TutorSkillProfile.key(tutoring.getTutor().getId(), skillId),
+                        key -> new TutorSkillProfile(tutoring.getTutor().getId(), skillId, 0, 0, null));
+                profile.setTutoringCount(profile.getTutoringCount() + 1);
+                profile.setCompletedCount(profile.getCompletedCount() + (completed ? 1 : 0));
+                if (taughtAt != null && (profile.getLastTaughtAt() == null || taughtAt.after(profile.getLastTaughtAt()))) {
+                    profile.setLastTaughtAt(taughtAt);
+                }
+            });
+        }
+        return new ArrayList<>(profiles.values());
+    }
+}
@@ -0,0 +1,61 @@
+package com.pragma.recommendations.infrastructure.adapter.output.memory;
+
+import com.pragma.recommendations.domain.model.TutorSkillProfile;
+import com.pragma.recommendations.domain.port.output.TutorSkillProfileRepository;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory {@link TutorSkillProfileRepository} for the {@code memory} profile.
+ */
+@Component
+@Primary
+@Profile("memory")
+public class TutorSkillProfileInMemoryAdapter implements TutorSkillProfileRepository {
+
+    private final NavigableMap<String, TutorSkillProfile> profiles = new ConcurrentSkipListMap<>();
+
+    @Override
+    public synchronized void increment(String tutorId, String skillId, int tutorings, int completed, Date taughtAt) {
+        TutorSkillProfile profile = profiles.computeIfAbsent(TutorSkillProfile.key(tutorId, skillId),
+                key -> new TutorSkillProfile(tutorId, skillId, 0, 0, null));
+        profile.setTutoringCount(profile.getTutoringCount() + tutorings);
+        profile.setCompletedCount(profile.getCompletedCount() + completed);
+        if (taughtAt != null && (profile.getLastTaughtAt() == null || taughtAt.after(profile.getLastTaughtAt()))) {
+            profile.setLastTaughtAt(taughtAt);
+        }
+    }
+
+    @Override
+    public synchronized void saveAll(List<TutorSkillProfile> toSave) {
+        toSave.forEach(profile -> profiles.put(profile.key(), copy(profile)));
+    }
+
+    @Override
+    public synchronized List<TutorSkillProfile> findAfter(String afterKey, int limit) {
+        return profiles.tailMap(afterKey, false).values().stream()
+                .limit(limit)
+                .map(TutorSkillProfileInMemoryAdapter::copy)
+                .toList();
+    }
+
+    @Override
+    public long count() {
+        return profiles.size();
+    }
+
+    public synchronized void clear() {
+        profiles.clear();
+    }
+
+    private static TutorSkillProfile copy(TutorSkillProfile profile) {
+        return new TutorSkillProfile(profile.getTutorId(), profile.getSkillId(), profile.getTutoringCount(),
+                profile.getCompletedCount(), profile.getLastTaughtAt());
+    }
+}
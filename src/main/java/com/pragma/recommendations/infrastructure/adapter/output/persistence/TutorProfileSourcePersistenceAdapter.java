@@ -0,0 +1,62 @@
+package com.pragma.recommendations.infrastructure.adapter.output.persistence;
+
+import com.pragma.recommendations.domain.model.TutorSkillProfile;
+import com.pragma.recommendations.domain.model.TutoringSkills;
+import com.pragma.recommendations.domain.port.output.TutorProfileSourceRepository;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class TutorProfileSourcePersistenceAdapter implements TutorProfileSourceRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<TutoringSkills> findTutoringSkills(String afterId, int limit) {
+        List<Object[]> tutorings = entityManager.createQuery(
+                        "SELECT t.id, u.id, t.status FROM TutoringEntity t JOIN t.tutorId u"
+                                + " WHERE t.id > :afterId ORDER BY t.id", Object[].class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+        if (tutorings.isEmpty()) {
+            return List.of();
+        }
+
+        // Las habilidades de todo el lote en una sola consulta, sin paginar sobre un join
+        Map<String, List<String>> skillsByTutoring = new HashMap<>();
+        entityManager.createQuery("SELECT t.id, s.id FROM TutoringEntity t JOIN t.skills s WHERE t.id IN :ids", Object[].class)
+                .setParameter("ids", tutorings.stream().map(row -> (String) row[0]).toList())
+                .getResultList()
+                .forEach(row -> skillsByTutoring.computeIfAbsent((String) row[0], id -> new ArrayList<>()).add((String) row[1]));
+
+        return tutorings.stream()
+                .map(row -> new TutoringSkills((String) row[0], (String) row[1], (TutoringStatus) row[2],
+                        skillsByTutoring.getOrDefault((String) row[0], List.of())))
+                .toList();
+    }
+
+    @Override
+    public List<TutorSkillProfile> aggregateSkillHistory() {
+        // Una tutoría completada cuenta como impartida en su última actualización; el resto, al crearse
+        return entityManager.createQuery(
+                        "SELECT u.id, s.id, COUNT(t), SUM(CASE WHEN t.status = :completed THEN 1 ELSE 0 END),"
+                                + " MAX(CASE WHEN t.status = :completed THEN t.updatedAt ELSE t.createdAt END)"
+                                + " FROM TutoringEntity t JOIN t.tutorId u JOIN t.skills s GROUP BY u.id, s.id", Object[].class)
+                .setParameter("completed", TutoringStatus.Completada)
+                .getResultList()
+                .stream()
+                .map(row -> new TutorSkillProfile((String) row[0], (String) row[1], ((Number) row[2]).longValue(),
+                        ((Number) row[3]).longValue(), (Date) row[4]))
+                .toList();
+    }
+}
@@ -0,0 +1,54 @@
+package com.pragma.recommendations.infrastructure.adapter.output.persistence;
+
+import com.pragma.recommendations.domain.model.TutorSkillProfile;
+import com.pragma.recommendations.domain.port.output.TutorSkillProfileRepository;
+import com.pragma.recommendations.infrastructure.adapter.output.persistence.entity.TutorSkillProfileEntity;
+import com.pragma.recommendations.infrastructure.adapter.output.persistence.repository.SpringDataTutorSkillProfileRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class TutorSkillProfilePersistenceAdapter implements TutorSkillProfileRepository {
+
+    private final SpringDataTutorSkillProfileRepository repository;
+
+    @Override
+    @Transactional
+    public void increment(String tutorId, String skillId, int tutorings, int completed, Date taughtAt) {
+        repository.increment(TutorSkillProfile.key(tutorId, skillId), tutorId, skillId, tutorings, completed, taughtAt);
+    }
+
+    @Override
+    @Transactional
+    public void saveAll(List<TutorSkillProfile> profiles) {
+        repository.saveAll(profiles.stream().map(TutorSkillProfilePersistenceAdapter::toEntity).toList());
+    }
+
+    @Override
+    public List<TutorSkillProfile> findAfter(String afterKey, int limit) {
+        return repository.findByIdGreaterThanOrderByIdAsc(afterKey, PageRequest.ofSize(limit)).stream()
+                .map(TutorSkillProfilePersistenceAdapter::toModel)
+                .toList();
+    }
+
+    @Override
+    public long count() {
+        return repository.count();
+    }
+
+    private static TutorSkillProfileEntity toEntity(TutorSkillProfile profile) {
+        return new TutorSkillProfileEntity(profile.key(), profile.getTutorId(), profile.getSkillId(),
+                profile.getTutoringCount(), profile.getCompletedCount(), profile.getLastTaughtAt());
+    }
+
+    private static TutorSkillProfile toModel(TutorSkillProfileEntity entity) {
+        return new TutorSkillProfile(entity.getTutorId(), entity.getSkillId(), entity.getTutoringCount(),
+                entity.getCompletedCount(), entity.getLastTaughtAt());
+    }
+}
@@ -0,0 +1,36 @@
+package com.pragma.recommendations.infrastructure.adapter.output.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+@Entity
+@Table(name = "tutor_skill_profiles", indexes = {
+        @Index(name = "idx_tutor_skill_profiles_skill", columnList = "skill_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TutorSkillProfileEntity {
+    @Id
+    private String id; // "<tutorId>:<skillId>"
+
+    @Column(name = "tutor_id", nullable = false)
+    private String tutorId; // "ID del tutor"
+
+    @Column(name = "skill_id", nullable = false)
+    private String skillId; // "ID de la habilidad tutorada"
+
+    @Column(name = "tutoring_count", nullable = false)
+    private long tutoringCount; // "Tutorías creadas con la habilidad"
+
+    @Column(name = "completed_count", nullable = false)
+    private long completedCount; // "Tutorías completadas con la habilidad"
+
+    @Column(name = "last_taught_at")
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date lastTaughtAt; // "Última vez que el tutor inició o completó una tutoría con la habilidad"
+}
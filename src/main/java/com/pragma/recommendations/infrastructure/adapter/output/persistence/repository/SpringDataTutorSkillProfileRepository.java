@@ -0,0 +1,32 @@
+package com.pragma.recommendations.infrastructure.adapter.output.persistence.repository;
+
+import com.pragma.recommendations.infrastructure.adapter.output.persistence.entity.TutorSkillProfileEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+import java.util.List;
+
+@Repository
+public interface SpringDataTutorSkillProfileRepository extends JpaRepository<TutorSkillProfileEntity, String> {
+
+    // Upsert atómico, como los agregados de valoraciones: la primera tutoría del tutor con la habilidad
+    // inserta la fila sin carrera con otra creación concurrente. No limpia el contexto de persistencia
+    // porque se ejecuta dentro de la transacción de quien crea o completa la tutoría
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO TutorSkillProfileEntity (id, tutorId, skillId, tutoringCount, completedCount, lastTaughtAt) " +
+           "VALUES (:id, :tutorId, :skillId, :tutorings, :completed, :taughtAt) " +
+           "ON CONFLICT(id) DO UPDATE SET " +
+           "tutoringCount = tutoringCount + :tutorings, " +
+           "completedCount = completedCount + :completed, " +
+           "lastTaughtAt = CASE WHEN lastTaughtAt IS NULL OR lastTaughtAt < :taughtAt THEN :taughtAt ELSE lastTaughtAt END")
+    int increment(@Param("id") String id, @Param("tutorId") String tutorId, @Param("skillId") String skillId,
+                  @Param("tutorings") long tutorings, @Param("completed") long completed,
+                  @Param("taughtAt") Date taughtAt);
+
+    List<TutorSkillProfileEntity> findByIdGreaterThanOrderByIdAsc(String id, Pageable pageable);
+}
@@ -0,0 +1,191 @@
+package com.pragma.search.application.service;
+
+import com.pragma.search.domain.model.SearchHit;
+import com.pragma.search.domain.model.enums.SearchDocumentType;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index: term -> (document -> term frequency). Documents are replaced
+ * or removed one at a time, so the index is maintained incrementally on every write.
+ * Results are ranked with BM25 and only the requested page is materialised, using a
+ * bounded heap of {@code offset + limit} entries. Reads run concurrently; writes are exclusive.
+ * A single instance is shared by the application and filled at startup by {@link SearchIndexLoader}.
+ */
+@Component
+public class InvertedIndex {
+
+    static final double K1 = 1.2;
+    static final double B = 0.75;
+    private static final int SNIPPET_LENGTH = 160;
+    private static final int SNIPPET_LEAD = 40;
+
+    private static final Comparator<Scored> BY_RANK = Comparator.comparingDouble(Scored::score).reversed()
+            .thenComparing(scored -> scored.key().type())
+            .thenComparing(scored -> scored.key().id());
+
+    private final TextAnalyzer analyzer;
+    private final Map<String, Map<DocKey, Integer>> postings = new HashMap<>();
+    private final Map<DocKey, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalLength;
+
+    public InvertedIndex(TextAnalyzer analyzer) {
+        this.analyzer = analyzer;
+    }
+
+    public record Page(long total, List<SearchHit> hits) {
+    }
+
+    /**
+     * Adds or replaces a document. Blank text removes it.
+     */
+    public void put(SearchDocumentType type, String id, String text) {
+        DocKey key = new DocKey(type, id);
+        Map<String, Integer> frequencies = new HashMap<>();
+        List<String> terms = analyzer.terms(text);
+        terms.forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+            if (frequencies.isEmpty()) {
+                return;
+            }
+            documents.put(key, new Document(frequencies, terms.size(), text));
+            totalLength += terms.size();
+            frequencies.forEach((term, frequency) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(key, frequency));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(SearchDocumentType type, String id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(new DocKey(type, id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Documents matching any term of {@code query}, best first. An empty {@code types} set matches every type.
+     */
+    public Page search(String query, Set<SearchDocumentType> types, int offset, int limit) {
+        Set<String> queryTerms = new LinkedHashSet<>(analyzer.terms(query));
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return new Page(0, List.of());
+        }
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty()) {
+                return new Page(0, List.of());
+            }
+            double averageLength = (double) totalLength / documents.size();
+            Map<DocKey, Double> scores = new HashMap<>();
+            for (String term : queryTerms) {
+                Map<DocKey, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documents.size() - posting.size() + 0.5) / (posting.size() + 0.5));
+                posting.forEach((key, frequency) -> {
+                    if (types.isEmpty() || types.contains(key.type())) {
+                        double norm = K1 * (1 - B + B * documents.get(key).length() / averageLength);
+                        scores.merge(key, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+                    }
+                });
+            }
+            List<SearchHit> hits = new ArrayList<>();
+            for (Scored scored : top(scores, offset, limit)) {
+                hits.add(new SearchHit(scored.key().type(), scored.key().id(), scored.score(),
+                        snippet(documents.get(scored.key()).text(), queryTerms)));
+            }
+            return new Page(scores.size(), hits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<Scored> top(Map<DocKey, Double> scores, int offset, int limit) {
+        int keep = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+        PriorityQueue<Scored> heap = new PriorityQueue<>(BY_RANK.reversed());
+        scores.forEach((key, score) -> {
+            heap.add(new Scored(key, score));
+            if (heap.size() > keep) {
+                heap.poll();
+            }
+        });
+        List<Scored> ranked = new ArrayList<>(heap);
+        ranked.sort(BY_RANK);
+        return offset >= ranked.size() ? List.of() : ranked.subList(offset, ranked.size());
+    }
+
+    private String snippet(String text, Set<String> queryTerms) {
+        int from = 0;
+        for (TextAnalyzer.Token token : analyzer.tokenize(text)) {
+            if (queryTerms.contains(token.term())) {
+                from = Math.max(0, token.start() - SNIPPET_LEAD);
+                break;
+            }
+        }
+        int to = Math.min(text.length(), from + SNIPPET_LENGTH);
+        return (from > 0 ? "…" : "") + text.substring(from, to).strip() + (to < text.length() ? "…" : "");
+    }
+
+    private void removeLocked(DocKey key) {
+        Document previous = documents.remove(key);
+        if (previous == null) {
+            return;
+        }
+        totalLength -= previous.length();
+        for (String term : previous.frequencies().keySet()) {
+            Map<DocKey, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(key);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private record DocKey(SearchDocumentType type, String id) {
+    }
+
+    private record Document(Map<String, Integer> frequencies, int length, String text) {
+    }
+
+    private record Scored(DocKey key, double score) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.pragma.search.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the full-text index from the database once the application is ready (after the backfills).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexLoader {
+
+    private final SearchService searchService;
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long started = System.currentTimeMillis();
+        int documents = searchService.rebuild();
+        log.info("Índice de búsqueda de texto cargado: {} documentos en {} ms", documents, System.currentTimeMillis() - started);
+    }
+}
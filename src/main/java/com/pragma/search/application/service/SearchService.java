@@ -0,0 +1,72 @@
+package com.pragma.search.application.service;
+
+import com.pragma.search.domain.model.SearchDocument;
+import com.pragma.search.domain.model.SearchResult;
+import com.pragma.search.domain.model.enums.SearchDocumentType;
+import com.pragma.search.domain.port.input.IndexTextUseCase;
+import com.pragma.search.domain.port.input.SearchTextUseCase;
+import com.pragma.search.domain.port.output.SearchSourceRepository;
+import com.pragma.shared.persistence.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchService implements SearchTextUseCase, IndexTextUseCase {
+
+    static final int MAX_PAGE_SIZE = 100;
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final SearchSourceRepository searchSourceRepository;
+    private final InvertedIndex index;
+
+    @Override
+    public SearchResult search(String query, Set<SearchDocumentType> types, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("El texto de búsqueda es requerido");
+        }
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("La página debe ser mayor o igual a 0 y el tamaño estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        InvertedIndex.Page result = index.search(query, types == null ? Set.of() : types, page * size, size);
+        return new SearchResult(query, page, size, result.total(), result.hits());
+    }
+
+    @Override
+    public void index(SearchDocumentType type, String id, String text) {
+        if (id != null) {
+            AfterCommit.run(() -> index.put(type, id, text));
+        }
+    }
+
+    @Override
+    public void remove(SearchDocumentType type, String id) {
+        if (id != null) {
+            AfterCommit.run(() -> index.remove(type, id));
+        }
+    }
+
+    /**
+     * Rebuilds the index from the stored records, reading each type in id order by batches.
+     */
+    public int rebuild() {
+        index.clear();
+        for (SearchDocumentType type : SearchDocumentType.values()) {
+            String lastId = "";
+            List<SearchDocument> batch;
+            do {
+                batch = searchSourceRepository.findDocuments(type, lastId, REBUILD_BATCH_SIZE);
+                for (SearchDocument document : batch) {
+                    index.put(document.type(), document.id(), document.text());
+                    lastId = document.id();
+                }
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+        }
+        return index.size();
+    }
+}
@@ -0,0 +1,105 @@
+package com.pragma.search.application.service;
+
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Analyzer for Spanish text: splits on anything that is not a letter or digit, lowercases,
+ * folds accents ("tutoría" and "tutoria" match), drops common stop words and applies a light
+ * Spanish stemmer that removes plural and gender endings, so "programadores", "programadora"
+ * and "programador" share a term. Offsets refer to the original text so hits can be highlighted.
+ */
+@Component
+public class TextAnalyzer {
+
+    private static final int MIN_STEM_LENGTH = 5;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "al", "ante", "con", "como", "de", "del", "e", "el", "en", "entre", "es", "esta", "este",
+            "fue", "ha", "la", "las", "le", "lo", "los", "mas", "me", "mi", "muy", "no", "o", "para", "pero",
+            "por", "que", "se", "sin", "si", "sobre", "su", "sus", "tambien", "te", "tu", "un", "una", "uno",
+            "unos", "unas", "y", "ya", "yo");
+
+    public record Token(String term, int start, int end) {
+    }
+
+    public List<Token> tokenize(String text) {
+        List<Token> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        StringBuilder current = new StringBuilder();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                if (start < 0) {
+                    start = i;
+                }
+                current.append(fold(c));
+            } else if (start >= 0) {
+                String term = normalize(current.toString());
+                if (term != null) {
+                    tokens.add(new Token(term, start, i));
+                }
+                current.setLength(0);
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    public List<String> terms(String text) {
+        return tokenize(text).stream().map(Token::term).toList();
+    }
+
+    private static String normalize(String word) {
+        if (word.isEmpty() || STOP_WORDS.contains(word)) {
+            return null;
+        }
+        return stem(word);
+    }
+
+    /**
+     * Light stemming of the inflectional suffixes (Savoy's light stemmer, as used by Lucene's Spanish
+     * analyzer): "-eses" becomes "-es" (meses), "-ces" becomes "-z" (luces), a vowel plus "s" is removed
+     * (tutorías, útiles) and so is a final gender vowel (tutoría, programadora). Short words and words
+     * with digits are kept as they are.
+     */
+    static String stem(String word) {
+        int length = word.length();
+        if (length < MIN_STEM_LENGTH || word.chars().anyMatch(Character::isDigit)) {
+            return word;
+        }
+        char last = word.charAt(length - 1);
+        if (last == 'o' || last == 'a' || last == 'e') {
+            return word.substring(0, length - 1);
+        }
+        if (last != 's') {
+            return word;
+        }
+        if (word.endsWith("eses")) {
+            return word.substring(0, length - 2);
+        }
+        if (word.endsWith("ces")) {
+            return word.substring(0, length - 3) + "z";
+        }
+        char beforeLast = word.charAt(length - 2);
+        if (beforeLast == 'o' || beforeLast == 'a' || beforeLast == 'e') {
+            return word.substring(0, length - 2);
+        }
+        return word;
+    }
+
+    private static String fold(char c) {
+        if (c < 128) {
+            return String.valueOf(Character.toLowerCase(c));
+        }
+        String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+        return decomposed.replaceAll("\\p{M}", "").toLowerCase();
+    }
+}
@@ -0,0 +1,9 @@
+package com.pragma.search.domain.model;
+
+import com.pragma.search.domain.model.enums.SearchDocumentType;
+
+/**
+ * Searchable text of one record: feedback comments, tutoring objectives or request needs description.
+ */
+public record SearchDocument(SearchDocumentType type, String id, String text) {
+}
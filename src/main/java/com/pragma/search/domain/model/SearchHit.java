@@ -0,0 +1,16 @@
+package com.pragma.search.domain.model;
+
+import com.pragma.search.domain.model.enums.SearchDocumentType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHit {
+    private SearchDocumentType type;
+    private String id;
+    private double score;
+    private String snippet;
+}
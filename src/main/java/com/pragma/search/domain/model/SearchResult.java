@@ -0,0 +1,18 @@
+package com.pragma.search.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResult {
+    private String query;
+    private int page;
+    private int size;
+    private long totalHits;
+    private List<SearchHit> hits;
+}
@@ -0,0 +1,7 @@
+package com.pragma.search.domain.model.enums;
+
+public enum SearchDocumentType {
+    FEEDBACK,
+    TUTORING,
+    TUTORING_REQUEST
+}
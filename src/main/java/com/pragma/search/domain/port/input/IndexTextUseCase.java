@@ -0,0 +1,12 @@
+package com.pragma.search.domain.port.input;
+
+import com.pragma.search.domain.model.enums.SearchDocumentType;
+
+public interface IndexTextUseCase {
+    /**
+     * Adds or replaces the text of a document. Inside a transaction the change is applied after commit.
+     */
+    void index(SearchDocumentType type, String id, String text);
+
+    void remove(SearchDocumentType type, String id);
+}
@@ -0,0 +1,13 @@
+package com.pragma.search.domain.port.input;
+
+import com.pragma.search.domain.model.SearchResult;
+import com.pragma.search.domain.model.enums.SearchDocumentType;
+
+import java.util.Set;
+
+public interface SearchTextUseCase {
+    /**
+     * Ranked full-text search. An empty {@code types} set searches every document type.
+     */
+    SearchResult search(String query, Set<SearchDocumentType> types, int page, int size);
+}
@@ -0,0 +1,14 @@
+package com.pragma.search.domain.port.output;
+
+import com.pragma.search.domain.model.SearchDocument;
+import com.pragma.search.domain.model.enums.SearchDocumentType;
+
+import java.util.List;
+
+public interface SearchSourceRepository {
+    /**
+     * Documents of {@code type} with id greater than {@code afterId}, ordered by id, at most {@code limit}.
+     * Records without text are skipped.
+     */
+    List<SearchDocument> findDocuments(SearchDocumentType type, String afterId, int limit);
+}
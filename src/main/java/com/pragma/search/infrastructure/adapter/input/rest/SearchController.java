@@ -0,0 +1,45 @@
+package com.pragma.search.infrastructure.adapter.input.rest;
+
+import com.pragma.search.domain.model.enums.SearchDocumentType;
+import com.pragma.search.domain.port.input.SearchTextUseCase;
+import com.pragma.search.infrastructure.adapter.input.rest.dto.SearchResultDto;
+import com.pragma.search.infrastructure.adapter.input.rest.mapper.SearchDtoMapper;
+import com.pragma.shared.context.UserContextHelper;
+import com.pragma.shared.dto.OkResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/v1/search")
+@RequiredArgsConstructor
+@Slf4j
+public class SearchController {
+
+    private final SearchTextUseCase searchTextUseCase;
+    private final SearchDtoMapper searchDtoMapper;
+
+    @GetMapping
+    public ResponseEntity<OkResponseDto<SearchResultDto>> search(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) List<SearchDocumentType> types,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        // Solo los administradores pueden buscar en el contenido de todos los usuarios
+        UserContextHelper.requireAdminRole();
+        log.debug("Administrador {} buscando '{}'", UserContextHelper.getCurrentUserEmail(), query);
+
+        Set<SearchDocumentType> typeFilter = types == null || types.isEmpty()
+                ? Set.of() : EnumSet.copyOf(types);
+        SearchResultDto result = searchDtoMapper.toDto(searchTextUseCase.search(query, typeFilter, page, size));
+        return ResponseEntity.ok(OkResponseDto.of("Búsqueda realizada exitosamente", result));
+    }
+}
@@ -0,0 +1,18 @@
+package com.pragma.search.infrastructure.adapter.input.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResultDto {
+    private String query;
+    private int page;
+    private int size;
+    private long totalHits;
+    private List<SearchHitDto> hits;
+}
@@ -0,0 +1,15 @@
+package com.pragma.search.infrastructure.adapter.input.rest.mapper;
+
+import com.pragma.search.domain.model.SearchHit;
+import com.pragma.search.domain.model.SearchResult;
+import com.pragma.search.infrastructure.adapter.input.rest.dto.SearchHitDto;
+import com.pragma.search.infrastructure.adapter.input.rest.dto.SearchResultDto;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface SearchDtoMapper {
+
+    SearchResultDto toDto(SearchResult result);
+
+    SearchHitDto toDto(SearchHit hit);
+}
@@ -0,0 +1,47 @@
+package com.pragma.search.infrastructure.adapter.output.memory;
+
+import com.pragma.feedbacks.infrastructure.adapter.output.memory.FeedbackInMemoryAdapter;
+import com.pragma.search.domain.model.SearchDocument;
+import com.pragma.search.domain.model.enums.SearchDocumentType;
+import com.pragma.search.domain.port.output.SearchSourceRepository;
+import com.pragma.tutorings.infrastructure.adapter.output.memory.TutoringInMemoryAdapter;
+import com.pragma.tutorings_requests.infrastructure.adapter.output.memory.TutoringRequestInMemoryAdapter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * In-memory {@link SearchSourceRepository} for the {@code memory} profile, read from the other in-memory adapters.
+ */
+@Component
+@Primary
+@Profile("memory")
+@RequiredArgsConstructor
+public class SearchSourceInMemoryAdapter implements SearchSourceRepository {
+
+    private final FeedbackInMemoryAdapter feedbackAdapter;
+    private final TutoringInMemoryAdapter tutoringAdapter;
+    private final TutoringRequestInMemoryAdapter requestAdapter;
+
+    @Override
+    public List<SearchDocument> findDocuments(SearchDocumentType type, String afterId, int limit) {
+        Stream<SearchDocument> documents = switch (type) {
+            case FEEDBACK -> feedbackAdapter.findAll().stream()
+                    .map(feedback -> new SearchDocument(type, feedback.getId(), feedback.getComments()));
+            case TUTORING -> tutoringAdapter.findAll().stream()
+                    .map(tutoring -> new SearchDocument(type, tutoring.getId(), tutoring.getObjectives()));
+            case TUTORING_REQUEST -> requestAdapter.findAll().stream()
+                    .map(request -> new SearchDocument(type, request.getId(), request.getNeedsDescription()));
+        };
+        return documents
+                .filter(document -> document.text() != null && document.id().compareTo(afterId) > 0)
+                .sorted(Comparator.comparing(SearchDocument::id))
+                .limit(limit)
+                .toList();
+    }
+}
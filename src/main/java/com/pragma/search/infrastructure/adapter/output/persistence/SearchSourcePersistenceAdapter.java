@@ -0,0 +1,36 @@
+package com.pragma.search.infrastructure.adapter.output.persistence;
+
+import com.pragma.search.domain.model.SearchDocument;
+import com.pragma.search.domain.model.enums.SearchDocumentType;
+import com.pragma.search.domain.port.output.SearchSourceRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class SearchSourcePersistenceAdapter implements SearchSourceRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<SearchDocument> findDocuments(SearchDocumentType type, String afterId, int limit) {
+        String jpql = switch (type) {
+            case FEEDBACK -> "SELECT f.id, f.comments FROM FeedbackEntity f"
+                    + " WHERE f.id > :afterId AND f.comments IS NOT NULL ORDER BY f.id";
+            case TUTORING -> "SELECT t.id, t.objectives FROM TutoringEntity t"
+                    + " WHERE t.id > :afterId AND t.objectives IS NOT NULL ORDER BY t.id";
+            case TUTORING_REQUEST -> "SELECT r.id, r.needsDescription FROM TutoringRequestsEntity r"
+                    + " WHERE r.id > :afterId AND r.needsDescription IS NOT NULL ORDER BY r.id";
+        };
+        return entityManager.createQuery(jpql, Object[].class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(row -> new SearchDocument(type, (String) row[0], (String) row[1]))
+                .toList();
+    }
+}
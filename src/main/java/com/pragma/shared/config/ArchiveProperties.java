@@ -0,0 +1,47 @@
+package com.pragma.shared.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the job that moves closed tutorings to the archive tables.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.archive")
+public class ArchiveProperties {
+
+    /**
+     * Whether the job runs at all. Archived tutorings are only visible through the history reads,
+     * so the job is opt-in.
+     * Default: false
+     */
+    private boolean enabled = false;
+
+    /**
+     * Cron expression (in {@code app.sessions.default-zone}) of the job.
+     * Default: every day at 04:00
+     */
+    private String cron = "0 0 4 * * *";
+
+    /**
+     * Time since a Completada or Cancelada tutoring last changed before it is archived.
+     * Default: 365d
+     */
+    private Duration minAge = Duration.ofDays(365);
+
+    /**
+     * Tutorings moved per transaction, with their sessions and feedbacks.
+     * Default: 200
+     */
+    private int batchSize = 200;
+
+    /**
+     * How long a replica holds the job lease; renewed after every batch.
+     * Default: 10m
+     */
+    private Duration leaseDuration = Duration.ofMinutes(10);
+}
@@ -0,0 +1,21 @@
+package com.pragma.shared.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the streaming exports.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.export")
+public class ExportProperties {
+
+    /**
+     * Rows fetched per round trip and mapped before the persistence context is cleared.
+     * Bounds the memory used by an export regardless of the table size.
+     * Default: 500
+     */
+    private int chunkSize = 500;
+}
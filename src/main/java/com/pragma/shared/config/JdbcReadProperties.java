@@ -0,0 +1,27 @@
+package com.pragma.shared.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the JdbcTemplate-based read adapters (profile {@code jdbc}).
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.persistence.jdbc")
+public class JdbcReadProperties {
+
+    /**
+     * Number of rows the driver fetches per round trip when streaming list queries.
+     * MySQL only honours it when the URL enables {@code useCursorFetch=true}, as the {@code dev} profile does.
+     * Default: 500
+     */
+    private int fetchSize = 500;
+
+    /**
+     * Maximum number of identifiers bound in a single IN clause when loading skills.
+     * Default: 500
+     */
+    private int inClauseChunkSize = 500;
+}
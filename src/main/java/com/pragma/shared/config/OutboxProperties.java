@@ -0,0 +1,71 @@
+package com.pragma.shared.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the outbox of domain events and its dispatcher.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.outbox")
+public class OutboxProperties {
+
+    /**
+     * Whether the dispatcher delivers events. Events are still written to the outbox when disabled.
+     * Default: true
+     */
+    private boolean enabled = true;
+
+    /**
+     * Delay between the end of one dispatcher run and the start of the next.
+     * Default: 1s
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * Events read per query; the dispatcher keeps reading while batches come back full.
+     * Default: 100
+     */
+    private int batchSize = 100;
+
+    /**
+     * Deliveries tried before an event is left as FAILED for manual inspection.
+     * Default: 10
+     */
+    private int maxAttempts = 10;
+
+    /**
+     * Wait before the first retry; doubled after every further failure.
+     * Default: 5s
+     */
+    private Duration initialBackoff = Duration.ofSeconds(5);
+
+    /**
+     * Upper bound of the wait between retries.
+     * Default: 30m
+     */
+    private Duration maxBackoff = Duration.ofMinutes(30);
+
+    /**
+     * How long dispatched events are kept before the daily purge deletes them.
+     * Default: 7d
+     */
+    private Duration retention = Duration.ofDays(7);
+
+    /**
+     * Cron expression (in {@code app.sessions.default-zone}) of the purge.
+     * Default: every day at 03:45
+     */
+    private String purgeCron = "0 45 3 * * *";
+
+    /**
+     * How long a replica holds the dispatcher lease; renewed on every run, so the same replica keeps
+     * delivering while it is alive.
+     * Default: 30s
+     */
+    private Duration leaseDuration = Duration.ofSeconds(30);
+}
@@ -0,0 +1,57 @@
+package com.pragma.shared.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the tutor recommendation ranking.
+ * Each criterion is normalized to [0, 1] and weighted; the score is the weighted sum.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.recommendations")
+public class RecommendationProperties {
+
+    /**
+     * Weight of the share of requested skills the tutor has already tutored.
+     * Default: 0.40
+     */
+    private double skillWeight = 0.40;
+
+    /**
+     * Weight of the tutor belonging to the tutee's chapter.
+     * Default: 0.15
+     */
+    private double chapterWeight = 0.15;
+
+    /**
+     * Weight of the seniority gap between tutor and tutee.
+     * Default: 0.10
+     */
+    private double seniorityWeight = 0.10;
+
+    /**
+     * Weight of the share of the tutor's active tutoring limit still available.
+     * Default: 0.15
+     */
+    private double capacityWeight = 0.15;
+
+    /**
+     * Weight of the tutor's average rating.
+     * Default: 0.20
+     */
+    private double ratingWeight = 0.20;
+
+    /**
+     * Seniority levels above the tutee at which the seniority criterion is maxed out.
+     * Default: 2
+     */
+    private int idealSeniorityGap = 2;
+
+    /**
+     * Best-ranked tutors considered per request by the batch auto-assignment.
+     * Default: 25
+     */
+    private int assignmentCandidates = 25;
+}
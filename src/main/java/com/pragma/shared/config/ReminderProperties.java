@@ -0,0 +1,69 @@
+package com.pragma.shared.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for the reminders sent before scheduled tutoring sessions
+ * and for pending feedback on active tutorings.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.reminders")
+public class ReminderProperties {
+
+    /**
+     * Whether reminders are scheduled at all.
+     * Default: true
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long before the session each reminder is sent (e.g. {@code 24h,1h}).
+     * Default: 24h and 1h
+     */
+    private List<Duration> leadTimes = new ArrayList<>(List.of(Duration.ofHours(24), Duration.ofHours(1)));
+
+    /**
+     * Granularity of the timing wheel; reminders may be sent up to one tick late.
+     * Default: 1s
+     */
+    private Duration tickDuration = Duration.ofSeconds(1);
+
+    /**
+     * Number of buckets in the timing wheel. One rotation covers {@code tickDuration * wheelSize}.
+     * Default: 3600 (one hour with 1s ticks)
+     */
+    private int wheelSize = 3600;
+
+    /**
+     * Threads that send the reminders once they fire, so a slow notification never delays the wheel's ticks.
+     * Default: 2
+     */
+    private int workerThreads = 2;
+
+    /**
+     * Cron expression (in {@code app.sessions.default-zone}) of the job reminding participants
+     * of active tutorings to submit their feedback.
+     * Default: weekdays at 09:00
+     */
+    private String feedbackCron = "0 0 9 * * MON-FRI";
+
+    /**
+     * Tutorings read and notified per batch by the pending feedback job.
+     * Default: 200
+     */
+    private int feedbackBatchSize = 200;
+
+    /**
+     * How long the replica running the pending feedback job keeps the {@code feedback-reminders} lease
+     * after its last batch. Must exceed the clock skew between replicas and stay below the cron interval.
+     * Default: 30m
+     */
+    private Duration feedbackLeaseDuration = Duration.ofMinutes(30);
+}
@@ -0,0 +1,19 @@
+package com.pragma.shared.config;
+
+import com.pragma.shared.scheduling.HashedTimingWheel;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Clock;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public HashedTimingWheel reminderTimingWheel(ReminderProperties properties) {
+        return new HashedTimingWheel(properties.getTickDuration(), properties.getWheelSize(), Clock.systemUTC(),
+                properties.getWorkerThreads());
+    }
+}
@@ -0,0 +1,43 @@
+package com.pragma.shared.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the job folding statistic events into daily rollups.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.statistics")
+public class StatisticsProperties {
+
+    /**
+     * Cron expression (in {@code app.sessions.default-zone}) of the rollup job.
+     * Default: every five minutes
+     */
+    private String rollupCron = "0 */5 * * * *";
+
+    /**
+     * Events folded per transaction by the rollup job.
+     * Default: 500
+     */
+    private int rollupBatchSize = 500;
+
+    /**
+     * Events younger than this are left for the next run, so an event whose transaction commits after
+     * a later one is not skipped by the watermark. This only covers transactions shorter than the delay:
+     * an event committed later than that behind an already folded id is not counted.
+     * Default: 1m
+     */
+    private Duration settleDelay = Duration.ofMinutes(1);
+
+    /**
+     * How long the replica running the rollup job holds the {@code statistics-daily-rollup} lease;
+     * it is renewed before each batch, so it only needs to outlast one batch.
+     * Default: 5m
+     */
+    private Duration leaseDuration = Duration.ofMinutes(5);
+}
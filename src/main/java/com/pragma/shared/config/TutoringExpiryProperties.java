@@ -0,0 +1,47 @@
+package com.pragma.shared.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the sweep that flags active tutorings past their expected end date.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.tutorings.expiry")
+public class TutoringExpiryProperties {
+
+    /**
+     * Whether the sweep runs at all.
+     * Default: true
+     */
+    private boolean enabled = true;
+
+    /**
+     * Cron expression (in {@code app.sessions.default-zone}) of the sweep.
+     * Default: every day at 02:30
+     */
+    private String cron = "0 30 2 * * *";
+
+    /**
+     * Time after the expected end date before an active tutoring is considered overdue.
+     * Default: 7d
+     */
+    private Duration grace = Duration.ofDays(7);
+
+    /**
+     * Tutorings locked and moved per transaction.
+     * Default: 200
+     */
+    private int chunkSize = 200;
+
+    /**
+     * How long a replica holds the sweep lease; renewed after every chunk. If the replica dies, another
+     * one can run the sweep once the lease expires.
+     * Default: 10m
+     */
+    private Duration leaseDuration = Duration.ofMinutes(10);
+}
@@ -0,0 +1,44 @@
+package com.pragma.shared.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for tutoring sessions.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.sessions")
+public class TutoringSessionProperties {
+
+    /**
+     * Zone applied to session datetimes sent without an offset (e.g. {@code 2025-06-01T10:00}).
+     * Default: UTC
+     */
+    private String defaultZone = "UTC";
+
+    /**
+     * Widest window, in days, accepted by the participant sessions query.
+     * Default: 366
+     */
+    private int maxRangeDays = 366;
+
+    /**
+     * Most sessions a single recurring series may create.
+     * Default: 200
+     */
+    private int maxSeriesOccurrences = 200;
+
+    /**
+     * What to do when a new session overlaps another session of the tutor or tutee:
+     * {@code REJECT} fails the request, {@code FLAG} stores it with {@code hasConflict = true}.
+     * Default: REJECT
+     */
+    private ConflictPolicy conflictPolicy = ConflictPolicy.REJECT;
+
+    public enum ConflictPolicy {
+        REJECT,
+        FLAG
+    }
+}
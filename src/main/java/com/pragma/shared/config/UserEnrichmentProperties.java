@@ -0,0 +1,38 @@
+package com.pragma.shared.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the job that refreshes users from the external user API.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.users.enrichment")
+public class UserEnrichmentProperties {
+
+    /**
+     * Whether the scheduled job runs. Off by default because it calls the external API once per user.
+     * Default: false
+     */
+    private boolean enabled = false;
+
+    /**
+     * Users read, looked up and written per batch; the checkpoint advances after each batch.
+     * Default: 200
+     */
+    private int batchSize = 200;
+
+    /**
+     * Maximum external API calls in flight at once.
+     * Default: 8
+     */
+    private int maxConcurrency = 8;
+
+    /**
+     * Maximum external API calls started per second; 0 or less disables the limit.
+     * Default: 10
+     */
+    private double requestsPerSecond = 10;
+}
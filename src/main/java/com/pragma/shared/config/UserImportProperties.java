@@ -0,0 +1,26 @@
+package com.pragma.shared.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the bulk user import.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.users.import")
+public class UserImportProperties {
+
+    /**
+     * Valid rows inserted and committed per transaction. A failed chunk only rejects its own rows.
+     * Default: 1000
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * Maximum number of rejected rows listed in the report; the rest are only counted.
+     * Default: 1000
+     */
+    private int maxReportedErrors = 1000;
+}
@@ -0,0 +1,12 @@
+package com.pragma.shared.events;
+
+import java.time.Instant;
+
+/**
+ * Something that happened in the domain and that other modules may react to. Events are records of ids
+ * and values only, serialised as JSON in the outbox; the simple class name identifies the type.
+ */
+public interface DomainEvent {
+
+    Instant occurredAt();
+}
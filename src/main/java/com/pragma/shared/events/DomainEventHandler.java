@@ -0,0 +1,23 @@
+package com.pragma.shared.events;
+
+/**
+ * In-process subscriber to one type of domain event. Database writes made by the handler commit together
+ * with the event being marked as dispatched, so they happen exactly once.
+ * <p>
+ * Handlers with effects outside the database (sending a message) declare themselves {@link #external()}:
+ * they run before that transaction and outside it, and are repeated only when the event could not be
+ * marked afterwards. Such an event should carry a single effect, e.g. one message to one recipient.
+ */
+public interface DomainEventHandler<E extends DomainEvent> {
+
+    Class<E> eventType();
+
+    void handle(E event);
+
+    /**
+     * Whether the handler acts outside the database and must not run inside the delivery transaction.
+     */
+    default boolean external() {
+        return false;
+    }
+}
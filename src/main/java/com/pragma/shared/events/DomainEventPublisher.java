@@ -0,0 +1,17 @@
+package com.pragma.shared.events;
+
+import java.util.List;
+
+/**
+ * Records domain events for asynchronous delivery. Inside a transaction the events are written with it
+ * and only exist if it commits; the subscribers run later, outside the request.
+ */
+public interface DomainEventPublisher {
+
+    void publish(DomainEvent event);
+
+    /**
+     * Like {@link #publish(DomainEvent)}, written as one batch even without a surrounding transaction.
+     */
+    void publishAll(List<? extends DomainEvent> events);
+}
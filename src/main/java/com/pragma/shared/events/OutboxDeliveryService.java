@@ -0,0 +1,103 @@
+package com.pragma.shared.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.shared.config.OutboxProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Delivers one outbox event to the handlers of its type and marks it dispatched in the same transaction,
+ * so the database work of a successful delivery is never repeated. External handlers run first, outside
+ * any transaction, so no connection or row is held while they call other systems. A failed delivery is
+ * rolled back and retried with exponential backoff until {@code app.outbox.max-attempts}.
+ */
+@Service
+@Slf4j
+public class OutboxDeliveryService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final OutboxProperties properties;
+    private final Map<String, List<DomainEventHandler<?>>> handlersByType;
+
+    public OutboxDeliveryService(OutboxRepository outboxRepository, ObjectMapper objectMapper, OutboxProperties properties,
+                                 List<DomainEventHandler<?>> handlers) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.handlersByType = handlers.stream()
+                .collect(Collectors.groupingBy(handler -> handler.eventType().getSimpleName()));
+    }
+
+    /**
+     * Runs the external handlers of the event. Called without a transaction, right before {@link #deliver}.
+     */
+    public void deliverExternal(OutboxEvent event) {
+        for (DomainEventHandler<?> handler : handlersByType.getOrDefault(event.getType(), List.of())) {
+            if (handler.external()) {
+                handle(handler, event);
+            }
+        }
+    }
+
+    @Transactional
+    public void deliver(OutboxEvent event, Instant now) {
+        // Un evento sin suscriptores se da por entregado
+        for (DomainEventHandler<?> handler : handlersByType.getOrDefault(event.getType(), List.of())) {
+            if (!handler.external()) {
+                handle(handler, event);
+            }
+        }
+        outboxRepository.markDispatched(List.of(event.getId()), now);
+    }
+
+    @Transactional
+    public void recordFailure(OutboxEvent event, Exception error, Instant now) {
+        int attempts = event.getAttempts() + 1;
+        String message = truncate(error.getClass().getSimpleName() + ": " + error.getMessage());
+        if (attempts >= properties.getMaxAttempts()) {
+            log.error("Evento {} ({}) marcado como fallido tras {} intentos: {}", event.getId(), event.getType(), attempts, message);
+            outboxRepository.recordFailure(event.getId(), attempts, OutboxStatus.FAILED, now, message);
+            return;
+        }
+        Instant nextAttemptAt = now.plus(backoff(attempts));
+        log.warn("Error al entregar el evento {} ({}), intento {}; se reintentará a las {}: {}",
+                event.getId(), event.getType(), attempts, nextAttemptAt, message);
+        outboxRepository.recordFailure(event.getId(), attempts, OutboxStatus.PENDING, nextAttemptAt, message);
+    }
+
+    /**
+     * Wait after the given number of failed attempts: the initial backoff doubled per further attempt, capped.
+     */
+    Duration backoff(int attempts) {
+        Duration backoff = properties.getInitialBackoff();
+        for (int i = 1; i < attempts && backoff.compareTo(properties.getMaxBackoff()) < 0; i++) {
+            backoff = backoff.multipliedBy(2);
+        }
+        return backoff.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : backoff;
+    }
+
+    private <E extends DomainEvent> void handle(DomainEventHandler<E> handler, OutboxEvent event) {
+        E payload;
+        try {
+            payload = objectMapper.readValue(event.getPayload(), handler.eventType());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo leer el evento " + event.getId() + " como " + event.getType(), e);
+        }
+        handler.handle(payload);
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,87 @@
+package com.pragma.shared.events;
+
+import com.pragma.shared.config.OutboxProperties;
+import com.pragma.shared.scheduling.JobLeaseRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Polls the outbox and hands due events to {@link OutboxDeliveryService}, one transaction per event.
+ * Only the replica holding the {@code outbox-dispatcher} lease delivers; it renews the lease before every
+ * event and stops as soon as it is lost, so events are delivered by one replica at a time in occurrence
+ * order, except for those waiting for a retry.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxDispatcher {
+
+    static final String JOB = "outbox-dispatcher";
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxDeliveryService outboxDeliveryService;
+    private final JobLeaseRepository jobLeaseRepository;
+    private final OutboxProperties properties;
+
+    private final String owner = UUID.randomUUID().toString();
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval:1s}", initialDelayString = "${app.outbox.poll-interval:1s}")
+    public void run() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        dispatchDue();
+    }
+
+    /**
+     * Delivers the due events batch by batch while this replica holds the lease and returns how many were delivered.
+     */
+    public int dispatchDue() {
+        int batchSize = properties.getBatchSize();
+        int dispatched = 0;
+        List<OutboxEvent> batch;
+        do {
+            Instant now = Instant.now();
+            batch = outboxRepository.findDue(now, batchSize);
+            for (OutboxEvent event : batch) {
+                // Un envío lento no debe dejar que otra réplica tome el lease y repita los eventos
+                if (!renewLease()) {
+                    return dispatched;
+                }
+                try {
+                    outboxDeliveryService.deliverExternal(event);
+                    outboxDeliveryService.deliver(event, now);
+                    dispatched++;
+                } catch (RuntimeException e) {
+                    outboxDeliveryService.recordFailure(event, e, now);
+                }
+            }
+        } while (batch.size() == batchSize);
+        return dispatched;
+    }
+
+    @Scheduled(cron = "${app.outbox.purge-cron:0 45 3 * * *}", zone = "${app.sessions.default-zone:UTC}")
+    public void purge() {
+        int deleted = outboxRepository.deleteDispatchedBefore(Instant.now().minus(properties.getRetention()));
+        if (deleted > 0) {
+            log.info("Eventos entregados eliminados del outbox: {}", deleted);
+        }
+    }
+
+    @PreDestroy
+    public void releaseLease() {
+        jobLeaseRepository.release(JOB, owner);
+    }
+
+    private boolean renewLease() {
+        Instant now = Instant.now();
+        return jobLeaseRepository.tryAcquire(JOB, owner, now, now.plus(properties.getLeaseDuration()));
+    }
+}
@@ -0,0 +1,21 @@
+package com.pragma.shared.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+    private String id;
+    private String type;
+    private String payload;
+    private Instant occurredAt;
+    private OutboxStatus status;
+    private int attempts;
+    private Instant nextAttemptAt;
+    private String lastError;
+}
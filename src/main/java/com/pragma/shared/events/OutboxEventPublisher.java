@@ -0,0 +1,54 @@
+package com.pragma.shared.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.shared.persistence.BeforeCommitBatch;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Writes domain events to the outbox. The events of a transaction are inserted as one batch just before
+ * it commits, so they are stored if and only if the changes that produced them are.
+ */
+@Component
+public class OutboxEventPublisher implements DomainEventPublisher {
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final BeforeCommitBatch<OutboxEvent> pending;
+
+    public OutboxEventPublisher(OutboxRepository outboxRepository, ObjectMapper objectMapper) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.pending = new BeforeCommitBatch<>(outboxRepository::saveAll);
+    }
+
+    @Override
+    public void publish(DomainEvent event) {
+        pending.add(toOutboxEvent(event));
+    }
+
+    @Override
+    public void publishAll(List<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<OutboxEvent> outboxEvents = events.stream().map(this::toOutboxEvent).toList();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            outboxRepository.saveAll(outboxEvents);
+            return;
+        }
+        outboxEvents.forEach(pending::add);
+    }
+
+    private OutboxEvent toOutboxEvent(DomainEvent event) {
+        try {
+            return new OutboxEvent(null, event.getClass().getSimpleName(), objectMapper.writeValueAsString(event),
+                    event.occurredAt(), OutboxStatus.PENDING, 0, event.occurredAt(), null);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("No se pudo serializar el evento " + event.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.pragma.shared.events;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Table of domain events waiting to be delivered to their subscribers.
+ */
+public interface OutboxRepository {
+
+    /**
+     * Inserts the events, assigning their ids; written as one JDBC batch where the store supports it.
+     */
+    void saveAll(List<OutboxEvent> events);
+
+    /**
+     * Up to {@code limit} pending events whose next attempt is due at {@code now}, oldest first.
+     */
+    List<OutboxEvent> findDue(Instant now, int limit);
+
+    /**
+     * Marks the events as delivered at {@code dispatchedAt}. Returns the number of events changed.
+     */
+    int markDispatched(Collection<String> ids, Instant dispatchedAt);
+
+    /**
+     * Records a failed delivery: the new attempt count, the resulting status and when to try again.
+     */
+    void recordFailure(String id, int attempts, OutboxStatus status, Instant nextAttemptAt, String lastError);
+
+    /**
+     * Deletes the events dispatched before {@code before}. Returns the number of events deleted.
+     */
+    int deleteDispatchedBefore(Instant before);
+}
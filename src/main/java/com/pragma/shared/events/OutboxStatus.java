@@ -0,0 +1,10 @@
+package com.pragma.shared.events;
+
+/**
+ * Delivery state of an outbox event.
+ */
+public enum OutboxStatus {
+    PENDING,
+    DISPATCHED,
+    FAILED
+}
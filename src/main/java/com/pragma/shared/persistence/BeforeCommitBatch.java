@@ -0,0 +1,59 @@
+package com.pragma.shared.persistence;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Collects the rows appended during a transaction and hands them to {@code flush} in a single call just
+ * before commit, so they are inserted as one JDBC batch inside the same transaction. Without a
+ * transaction each row is flushed at once.
+ */
+public final class BeforeCommitBatch<T> {
+
+    private final Consumer<List<T>> flush;
+
+    public BeforeCommitBatch(Consumer<List<T>> flush) {
+        this.flush = flush;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void add(T item) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            flush.accept(List.of(item));
+            return;
+        }
+        List<T> pending = (List<T>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<T> batch = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, batch);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    flush.accept(List.copyOf(batch));
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(BeforeCommitBatch.this);
+                }
+            });
+            pending = batch;
+        }
+        pending.add(item);
+    }
+
+    /**
+     * Rows added in the current transaction and not flushed yet.
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> pending() {
+        List<T> pending = TransactionSynchronizationManager.isSynchronizationActive()
+                ? (List<T>) TransactionSynchronizationManager.getResource(this)
+                : null;
+        return pending == null ? List.of() : List.copyOf(pending);
+    }
+}
@@ -0,0 +1,22 @@
+package com.pragma.shared.persistence;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Flushes the JPA persistence context before a plain JDBC read. JdbcTemplate runs on the connection of the
+ * current transaction but bypasses Hibernate's auto-flush, so without this a JDBC read would not see the
+ * entities saved or changed earlier in the same read-write transaction.
+ */
+public final class PendingWrites {
+
+    private PendingWrites() {
+    }
+
+    public static void flush(EntityManager entityManager) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            entityManager.flush();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.pragma.shared.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Reads the results of a JPA query through a scrolling cursor and hands them to {@code chunkConsumer}
+ * {@code chunkSize} entities at a time. The persistence context is cleared after every chunk and the
+ * driver fetches {@code chunkSize} rows per round trip, so memory is bounded by one chunk regardless of
+ * how many rows the query returns. MySQL Connector/J only honours the fetch size when the URL enables
+ * {@code useCursorFetch=true} (set in the {@code dev} profile); otherwise it buffers the whole result set.
+ * Must run inside a transaction.
+ */
+public final class ScrollingQuery {
+
+    private ScrollingQuery() {
+    }
+
+    public static <E> void forEachChunk(EntityManager entityManager, TypedQuery<E> query, int chunkSize,
+                                        Consumer<List<E>> chunkConsumer) {
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, chunkSize);
+        List<E> chunk = new ArrayList<>(chunkSize);
+        try (Stream<E> rows = query.getResultStream()) {
+            Iterator<E> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == chunkSize) {
+                    flush(entityManager, chunk, chunkConsumer);
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            flush(entityManager, chunk, chunkConsumer);
+        }
+    }
+
+    private static <E> void flush(EntityManager entityManager, List<E> chunk, Consumer<List<E>> chunkConsumer) {
+        chunkConsumer.accept(chunk);
+        chunk.clear();
+        entityManager.clear();
+    }
+}
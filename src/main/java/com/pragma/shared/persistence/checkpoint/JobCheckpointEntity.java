@@ -0,0 +1,28 @@
+package com.pragma.shared.persistence.checkpoint;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "job_checkpoints")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobCheckpointEntity {
+    @Id
+    @Column(name = "job_name")
+    private String jobName;
+
+    @Column(name = "watermark", nullable = false)
+    private long watermark; // "Último evento procesado por el job"
+
+    @Column(name = "last_id")
+    private String lastId; // "Último registro procesado, para jobs que recorren por id de texto"
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
@@ -0,0 +1,8 @@
+package com.pragma.shared.persistence.checkpoint;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SpringDataJobCheckpointRepository extends JpaRepository<JobCheckpointEntity, String> {
+}
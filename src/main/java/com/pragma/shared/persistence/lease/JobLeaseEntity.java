@@ -0,0 +1,25 @@
+package com.pragma.shared.persistence.lease;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "job_leases")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobLeaseEntity {
+    @Id
+    @Column(name = "job_name")
+    private String jobName;
+
+    @Column(name = "owner", nullable = false)
+    private String owner; // "Réplica que tiene el lease"
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt; // "Instante a partir del cual otra réplica puede tomarlo"
+}
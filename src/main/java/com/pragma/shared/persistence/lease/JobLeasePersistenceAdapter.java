@@ -0,0 +1,41 @@
+package com.pragma.shared.persistence.lease;
+
+import com.pragma.shared.scheduling.JobLeaseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Leases as rows of {@code job_leases}. Taking or extending a lease is one conditional UPDATE, so two
+ * replicas can never both succeed; the row is created on first use and the primary key settles that race.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobLeasePersistenceAdapter implements JobLeaseRepository {
+
+    private final SpringDataJobLeaseRepository repository;
+
+    @Override
+    public boolean tryAcquire(String jobName, String owner, Instant now, Instant expiresAt) {
+        if (repository.takeOver(jobName, owner, now, expiresAt) == 1) {
+            return true;
+        }
+        if (repository.existsById(jobName)) {
+            return false;
+        }
+        try {
+            repository.insert(jobName, owner, expiresAt);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // Otra réplica creó el lease entre la comprobación y el INSERT
+            return false;
+        }
+    }
+
+    @Override
+    public void release(String jobName, String owner) {
+        repository.expire(jobName, owner, Instant.EPOCH);
+    }
+}
@@ -0,0 +1,33 @@
+package com.pragma.shared.persistence.lease;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+@Repository
+public interface SpringDataJobLeaseRepository extends JpaRepository<JobLeaseEntity, String> {
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE JobLeaseEntity l SET l.owner = :owner, l.expiresAt = :expiresAt "
+            + "WHERE l.jobName = :jobName AND (l.owner = :owner OR l.expiresAt <= :now)")
+    int takeOver(@Param("jobName") String jobName, @Param("owner") String owner,
+                 @Param("now") Instant now, @Param("expiresAt") Instant expiresAt);
+
+    // INSERT explícito: save() haría merge y podría pisar el lease que otra réplica acaba de crear
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO job_leases (job_name, owner, expires_at) VALUES (:jobName, :owner, :expiresAt)",
+            nativeQuery = true)
+    void insert(@Param("jobName") String jobName, @Param("owner") String owner, @Param("expiresAt") Instant expiresAt);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE JobLeaseEntity l SET l.expiresAt = :expiresAt WHERE l.jobName = :jobName AND l.owner = :owner")
+    int expire(@Param("jobName") String jobName, @Param("owner") String owner, @Param("expiresAt") Instant expiresAt);
+}
@@ -0,0 +1,73 @@
+package com.pragma.shared.persistence.memory;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Secondary index for the in-memory adapters (profile {@code memory}): maps a field value
+ * to the identifiers of the records holding it. Callers serialise writes; reads are lock-free.
+ */
+public class InMemoryIndex<K> {
+
+    private final ConcurrentHashMap<K, Set<String>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Moves {@code id} from {@code oldKey} to {@code newKey}. Null keys are not indexed.
+     */
+    public void update(K oldKey, K newKey, String id) {
+        if (Objects.equals(oldKey, newKey)) {
+            if (newKey != null) {
+                add(newKey, id);
+            }
+            return;
+        }
+        if (oldKey != null) {
+            remove(oldKey, id);
+        }
+        if (newKey != null) {
+            add(newKey, id);
+        }
+    }
+
+    /**
+     * Multi-valued variant of {@link #update(Object, Object, String)}, used for many-to-many fields.
+     */
+    public void updateAll(Collection<K> oldKeys, Collection<K> newKeys, String id) {
+        if (oldKeys != null) {
+            oldKeys.stream()
+                    .filter(key -> newKeys == null || !newKeys.contains(key))
+                    .forEach(key -> remove(key, id));
+        }
+        if (newKeys != null) {
+            newKeys.stream().filter(Objects::nonNull).forEach(key -> add(key, id));
+        }
+    }
+
+    /**
+     * Identifiers indexed under {@code key}; an empty set when there are none.
+     */
+    public Set<String> get(K key) {
+        if (key == null) {
+            return Set.of();
+        }
+        Set<String> ids = entries.get(key);
+        return ids == null ? Set.of() : Set.copyOf(ids);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private void add(K key, String id) {
+        entries.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(id);
+    }
+
+    private void remove(K key, String id) {
+        entries.computeIfPresent(key, (k, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+}
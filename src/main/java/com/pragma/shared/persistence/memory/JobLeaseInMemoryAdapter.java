@@ -0,0 +1,43 @@
+package com.pragma.shared.persistence.memory;
+
+import com.pragma.shared.scheduling.JobLeaseRepository;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * In-memory {@link JobLeaseRepository} for the {@code memory} profile. Only one process sees it,
+ * so it serialises runs within this instance.
+ */
+@Component
+@Primary
+@Profile("memory")
+public class JobLeaseInMemoryAdapter implements JobLeaseRepository {
+
+    private final Map<String, Lease> leases = new HashMap<>();
+
+    @Override
+    public synchronized boolean tryAcquire(String jobName, String owner, Instant now, Instant expiresAt) {
+        Lease current = leases.get(jobName);
+        if (current != null && !current.owner().equals(owner) && current.expiresAt().isAfter(now)) {
+            return false;
+        }
+        leases.put(jobName, new Lease(owner, expiresAt));
+        return true;
+    }
+
+    @Override
+    public synchronized void release(String jobName, String owner) {
+        Lease current = leases.get(jobName);
+        if (current != null && current.owner().equals(owner)) {
+            leases.put(jobName, new Lease(owner, Instant.EPOCH));
+        }
+    }
+
+    private record Lease(String owner, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,92 @@
+package com.pragma.shared.persistence.memory;
+
+import com.pragma.shared.events.OutboxEvent;
+import com.pragma.shared.events.OutboxRepository;
+import com.pragma.shared.events.OutboxStatus;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory {@link OutboxRepository} for the {@code memory} profile. Events are copied on the way in and out.
+ */
+@Component
+@Primary
+@Profile("memory")
+public class OutboxInMemoryAdapter implements OutboxRepository {
+
+    private final Map<String, OutboxEvent> events = new HashMap<>();
+    private final Map<String, Instant> dispatchedAt = new HashMap<>();
+
+    @Override
+    public synchronized void saveAll(List<OutboxEvent> newEvents) {
+        for (OutboxEvent event : newEvents) {
+            if (event.getId() == null) {
+                event.setId(UUID.randomUUID().toString());
+            }
+            events.put(event.getId(), copy(event));
+        }
+    }
+
+    @Override
+    public synchronized List<OutboxEvent> findDue(Instant now, int limit) {
+        return events.values().stream()
+                .filter(event -> event.getStatus() == OutboxStatus.PENDING && !event.getNextAttemptAt().isAfter(now))
+                .sorted(Comparator.comparing(OutboxEvent::getOccurredAt).thenComparing(OutboxEvent::getId))
+                .limit(limit)
+                .map(OutboxInMemoryAdapter::copy)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public synchronized int markDispatched(Collection<String> ids, Instant at) {
+        int updated = 0;
+        for (String id : ids) {
+            OutboxEvent event = events.get(id);
+            if (event != null) {
+                event.setStatus(OutboxStatus.DISPATCHED);
+                dispatchedAt.put(id, at);
+                updated++;
+            }
+        }
+        return updated;
+    }
+
+    @Override
+    public synchronized void recordFailure(String id, int attempts, OutboxStatus status, Instant nextAttemptAt, String lastError) {
+        OutboxEvent event = events.get(id);
+        if (event != null) {
+            event.setAttempts(attempts);
+            event.setStatus(status);
+            event.setNextAttemptAt(nextAttemptAt);
+            event.setLastError(lastError);
+        }
+    }
+
+    @Override
+    public synchronized int deleteDispatchedBefore(Instant before) {
+        List<String> expired = dispatchedAt.entrySet().stream()
+                .filter(entry -> entry.getValue().isBefore(before))
+                .map(Map.Entry::getKey)
+                .toList();
+        expired.forEach(id -> {
+            events.remove(id);
+            dispatchedAt.remove(id);
+        });
+        return expired.size();
+    }
+
+    private static OutboxEvent copy(OutboxEvent event) {
+        return new OutboxEvent(event.getId(), event.getType(), event.getPayload(), event.getOccurredAt(), event.getStatus(),
+                event.getAttempts(), event.getNextAttemptAt(), event.getLastError());
+    }
+}
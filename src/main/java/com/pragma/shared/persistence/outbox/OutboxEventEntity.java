@@ -0,0 +1,49 @@
+package com.pragma.shared.persistence.outbox;
+
+import com.pragma.shared.events.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_due", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_outbox_dispatched", columnList = "dispatched_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEventEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id; // "UUID generado por Hibernate, permite insertar por lotes"
+
+    @Column(name = "event_type", nullable = false)
+    private String type; // "Nombre simple del record del evento"
+
+    @Lob
+    @Column(name = "payload", nullable = false)
+    private String payload; // "Evento serializado en JSON"
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    @Column(name = "status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private OutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt; // "El evento no se entrega antes de este instante"
+
+    @Column(name = "dispatched_at")
+    private Instant dispatchedAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+}
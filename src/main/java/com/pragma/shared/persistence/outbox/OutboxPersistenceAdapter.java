@@ -0,0 +1,69 @@
+package com.pragma.shared.persistence.outbox;
+
+import com.pragma.shared.events.OutboxEvent;
+import com.pragma.shared.events.OutboxRepository;
+import com.pragma.shared.events.OutboxStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Outbox as rows of {@code outbox_events}. Pending events are read through the (status, next attempt) index.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxPersistenceAdapter implements OutboxRepository {
+
+    private final SpringDataOutboxEventRepository repository;
+
+    @Override
+    @Transactional
+    public void saveAll(List<OutboxEvent> events) {
+        // Ids UUID generados por Hibernate: los INSERT se agrupan según hibernate.jdbc.batch_size
+        List<OutboxEventEntity> saved = repository.saveAll(events.stream().map(OutboxPersistenceAdapter::toEntity).toList());
+        for (int i = 0; i < events.size(); i++) {
+            events.get(i).setId(saved.get(i).getId());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OutboxEvent> findDue(Instant now, int limit) {
+        return repository.findDue(OutboxStatus.PENDING, now, PageRequest.ofSize(limit)).stream()
+                .map(OutboxPersistenceAdapter::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public int markDispatched(Collection<String> ids, Instant dispatchedAt) {
+        return ids.isEmpty() ? 0 : repository.markDispatched(ids, OutboxStatus.DISPATCHED, dispatchedAt);
+    }
+
+    @Override
+    @Transactional
+    public void recordFailure(String id, int attempts, OutboxStatus status, Instant nextAttemptAt, String lastError) {
+        repository.recordFailure(id, attempts, status, nextAttemptAt, lastError);
+    }
+
+    @Override
+    @Transactional
+    public int deleteDispatchedBefore(Instant before) {
+        return repository.deleteDispatchedBefore(OutboxStatus.DISPATCHED, before);
+    }
+
+    private static OutboxEventEntity toEntity(OutboxEvent event) {
+        return new OutboxEventEntity(event.getId(), event.getType(), event.getPayload(), event.getOccurredAt(),
+                event.getStatus(), event.getAttempts(), event.getNextAttemptAt(), null, event.getLastError());
+    }
+
+    private static OutboxEvent toDomain(OutboxEventEntity entity) {
+        return new OutboxEvent(entity.getId(), entity.getType(), entity.getPayload(), entity.getOccurredAt(),
+                entity.getStatus(), entity.getAttempts(), entity.getNextAttemptAt(), entity.getLastError());
+    }
+}
@@ -0,0 +1,36 @@
+package com.pragma.shared.persistence.outbox;
+
+import com.pragma.shared.events.OutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SpringDataOutboxEventRepository extends JpaRepository<OutboxEventEntity, String> {
+
+    @Query("SELECT e FROM OutboxEventEntity e WHERE e.status = :status AND e.nextAttemptAt <= :now "
+            + "ORDER BY e.occurredAt, e.id")
+    List<OutboxEventEntity> findDue(@Param("status") OutboxStatus status, @Param("now") Instant now, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboxEventEntity e SET e.status = :status, e.dispatchedAt = :dispatchedAt WHERE e.id IN :ids")
+    int markDispatched(@Param("ids") Collection<String> ids, @Param("status") OutboxStatus status,
+                       @Param("dispatchedAt") Instant dispatchedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboxEventEntity e SET e.attempts = :attempts, e.status = :status, e.nextAttemptAt = :nextAttemptAt, "
+            + "e.lastError = :lastError WHERE e.id = :id")
+    int recordFailure(@Param("id") String id, @Param("attempts") int attempts, @Param("status") OutboxStatus status,
+                      @Param("nextAttemptAt") Instant nextAttemptAt, @Param("lastError") String lastError);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM OutboxEventEntity e WHERE e.status = :status AND e.dispatchedAt < :before")
+    int deleteDispatchedBefore(@Param("status") OutboxStatus status, @Param("before") Instant before);
+}
@@ -0,0 +1,185 @@
+package com.pragma.shared.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hashed timing wheel: a ring of {@code wheelSize} buckets, each covering one {@code tickDuration}.
+ * A task due in {@code n} ticks goes to bucket {@code n % wheelSize} with {@code n / wheelSize}
+ * remaining rounds, so scheduling and cancelling are O(1) regardless of how many tasks are pending.
+ * Each tick only visits one bucket. Tasks fire with up to one tick of delay. With {@code workerThreads}
+ * they run on a pool of that size started with the wheel, so slow tasks (I/O, notifications) never hold up
+ * the tick thread; without it they run on the tick thread and must be short.
+ *
+ * <p>Tasks are identified by a caller-chosen key; scheduling an existing key replaces it.
+ */
+@Slf4j
+public class HashedTimingWheel {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final Clock clock;
+    private final long startMillis;
+    private final int workerThreads;
+    private final List<Set<Timeout>> buckets;
+    private final Map<String, Timeout> byKey = new HashMap<>();
+
+    private long nextTick = 1;
+    private ScheduledExecutorService ticker;
+    private ExecutorService workers;
+
+    public HashedTimingWheel(Duration tickDuration, int wheelSize, Clock clock) {
+        this(tickDuration, wheelSize, clock, 0);
+    }
+
+    public HashedTimingWheel(Duration tickDuration, int wheelSize, Clock clock, int workerThreads) {
+        if (tickDuration.toMillis() <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("Tick duration and wheel size must be positive");
+        }
+        if (workerThreads < 0) {
+            throw new IllegalArgumentException("Worker threads must not be negative");
+        }
+        this.workerThreads = workerThreads;
+        this.tickMillis = tickDuration.toMillis();
+        this.wheelSize = wheelSize;
+        this.clock = clock;
+        this.startMillis = clock.millis();
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new LinkedHashSet<>());
+        }
+    }
+
+    /**
+     * Schedules {@code task} to run at {@code deadline} (or on the next tick if it is already due).
+     */
+    public synchronized void schedule(String key, Instant deadline, Runnable task) {
+        cancel(key);
+        long dueTick = Math.max(nextTick, ceilDiv(deadline.toEpochMilli() - startMillis, tickMillis));
+        Timeout timeout = new Timeout(key, task, (dueTick - nextTick) / wheelSize, (int) (dueTick % wheelSize));
+        buckets.get(timeout.bucket).add(timeout);
+        byKey.put(key, timeout);
+    }
+
+    /**
+     * Cancels the task registered under {@code key}. Returns {@code false} if there was none.
+     */
+    public synchronized boolean cancel(String key) {
+        Timeout timeout = byKey.remove(key);
+        if (timeout == null) {
+            return false;
+        }
+        buckets.get(timeout.bucket).remove(timeout);
+        return true;
+    }
+
+    public synchronized int pending() {
+        return byKey.size();
+    }
+
+    /**
+     * Processes every tick that has elapsed according to the clock and runs the expired tasks.
+     * Called by the internal ticker; exposed so tests can drive the wheel with a fixed clock.
+     */
+    public void advance() {
+        List<Timeout> expired = new ArrayList<>();
+        ExecutorService executor;
+        synchronized (this) {
+            executor = workers;
+            long now = clock.millis();
+            while (startMillis + nextTick * tickMillis <= now) {
+                Iterator<Timeout> iterator = buckets.get((int) (nextTick % wheelSize)).iterator();
+                while (iterator.hasNext()) {
+                    Timeout timeout = iterator.next();
+                    if (timeout.rounds == 0) {
+                        iterator.remove();
+                        byKey.remove(timeout.key);
+                        expired.add(timeout);
+                    } else {
+                        timeout.rounds--;
+                    }
+                }
+                nextTick++;
+            }
+        }
+        for (Timeout timeout : expired) {
+            if (executor == null) {
+                run(timeout);
+            } else {
+                executor.execute(() -> run(timeout));
+            }
+        }
+    }
+
+    public synchronized void start() {
+        if (ticker != null) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "timing-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (workerThreads > 0) {
+            AtomicInteger count = new AtomicInteger();
+            workers = Executors.newFixedThreadPool(workerThreads, runnable -> {
+                Thread thread = new Thread(runnable, "timing-wheel-worker-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        ticker.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+        if (workers != null) {
+            workers.shutdownNow();
+            workers = null;
+        }
+    }
+
+    private static void run(Timeout timeout) {
+        try {
+            timeout.task.run();
+        } catch (RuntimeException e) {
+            log.error("Error ejecutando la tarea programada {}: {}", timeout.key, e.getMessage(), e);
+        }
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return -Math.floorDiv(-dividend, divisor);
+    }
+
+    private static final class Timeout {
+        private final String key;
+        private final Runnable task;
+        private final int bucket;
+        private long rounds;
+
+        private Timeout(String key, Runnable task, long rounds, int bucket) {
+            this.key = key;
+            this.task = task;
+            this.rounds = rounds;
+            this.bucket = bucket;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.pragma.shared.scheduling;
+
+import java.time.Instant;
+
+/**
+ * Database-backed leases that keep a scheduled job running on one replica at a time.
+ * A lease belongs to its owner until it expires or is released; after that any replica can take it.
+ */
+public interface JobLeaseRepository {
+
+    /**
+     * Takes the lease of {@code jobName} for {@code owner} until {@code expiresAt}, or extends it if
+     * {@code owner} already holds it. Returns {@code false} if another owner holds an unexpired lease at {@code now}.
+     */
+    boolean tryAcquire(String jobName, String owner, Instant now, Instant expiresAt);
+
+    /**
+     * Gives up the lease of {@code jobName} if {@code owner} still holds it.
+     */
+    void release(String jobName, String owner);
+}
@@ -0,0 +1,117 @@
+package com.pragma.skills.infrastructure.adapter.output.jdbc;
+
+import com.pragma.skills.domain.model.Skill;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Loads the skills attached to a set of owners (tutorings or tutoring requests) through
+ * their many-to-many join table, in chunked IN queries, and groups them by owner id.
+ */
+public class SkillJdbcLoader {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String joinTable;
+    private final String ownerColumn;
+    private final String skillColumn;
+    private final int chunkSize;
+
+    public SkillJdbcLoader(JdbcTemplate jdbcTemplate, String joinTable, String ownerColumn, String skillColumn, int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.joinTable = joinTable;
+        this.ownerColumn = ownerColumn;
+        this.skillColumn = skillColumn;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Loads the skills of the given owners. Owners without skills are absent from the result.
+     */
+    public Map<String, List<Skill>> loadByOwnerIds(Collection<String> ownerIds) {
+        if (ownerIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, List<Skill>> skillsByOwner = new HashMap<>();
+        List<String> ids = new ArrayList<>(ownerIds);
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<String> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            String sql = selectSkills() + " WHERE j." + ownerColumn + " IN (" + placeholders + ")";
+            collect(sql, skillsByOwner, chunk.toArray());
+        }
+        return skillsByOwner;
+    }
+
+    /**
+     * Loads the skills of every owner in a single pass, used by unfiltered list queries.
+     */
+    public Map<String, List<Skill>> loadAll() {
+        Map<String, List<Skill>> skillsByOwner = new HashMap<>();
+        collect(selectSkills(), skillsByOwner);
+        return skillsByOwner;
+    }
+
+    /**
+     * Streams the owners selected by {@code ownerSql}, which must expose the owner id as {@code id}, joined
+     * with their skills in a single query ordered by owner. The rows of each owner are consecutive, so only
+     * the owner being read is held in memory; it is handed to {@code consumer} once its last row is read.
+     */
+    public <T> void streamWithSkills(String ownerSql, RowMapper<T> ownerMapper, BiConsumer<T, List<Skill>> attach,
+                                     Consumer<T> consumer) {
+        String sql = "SELECT o.*, s.id AS skill_id, s.name AS skill_name FROM (" + ownerSql + ") o"
+                + " LEFT JOIN " + joinTable + " j ON j." + ownerColumn + " = o.id"
+                + " LEFT JOIN skills s ON s.id = j." + skillColumn
+                + " ORDER BY o.id";
+        OwnerRows<T> current = new OwnerRows<>();
+        jdbcTemplate.query(sql, rs -> {
+            String ownerId = rs.getString("id");
+            if (!ownerId.equals(current.id)) {
+                current.emit(attach, consumer);
+                current.id = ownerId;
+                current.owner = ownerMapper.mapRow(rs, 0);
+                current.skills = new ArrayList<>();
+            }
+            String skillId = rs.getString("skill_id");
+            if (skillId != null) {
+                current.skills.add(new Skill(skillId, rs.getString("skill_name")));
+            }
+        });
+        current.emit(attach, consumer);
+    }
+
+    private String selectSkills() {
+        return "SELECT j." + ownerColumn + " AS owner_id, s.id AS skill_id, s.name AS skill_name"
+                + " FROM " + joinTable + " j JOIN skills s ON s.id = j." + skillColumn;
+    }
+
+    private void collect(String sql, Map<String, List<Skill>> skillsByOwner, Object... params) {
+        jdbcTemplate.query(sql, rs -> {
+            skillsByOwner.computeIfAbsent(rs.getString("owner_id"), key -> new ArrayList<>())
+                    .add(new Skill(rs.getString("skill_id"), rs.getString("skill_name")));
+        }, params);
+    }
+
+    private static final class OwnerRows<T> {
+        private String id;
+        private T owner;
+        private List<Skill> skills;
+
+        private void emit(BiConsumer<T, List<Skill>> attach, Consumer<T> consumer) {
+            if (owner != null) {
+                attach.accept(owner, skills);
+                consumer.accept(owner);
+                owner = null;
+            }
+        }
+    }
+}
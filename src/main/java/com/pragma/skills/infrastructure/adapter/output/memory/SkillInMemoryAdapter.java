@@ -0,0 +1,76 @@
+package com.pragma.skills.infrastructure.adapter.output.memory;
+
+import com.pragma.skills.domain.model.Skill;
+import com.pragma.skills.domain.port.output.SkillRepository;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory {@link SkillRepository} for the {@code memory} profile.
+ */
+@Component
+@Primary
+@Profile("memory")
+public class SkillInMemoryAdapter implements SkillRepository {
+
+    private final Map<String, Skill> skills = new ConcurrentHashMap<>();
+
+    @Override
+    public Skill save(Skill skill) {
+        Skill stored = copy(skill);
+        if (stored.getId() == null) {
+            stored.setId(UUID.randomUUID().toString());
+        }
+        skills.put(stored.getId(), stored);
+        return copy(stored);
+    }
+
+    @Override
+    public Optional<Skill> findById(String id) {
+        return Optional.ofNullable(id).map(skills::get).map(SkillInMemoryAdapter::copy);
+    }
+
+    @Override
+    public List<Skill> findAll() {
+        return skills.values().stream().map(SkillInMemoryAdapter::copy).collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean deleteById(String id) {
+        return id != null && skills.remove(id) != null;
+    }
+
+    /**
+     * Resolves skill identifiers to the current skills, dropping the ones that no longer exist,
+     * as the join tables do once a skill is deleted.
+     */
+    public List<Skill> findAllById(Collection<String> ids) {
+        if (ids == null) {
+            return List.of();
+        }
+        return ids.stream()
+                .filter(Objects::nonNull)
+                .map(skills::get)
+                .filter(Objects::nonNull)
+                .map(SkillInMemoryAdapter::copy)
+                .collect(Collectors.toList());
+    }
+
+    public void clear() {
+        skills.clear();
+    }
+
+    static Skill copy(Skill skill) {
+        return skill == null ? null : new Skill(skill.getId(), skill.getName());
+    }
+}
@@ -0,0 +1,95 @@
+package com.pragma.statistics.application.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Log-linear latency histogram in the style of HdrHistogram: values below {@code 2^SUB_BUCKET_BITS} ms get
+ * one counter each, and every further power of two is split into {@code 2^(SUB_BUCKET_BITS - 1)} equal
+ * counters. Memory is fixed ({@value #COUNTERS} counters) whatever the number of recorded values, and a
+ * percentile is exact to within {@code 1 / 2^(SUB_BUCKET_BITS - 1)} (about 3%). Values above
+ * {@code 2^MAX_EXPONENT} ms (about 35 years) are clamped. Recording is lock-free.
+ */
+class LatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 6;
+    static final int MAX_EXPONENT = 40;
+
+    private static final int LINEAR = 1 << SUB_BUCKET_BITS;
+    private static final int HALF = LINEAR >> 1;
+    static final int COUNTERS = LINEAR + (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * HALF;
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(COUNTERS);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    void record(long millis) {
+        long value = Math.min(Math.max(millis, 0), MAX_VALUE);
+        counts.incrementAndGet(index(value));
+        total.incrementAndGet();
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Adds the counts of {@code other} to this histogram.
+     */
+    void add(LatencyHistogram other) {
+        for (int i = 0; i < COUNTERS; i++) {
+            long count = other.counts.get(i);
+            if (count > 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        total.addAndGet(other.total.get());
+        max.accumulateAndGet(other.max.get(), Math::max);
+    }
+
+    long count() {
+        return total.get();
+    }
+
+    long max() {
+        return max.get();
+    }
+
+    /**
+     * Smallest recorded bucket bound such that at least {@code percentile}% of the values are not above it,
+     * never above the recorded maximum. Returns {@code 0} when the histogram is empty.
+     */
+    long valueAtPercentile(double percentile) {
+        long recorded = total.get();
+        if (recorded == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(recorded * Math.min(Math.max(percentile, 0), 100) / 100));
+        long seen = 0;
+        for (int i = 0; i < COUNTERS; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(highestEquivalentValue(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    static int index(long value) {
+        if (value < LINEAR) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS + 1;
+        int subBucket = (int) (value >>> shift) - HALF;
+        return LINEAR + (exponent - SUB_BUCKET_BITS) * HALF + subBucket;
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < LINEAR) {
+            return index;
+        }
+        int exponent = (index - LINEAR) / HALF + SUB_BUCKET_BITS;
+        int subBucket = (index - LINEAR) % HALF + HALF;
+        int shift = exponent - SUB_BUCKET_BITS + 1;
+        return ((long) (subBucket + 1) << shift) - 1;
+    }
+}
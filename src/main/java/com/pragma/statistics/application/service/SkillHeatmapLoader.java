@@ -0,0 +1,28 @@
+package com.pragma.statistics.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the skill heatmap once the application is ready, so the first request is served from the cache.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SkillHeatmapLoader {
+
+    private final SkillHeatmapService skillHeatmapService;
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long started = System.currentTimeMillis();
+        int items = skillHeatmapService.rebuild();
+        log.info("Mapa de calor de habilidades cargado: {} solicitudes y tutorías en {} ms", items, System.currentTimeMillis() - started);
+    }
+}
@@ -0,0 +1,153 @@
+package com.pragma.statistics.application.service;
+
+import com.pragma.statistics.domain.model.SkillChapterEntry;
+import com.pragma.statistics.domain.model.SkillHeatmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Demand and supply counters as {@code int} rows indexed by skill and chapter position. Each request or
+ * tutoring remembers the cells it contributed to, so a write replaces its previous contribution in
+ * O(skills of the item) and replaying the same write is harmless. Skills and chapters get a position the
+ * first time they appear and keep it; the snapshot sorts both axes by name.
+ */
+class SkillHeatmapMatrix {
+
+    private final Axis skills = new Axis();
+    private final Axis chapters = new Axis();
+    private final Map<String, long[]> requestCells = new HashMap<>();
+    private final Map<String, long[]> tutoringCells = new HashMap<>();
+    private int[][] demand = new int[0][];
+    private int[][] supply = new int[0][];
+
+    /**
+     * Replaces the demand of a request. An empty collection removes it.
+     */
+    synchronized void putRequest(String requestId, Collection<SkillChapterEntry> entries) {
+        demand = replace(requestCells, demand, requestId, entries);
+    }
+
+    /**
+     * Replaces the supply of a tutoring. An empty collection removes it.
+     */
+    synchronized void putTutoring(String tutoringId, Collection<SkillChapterEntry> entries) {
+        supply = replace(tutoringCells, supply, tutoringId, entries);
+    }
+
+    synchronized void clear() {
+        skills.clear();
+        chapters.clear();
+        requestCells.clear();
+        tutoringCells.clear();
+        demand = new int[0][];
+        supply = new int[0][];
+    }
+
+    synchronized SkillHeatmap snapshot() {
+        int[] skillOrder = skills.sortedPositions();
+        int[] chapterOrder = chapters.sortedPositions();
+        int[][] demandCopy = new int[skillOrder.length][chapterOrder.length];
+        int[][] supplyCopy = new int[skillOrder.length][chapterOrder.length];
+        for (int row = 0; row < skillOrder.length; row++) {
+            for (int column = 0; column < chapterOrder.length; column++) {
+                demandCopy[row][column] = cell(demand, skillOrder[row], chapterOrder[column]);
+                supplyCopy[row][column] = cell(supply, skillOrder[row], chapterOrder[column]);
+            }
+        }
+        return new SkillHeatmap(skills.ids(skillOrder), skills.names(skillOrder),
+                chapters.ids(chapterOrder), chapters.names(chapterOrder), demandCopy, supplyCopy);
+    }
+
+    private int[][] replace(Map<String, long[]> cellsByItem, int[][] matrix, String itemId, Collection<SkillChapterEntry> entries) {
+        long[] previous = cellsByItem.remove(itemId);
+        if (previous != null) {
+            for (long packed : previous) {
+                matrix[(int) (packed >>> 32)][(int) packed]--;
+            }
+        }
+        if (entries.isEmpty()) {
+            return matrix;
+        }
+        long[] cells = new long[entries.size()];
+        int count = 0;
+        for (SkillChapterEntry entry : entries) {
+            int skill = skills.position(entry.skillId(), entry.skillName());
+            int chapter = chapters.position(entry.chapterId(), entry.chapterName());
+            matrix = ensureCapacity(matrix, skill, chapter);
+            matrix[skill][chapter]++;
+            cells[count++] = ((long) skill << 32) | chapter;
+        }
+        cellsByItem.put(itemId, cells);
+        return matrix;
+    }
+
+    private static int[][] ensureCapacity(int[][] matrix, int skill, int chapter) {
+        if (skill >= matrix.length) {
+            int rows = Math.max(skill + 1, matrix.length * 2);
+            int[][] grown = Arrays.copyOf(matrix, rows);
+            for (int row = matrix.length; row < rows; row++) {
+                grown[row] = new int[0];
+            }
+            matrix = grown;
+        }
+        if (chapter >= matrix[skill].length) {
+            matrix[skill] = Arrays.copyOf(matrix[skill], Math.max(chapter + 1, matrix[skill].length * 2));
+        }
+        return matrix;
+    }
+
+    private static int cell(int[][] matrix, int skill, int chapter) {
+        return skill < matrix.length && chapter < matrix[skill].length ? matrix[skill][chapter] : 0;
+    }
+
+    /**
+     * Ids and latest known names of one axis, by position.
+     */
+    private static final class Axis {
+        private final Map<String, Integer> positions = new HashMap<>();
+        private final List<String> ids = new ArrayList<>();
+        private final List<String> names = new ArrayList<>();
+
+        int position(String id, String name) {
+            Integer position = positions.get(id);
+            if (position == null) {
+                position = ids.size();
+                positions.put(id, position);
+                ids.add(id);
+                names.add(name);
+            } else if (name != null) {
+                names.set(position, name);
+            }
+            return position;
+        }
+
+        int[] sortedPositions() {
+            Comparator<Integer> byName = Comparator.comparing(
+                    position -> names.get(position) == null ? ids.get(position) : names.get(position));
+            return positions.values().stream()
+                    .sorted(byName.thenComparing(ids::get))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+        List<String> ids(int[] order) {
+            return Arrays.stream(order).mapToObj(ids::get).toList();
+        }
+
+        List<String> names(int[] order) {
+            return Arrays.stream(order).mapToObj(names::get).toList();
+        }
+
+        void clear() {
+            positions.clear();
+            ids.clear();
+            names.clear();
+        }
+    }
+}
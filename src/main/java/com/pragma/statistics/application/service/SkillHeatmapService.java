@@ -0,0 +1,117 @@
+package com.pragma.statistics.application.service;
+
+import com.pragma.shared.persistence.AfterCommit;
+import com.pragma.skills.domain.model.Skill;
+import com.pragma.statistics.domain.model.SkillChapterEntry;
+import com.pragma.statistics.domain.model.SkillHeatmap;
+import com.pragma.statistics.domain.port.input.GetSkillHeatmapUseCase;
+import com.pragma.statistics.domain.port.input.RefreshSkillHeatmapUseCase;
+import com.pragma.statistics.domain.port.output.StatisticsRepository;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings_requests.domain.model.TutoringRequest;
+import com.pragma.usuarios.domain.model.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Serves the skills × chapters heatmap from {@link SkillHeatmapMatrix}. The matrix is built once from the
+ * open requests and active tutorings, then every request or tutoring write replaces that item's contribution
+ * after commit.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SkillHeatmapService implements GetSkillHeatmapUseCase, RefreshSkillHeatmapUseCase {
+
+    private final StatisticsRepository statisticsRepository;
+    private final SkillHeatmapMatrix matrix = new SkillHeatmapMatrix();
+    private volatile boolean loaded;
+
+    @Override
+    public SkillHeatmap getSkillHeatmap() {
+        if (!loaded) {
+            rebuild();
+        }
+        return matrix.snapshot();
+    }
+
+    @Override
+    public void requestSaved(TutoringRequest request) {
+        if (request == null || request.getId() == null) {
+            return;
+        }
+        boolean open = SkillHeatmap.OPEN_REQUEST_STATUSES.contains(request.getRequestStatus());
+        List<SkillChapterEntry> entries = open ? entries(request.getId(), request.getTutee(), request.getSkills()) : List.of();
+        AfterCommit.run(() -> {
+            if (loaded) {
+                matrix.putRequest(request.getId(), entries);
+            }
+        });
+    }
+
+    @Override
+    public void requestDeleted(String requestId) {
+        AfterCommit.run(() -> {
+            if (loaded) {
+                matrix.putRequest(requestId, List.of());
+            }
+        });
+    }
+
+    @Override
+    public void tutoringSaved(Tutoring tutoring) {
+        if (tutoring == null || tutoring.getId() == null) {
+            return;
+        }
+        boolean active = tutoring.getStatus() == TutoringStatus.Activa;
+        List<SkillChapterEntry> entries = active ? entries(tutoring.getId(), tutoring.getTutor(), tutoring.getSkills()) : List.of();
+        AfterCommit.run(() -> {
+            if (loaded) {
+                matrix.putTutoring(tutoring.getId(), entries);
+            }
+        });
+    }
+
+    /**
+     * Rebuilds the matrix with one pass over the skills of the open requests and of the active tutorings.
+     */
+    public synchronized int rebuild() {
+        matrix.clear();
+        Map<String, List<SkillChapterEntry>> requests = byItem(statisticsRepository.findOpenRequestSkills());
+        Map<String, List<SkillChapterEntry>> tutorings = byItem(statisticsRepository.findActiveTutoringSkills());
+        requests.forEach(matrix::putRequest);
+        tutorings.forEach(matrix::putTutoring);
+        loaded = true;
+        return requests.size() + tutorings.size();
+    }
+
+    private static List<SkillChapterEntry> entries(String itemId, User user, List<Skill> skills) {
+        if (user == null || user.getChapter() == null || user.getChapter().getId() == null || skills == null) {
+            return List.of();
+        }
+        Map<String, SkillChapterEntry> bySkill = new LinkedHashMap<>();
+        for (Skill skill : skills) {
+            if (skill != null && skill.getId() != null) {
+                bySkill.putIfAbsent(skill.getId(), new SkillChapterEntry(itemId, skill.getId(), skill.getName(),
+                        user.getChapter().getId(), user.getChapter().getName()));
+            }
+        }
+        return List.copyOf(bySkill.values());
+    }
+
+    private static Map<String, List<SkillChapterEntry>> byItem(List<SkillChapterEntry> entries) {
+        Map<String, List<SkillChapterEntry>> byItem = new LinkedHashMap<>();
+        entries.stream()
+                .filter(Objects::nonNull)
+                .forEach(entry -> byItem.computeIfAbsent(entry.itemId(), id -> new ArrayList<>()).add(entry));
+        return byItem;
+    }
+}
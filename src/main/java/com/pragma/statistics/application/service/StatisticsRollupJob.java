@@ -0,0 +1,67 @@
+package com.pragma.statistics.application.service;
+
+import com.pragma.shared.config.StatisticsProperties;
+import com.pragma.shared.scheduling.JobLeaseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Folds the statistic events appended since the last run into the daily rollups, one transaction
+ * per batch of {@code app.statistics.rollup-batch-size} events. Only events past the stored watermark
+ * are read, so each run costs in proportion to the new activity. Only the replica holding the
+ * {@code statistics-daily-rollup} lease folds events, renewing it before each batch, so two replicas
+ * never add the same events to the rollups.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatisticsRollupJob {
+
+    static final String JOB = StatisticsRollupService.ROLLUP_JOB;
+
+    private final StatisticsRollupService statisticsRollupService;
+    private final StatisticsProperties statisticsProperties;
+    private final JobLeaseRepository jobLeaseRepository;
+
+    private final String owner = UUID.randomUUID().toString();
+
+    @Scheduled(cron = "${app.statistics.rollup-cron:0 */5 * * * *}", zone = "${app.sessions.default-zone:UTC}")
+    public void run() {
+        int processed = rollupPending();
+        if (processed > 0) {
+            log.info("Eventos de estadísticas acumulados en los resúmenes diarios: {}", processed);
+        }
+    }
+
+    /**
+     * Processes batches until the backlog of settled events is empty, while this replica holds the lease,
+     * and returns how many events were folded.
+     */
+    public int rollupPending() {
+        if (!renewLease()) {
+            log.debug("Otra réplica está acumulando los eventos de estadísticas");
+            return 0;
+        }
+        try {
+            int processed = 0;
+            int batch;
+            do {
+                batch = statisticsRollupService.rollupNextBatch();
+                processed += batch;
+            } while (batch > 0 && batch == statisticsProperties.getRollupBatchSize() && renewLease());
+            return processed;
+        } finally {
+            jobLeaseRepository.release(JOB, owner);
+        }
+    }
+
+    private boolean renewLease() {
+        Instant now = Instant.now();
+        return jobLeaseRepository.tryAcquire(JOB, owner, now, now.plus(statisticsProperties.getLeaseDuration()));
+    }
+}
@@ -0,0 +1,172 @@
+package com.pragma.statistics.application.service;
+
+import com.pragma.shared.config.StatisticsProperties;
+import com.pragma.shared.config.TutoringSessionProperties;
+import com.pragma.statistics.domain.model.DailyRollup;
+import com.pragma.statistics.domain.model.StatisticEvent;
+import com.pragma.statistics.domain.model.TimeSeries;
+import com.pragma.statistics.domain.model.TimeSeriesPoint;
+import com.pragma.statistics.domain.model.enums.StatisticMetric;
+import com.pragma.statistics.domain.model.enums.TimeSeriesGranularity;
+import com.pragma.statistics.domain.port.input.GetTimeSeriesUseCase;
+import com.pragma.statistics.domain.port.input.RecordStatisticEventUseCase;
+import com.pragma.statistics.domain.port.output.StatisticsRollupRepository;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings_requests.domain.model.TutoringRequest;
+import com.pragma.usuarios.domain.model.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Statistics trends. Request and tutoring writes append one {@link StatisticEvent} per counted fact,
+ * {@link StatisticsRollupJob} folds the events past its watermark into per-day, per-chapter rollups, and
+ * time series are answered from the rollups alone. Events are appended before a cancelled request is
+ * deleted, so its cancellation is still counted, and in the caller's transaction, so a write that rolls
+ * back is never counted and a failed append fails the write.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StatisticsRollupService implements RecordStatisticEventUseCase, GetTimeSeriesUseCase {
+
+    static final String ROLLUP_JOB = "statistics-daily-rollup";
+    static final int MAX_PERIODS = 1000;
+
+    private final StatisticsRollupRepository rollupRepository;
+    private final StatisticsProperties statisticsProperties;
+    private final TutoringSessionProperties sessionProperties;
+
+    @Override
+    public void requestCreated(TutoringRequest request) {
+        if (request != null) {
+            record(StatisticMetric.REQUESTS_CREATED, request.getTutee());
+        }
+    }
+
+    @Override
+    public void requestStatusChanged(TutoringRequest request) {
+        if (request == null || request.getRequestStatus() == null) {
+            return;
+        }
+        switch (request.getRequestStatus()) {
+            case Aprobada -> record(StatisticMetric.REQUESTS_APPROVED, request.getTutee());
+            case Asignada -> record(StatisticMetric.REQUESTS_ASSIGNED, request.getTutee());
+            case Cancelada -> record(StatisticMetric.REQUESTS_CANCELLED, request.getTutee());
+            default -> {
+                // Los demás estados no se acumulan en las series
+            }
+        }
+    }
+
+    @Override
+    public void tutoringStarted(Tutoring tutoring) {
+        if (tutoring != null) {
+            record(StatisticMetric.TUTORINGS_STARTED, tutoring.getTutee());
+        }
+    }
+
+    @Override
+    public void tutoringCompleted(Tutoring tutoring) {
+        if (tutoring != null) {
+            record(StatisticMetric.TUTORINGS_COMPLETED, tutoring.getTutee());
+        }
+    }
+
+    /**
+     * Folds the next batch of settled events past the watermark into the daily rollups and advances the
+     * watermark in the same transaction. Returns the number of events processed.
+     */
+    @Transactional
+    public int rollupNextBatch() {
+        long watermark = rollupRepository.findWatermark(ROLLUP_JOB);
+        Instant settledBefore = Instant.now().minus(statisticsProperties.getSettleDelay());
+        List<StatisticEvent> batch = rollupRepository.findEventsAfter(watermark, statisticsProperties.getRollupBatchSize());
+        // Solo el prefijo asentado: por delante de un evento reciente puede haber ids aún sin confirmar
+        List<StatisticEvent> events = new ArrayList<>(batch.size());
+        for (StatisticEvent event : batch) {
+            if (!event.occurredAt().isBefore(settledBefore)) {
+                break;
+            }
+            events.add(event);
+        }
+        if (events.isEmpty()) {
+            return 0;
+        }
+        ZoneId zone = zone();
+        Map<RollupKey, Long> increments = new LinkedHashMap<>();
+        for (StatisticEvent event : events) {
+            RollupKey key = new RollupKey(LocalDate.ofInstant(event.occurredAt(), zone), event.chapterId(), event.metric());
+            increments.merge(key, 1L, Long::sum);
+        }
+        increments.forEach((key, count) -> rollupRepository.incrementRollup(key.day(), key.chapterId(), key.metric(), count));
+        rollupRepository.saveWatermark(ROLLUP_JOB, events.get(events.size() - 1).id());
+        return events.size();
+    }
+
+    @Override
+    public TimeSeries getTimeSeries(LocalDate from, LocalDate to, TimeSeriesGranularity granularity, String chapterId) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Las fechas inicial y final son obligatorias");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("La fecha inicial debe ser anterior o igual a la fecha final");
+        }
+        TimeSeriesGranularity resolved = granularity == null ? TimeSeriesGranularity.DAY : granularity;
+        LocalDate first = periodStart(from, resolved);
+        long periods = (resolved == TimeSeriesGranularity.DAY ? ChronoUnit.DAYS : ChronoUnit.WEEKS).between(first, to) + 1;
+        if (periods > MAX_PERIODS) {
+            throw new IllegalArgumentException("El rango solicitado supera el máximo de " + MAX_PERIODS + " periodos");
+        }
+
+        Map<LocalDate, Map<StatisticMetric, Long>> counts = new LinkedHashMap<>();
+        for (LocalDate start = first; !start.isAfter(to); start = next(start, resolved)) {
+            Map<StatisticMetric, Long> point = new EnumMap<>(StatisticMetric.class);
+            for (StatisticMetric metric : StatisticMetric.values()) {
+                point.put(metric, 0L);
+            }
+            counts.put(start, point);
+        }
+        for (DailyRollup rollup : rollupRepository.findRollups(from, to, chapterId)) {
+            counts.get(periodStart(rollup.day(), resolved)).merge(rollup.metric(), rollup.count(), Long::sum);
+        }
+
+        List<TimeSeriesPoint> points = new ArrayList<>(counts.size());
+        counts.forEach((start, point) -> points.add(new TimeSeriesPoint(start, point)));
+        return new TimeSeries(from, to, resolved, chapterId, points);
+    }
+
+    private void record(StatisticMetric metric, User tutee) {
+        String chapterId = tutee == null || tutee.getChapter() == null ? null : tutee.getChapter().getId();
+        // Sin capturar errores: un fallo ya marca la transacción del llamador para rollback
+        rollupRepository.appendEvent(metric, chapterId, Instant.now());
+    }
+
+    private ZoneId zone() {
+        return ZoneId.of(sessionProperties.getDefaultZone());
+    }
+
+    private static LocalDate periodStart(LocalDate day, TimeSeriesGranularity granularity) {
+        return granularity == TimeSeriesGranularity.WEEK ? day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)) : day;
+    }
+
+    private static LocalDate next(LocalDate start, TimeSeriesGranularity granularity) {
+        return granularity == TimeSeriesGranularity.WEEK ? start.plusWeeks(1) : start.plusDays(1);
+    }
+
+    private record RollupKey(LocalDate day, String chapterId, StatisticMetric metric) {
+    }
+}
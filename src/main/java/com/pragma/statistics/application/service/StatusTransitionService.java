@@ -0,0 +1,190 @@
+package com.pragma.statistics.application.service;
+
+import com.pragma.shared.persistence.AfterCommit;
+import com.pragma.shared.persistence.BeforeCommitBatch;
+import com.pragma.statistics.domain.model.StatusTransition;
+import com.pragma.statistics.domain.model.TransitionLatency;
+import com.pragma.statistics.domain.model.enums.TransitionSubject;
+import com.pragma.statistics.domain.port.input.GetTransitionLatenciesUseCase;
+import com.pragma.statistics.domain.port.input.RecordStatusTransitionUseCase;
+import com.pragma.statistics.domain.port.output.StatusTransitionRepository;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings_requests.domain.model.TutoringRequest;
+import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import com.pragma.usuarios.domain.model.User;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BinaryOperator;
+
+/**
+ * Writes the status transition log and keeps one {@link LatencyHistogram} per chapter and transition type.
+ * The transitions of a transaction are inserted together just before it commits; the histograms are
+ * updated after commit and rebuilt from the log at startup by {@link TransitionLatencyLoader}.
+ * The time spent in the previous status starts at the subject's previous transition (still pending in this
+ * transaction or already logged), not at {@code updatedAt}, which also moves on edits that keep the status.
+ */
+@Service
+public class StatusTransitionService implements RecordStatusTransitionUseCase, GetTransitionLatenciesUseCase {
+
+    static final int LOAD_BATCH_SIZE = 500;
+
+    private static final Comparator<TransitionLatency> BY_TRANSITION = Comparator
+            .comparing(TransitionLatency::subject)
+            .thenComparing(TransitionLatency::fromStatus)
+            .thenComparing(TransitionLatency::toStatus);
+
+    private final StatusTransitionRepository statusTransitionRepository;
+    private final BeforeCommitBatch<StatusTransition> pending;
+    private final ConcurrentMap<HistogramKey, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    public StatusTransitionService(StatusTransitionRepository statusTransitionRepository) {
+        this.statusTransitionRepository = statusTransitionRepository;
+        this.pending = new BeforeCommitBatch<>(statusTransitionRepository::saveAll);
+    }
+
+    @Override
+    public void requestTransitioned(TutoringRequest request, RequestStatus from) {
+        requestsTransitioned(request == null ? List.of() : List.of(request), from);
+    }
+
+    @Override
+    public void tutoringTransitioned(Tutoring tutoring, TutoringStatus from) {
+        tutoringsTransitioned(tutoring == null ? List.of() : List.of(tutoring), from);
+    }
+
+    @Override
+    public void requestsTransitioned(Collection<TutoringRequest> requests, RequestStatus from) {
+        appendAll(TransitionSubject.REQUEST, from == null ? null : from.name(), requests.stream()
+                .filter(request -> request != null && request.getId() != null && request.getRequestStatus() != null)
+                .map(request -> new Change(request.getId(), request.getTutee(), request.getRequestStatus().name(),
+                        request.getCreatedAt()))
+                .toList());
+    }
+
+    @Override
+    public void tutoringsTransitioned(Collection<Tutoring> tutorings, TutoringStatus from) {
+        appendAll(TransitionSubject.TUTORING, from == null ? null : from.name(), tutorings.stream()
+                .filter(tutoring -> tutoring != null && tutoring.getId() != null && tutoring.getStatus() != null)
+                .map(tutoring -> new Change(tutoring.getId(), tutoring.getTutee(), tutoring.getStatus().name(),
+                        tutoring.getCreatedAt()))
+                .toList());
+    }
+
+    @Override
+    public List<TransitionLatency> getTransitionLatencies(String chapterId) {
+        Map<HistogramKey, LatencyHistogram> selected = new TreeMap<>(HistogramKey.ORDER);
+        histograms.forEach((key, histogram) -> {
+            if (chapterId == null) {
+                // Sin capítulo se suman los histogramas de todos los capítulos
+                selected.computeIfAbsent(key.withChapter(null), k -> new LatencyHistogram()).add(histogram);
+            } else if (chapterId.equals(key.chapterId())) {
+                selected.put(key, histogram);
+            }
+        });
+        List<TransitionLatency> latencies = new ArrayList<>(selected.size());
+        selected.forEach((key, histogram) -> latencies.add(new TransitionLatency(key.subject(), key.fromStatus(),
+                key.toStatus(), chapterId, histogram.count(), histogram.valueAtPercentile(50),
+                histogram.valueAtPercentile(90), histogram.valueAtPercentile(99), histogram.max())));
+        latencies.sort(BY_TRANSITION);
+        return latencies;
+    }
+
+    /**
+     * Rebuilds every histogram from the transition log, read in id-ordered batches. Returns the transitions read.
+     */
+    public synchronized int rebuild() {
+        histograms.clear();
+        int read = 0;
+        String lastId = "";
+        List<StatusTransition> batch;
+        do {
+            batch = statusTransitionRepository.findAfter(lastId, LOAD_BATCH_SIZE);
+            for (StatusTransition transition : batch) {
+                record(transition);
+                lastId = transition.id();
+            }
+            read += batch.size();
+        } while (batch.size() == LOAD_BATCH_SIZE);
+        return read;
+    }
+
+    private void appendAll(TransitionSubject subject, String from, List<Change> changes) {
+        List<Change> moved = changes.stream().filter(change -> !Objects.equals(from, change.to())).toList();
+        if (moved.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        Map<String, Instant> previous = from == null ? new HashMap<>()
+                : previousTransitionsAt(subject, moved.stream().map(Change::subjectId).distinct().toList());
+        for (Change change : moved) {
+            Instant since = from == null ? null : previous.getOrDefault(change.subjectId(),
+                    change.createdAt() == null ? null : change.createdAt().toInstant());
+            Long elapsed = since == null ? null : Math.max(0, now.toEpochMilli() - since.toEpochMilli());
+            User tutee = change.tutee();
+            String chapterId = tutee == null || tutee.getChapter() == null ? null : tutee.getChapter().getId();
+            StatusTransition transition = new StatusTransition(null, subject, change.subjectId(), chapterId, from,
+                    change.to(), now, elapsed);
+            pending.add(transition);
+            previous.put(change.subjectId(), now);
+            AfterCommit.run(() -> record(transition));
+        }
+    }
+
+    /**
+     * The previous transition of each subject: the latest still pending in this transaction, otherwise the
+     * latest logged one, read for all the remaining subjects with a single query.
+     */
+    private Map<String, Instant> previousTransitionsAt(TransitionSubject subject, List<String> subjectIds) {
+        Set<String> ids = Set.copyOf(subjectIds);
+        Map<String, Instant> previous = new HashMap<>();
+        for (StatusTransition transition : pending.pending()) {
+            if (transition.subject() == subject && ids.contains(transition.subjectId())) {
+                previous.merge(transition.subjectId(), transition.occurredAt(), BinaryOperator.maxBy(Instant::compareTo));
+            }
+        }
+        List<String> notPending = subjectIds.stream().filter(id -> !previous.containsKey(id)).toList();
+        if (!notPending.isEmpty()) {
+            previous.putAll(statusTransitionRepository.findLastOccurredAt(subject, notPending));
+        }
+        return previous;
+    }
+
+    private void record(StatusTransition transition) {
+        if (transition.fromStatus() == null || transition.elapsedMillis() == null) {
+            return;
+        }
+        HistogramKey key = new HistogramKey(transition.subject(), transition.fromStatus(), transition.toStatus(),
+                transition.chapterId());
+        histograms.computeIfAbsent(key, k -> new LatencyHistogram()).record(transition.elapsedMillis());
+    }
+
+    private record Change(String subjectId, User tutee, String to, Date createdAt) {
+    }
+
+    private record HistogramKey(TransitionSubject subject, String fromStatus, String toStatus, String chapterId) {
+
+        private static final Comparator<HistogramKey> ORDER = Comparator
+                .comparing(HistogramKey::subject)
+                .thenComparing(HistogramKey::fromStatus)
+                .thenComparing(HistogramKey::toStatus)
+                .thenComparing(HistogramKey::chapterId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+        HistogramKey withChapter(String chapter) {
+            return new HistogramKey(subject, fromStatus, toStatus, chapter);
+        }
+    }
+}
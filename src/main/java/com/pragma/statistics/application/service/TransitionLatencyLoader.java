@@ -0,0 +1,28 @@
+package com.pragma.statistics.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the transition latency histograms from the transition log once the application is ready.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransitionLatencyLoader {
+
+    private final StatusTransitionService statusTransitionService;
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long started = System.currentTimeMillis();
+        int transitions = statusTransitionService.rebuild();
+        log.info("Histogramas de latencia cargados: {} transiciones en {} ms", transitions, System.currentTimeMillis() - started);
+    }
+}
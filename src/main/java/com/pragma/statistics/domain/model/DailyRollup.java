@@ -0,0 +1,11 @@
+package com.pragma.statistics.domain.model;
+
+import com.pragma.statistics.domain.model.enums.StatisticMetric;
+
+import java.time.LocalDate;
+
+/**
+ * Number of events of {@code metric} in {@code chapterId} on {@code day}, in {@code app.sessions.default-zone}.
+ */
+public record DailyRollup(LocalDate day, String chapterId, StatisticMetric metric, long count) {
+}
@@ -0,0 +1,8 @@
+package com.pragma.statistics.domain.model;
+
+/**
+ * One skill of an open request or an active tutoring ({@code itemId}) and the chapter it counts for:
+ * the tutee's chapter for demand, the tutor's chapter for supply.
+ */
+public record SkillChapterEntry(String itemId, String skillId, String skillName, String chapterId, String chapterName) {
+}
@@ -0,0 +1,31 @@
+package com.pragma.statistics.domain.model;
+
+import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Skills × chapters matrix of open request demand against active tutoring supply.
+ * Row {@code i} is {@code skillIds[i]}, column {@code j} is {@code chapterIds[j]}; both axes are sorted by name.
+ */
+@Getter
+@AllArgsConstructor
+public class SkillHeatmap {
+
+    /**
+     * Request statuses that still count as demand.
+     */
+    public static final Set<RequestStatus> OPEN_REQUEST_STATUSES =
+            EnumSet.of(RequestStatus.Pendiente, RequestStatus.Aprobada, RequestStatus.Conversando);
+
+    private final List<String> skillIds;
+    private final List<String> skillNames;
+    private final List<String> chapterIds;
+    private final List<String> chapterNames;
+    private final int[][] demand;
+    private final int[][] supply;
+}
@@ -0,0 +1,13 @@
+package com.pragma.statistics.domain.model;
+
+import com.pragma.statistics.domain.model.enums.StatisticMetric;
+
+import java.time.Instant;
+
+/**
+ * One occurrence of a metric, appended when the request or tutoring is written. {@code id} grows with
+ * every event and is the watermark of the rollup job. {@code chapterId} is the tutee's chapter, or
+ * {@code null} if the tutee has none.
+ */
+public record StatisticEvent(long id, StatisticMetric metric, String chapterId, Instant occurredAt) {
+}
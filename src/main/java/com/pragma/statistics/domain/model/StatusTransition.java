@@ -0,0 +1,14 @@
+package com.pragma.statistics.domain.model;
+
+import com.pragma.statistics.domain.model.enums.TransitionSubject;
+
+import java.time.Instant;
+
+/**
+ * One status change of a request or tutoring, kept in an append-only log. {@code fromStatus} is
+ * {@code null} when the entity is created; {@code elapsedMillis} is the time spent in {@code fromStatus}
+ * ({@code null} on creation). {@code chapterId} is the tutee's chapter. {@code id} is {@code null} until saved.
+ */
+public record StatusTransition(String id, TransitionSubject subject, String subjectId, String chapterId,
+                               String fromStatus, String toStatus, Instant occurredAt, Long elapsedMillis) {
+}
@@ -0,0 +1,22 @@
+package com.pragma.statistics.domain.model;
+
+import com.pragma.statistics.domain.model.enums.TimeSeriesGranularity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Trend of the statistics counters between {@code from} and {@code to} (both inclusive), one point per period.
+ * {@code chapterId} is {@code null} when the series covers every chapter.
+ */
+@Getter
+@AllArgsConstructor
+public class TimeSeries {
+    private final LocalDate from;
+    private final LocalDate to;
+    private final TimeSeriesGranularity granularity;
+    private final String chapterId;
+    private final List<TimeSeriesPoint> points;
+}
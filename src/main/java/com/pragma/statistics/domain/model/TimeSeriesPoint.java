@@ -0,0 +1,12 @@
+package com.pragma.statistics.domain.model;
+
+import com.pragma.statistics.domain.model.enums.StatisticMetric;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Counters of one day or week, starting on {@code periodStart}. Every metric is present, zero included.
+ */
+public record TimeSeriesPoint(LocalDate periodStart, Map<StatisticMetric, Long> counts) {
+}
@@ -0,0 +1,11 @@
+package com.pragma.statistics.domain.model;
+
+import com.pragma.statistics.domain.model.enums.TransitionSubject;
+
+/**
+ * Percentiles, in milliseconds, of the time spent in {@code fromStatus} before moving to {@code toStatus}.
+ * {@code chapterId} is {@code null} when every chapter is aggregated.
+ */
+public record TransitionLatency(TransitionSubject subject, String fromStatus, String toStatus, String chapterId,
+                                long count, long p50Millis, long p90Millis, long p99Millis, long maxMillis) {
+}
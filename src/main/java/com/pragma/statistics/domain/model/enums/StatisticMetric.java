@@ -0,0 +1,13 @@
+package com.pragma.statistics.domain.model.enums;
+
+/**
+ * Daily counters kept in the statistics rollups.
+ */
+public enum StatisticMetric {
+    REQUESTS_CREATED,
+    REQUESTS_APPROVED,
+    REQUESTS_ASSIGNED,
+    REQUESTS_CANCELLED,
+    TUTORINGS_STARTED,
+    TUTORINGS_COMPLETED
+}
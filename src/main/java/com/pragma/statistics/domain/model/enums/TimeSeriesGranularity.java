@@ -0,0 +1,9 @@
+package com.pragma.statistics.domain.model.enums;
+
+/**
+ * Width of each point of a statistics time series. Weeks start on Monday.
+ */
+public enum TimeSeriesGranularity {
+    DAY,
+    WEEK
+}
@@ -0,0 +1,9 @@
+package com.pragma.statistics.domain.model.enums;
+
+/**
+ * Kind of entity whose status changed.
+ */
+public enum TransitionSubject {
+    REQUEST,
+    TUTORING
+}
@@ -0,0 +1,7 @@
+package com.pragma.statistics.domain.port.input;
+
+import com.pragma.statistics.domain.model.SkillHeatmap;
+
+public interface GetSkillHeatmapUseCase {
+    SkillHeatmap getSkillHeatmap();
+}
@@ -0,0 +1,10 @@
+package com.pragma.statistics.domain.port.input;
+
+import com.pragma.statistics.domain.model.TimeSeries;
+import com.pragma.statistics.domain.model.enums.TimeSeriesGranularity;
+
+import java.time.LocalDate;
+
+public interface GetTimeSeriesUseCase {
+    TimeSeries getTimeSeries(LocalDate from, LocalDate to, TimeSeriesGranularity granularity, String chapterId);
+}
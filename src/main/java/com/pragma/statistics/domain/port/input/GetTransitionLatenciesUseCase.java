@@ -0,0 +1,12 @@
+package com.pragma.statistics.domain.port.input;
+
+import com.pragma.statistics.domain.model.TransitionLatency;
+
+import java.util.List;
+
+public interface GetTransitionLatenciesUseCase {
+    /**
+     * Latency percentiles of every transition seen in {@code chapterId}, or across all chapters when it is {@code null}.
+     */
+    List<TransitionLatency> getTransitionLatencies(String chapterId);
+}
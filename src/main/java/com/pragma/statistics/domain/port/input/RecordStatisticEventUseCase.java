@@ -0,0 +1,20 @@
+package com.pragma.statistics.domain.port.input;
+
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings_requests.domain.model.TutoringRequest;
+
+/**
+ * Appends the events counted by the statistics rollups as requests and tutorings are written.
+ */
+public interface RecordStatisticEventUseCase {
+    void requestCreated(TutoringRequest request);
+
+    /**
+     * Records the new status of {@code request} if it is counted ({@code Aprobada}, {@code Asignada}
+     * or {@code Cancelada}). Must also be called for cancelled requests that are deleted.
+     */
+    void requestStatusChanged(TutoringRequest request);
+
+    void tutoringStarted(Tutoring tutoring);
+    void tutoringCompleted(Tutoring tutoring);
+}
@@ -0,0 +1,30 @@
+package com.pragma.statistics.domain.port.input;
+
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings_requests.domain.model.TutoringRequest;
+import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+
+import java.util.Collection;
+
+/**
+ * Appends status changes to the transition log. {@code from} is {@code null} on creation and is read
+ * before the status is overwritten; the time spent in it is measured from the previous logged transition,
+ * or from the entity's creation if none was logged.
+ */
+public interface RecordStatusTransitionUseCase {
+    void requestTransitioned(TutoringRequest request, RequestStatus from);
+    void tutoringTransitioned(Tutoring tutoring, TutoringStatus from);
+
+    /**
+     * Like {@link #requestTransitioned}, for a batch that left the same status; the previous transitions
+     * of the whole batch are read with one query.
+     */
+    void requestsTransitioned(Collection<TutoringRequest> requests, RequestStatus from);
+
+    /**
+     * Like {@link #tutoringTransitioned}, for a batch that left the same status; the previous transitions
+     * of the whole batch are read with one query.
+     */
+    void tutoringsTransitioned(Collection<Tutoring> tutorings, TutoringStatus from);
+}
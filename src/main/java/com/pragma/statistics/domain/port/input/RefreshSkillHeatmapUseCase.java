@@ -0,0 +1,13 @@
+package com.pragma.statistics.domain.port.input;
+
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings_requests.domain.model.TutoringRequest;
+
+/**
+ * Keeps the cached skill heatmap in sync with the writes to requests and tutorings.
+ */
+public interface RefreshSkillHeatmapUseCase {
+    void requestSaved(TutoringRequest request);
+    void requestDeleted(String requestId);
+    void tutoringSaved(Tutoring tutoring);
+}
@@ -1,9 +1,23 @@
 package com.pragma.statistics.domain.port.output;
 
+import com.pragma.statistics.domain.model.SkillChapterEntry;
+
+import java.util.List;
 import java.util.Map;
 
 public interface StatisticsRepository {
     Map<String, Long> countRequestsByStatus(String chapterId);
     Map<String, Long> countTutoringsByStatus(String chapterId);
     Map<String, Long> countActiveTutorsByChapter(String chapterId);
+
+    /**
+     * One entry per skill of each open request ({@code Pendiente}, {@code Aprobada}, {@code Conversando})
+     * whose tutee has a chapter.
+     */
+    List<SkillChapterEntry> findOpenRequestSkills();
+
+    /**
+     * One entry per skill of each {@code Activa} tutoring whose tutor has a chapter.
+     */
+    List<SkillChapterEntry> findActiveTutoringSkills();
 }
\ No newline at end of file
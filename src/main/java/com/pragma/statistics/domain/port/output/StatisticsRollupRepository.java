@@ -0,0 +1,39 @@
+package com.pragma.statistics.domain.port.output;
+
+import com.pragma.statistics.domain.model.DailyRollup;
+import com.pragma.statistics.domain.model.StatisticEvent;
+import com.pragma.statistics.domain.model.enums.StatisticMetric;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Event log, daily rollups and job watermarks behind the statistics time series.
+ */
+public interface StatisticsRollupRepository {
+
+    void appendEvent(StatisticMetric metric, String chapterId, Instant occurredAt);
+
+    /**
+     * Up to {@code limit} events with an id greater than {@code afterId}, ordered by id.
+     */
+    List<StatisticEvent> findEventsAfter(long afterId, int limit);
+
+    /**
+     * Adds {@code count} to the rollup of {@code (day, chapterId, metric)}, creating it if needed.
+     */
+    void incrementRollup(LocalDate day, String chapterId, StatisticMetric metric, long count);
+
+    /**
+     * Rollups of the days in {@code [from, to]}, restricted to {@code chapterId} unless it is {@code null}.
+     */
+    List<DailyRollup> findRollups(LocalDate from, LocalDate to, String chapterId);
+
+    /**
+     * Last event id processed by {@code job}, or {@code 0} if it never ran.
+     */
+    long findWatermark(String job);
+
+    void saveWatermark(String job, long watermark);
+}
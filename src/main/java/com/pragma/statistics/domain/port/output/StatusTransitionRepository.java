@@ -0,0 +1,28 @@
+package com.pragma.statistics.domain.port.output;
+
+import com.pragma.statistics.domain.model.StatusTransition;
+import com.pragma.statistics.domain.model.enums.TransitionSubject;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only log of request and tutoring status changes.
+ */
+public interface StatusTransitionRepository {
+
+    void saveAll(List<StatusTransition> transitions);
+
+    /**
+     * Up to {@code limit} transitions with an id greater than {@code afterId}, ordered by id.
+     */
+    List<StatusTransition> findAfter(String afterId, int limit);
+
+    /**
+     * When the last logged transition of each request or tutoring in {@code subjectIds} happened, with a
+     * single query. Subjects without logged transitions are absent from the map.
+     */
+    Map<String, Instant> findLastOccurredAt(TransitionSubject subject, Collection<String> subjectIds);
+}
@@ -1,21 +1,35 @@
 package com.pragma.statistics.infrastructure.adapter.input.rest;
 
 import com.pragma.statistics.domain.port.input.GetDashboardStatisticsUseCase;
+import com.pragma.statistics.domain.model.enums.TimeSeriesGranularity;
+import com.pragma.statistics.domain.port.input.GetSkillHeatmapUseCase;
+import com.pragma.statistics.domain.port.input.GetTimeSeriesUseCase;
+import com.pragma.statistics.domain.port.input.GetTransitionLatenciesUseCase;
 import com.pragma.statistics.infrastructure.adapter.input.rest.dto.DashboardStatisticsResponseDto;
+import com.pragma.statistics.infrastructure.adapter.input.rest.dto.SkillHeatmapResponseDto;
+import com.pragma.statistics.infrastructure.adapter.input.rest.dto.TimeSeriesResponseDto;
+import com.pragma.statistics.infrastructure.adapter.input.rest.dto.TransitionLatencyResponseDto;
 import com.pragma.statistics.infrastructure.adapter.input.rest.mapper.StatisticsRestMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/statistics")
 @RequiredArgsConstructor
 public class StatisticsController {
     
     private final GetDashboardStatisticsUseCase getDashboardStatisticsUseCase;
+    private final GetSkillHeatmapUseCase getSkillHeatmapUseCase;
+    private final GetTimeSeriesUseCase getTimeSeriesUseCase;
+    private final GetTransitionLatenciesUseCase getTransitionLatenciesUseCase;
     private final StatisticsRestMapper statisticsRestMapper;
 
     @GetMapping("/dashboard")
@@ -24,4 +38,25 @@ public class StatisticsController {
         var statistics = getDashboardStatisticsUseCase.getDashboardStatistics(chapterId);
         return ResponseEntity.ok(statisticsRestMapper.toResponseDto(statistics));
     }
+
+    @GetMapping("/skill-heatmap")
+    public ResponseEntity<SkillHeatmapResponseDto> getSkillHeatmap() {
+        return ResponseEntity.ok(statisticsRestMapper.toResponseDto(getSkillHeatmapUseCase.getSkillHeatmap()));
+    }
+
+    @GetMapping("/timeseries")
+    public ResponseEntity<TimeSeriesResponseDto> getTimeSeries(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "DAY") TimeSeriesGranularity granularity,
+            @RequestParam(required = false) String chapterId) {
+        var timeSeries = getTimeSeriesUseCase.getTimeSeries(from, to, granularity, chapterId);
+        return ResponseEntity.ok(statisticsRestMapper.toResponseDto(timeSeries));
+    }
+
+    @GetMapping("/transition-latencies")
+    public ResponseEntity<List<TransitionLatencyResponseDto>> getTransitionLatencies(
+            @RequestParam(required = false) String chapterId) {
+        return ResponseEntity.ok(statisticsRestMapper.toResponseDtos(getTransitionLatenciesUseCase.getTransitionLatencies(chapterId)));
+    }
 }
\ No newline at end of file
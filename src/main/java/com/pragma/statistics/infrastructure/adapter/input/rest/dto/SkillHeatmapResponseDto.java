@@ -0,0 +1,17 @@
+package com.pragma.statistics.infrastructure.adapter.input.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class SkillHeatmapResponseDto {
+    private final List<String> skillIds;
+    private final List<String> skillNames;
+    private final List<String> chapterIds;
+    private final List<String> chapterNames;
+    private final int[][] demand;
+    private final int[][] supply;
+}
@@ -0,0 +1,14 @@
+package com.pragma.statistics.infrastructure.adapter.input.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class TimeSeriesPointDto {
+    private final LocalDate periodStart;
+    private final Map<String, Long> counts;
+}
@@ -0,0 +1,17 @@
+package com.pragma.statistics.infrastructure.adapter.input.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TimeSeriesResponseDto {
+    private final LocalDate from;
+    private final LocalDate to;
+    private final String granularity;
+    private final String chapterId;
+    private final List<TimeSeriesPointDto> points;
+}
@@ -0,0 +1,18 @@
+package com.pragma.statistics.infrastructure.adapter.input.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TransitionLatencyResponseDto {
+    private final String subject;
+    private final String fromStatus;
+    private final String toStatus;
+    private final String chapterId;
+    private final long count;
+    private final long p50Millis;
+    private final long p90Millis;
+    private final long p99Millis;
+    private final long maxMillis;
+}
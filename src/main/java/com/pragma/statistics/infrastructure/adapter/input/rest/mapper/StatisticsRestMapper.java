@@ -1,10 +1,28 @@
 package com.pragma.statistics.infrastructure.adapter.input.rest.mapper;
 
 import com.pragma.statistics.domain.model.DashboardStatistics;
+import com.pragma.statistics.domain.model.SkillHeatmap;
+import com.pragma.statistics.domain.model.TimeSeries;
+import com.pragma.statistics.domain.model.TimeSeriesPoint;
+import com.pragma.statistics.domain.model.TransitionLatency;
 import com.pragma.statistics.infrastructure.adapter.input.rest.dto.DashboardStatisticsResponseDto;
+import com.pragma.statistics.infrastructure.adapter.input.rest.dto.SkillHeatmapResponseDto;
+import com.pragma.statistics.infrastructure.adapter.input.rest.dto.TimeSeriesPointDto;
+import com.pragma.statistics.infrastructure.adapter.input.rest.dto.TimeSeriesResponseDto;
+import com.pragma.statistics.infrastructure.adapter.input.rest.dto.TransitionLatencyResponseDto;
 import org.mapstruct.Mapper;
 
+import java.util.List;
+
 @Mapper(componentModel = "spring")
 public interface StatisticsRestMapper {
     DashboardStatisticsResponseDto toResponseDto(DashboardStatistics dashboardStatistics);
+
+    SkillHeatmapResponseDto toResponseDto(SkillHeatmap skillHeatmap);
+
+    TimeSeriesResponseDto toResponseDto(TimeSeries timeSeries);
+
+    TimeSeriesPointDto toDto(TimeSeriesPoint point);
+
+    List<TransitionLatencyResponseDto> toResponseDtos(List<TransitionLatency> latencies);
 }
\ No newline at end of file
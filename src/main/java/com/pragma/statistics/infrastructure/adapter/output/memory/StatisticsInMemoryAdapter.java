@@ -0,0 +1,107 @@
+package com.pragma.statistics.infrastructure.adapter.output.memory;
+
+import com.pragma.skills.domain.model.Skill;
+import com.pragma.statistics.domain.model.SkillChapterEntry;
+import com.pragma.statistics.domain.model.SkillHeatmap;
+import com.pragma.statistics.domain.port.output.StatisticsRepository;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings.infrastructure.adapter.output.memory.TutoringInMemoryAdapter;
+import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import com.pragma.tutorings_requests.infrastructure.adapter.output.memory.TutoringRequestInMemoryAdapter;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.infrastructure.adapter.output.memory.UserInMemoryAdapter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory {@link StatisticsRepository} for the {@code memory} profile.
+ * Counts are computed from the status and chapter indexes of the other in-memory adapters.
+ */
+@Component
+@Primary
+@Profile("memory")
+@RequiredArgsConstructor
+public class StatisticsInMemoryAdapter implements StatisticsRepository {
+
+    private final TutoringRequestInMemoryAdapter requestAdapter;
+    private final TutoringInMemoryAdapter tutoringAdapter;
+    private final UserInMemoryAdapter userAdapter;
+
+    @Override
+    public Map<String, Long> countRequestsByStatus(String chapterId) {
+        Map<String, Long> result = new HashMap<>();
+        for (RequestStatus status : RequestStatus.values()) {
+            result.put(status.name(), (long) requestAdapter.findWithFilters(null, null, status, chapterId).size());
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> countTutoringsByStatus(String chapterId) {
+        Map<String, Long> result = new HashMap<>();
+        for (TutoringStatus status : TutoringStatus.values()) {
+            long count = tutoringAdapter.findByStatus(status).stream()
+                    .filter(tutoring -> chapterId == null || inChapter(tutoring.getTutor(), chapterId)
+                            || inChapter(tutoring.getTutee(), chapterId))
+                    .count();
+            result.put(status.name(), count);
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> countActiveTutorsByChapter(String chapterId) {
+        if (chapterId != null) {
+            Map<String, Long> result = new HashMap<>();
+            result.put("activeTutors", (long) userAdapter.findByFilters(chapterId, RolUsuario.Tutor.name(), null, null).size());
+            return result;
+        }
+        return userAdapter.findByFilters(null, RolUsuario.Tutor.name(), null, null).stream()
+                .filter(user -> user.getChapter() != null && user.getChapter().getName() != null)
+                .collect(Collectors.groupingBy(user -> user.getChapter().getName(), HashMap::new, Collectors.counting()));
+    }
+
+    @Override
+    public List<SkillChapterEntry> findOpenRequestSkills() {
+        List<SkillChapterEntry> entries = new ArrayList<>();
+        for (RequestStatus status : SkillHeatmap.OPEN_REQUEST_STATUSES) {
+            requestAdapter.findWithFilters(null, null, status, null)
+                    .forEach(request -> addEntries(entries, request.getId(), request.getTutee(), request.getSkills()));
+        }
+        return entries;
+    }
+
+    @Override
+    public List<SkillChapterEntry> findActiveTutoringSkills() {
+        List<SkillChapterEntry> entries = new ArrayList<>();
+        tutoringAdapter.findByStatus(TutoringStatus.Activa)
+                .forEach(tutoring -> addEntries(entries, tutoring.getId(), tutoring.getTutor(), tutoring.getSkills()));
+        return entries;
+    }
+
+    private static void addEntries(List<SkillChapterEntry> entries, String itemId, User user, List<Skill> skills) {
+        if (user == null || user.getChapter() == null || skills == null) {
+            return;
+        }
+        for (Skill skill : skills) {
+            if (skill != null) {
+                entries.add(new SkillChapterEntry(itemId, skill.getId(), skill.getName(),
+                        user.getChapter().getId(), user.getChapter().getName()));
+            }
+        }
+    }
+
+    private static boolean inChapter(User user, String chapterId) {
+        return user != null && user.getChapter() != null && chapterId.equals(user.getChapter().getId());
+    }
+}
@@ -0,0 +1,81 @@
+package com.pragma.statistics.infrastructure.adapter.output.memory;
+
+import com.pragma.statistics.domain.model.DailyRollup;
+import com.pragma.statistics.domain.model.StatisticEvent;
+import com.pragma.statistics.domain.model.enums.StatisticMetric;
+import com.pragma.statistics.domain.port.output.StatisticsRollupRepository;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * In-memory {@link StatisticsRollupRepository} for the {@code memory} profile.
+ */
+@Component
+@Primary
+@Profile("memory")
+public class StatisticsRollupInMemoryAdapter implements StatisticsRollupRepository {
+
+    private final NavigableMap<Long, StatisticEvent> events = new TreeMap<>();
+    private final Map<String, DailyRollup> rollups = new HashMap<>();
+    private final Map<String, Long> watermarks = new HashMap<>();
+    private long nextId = 1;
+
+    @Override
+    public synchronized void appendEvent(StatisticMetric metric, String chapterId, Instant occurredAt) {
+        long id = nextId++;
+        events.put(id, new StatisticEvent(id, metric, chapterId, occurredAt));
+    }
+
+    @Override
+    public synchronized List<StatisticEvent> findEventsAfter(long afterId, int limit) {
+        return events.tailMap(afterId, false).values().stream()
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public synchronized void incrementRollup(LocalDate day, String chapterId, StatisticMetric metric, long count) {
+        String id = day + ":" + (chapterId == null ? "" : chapterId) + ":" + metric;
+        rollups.merge(id, new DailyRollup(day, chapterId, metric, count),
+                (current, added) -> new DailyRollup(day, chapterId, metric, current.count() + added.count()));
+    }
+
+    @Override
+    public synchronized List<DailyRollup> findRollups(LocalDate from, LocalDate to, String chapterId) {
+        List<DailyRollup> result = new ArrayList<>();
+        for (DailyRollup rollup : rollups.values()) {
+            if (!rollup.day().isBefore(from) && !rollup.day().isAfter(to)
+                    && (chapterId == null || Objects.equals(chapterId, rollup.chapterId()))) {
+                result.add(rollup);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized long findWatermark(String job) {
+        return watermarks.getOrDefault(job, 0L);
+    }
+
+    @Override
+    public synchronized void saveWatermark(String job, long watermark) {
+        watermarks.put(job, watermark);
+    }
+
+    public synchronized void clear() {
+        events.clear();
+        rollups.clear();
+        watermarks.clear();
+    }
+}
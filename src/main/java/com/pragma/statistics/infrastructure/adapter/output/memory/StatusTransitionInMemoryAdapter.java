@@ -0,0 +1,59 @@
+package com.pragma.statistics.infrastructure.adapter.output.memory;
+
+import com.pragma.statistics.domain.model.StatusTransition;
+import com.pragma.statistics.domain.model.enums.TransitionSubject;
+import com.pragma.statistics.domain.port.output.StatusTransitionRepository;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory {@link StatusTransitionRepository} for the {@code memory} profile.
+ */
+@Component
+@Primary
+@Profile("memory")
+public class StatusTransitionInMemoryAdapter implements StatusTransitionRepository {
+
+    private final NavigableMap<String, StatusTransition> transitions = new ConcurrentSkipListMap<>();
+
+    @Override
+    public void saveAll(List<StatusTransition> toSave) {
+        for (StatusTransition transition : toSave) {
+            String id = UUID.randomUUID().toString();
+            transitions.put(id, new StatusTransition(id, transition.subject(), transition.subjectId(),
+                    transition.chapterId(), transition.fromStatus(), transition.toStatus(), transition.occurredAt(),
+                    transition.elapsedMillis()));
+        }
+    }
+
+    @Override
+    public List<StatusTransition> findAfter(String afterId, int limit) {
+        return transitions.tailMap(afterId, false).values().stream()
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public Map<String, Instant> findLastOccurredAt(TransitionSubject subject, Collection<String> subjectIds) {
+        Set<String> ids = Set.copyOf(subjectIds);
+        return transitions.values().stream()
+                .filter(transition -> transition.subject() == subject && ids.contains(transition.subjectId()))
+                .collect(Collectors.toMap(StatusTransition::subjectId, StatusTransition::occurredAt, BinaryOperator.maxBy(Instant::compareTo)));
+    }
+
+    public void clear() {
+        transitions.clear();
+    }
+}
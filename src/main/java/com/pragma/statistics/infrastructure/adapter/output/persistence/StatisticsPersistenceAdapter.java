@@ -1,5 +1,7 @@
 package com.pragma.statistics.infrastructure.adapter.output.persistence;
 
+import com.pragma.statistics.domain.model.SkillChapterEntry;
+import com.pragma.statistics.domain.model.SkillHeatmap;
 import com.pragma.statistics.domain.port.output.StatisticsRepository;
 import com.pragma.tutorings.domain.model.enums.TutoringStatus;
 import com.pragma.tutorings.infrastructure.adapter.output.persistence.repository.SpringDataTutoringRepository;
@@ -97,4 +99,34 @@ public class StatisticsPersistenceAdapter implements StatisticsRepository {
         }
         return result;
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<SkillChapterEntry> findOpenRequestSkills() {
+        return entityManager.createQuery(
+                        "SELECT tr.id, s.id, s.name, c.id, c.name FROM TutoringRequestsEntity tr"
+                                + " JOIN tr.skills s JOIN tr.tutee u JOIN u.chapter c"
+                                + " WHERE tr.requestStatus IN :statuses", Object[].class)
+                .setParameter("statuses", SkillHeatmap.OPEN_REQUEST_STATUSES)
+                .getResultList()
+                .stream()
+                .map(StatisticsPersistenceAdapter::toEntry)
+                .toList();
+    }
+
+    @Override
+    public List<SkillChapterEntry> findActiveTutoringSkills() {
+        return entityManager.createQuery(
+                        "SELECT t.id, s.id, s.name, c.id, c.name FROM TutoringEntity t"
+                                + " JOIN t.skills s JOIN t.tutorId u JOIN u.chapter c"
+                                + " WHERE t.status = :status", Object[].class)
+                .setParameter("status", TutoringStatus.Activa)
+                .getResultList()
+                .stream()
+                .map(StatisticsPersistenceAdapter::toEntry)
+                .toList();
+    }
+
+    private static SkillChapterEntry toEntry(Object[] row) {
+        return new SkillChapterEntry((String) row[0], (String) row[1], (String) row[2], (String) row[3], (String) row[4]);
+    }
+}
@@ -0,0 +1,69 @@
+package com.pragma.statistics.infrastructure.adapter.output.persistence;
+
+import com.pragma.statistics.domain.model.DailyRollup;
+import com.pragma.statistics.domain.model.StatisticEvent;
+import com.pragma.statistics.domain.model.enums.StatisticMetric;
+import com.pragma.statistics.domain.port.output.StatisticsRollupRepository;
+import com.pragma.statistics.infrastructure.adapter.output.persistence.entity.DailyRollupEntity;
+import com.pragma.statistics.infrastructure.adapter.output.persistence.entity.StatisticEventEntity;
+import com.pragma.statistics.infrastructure.adapter.output.persistence.repository.SpringDataDailyRollupRepository;
+import com.pragma.statistics.infrastructure.adapter.output.persistence.repository.SpringDataStatisticEventRepository;
+import com.pragma.shared.persistence.checkpoint.JobCheckpointEntity;
+import com.pragma.shared.persistence.checkpoint.SpringDataJobCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class StatisticsRollupPersistenceAdapter implements StatisticsRollupRepository {
+
+    private final SpringDataStatisticEventRepository eventRepository;
+    private final SpringDataDailyRollupRepository rollupRepository;
+    private final SpringDataJobCheckpointRepository checkpointRepository;
+
+    @Override
+    public void appendEvent(StatisticMetric metric, String chapterId, Instant occurredAt) {
+        eventRepository.save(new StatisticEventEntity(null, metric, chapterId, occurredAt));
+    }
+
+    @Override
+    public List<StatisticEvent> findEventsAfter(long afterId, int limit) {
+        return eventRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.ofSize(limit))
+                .stream()
+                .map(entity -> new StatisticEvent(entity.getId(), entity.getMetric(), entity.getChapterId(), entity.getOccurredAt()))
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void incrementRollup(LocalDate day, String chapterId, StatisticMetric metric, long count) {
+        String id = day + ":" + (chapterId == null ? "" : chapterId) + ":" + metric;
+        rollupRepository.increment(id, day, chapterId, metric, count);
+    }
+
+    @Override
+    public List<DailyRollup> findRollups(LocalDate from, LocalDate to, String chapterId) {
+        List<DailyRollupEntity> rollups = chapterId == null
+                ? rollupRepository.findByDayBetween(from, to)
+                : rollupRepository.findByDayBetweenAndChapterId(from, to, chapterId);
+        return rollups.stream()
+                .map(entity -> new DailyRollup(entity.getDay(), entity.getChapterId(), entity.getMetric(), entity.getCount()))
+                .toList();
+    }
+
+    @Override
+    public long findWatermark(String job) {
+        return checkpointRepository.findById(job).map(JobCheckpointEntity::getWatermark).orElse(0L);
+    }
+
+    @Override
+    public void saveWatermark(String job, long watermark) {
+        checkpointRepository.save(new JobCheckpointEntity(job, watermark, null, Instant.now()));
+    }
+}
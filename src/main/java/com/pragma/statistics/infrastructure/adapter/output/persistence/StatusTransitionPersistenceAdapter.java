@@ -0,0 +1,56 @@
+package com.pragma.statistics.infrastructure.adapter.output.persistence;
+
+import com.pragma.statistics.domain.model.StatusTransition;
+import com.pragma.statistics.domain.model.enums.TransitionSubject;
+import com.pragma.statistics.domain.port.output.StatusTransitionRepository;
+import com.pragma.statistics.infrastructure.adapter.output.persistence.entity.StatusTransitionEntity;
+import com.pragma.statistics.infrastructure.adapter.output.persistence.repository.SpringDataStatusTransitionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class StatusTransitionPersistenceAdapter implements StatusTransitionRepository {
+
+    private final SpringDataStatusTransitionRepository repository;
+
+    @Override
+    @Transactional
+    public void saveAll(List<StatusTransition> transitions) {
+        // Ids generados por Hibernate: los inserts se agrupan según hibernate.jdbc.batch_size
+        repository.saveAll(transitions.stream()
+                .map(transition -> new StatusTransitionEntity(null, transition.subject(), transition.subjectId(),
+                        transition.chapterId(), transition.fromStatus(), transition.toStatus(),
+                        transition.occurredAt(), transition.elapsedMillis()))
+                .toList());
+    }
+
+    @Override
+    public List<StatusTransition> findAfter(String afterId, int limit) {
+        return repository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.ofSize(limit)).stream()
+                .map(entity -> new StatusTransition(entity.getId(), entity.getSubject(), entity.getSubjectId(),
+                        entity.getChapterId(), entity.getFromStatus(), entity.getToStatus(), entity.getOccurredAt(),
+                        entity.getElapsedMillis()))
+                .toList();
+    }
+
+    @Override
+    public Map<String, Instant> findLastOccurredAt(TransitionSubject subject, Collection<String> subjectIds) {
+        if (subjectIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Instant> lastOccurredAt = new HashMap<>();
+        for (Object[] row : repository.findLastOccurredAt(subject, subjectIds)) {
+            lastOccurredAt.put((String) row[0], (Instant) row[1]);
+        }
+        return lastOccurredAt;
+    }
+}
@@ -0,0 +1,34 @@
+package com.pragma.statistics.infrastructure.adapter.output.persistence.entity;
+
+import com.pragma.statistics.domain.model.enums.StatisticMetric;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "statistics_daily_rollups", indexes = {
+        @Index(name = "idx_statistics_daily_rollups_day_chapter", columnList = "rollup_day, chapter_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyRollupEntity {
+    @Id
+    private String id; // "<día>:<chapterId>:<métrica>"
+
+    @Column(name = "rollup_day", nullable = false)
+    private LocalDate day;
+
+    @Column(name = "chapter_id")
+    private String chapterId; // "Capítulo del tutee, null si no tiene"
+
+    @Column(name = "metric", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private StatisticMetric metric;
+
+    @Column(name = "event_count", nullable = false)
+    private long count;
+}
@@ -0,0 +1,30 @@
+package com.pragma.statistics.infrastructure.adapter.output.persistence.entity;
+
+import com.pragma.statistics.domain.model.enums.StatisticMetric;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "statistic_events")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatisticEventEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // "Creciente: marca de agua del job de resúmenes"
+
+    @Column(name = "metric", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private StatisticMetric metric;
+
+    @Column(name = "chapter_id")
+    private String chapterId; // "Capítulo del tutee, null si no tiene"
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+}
@@ -0,0 +1,44 @@
+package com.pragma.statistics.infrastructure.adapter.output.persistence.entity;
+
+import com.pragma.statistics.domain.model.enums.TransitionSubject;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "status_transitions", indexes = {
+        @Index(name = "idx_status_transitions_subject", columnList = "subject, subject_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusTransitionEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id; // "UUID generado por Hibernate, permite insertar por lotes"
+
+    @Column(name = "subject", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private TransitionSubject subject; // "Solicitud o tutoría"
+
+    @Column(name = "subject_id", nullable = false)
+    private String subjectId;
+
+    @Column(name = "chapter_id")
+    private String chapterId; // "Capítulo del tutee, null si no tiene"
+
+    @Column(name = "from_status")
+    private String fromStatus; // "Null al crear la solicitud o tutoría"
+
+    @Column(name = "to_status", nullable = false)
+    private String toStatus;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    @Column(name = "elapsed_millis")
+    private Long elapsedMillis; // "Tiempo en el estado anterior"
+}
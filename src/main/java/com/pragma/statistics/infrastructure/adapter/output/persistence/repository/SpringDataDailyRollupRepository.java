@@ -0,0 +1,28 @@
+package com.pragma.statistics.infrastructure.adapter.output.persistence.repository;
+
+import com.pragma.statistics.domain.model.enums.StatisticMetric;
+import com.pragma.statistics.infrastructure.adapter.output.persistence.entity.DailyRollupEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface SpringDataDailyRollupRepository extends JpaRepository<DailyRollupEntity, String> {
+
+    // Upsert atómico, como los agregados de valoraciones: el primer evento del día inserta la fila
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO DailyRollupEntity (id, day, chapterId, metric, count) " +
+           "VALUES (:id, :day, :chapterId, :metric, :count) " +
+           "ON CONFLICT(id) DO UPDATE SET count = count + :count")
+    int increment(@Param("id") String id, @Param("day") LocalDate day, @Param("chapterId") String chapterId,
+                  @Param("metric") StatisticMetric metric, @Param("count") long count);
+
+    List<DailyRollupEntity> findByDayBetween(LocalDate from, LocalDate to);
+
+    List<DailyRollupEntity> findByDayBetweenAndChapterId(LocalDate from, LocalDate to, String chapterId);
+}
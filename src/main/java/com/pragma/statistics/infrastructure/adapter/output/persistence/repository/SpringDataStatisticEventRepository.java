@@ -0,0 +1,14 @@
+package com.pragma.statistics.infrastructure.adapter.output.persistence.repository;
+
+import com.pragma.statistics.infrastructure.adapter.output.persistence.entity.StatisticEventEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SpringDataStatisticEventRepository extends JpaRepository<StatisticEventEntity, Long> {
+
+    List<StatisticEventEntity> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+}
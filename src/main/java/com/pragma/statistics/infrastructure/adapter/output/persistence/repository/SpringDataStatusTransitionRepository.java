@@ -0,0 +1,24 @@
+package com.pragma.statistics.infrastructure.adapter.output.persistence.repository;
+
+import com.pragma.statistics.domain.model.enums.TransitionSubject;
+import com.pragma.statistics.infrastructure.adapter.output.persistence.entity.StatusTransitionEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SpringDataStatusTransitionRepository extends JpaRepository<StatusTransitionEntity, String> {
+
+    List<StatusTransitionEntity> findByIdGreaterThanOrderByIdAsc(String id, Pageable pageable);
+
+    // Usa el índice idx_status_transitions_subject; cada fila es {subjectId, MAX(occurredAt)}
+    @Query("SELECT t.subjectId, MAX(t.occurredAt) FROM StatusTransitionEntity t"
+            + " WHERE t.subject = :subject AND t.subjectId IN :subjectIds GROUP BY t.subjectId")
+    List<Object[]> findLastOccurredAt(@Param("subject") TransitionSubject subject,
+                                      @Param("subjectIds") Collection<String> subjectIds);
+}
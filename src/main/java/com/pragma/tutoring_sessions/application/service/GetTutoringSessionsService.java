@@ -1,11 +1,14 @@
 package com.pragma.tutoring_sessions.application.service;
 
+import com.pragma.shared.config.TutoringSessionProperties;
 import com.pragma.tutoring_sessions.domain.model.TutoringSession;
 import com.pragma.tutoring_sessions.domain.port.input.GetTutoringSessionsUseCase;
 import com.pragma.tutoring_sessions.domain.port.output.TutoringSessionRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 
 @Service
@@ -13,9 +16,33 @@ import java.util.List;
 public class GetTutoringSessionsService implements GetTutoringSessionsUseCase {
 
     private final TutoringSessionRepository tutoringSessionRepository;
+    private final SessionDateTimeParser dateTimeParser;
+    private final TutoringSessionProperties properties;
 
     @Override
     public List<TutoringSession> getSessionsByTutoringId(String tutoringId) {
         return tutoringSessionRepository.findByTutoringId(tutoringId);
     }
+
+    @Override
+    public List<TutoringSession> getSessionsByTutoringId(String tutoringId, boolean includeHistory) {
+        return includeHistory ? tutoringSessionRepository.findByTutoringIdIncludingHistory(tutoringId)
+                : getSessionsByTutoringId(tutoringId);
+    }
+
+    @Override
+    public List<TutoringSession> getSessionsByParticipant(String participantId, String from, String to) {
+        if (participantId == null || participantId.isBlank()) {
+            throw new IllegalArgumentException("Participant ID is required");
+        }
+        Instant fromInstant = dateTimeParser.parse(from);
+        Instant toInstant = dateTimeParser.parse(to);
+        if (!fromInstant.isBefore(toInstant)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        if (Duration.between(fromInstant, toInstant).compareTo(Duration.ofDays(properties.getMaxRangeDays())) > 0) {
+            throw new IllegalArgumentException("The requested range cannot exceed " + properties.getMaxRangeDays() + " days");
+        }
+        return tutoringSessionRepository.findByParticipantAndRange(participantId, fromInstant, toInstant);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.pragma.tutoring_sessions.application.service;
+
+import com.pragma.shared.config.TutoringSessionProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Converts the datetimes sent by clients into instants. Values with an offset or a {@code Z}
+ * are taken as-is; local values (and plain dates, at start of day) are interpreted in
+ * {@code app.sessions.default-zone}.
+ */
+@Component
+@RequiredArgsConstructor
+public class SessionDateTimeParser {
+
+    private final TutoringSessionProperties properties;
+
+    public Instant parse(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Datetime is required");
+        }
+        String normalized = value.trim().replace(' ', 'T');
+        try {
+            return OffsetDateTime.parse(normalized).toInstant();
+        } catch (DateTimeParseException ignored) {
+            // Sin offset: se interpreta en la zona por defecto
+        }
+        ZoneId zone = ZoneId.of(properties.getDefaultZone());
+        try {
+            return LocalDateTime.parse(normalized).atZone(zone).toInstant();
+        } catch (DateTimeParseException ignored) {
+            // Puede ser solo una fecha
+        }
+        try {
+            return LocalDate.parse(normalized).atStartOfDay(zone).toInstant();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid datetime format: " + value
+                    + ". Expected ISO-8601, e.g. 2025-06-01T10:00:00-05:00", e);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.pragma.tutoring_sessions.application.service;
+
+import com.pragma.tutoring_sessions.domain.model.SessionSlot;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * In-memory index of the active sessions of every participant (tutor or tutee), sorted by start.
+ * An overlap lookup only scans the slots starting in {@code [start - longest duration, end)} of
+ * each participant, so it costs O(log n + k) instead of loading the participant's whole agenda.
+ * Populated at startup by {@link SessionIntervalIndexLoader} and kept up to date by
+ * {@link TutoringSessionService}.
+ */
+@Component
+public class SessionIntervalIndex {
+
+    private static final Comparator<SessionSlot> BY_START = Comparator
+            .comparing(SessionSlot::start)
+            .thenComparing(SessionSlot::sessionId);
+
+    private final Map<String, Agenda> agendas = new HashMap<>();
+    private final Map<String, SessionSlot> bySession = new HashMap<>();
+
+    /**
+     * Returns the indexed slots of {@code participantIds} that overlap {@code [start, end)}, ordered by start.
+     */
+    public synchronized List<SessionSlot> findOverlapping(Collection<String> participantIds, Instant start, Instant end) {
+        Set<SessionSlot> overlapping = new LinkedHashSet<>();
+        for (String participantId : participantIds) {
+            Agenda agenda = participantId == null ? null : agendas.get(participantId);
+            if (agenda == null) {
+                continue;
+            }
+            NavigableSet<SessionSlot> candidates = agenda.slots.subSet(
+                    probe(start.minus(agenda.longest)), true, probe(end), false);
+            for (SessionSlot slot : candidates) {
+                if (slot.overlaps(start, end)) {
+                    overlapping.add(slot);
+                }
+            }
+        }
+        List<SessionSlot> result = new ArrayList<>(overlapping);
+        result.sort(BY_START);
+        return result;
+    }
+
+    /**
+     * Adds or replaces the slot of a session. Slots without id or start are ignored.
+     */
+    public synchronized void put(SessionSlot slot) {
+        if (slot.sessionId() == null || slot.start() == null) {
+            return;
+        }
+        remove(slot.sessionId());
+        bySession.put(slot.sessionId(), slot);
+        for (String participantId : participants(slot)) {
+            agendas.computeIfAbsent(participantId, id -> new Agenda()).add(slot);
+        }
+    }
+
+    public synchronized void remove(String sessionId) {
+        SessionSlot previous = sessionId == null ? null : bySession.remove(sessionId);
+        if (previous == null) {
+            return;
+        }
+        for (String participantId : participants(previous)) {
+            Agenda agenda = agendas.get(participantId);
+            if (agenda != null) {
+                agenda.slots.remove(previous);
+                if (agenda.slots.isEmpty()) {
+                    agendas.remove(participantId);
+                }
+            }
+        }
+    }
+
+    public synchronized void rebuild(Collection<SessionSlot> slots) {
+        agendas.clear();
+        bySession.clear();
+        slots.forEach(this::put);
+    }
+
+    public synchronized int size() {
+        return bySession.size();
+    }
+
+    private static Set<String> participants(SessionSlot slot) {
+        Set<String> participants = new LinkedHashSet<>();
+        if (slot.tutorId() != null) {
+            participants.add(slot.tutorId());
+        }
+        if (slot.tuteeId() != null) {
+            participants.add(slot.tuteeId());
+        }
+        return participants;
+    }
+
+    private static SessionSlot probe(Instant start) {
+        return new SessionSlot("", null, null, start, start);
+    }
+
+    /**
+     * Slots of one participant. {@code longest} only grows, which keeps lookups correct after removals.
+     */
+    private static final class Agenda {
+        private final NavigableSet<SessionSlot> slots = new TreeSet<>(BY_START);
+        private Duration longest = Duration.ZERO;
+
+        void add(SessionSlot slot) {
+            slots.add(slot);
+            Duration duration = Duration.between(slot.start(), slot.end());
+            if (duration.compareTo(longest) > 0) {
+                longest = duration;
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.pragma.tutoring_sessions.application.service;
+
+import com.pragma.tutoring_sessions.domain.model.SessionSlot;
+import com.pragma.tutoring_sessions.domain.port.output.TutoringSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Loads the active (non-cancelled) sessions into {@link SessionIntervalIndex} once the application is ready.
+ * Runs after the {@code scheduled_at} backfill so migrated sessions are included.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SessionIntervalIndexLoader {
+
+    private final TutoringSessionRepository tutoringSessionRepository;
+    private final SessionIntervalIndex intervalIndex;
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<SessionSlot> slots = tutoringSessionRepository.findActiveSlots();
+        intervalIndex.rebuild(slots);
+        log.info("Índice de sesiones por participante cargado: {} sesiones activas", intervalIndex.size());
+    }
+}
@@ -0,0 +1,109 @@
+package com.pragma.tutoring_sessions.application.service;
+
+import com.pragma.notifications.domain.port.output.NotificationSender;
+import com.pragma.shared.config.ReminderProperties;
+import com.pragma.shared.config.TutoringSessionProperties;
+import com.pragma.shared.scheduling.HashedTimingWheel;
+import com.pragma.tutoring_sessions.domain.model.SessionSlot;
+import com.pragma.tutoring_sessions.domain.model.TutoringSession;
+import com.pragma.tutoring_sessions.domain.port.output.TutoringSessionRepository;
+import com.pragma.tutorings_requests.domain.model.enums.TutoringsSessionStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Schedules the reminders of each {@code Programada} session on the {@link HashedTimingWheel},
+ * one per configured lead time. Upcoming sessions are loaded when the application is ready;
+ * afterwards {@link TutoringSessionService} keeps the wheel in sync on create and status changes.
+ * The wheel hands fired reminders to its worker threads. Every replica arms its own wheel, so a reminder
+ * is only sent by the replica whose conditional {@link TutoringSessionRepository#markReminded} succeeds;
+ * that update also checks the session is still {@code Programada} at the same time, so stale entries
+ * never notify.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SessionReminderScheduler {
+
+    private static final DateTimeFormatter FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final HashedTimingWheel timingWheel;
+    private final TutoringSessionRepository tutoringSessionRepository;
+    private final NotificationSender notificationSender;
+    private final ReminderProperties reminderProperties;
+    private final TutoringSessionProperties sessionProperties;
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadUpcoming() {
+        if (!reminderProperties.isEnabled()) {
+            return;
+        }
+        List<SessionSlot> upcoming = tutoringSessionRepository.findUpcomingSlots(Instant.now());
+        upcoming.forEach(this::schedule);
+        log.info("Recordatorios programados para {} sesiones próximas ({} pendientes)", upcoming.size(), timingWheel.pending());
+    }
+
+    public void schedule(SessionSlot slot) {
+        if (!reminderProperties.isEnabled() || slot.sessionId() == null || slot.start() == null) {
+            return;
+        }
+        Instant now = Instant.now();
+        for (Duration lead : reminderProperties.getLeadTimes()) {
+            Instant remindAt = slot.start().minus(lead);
+            if (remindAt.isAfter(now)) {
+                timingWheel.schedule(key(slot.sessionId(), lead), remindAt,
+                        () -> remind(slot.sessionId(), slot.start(), remindAt));
+            } else {
+                timingWheel.cancel(key(slot.sessionId(), lead));
+            }
+        }
+    }
+
+    public void cancel(String sessionId) {
+        for (Duration lead : reminderProperties.getLeadTimes()) {
+            timingWheel.cancel(key(sessionId, lead));
+        }
+    }
+
+    void remind(String sessionId, Instant expectedStart, Instant remindAt) {
+        if (!tutoringSessionRepository.markReminded(sessionId, expectedStart, remindAt)) {
+            log.debug("Recordatorio de la sesión {} omitido: ya enviado o la sesión cambió", sessionId);
+            return;
+        }
+        TutoringSession session = tutoringSessionRepository.findById(sessionId).orElse(null);
+        if (session == null || session.getSessionStatus() != TutoringsSessionStatus.Programada
+                || !expectedStart.equals(session.getDatetime()) || session.getTutoring() == null) {
+            return;
+        }
+        String message = message(session);
+        notificationSender.send(session.getTutoring().getTutor(), message);
+        notificationSender.send(session.getTutoring().getTutee(), message);
+    }
+
+    private String message(TutoringSession session) {
+        String start = FORMAT.format(session.getDatetime().atZone(ZoneId.of(sessionProperties.getDefaultZone())));
+        StringBuilder message = new StringBuilder("Recordatorio: tienes una sesión de tutoría el ")
+                .append(start).append(" (").append(sessionProperties.getDefaultZone()).append("), ")
+                .append(session.getDurationMinutes()).append(" min.");
+        if (session.getLocationLink() != null && !session.getLocationLink().isBlank()) {
+            message.append(" Enlace: ").append(session.getLocationLink());
+        }
+        return message.toString();
+    }
+
+    private static String key(String sessionId, Duration lead) {
+        return "session-reminder:" + sessionId + ":" + lead;
+    }
+}
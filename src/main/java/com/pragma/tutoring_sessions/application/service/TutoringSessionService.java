@@ -1,6 +1,13 @@
 package com.pragma.tutoring_sessions.application.service;
 
+import com.pragma.shared.config.TutoringSessionProperties;
+import com.pragma.shared.events.DomainEventPublisher;
+import com.pragma.shared.persistence.AfterCommit;
+import com.pragma.tutoring_sessions.domain.event.SessionScheduled;
+import com.pragma.tutoring_sessions.domain.model.RecurrenceRule;
+import com.pragma.tutoring_sessions.domain.model.SessionSlot;
 import com.pragma.tutoring_sessions.domain.model.TutoringSession;
+import com.pragma.tutoring_sessions.domain.port.input.CreateTutoringSessionSeriesUseCase;
 import com.pragma.tutoring_sessions.domain.port.input.CreateTutoringSessionUseCase;
 import com.pragma.tutoring_sessions.domain.port.input.UpdateTutoringSessionStatusUseCase;
 import com.pragma.tutoring_sessions.domain.port.output.TutoringSessionRepository;
@@ -9,40 +16,196 @@ import com.pragma.tutorings.domain.port.output.TutoringRepository;
 import com.pragma.tutorings_requests.domain.model.enums.TutoringsSessionStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
-public class TutoringSessionService implements CreateTutoringSessionUseCase, UpdateTutoringSessionStatusUseCase {
+public class TutoringSessionService implements CreateTutoringSessionUseCase, CreateTutoringSessionSeriesUseCase,
+        UpdateTutoringSessionStatusUseCase {
 
     private final TutoringSessionRepository tutoringSessionRepository;
     private final TutoringRepository tutoringRepository;
+    private final SessionDateTimeParser dateTimeParser;
+    private final SessionIntervalIndex intervalIndex;
+    private final TutoringSessionProperties properties;
+    private final SessionReminderScheduler reminderScheduler;
+    private final DomainEventPublisher domainEventPublisher;
+
+    // Serializa comprobación de solapamiento + guardado para que dos reservas simultáneas no se colen
+    private final ReentrantLock scheduleLock = new ReentrantLock();
 
     @Override
+    @Transactional
     public TutoringSession createTutoringSession(String tutoringId, String datetime, int durationMinutes, String locationLink, String topicsCovered) {
+        Instant scheduledAt = dateTimeParser.parse(datetime);
+
         // Validate tutoring exists
         Tutoring tutoring = tutoringRepository.findById(tutoringId)
                 .orElseThrow(() -> new IllegalArgumentException("Tutoring not found with id: " + tutoringId));
         
         // Create new tutoring session
-        TutoringSession tutoringSession = new TutoringSession();
-        tutoringSession.setTutoring(tutoring);
-        tutoringSession.setDatetime(datetime);
-        tutoringSession.setDurationMinutes(durationMinutes);
-        tutoringSession.setLocationLink(locationLink);
-        tutoringSession.setTopicsCovered(topicsCovered);
-        tutoringSession.setSessionStatus(TutoringsSessionStatus.Programada); // Default status
-        
-        return tutoringSessionRepository.save(tutoringSession);
+        TutoringSession tutoringSession = newSession(tutoring, scheduledAt, durationMinutes, locationLink, topicsCovered);
+
+        return withScheduleLock(() -> {
+            checkConflicts(tutoringSession);
+            TutoringSession saved = tutoringSessionRepository.save(tutoringSession);
+            AfterCommit.run(() -> track(saved));
+            domainEventPublisher.publish(scheduled(saved));
+            return saved;
+        });
+    }
+
+    @Override
+    @Transactional
+    public List<TutoringSession> createTutoringSessionSeries(String tutoringId, String firstDatetime, int durationMinutes,
+                                                             RecurrenceRule recurrence, String until,
+                                                             String locationLink, String topicsCovered) {
+        Instant first = dateTimeParser.parse(firstDatetime);
+        if (recurrence == null || recurrence.frequency() == null || recurrence.interval() < 1) {
+            throw new IllegalArgumentException("A recurrence frequency and a positive interval are required");
+        }
+
+        // Validate tutoring exists (once for the whole series)
+        Tutoring tutoring = tutoringRepository.findById(tutoringId)
+                .orElseThrow(() -> new IllegalArgumentException("Tutoring not found with id: " + tutoringId));
+
+        Instant limit = until != null && !until.isBlank()
+                ? dateTimeParser.parse(until)
+                : Optional.ofNullable(tutoring.getExpectedEndDate()).map(Date::toInstant)
+                        .orElseThrow(() -> new IllegalArgumentException("'until' is required when the tutoring has no expected end date"));
+
+        int maxOccurrences = properties.getMaxSeriesOccurrences();
+        List<Instant> starts = recurrence.expand(first.atZone(ZoneId.of(properties.getDefaultZone())), limit, maxOccurrences + 1);
+        if (starts.isEmpty()) {
+            throw new IllegalArgumentException("The recurrence produces no sessions before " + limit);
+        }
+        if (starts.size() > maxOccurrences) {
+            throw new IllegalArgumentException("The recurrence produces more than " + maxOccurrences + " sessions");
+        }
+        Duration duration = Duration.ofMinutes(durationMinutes);
+        for (int i = 1; i < starts.size(); i++) {
+            if (starts.get(i - 1).plus(duration).isAfter(starts.get(i))) {
+                throw new IllegalArgumentException("Sessions in the series would overlap each other");
+            }
+        }
+
+        List<TutoringSession> sessions = new ArrayList<>(starts.size());
+        for (Instant start : starts) {
+            sessions.add(newSession(tutoring, start, durationMinutes, locationLink, topicsCovered));
+        }
+
+        return withScheduleLock(() -> {
+            sessions.forEach(this::checkConflicts);
+            List<TutoringSession> saved = tutoringSessionRepository.saveAll(sessions);
+            AfterCommit.run(() -> saved.forEach(this::track));
+            domainEventPublisher.publishAll(saved.stream().map(TutoringSessionService::scheduled).toList());
+            return saved;
+        });
     }
 
     @Override
+    @Transactional
     public TutoringSession updateSessionStatus(String sessionId, TutoringsSessionStatus newStatus, String notes) {
         // Validate session exists
         tutoringSessionRepository.findById(sessionId)
                 .orElseThrow(() -> new IllegalArgumentException("Tutoring session not found with id: " + sessionId));
         
         // Update status and notes
-        return tutoringSessionRepository.updateStatus(sessionId, newStatus, notes);
+        TutoringSession updated = tutoringSessionRepository.updateStatus(sessionId, newStatus, notes);
+
+        SessionSlot slot = updated != null && updated.getDatetime() != null ? SessionSlot.of(updated) : null;
+        AfterCommit.run(() -> {
+            // Cancelled sessions no longer block the participants' agenda
+            if (newStatus == TutoringsSessionStatus.Cancelada) {
+                intervalIndex.remove(sessionId);
+            } else if (slot != null) {
+                intervalIndex.put(slot);
+            }
+
+            // Only scheduled sessions get reminders
+            if (newStatus == TutoringsSessionStatus.Programada && slot != null) {
+                reminderScheduler.schedule(slot);
+            } else {
+                reminderScheduler.cancel(sessionId);
+            }
+        });
+        return updated;
+    }
+
+    private static TutoringSession newSession(Tutoring tutoring, Instant scheduledAt, int durationMinutes,
+                                              String locationLink, String topicsCovered) {
+        TutoringSession tutoringSession = new TutoringSession();
+        tutoringSession.setTutoring(tutoring);
+        tutoringSession.setDatetime(scheduledAt);
+        tutoringSession.setDurationMinutes(durationMinutes);
+        tutoringSession.setLocationLink(locationLink);
+        tutoringSession.setTopicsCovered(topicsCovered);
+        tutoringSession.setSessionStatus(TutoringsSessionStatus.Programada); // Default status
+        return tutoringSession;
+    }
+
+    /**
+     * Runs the conflict check and the insert holding {@code scheduleLock}. Inside a transaction the lock is
+     * released only once it completes, after the commit has put the new sessions in the interval index,
+     * so the next booking always checks against them.
+     */
+    private <T> T withScheduleLock(Supplier<T> action) {
+        scheduleLock.lock();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            try {
+                return action.get();
+            } finally {
+                scheduleLock.unlock();
+            }
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                scheduleLock.unlock();
+            }
+        });
+        return action.get();
+    }
+
+    // Rejects or flags the session depending on app.sessions.conflict-policy; callers hold scheduleLock
+    private void checkConflicts(TutoringSession tutoringSession) {
+        SessionSlot candidate = SessionSlot.of(tutoringSession);
+        List<SessionSlot> conflicts = intervalIndex.findOverlapping(
+                Arrays.asList(candidate.tutorId(), candidate.tuteeId()),
+                candidate.start(), candidate.end());
+        if (conflicts.isEmpty()) {
+            return;
+        }
+        if (properties.getConflictPolicy() == TutoringSessionProperties.ConflictPolicy.REJECT) {
+            throw new IllegalArgumentException("Session overlaps an existing session of the tutor or tutee (session id: "
+                    + conflicts.get(0).sessionId() + ", starts at " + conflicts.get(0).start() + ")");
+        }
+        tutoringSession.setHasConflict(true);
+    }
+
+    private static SessionScheduled scheduled(TutoringSession saved) {
+        SessionSlot slot = SessionSlot.of(saved);
+        String tutoringId = saved.getTutoring() == null ? null : saved.getTutoring().getId();
+        return new SessionScheduled(saved.getId(), tutoringId, slot.tutorId(), slot.tuteeId(),
+                saved.getDatetime(), saved.getDurationMinutes(), Instant.now());
+    }
+
+    private void track(TutoringSession saved) {
+        SessionSlot slot = SessionSlot.of(saved);
+        intervalIndex.put(slot);
+        reminderScheduler.schedule(slot);
     }
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.pragma.tutoring_sessions.domain.event;
+
+import com.pragma.shared.events.DomainEvent;
+
+import java.time.Instant;
+
+/**
+ * A session of a tutoring was scheduled at {@code datetime}.
+ */
+public record SessionScheduled(String sessionId, String tutoringId, String tutorId, String tuteeId, Instant datetime,
+                               int durationMinutes, Instant occurredAt) implements DomainEvent {
+}
@@ -0,0 +1,40 @@
+package com.pragma.tutoring_sessions.domain.model;
+
+import com.pragma.tutoring_sessions.domain.model.enums.RecurrenceFrequency;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Repetition of a session every {@code interval} days, weeks or months, optionally capped at {@code count} occurrences.
+ */
+public record RecurrenceRule(RecurrenceFrequency frequency, int interval, Integer count) {
+
+    /**
+     * Returns the occurrence starts from {@code first} up to {@code until} (inclusive), at most {@code limit} of them.
+     * Each occurrence is computed from {@code first} in its own zone, so the wall-clock time survives DST changes
+     * and monthly series keep their day of month where it exists.
+     */
+    public List<Instant> expand(ZonedDateTime first, Instant until, int limit) {
+        int max = count == null ? limit : Math.min(count, limit);
+        List<Instant> starts = new ArrayList<>();
+        for (long step = 0; starts.size() < max; step++) {
+            Instant start = occurrence(first, step * interval).toInstant();
+            if (start.isAfter(until)) {
+                break;
+            }
+            starts.add(start);
+        }
+        return starts;
+    }
+
+    private ZonedDateTime occurrence(ZonedDateTime first, long units) {
+        return switch (frequency) {
+            case DAILY -> first.plusDays(units);
+            case WEEKLY -> first.plusWeeks(units);
+            case MONTHLY -> first.plusMonths(units);
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.pragma.tutoring_sessions.domain.model;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Time occupied by a session for its tutor and tutee, as the half-open interval [start, end).
+ */
+public record SessionSlot(String sessionId, String tutorId, String tuteeId, Instant start, Instant end) {
+
+    public SessionSlot(String sessionId, String tutorId, String tuteeId, Instant start, int durationMinutes) {
+        this(sessionId, tutorId, tuteeId, start, start == null ? null : start.plus(Duration.ofMinutes(durationMinutes)));
+    }
+
+    public static SessionSlot of(TutoringSession session) {
+        String tutorId = null;
+        String tuteeId = null;
+        if (session.getTutoring() != null) {
+            tutorId = session.getTutoring().getTutor() == null ? null : session.getTutoring().getTutor().getId();
+            tuteeId = session.getTutoring().getTutee() == null ? null : session.getTutoring().getTutee().getId();
+        }
+        return new SessionSlot(session.getId(), tutorId, tuteeId, session.getDatetime(), session.getDurationMinutes());
+    }
+
+    public boolean overlaps(Instant otherStart, Instant otherEnd) {
+        return start.isBefore(otherEnd) && otherStart.isBefore(end);
+    }
+}
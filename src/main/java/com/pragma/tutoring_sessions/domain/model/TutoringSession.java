@@ -6,16 +6,19 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class TutoringSession {
     private String id;
     private Tutoring tutoring;
-    private String datetime;
+    private Instant datetime;
     private int durationMinutes;
     private String locationLink;
     private String topicsCovered;
     private String notes;
     private TutoringsSessionStatus sessionStatus;
+    private Boolean hasConflict;
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.pragma.tutoring_sessions.domain.model.enums;
+
+public enum RecurrenceFrequency {
+    DAILY,
+    WEEKLY,
+    MONTHLY
+}
@@ -0,0 +1,12 @@
+package com.pragma.tutoring_sessions.domain.port.input;
+
+import com.pragma.tutoring_sessions.domain.model.RecurrenceRule;
+import com.pragma.tutoring_sessions.domain.model.TutoringSession;
+
+import java.util.List;
+
+public interface CreateTutoringSessionSeriesUseCase {
+    List<TutoringSession> createTutoringSessionSeries(String tutoringId, String firstDatetime, int durationMinutes,
+                                                      RecurrenceRule recurrence, String until,
+                                                      String locationLink, String topicsCovered);
+}
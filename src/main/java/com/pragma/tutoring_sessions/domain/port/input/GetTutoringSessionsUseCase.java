@@ -6,4 +6,10 @@ import java.util.List;
 
 public interface GetTutoringSessionsUseCase {
     List<TutoringSession> getSessionsByTutoringId(String tutoringId);
+
+    /**
+     * With {@code includeHistory}, the sessions of an archived tutoring are returned too.
+     */
+    List<TutoringSession> getSessionsByTutoringId(String tutoringId, boolean includeHistory);
+    List<TutoringSession> getSessionsByParticipant(String participantId, String from, String to);
 }
\ No newline at end of file
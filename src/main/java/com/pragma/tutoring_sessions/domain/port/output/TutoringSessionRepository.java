@@ -1,14 +1,38 @@
 package com.pragma.tutoring_sessions.domain.port.output;
 
+import com.pragma.tutoring_sessions.domain.model.SessionSlot;
 import com.pragma.tutoring_sessions.domain.model.TutoringSession;
 import com.pragma.tutorings_requests.domain.model.enums.TutoringsSessionStatus;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface TutoringSessionRepository {
     TutoringSession save(TutoringSession tutoringSession);
+    List<TutoringSession> saveAll(List<TutoringSession> tutoringSessions);
     Optional<TutoringSession> findById(String id);
     List<TutoringSession> findByTutoringId(String tutoringId);
+
+    /**
+     * Like {@link #findByTutoringId(String)}, followed by the archived sessions of the tutoring.
+     */
+    List<TutoringSession> findByTutoringIdIncludingHistory(String tutoringId);
+    List<TutoringSession> findByParticipantAndRange(String participantId, Instant from, Instant to);
+
+    /**
+     * Hands every session to {@code consumer}, one chunk at a time, without holding the table in memory.
+     */
+    void streamAll(Consumer<TutoringSession> consumer);
+    List<SessionSlot> findActiveSlots();
+    List<SessionSlot> findUpcomingSlots(Instant from);
     TutoringSession updateStatus(String id, TutoringsSessionStatus newStatus, String notes);
+
+    /**
+     * Records that the reminder due at {@code remindAt} is being sent, in a single conditional update.
+     * Returns {@code false} when the session is no longer {@code Programada} at {@code expectedStart}, or when
+     * this reminder or a later one was already recorded, so each reminder is sent once across replicas.
+     */
+    boolean markReminded(String id, Instant expectedStart, Instant remindAt);
 }
\ No newline at end of file
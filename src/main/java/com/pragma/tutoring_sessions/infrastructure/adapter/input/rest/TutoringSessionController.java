@@ -1,10 +1,15 @@
 package com.pragma.tutoring_sessions.infrastructure.adapter.input.rest;
 
+import com.pragma.shared.context.UserContextHelper;
 import com.pragma.shared.dto.OkResponseDto;
+import com.pragma.tutoring_sessions.domain.model.RecurrenceRule;
 import com.pragma.tutoring_sessions.domain.model.TutoringSession;
+import com.pragma.tutoring_sessions.domain.port.input.CreateTutoringSessionSeriesUseCase;
 import com.pragma.tutoring_sessions.domain.port.input.CreateTutoringSessionUseCase;
+import com.pragma.tutoring_sessions.domain.port.input.GetTutoringSessionsUseCase;
 import com.pragma.tutoring_sessions.domain.port.input.UpdateTutoringSessionStatusUseCase;
 import com.pragma.tutoring_sessions.infrastructure.adapter.input.rest.dto.CreateTutoringSessionDto;
+import com.pragma.tutoring_sessions.infrastructure.adapter.input.rest.dto.CreateTutoringSessionSeriesDto;
 import com.pragma.tutoring_sessions.infrastructure.adapter.input.rest.dto.TutoringSessionDto;
 import com.pragma.tutoring_sessions.infrastructure.adapter.input.rest.dto.UpdateTutoringSessionStatusDto;
 import com.pragma.tutoring_sessions.infrastructure.adapter.input.rest.mapper.TutoringSessionDtoMapper;
@@ -14,13 +19,17 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/tutoring-sessions")
 @RequiredArgsConstructor
 public class TutoringSessionController {
 
     private final CreateTutoringSessionUseCase createTutoringSessionUseCase;
+    private final CreateTutoringSessionSeriesUseCase createTutoringSessionSeriesUseCase;
     private final UpdateTutoringSessionStatusUseCase updateTutoringSessionStatusUseCase;
+    private final GetTutoringSessionsUseCase getTutoringSessionsUseCase;
     private final TutoringSessionDtoMapper mapper;
 
     @PostMapping
@@ -40,6 +49,43 @@ public class TutoringSessionController {
                 .body(OkResponseDto.of("Tutoring session created successfully", responseDto));
     }
 
+    @PostMapping("/series")
+    public ResponseEntity<OkResponseDto<List<TutoringSessionDto>>> createTutoringSessionSeries(
+            @Valid @RequestBody CreateTutoringSessionSeriesDto seriesDto) {
+
+        List<TutoringSession> sessions = createTutoringSessionSeriesUseCase.createTutoringSessionSeries(
+                seriesDto.getTutoringId(),
+                seriesDto.getFirstDatetime(),
+                seriesDto.getDurationMinutes(),
+                new RecurrenceRule(seriesDto.getFrequency(), seriesDto.getInterval(), seriesDto.getOccurrences()),
+                seriesDto.getUntil(),
+                seriesDto.getLocationLink(),
+                seriesDto.getTopicsCovered()
+        );
+
+        List<TutoringSessionDto> responseDtos = sessions.stream()
+                .map(mapper::toDto)
+                .toList();
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(OkResponseDto.of("Tutoring session series created successfully", responseDtos));
+    }
+
+    @GetMapping
+    public ResponseEntity<OkResponseDto<List<TutoringSessionDto>>> getSessionsByParticipant(
+            @RequestParam(required = false) String participantId,
+            @RequestParam String from,
+            @RequestParam String to) {
+
+        String targetId = participantId != null ? participantId : UserContextHelper.getCurrentUserId();
+        UserContextHelper.requireResourceAccess(targetId);
+
+        List<TutoringSessionDto> sessions = getTutoringSessionsUseCase.getSessionsByParticipant(targetId, from, to)
+                .stream()
+                .map(mapper::toDto)
+                .toList();
+        return ResponseEntity.ok(OkResponseDto.of("Tutoring sessions retrieved successfully", sessions));
+    }
+
     @PatchMapping("/{id}/status")
     public ResponseEntity<OkResponseDto<TutoringSessionDto>> updateTutoringSessionStatus(
             @PathVariable String id,
@@ -0,0 +1,39 @@
+package com.pragma.tutoring_sessions.infrastructure.adapter.input.rest.dto;
+
+import com.pragma.tutoring_sessions.domain.model.enums.RecurrenceFrequency;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateTutoringSessionSeriesDto {
+    @NotBlank(message = "Tutoring ID is required")
+    private String tutoringId;
+
+    @NotBlank(message = "First datetime is required")
+    private String firstDatetime;
+
+    @NotNull(message = "Duration minutes is required")
+    @Min(value = 1, message = "Duration must be at least 1 minute")
+    private Integer durationMinutes;
+
+    @NotNull(message = "Frequency is required")
+    private RecurrenceFrequency frequency;
+
+    @Min(value = 1, message = "Interval must be at least 1")
+    private int interval = 1;
+
+    @Min(value = 1, message = "Occurrences must be at least 1")
+    private Integer occurrences; // Opcional: número máximo de sesiones
+
+    private String until; // Opcional: por defecto la fecha esperada de finalización de la tutoría
+
+    private String locationLink;
+
+    private String topicsCovered;
+}
@@ -5,15 +5,18 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class TutoringSessionDto {
     private String id;
-    private String datetime;
+    private Instant datetime;
     private int durationMinutes;
     private String locationLink;
     private String topicsCovered;
     private String notes;
     private TutoringsSessionStatus sessionStatus;
+    private Boolean hasConflict;
 }
\ No newline at end of file
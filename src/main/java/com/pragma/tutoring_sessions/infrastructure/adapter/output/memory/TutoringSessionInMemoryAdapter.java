@@ -0,0 +1,214 @@
+package com.pragma.tutoring_sessions.infrastructure.adapter.output.memory;
+
+import com.pragma.shared.persistence.memory.InMemoryIndex;
+import com.pragma.tutoring_sessions.domain.model.SessionSlot;
+import com.pragma.tutoring_sessions.domain.model.TutoringSession;
+import com.pragma.tutoring_sessions.domain.port.output.TutoringSessionRepository;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.infrastructure.adapter.output.memory.TutoringInMemoryAdapter;
+import com.pragma.tutorings_requests.domain.model.enums.TutoringsSessionStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory {@link TutoringSessionRepository} for the {@code memory} profile, indexed by tutoring.
+ * Sessions of archived tutorings are kept apart, grouped by tutoring.
+ */
+@Component
+@Primary
+@Profile("memory")
+@RequiredArgsConstructor
+public class TutoringSessionInMemoryAdapter implements TutoringSessionRepository {
+
+    private final TutoringInMemoryAdapter tutoringAdapter;
+
+    private final Map<String, TutoringSession> sessions = new ConcurrentHashMap<>();
+    private final InMemoryIndex<String> byTutoring = new InMemoryIndex<>();
+    private final Map<String, List<TutoringSession>> archivedByTutoring = new ConcurrentHashMap<>();
+    private final Map<String, Instant> lastReminderAt = new ConcurrentHashMap<>();
+
+    @Override
+    public synchronized TutoringSession save(TutoringSession tutoringSession) {
+        TutoringSession stored = copy(tutoringSession);
+        if (stored.getTutoring() != null) {
+            Tutoring reference = new Tutoring();
+            reference.setId(stored.getTutoring().getId());
+            stored.setTutoring(reference);
+        }
+        if (stored.getId() == null) {
+            stored.setId(UUID.randomUUID().toString());
+        }
+        TutoringSession previous = sessions.put(stored.getId(), stored);
+        byTutoring.update(tutoringId(previous), tutoringId(stored), stored.getId());
+        return hydrate(stored);
+    }
+
+    @Override
+    public synchronized List<TutoringSession> saveAll(List<TutoringSession> tutoringSessions) {
+        return tutoringSessions.stream()
+                .map(this::save)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<TutoringSession> findById(String id) {
+        return Optional.ofNullable(id).map(sessions::get).map(this::hydrate);
+    }
+
+    @Override
+    public List<TutoringSession> findByTutoringId(String tutoringId) {
+        return byTutoring.get(tutoringId).stream()
+                .map(sessions::get)
+                .filter(Objects::nonNull)
+                .filter(session -> tutoringId.equals(tutoringId(session)))
+                .map(this::hydrate)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<TutoringSession> findByTutoringIdIncludingHistory(String tutoringId) {
+        List<TutoringSession> result = findByTutoringId(tutoringId);
+        archivedByTutoring.getOrDefault(tutoringId, List.of()).stream()
+                .map(this::hydrate)
+                .forEach(result::add);
+        return result;
+    }
+
+    @Override
+    public void streamAll(Consumer<TutoringSession> consumer) {
+        sessions.values().stream().map(this::hydrate).forEach(consumer);
+    }
+
+    @Override
+    public List<TutoringSession> findByParticipantAndRange(String participantId, Instant from, Instant to) {
+        Set<String> tutoringIds = new HashSet<>();
+        tutoringAdapter.findByTutorId(participantId).forEach(tutoring -> tutoringIds.add(tutoring.getId()));
+        tutoringAdapter.findByTuteeId(participantId).forEach(tutoring -> tutoringIds.add(tutoring.getId()));
+        return tutoringIds.stream()
+                .flatMap(tutoringId -> byTutoring.get(tutoringId).stream())
+                .map(sessions::get)
+                .filter(Objects::nonNull)
+                .filter(session -> session.getDatetime() != null
+                        && !session.getDatetime().isBefore(from) && session.getDatetime().isBefore(to))
+                .sorted(Comparator.comparing(TutoringSession::getDatetime))
+                .map(this::hydrate)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<SessionSlot> findActiveSlots() {
+        return sessions.values().stream()
+                .filter(session -> session.getDatetime() != null)
+                .filter(session -> session.getSessionStatus() != TutoringsSessionStatus.Cancelada)
+                .map(this::hydrate)
+                .map(SessionSlot::of)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<SessionSlot> findUpcomingSlots(Instant from) {
+        return sessions.values().stream()
+                .filter(session -> session.getDatetime() != null && !session.getDatetime().isBefore(from))
+                .filter(session -> session.getSessionStatus() == TutoringsSessionStatus.Programada)
+                .map(this::hydrate)
+                .map(SessionSlot::of)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public synchronized TutoringSession updateStatus(String id, TutoringsSessionStatus newStatus, String notes) {
+        TutoringSession stored = Optional.ofNullable(id).map(sessions::get)
+                .orElseThrow(() -> new IllegalArgumentException("Tutoring session not found with id: " + id));
+
+        TutoringSession updated = copy(stored);
+        updated.setSessionStatus(newStatus);
+
+        // Update notes if provided
+        if (notes != null && !notes.isEmpty()) {
+            updated.setNotes(notes);
+        }
+
+        sessions.put(id, updated);
+        return hydrate(updated);
+    }
+
+    @Override
+    public synchronized boolean markReminded(String id, Instant expectedStart, Instant remindAt) {
+        TutoringSession stored = id == null ? null : sessions.get(id);
+        if (stored == null || stored.getSessionStatus() != TutoringsSessionStatus.Programada
+                || !expectedStart.equals(stored.getDatetime())) {
+            return false;
+        }
+        Instant previous = lastReminderAt.get(id);
+        if (previous != null && !previous.isBefore(remindAt)) {
+            return false;
+        }
+        lastReminderAt.put(id, remindAt);
+        return true;
+    }
+
+    /**
+     * Moves the sessions of the given tutorings to the archive.
+     */
+    public synchronized void archive(Collection<String> tutoringIds) {
+        for (String tutoringId : tutoringIds) {
+            List<TutoringSession> moved = new ArrayList<>();
+            for (String id : byTutoring.get(tutoringId)) {
+                TutoringSession session = sessions.remove(id);
+                if (session != null) {
+                    byTutoring.update(tutoringId, null, id);
+                    moved.add(session);
+                }
+            }
+            if (!moved.isEmpty()) {
+                archivedByTutoring.merge(tutoringId, moved, (a, b) -> {
+                    List<TutoringSession> all = new ArrayList<>(a);
+                    all.addAll(b);
+                    return all;
+                });
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        sessions.clear();
+        archivedByTutoring.clear();
+        lastReminderAt.clear();
+        byTutoring.clear();
+    }
+
+    private TutoringSession hydrate(TutoringSession stored) {
+        TutoringSession session = copy(stored);
+        if (stored.getTutoring() != null) {
+            session.setTutoring(tutoringAdapter.findByIdIncludingHistory(stored.getTutoring().getId()).orElse(null));
+        }
+        return session;
+    }
+
+    private static String tutoringId(TutoringSession session) {
+        return session == null || session.getTutoring() == null ? null : session.getTutoring().getId();
+    }
+
+    private static TutoringSession copy(TutoringSession session) {
+        return new TutoringSession(session.getId(), session.getTutoring(), session.getDatetime(), session.getDurationMinutes(),
+                session.getLocationLink(), session.getTopicsCovered(), session.getNotes(), session.getSessionStatus(),
+                session.getHasConflict());
+    }
+}
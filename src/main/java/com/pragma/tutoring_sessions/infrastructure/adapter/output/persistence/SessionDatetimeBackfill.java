@@ -0,0 +1,63 @@
+package com.pragma.tutoring_sessions.infrastructure.adapter.output.persistence;
+
+import com.pragma.tutoring_sessions.application.service.SessionDateTimeParser;
+import com.pragma.tutoring_sessions.infrastructure.adapter.output.persistence.entity.TutoringSessionsEntity;
+import com.pragma.tutoring_sessions.infrastructure.adapter.output.persistence.repository.SpringDataTutoringSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fills {@code scheduled_at} for sessions created while the datetime was stored as free text.
+ * Runs once at startup in id order; rows whose text cannot be parsed are logged and left untouched.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SessionDatetimeBackfill {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final SpringDataTutoringSessionRepository repository;
+    private final SessionDateTimeParser dateTimeParser;
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        String lastId = "";
+        int migrated = 0;
+        int invalid = 0;
+        List<TutoringSessionsEntity> batch;
+        do {
+            batch = repository.findByScheduledAtIsNullAndLegacyDatetimeIsNotNullAndIdGreaterThanOrderByIdAsc(
+                    lastId, PageRequest.ofSize(BATCH_SIZE));
+            List<TutoringSessionsEntity> parsed = new ArrayList<>();
+            for (TutoringSessionsEntity session : batch) {
+                try {
+                    session.setScheduledAt(dateTimeParser.parse(session.getLegacyDatetime()));
+                    parsed.add(session);
+                } catch (IllegalArgumentException e) {
+                    invalid++;
+                    log.warn("Sesión {} con fecha no interpretable '{}', se omite", session.getId(), session.getLegacyDatetime());
+                }
+            }
+            repository.saveAll(parsed);
+            migrated += parsed.size();
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == BATCH_SIZE);
+
+        if (migrated > 0 || invalid > 0) {
+            log.info("Migración de fechas de sesiones: {} actualizadas, {} no interpretables", migrated, invalid);
+        }
+    }
+}
@@ -1,19 +1,30 @@
 package com.pragma.tutoring_sessions.infrastructure.adapter.output.persistence;
 
+import com.pragma.shared.config.ExportProperties;
+import com.pragma.shared.persistence.ScrollingQuery;
+import com.pragma.tutoring_sessions.domain.model.SessionSlot;
 import com.pragma.tutoring_sessions.domain.model.TutoringSession;
 import com.pragma.tutoring_sessions.domain.port.output.TutoringSessionRepository;
+import com.pragma.tutoring_sessions.infrastructure.adapter.output.persistence.entity.ArchivedTutoringSessionEntity;
 import com.pragma.tutoring_sessions.infrastructure.adapter.output.persistence.entity.TutoringSessionsEntity;
 import com.pragma.tutoring_sessions.infrastructure.adapter.output.persistence.mapper.TutoringSessionMapper;
 import com.pragma.tutoring_sessions.infrastructure.adapter.output.persistence.repository.SpringDataTutoringSessionRepository;
+import com.pragma.tutorings.infrastructure.adapter.output.persistence.TutoringPersistenceAdapter;
 import com.pragma.tutorings.infrastructure.adapter.output.persistence.entity.TutoringEntity;
 import com.pragma.tutorings.infrastructure.adapter.output.persistence.mapper.TutoringMapper;
 import com.pragma.tutorings_requests.domain.model.enums.TutoringsSessionStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
@@ -21,6 +32,9 @@ public class TutoringSessionPersistenceAdapter implements TutoringSessionReposit
 
     private final SpringDataTutoringSessionRepository repository;
     private final TutoringSessionMapper mapper;
+    private final TutoringPersistenceAdapter tutoringAdapter;
+    private final EntityManager entityManager;
+    private final ExportProperties exportProperties;
 
     @Override
     public TutoringSession save(TutoringSession tutoringSession) {
@@ -29,6 +43,18 @@ public class TutoringSessionPersistenceAdapter implements TutoringSessionReposit
         return mapper.toModel(savedEntity);
     }
 
+    @Override
+    public List<TutoringSession> saveAll(List<TutoringSession> tutoringSessions) {
+        // Con hibernate.jdbc.batch_size los INSERT se envían en lote (ids UUID, sin IDENTITY)
+        List<TutoringSessionsEntity> entities = tutoringSessions.stream()
+                .map(mapper::toEntity)
+                .collect(Collectors.toList());
+        return repository.saveAll(entities)
+                .stream()
+                .map(mapper::toModel)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<TutoringSession> findById(String id) {
         return repository.findById(id)
@@ -46,6 +72,47 @@ public class TutoringSessionPersistenceAdapter implements TutoringSessionReposit
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<TutoringSession> findByTutoringIdIncludingHistory(String tutoringId) {
+        List<TutoringSession> archived = entityManager.createQuery("SELECT DISTINCT s FROM ArchivedTutoringSessionEntity s "
+                        + "JOIN FETCH s.tutoringId t LEFT JOIN FETCH t.skills WHERE t.id = :tutoringId", ArchivedTutoringSessionEntity.class)
+                .setParameter("tutoringId", tutoringId)
+                .getResultStream()
+                .map(mapper::archivedToModel)
+                .toList();
+        return Stream.concat(findByTutoringId(tutoringId).stream(), archived.stream()).toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<TutoringSession> consumer) {
+        TypedQuery<TutoringSessionsEntity> query = entityManager.createQuery(
+                "SELECT s FROM TutoringSessionsEntity s LEFT JOIN FETCH s.tutoringId", TutoringSessionsEntity.class);
+        ScrollingQuery.forEachChunk(entityManager, query, exportProperties.getChunkSize(), chunk -> {
+            tutoringAdapter.fetchSkills(chunk.stream().map(TutoringSessionsEntity::getTutoringId).toList());
+            chunk.forEach(entity -> consumer.accept(mapper.toModel(entity)));
+        });
+    }
+
+    @Override
+    public List<TutoringSession> findByParticipantAndRange(String participantId, Instant from, Instant to) {
+        return repository.findByParticipantAndRange(participantId, from, to)
+                .stream()
+                .map(mapper::toModel)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<SessionSlot> findActiveSlots() {
+        return repository.findSlotsExcludingStatus(TutoringsSessionStatus.Cancelada);
+    }
+
+    @Override
+    public List<SessionSlot> findUpcomingSlots(Instant from) {
+        return repository.findSlotsByStatusFrom(TutoringsSessionStatus.Programada, from);
+    }
+
     @Override
     public TutoringSession updateStatus(String id, TutoringsSessionStatus newStatus, String notes) {
         TutoringSessionsEntity entity = repository.findById(id)
@@ -62,4 +129,10 @@ public class TutoringSessionPersistenceAdapter implements TutoringSessionReposit
         
         return mapper.toModel(updatedEntity);
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional
+    public boolean markReminded(String id, Instant expectedStart, Instant remindAt) {
+        return repository.markReminded(id, TutoringsSessionStatus.Programada, expectedStart, remindAt) == 1;
+    }
+}
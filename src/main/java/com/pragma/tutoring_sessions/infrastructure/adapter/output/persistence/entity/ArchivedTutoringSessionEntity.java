@@ -0,0 +1,53 @@
+package com.pragma.tutoring_sessions.infrastructure.adapter.output.persistence.entity;
+
+import com.pragma.tutorings.infrastructure.adapter.output.persistence.entity.ArchivedTutoringEntity;
+import com.pragma.tutorings_requests.domain.model.enums.TutoringsSessionStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Session of an archived tutoring. Same columns as {@link TutoringSessionsEntity}.
+ */
+@Entity
+@Table(name = "tutoring_sessions_archive", indexes = {
+        @Index(name = "idx_tutoring_sessions_archive_tutoring", columnList = "tutoring_id_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedTutoringSessionEntity {
+    @Id
+    private String id;
+
+    @ManyToOne
+    private ArchivedTutoringEntity tutoringId;
+
+    @Column(name = "scheduled_at")
+    private Instant scheduledAt;
+
+    @Column(name = "datetime")
+    private String legacyDatetime;
+
+    @Column(name = "duration_minutes")
+    private int durationMinutes;
+
+    @Column(name = "location_link")
+    private String locationLink;
+
+    @Column(name = "topics_covered")
+    private String topicsCovered;
+
+    @Column(name = "notes")
+    private String notes;
+
+    @Column(name = "session_status")
+    @Enumerated(EnumType.STRING)
+    private TutoringsSessionStatus sessionStatus;
+
+    @Column(name = "has_conflict")
+    private Boolean hasConflict;
+}
@@ -7,8 +7,12 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
+
 @Entity
-@Table(name = "tutoring_sessions")
+@Table(name = "tutoring_sessions", indexes = {
+        @Index(name = "idx_tutoring_sessions_tutoring_scheduled_at", columnList = "tutoring_id_id, scheduled_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,8 +24,11 @@ public class TutoringSessionsEntity {
     @ManyToOne
     private TutoringEntity tutoringId; // "ID de la tutoría a la que pertenece esta sesión"
 
+    @Column(name = "scheduled_at")
+    private Instant scheduledAt; // "Fecha y hora de la sesión"
+
     @Column(name = "datetime")
-    private String datetime; // "Fecha y hora de la sesión"
+    private String legacyDatetime; // "Fecha y hora tal como se recibía antes de scheduled_at; solo se lee para migrar"
 
     @Column(name = "duration_minutes")
     private int durationMinutes; // "Duración de la sesión en minutos"
@@ -39,5 +46,11 @@ public class TutoringSessionsEntity {
     @Enumerated(EnumType.STRING) // O EnumType.ORDINAL si quieres guardar el índice numérico
     private TutoringsSessionStatus sessionStatus; // "Estado de la sesión (Programada, Realizada, Cancelada)"
 
+    @Column(name = "has_conflict")
+    private Boolean hasConflict; // "Se solapa con otra sesión del tutor o del tutorado (política FLAG)"
+
+    @Column(name = "last_reminder_at", insertable = false, updatable = false)
+    private Instant lastReminderAt; // "Momento del último recordatorio enviado; solo lo escribe markReminded"
+
 
 }
\ No newline at end of file
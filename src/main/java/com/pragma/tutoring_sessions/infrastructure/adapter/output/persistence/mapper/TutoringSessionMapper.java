@@ -1,6 +1,7 @@
 package com.pragma.tutoring_sessions.infrastructure.adapter.output.persistence.mapper;
 
 import com.pragma.tutoring_sessions.domain.model.TutoringSession;
+import com.pragma.tutoring_sessions.infrastructure.adapter.output.persistence.entity.ArchivedTutoringSessionEntity;
 import com.pragma.tutoring_sessions.infrastructure.adapter.output.persistence.entity.TutoringSessionsEntity;
 import com.pragma.tutorings.infrastructure.adapter.output.persistence.mapper.TutoringMapper;
 import org.mapstruct.Mapper;
@@ -11,8 +12,15 @@ import org.mapstruct.ReportingPolicy;
 public interface TutoringSessionMapper {
 
     @Mapping(source = "tutoringId", target = "tutoring")
+    @Mapping(source = "scheduledAt", target = "datetime")
     TutoringSession toModel(TutoringSessionsEntity entity);
 
+    @Mapping(source = "tutoringId", target = "tutoring")
+    @Mapping(source = "scheduledAt", target = "datetime")
+    TutoringSession archivedToModel(ArchivedTutoringSessionEntity entity);
+
     @Mapping(source = "tutoring", target = "tutoringId")
+    @Mapping(source = "datetime", target = "scheduledAt")
+    @Mapping(target = "legacyDatetime", ignore = true)
     TutoringSessionsEntity toEntity(TutoringSession model);
 }
\ No newline at end of file
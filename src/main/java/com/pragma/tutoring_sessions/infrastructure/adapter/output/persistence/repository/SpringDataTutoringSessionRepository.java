@@ -1,13 +1,54 @@
 package com.pragma.tutoring_sessions.infrastructure.adapter.output.persistence.repository;
 
+import com.pragma.tutoring_sessions.domain.model.SessionSlot;
 import com.pragma.tutoring_sessions.infrastructure.adapter.output.persistence.entity.TutoringSessionsEntity;
 import com.pragma.tutorings.infrastructure.adapter.output.persistence.entity.TutoringEntity;
+import com.pragma.tutorings_requests.domain.model.enums.TutoringsSessionStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 
 @Repository
 public interface SpringDataTutoringSessionRepository extends JpaRepository<TutoringSessionsEntity, String> {
     List<TutoringSessionsEntity> findByTutoringId(TutoringEntity tutoringId);
-}
\ No newline at end of file
+
+    // Resuelve primero las tutorías del participante y luego recorre el índice (tutoring_id_id, scheduled_at)
+    @Query("SELECT s FROM TutoringSessionsEntity s " +
+           "WHERE s.tutoringId.id IN (SELECT t.id FROM TutoringEntity t " +
+           "                          WHERE t.tutorId.id = :participantId OR t.tuteeId.id = :participantId) " +
+           "AND s.scheduledAt >= :from AND s.scheduledAt < :to " +
+           "ORDER BY s.scheduledAt")
+    List<TutoringSessionsEntity> findByParticipantAndRange(@Param("participantId") String participantId,
+                                                           @Param("from") Instant from,
+                                                           @Param("to") Instant to);
+
+    // Solo las columnas que necesita el índice de solapamientos, sin hidratar tutorías ni usuarios
+    @Query("SELECT new com.pragma.tutoring_sessions.domain.model.SessionSlot(" +
+           "s.id, t.tutorId.id, t.tuteeId.id, s.scheduledAt, s.durationMinutes) " +
+           "FROM TutoringSessionsEntity s JOIN s.tutoringId t " +
+           "WHERE s.scheduledAt IS NOT NULL " +
+           "AND (s.sessionStatus IS NULL OR s.sessionStatus <> :excluded)")
+    List<SessionSlot> findSlotsExcludingStatus(@Param("excluded") TutoringsSessionStatus excluded);
+
+    @Query("SELECT new com.pragma.tutoring_sessions.domain.model.SessionSlot(" +
+           "s.id, t.tutorId.id, t.tuteeId.id, s.scheduledAt, s.durationMinutes) " +
+           "FROM TutoringSessionsEntity s JOIN s.tutoringId t " +
+           "WHERE s.scheduledAt >= :from AND s.sessionStatus = :status")
+    List<SessionSlot> findSlotsByStatusFrom(@Param("status") TutoringsSessionStatus status, @Param("from") Instant from);
+
+    // Una sola réplica gana la actualización condicional de cada recordatorio
+    @Modifying
+    @Query("UPDATE TutoringSessionsEntity s SET s.lastReminderAt = :remindAt " +
+           "WHERE s.id = :id AND s.sessionStatus = :status AND s.scheduledAt = :expectedStart " +
+           "AND (s.lastReminderAt IS NULL OR s.lastReminderAt < :remindAt)")
+    int markReminded(@Param("id") String id, @Param("status") TutoringsSessionStatus status,
+                     @Param("expectedStart") Instant expectedStart, @Param("remindAt") Instant remindAt);
+
+    List<TutoringSessionsEntity> findByScheduledAtIsNullAndLegacyDatetimeIsNotNullAndIdGreaterThanOrderByIdAsc(String lastId, Pageable pageable);
+}
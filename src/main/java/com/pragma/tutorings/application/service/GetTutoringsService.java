@@ -1,12 +1,14 @@
 package com.pragma.tutorings.application.service;
 
 import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringField;
 import com.pragma.tutorings.domain.port.input.GetTutoringsUseCase;
 import com.pragma.tutorings.domain.port.output.TutoringRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -29,9 +31,33 @@ public class GetTutoringsService implements GetTutoringsUseCase {
         return tutoringRepository.findAll();
     }
 
+    @Override
+    public List<Tutoring> getAllTutorings(Set<TutoringField> fields) {
+        return tutoringRepository.findAll(fields);
+    }
+
     @Override
     public Tutoring getTutoringById(String id) {
         return tutoringRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Tutoring not found with id: " + id));
     }
+
+    @Override
+    public List<Tutoring> getTutoringsByTutorId(String tutorId, boolean includeHistory) {
+        return includeHistory ? tutoringRepository.findByTutorIdIncludingHistory(tutorId) : getTutoringsByTutorId(tutorId);
+    }
+
+    @Override
+    public List<Tutoring> getTutoringsByTuteeId(String tuteeId, boolean includeHistory) {
+        return includeHistory ? tutoringRepository.findByTuteeIdIncludingHistory(tuteeId) : getTutoringsByTuteeId(tuteeId);
+    }
+
+    @Override
+    public Tutoring getTutoringById(String id, boolean includeHistory) {
+        if (!includeHistory) {
+            return getTutoringById(id);
+        }
+        return tutoringRepository.findByIdIncludingHistory(id)
+                .orElseThrow(() -> new RuntimeException("Tutoring not found with id: " + id));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.pragma.tutorings.application.service;
+
+import com.pragma.shared.config.ArchiveProperties;
+import com.pragma.shared.scheduling.JobLeaseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Nightly archival of tutorings closed for longer than {@code app.archive.min-age}. Only the replica
+ * holding the {@code tutoring-archive} lease runs it, renewing the lease after each batch.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TutoringArchiveJob {
+
+    static final String JOB = "tutoring-archive";
+
+    private final TutoringArchiveService tutoringArchiveService;
+    private final JobLeaseRepository jobLeaseRepository;
+    private final ArchiveProperties properties;
+
+    private final String owner = UUID.randomUUID().toString();
+
+    @Scheduled(cron = "${app.archive.cron:0 0 4 * * *}", zone = "${app.sessions.default-zone:UTC}")
+    public void run() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        int archived = archiveClosed();
+        if (archived > 0) {
+            log.info("Tutorías archivadas: {}", archived);
+        }
+    }
+
+    /**
+     * Archives closed tutorings batch by batch while this replica holds the lease and returns how many were archived.
+     */
+    public int archiveClosed() {
+        if (!renewLease()) {
+            log.info("Otra réplica está ejecutando el archivado de tutorías");
+            return 0;
+        }
+        try {
+            Date closedBefore = Date.from(Instant.now().minus(properties.getMinAge()));
+            int batchSize = properties.getBatchSize();
+            int archived = 0;
+            int batch;
+            do {
+                batch = tutoringArchiveService.archiveNextBatch(closedBefore, batchSize);
+                archived += batch;
+            } while (batch == batchSize && renewLease());
+            return archived;
+        } finally {
+            jobLeaseRepository.release(JOB, owner);
+        }
+    }
+
+    private boolean renewLease() {
+        Instant now = Instant.now();
+        return jobLeaseRepository.tryAcquire(JOB, owner, now, now.plus(properties.getLeaseDuration()));
+    }
+}
@@ -0,0 +1,44 @@
+package com.pragma.tutorings.application.service;
+
+import com.pragma.search.domain.model.enums.SearchDocumentType;
+import com.pragma.search.domain.port.input.IndexTextUseCase;
+import com.pragma.tutorings.domain.port.output.TutoringArchiveRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Moves closed tutorings out of the operational tables, one batch per transaction, so the hot tables
+ * and their indexes only hold the tutorings still being worked on. The archived tutorings and their
+ * feedbacks leave the search index too, once the batch commits.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TutoringArchiveService {
+
+    private final TutoringArchiveRepository tutoringArchiveRepository;
+    private final IndexTextUseCase indexTextUseCase;
+
+    /**
+     * Archives up to {@code limit} tutorings closed before {@code closedBefore} and returns how many were
+     * selected, so the caller knows whether more may remain.
+     */
+    @Transactional
+    public int archiveNextBatch(Date closedBefore, int limit) {
+        List<String> ids = tutoringArchiveRepository.findArchivableIds(closedBefore, limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<String> feedbackIds = tutoringArchiveRepository.findFeedbackIds(ids);
+        int archived = tutoringArchiveRepository.archive(ids, new Date());
+        ids.forEach(id -> indexTextUseCase.remove(SearchDocumentType.TUTORING, id));
+        feedbackIds.forEach(id -> indexTextUseCase.remove(SearchDocumentType.FEEDBACK, id));
+        log.info("{} tutorías cerradas movidas al archivo", archived);
+        return ids.size();
+    }
+}
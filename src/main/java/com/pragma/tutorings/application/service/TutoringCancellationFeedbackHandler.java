@@ -0,0 +1,75 @@
+package com.pragma.tutorings.application.service;
+
+import com.pragma.feedbacks.domain.model.Feedback;
+import com.pragma.feedbacks.domain.model.enums.FeedbackKind;
+import com.pragma.feedbacks.domain.port.output.FeedbackRepository;
+import com.pragma.search.domain.model.enums.SearchDocumentType;
+import com.pragma.search.domain.port.input.IndexTextUseCase;
+import com.pragma.shared.events.DomainEventHandler;
+import com.pragma.tutorings.domain.event.TutoringStatusChanged;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings.domain.port.output.TutoringRepository;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.port.input.FindUserByIdUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * Records the cancellation feedback of a tutoring whose cancellation a user requested or an admin
+ * confirmed. The feedback commits together with the event being marked as dispatched, so it is created
+ * once; changes made by the system (expiry) carry no actor and leave no feedback.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TutoringCancellationFeedbackHandler implements DomainEventHandler<TutoringStatusChanged> {
+
+    private final TutoringRepository tutoringRepository;
+    private final FindUserByIdUseCase findUserByIdUseCase;
+    private final FeedbackRepository feedbackRepository;
+    private final IndexTextUseCase indexTextUseCase;
+
+    @Override
+    public Class<TutoringStatusChanged> eventType() {
+        return TutoringStatusChanged.class;
+    }
+
+    @Override
+    public void handle(TutoringStatusChanged event) {
+        if (event.actorId() == null
+                || (event.newStatus() != TutoringStatus.EnCancelacion && event.newStatus() != TutoringStatus.Cancelada)) {
+            return;
+        }
+        Optional<Tutoring> tutoring = tutoringRepository.findById(event.tutoringId());
+        Optional<User> actor = findUserByIdUseCase.findUserById(event.actorId());
+        if (tutoring.isEmpty() || actor.isEmpty()) {
+            log.warn("Tutoría {} o usuario {} no encontrados, no se crea el feedback de cancelación",
+                    event.tutoringId(), event.actorId());
+            return;
+        }
+
+        Feedback feedback = new Feedback();
+        feedback.setEvaluator(actor.get());
+        feedback.setTutoring(tutoring.get());
+        feedback.setEvaluationDate(Date.from(event.occurredAt()));
+        feedback.setKind(FeedbackKind.Cancelacion);
+        feedback.setComments(comments(event));
+
+        Feedback savedFeedback = feedbackRepository.save(feedback);
+        indexTextUseCase.index(SearchDocumentType.FEEDBACK, savedFeedback.getId(), savedFeedback.getComments());
+        log.info("Feedback de cancelación creado para la tutoría ID: {}", event.tutoringId());
+    }
+
+    private static String comments(TutoringStatusChanged event) {
+        boolean hasComment = event.comment() != null && !event.comment().isEmpty();
+        if (event.newStatus() == TutoringStatus.EnCancelacion) {
+            return "Solicitud de cancelación: " + (hasComment ? event.comment() : "Sin razón especificada");
+        }
+        return hasComment ? event.comment() : "Tutoría cancelada por administrador";
+    }
+}
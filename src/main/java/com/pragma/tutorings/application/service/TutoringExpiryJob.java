@@ -0,0 +1,70 @@
+package com.pragma.tutorings.application.service;
+
+import com.pragma.shared.config.TutoringExpiryProperties;
+import com.pragma.shared.scheduling.JobLeaseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Daily sweep of active tutorings past their expected end date. Every replica schedules it, but only
+ * the one holding the {@code tutoring-expiry} lease runs it; the lease is renewed after each chunk so a
+ * long sweep keeps it, and a crashed replica loses it after {@code app.tutorings.expiry.lease-duration}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TutoringExpiryJob {
+
+    static final String JOB = "tutoring-expiry";
+
+    private final TutoringExpiryService tutoringExpiryService;
+    private final JobLeaseRepository jobLeaseRepository;
+    private final TutoringExpiryProperties properties;
+
+    private final String owner = UUID.randomUUID().toString();
+
+    @Scheduled(cron = "${app.tutorings.expiry.cron:0 30 2 * * *}", zone = "${app.sessions.default-zone:UTC}")
+    public void run() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        int expired = expireOverdue();
+        if (expired > 0) {
+            log.info("Tutorías vencidas marcadas para cancelación: {}", expired);
+        }
+    }
+
+    /**
+     * Flags overdue tutorings chunk by chunk while this replica holds the lease and returns how many were flagged.
+     */
+    public int expireOverdue() {
+        if (!renewLease()) {
+            log.info("Otra réplica está ejecutando el barrido de tutorías vencidas");
+            return 0;
+        }
+        try {
+            Date cutoff = Date.from(Instant.now().minus(properties.getGrace()));
+            int chunkSize = properties.getChunkSize();
+            int expired = 0;
+            int chunk;
+            do {
+                chunk = tutoringExpiryService.expireNextChunk(cutoff, chunkSize);
+                expired += chunk;
+            } while (chunk == chunkSize && renewLease());
+            return expired;
+        } finally {
+            jobLeaseRepository.release(JOB, owner);
+        }
+    }
+
+    private boolean renewLease() {
+        Instant now = Instant.now();
+        return jobLeaseRepository.tryAcquire(JOB, owner, now, now.plus(properties.getLeaseDuration()));
+    }
+}
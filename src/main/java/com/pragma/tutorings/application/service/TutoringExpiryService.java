@@ -0,0 +1,65 @@
+package com.pragma.tutorings.application.service;
+
+import com.pragma.recommendations.domain.port.input.UpdateTutorProfileUseCase;
+import com.pragma.shared.events.DomainEventPublisher;
+import com.pragma.statistics.domain.port.input.RecordStatusTransitionUseCase;
+import com.pragma.statistics.domain.port.input.RefreshSkillHeatmapUseCase;
+import com.pragma.tutorings.domain.event.TutoringStatusChanged;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings.domain.port.output.TutoringRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Moves overdue active tutorings to {@code EnCancelacion}, where administrators resolve them like any
+ * other cancellation request, and stops them from counting against the tutor's active limit.
+ * Each chunk is locked, moved with one UPDATE and committed on its own.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TutoringExpiryService {
+
+    private final TutoringRepository tutoringRepository;
+    private final UpdateTutorProfileUseCase updateTutorProfileUseCase;
+    private final RefreshSkillHeatmapUseCase refreshSkillHeatmapUseCase;
+    private final RecordStatusTransitionUseCase recordStatusTransitionUseCase;
+    private final DomainEventPublisher domainEventPublisher;
+
+    /**
+     * Flags up to {@code limit} active tutorings whose expected end date is before {@code cutoff}
+     * and returns how many were flagged.
+     */
+    @Transactional
+    public int expireNextChunk(Date cutoff, int limit) {
+        List<Tutoring> overdue = tutoringRepository.findOverdueForUpdate(TutoringStatus.Activa, cutoff, limit);
+        if (overdue.isEmpty()) {
+            return 0;
+        }
+
+        Date now = new Date();
+        tutoringRepository.updateStatus(overdue.stream().map(Tutoring::getId).toList(), TutoringStatus.Activa, TutoringStatus.EnCancelacion, now);
+
+        for (Tutoring tutoring : overdue) {
+            tutoring.setStatus(TutoringStatus.EnCancelacion);
+            tutoring.setUpdatedAt(now);
+            updateTutorProfileUseCase.tutoringSaved(tutoring);
+            refreshSkillHeatmapUseCase.tutoringSaved(tutoring);
+        }
+        recordStatusTransitionUseCase.tutoringsTransitioned(overdue, TutoringStatus.Activa);
+        // Sin actor: el vencimiento no deja feedback de cancelación
+        Instant occurredAt = now.toInstant();
+        domainEventPublisher.publishAll(overdue.stream()
+                .map(tutoring -> TutoringStatusService.statusChanged(tutoring, TutoringStatus.Activa, null, null, occurredAt))
+                .toList());
+        log.info("{} tutorías vencidas pasadas a {}", overdue.size(), TutoringStatus.EnCancelacion);
+        return overdue.size();
+    }
+}
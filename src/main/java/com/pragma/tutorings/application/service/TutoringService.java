@@ -1,11 +1,20 @@
 package com.pragma.tutorings.application.service;
 
+import com.pragma.recommendations.domain.port.input.UpdateTutorProfileUseCase;
+import com.pragma.search.domain.model.enums.SearchDocumentType;
+import com.pragma.search.domain.port.input.IndexTextUseCase;
+import com.pragma.shared.events.DomainEventPublisher;
+import com.pragma.statistics.domain.port.input.RecordStatisticEventUseCase;
+import com.pragma.statistics.domain.port.input.RecordStatusTransitionUseCase;
+import com.pragma.statistics.domain.port.input.RefreshSkillHeatmapUseCase;
 import com.pragma.skills.domain.model.Skill;
 import com.pragma.skills.domain.port.input.FindSkillUseCase;
+import com.pragma.tutorings.domain.event.TutoringCreated;
 import com.pragma.tutorings.domain.model.Tutoring;
 import com.pragma.tutorings.domain.model.enums.TutoringStatus;
 import com.pragma.tutorings.domain.port.input.CreateTutoringUseCase;
 import com.pragma.tutorings.domain.port.output.TutoringRepository;
+import com.pragma.tutorings_requests.domain.event.RequestStatusChanged;
 import com.pragma.tutorings_requests.domain.model.TutoringRequest;
 import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
 import com.pragma.tutorings_requests.domain.port.output.TutoringRequestRepository;
@@ -15,7 +24,9 @@ import com.pragma.usuarios.domain.port.input.FindUserByIdUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -30,8 +41,15 @@ public class TutoringService implements CreateTutoringUseCase {
     private final TutoringRequestRepository tutoringRequestRepository;
     private final FindUserByIdUseCase findUserByIdUseCase;
     private final FindSkillUseCase findSkillUseCase;
+    private final IndexTextUseCase indexTextUseCase;
+    private final UpdateTutorProfileUseCase updateTutorProfileUseCase;
+    private final RefreshSkillHeatmapUseCase refreshSkillHeatmapUseCase;
+    private final RecordStatisticEventUseCase recordStatisticEventUseCase;
+    private final RecordStatusTransitionUseCase recordStatusTransitionUseCase;
+    private final DomainEventPublisher domainEventPublisher;
 
     @Override
+    @Transactional
     public Tutoring createTutoring(String tutoringRequestId, String tutorId, String objectives) {
         log.info("Iniciando creación de tutoría con solicitud ID: {} y tutor ID: {}", tutoringRequestId, tutorId);
         
@@ -62,11 +80,27 @@ public class TutoringService implements CreateTutoringUseCase {
         // Guardar la tutoría
         Tutoring savedTutoring = tutoringRepository.save(tutoring);
         log.info("Tutoría creada exitosamente con ID: {}", savedTutoring.getId());
+        indexTextUseCase.index(SearchDocumentType.TUTORING, savedTutoring.getId(), savedTutoring.getObjectives());
+        updateTutorProfileUseCase.tutoringSaved(savedTutoring);
+        refreshSkillHeatmapUseCase.tutoringSaved(savedTutoring);
+        recordStatisticEventUseCase.tutoringStarted(savedTutoring);
+        recordStatusTransitionUseCase.tutoringTransitioned(savedTutoring, null);
         
         // Actualizar el estado de la solicitud a Asignada y asignar el ID de la tutoría
+        RequestStatus previousStatus = tutoringRequest.getRequestStatus();
         tutoringRequest.setRequestStatus(RequestStatus.Asignada);
         tutoringRequest.setAssignedTutoringId(savedTutoring.getId());
+        tutoringRequest.setUpdatedAt(new Date());
         tutoringRequestRepository.save(tutoringRequest);
+        refreshSkillHeatmapUseCase.requestSaved(tutoringRequest);
+        recordStatisticEventUseCase.requestStatusChanged(tutoringRequest);
+        recordStatusTransitionUseCase.requestTransitioned(tutoringRequest, previousStatus);
+        Instant now = Instant.now();
+        domainEventPublisher.publishAll(List.of(
+                new TutoringCreated(savedTutoring.getId(), tutoringRequest.getId(), tutor.getId(),
+                        tutoringRequest.getTutee().getId(), now),
+                new RequestStatusChanged(tutoringRequest.getId(), tutoringRequest.getTutee().getId(), previousStatus,
+                        RequestStatus.Asignada, now)));
         log.info("Solicitud de tutoría actualizada a estado Asignada con tutoría ID: {}", savedTutoring.getId());
         
         return savedTutoring;
@@ -0,0 +1,37 @@
+package com.pragma.tutorings.application.service;
+
+import com.pragma.recommendations.domain.port.input.RecordTutorSkillsUseCase;
+import com.pragma.shared.events.DomainEventHandler;
+import com.pragma.tutorings.domain.event.TutoringStatusChanged;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings.domain.port.output.TutoringRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts a completed tutoring in its tutor's skill profiles outside the request, exactly once like
+ * {@link TutoringSkillsCreatedHandler}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TutoringSkillsCompletedHandler implements DomainEventHandler<TutoringStatusChanged> {
+
+    private final TutoringRepository tutoringRepository;
+    private final RecordTutorSkillsUseCase recordTutorSkillsUseCase;
+
+    @Override
+    public Class<TutoringStatusChanged> eventType() {
+        return TutoringStatusChanged.class;
+    }
+
+    @Override
+    public void handle(TutoringStatusChanged event) {
+        if (event.newStatus() != TutoringStatus.Completada) {
+            return;
+        }
+        tutoringRepository.findById(event.tutoringId()).ifPresentOrElse(recordTutorSkillsUseCase::tutoringCompleted,
+                () -> log.warn("Tutoría {} no encontrada, no se cuenta en los perfiles de habilidades", event.tutoringId()));
+    }
+}
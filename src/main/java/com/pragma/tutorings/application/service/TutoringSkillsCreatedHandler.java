@@ -0,0 +1,33 @@
+package com.pragma.tutorings.application.service;
+
+import com.pragma.recommendations.domain.port.input.RecordTutorSkillsUseCase;
+import com.pragma.shared.events.DomainEventHandler;
+import com.pragma.tutorings.domain.event.TutoringCreated;
+import com.pragma.tutorings.domain.port.output.TutoringRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts a created tutoring in its tutor's skill profiles outside the request. The increments commit
+ * together with the event being marked as dispatched, so a redelivered event is never counted twice.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TutoringSkillsCreatedHandler implements DomainEventHandler<TutoringCreated> {
+
+    private final TutoringRepository tutoringRepository;
+    private final RecordTutorSkillsUseCase recordTutorSkillsUseCase;
+
+    @Override
+    public Class<TutoringCreated> eventType() {
+        return TutoringCreated.class;
+    }
+
+    @Override
+    public void handle(TutoringCreated event) {
+        tutoringRepository.findById(event.tutoringId()).ifPresentOrElse(recordTutorSkillsUseCase::tutoringCreated,
+                () -> log.warn("Tutoría {} no encontrada, no se cuenta en los perfiles de habilidades", event.tutoringId()));
+    }
+}
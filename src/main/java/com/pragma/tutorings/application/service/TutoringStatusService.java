@@ -1,7 +1,12 @@
 package com.pragma.tutorings.application.service;
 
-import com.pragma.feedbacks.domain.model.Feedback;
 import com.pragma.feedbacks.domain.port.output.FeedbackRepository;
+import com.pragma.recommendations.domain.port.input.UpdateTutorProfileUseCase;
+import com.pragma.shared.events.DomainEventPublisher;
+import com.pragma.statistics.domain.port.input.RecordStatisticEventUseCase;
+import com.pragma.statistics.domain.port.input.RecordStatusTransitionUseCase;
+import com.pragma.statistics.domain.port.input.RefreshSkillHeatmapUseCase;
+import com.pragma.tutorings.domain.event.TutoringStatusChanged;
 import com.pragma.tutorings.domain.model.Tutoring;
 import com.pragma.tutorings.domain.model.enums.TutoringStatus;
 import com.pragma.tutorings.domain.port.input.CancelTutoringUseCase;
@@ -14,21 +19,34 @@ import com.pragma.usuarios.domain.port.input.FindUserByIdUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TutoringStatusService implements CompleteTutoringUseCase, CancelTutoringUseCase, RequestCancellationUseCase {
 
+    static final int MAX_BATCH_SIZE = 500;
+
     private final TutoringRepository tutoringRepository;
     private final FindUserByIdUseCase findUserByIdUseCase;
     private final FeedbackRepository feedbackRepository;
+    private final UpdateTutorProfileUseCase updateTutorProfileUseCase;
+    private final RefreshSkillHeatmapUseCase refreshSkillHeatmapUseCase;
+    private final RecordStatisticEventUseCase recordStatisticEventUseCase;
+    private final RecordStatusTransitionUseCase recordStatusTransitionUseCase;
+    private final DomainEventPublisher domainEventPublisher;
 
     @Override
+    @Transactional
     public Tutoring completeTutoring(String tutoringId, String userId, String finalActUrl) {
         log.info("Iniciando proceso para marcar tutoría como completada. ID: {}, Usuario: {}", tutoringId, userId);
         
@@ -49,18 +67,25 @@ public class TutoringStatusService implements CompleteTutoringUseCase, CancelTut
         validateFeedbacksExist(tutoringId, tutoring.getTutor().getId(), tutoring.getTutee().getId());
         
         // Actualizar el estado y el acta final de la tutoría
+        TutoringStatus previousStatus = tutoring.getStatus();
         tutoring.setStatus(TutoringStatus.Completada);
         tutoring.setFinalActUrl(finalActUrl);
         tutoring.setUpdatedAt(new Date());
         
         // Guardar y retornar la tutoría actualizada
         Tutoring updatedTutoring = tutoringRepository.save(tutoring);
+        updateTutorProfileUseCase.tutoringSaved(updatedTutoring);
+        refreshSkillHeatmapUseCase.tutoringSaved(updatedTutoring);
+        recordStatusTransitionUseCase.tutoringTransitioned(updatedTutoring, previousStatus);
+        recordStatisticEventUseCase.tutoringCompleted(updatedTutoring);
+        domainEventPublisher.publish(statusChanged(updatedTutoring, previousStatus, userId, null, Instant.now()));
         log.info("Tutoría marcada como completada exitosamente. ID: {}", tutoringId);
         
         return updatedTutoring;
     }
 
     @Override
+    @Transactional
     public Tutoring requestCancellation(String tutoringId, String userId, String cancellationReason) {
         log.info("Iniciando solicitud de cancelación de tutoría. ID: {}, Usuario: {}", tutoringId, userId);
         
@@ -74,21 +99,25 @@ public class TutoringStatusService implements CompleteTutoringUseCase, CancelTut
         User user = validateUserExists(userId);
         validateCancellationRequestPermission(user, tutoring);
         
-        // Crear feedback de solicitud de cancelación
-        createCancellationRequestFeedback(tutoring, user, cancellationReason);
-        
         // Actualizar el estado de la tutoría a "En Cancelación"
+        TutoringStatus previousStatus = tutoring.getStatus();
         tutoring.setStatus(TutoringStatus.EnCancelacion);
         tutoring.setUpdatedAt(new Date());
         
         // Guardar y retornar la tutoría actualizada
         Tutoring updatedTutoring = tutoringRepository.save(tutoring);
+        updateTutorProfileUseCase.tutoringSaved(updatedTutoring);
+        refreshSkillHeatmapUseCase.tutoringSaved(updatedTutoring);
+        recordStatusTransitionUseCase.tutoringTransitioned(updatedTutoring, previousStatus);
+        // El feedback de solicitud de cancelación lo crea TutoringCancellationFeedbackHandler
+        domainEventPublisher.publish(statusChanged(updatedTutoring, previousStatus, userId, cancellationReason, Instant.now()));
         log.info("Solicitud de cancelación creada exitosamente. ID: {}", tutoringId);
         
         return updatedTutoring;
     }
 
     @Override
+    @Transactional
     public Tutoring cancelTutoring(String tutoringId, String adminId, String cancellationComment) {
         log.info("Iniciando proceso para cancelar tutoría. ID: {}, Admin: {}", tutoringId, adminId);
         
@@ -102,30 +131,87 @@ public class TutoringStatusService implements CompleteTutoringUseCase, CancelTut
         User admin = validateUserExists(adminId);
         validateAdminRole(admin);
         
-        // Crear feedback de cancelación con el comentario proporcionado
-        createCancellationFeedback(tutoring, admin, cancellationComment);
-        
         // Actualizar el estado de la tutoría
+        TutoringStatus previousStatus = tutoring.getStatus();
         tutoring.setStatus(TutoringStatus.Cancelada);
         tutoring.setUpdatedAt(new Date());
         
         // Guardar y retornar la tutoría actualizada
         Tutoring updatedTutoring = tutoringRepository.save(tutoring);
+        updateTutorProfileUseCase.tutoringSaved(updatedTutoring);
+        refreshSkillHeatmapUseCase.tutoringSaved(updatedTutoring);
+        recordStatusTransitionUseCase.tutoringTransitioned(updatedTutoring, previousStatus);
+        // El feedback de cancelación lo crea TutoringCancellationFeedbackHandler
+        domainEventPublisher.publish(statusChanged(updatedTutoring, previousStatus, adminId, cancellationComment, Instant.now()));
         log.info("Tutoría cancelada exitosamente. ID: {}", tutoringId);
         
         return updatedTutoring;
     }
     
-    private void createCancellationFeedback(Tutoring tutoring, User admin, String comments) {
-        Feedback feedback = new Feedback();
-        feedback.setEvaluator(admin);
-        feedback.setTutoring(tutoring);
-        feedback.setEvaluationDate(new Date());
-        feedback.setScore("N/A");
-        feedback.setComments(comments != null && !comments.isEmpty() ? comments : "Tutoría cancelada por administrador");
-        
-        feedbackRepository.save(feedback);
-        log.info("Feedback de cancelación creado para la tutoría ID: {}", tutoring.getId());
+    @Override
+    @Transactional
+    public List<Tutoring> cancelPendingTutorings(String adminId, String cancellationComment, int limit) {
+        log.info("Iniciando cancelación en lote de tutorías en cancelación. Admin: {}, Límite: {}", adminId, limit);
+
+        if (limit < 1 || limit > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("El límite debe estar entre 1 y " + MAX_BATCH_SIZE);
+        }
+
+        // Validar una sola vez que el usuario es administrador
+        User admin = validateUserExists(adminId);
+        validateAdminRole(admin);
+
+        // Una consulta por estado (índice idx_tutoring_status) que bloquea las filas hasta el commit
+        List<Tutoring> locked = tutoringRepository.findByStatusForUpdate(TutoringStatus.EnCancelacion, limit);
+        if (locked.isEmpty()) {
+            log.info("No hay tutorías pendientes de cancelación");
+            return List.of();
+        }
+
+        // Un único UPDATE condicionado al estado leído; solo las tutorías que cambió publican evento
+        Date now = new Date();
+        List<String> lockedIds = locked.stream().map(Tutoring::getId).toList();
+        int updated = tutoringRepository.updateStatus(lockedIds, TutoringStatus.EnCancelacion, TutoringStatus.Cancelada, now);
+        List<Tutoring> pending = updated == locked.size() ? locked : cancelledConcurrently(locked, lockedIds);
+        if (pending.size() < locked.size()) {
+            log.warn("{} tutorías cambiaron de estado durante la cancelación en lote y se omitieron", locked.size() - pending.size());
+        }
+
+        List<TutoringStatusChanged> events = new ArrayList<>(pending.size());
+        for (Tutoring tutoring : pending) {
+            TutoringStatus previousStatus = tutoring.getStatus();
+            tutoring.setStatus(TutoringStatus.Cancelada);
+            tutoring.setUpdatedAt(now);
+            updateTutorProfileUseCase.tutoringSaved(tutoring);
+            refreshSkillHeatmapUseCase.tutoringSaved(tutoring);
+            events.add(statusChanged(tutoring, previousStatus, adminId, cancellationComment, now.toInstant()));
+        }
+        // Todas salieron de EnCancelacion: una sola consulta al registro de transiciones para el lote
+        recordStatusTransitionUseCase.tutoringsTransitioned(pending, TutoringStatus.EnCancelacion);
+        // Los feedbacks de cancelación se crean al entregar los eventos, uno por tutoría
+        domainEventPublisher.publishAll(events);
+        log.info("{} tutorías canceladas en lote por el admin {}", pending.size(), adminId);
+
+        return pending;
+    }
+
+    /**
+     * The locked tutorings that the guarded UPDATE did move, found with a single re-read of the batch.
+     */
+    private List<Tutoring> cancelledConcurrently(List<Tutoring> locked, List<String> lockedIds) {
+        Set<String> cancelled = tutoringRepository.findAllById(lockedIds).stream()
+                .filter(current -> current.getStatus() == TutoringStatus.Cancelada)
+                .map(Tutoring::getId)
+                .collect(Collectors.toSet());
+        return locked.stream().filter(tutoring -> cancelled.contains(tutoring.getId())).toList();
+    }
+
+    static TutoringStatusChanged statusChanged(Tutoring tutoring, TutoringStatus previousStatus, String actorId,
+                                               String comment, Instant occurredAt) {
+        return new TutoringStatusChanged(tutoring.getId(),
+                tutoring.getTutor() == null ? null : tutoring.getTutor().getId(),
+                tutoring.getTutee() == null ? null : tutoring.getTutee().getId(),
+                previousStatus, tutoring.getStatus(), actorId, comment, occurredAt);
     }
     
     private Tutoring validateTutoringExists(String tutoringId) {
@@ -170,18 +256,6 @@ public class TutoringStatusService implements CompleteTutoringUseCase, CancelTut
         throw new IllegalArgumentException("No tienes permisos para solicitar la cancelación de esta tutoría");
     }
     
-    private void createCancellationRequestFeedback(Tutoring tutoring, User user, String reason) {
-        Feedback feedback = new Feedback();
-        feedback.setEvaluator(user);
-        feedback.setTutoring(tutoring);
-        feedback.setEvaluationDate(new Date());
-        feedback.setScore("N/A");
-        feedback.setComments("Solicitud de cancelación: " + (reason != null && !reason.isEmpty() ? reason : "Sin razón especificada"));
-        
-        feedbackRepository.save(feedback);
-        log.info("Feedback de solicitud de cancelación creado para la tutoría ID: {}", tutoring.getId());
-    }
-    
     private User validateUserExists(String userId) {
         Optional<User> userOpt = findUserByIdUseCase.findUserById(userId);
         
@@ -223,17 +297,14 @@ public class TutoringStatusService implements CompleteTutoringUseCase, CancelTut
     }
     
     private void validateFeedbacksExist(String tutoringId, String tutorId, String tuteeId) {
-        List<Feedback> tutorFeedbacks = feedbackRepository.findByTutoringIdAndEvaluatorId(tutoringId, tutorId);
-        List<Feedback> tuteeFeedbacks = feedbackRepository.findByTutoringIdAndEvaluatorId(tutoringId, tuteeId);
-        
-        if (tutorFeedbacks.isEmpty()) {
+        if (!feedbackRepository.existsByTutoringIdAndEvaluatorId(tutoringId, tutorId)) {
             log.error("No existe feedback del tutor para la tutoría con ID: {}", tutoringId);
             throw new IllegalStateException("No se puede completar la tutoría porque falta el feedback del tutor");
         }
         
-        if (tuteeFeedbacks.isEmpty()) {
+        if (!feedbackRepository.existsByTutoringIdAndEvaluatorId(tutoringId, tuteeId)) {
             log.error("No existe feedback del tutee para la tutoría con ID: {}", tutoringId);
             throw new IllegalStateException("No se puede completar la tutoría porque falta el feedback del tutee");
         }
     }
-}
\ No newline at end of file
+}
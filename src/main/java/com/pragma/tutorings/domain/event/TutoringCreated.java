@@ -0,0 +1,12 @@
+package com.pragma.tutorings.domain.event;
+
+import com.pragma.shared.events.DomainEvent;
+
+import java.time.Instant;
+
+/**
+ * A tutoring was created from an approved request.
+ */
+public record TutoringCreated(String tutoringId, String requestId, String tutorId, String tuteeId,
+                              Instant occurredAt) implements DomainEvent {
+}
@@ -0,0 +1,15 @@
+package com.pragma.tutorings.domain.event;
+
+import com.pragma.shared.events.DomainEvent;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+
+import java.time.Instant;
+
+/**
+ * A tutoring moved from one status to another. {@code actorId} is the user who asked for the change, or
+ * {@code null} when the system made it (expiry); {@code comment} is the reason or comment they gave.
+ */
+public record TutoringStatusChanged(String tutoringId, String tutorId, String tuteeId, TutoringStatus previousStatus,
+                                    TutoringStatus newStatus, String actorId, String comment,
+                                    Instant occurredAt) implements DomainEvent {
+}
@@ -0,0 +1,57 @@
+package com.pragma.tutorings.domain.model.enums;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Fields of a {@link com.pragma.tutorings.domain.model.Tutoring} that a list query can be narrowed to.
+ * Adapters only load the columns and joins of the selected fields; the rest are left {@code null}.
+ */
+public enum TutoringField {
+    ID("id"),
+    TUTOR("tutor"),
+    TUTEE("tutee"),
+    SKILLS("skills"),
+    START_DATE("startDate"),
+    EXPECTED_END_DATE("expectedEndDate"),
+    STATUS("status"),
+    OBJECTIVES("objectives"),
+    FINAL_ACT_URL("finalActUrl"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt");
+
+    private final String fieldName;
+
+    TutoringField(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * Parses a comma-separated list of field names, e.g. {@code "id,status,tutor"}. A blank list selects
+     * every field; the id is always selected.
+     */
+    public static Set<TutoringField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return EnumSet.allOf(TutoringField.class);
+        }
+        Set<TutoringField> selected = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (!trimmed.isEmpty()) {
+                selected.add(Arrays.stream(values())
+                        .filter(field -> field.fieldName.equals(trimmed))
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalArgumentException("Campo desconocido: " + trimmed
+                                + ". Campos permitidos: " + Arrays.stream(values()).map(TutoringField::getFieldName)
+                                .collect(Collectors.joining(", ")))));
+            }
+        }
+        return selected;
+    }
+}
@@ -2,6 +2,15 @@ package com.pragma.tutorings.domain.port.input;
 
 import com.pragma.tutorings.domain.model.Tutoring;
 
+import java.util.List;
+
 public interface CancelTutoringUseCase {
     Tutoring cancelTutoring(String tutoringId, String adminId, String cancellationComment);
+
+    /**
+     * Cancels up to {@code limit} tutorings waiting in {@code EnCancelacion}, in a single transaction,
+     * recording {@code cancellationComment} as the cancellation feedback of each one.
+     * Returns the cancelled tutorings.
+     */
+    List<Tutoring> cancelPendingTutorings(String adminId, String cancellationComment, int limit);
 }
\ No newline at end of file
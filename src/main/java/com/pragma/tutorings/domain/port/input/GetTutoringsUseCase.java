@@ -1,12 +1,22 @@
 package com.pragma.tutorings.domain.port.input;
 
 import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringField;
 
 import java.util.List;
+import java.util.Set;
 
 public interface GetTutoringsUseCase {
     List<Tutoring> getAllTutorings();
+    List<Tutoring> getAllTutorings(Set<TutoringField> fields);
     List<Tutoring> getTutoringsByTutorId(String tutorId);
     List<Tutoring> getTutoringsByTuteeId(String tuteeId);
     Tutoring getTutoringById(String id);
+
+    /**
+     * With {@code includeHistory}, archived tutorings are looked up too.
+     */
+    List<Tutoring> getTutoringsByTutorId(String tutorId, boolean includeHistory);
+    List<Tutoring> getTutoringsByTuteeId(String tuteeId, boolean includeHistory);
+    Tutoring getTutoringById(String id, boolean includeHistory);
 }
\ No newline at end of file
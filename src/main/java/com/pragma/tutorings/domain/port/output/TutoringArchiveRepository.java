@@ -0,0 +1,29 @@
+package com.pragma.tutorings.domain.port.output;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Moves closed tutorings, together with their skills, sessions and feedbacks, out of the operational
+ * tables into the archive, where only the history reads look for them.
+ */
+public interface TutoringArchiveRepository {
+
+    /**
+     * Ids of up to {@code limit} Completada or Cancelada tutorings last updated before {@code closedBefore},
+     * least recently updated first.
+     */
+    List<String> findArchivableIds(Date closedBefore, int limit);
+
+    /**
+     * Ids of the operational feedbacks of the given tutorings, read before they are archived.
+     */
+    List<String> findFeedbackIds(Collection<String> tutoringIds);
+
+    /**
+     * Copies the given tutorings and everything that hangs from them to the archive and deletes them from
+     * the operational tables, all or nothing. Returns the number of tutorings archived.
+     */
+    int archive(Collection<String> tutoringIds, Date archivedAt);
+}
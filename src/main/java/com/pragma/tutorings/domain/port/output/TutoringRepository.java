@@ -1,17 +1,72 @@
 package com.pragma.tutorings.domain.port.output;
 
 import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringField;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface TutoringRepository {
     Tutoring save(Tutoring tutoring);
     Optional<Tutoring> findById(String id);
+
+    /**
+     * The tutorings with the given ids that exist, in no particular order, read with a fixed number of queries.
+     */
+    List<Tutoring> findAllById(Collection<String> ids);
     List<Tutoring> findAll();
+
+    /**
+     * Like {@link #findAll()}, but only the selected fields are guaranteed to be loaded.
+     */
+    List<Tutoring> findAll(Set<TutoringField> fields);
+
+    /**
+     * Hands every tutoring to {@code consumer}, one chunk at a time, without holding the table in memory.
+     */
+    void streamAll(Consumer<Tutoring> consumer);
     List<Tutoring> findByTutorId(String tutorId);
     List<Tutoring> findByTuteeId(String tuteeId);
+
+    /**
+     * Like {@link #findById(String)}, falling back to the archive of closed tutorings.
+     */
+    Optional<Tutoring> findByIdIncludingHistory(String id);
+
+    /**
+     * Like {@link #findByTutorId(String)}, followed by the archived tutorings of the tutor.
+     */
+    List<Tutoring> findByTutorIdIncludingHistory(String tutorId);
+
+    /**
+     * Like {@link #findByTuteeId(String)}, followed by the archived tutorings of the tutee.
+     */
+    List<Tutoring> findByTuteeIdIncludingHistory(String tuteeId);
     Long countActiveTutoringByTutorId(String tutorId);
     Long countTutoringsByTutorId(String tutorId);
     Long countTutoringsByTuteeId(String tuteeId);
+
+    /**
+     * Tutorings in {@code status} ordered by id, at most {@code limit}. Served by the status index. The rows
+     * stay locked until the surrounding transaction ends, so they cannot change status in between.
+     */
+    List<Tutoring> findByStatusForUpdate(TutoringStatus status, int limit);
+
+    /**
+     * Up to {@code limit} tutorings in {@code status} whose expected end date is before {@code before},
+     * oldest first. Served by the (status, expected end date) index. The rows stay locked until the
+     * surrounding transaction ends, so they cannot change status in between.
+     */
+    List<Tutoring> findOverdueForUpdate(TutoringStatus status, Date before, int limit);
+
+    /**
+     * Moves every given tutoring that is still in status {@code from} to {@code to} with a single
+     * statement. Returns the number of tutorings changed.
+     */
+    int updateStatus(Collection<String> ids, TutoringStatus from, TutoringStatus to, Date updatedAt);
 }
\ No newline at end of file
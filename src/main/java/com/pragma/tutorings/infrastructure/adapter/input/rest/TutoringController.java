@@ -4,14 +4,17 @@ import com.pragma.shared.context.UserContextHelper;
 import com.pragma.shared.dto.OkResponseDto;
 import com.pragma.shared.service.MessageService;
 import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringField;
 import com.pragma.tutorings.domain.port.input.CancelTutoringUseCase;
 import com.pragma.tutorings.domain.port.input.CompleteTutoringUseCase;
 import com.pragma.tutorings.domain.port.input.CreateTutoringUseCase;
 import com.pragma.tutorings.domain.port.input.GetTutoringsUseCase;
 import com.pragma.tutorings.domain.port.input.RequestCancellationUseCase;
+import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.CompactTutoringListDto;
 import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.CompleteTutoringDto;
 import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.CreateTutoringDto;
 import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.RequestCancellationDto;
+import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.ResolveCancellationsDto;
 import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.TutoringDetailDto;
 import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.TutoringDto;
 import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.UpdateTutoringStatusDto;
@@ -31,6 +34,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/v1/tutorings")
@@ -148,6 +153,26 @@ public class TutoringController {
         }
     }
     
+    @PatchMapping("/cancellations")
+    public ResponseEntity<OkResponseDto<List<TutoringDto>>> cancelPendingTutorings(
+            @Valid @RequestBody ResolveCancellationsDto resolveDto) {
+
+        // Solo los administradores resuelven cancelaciones
+        UserContextHelper.requireAdminRole();
+        User currentUser = UserContextHelper.getCurrentUserOrThrow();
+        log.info("Admin {} resolving up to {} pending cancellations", currentUser.getEmail(), resolveDto.getLimit());
+
+        List<Tutoring> tutorings = cancelTutoringUseCase.cancelPendingTutorings(
+                currentUser.getId(), resolveDto.getComments(), resolveDto.getLimit());
+        List<TutoringDto> tutoringDtos = tutorings.stream().map(tutoringDtoMapper::toDto).toList();
+
+        log.info("Admin {} successfully canceled {} tutorings", currentUser.getEmail(), tutoringDtos.size());
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(OkResponseDto.of(messageService.getMessage("tutoring.cancellations.resolved"), tutoringDtos));
+    }
+    
     @GetMapping
     public ResponseEntity<OkResponseDto<List<TutoringDto>>> getAllTutorings() {
         try {
@@ -168,14 +193,61 @@ public class TutoringController {
         }
     }
 
+    /**
+     * Same list as {@link #getAllTutorings()}, with users, chapters and skills referenced by id
+     * and emitted once in {@code included}.
+     */
+    @GetMapping(params = {"format=compact", "!fields"})
+    public ResponseEntity<OkResponseDto<CompactTutoringListDto>> getAllTutoringsCompact() {
+        User currentUser = UserContextHelper.getCurrentUserOrThrow();
+        log.info("User {} retrieving all tutorings (compact)", currentUser.getEmail());
+
+        List<Tutoring> tutorings = getTutoringsUseCase.getAllTutorings();
+        CompactTutoringListDto response = tutoringDtoMapper.toCompactListDto(tutorings);
+
+        log.info("User {} retrieved {} tutorings referencing {} users", currentUser.getEmail(),
+                response.getTutorings().size(), response.getIncluded().getUsers().size());
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(OkResponseDto.of(messageService.getMessage("general.success"), response));
+    }
+
+    /**
+     * Same list as {@link #getAllTutorings()} with only the requested fields, e.g. {@code fields=id,status,tutor}.
+     * The id is always included and the query only loads the selected columns.
+     */
+    @GetMapping(params = "fields")
+    public ResponseEntity<OkResponseDto<List<Map<String, Object>>>> getAllTutoringsSparse(@RequestParam String fields) {
+        User currentUser = UserContextHelper.getCurrentUserOrThrow();
+        Set<TutoringField> selected = TutoringField.parse(fields);
+        log.info("User {} retrieving all tutorings with fields {}", currentUser.getEmail(), selected);
+
+        List<Map<String, Object>> tutoringDtos = getTutoringsUseCase.getAllTutorings(selected).stream()
+                .map(tutoring -> tutoringDtoMapper.toSparseDto(tutoring, selected))
+                .toList();
+
+        log.info("User {} retrieved {} tutorings", currentUser.getEmail(), tutoringDtos.size());
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(OkResponseDto.of(messageService.getMessage("general.success"), tutoringDtos));
+    }
+
+    /**
+     * With {@code includeHistory=true} the tutoring, its sessions and its feedbacks are also looked up
+     * in the archive of closed tutorings.
+     */
     @GetMapping("/{id}/detail")
-    public ResponseEntity<OkResponseDto<TutoringDetailDto>> getTutoringDetail(@PathVariable String id) {
+    public ResponseEntity<OkResponseDto<TutoringDetailDto>> getTutoringDetail(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "false") boolean includeHistory) {
         User currentUser = UserContextHelper.getCurrentUserOrThrow();
         log.info("User {} retrieving tutoring detail for ID: {}", currentUser.getEmail(), id);
         
-        Tutoring tutoring = getTutoringsUseCase.getTutoringById(id);
-        List<TutoringSession> sessions = getTutoringSessionsUseCase.getSessionsByTutoringId(id);
-        List<Feedback> feedbacks = getFeedbacksUseCase.getFeedbacksByTutoringId(id);
+        Tutoring tutoring = getTutoringsUseCase.getTutoringById(id, includeHistory);
+        List<TutoringSession> sessions = getTutoringSessionsUseCase.getSessionsByTutoringId(id, includeHistory);
+        List<Feedback> feedbacks = getFeedbacksUseCase.getFeedbacksByTutoringId(id, includeHistory);
         
         TutoringDetailDto detailDto = tutoringDetailDtoMapper.toDetailDto(tutoring, sessions, feedbacks);
         
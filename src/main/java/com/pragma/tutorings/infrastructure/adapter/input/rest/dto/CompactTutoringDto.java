@@ -0,0 +1,29 @@
+package com.pragma.tutorings.infrastructure.adapter.input.rest.dto;
+
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * {@link TutoringDto} that references tutor, tutee and skills by id; see {@link IncludedDto}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompactTutoringDto {
+    private String id;
+    private String tutorId;
+    private String tuteeId;
+    private List<String> skillIds;
+    private Date startDate;
+    private Date expectedEndDate;
+    private TutoringStatus status;
+    private String objectives;
+    private String finalActUrl;
+    private Date createdAt;
+    private Date updatedAt;
+}
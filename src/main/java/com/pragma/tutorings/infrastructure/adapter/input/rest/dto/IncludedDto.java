@@ -0,0 +1,22 @@
+package com.pragma.tutorings.infrastructure.adapter.input.rest.dto;
+
+import com.pragma.chapter.infrastructure.adapter.input.rest.dto.ChapterDto;
+import com.pragma.skills.infrastructure.adapter.input.rest.dto.SkillDto;
+import com.pragma.usuarios.infrastructure.adapter.input.rest.dto.CompactUserDto;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Entities referenced by a compact response, each emitted once and keyed by id.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IncludedDto {
+    private Map<String, CompactUserDto> users;
+    private Map<String, ChapterDto> chapters;
+    private Map<String, SkillDto> skills;
+}
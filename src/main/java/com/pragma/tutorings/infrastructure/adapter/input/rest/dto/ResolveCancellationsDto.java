@@ -0,0 +1,21 @@
+package com.pragma.tutorings.infrastructure.adapter.input.rest.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResolveCancellationsDto {
+
+    @Size(max = 500, message = "El comentario de cancelación no puede exceder 500 caracteres")
+    private String comments;
+
+    @Min(value = 1, message = "El límite debe ser al menos 1")
+    @Max(value = 500, message = "El límite no puede exceder 500 tutorías")
+    private int limit = 500;
+}
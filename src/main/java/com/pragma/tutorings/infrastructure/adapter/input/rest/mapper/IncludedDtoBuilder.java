@@ -0,0 +1,65 @@
+package com.pragma.tutorings.infrastructure.adapter.input.rest.mapper;
+
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.chapter.infrastructure.adapter.input.rest.dto.ChapterDto;
+import com.pragma.skills.domain.model.Skill;
+import com.pragma.skills.infrastructure.adapter.input.rest.dto.SkillDto;
+import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.IncludedDto;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.infrastructure.adapter.input.rest.dto.CompactUserDto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the users, chapters and skills referenced while mapping a compact response.
+ * Each entity is converted the first time its id is seen; later references only return the id,
+ * so the cost of a response grows with the distinct entities rather than with the references.
+ * Passed to the mappers as a MapStruct {@code @Context}; one instance per response.
+ */
+public class IncludedDtoBuilder {
+
+    private final Map<String, CompactUserDto> users = new LinkedHashMap<>();
+    private final Map<String, ChapterDto> chapters = new LinkedHashMap<>();
+    private final Map<String, SkillDto> skills = new LinkedHashMap<>();
+
+    public String user(User user) {
+        if (user == null || user.getId() == null) {
+            return null;
+        }
+        if (!users.containsKey(user.getId())) {
+            users.put(user.getId(), new CompactUserDto(user.getId(), user.getFirstName(), user.getLastName(),
+                    user.getEmail(), user.getSlackId(), chapter(user.getChapter()), user.getRol(),
+                    user.getActiveTutoringLimit(), user.getSeniority()));
+        }
+        return user.getId();
+    }
+
+    public List<String> skills(List<Skill> references) {
+        List<String> ids = new ArrayList<>();
+        if (references == null) {
+            return ids;
+        }
+        for (Skill skill : references) {
+            if (skill != null && skill.getId() != null) {
+                skills.computeIfAbsent(skill.getId(), id -> new SkillDto(id, skill.getName()));
+                ids.add(skill.getId());
+            }
+        }
+        return ids;
+    }
+
+    public IncludedDto build() {
+        return new IncludedDto(users, chapters, skills);
+    }
+
+    private String chapter(Chapter chapter) {
+        if (chapter == null || chapter.getId() == null) {
+            return null;
+        }
+        chapters.computeIfAbsent(chapter.getId(), id -> new ChapterDto(id, chapter.getName()));
+        return chapter.getId();
+    }
+}
@@ -2,12 +2,20 @@ package com.pragma.tutorings.infrastructure.adapter.input.rest.mapper;
 
 import com.pragma.skills.infrastructure.adapter.input.rest.mapper.SkillDtoMapper;
 import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringField;
+import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.CompactTutoringDto;
+import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.CompactTutoringListDto;
 import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.TutoringDto;
 import com.pragma.usuarios.infrastructure.adapter.input.rest.mapper.UserDtoMapper;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Mapper(componentModel = "spring", uses = {UserDtoMapper.class, SkillDtoMapper.class})
 public interface TutoringDtoMapper {
@@ -15,4 +23,40 @@ public interface TutoringDtoMapper {
 
     TutoringDto toDto(Tutoring tutoring);
     List<TutoringDto> toDtoList(List<Tutoring> tutorings);
-}
\ No newline at end of file
+
+    @Mapping(target = "tutorId", expression = "java(included.user(tutoring.getTutor()))")
+    @Mapping(target = "tuteeId", expression = "java(included.user(tutoring.getTutee()))")
+    @Mapping(target = "skillIds", expression = "java(included.skills(tutoring.getSkills()))")
+    CompactTutoringDto toCompactDto(Tutoring tutoring, @Context IncludedDtoBuilder included);
+    List<CompactTutoringDto> toCompactDtoList(List<Tutoring> tutorings, @Context IncludedDtoBuilder included);
+
+    default CompactTutoringListDto toCompactListDto(List<Tutoring> tutorings) {
+        IncludedDtoBuilder included = new IncludedDtoBuilder();
+        List<CompactTutoringDto> dtos = toCompactDtoList(tutorings, included);
+        return new CompactTutoringListDto(dtos, included.build());
+    }
+
+    /**
+     * Only the selected fields of {@link TutoringDto}, in declaration order.
+     */
+    default Map<String, Object> toSparseDto(Tutoring tutoring, Set<TutoringField> fields) {
+        TutoringDto dto = toDto(tutoring);
+        Map<String, Object> sparse = new LinkedHashMap<>();
+        for (TutoringField field : fields) {
+            sparse.put(field.getFieldName(), switch (field) {
+                case ID -> dto.getId();
+                case TUTOR -> dto.getTutor();
+                case TUTEE -> dto.getTutee();
+                case SKILLS -> dto.getSkills();
+                case START_DATE -> dto.getStartDate();
+                case EXPECTED_END_DATE -> dto.getExpectedEndDate();
+                case STATUS -> dto.getStatus();
+                case OBJECTIVES -> dto.getObjectives();
+                case FINAL_ACT_URL -> dto.getFinalActUrl();
+                case CREATED_AT -> dto.getCreatedAt();
+                case UPDATED_AT -> dto.getUpdatedAt();
+            });
+        }
+        return sparse;
+    }
+}
@@ -0,0 +1,188 @@
+package com.pragma.tutorings.infrastructure.adapter.output.jdbc;
+
+import com.pragma.shared.config.JdbcReadProperties;
+import com.pragma.shared.persistence.PendingWrites;
+import com.pragma.skills.domain.model.Skill;
+import com.pragma.skills.infrastructure.adapter.output.jdbc.SkillJdbcLoader;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringField;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings.domain.port.output.TutoringRepository;
+import com.pragma.tutorings.infrastructure.adapter.output.persistence.TutoringPersistenceAdapter;
+import jakarta.persistence.EntityManager;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Read-optimised {@link TutoringRepository} for the {@code jdbc} profile.
+ * Tutorings are loaded with their tutor and tutee in one joined query and their skills in a second one,
+ * skipping entity hydration and the entity-to-domain mapping. List reads return every row at once;
+ * {@link #streamAll(Consumer)} hands rows over one tutoring at a time as the cursor reads them.
+ * List reads narrowed to a set of {@link TutoringField}s only select those columns, and skip the user
+ * joins and the skills query when they are not selected.
+ * Writes are delegated to the JPA adapter; pending JPA writes are flushed before every read, so reads inside
+ * a write transaction see them.
+ */
+@Component
+@Primary
+@Profile("jdbc")
+public class TutoringJdbcAdapter implements TutoringRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SkillJdbcLoader skillLoader;
+    private final TutoringPersistenceAdapter jpaAdapter;
+    private final EntityManager entityManager;
+
+    public TutoringJdbcAdapter(DataSource dataSource, JdbcReadProperties properties, TutoringPersistenceAdapter jpaAdapter,
+                               EntityManager entityManager) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(properties.getFetchSize());
+        this.skillLoader = new SkillJdbcLoader(jdbcTemplate, "tutoring_skills", "tutorings_id", "skills_id",
+                properties.getInClauseChunkSize());
+        this.jpaAdapter = jpaAdapter;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Tutoring save(Tutoring tutoring) {
+        return jpaAdapter.save(tutoring);
+    }
+
+    @Override
+    public Optional<Tutoring> findById(String id) {
+        List<Tutoring> tutorings = query(TutoringRowMapper.INSTANCE, TutoringRowMapper.SELECT_TUTORINGS + " WHERE t.id = ?", id);
+        attachSkills(tutorings, skillLoader.loadByOwnerIds(ids(tutorings)));
+        return tutorings.stream().findFirst();
+    }
+
+    @Override
+    public List<Tutoring> findAllById(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        List<Tutoring> tutorings = query(TutoringRowMapper.INSTANCE,
+                TutoringRowMapper.SELECT_TUTORINGS + " WHERE t.id IN (" + placeholders + ")", ids.toArray());
+        attachSkills(tutorings, skillLoader.loadByOwnerIds(ids(tutorings)));
+        return tutorings;
+    }
+
+    @Override
+    public List<Tutoring> findAll() {
+        List<Tutoring> tutorings = query(TutoringRowMapper.INSTANCE, TutoringRowMapper.SELECT_TUTORINGS);
+        attachSkills(tutorings, skillLoader.loadAll());
+        return tutorings;
+    }
+
+    /**
+     * Streams the tutorings joined with their skills in a single query ordered by id, so only the tutoring being
+     * read is held in memory.
+     */
+    @Override
+    public void streamAll(Consumer<Tutoring> consumer) {
+        PendingWrites.flush(entityManager);
+        skillLoader.streamWithSkills(TutoringRowMapper.SELECT_TUTORINGS, TutoringRowMapper.INSTANCE, Tutoring::setSkills, consumer);
+    }
+
+    @Override
+    public List<Tutoring> findAll(Set<TutoringField> fields) {
+        List<Tutoring> tutorings = query(new TutoringRowMapper(fields), TutoringRowMapper.select(fields));
+        if (fields.contains(TutoringField.SKILLS)) {
+            attachSkills(tutorings, skillLoader.loadAll());
+        }
+        return tutorings;
+    }
+
+    @Override
+    public List<Tutoring> findByTutorId(String tutorId) {
+        List<Tutoring> tutorings = query(TutoringRowMapper.INSTANCE, TutoringRowMapper.SELECT_TUTORINGS + " WHERE t.tutor_id_id = ?", tutorId);
+        attachSkills(tutorings, skillLoader.loadByOwnerIds(ids(tutorings)));
+        return tutorings;
+    }
+
+    @Override
+    public List<Tutoring> findByTuteeId(String tuteeId) {
+        List<Tutoring> tutorings = query(TutoringRowMapper.INSTANCE, TutoringRowMapper.SELECT_TUTORINGS + " WHERE t.tutee_id_id = ?", tuteeId);
+        attachSkills(tutorings, skillLoader.loadByOwnerIds(ids(tutorings)));
+        return tutorings;
+    }
+
+    @Override
+    public Long countActiveTutoringByTutorId(String tutorId) {
+        PendingWrites.flush(entityManager);
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tutoring WHERE tutor_id_id = ? AND status = ?",
+                Long.class, tutorId, TutoringStatus.Activa.name());
+    }
+
+    @Override
+    public Long countTutoringsByTutorId(String tutorId) {
+        PendingWrites.flush(entityManager);
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tutoring WHERE tutor_id_id = ?", Long.class, tutorId);
+    }
+
+    @Override
+    public Long countTutoringsByTuteeId(String tuteeId) {
+        PendingWrites.flush(entityManager);
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tutoring WHERE tutee_id_id = ?", Long.class, tuteeId);
+    }
+
+    // El histórico archivado se consulta poco: lo lee el adaptador JPA
+    @Override
+    public Optional<Tutoring> findByIdIncludingHistory(String id) {
+        return jpaAdapter.findByIdIncludingHistory(id);
+    }
+
+    @Override
+    public List<Tutoring> findByTutorIdIncludingHistory(String tutorId) {
+        return jpaAdapter.findByTutorIdIncludingHistory(tutorId);
+    }
+
+    @Override
+    public List<Tutoring> findByTuteeIdIncludingHistory(String tuteeId) {
+        return jpaAdapter.findByTuteeIdIncludingHistory(tuteeId);
+    }
+
+    // Lecturas con bloqueo para un cambio de estado: las hace el adaptador JPA dentro de su transacción
+    @Override
+    public List<Tutoring> findByStatusForUpdate(TutoringStatus status, int limit) {
+        return jpaAdapter.findByStatusForUpdate(status, limit);
+    }
+
+    @Override
+    public List<Tutoring> findOverdueForUpdate(TutoringStatus status, Date before, int limit) {
+        return jpaAdapter.findOverdueForUpdate(status, before, limit);
+    }
+
+    @Override
+    public int updateStatus(Collection<String> ids, TutoringStatus from, TutoringStatus to, Date updatedAt) {
+        return jpaAdapter.updateStatus(ids, from, to, updatedAt);
+    }
+
+    private List<Tutoring> query(TutoringRowMapper rowMapper, String sql, Object... params) {
+        PendingWrites.flush(entityManager);
+        return jdbcTemplate.query(sql, rowMapper, params);
+    }
+
+    private static List<String> ids(List<Tutoring> tutorings) {
+        return tutorings.stream().map(Tutoring::getId).toList();
+    }
+
+    private static void attachSkills(List<Tutoring> tutorings, Map<String, List<Skill>> skillsByTutoring) {
+        for (Tutoring tutoring : tutorings) {
+            tutoring.setSkills(skillsByTutoring.getOrDefault(tutoring.getId(), new ArrayList<>()));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.pragma.tutorings.infrastructure.adapter.output.jdbc;
+
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringField;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.usuarios.infrastructure.adapter.output.jdbc.UserRowMapper;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Maps a tutoring row joined with its tutor and tutee (and their chapters) to a
+ * {@link Tutoring}. Skills are attached afterwards in a separate query.
+ * A mapper built for a subset of {@link TutoringField}s reads only the columns that {@link #select(Set)}
+ * emits for it; the users are only joined when the tutor or tutee is selected.
+ */
+public class TutoringRowMapper implements RowMapper<Tutoring> {
+
+    public static final String SELECT_TUTORINGS = select(EnumSet.allOf(TutoringField.class));
+
+    public static final TutoringRowMapper INSTANCE = new TutoringRowMapper(EnumSet.allOf(TutoringField.class));
+
+    private final Set<TutoringField> fields;
+    private final UserRowMapper tutorMapper = new UserRowMapper("tutor_");
+    private final UserRowMapper tuteeMapper = new UserRowMapper("tutee_");
+
+    public TutoringRowMapper(Set<TutoringField> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * {@code SELECT ... FROM tutoring t} with the columns and joins of {@code fields}. The id is always selected.
+     */
+    public static String select(Set<TutoringField> fields) {
+        StringJoiner columns = new StringJoiner(", ");
+        StringBuilder joins = new StringBuilder();
+        columns.add("t.id");
+        if (fields.contains(TutoringField.TUTOR)) {
+            columns.add(UserRowMapper.columns("tu", "tuc", "tutor_"));
+            joins.append(" LEFT JOIN users tu ON tu.id = t.tutor_id_id")
+                    .append(" LEFT JOIN chapter tuc ON tuc.id = tu.chapter_id");
+        }
+        if (fields.contains(TutoringField.TUTEE)) {
+            columns.add(UserRowMapper.columns("te", "tec", "tutee_"));
+            joins.append(" LEFT JOIN users te ON te.id = t.tutee_id_id")
+                    .append(" LEFT JOIN chapter tec ON tec.id = te.chapter_id");
+        }
+        for (TutoringField field : fields) {
+            String column = column(field);
+            if (column != null) {
+                columns.add("t." + column);
+            }
+        }
+        return "SELECT " + columns + " FROM tutoring t" + joins;
+    }
+
+    @Override
+    public Tutoring mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Tutoring tutoring = new Tutoring();
+        tutoring.setId(rs.getString("id"));
+        if (fields.contains(TutoringField.TUTOR)) {
+            tutoring.setTutor(tutorMapper.mapRow(rs, rowNum));
+        }
+        if (fields.contains(TutoringField.TUTEE)) {
+            tutoring.setTutee(tuteeMapper.mapRow(rs, rowNum));
+        }
+        if (fields.contains(TutoringField.START_DATE)) {
+            tutoring.setStartDate(rs.getTimestamp("start_date"));
+        }
+        if (fields.contains(TutoringField.EXPECTED_END_DATE)) {
+            tutoring.setExpectedEndDate(rs.getTimestamp("expected_end_date"));
+        }
+        if (fields.contains(TutoringField.STATUS)) {
+            String status = rs.getString("status");
+            tutoring.setStatus(status != null ? TutoringStatus.valueOf(status) : null);
+        }
+        if (fields.contains(TutoringField.OBJECTIVES)) {
+            tutoring.setObjectives(rs.getString("objectives"));
+        }
+        if (fields.contains(TutoringField.FINAL_ACT_URL)) {
+            tutoring.setFinalActUrl(rs.getString("final_act_url"));
+        }
+        if (fields.contains(TutoringField.CREATED_AT)) {
+            tutoring.setCreatedAt(rs.getTimestamp("created_at"));
+        }
+        if (fields.contains(TutoringField.UPDATED_AT)) {
+            tutoring.setUpdatedAt(rs.getTimestamp("updated_at"));
+        }
+        return tutoring;
+    }
+
+    private static String column(TutoringField field) {
+        return switch (field) {
+            case START_DATE -> "start_date";
+            case EXPECTED_END_DATE -> "expected_end_date";
+            case STATUS -> "status";
+            case OBJECTIVES -> "objectives";
+            case FINAL_ACT_URL -> "final_act_url";
+            case CREATED_AT -> "created_at";
+            case UPDATED_AT -> "updated_at";
+            case ID, TUTOR, TUTEE, SKILLS -> null;
+        };
+    }
+}
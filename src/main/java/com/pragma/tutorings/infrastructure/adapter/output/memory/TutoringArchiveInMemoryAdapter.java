@@ -0,0 +1,61 @@
+package com.pragma.tutorings.infrastructure.adapter.output.memory;
+
+import com.pragma.feedbacks.domain.model.Feedback;
+import com.pragma.feedbacks.infrastructure.adapter.output.memory.FeedbackInMemoryAdapter;
+import com.pragma.tutoring_sessions.infrastructure.adapter.output.memory.TutoringSessionInMemoryAdapter;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings.domain.port.output.TutoringArchiveRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * In-memory {@link TutoringArchiveRepository} for the {@code memory} profile. Each adapter keeps its own
+ * archive; this one moves a batch through all three.
+ */
+@Component
+@Primary
+@Profile("memory")
+@RequiredArgsConstructor
+public class TutoringArchiveInMemoryAdapter implements TutoringArchiveRepository {
+
+    private final TutoringInMemoryAdapter tutoringAdapter;
+    private final TutoringSessionInMemoryAdapter sessionAdapter;
+    private final FeedbackInMemoryAdapter feedbackAdapter;
+
+    @Override
+    public List<String> findArchivableIds(Date closedBefore, int limit) {
+        return Stream.concat(tutoringAdapter.findByStatus(TutoringStatus.Completada).stream(),
+                        tutoringAdapter.findByStatus(TutoringStatus.Cancelada).stream())
+                .filter(tutoring -> tutoring.getUpdatedAt() != null && tutoring.getUpdatedAt().before(closedBefore))
+                .sorted(Comparator.comparing(Tutoring::getUpdatedAt).thenComparing(Tutoring::getId))
+                .limit(limit)
+                .map(Tutoring::getId)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<String> findFeedbackIds(Collection<String> tutoringIds) {
+        return tutoringIds.stream()
+                .flatMap(tutoringId -> feedbackAdapter.findByTutoringId(tutoringId).stream())
+                .map(Feedback::getId)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public synchronized int archive(Collection<String> tutoringIds, Date archivedAt) {
+        List<String> moved = tutoringAdapter.archive(tutoringIds);
+        sessionAdapter.archive(moved);
+        feedbackAdapter.archive(moved);
+        return moved.size();
+    }
+}
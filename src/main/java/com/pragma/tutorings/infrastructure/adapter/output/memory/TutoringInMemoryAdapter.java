@@ -0,0 +1,280 @@
+package com.pragma.tutorings.infrastructure.adapter.output.memory;
+
+import com.pragma.shared.persistence.memory.InMemoryIndex;
+import com.pragma.skills.domain.model.Skill;
+import com.pragma.skills.infrastructure.adapter.output.memory.SkillInMemoryAdapter;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringField;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings.domain.port.output.TutoringRepository;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.infrastructure.adapter.output.memory.UserInMemoryAdapter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory {@link TutoringRepository} for the {@code memory} profile.
+ * Tutor, tutee and status are secondary indexes. Tutor, tutee and skills are stored by
+ * reference and resolved on every read, like the JPA associations. Archived tutorings live in a
+ * separate map that only the history reads look at.
+ */
+@Component
+@Primary
+@Profile("memory")
+@RequiredArgsConstructor
+public class TutoringInMemoryAdapter implements TutoringRepository {
+
+    private final UserInMemoryAdapter userAdapter;
+    private final SkillInMemoryAdapter skillAdapter;
+
+    private final Map<String, Tutoring> tutorings = new ConcurrentHashMap<>();
+    private final InMemoryIndex<String> byTutor = new InMemoryIndex<>();
+    private final InMemoryIndex<String> byTutee = new InMemoryIndex<>();
+    private final InMemoryIndex<TutoringStatus> byStatus = new InMemoryIndex<>();
+    private final Map<String, Tutoring> archived = new ConcurrentHashMap<>();
+
+    @Override
+    public synchronized Tutoring save(Tutoring tutoring) {
+        Tutoring stored = copy(tutoring);
+        if (stored.getId() == null) {
+            stored.setId(UUID.randomUUID().toString());
+        }
+        Tutoring previous = tutorings.get(stored.getId());
+        Date now = new Date();
+        if (stored.getCreatedAt() == null) {
+            stored.setCreatedAt(previous != null && previous.getCreatedAt() != null ? previous.getCreatedAt() : now);
+        }
+        stored.setUpdatedAt(now);
+
+        tutorings.put(stored.getId(), stored);
+        byTutor.update(userId(previous == null ? null : previous.getTutor()), userId(stored.getTutor()), stored.getId());
+        byTutee.update(userId(previous == null ? null : previous.getTutee()), userId(stored.getTutee()), stored.getId());
+        byStatus.update(previous == null ? null : previous.getStatus(), stored.getStatus(), stored.getId());
+        return hydrate(stored);
+    }
+
+    @Override
+    public Optional<Tutoring> findById(String id) {
+        return Optional.ofNullable(id).map(tutorings::get).map(this::hydrate);
+    }
+
+    @Override
+    public List<Tutoring> findAllById(Collection<String> ids) {
+        return ids.stream()
+                .distinct()
+                .map(tutorings::get)
+                .filter(Objects::nonNull)
+                .map(this::hydrate)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Tutoring> findAll() {
+        return tutorings.values().stream().map(this::hydrate).collect(Collectors.toList());
+    }
+
+    // Los objetos ya están en memoria: se devuelven completos
+    @Override
+    public List<Tutoring> findAll(Set<TutoringField> fields) {
+        return findAll();
+    }
+
+    @Override
+    public void streamAll(Consumer<Tutoring> consumer) {
+        tutorings.values().stream().map(this::hydrate).forEach(consumer);
+    }
+
+    @Override
+    public List<Tutoring> findByTutorId(String tutorId) {
+        return lookup(byTutor.get(tutorId), tutoring -> tutorId.equals(userId(tutoring.getTutor())));
+    }
+
+    @Override
+    public List<Tutoring> findByTuteeId(String tuteeId) {
+        return lookup(byTutee.get(tuteeId), tutoring -> tuteeId.equals(userId(tutoring.getTutee())));
+    }
+
+    @Override
+    public Optional<Tutoring> findByIdIncludingHistory(String id) {
+        return findById(id).or(() -> Optional.ofNullable(id).map(archived::get).map(this::hydrate));
+    }
+
+    @Override
+    public List<Tutoring> findByTutorIdIncludingHistory(String tutorId) {
+        List<Tutoring> result = findByTutorId(tutorId);
+        result.addAll(findArchived(tutoring -> tutorId.equals(userId(tutoring.getTutor()))));
+        return result;
+    }
+
+    @Override
+    public List<Tutoring> findByTuteeIdIncludingHistory(String tuteeId) {
+        List<Tutoring> result = findByTuteeId(tuteeId);
+        result.addAll(findArchived(tutoring -> tuteeId.equals(userId(tutoring.getTutee()))));
+        return result;
+    }
+
+    @Override
+    public Long countActiveTutoringByTutorId(String tutorId) {
+        return byTutor.get(tutorId).stream()
+                .map(tutorings::get)
+                .filter(Objects::nonNull)
+                .filter(tutoring -> tutoring.getStatus() == TutoringStatus.Activa)
+                .count();
+    }
+
+    @Override
+    public Long countTutoringsByTutorId(String tutorId) {
+        return (long) byTutor.get(tutorId).size();
+    }
+
+    @Override
+    public Long countTutoringsByTuteeId(String tuteeId) {
+        return (long) byTutee.get(tuteeId).size();
+    }
+
+    @Override
+    public synchronized List<Tutoring> findByStatusForUpdate(TutoringStatus status, int limit) {
+        return findByStatus(status).stream()
+                .sorted(Comparator.comparing(Tutoring::getId))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public synchronized List<Tutoring> findOverdueForUpdate(TutoringStatus status, Date before, int limit) {
+        return findByStatus(status).stream()
+                .filter(tutoring -> tutoring.getExpectedEndDate() != null && tutoring.getExpectedEndDate().before(before))
+                .sorted(Comparator.comparing(Tutoring::getExpectedEndDate).thenComparing(Tutoring::getId))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public synchronized int updateStatus(Collection<String> ids, TutoringStatus from, TutoringStatus to, Date updatedAt) {
+        int updated = 0;
+        for (String id : new HashSet<>(ids)) {
+            Tutoring previous = tutorings.get(id);
+            if (previous == null || previous.getStatus() != from) {
+                continue;
+            }
+            Tutoring stored = copy(previous);
+            stored.setStatus(to);
+            stored.setUpdatedAt(copyDate(updatedAt));
+            tutorings.put(id, stored);
+            byStatus.update(from, to, id);
+            updated++;
+        }
+        return updated;
+    }
+
+    /**
+     * Tutorings in the given status, served from the status index.
+     */
+    public List<Tutoring> findByStatus(TutoringStatus status) {
+        return lookup(byStatus.get(status), tutoring -> tutoring.getStatus() == status);
+    }
+
+    /**
+     * Moves the given tutorings to the archive and returns the ids actually moved.
+     */
+    public synchronized List<String> archive(Collection<String> ids) {
+        List<String> moved = new ArrayList<>();
+        for (String id : new HashSet<>(ids)) {
+            Tutoring previous = tutorings.remove(id);
+            if (previous == null) {
+                continue;
+            }
+            archived.put(id, previous);
+            byTutor.update(userId(previous.getTutor()), null, id);
+            byTutee.update(userId(previous.getTutee()), null, id);
+            byStatus.update(previous.getStatus(), null, id);
+            moved.add(id);
+        }
+        return moved;
+    }
+
+    public synchronized void clear() {
+        tutorings.clear();
+        archived.clear();
+        byTutor.clear();
+        byTutee.clear();
+        byStatus.clear();
+    }
+
+    private List<Tutoring> findArchived(Predicate<Tutoring> filter) {
+        return archived.values().stream().filter(filter).map(this::hydrate).collect(Collectors.toList());
+    }
+
+    private List<Tutoring> lookup(Set<String> ids, Predicate<Tutoring> stillMatches) {
+        return ids.stream()
+                .map(tutorings::get)
+                .filter(Objects::nonNull)
+                .filter(stillMatches)
+                .map(this::hydrate)
+                .collect(Collectors.toList());
+    }
+
+    private Tutoring hydrate(Tutoring stored) {
+        Tutoring tutoring = copy(stored);
+        tutoring.setTutor(resolveUser(stored.getTutor()));
+        tutoring.setTutee(resolveUser(stored.getTutee()));
+        if (stored.getSkills() != null) {
+            tutoring.setSkills(stored.getSkills().stream()
+                    .map(skill -> skillAdapter.findById(skill.getId()).orElse(skill))
+                    .collect(Collectors.toList()));
+        }
+        return tutoring;
+    }
+
+    private User resolveUser(User reference) {
+        if (reference == null || reference.getId() == null) {
+            return reference;
+        }
+        return userAdapter.findById(reference.getId()).orElse(reference);
+    }
+
+    private static String userId(User user) {
+        return user == null ? null : user.getId();
+    }
+
+    private static Tutoring copy(Tutoring tutoring) {
+        List<Skill> skills = tutoring.getSkills() == null ? new ArrayList<>() : tutoring.getSkills().stream()
+                .filter(Objects::nonNull)
+                .map(skill -> new Skill(skill.getId(), skill.getName()))
+                .collect(Collectors.toList());
+        return new Tutoring(tutoring.getId(), copyUser(tutoring.getTutor()), copyUser(tutoring.getTutee()), skills,
+                copyDate(tutoring.getStartDate()), copyDate(tutoring.getExpectedEndDate()), tutoring.getStatus(),
+                tutoring.getObjectives(), tutoring.getFinalActUrl(), copyDate(tutoring.getCreatedAt()),
+                copyDate(tutoring.getUpdatedAt()));
+    }
+
+    private static User copyUser(User user) {
+        if (user == null) {
+            return null;
+        }
+        return new User(user.getId(), user.getFirstName(), user.getLastName(), user.getEmail(), user.getGoogleUserId(),
+                user.getSlackId(), user.getChapter(), user.getRol(), user.getActiveTutoringLimit(), user.getSeniority());
+    }
+
+    private static Date copyDate(Date date) {
+        return date == null ? null : new Date(date.getTime());
+    }
+}
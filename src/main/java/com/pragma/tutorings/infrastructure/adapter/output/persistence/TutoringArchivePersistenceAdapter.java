@@ -0,0 +1,84 @@
+package com.pragma.tutorings.infrastructure.adapter.output.persistence;
+
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings.domain.port.output.TutoringArchiveRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Archives tutorings with set-based INSERT ... SELECT and DELETE statements, so a batch costs a fixed
+ * number of round trips regardless of how many sessions or feedbacks it carries.
+ */
+@Component
+@RequiredArgsConstructor
+public class TutoringArchivePersistenceAdapter implements TutoringArchiveRepository {
+
+    private static final List<TutoringStatus> CLOSED = List.of(TutoringStatus.Completada, TutoringStatus.Cancelada);
+
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> findArchivableIds(Date closedBefore, int limit) {
+        return entityManager.createQuery("SELECT t.id FROM TutoringEntity t WHERE t.status IN :statuses "
+                        + "AND t.updatedAt < :closedBefore ORDER BY t.updatedAt, t.id", String.class)
+                .setParameter("statuses", CLOSED)
+                .setParameter("closedBefore", closedBefore)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> findFeedbackIds(Collection<String> tutoringIds) {
+        if (tutoringIds.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.createQuery("SELECT f.id FROM FeedbackEntity f WHERE f.tutoringId.id IN :ids", String.class)
+                .setParameter("ids", tutoringIds)
+                .getResultList();
+    }
+
+    @Override
+    @Transactional
+    public int archive(Collection<String> tutoringIds, Date archivedAt) {
+        if (tutoringIds.isEmpty()) {
+            return 0;
+        }
+        entityManager.flush();
+        int archived = entityManager.createNativeQuery("INSERT INTO tutoring_archive (id, tutor_id_id, tutee_id_id, "
+                        + "start_date, expected_end_date, status, objectives, final_act_url, created_at, updated_at, archived_at) "
+                        + "SELECT id, tutor_id_id, tutee_id_id, start_date, expected_end_date, status, objectives, "
+                        + "final_act_url, created_at, updated_at, :archivedAt FROM tutoring WHERE id IN (:ids)")
+                .setParameter("archivedAt", archivedAt)
+                .setParameter("ids", tutoringIds)
+                .executeUpdate();
+        execute("INSERT INTO tutoring_archive_skills (tutorings_id, skills_id) "
+                + "SELECT tutorings_id, skills_id FROM tutoring_skills WHERE tutorings_id IN (:ids)", tutoringIds);
+        execute("INSERT INTO tutoring_sessions_archive (id, tutoring_id_id, scheduled_at, datetime, duration_minutes, "
+                + "location_link, topics_covered, notes, session_status, has_conflict) "
+                + "SELECT id, tutoring_id_id, scheduled_at, datetime, duration_minutes, location_link, topics_covered, "
+                + "notes, session_status, has_conflict FROM tutoring_sessions WHERE tutoring_id_id IN (:ids)", tutoringIds);
+        execute("INSERT INTO feedbacks_archive (id, evaluator_id_id, evaluation_date, tutoring_id_id, rating, score, "
+                + "comments, kind) SELECT id, evaluator_id_id, evaluation_date, tutoring_id_id, rating, score, comments, kind "
+                + "FROM feedbacks WHERE tutoring_id_id IN (:ids)", tutoringIds);
+
+        // Hijos antes que la tutoría por las claves foráneas
+        execute("DELETE FROM feedbacks WHERE tutoring_id_id IN (:ids)", tutoringIds);
+        execute("DELETE FROM tutoring_sessions WHERE tutoring_id_id IN (:ids)", tutoringIds);
+        execute("DELETE FROM tutoring_skills WHERE tutorings_id IN (:ids)", tutoringIds);
+        execute("DELETE FROM tutoring WHERE id IN (:ids)", tutoringIds);
+        entityManager.clear();
+        return archived;
+    }
+
+    private void execute(String sql, Collection<String> tutoringIds) {
+        entityManager.createNativeQuery(sql).setParameter("ids", tutoringIds).executeUpdate();
+    }
+}
@@ -1,18 +1,40 @@
 package com.pragma.tutorings.infrastructure.adapter.output.persistence;
 
+import com.pragma.shared.config.ExportProperties;
+import com.pragma.shared.persistence.ScrollingQuery;
+import com.pragma.skills.domain.model.Skill;
+import com.pragma.skills.infrastructure.adapter.output.persistence.entity.SkillEntity;
+import com.pragma.skills.infrastructure.adapter.output.persistence.mapper.SkillMapper;
 import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringField;
 import com.pragma.tutorings.domain.model.enums.TutoringStatus;
 import com.pragma.tutorings.domain.port.output.TutoringRepository;
+import com.pragma.tutorings.infrastructure.adapter.output.persistence.entity.ArchivedTutoringEntity;
 import com.pragma.tutorings.infrastructure.adapter.output.persistence.entity.TutoringEntity;
 import com.pragma.tutorings.infrastructure.adapter.output.persistence.mapper.TutoringMapper;
 import com.pragma.tutorings.infrastructure.adapter.output.persistence.repository.SpringDataTutoringRepository;
 import com.pragma.usuarios.infrastructure.adapter.output.persistence.entity.UsersEntity;
+import com.pragma.usuarios.infrastructure.adapter.output.persistence.mapper.UserMapper;
 import com.pragma.usuarios.infrastructure.adapter.output.persistence.repository.SpringDataUserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
@@ -21,6 +43,10 @@ public class TutoringPersistenceAdapter implements TutoringRepository {
     private final SpringDataTutoringRepository tutoringRepository;
     private final SpringDataUserRepository userRepository;
     private final TutoringMapper tutoringMapper;
+    private final UserMapper userMapper;
+    private final SkillMapper skillMapper;
+    private final EntityManager entityManager;
+    private final ExportProperties exportProperties;
 
     @Override
     public Tutoring save(Tutoring tutoring) {
@@ -35,6 +61,25 @@ public class TutoringPersistenceAdapter implements TutoringRepository {
                 .map(tutoringMapper::toDomain);
     }
 
+    /**
+     * Loads the tutorings with their tutor and tutee joined, then initialises their skills with a second
+     * fetch join, so the batch costs two queries whatever its size.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Tutoring> findAllById(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<TutoringEntity> entities = entityManager.createQuery(
+                        "SELECT t FROM TutoringEntity t LEFT JOIN FETCH t.tutorId LEFT JOIN FETCH t.tuteeId"
+                                + " WHERE t.id IN :ids", TutoringEntity.class)
+                .setParameter("ids", ids)
+                .getResultList();
+        fetchSkills(entities);
+        return tutoringMapper.toDomainList(entities);
+    }
+
     @Override
     public List<Tutoring> findByTutorId(String tutorId) {
         Optional<UsersEntity> tutorEntity = userRepository.findById(tutorId);
@@ -57,6 +102,33 @@ public class TutoringPersistenceAdapter implements TutoringRepository {
         return tutoringMapper.toDomainList(entities);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Tutoring> findByIdIncludingHistory(String id) {
+        return findById(id).or(() -> findArchived("a.id", id).stream().findFirst());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Tutoring> findByTutorIdIncludingHistory(String tutorId) {
+        return Stream.concat(findByTutorId(tutorId).stream(), findArchived("a.tutorId.id", tutorId).stream()).toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Tutoring> findByTuteeIdIncludingHistory(String tuteeId) {
+        return Stream.concat(findByTuteeId(tuteeId).stream(), findArchived("a.tuteeId.id", tuteeId).stream()).toList();
+    }
+
+    private List<Tutoring> findArchived(String path, String value) {
+        return entityManager.createQuery("SELECT DISTINCT a FROM ArchivedTutoringEntity a LEFT JOIN FETCH a.skills WHERE "
+                        + path + " = :value", ArchivedTutoringEntity.class)
+                .setParameter("value", value)
+                .getResultStream()
+                .map(tutoringMapper::archivedToDomain)
+                .toList();
+    }
+
     @Override
     public Long countActiveTutoringByTutorId(String tutorId) {
         return tutoringRepository.countByTutorIdAndStatus(tutorId, TutoringStatus.Activa);
@@ -72,9 +144,134 @@ public class TutoringPersistenceAdapter implements TutoringRepository {
         return tutoringRepository.countByTuteeId(tuteeId);
     }
 
+    @Override
+    @Transactional
+    public List<Tutoring> findByStatusForUpdate(TutoringStatus status, int limit) {
+        List<TutoringEntity> entities = tutoringRepository.findByStatusOrderByIdAsc(status, PageRequest.ofSize(limit));
+        fetchSkills(entities);
+        return tutoringMapper.toDomainList(entities);
+    }
+
+    @Override
+    @Transactional
+    public List<Tutoring> findOverdueForUpdate(TutoringStatus status, Date before, int limit) {
+        List<TutoringEntity> entities = tutoringRepository.findOverdue(status, before, PageRequest.ofSize(limit));
+        fetchSkills(entities);
+        return tutoringMapper.toDomainList(entities);
+    }
+
+    @Override
+    @Transactional
+    public int updateStatus(Collection<String> ids, TutoringStatus from, TutoringStatus to, Date updatedAt) {
+        return ids.isEmpty() ? 0 : tutoringRepository.updateStatus(ids, from, to, updatedAt);
+    }
+
     @Override
     public List<Tutoring> findAll() {
         List<TutoringEntity> entities = tutoringRepository.findAll();
         return tutoringMapper.toDomainList(entities);
     }
-}
\ No newline at end of file
+
+    /**
+     * Scrolls the tutorings with their tutor and tutee joined. The skills of each chunk are initialised
+     * with one fetch join before mapping, instead of one query per tutoring.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<Tutoring> consumer) {
+        TypedQuery<TutoringEntity> query = entityManager.createQuery(
+                "SELECT t FROM TutoringEntity t LEFT JOIN FETCH t.tutorId LEFT JOIN FETCH t.tuteeId", TutoringEntity.class);
+        ScrollingQuery.forEachChunk(entityManager, query, exportProperties.getChunkSize(), chunk -> {
+            fetchSkills(chunk);
+            chunk.forEach(entity -> consumer.accept(tutoringMapper.toDomain(entity)));
+        });
+    }
+
+    /**
+     * Initialises the skills of the given managed tutorings with a single fetch join, so mapping them
+     * does not issue one query per tutoring. Used by the adapters that stream entities referencing tutorings.
+     */
+    public void fetchSkills(Collection<TutoringEntity> tutorings) {
+        List<String> ids = tutorings.stream().filter(Objects::nonNull).map(TutoringEntity::getId).distinct().toList();
+        if (ids.isEmpty()) {
+            return;
+        }
+        entityManager.createQuery("SELECT t FROM TutoringEntity t LEFT JOIN FETCH t.skills WHERE t.id IN :ids",
+                        TutoringEntity.class)
+                .setParameter("ids", ids)
+                .getResultList();
+    }
+
+    /**
+     * Selects only the columns of {@code fields}: the users are joined only for the tutor or tutee,
+     * and skills are read with a second query only when selected.
+     */
+    @Override
+    public List<Tutoring> findAll(Set<TutoringField> fields) {
+        if (fields.containsAll(EnumSet.allOf(TutoringField.class))) {
+            return findAll();
+        }
+        List<TutoringField> columns = fields.stream()
+                .filter(field -> field != TutoringField.ID && field != TutoringField.SKILLS)
+                .toList();
+        StringBuilder jpql = new StringBuilder("SELECT t.id");
+        columns.forEach(field -> jpql.append(", ").append(path(field)));
+        jpql.append(" FROM TutoringEntity t");
+        if (fields.contains(TutoringField.TUTOR)) {
+            jpql.append(" LEFT JOIN t.tutorId tu");
+        }
+        if (fields.contains(TutoringField.TUTEE)) {
+            jpql.append(" LEFT JOIN t.tuteeId te");
+        }
+
+        List<Tutoring> tutorings = new ArrayList<>();
+        for (Object[] row : entityManager.createQuery(jpql.toString(), Object[].class).getResultList()) {
+            Tutoring tutoring = new Tutoring();
+            tutoring.setId((String) row[0]);
+            for (int i = 0; i < columns.size(); i++) {
+                set(tutoring, columns.get(i), row[i + 1]);
+            }
+            tutorings.add(tutoring);
+        }
+        if (fields.contains(TutoringField.SKILLS)) {
+            Map<String, List<Skill>> skills = new HashMap<>();
+            entityManager.createQuery("SELECT t.id, s FROM TutoringEntity t JOIN t.skills s", Object[].class)
+                    .getResultList()
+                    .forEach(row -> skills.computeIfAbsent((String) row[0], id -> new ArrayList<>())
+                            .add(skillMapper.toDomain((SkillEntity) row[1])));
+            tutorings.forEach(tutoring -> tutoring.setSkills(skills.getOrDefault(tutoring.getId(), new ArrayList<>())));
+        }
+        return tutorings;
+    }
+
+    private static String path(TutoringField field) {
+        return switch (field) {
+            case TUTOR -> "tu";
+            case TUTEE -> "te";
+            case START_DATE -> "t.start_date";
+            case EXPECTED_END_DATE -> "t.expected_end_date";
+            case STATUS -> "t.status";
+            case OBJECTIVES -> "t.objectives";
+            case FINAL_ACT_URL -> "t.finalActUrl";
+            case CREATED_AT -> "t.createdAt";
+            case UPDATED_AT -> "t.updatedAt";
+            case ID, SKILLS -> throw new IllegalArgumentException("Campo sin columna propia: " + field);
+        };
+    }
+
+    private void set(Tutoring tutoring, TutoringField field, Object value) {
+        switch (field) {
+            case TUTOR -> tutoring.setTutor(userMapper.toDomain((UsersEntity) value));
+            case TUTEE -> tutoring.setTutee(userMapper.toDomain((UsersEntity) value));
+            case START_DATE -> tutoring.setStartDate((Date) value);
+            case EXPECTED_END_DATE -> tutoring.setExpectedEndDate((Date) value);
+            case STATUS -> tutoring.setStatus((TutoringStatus) value);
+            case OBJECTIVES -> tutoring.setObjectives((String) value);
+            case FINAL_ACT_URL -> tutoring.setFinalActUrl((String) value);
+            case CREATED_AT -> tutoring.setCreatedAt((Date) value);
+            case UPDATED_AT -> tutoring.setUpdatedAt((Date) value);
+            case ID, SKILLS -> {
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.pragma.tutorings.infrastructure.adapter.output.persistence.entity;
+
+import com.pragma.skills.infrastructure.adapter.output.persistence.entity.SkillEntity;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.usuarios.infrastructure.adapter.output.persistence.entity.UsersEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Closed tutoring moved out of {@code tutoring} by the archival job. Same columns as {@link TutoringEntity}
+ * plus the archival date; rows are only written by the job's INSERT ... SELECT and read for history.
+ */
+@Entity
+@Table(name = "tutoring_archive", indexes = {
+        @Index(name = "idx_tutoring_archive_tutor", columnList = "tutor_id_id"),
+        @Index(name = "idx_tutoring_archive_tutee", columnList = "tutee_id_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedTutoringEntity {
+    @Id
+    private String id;
+
+    @ManyToOne(fetch = FetchType.EAGER)
+    private UsersEntity tutorId;
+
+    @ManyToOne(fetch = FetchType.EAGER)
+    private UsersEntity tuteeId;
+
+    @ManyToMany
+    @JoinTable(name = "tutoring_archive_skills",
+            joinColumns = @JoinColumn(name = "tutorings_id"),
+            inverseJoinColumns = @JoinColumn(name = "skills_id"))
+    private List<SkillEntity> skills;
+
+    @Column(name = "start_date")
+    private Date start_date;
+
+    @Column(name = "expected_end_date")
+    private Date expected_end_date;
+
+    @Column(name = "status")
+    @Enumerated(EnumType.STRING)
+    private TutoringStatus status;
+
+    @Column(name = "objectives")
+    private String objectives;
+
+    @Column(name = "final_act_url")
+    private String finalActUrl;
+
+    @Column(name = "created_at")
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date createdAt;
+
+    @Column(name = "updated_at")
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date archivedAt; // "Fecha en que el job la movió al archivo"
+}
@@ -14,7 +14,12 @@ import java.util.List;
 
 
 @Entity
-@Table(name = "tutoring")
+@Table(name = "tutoring", indexes = {
+        @Index(name = "idx_tutoring_tutor", columnList = "tutor_id_id"),
+        @Index(name = "idx_tutoring_tutee", columnList = "tutee_id_id"),
+        @Index(name = "idx_tutoring_status", columnList = "status, expected_end_date"),
+        @Index(name = "idx_tutoring_closed", columnList = "status, updated_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
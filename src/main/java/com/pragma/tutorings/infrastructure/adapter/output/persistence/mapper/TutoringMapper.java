@@ -2,6 +2,7 @@ package com.pragma.tutorings.infrastructure.adapter.output.persistence.mapper;
 
 import com.pragma.skills.infrastructure.adapter.output.persistence.mapper.SkillMapper;
 import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.infrastructure.adapter.output.persistence.entity.ArchivedTutoringEntity;
 import com.pragma.tutorings.infrastructure.adapter.output.persistence.entity.TutoringEntity;
 import com.pragma.usuarios.infrastructure.adapter.output.persistence.mapper.UserMapper;
 import org.mapstruct.Mapper;
@@ -27,4 +28,10 @@ public interface TutoringMapper {
     Tutoring toDomain(TutoringEntity entity);
 
     List<Tutoring> toDomainList(List<TutoringEntity> entities);
+
+    @Mapping(source = "tutorId", target = "tutor")
+    @Mapping(source = "tuteeId", target = "tutee")
+    @Mapping(source = "start_date", target = "startDate")
+    @Mapping(source = "expected_end_date", target = "expectedEndDate")
+    Tutoring archivedToDomain(ArchivedTutoringEntity entity);
 }
\ No newline at end of file
@@ -3,11 +3,17 @@ package com.pragma.tutorings.infrastructure.adapter.output.persistence.repositor
 import com.pragma.tutorings.domain.model.enums.TutoringStatus;
 import com.pragma.tutorings.infrastructure.adapter.output.persistence.entity.TutoringEntity;
 import com.pragma.usuarios.infrastructure.adapter.output.persistence.entity.UsersEntity;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 @Repository
@@ -23,4 +29,17 @@ public interface SpringDataTutoringRepository extends JpaRepository<TutoringEnti
     
     @Query("SELECT COUNT(t) FROM TutoringEntity t WHERE t.tuteeId.id = :tuteeId")
     Long countByTuteeId(@Param("tuteeId") String tuteeId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<TutoringEntity> findByStatusOrderByIdAsc(TutoringStatus status, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM TutoringEntity t WHERE t.status = :status AND t.expected_end_date < :before "
+            + "ORDER BY t.expected_end_date, t.id")
+    List<TutoringEntity> findOverdue(@Param("status") TutoringStatus status, @Param("before") Date before, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TutoringEntity t SET t.status = :to, t.updatedAt = :updatedAt WHERE t.id IN :ids AND t.status = :from")
+    int updateStatus(@Param("ids") Collection<String> ids, @Param("from") TutoringStatus from,
+                     @Param("to") TutoringStatus to, @Param("updatedAt") Date updatedAt);
 }
\ No newline at end of file
@@ -1,8 +1,17 @@
 package com.pragma.tutorings_requests.application.service;
 
+import com.pragma.search.domain.model.enums.SearchDocumentType;
+import com.pragma.search.domain.port.input.IndexTextUseCase;
 import com.pragma.shared.context.UserContextHelper;
+import com.pragma.shared.events.DomainEventPublisher;
+import com.pragma.statistics.domain.port.input.RecordStatisticEventUseCase;
+import com.pragma.statistics.domain.port.input.RecordStatusTransitionUseCase;
+import com.pragma.statistics.domain.port.input.RefreshSkillHeatmapUseCase;
+import com.pragma.tutorings_requests.domain.event.RequestStatusChanged;
+import com.pragma.tutorings_requests.domain.model.StatusChangeResult;
 import com.pragma.tutorings_requests.domain.model.TutoringRequest;
 import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import com.pragma.tutorings_requests.domain.model.enums.TutoringRequestField;
 import com.pragma.tutorings_requests.domain.port.input.CreateTutoringRequestUseCase;
 import com.pragma.tutorings_requests.domain.port.input.GetTutoringRequestsUseCase;
 import com.pragma.tutorings_requests.domain.port.input.UpdateTutoringRequestStatusUseCase;
@@ -11,9 +20,18 @@ import com.pragma.usuarios.domain.model.enums.RolUsuario;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,9 +41,17 @@ public class TutoringRequestService implements
         UpdateTutoringRequestStatusUseCase,
         GetTutoringRequestsUseCase {
 
+    static final int MAX_BATCH_SIZE = 500;
+
     private final TutoringRequestRepository tutoringRequestRepository;
+    private final IndexTextUseCase indexTextUseCase;
+    private final RefreshSkillHeatmapUseCase refreshSkillHeatmapUseCase;
+    private final RecordStatisticEventUseCase recordStatisticEventUseCase;
+    private final RecordStatusTransitionUseCase recordStatusTransitionUseCase;
+    private final DomainEventPublisher domainEventPublisher;
 
     @Override
+    @Transactional
     public TutoringRequest createTutoringRequest(TutoringRequest tutoringRequest) {
         try {
             log.info("Procesando solicitud de tutoría con ID: {}", tutoringRequest.getId());
@@ -42,6 +68,10 @@ public class TutoringRequestService implements
             
             TutoringRequest savedRequest = tutoringRequestRepository.save(tutoringRequest);
             log.info("Solicitud de tutoría guardada exitosamente con ID: {}", savedRequest.getId());
+            indexTextUseCase.index(SearchDocumentType.TUTORING_REQUEST, savedRequest.getId(), savedRequest.getNeedsDescription());
+            refreshSkillHeatmapUseCase.requestSaved(savedRequest);
+            recordStatisticEventUseCase.requestCreated(savedRequest);
+            recordStatusTransitionUseCase.requestTransitioned(savedRequest, null);
             
             return savedRequest;
         } catch (Exception e) {
@@ -51,6 +81,7 @@ public class TutoringRequestService implements
     }
     
     @Override
+    @Transactional
     public TutoringRequest updateStatus(String requestId, RequestStatus newStatus) {
         try {
             log.info("Actualizando estado de solicitud de tutoría con ID: {} a estado: {}", requestId, newStatus);
@@ -64,18 +95,13 @@ public class TutoringRequestService implements
             
             // Validar transición de estado
             validateStatusTransition(tutoringRequest.getRequestStatus(), newStatus);
+            RequestStatus previousStatus = tutoringRequest.getRequestStatus();
             
             // Si se cancela una solicitud sin tutoría asignada, eliminarla completamente
-            if (newStatus == RequestStatus.Cancelada && 
-                (tutoringRequest.getAssignedTutoringId() == null || tutoringRequest.getAssignedTutoringId().isEmpty())) {
-                
-                log.info("Eliminando solicitud de tutoría cancelada sin tutoría asignada con ID: {}", requestId);
-                tutoringRequestRepository.delete(requestId);
-                log.info("Solicitud de tutoría eliminada completamente del sistema");
-                
-                // Retornar la solicitud con estado cancelado para indicar que fue procesada
-                tutoringRequest.setRequestStatus(RequestStatus.Cancelada);
-                return tutoringRequest;
+            if (isCancellationWithoutTutoring(tutoringRequest, newStatus)) {
+                TutoringRequest removed = removeCancelled(tutoringRequest, previousStatus);
+                recordStatusTransitionUseCase.requestTransitioned(removed, previousStatus);
+                return removed;
             }
             
             // Para otros casos, actualizar el estado normalmente
@@ -83,6 +109,10 @@ public class TutoringRequestService implements
             tutoringRequest.setUpdatedAt(new Date());
             
             TutoringRequest updatedRequest = tutoringRequestRepository.save(tutoringRequest);
+            refreshSkillHeatmapUseCase.requestSaved(updatedRequest);
+            recordStatisticEventUseCase.requestStatusChanged(updatedRequest);
+            recordStatusTransitionUseCase.requestTransitioned(updatedRequest, previousStatus);
+            publishStatusChange(updatedRequest, previousStatus);
             log.info("Estado de solicitud de tutoría actualizado exitosamente a: {}", newStatus);
             
             return updatedRequest;
@@ -92,6 +122,119 @@ public class TutoringRequestService implements
         }
     }
     
+    @Override
+    @Transactional
+    public List<StatusChangeResult> updateStatuses(List<String> requestIds, RequestStatus newStatus) {
+        if (newStatus == null) {
+            throw new IllegalArgumentException("El estado no puede ser nulo");
+        }
+        List<String> ids = requestIds == null ? List.of() : requestIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty() || ids.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Se deben indicar entre 1 y " + MAX_BATCH_SIZE + " solicitudes");
+        }
+        // Sin usuario autenticado falla el lote completo, no cada elemento
+        UserContextHelper.getCurrentUserOrThrow();
+        log.info("Actualizando {} solicitudes de tutoría a estado: {}", ids.size(), newStatus);
+
+        Map<String, TutoringRequest> found = new HashMap<>();
+        tutoringRequestRepository.findAllById(ids).forEach(request -> found.put(request.getId(), request));
+
+        Map<String, StatusChangeResult> results = new HashMap<>();
+        List<TutoringRequest> toUpdate = new ArrayList<>();
+        List<TutoringRequest> toRemove = new ArrayList<>();
+        for (String id : ids) {
+            TutoringRequest request = found.get(id);
+            if (request == null) {
+                results.put(id, StatusChangeResult.rejected(id, "Solicitud de tutoría no encontrada con ID: " + id));
+                continue;
+            }
+            try {
+                validateStatusChangePermissions(newStatus, request);
+                validateStatusTransition(request.getRequestStatus(), newStatus);
+            } catch (SecurityException | IllegalStateException e) {
+                results.put(id, StatusChangeResult.rejected(id, e.getMessage()));
+                continue;
+            }
+            (isCancellationWithoutTutoring(request, newStatus) ? toRemove : toUpdate).add(request);
+        }
+
+        Date now = new Date();
+        List<TutoringRequest> updated = new ArrayList<>();
+        Map<RequestStatus, List<TutoringRequest>> byPreviousStatus = toUpdate.stream()
+                .collect(Collectors.groupingBy(TutoringRequest::getRequestStatus, LinkedHashMap::new, Collectors.toList()));
+        byPreviousStatus.forEach((previousStatus, group) -> {
+            List<String> groupIds = group.stream().map(TutoringRequest::getId).toList();
+            int count = tutoringRequestRepository.updateStatus(groupIds, previousStatus, newStatus, now);
+            Set<String> conflicts = count == group.size() ? Set.of() : changedConcurrently(groupIds, newStatus);
+            for (TutoringRequest request : group) {
+                if (conflicts.contains(request.getId())) {
+                    results.put(request.getId(), StatusChangeResult.rejected(request.getId(),
+                            "La solicitud cambió de estado mientras se procesaba el lote"));
+                } else {
+                    updated.add(request);
+                }
+            }
+        });
+        Map<RequestStatus, List<TutoringRequest>> transitioned = new LinkedHashMap<>();
+        for (TutoringRequest request : updated) {
+            RequestStatus previousStatus = request.getRequestStatus();
+            request.setRequestStatus(newStatus);
+            request.setUpdatedAt(now);
+            refreshSkillHeatmapUseCase.requestSaved(request);
+            recordStatisticEventUseCase.requestStatusChanged(request);
+            transitioned.computeIfAbsent(previousStatus, status -> new ArrayList<>()).add(request);
+            publishStatusChange(request, previousStatus);
+            results.put(request.getId(), StatusChangeResult.updated(request));
+        }
+        for (TutoringRequest request : toRemove) {
+            RequestStatus previousStatus = request.getRequestStatus();
+            results.put(request.getId(), StatusChangeResult.updated(removeCancelled(request, previousStatus)));
+            transitioned.computeIfAbsent(previousStatus, status -> new ArrayList<>()).add(request);
+        }
+        // Una consulta al registro de transiciones por estado de origen, no por solicitud
+        transitioned.forEach((previousStatus, group) -> recordStatusTransitionUseCase.requestsTransitioned(group, previousStatus));
+        log.info("Solicitudes de tutoría actualizadas a {}: {} de {}", newStatus, updated.size() + toRemove.size(), ids.size());
+        return ids.stream().map(results::get).toList();
+    }
+
+    /**
+     * Ids among {@code ids} the guarded UPDATE skipped because another writer changed or deleted them
+     * after they were read. Only called when the update count falls short of the batch.
+     */
+    private Set<String> changedConcurrently(List<String> ids, RequestStatus newStatus) {
+        Set<String> moved = tutoringRequestRepository.findAllById(ids).stream()
+                .filter(request -> request.getRequestStatus() == newStatus)
+                .map(TutoringRequest::getId)
+                .collect(Collectors.toSet());
+        return ids.stream().filter(id -> !moved.contains(id)).collect(Collectors.toSet());
+    }
+
+    private static boolean isCancellationWithoutTutoring(TutoringRequest tutoringRequest, RequestStatus newStatus) {
+        return newStatus == RequestStatus.Cancelada
+                && (tutoringRequest.getAssignedTutoringId() == null || tutoringRequest.getAssignedTutoringId().isEmpty());
+    }
+
+    private TutoringRequest removeCancelled(TutoringRequest tutoringRequest, RequestStatus previousStatus) {
+        String requestId = tutoringRequest.getId();
+        log.info("Eliminando solicitud de tutoría cancelada sin tutoría asignada con ID: {}", requestId);
+        tutoringRequestRepository.delete(requestId);
+        indexTextUseCase.remove(SearchDocumentType.TUTORING_REQUEST, requestId);
+        refreshSkillHeatmapUseCase.requestDeleted(requestId);
+        log.info("Solicitud de tutoría eliminada completamente del sistema");
+
+        // Retornar la solicitud con estado cancelado para indicar que fue procesada
+        tutoringRequest.setRequestStatus(RequestStatus.Cancelada);
+        recordStatisticEventUseCase.requestStatusChanged(tutoringRequest);
+        publishStatusChange(tutoringRequest, previousStatus);
+        return tutoringRequest;
+    }
+
+    private void publishStatusChange(TutoringRequest tutoringRequest, RequestStatus previousStatus) {
+        String tuteeId = tutoringRequest.getTutee() != null ? tutoringRequest.getTutee().getId() : null;
+        domainEventPublisher.publish(new RequestStatusChanged(tutoringRequest.getId(), tuteeId, previousStatus,
+                tutoringRequest.getRequestStatus(), Instant.now()));
+    }
+
     private void validateStatusChangePermissions(RequestStatus newStatus, TutoringRequest tutoringRequest) {
         RolUsuario userRole = UserContextHelper.getCurrentUserOrThrow().getRol();
         
@@ -151,4 +294,17 @@ public class TutoringRequestService implements
             throw new RuntimeException("Error al obtener solicitudes con filtros", e);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<TutoringRequest> getTutoringRequestsWithFilters(String tuteeId, String skillId, RequestStatus status, String chapterId,
+                                                                Set<TutoringRequestField> fields) {
+        try {
+            log.info("Obteniendo solicitudes de tutoría con filtros - tuteeId: {}, skillId: {}, status: {}, chapterId: {}, campos: {}",
+                    tuteeId, skillId, status, chapterId, fields);
+            return tutoringRequestRepository.findWithFilters(tuteeId, skillId, status, chapterId, fields);
+        } catch (Exception e) {
+            log.error("Error al obtener solicitudes de tutoría con filtros: {}", e.getMessage(), e);
+            throw new RuntimeException("Error al obtener solicitudes con filtros", e);
+        }
+    }
+}
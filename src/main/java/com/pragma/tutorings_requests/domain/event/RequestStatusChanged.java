@@ -0,0 +1,13 @@
+package com.pragma.tutorings_requests.domain.event;
+
+import com.pragma.shared.events.DomainEvent;
+import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+
+import java.time.Instant;
+
+/**
+ * A tutoring request moved from {@code previousStatus} to {@code newStatus}.
+ */
+public record RequestStatusChanged(String requestId, String tuteeId, RequestStatus previousStatus,
+                                   RequestStatus newStatus, Instant occurredAt) implements DomainEvent {
+}
@@ -0,0 +1,19 @@
+package com.pragma.tutorings_requests.domain.model;
+
+/**
+ * Outcome of one item of a batch status change: the updated request, or the reason it was rejected.
+ */
+public record StatusChangeResult(String requestId, TutoringRequest request, String error) {
+
+    public static StatusChangeResult updated(TutoringRequest request) {
+        return new StatusChangeResult(request.getId(), request, null);
+    }
+
+    public static StatusChangeResult rejected(String requestId, String error) {
+        return new StatusChangeResult(requestId, null, error);
+    }
+
+    public boolean success() {
+        return error == null;
+    }
+}
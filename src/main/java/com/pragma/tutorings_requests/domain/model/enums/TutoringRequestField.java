@@ -0,0 +1,55 @@
+package com.pragma.tutorings_requests.domain.model.enums;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Fields of a {@link com.pragma.tutorings_requests.domain.model.TutoringRequest} that a list query can be
+ * narrowed to. Adapters only load the columns and joins of the selected fields; the rest are left {@code null}.
+ */
+public enum TutoringRequestField {
+    ID("id"),
+    TUTEE("tutee"),
+    SKILLS("skills"),
+    NEEDS_DESCRIPTION("needsDescription"),
+    REQUEST_DATE("requestDate"),
+    REQUEST_STATUS("requestStatus"),
+    ASSIGNED_TUTORING_ID("assignedTutoringId"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt");
+
+    private final String fieldName;
+
+    TutoringRequestField(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * Parses a comma-separated list of field names, e.g. {@code "id,requestStatus,tutee"}. A blank list
+     * selects every field; the id is always selected.
+     */
+    public static Set<TutoringRequestField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return EnumSet.allOf(TutoringRequestField.class);
+        }
+        Set<TutoringRequestField> selected = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (!trimmed.isEmpty()) {
+                selected.add(Arrays.stream(values())
+                        .filter(field -> field.fieldName.equals(trimmed))
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalArgumentException("Campo desconocido: " + trimmed
+                                + ". Campos permitidos: " + Arrays.stream(values()).map(TutoringRequestField::getFieldName)
+                                .collect(Collectors.joining(", ")))));
+            }
+        }
+        return selected;
+    }
+}
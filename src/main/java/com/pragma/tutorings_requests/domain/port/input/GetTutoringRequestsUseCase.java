@@ -2,10 +2,14 @@ package com.pragma.tutorings_requests.domain.port.input;
 
 import com.pragma.tutorings_requests.domain.model.TutoringRequest;
 import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import com.pragma.tutorings_requests.domain.model.enums.TutoringRequestField;
 
 import java.util.List;
+import java.util.Set;
 
 public interface GetTutoringRequestsUseCase {
     List<TutoringRequest> getAllTutoringRequests();
     List<TutoringRequest> getTutoringRequestsWithFilters(String tuteeId, String skillId, RequestStatus status, String chapterId);
+    List<TutoringRequest> getTutoringRequestsWithFilters(String tuteeId, String skillId, RequestStatus status, String chapterId,
+                                                         Set<TutoringRequestField> fields);
 }
\ No newline at end of file
@@ -1,8 +1,18 @@
 package com.pragma.tutorings_requests.domain.port.input;
 
+import com.pragma.tutorings_requests.domain.model.StatusChangeResult;
 import com.pragma.tutorings_requests.domain.model.TutoringRequest;
 import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
 
+import java.util.List;
+
 public interface UpdateTutoringRequestStatusUseCase {
     TutoringRequest updateStatus(String requestId, RequestStatus newStatus);
+
+    /**
+     * Applies {@code newStatus} to every request in {@code requestIds} with the same rules as
+     * {@link #updateStatus}. Invalid items are reported instead of failing the batch; the result has one
+     * entry per distinct id, in request order.
+     */
+    List<StatusChangeResult> updateStatuses(List<String> requestIds, RequestStatus newStatus);
 }
\ No newline at end of file
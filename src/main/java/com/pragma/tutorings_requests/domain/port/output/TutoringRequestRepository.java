@@ -2,14 +2,43 @@ package com.pragma.tutorings_requests.domain.port.output;
 
 import com.pragma.tutorings_requests.domain.model.TutoringRequest;
 import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import com.pragma.tutorings_requests.domain.model.enums.TutoringRequestField;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface TutoringRequestRepository {
     TutoringRequest save(TutoringRequest tutoringRequest);
     Optional<TutoringRequest> findById(String id);
     List<TutoringRequest> findAll();
     List<TutoringRequest> findWithFilters(String tuteeId, String skillId, RequestStatus status, String chapterId);
+
+    /**
+     * Like {@link #findWithFilters(String, String, RequestStatus, String)}, but only the selected fields
+     * are guaranteed to be loaded. Null criteria are ignored.
+     */
+    List<TutoringRequest> findWithFilters(String tuteeId, String skillId, RequestStatus status, String chapterId,
+                                          Set<TutoringRequestField> fields);
+
+    /**
+     * Hands every tutoring request to {@code consumer}, one chunk at a time, without holding the table in memory.
+     */
+    void streamAll(Consumer<TutoringRequest> consumer);
     void delete(String id);
+
+    /**
+     * The requests among {@code ids} that exist, loaded with one query. Order is not guaranteed.
+     */
+    List<TutoringRequest> findAllById(Collection<String> ids);
+
+    /**
+     * Moves every request in {@code ids} that is still in status {@code from} to {@code to} with a single
+     * UPDATE. Requests that changed status since they were read are left alone; returns the number of
+     * requests updated.
+     */
+    int updateStatus(Collection<String> ids, RequestStatus from, RequestStatus to, Date updatedAt);
 }
\ No newline at end of file
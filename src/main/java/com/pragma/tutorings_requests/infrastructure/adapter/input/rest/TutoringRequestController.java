@@ -8,14 +8,19 @@ import com.pragma.tutorings_requests.domain.model.TutoringRequest;
 import com.pragma.tutorings_requests.domain.port.input.CreateTutoringRequestUseCase;
 import com.pragma.tutorings_requests.domain.port.input.GetTutoringRequestsUseCase;
 import com.pragma.tutorings_requests.domain.port.input.UpdateTutoringRequestStatusUseCase;
+import com.pragma.tutorings_requests.infrastructure.adapter.input.rest.dto.BatchUpdateTutoringRequestStatusDto;
+import com.pragma.tutorings_requests.infrastructure.adapter.input.rest.dto.CompactMyRequestsResponseDto;
 import com.pragma.tutorings_requests.infrastructure.adapter.input.rest.dto.CreateTutoringRequestDto;
 import com.pragma.tutorings_requests.infrastructure.adapter.input.rest.dto.MyRequestsResponseDto;
+import com.pragma.tutorings_requests.infrastructure.adapter.input.rest.dto.StatusChangeResultDto;
 import com.pragma.tutorings_requests.infrastructure.adapter.input.rest.dto.TutoringRequestDto;
 import com.pragma.tutorings_requests.infrastructure.adapter.input.rest.dto.TutoringRequestFilterDto;
 import com.pragma.tutorings_requests.infrastructure.adapter.input.rest.dto.UpdateTutoringRequestStatusDto;
 import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import com.pragma.tutorings_requests.domain.model.enums.TutoringRequestField;
 import com.pragma.tutorings.domain.model.Tutoring;
 import com.pragma.tutorings.domain.port.input.GetTutoringsUseCase;
+import com.pragma.tutorings.infrastructure.adapter.input.rest.mapper.IncludedDtoBuilder;
 import com.pragma.tutorings.infrastructure.adapter.input.rest.mapper.TutoringDtoMapper;
 import com.pragma.tutorings_requests.infrastructure.adapter.input.rest.mapper.TutoringRequestDtoMapper;
 import com.pragma.usuarios.domain.model.User;
@@ -26,7 +31,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RestController
@@ -103,6 +111,21 @@ public class TutoringRequestController {
         }
     }
     
+    @PatchMapping("/status")
+    public ResponseEntity<OkResponseDto<List<StatusChangeResultDto>>> updateTutoringRequestStatuses(
+            @Valid @RequestBody BatchUpdateTutoringRequestStatusDto batchDto) {
+        log.info("User {} updating {} tutoring requests to status: {}",
+                UserContextHelper.getCurrentUserEmail(), batchDto.getRequestIds().size(), batchDto.getStatus());
+
+        List<StatusChangeResultDto> results = updateTutoringRequestStatusUseCase
+                .updateStatuses(batchDto.getRequestIds(), batchDto.getStatus()).stream()
+                .map(result -> new StatusChangeResultDto(result.requestId(), result.success(), result.error(),
+                        result.request() == null ? null : tutoringRequestDtoMapper.toDto(result.request())))
+                .toList();
+
+        return ResponseEntity.ok(OkResponseDto.of(messageService.getMessage("tutoringRequest.status.batch.success"), results));
+    }
+
     @GetMapping
     public ResponseEntity<OkResponseDto<List<TutoringRequestDto>>> getTutoringRequests(
             TutoringRequestFilterDto filterDto) {
@@ -158,6 +181,35 @@ public class TutoringRequestController {
         }
     }
     
+    /**
+     * Same list as {@link #getTutoringRequests(TutoringRequestFilterDto)} with only the requested fields,
+     * e.g. {@code fields=id,requestStatus,tutee}. The id is always included and the query only loads the
+     * selected columns (plus the status, needed to leave out assigned requests).
+     */
+    @GetMapping(params = "fields")
+    public ResponseEntity<OkResponseDto<List<Map<String, Object>>>> getTutoringRequestsSparse(
+            TutoringRequestFilterDto filterDto, @RequestParam String fields) {
+        User currentUser = UserContextHelper.getCurrentUserOrThrow();
+        Set<TutoringRequestField> selected = TutoringRequestField.parse(fields);
+        log.info("User {} retrieving tutoring requests with filters: {} and fields {}",
+                currentUser.getEmail(), filterDto, selected);
+
+        Set<TutoringRequestField> loaded = EnumSet.copyOf(selected);
+        loaded.add(TutoringRequestField.REQUEST_STATUS);
+        List<Map<String, Object>> responseDtos = getTutoringRequestsUseCase.getTutoringRequestsWithFilters(
+                        filterDto.getTuteeId(), filterDto.getSkillId(), filterDto.getStatus(), filterDto.getChapterId(), loaded)
+                .stream()
+                .filter(request -> request.getRequestStatus() != RequestStatus.Asignada)
+                .map(request -> tutoringRequestDtoMapper.toSparseDto(request, selected))
+                .collect(Collectors.toList());
+
+        log.info("User {} retrieved {} tutoring requests", currentUser.getEmail(), responseDtos.size());
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(OkResponseDto.of(messageService.getMessage("tutoringRequest.retrieved.success"), responseDtos));
+    }
+
     @GetMapping("/my-requests")
     public ResponseEntity<OkResponseDto<MyRequestsResponseDto>> getMyTutoringRequests() {
         try {
@@ -202,4 +254,33 @@ public class TutoringRequestController {
             throw e;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Same content as {@link #getMyTutoringRequests()}, with users, chapters and skills referenced
+     * by id and emitted once in {@code included} across requests and tutorings.
+     */
+    @GetMapping(value = "/my-requests", params = "format=compact")
+    public ResponseEntity<OkResponseDto<CompactMyRequestsResponseDto>> getMyTutoringRequestsCompact() {
+        User currentUser = UserContextHelper.getCurrentUserOrThrow();
+        log.info("User {} retrieving own tutoring requests and tutorings (compact)", currentUser.getEmail());
+
+        IncludedDtoBuilder included = new IncludedDtoBuilder();
+        CompactMyRequestsResponseDto response = new CompactMyRequestsResponseDto();
+        response.setRequests(getTutoringRequestsUseCase.getTutoringRequestsWithFilters(currentUser.getId(), null, null, null)
+                .stream()
+                .filter(request -> request.getRequestStatus() != RequestStatus.Asignada)
+                .map(request -> tutoringRequestDtoMapper.toCompactDto(request, included))
+                .collect(Collectors.toList()));
+        if (UserContextHelper.canActAsTutor()) {
+            response.setTutoringsAsTutor(tutoringDtoMapper.toCompactDtoList(
+                    getTutoringsUseCase.getTutoringsByTutorId(currentUser.getId()), included));
+        }
+        response.setTutoringsAsTutee(tutoringDtoMapper.toCompactDtoList(
+                getTutoringsUseCase.getTutoringsByTuteeId(currentUser.getId()), included));
+        response.setIncluded(included.build());
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(OkResponseDto.of("Mis solicitudes y tutorías obtenidas exitosamente", response));
+    }
+}
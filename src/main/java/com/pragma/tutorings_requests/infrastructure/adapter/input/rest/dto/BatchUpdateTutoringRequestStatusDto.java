@@ -0,0 +1,23 @@
+package com.pragma.tutorings_requests.infrastructure.adapter.input.rest.dto;
+
+import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchUpdateTutoringRequestStatusDto {
+    @NotEmpty(message = "Se debe indicar al menos una solicitud")
+    @Size(max = 500, message = "No se pueden actualizar más de 500 solicitudes a la vez")
+    private List<String> requestIds;
+
+    @NotNull(message = "El estado no puede ser nulo")
+    private RequestStatus status;
+}
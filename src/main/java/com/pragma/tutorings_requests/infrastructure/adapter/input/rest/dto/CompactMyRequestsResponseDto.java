@@ -0,0 +1,19 @@
+package com.pragma.tutorings_requests.infrastructure.adapter.input.rest.dto;
+
+import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.CompactTutoringDto;
+import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.IncludedDto;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompactMyRequestsResponseDto {
+    private List<CompactTutoringRequestDto> requests;
+    private List<CompactTutoringDto> tutoringsAsTutor;
+    private List<CompactTutoringDto> tutoringsAsTutee;
+    private IncludedDto included;
+}
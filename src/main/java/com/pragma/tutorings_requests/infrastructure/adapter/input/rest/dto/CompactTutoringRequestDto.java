@@ -0,0 +1,27 @@
+package com.pragma.tutorings_requests.infrastructure.adapter.input.rest.dto;
+
+import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * {@link TutoringRequestDto} that references tutee and skills by id.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompactTutoringRequestDto {
+    private String id;
+    private String tuteeId;
+    private List<String> skillIds;
+    private String needsDescription;
+    private Date requestDate;
+    private RequestStatus requestStatus;
+    private String assignedTutoringId;
+    private Date createdAt;
+    private Date updatedAt;
+}
@@ -0,0 +1,15 @@
+package com.pragma.tutorings_requests.infrastructure.adapter.input.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusChangeResultDto {
+    private String requestId;
+    private boolean success;
+    private String error;
+    private TutoringRequestDto request;
+}
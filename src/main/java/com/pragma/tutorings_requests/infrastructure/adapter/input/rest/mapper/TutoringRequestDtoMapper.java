@@ -3,7 +3,10 @@ package com.pragma.tutorings_requests.infrastructure.adapter.input.rest.mapper;
 import com.pragma.skills.domain.model.Skill;
 import com.pragma.skills.domain.port.input.FindSkillUseCase;
 import com.pragma.skills.infrastructure.adapter.input.rest.mapper.SkillDtoMapper;
+import com.pragma.tutorings.infrastructure.adapter.input.rest.mapper.IncludedDtoBuilder;
 import com.pragma.tutorings_requests.domain.model.TutoringRequest;
+import com.pragma.tutorings_requests.domain.model.enums.TutoringRequestField;
+import com.pragma.tutorings_requests.infrastructure.adapter.input.rest.dto.CompactTutoringRequestDto;
 import com.pragma.tutorings_requests.infrastructure.adapter.input.rest.dto.CreateTutoringRequestDto;
 import com.pragma.tutorings_requests.infrastructure.adapter.input.rest.dto.TutoringRequestDto;
 import com.pragma.usuarios.domain.model.User;
@@ -13,7 +16,10 @@ import org.mapstruct.*;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Mapper(componentModel = "spring",
         uses = {SkillDtoMapper.class, UserDtoMapper.class})
@@ -34,6 +40,32 @@ public abstract class  TutoringRequestDtoMapper {
     @Mapping(target = "skills", source = "skills")
     public abstract TutoringRequestDto toDto(TutoringRequest tutoringRequest);
 
+    @Mapping(target = "tuteeId", expression = "java(included.user(tutoringRequest.getTutee()))")
+    @Mapping(target = "skillIds", expression = "java(included.skills(tutoringRequest.getSkills()))")
+    public abstract CompactTutoringRequestDto toCompactDto(TutoringRequest tutoringRequest, @Context IncludedDtoBuilder included);
+
+    /**
+     * Only the selected fields of {@link TutoringRequestDto}, in declaration order.
+     */
+    public Map<String, Object> toSparseDto(TutoringRequest tutoringRequest, Set<TutoringRequestField> fields) {
+        TutoringRequestDto dto = toDto(tutoringRequest);
+        Map<String, Object> sparse = new LinkedHashMap<>();
+        for (TutoringRequestField field : fields) {
+            sparse.put(field.getFieldName(), switch (field) {
+                case ID -> dto.getId();
+                case TUTEE -> dto.getTutee();
+                case SKILLS -> dto.getSkills();
+                case NEEDS_DESCRIPTION -> dto.getNeedsDescription();
+                case REQUEST_DATE -> dto.getRequestDate();
+                case REQUEST_STATUS -> dto.getRequestStatus();
+                case ASSIGNED_TUTORING_ID -> dto.getAssignedTutoringId();
+                case CREATED_AT -> dto.getCreatedAt();
+                case UPDATED_AT -> dto.getUpdatedAt();
+            });
+        }
+        return sparse;
+    }
+
     @AfterMapping
     protected void findAndSetTutte(CreateTutoringRequestDto dto, @MappingTarget TutoringRequest tutoringRequest) {
         if (dto.getTuteeId() != null && !dto.getTuteeId().isEmpty()) {
@@ -0,0 +1,159 @@
+package com.pragma.tutorings_requests.infrastructure.adapter.output.jdbc;
+
+import com.pragma.shared.config.JdbcReadProperties;
+import com.pragma.shared.persistence.PendingWrites;
+import com.pragma.skills.domain.model.Skill;
+import com.pragma.skills.infrastructure.adapter.output.jdbc.SkillJdbcLoader;
+import com.pragma.tutorings_requests.domain.model.TutoringRequest;
+import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import com.pragma.tutorings_requests.domain.model.enums.TutoringRequestField;
+import com.pragma.tutorings_requests.domain.port.output.TutoringRequestRepository;
+import com.pragma.tutorings_requests.infrastructure.adapter.output.persistence.TutoringRequestPersistenceAdapter;
+import jakarta.persistence.EntityManager;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Read-optimised {@link TutoringRequestRepository} for the {@code jdbc} profile.
+ * Reads narrowed to a set of {@link TutoringRequestField}s only select those columns, and skip the
+ * tutee join and the skills query when they are not selected. List reads return every row at once;
+ * {@link #streamAll(Consumer)} hands rows over one request at a time as the cursor reads them.
+ * Writes are delegated to the JPA adapter; pending JPA writes are flushed before every read, so reads inside
+ * a write transaction see them.
+ */
+@Component
+@Primary
+@Profile("jdbc")
+public class TutoringRequestJdbcAdapter implements TutoringRequestRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SkillJdbcLoader skillLoader;
+    private final TutoringRequestPersistenceAdapter jpaAdapter;
+    private final EntityManager entityManager;
+
+    public TutoringRequestJdbcAdapter(DataSource dataSource, JdbcReadProperties properties,
+                                      TutoringRequestPersistenceAdapter jpaAdapter, EntityManager entityManager) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(properties.getFetchSize());
+        this.skillLoader = new SkillJdbcLoader(jdbcTemplate, "tutoring_request_skills", "tutoring_request_id", "skill_id",
+                properties.getInClauseChunkSize());
+        this.jpaAdapter = jpaAdapter;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public TutoringRequest save(TutoringRequest tutoringRequest) {
+        return jpaAdapter.save(tutoringRequest);
+    }
+
+    @Override
+    public Optional<TutoringRequest> findById(String id) {
+        List<TutoringRequest> requests = query(TutoringRequestRowMapper.INSTANCE, TutoringRequestRowMapper.SELECT_REQUESTS + " WHERE tr.id = ?", id);
+        attachSkills(requests, skillLoader.loadByOwnerIds(ids(requests)));
+        return requests.stream().findFirst();
+    }
+
+    @Override
+    public List<TutoringRequest> findAll() {
+        List<TutoringRequest> requests = query(TutoringRequestRowMapper.INSTANCE, TutoringRequestRowMapper.SELECT_REQUESTS);
+        attachSkills(requests, skillLoader.loadAll());
+        return requests;
+    }
+
+    /**
+     * Streams the requests joined with their skills in a single query ordered by id, so only the request being
+     * read is held in memory.
+     */
+    @Override
+    public void streamAll(Consumer<TutoringRequest> consumer) {
+        PendingWrites.flush(entityManager);
+        skillLoader.streamWithSkills(TutoringRequestRowMapper.SELECT_REQUESTS, TutoringRequestRowMapper.INSTANCE,
+                TutoringRequest::setSkills, consumer);
+    }
+
+    @Override
+    public List<TutoringRequest> findWithFilters(String tuteeId, String skillId, RequestStatus status, String chapterId) {
+        return findWithFilters(tuteeId, skillId, status, chapterId, EnumSet.allOf(TutoringRequestField.class));
+    }
+
+    @Override
+    public List<TutoringRequest> findWithFilters(String tuteeId, String skillId, RequestStatus status, String chapterId,
+                                                 Set<TutoringRequestField> fields) {
+        StringBuilder sql = new StringBuilder(TutoringRequestRowMapper.select(fields)).append(" WHERE 1 = 1");
+        List<Object> params = new ArrayList<>();
+        if (tuteeId != null) {
+            sql.append(" AND tr.tutee_id = ?");
+            params.add(tuteeId);
+        }
+        if (skillId != null) {
+            sql.append(" AND EXISTS (SELECT 1 FROM tutoring_request_skills trs")
+                    .append(" WHERE trs.tutoring_request_id = tr.id AND trs.skill_id = ?)");
+            params.add(skillId);
+        }
+        if (status != null) {
+            sql.append(" AND tr.request_status = ?");
+            params.add(status.name());
+        }
+        if (chapterId != null) {
+            sql.append(" AND tr.tutee_id IN (SELECT u.id FROM users u WHERE u.chapter_id = ?)");
+            params.add(chapterId);
+        }
+
+        List<TutoringRequest> requests = query(new TutoringRequestRowMapper(fields), sql.toString(), params.toArray());
+        if (fields.contains(TutoringRequestField.SKILLS)) {
+            attachSkills(requests, skillLoader.loadByOwnerIds(ids(requests)));
+        }
+        return requests;
+    }
+
+    @Override
+    public void delete(String id) {
+        jpaAdapter.delete(id);
+    }
+
+    @Override
+    public List<TutoringRequest> findAllById(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        List<TutoringRequest> requests = query(TutoringRequestRowMapper.INSTANCE,
+                TutoringRequestRowMapper.SELECT_REQUESTS + " WHERE tr.id IN (" + placeholders + ")", ids.toArray());
+        attachSkills(requests, skillLoader.loadByOwnerIds(ids(requests)));
+        return requests;
+    }
+
+    @Override
+    public int updateStatus(Collection<String> ids, RequestStatus from, RequestStatus to, Date updatedAt) {
+        return jpaAdapter.updateStatus(ids, from, to, updatedAt);
+    }
+
+    private List<TutoringRequest> query(TutoringRequestRowMapper rowMapper, String sql, Object... params) {
+        PendingWrites.flush(entityManager);
+        return jdbcTemplate.query(sql, rowMapper, params);
+    }
+
+    private static List<String> ids(List<TutoringRequest> requests) {
+        return requests.stream().map(TutoringRequest::getId).toList();
+    }
+
+    private static void attachSkills(List<TutoringRequest> requests, Map<String, List<Skill>> skillsByRequest) {
+        for (TutoringRequest request : requests) {
+            request.setSkills(skillsByRequest.getOrDefault(request.getId(), new ArrayList<>()));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.pragma.tutorings_requests.infrastructure.adapter.output.jdbc;
+
+import com.pragma.tutorings_requests.domain.model.TutoringRequest;
+import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import com.pragma.tutorings_requests.domain.model.enums.TutoringRequestField;
+import com.pragma.usuarios.infrastructure.adapter.output.jdbc.UserRowMapper;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Maps a tutoring request row joined with its tutee (and chapter) to a {@link TutoringRequest}.
+ * Skills are attached afterwards in a separate query.
+ * A mapper built for a subset of {@link TutoringRequestField}s reads only the columns that
+ * {@link #select(Set)} emits for it; the tutee is only joined when selected.
+ */
+public class TutoringRequestRowMapper implements RowMapper<TutoringRequest> {
+
+    public static final String SELECT_REQUESTS = select(EnumSet.allOf(TutoringRequestField.class));
+
+    public static final TutoringRequestRowMapper INSTANCE = new TutoringRequestRowMapper(EnumSet.allOf(TutoringRequestField.class));
+
+    private final Set<TutoringRequestField> fields;
+    private final UserRowMapper tuteeMapper = new UserRowMapper("tutee_");
+
+    public TutoringRequestRowMapper(Set<TutoringRequestField> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * {@code SELECT ... FROM tutoring_requests tr} with the columns and joins of {@code fields}.
+     * The id is always selected.
+     */
+    public static String select(Set<TutoringRequestField> fields) {
+        StringJoiner columns = new StringJoiner(", ");
+        String joins = "";
+        columns.add("tr.id");
+        if (fields.contains(TutoringRequestField.TUTEE)) {
+            columns.add(UserRowMapper.columns("te", "tec", "tutee_"));
+            joins = " LEFT JOIN users te ON te.id = tr.tutee_id"
+                    + " LEFT JOIN chapter tec ON tec.id = te.chapter_id";
+        }
+        for (TutoringRequestField field : fields) {
+            String column = column(field);
+            if (column != null) {
+                columns.add("tr." + column);
+            }
+        }
+        return "SELECT " + columns + " FROM tutoring_requests tr" + joins;
+    }
+
+    @Override
+    public TutoringRequest mapRow(ResultSet rs, int rowNum) throws SQLException {
+        TutoringRequest request = new TutoringRequest();
+        request.setId(rs.getString("id"));
+        if (fields.contains(TutoringRequestField.TUTEE)) {
+            request.setTutee(tuteeMapper.mapRow(rs, rowNum));
+        }
+        if (fields.contains(TutoringRequestField.NEEDS_DESCRIPTION)) {
+            request.setNeedsDescription(rs.getString("needs_description"));
+        }
+        if (fields.contains(TutoringRequestField.REQUEST_DATE)) {
+            request.setRequestDate(rs.getTimestamp("request_date"));
+        }
+        if (fields.contains(TutoringRequestField.REQUEST_STATUS)) {
+            String status = rs.getString("request_status");
+            request.setRequestStatus(status != null ? RequestStatus.valueOf(status) : null);
+        }
+        if (fields.contains(TutoringRequestField.ASSIGNED_TUTORING_ID)) {
+            request.setAssignedTutoringId(rs.getString("assigned_tutoring_id"));
+        }
+        if (fields.contains(TutoringRequestField.CREATED_AT)) {
+            request.setCreatedAt(rs.getTimestamp("created_at"));
+        }
+        if (fields.contains(TutoringRequestField.UPDATED_AT)) {
+            request.setUpdatedAt(rs.getTimestamp("updated_at"));
+        }
+        return request;
+    }
+
+    private static String column(TutoringRequestField field) {
+        return switch (field) {
+            case NEEDS_DESCRIPTION -> "needs_description";
+            case REQUEST_DATE -> "request_date";
+            case REQUEST_STATUS -> "request_status";
+            case ASSIGNED_TUTORING_ID -> "assigned_tutoring_id";
+            case CREATED_AT -> "created_at";
+            case UPDATED_AT -> "updated_at";
+            case ID, TUTEE, SKILLS -> null;
+        };
+    }
+}
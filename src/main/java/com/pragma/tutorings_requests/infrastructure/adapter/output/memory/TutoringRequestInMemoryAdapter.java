@@ -0,0 +1,230 @@
+package com.pragma.tutorings_requests.infrastructure.adapter.output.memory;
+
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.shared.persistence.memory.InMemoryIndex;
+import com.pragma.skills.domain.model.Skill;
+import com.pragma.skills.infrastructure.adapter.output.memory.SkillInMemoryAdapter;
+import com.pragma.tutorings_requests.domain.model.TutoringRequest;
+import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import com.pragma.tutorings_requests.domain.model.enums.TutoringRequestField;
+import com.pragma.tutorings_requests.domain.port.output.TutoringRequestRepository;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.infrastructure.adapter.output.memory.UserInMemoryAdapter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * In-memory {@link TutoringRequestRepository} for the {@code memory} profile.
+ * Tutee, tutee chapter, status and skill are secondary indexes; filtered queries start from the
+ * smallest matching index and check the remaining criteria on each candidate. The chapter index holds
+ * the tutee's chapter as of the last save of the request.
+ */
+@Component
+@Primary
+@Profile("memory")
+@RequiredArgsConstructor
+public class TutoringRequestInMemoryAdapter implements TutoringRequestRepository {
+
+    private final UserInMemoryAdapter userAdapter;
+    private final SkillInMemoryAdapter skillAdapter;
+
+    private final Map<String, TutoringRequest> requests = new ConcurrentHashMap<>();
+    private final InMemoryIndex<String> byTutee = new InMemoryIndex<>();
+    private final InMemoryIndex<String> byChapter = new InMemoryIndex<>();
+    // Capítulo con el que está indexada cada solicitud, para desindexarla aunque el tutorado cambie de capítulo
+    private final Map<String, String> indexedChapter = new ConcurrentHashMap<>();
+    private final InMemoryIndex<RequestStatus> byStatus = new InMemoryIndex<>();
+    private final InMemoryIndex<String> bySkill = new InMemoryIndex<>();
+
+    @Override
+    public synchronized TutoringRequest save(TutoringRequest tutoringRequest) {
+        TutoringRequest stored = copy(tutoringRequest);
+        if (stored.getId() == null) {
+            stored.setId(UUID.randomUUID().toString());
+        }
+        // Igual que el adaptador JPA: solo se asocian habilidades existentes
+        stored.setSkills(skillAdapter.findAllById(skillIds(stored)));
+
+        TutoringRequest previous = requests.get(stored.getId());
+        Date now = new Date();
+        if (stored.getCreatedAt() == null) {
+            stored.setCreatedAt(previous != null && previous.getCreatedAt() != null ? previous.getCreatedAt() : now);
+        }
+        stored.setUpdatedAt(now);
+
+        requests.put(stored.getId(), stored);
+        byTutee.update(tuteeId(previous), tuteeId(stored), stored.getId());
+        indexChapter(stored.getId(), chapterId(stored));
+        byStatus.update(previous == null ? null : previous.getRequestStatus(), stored.getRequestStatus(), stored.getId());
+        bySkill.updateAll(previous == null ? null : skillIds(previous), skillIds(stored), stored.getId());
+        return hydrate(stored);
+    }
+
+    @Override
+    public Optional<TutoringRequest> findById(String id) {
+        return Optional.ofNullable(id).map(requests::get).map(this::hydrate);
+    }
+
+    @Override
+    public List<TutoringRequest> findAll() {
+        return requests.values().stream().map(this::hydrate).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<TutoringRequest> findWithFilters(String tuteeId, String skillId, RequestStatus status, String chapterId) {
+        Collection<TutoringRequest> candidates = Stream.of(
+                        tuteeId == null ? null : byTutee.get(tuteeId),
+                        chapterId == null ? null : byChapter.get(chapterId),
+                        skillId == null ? null : bySkill.get(skillId),
+                        status == null ? null : byStatus.get(status))
+                .filter(Objects::nonNull)
+                .min(Comparator.comparingInt(Set::size))
+                .map(ids -> ids.stream().map(requests::get).filter(Objects::nonNull).toList())
+                .orElseGet(() -> List.copyOf(requests.values()));
+
+        return candidates.stream()
+                .filter(request -> tuteeId == null || tuteeId.equals(tuteeId(request)))
+                .filter(request -> skillId == null || skillIds(request).contains(skillId))
+                .filter(request -> status == null || request.getRequestStatus() == status)
+                .map(this::hydrate)
+                .filter(request -> chapterId == null || (request.getTutee() != null
+                        && request.getTutee().getChapter() != null
+                        && chapterId.equals(request.getTutee().getChapter().getId())))
+                .collect(Collectors.toList());
+    }
+
+    // Los objetos ya están en memoria: se devuelven completos
+    @Override
+    public List<TutoringRequest> findWithFilters(String tuteeId, String skillId, RequestStatus status, String chapterId,
+                                                 Set<TutoringRequestField> fields) {
+        return findWithFilters(tuteeId, skillId, status, chapterId);
+    }
+
+    @Override
+    public void streamAll(Consumer<TutoringRequest> consumer) {
+        requests.values().stream().map(this::hydrate).forEach(consumer);
+    }
+
+    @Override
+    public synchronized void delete(String id) {
+        TutoringRequest removed = id == null ? null : requests.remove(id);
+        if (removed != null) {
+            byTutee.update(tuteeId(removed), null, id);
+            indexChapter(id, null);
+            byStatus.update(removed.getRequestStatus(), null, id);
+            bySkill.updateAll(skillIds(removed), null, id);
+        }
+    }
+
+    @Override
+    public List<TutoringRequest> findAllById(Collection<String> ids) {
+        return ids.stream()
+                .distinct()
+                .map(requests::get)
+                .filter(Objects::nonNull)
+                .map(this::hydrate)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public synchronized int updateStatus(Collection<String> ids, RequestStatus from, RequestStatus to, Date updatedAt) {
+        int updated = 0;
+        for (String id : new HashSet<>(ids)) {
+            TutoringRequest stored = requests.get(id);
+            if (stored == null || stored.getRequestStatus() != from) {
+                continue;
+            }
+            TutoringRequest changed = copy(stored);
+            changed.setRequestStatus(to);
+            changed.setUpdatedAt(copyDate(updatedAt));
+            requests.put(id, changed);
+            byStatus.update(from, to, id);
+            updated++;
+        }
+        return updated;
+    }
+
+    public synchronized void clear() {
+        requests.clear();
+        byTutee.clear();
+        byChapter.clear();
+        indexedChapter.clear();
+        byStatus.clear();
+        bySkill.clear();
+    }
+
+    private TutoringRequest hydrate(TutoringRequest stored) {
+        TutoringRequest request = copy(stored);
+        if (stored.getTutee() != null && stored.getTutee().getId() != null) {
+            userAdapter.findById(stored.getTutee().getId()).ifPresent(request::setTutee);
+        }
+        request.setSkills(stored.getSkills().stream()
+                .map(skill -> skillAdapter.findById(skill.getId()).orElse(skill))
+                .collect(Collectors.toList()));
+        return request;
+    }
+
+    private static String tuteeId(TutoringRequest request) {
+        return request == null || request.getTutee() == null ? null : request.getTutee().getId();
+    }
+
+    private void indexChapter(String id, String chapterId) {
+        byChapter.update(indexedChapter.get(id), chapterId, id);
+        if (chapterId == null) {
+            indexedChapter.remove(id);
+        } else {
+            indexedChapter.put(id, chapterId);
+        }
+    }
+
+    private String chapterId(TutoringRequest request) {
+        return Optional.ofNullable(tuteeId(request))
+                .flatMap(userAdapter::findById)
+                .map(User::getChapter)
+                .map(Chapter::getId)
+                .orElse(null);
+    }
+
+    private static List<String> skillIds(TutoringRequest request) {
+        if (request.getSkills() == null) {
+            return List.of();
+        }
+        return request.getSkills().stream().filter(Objects::nonNull).map(Skill::getId).filter(Objects::nonNull).toList();
+    }
+
+    private static TutoringRequest copy(TutoringRequest request) {
+        List<Skill> skills = request.getSkills() == null ? new ArrayList<>() : request.getSkills().stream()
+                .filter(Objects::nonNull)
+                .map(skill -> new Skill(skill.getId(), skill.getName()))
+                .collect(Collectors.toList());
+        User tutee = request.getTutee();
+        User tuteeCopy = tutee == null ? null : new User(tutee.getId(), tutee.getFirstName(), tutee.getLastName(),
+                tutee.getEmail(), tutee.getGoogleUserId(), tutee.getSlackId(), tutee.getChapter(), tutee.getRol(),
+                tutee.getActiveTutoringLimit(), tutee.getSeniority());
+        return new TutoringRequest(request.getId(), tuteeCopy, skills, request.getNeedsDescription(),
+                copyDate(request.getRequestDate()), request.getRequestStatus(), request.getAssignedTutoringId(),
+                copyDate(request.getCreatedAt()), copyDate(request.getUpdatedAt()));
+    }
+
+    private static Date copyDate(Date date) {
+        return date == null ? null : new Date(date.getTime());
+    }
+}
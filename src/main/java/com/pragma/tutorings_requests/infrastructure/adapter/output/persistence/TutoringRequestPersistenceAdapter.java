@@ -1,22 +1,37 @@
 package com.pragma.tutorings_requests.infrastructure.adapter.output.persistence;
 
+import com.pragma.shared.config.ExportProperties;
+import com.pragma.shared.persistence.ScrollingQuery;
+import com.pragma.skills.domain.model.Skill;
 import com.pragma.skills.infrastructure.adapter.output.persistence.entity.SkillEntity;
 import com.pragma.skills.infrastructure.adapter.output.persistence.mapper.SkillMapper;
 import com.pragma.skills.infrastructure.adapter.output.persistence.repository.SpringDataSkillRepository;
 import com.pragma.tutorings.infrastructure.adapter.output.persistence.entity.TutoringEntity;
 import com.pragma.tutorings_requests.domain.model.TutoringRequest;
 import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import com.pragma.tutorings_requests.domain.model.enums.TutoringRequestField;
 import com.pragma.tutorings_requests.domain.port.output.TutoringRequestRepository;
 import com.pragma.tutorings_requests.infrastructure.adapter.output.persistence.entity.TutoringRequestsEntity;
 import com.pragma.tutorings_requests.infrastructure.adapter.output.persistence.mapper.TutoringRequestMapper;
 import com.pragma.tutorings_requests.infrastructure.adapter.output.persistence.repository.SpringDataTutoringRequestRepository;
+import com.pragma.usuarios.infrastructure.adapter.output.persistence.entity.UsersEntity;
+import com.pragma.usuarios.infrastructure.adapter.output.persistence.mapper.UserMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Component
@@ -27,6 +42,9 @@ public class TutoringRequestPersistenceAdapter implements TutoringRequestReposit
     private final SpringDataSkillRepository skillRepository;
     private final TutoringRequestMapper mapper;
     private final SkillMapper skillMapper;
+    private final UserMapper userMapper;
+    private final EntityManager entityManager;
+    private final ExportProperties exportProperties;
 
     @Transactional
     @Override
@@ -48,18 +66,8 @@ public class TutoringRequestPersistenceAdapter implements TutoringRequestReposit
                 // Reemplazar la lista de habilidades con las entidades gestionadas
                 entity.setSkills(managedSkills);
             }
-            
-            // Guardar la entidad sin la referencia a la tutoría
-            entity.setAssignedTutoringId(null);
+
             TutoringRequestsEntity savedEntity = repository.save(entity);
-            
-            // Si hay un ID de tutoría asignado, actualizarlo mediante SQL nativo
-            if (tutoringRequest.getAssignedTutoringId() != null && tutoringRequest.getId() != null) {
-                repository.updateAssignedTutoringId(tutoringRequest.getId(), tutoringRequest.getAssignedTutoringId());
-                // Recargar la entidad para obtener los cambios
-                savedEntity = repository.findById(tutoringRequest.getId()).orElse(savedEntity);
-            }
-            
             return mapper.toDomain(savedEntity);
         } catch (Exception e) {
             throw new RuntimeException("Error al guardar la solicitud de tutoría: " + e.getMessage(), e);
@@ -78,6 +86,25 @@ public class TutoringRequestPersistenceAdapter implements TutoringRequestReposit
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Scrolls the requests with their tutee joined. The skills of each chunk are
+     * initialised with one fetch join before mapping, instead of one query per request.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<TutoringRequest> consumer) {
+        TypedQuery<TutoringRequestsEntity> query = entityManager.createQuery(
+                "SELECT r FROM TutoringRequestsEntity r LEFT JOIN FETCH r.tutee",
+                TutoringRequestsEntity.class);
+        ScrollingQuery.forEachChunk(entityManager, query, exportProperties.getChunkSize(), chunk -> {
+            entityManager.createQuery("SELECT r FROM TutoringRequestsEntity r LEFT JOIN FETCH r.skills WHERE r.id IN :ids",
+                            TutoringRequestsEntity.class)
+                    .setParameter("ids", chunk.stream().map(TutoringRequestsEntity::getId).toList())
+                    .getResultList();
+            chunk.forEach(entity -> consumer.accept(mapper.toDomain(entity)));
+        });
+    }
     
     @Override
     public List<TutoringRequest> findWithFilters(String tuteeId, String skillId, RequestStatus status, String chapterId) {
@@ -86,8 +113,139 @@ public class TutoringRequestPersistenceAdapter implements TutoringRequestReposit
                 .collect(Collectors.toList());
     }
     
+    /**
+     * Selects only the columns of {@code fields}: the tutee is joined only when selected, the assigned
+     * tutoring is read as its id without loading it, and skills are read with a second query only when selected.
+     */
+    @Override
+    public List<TutoringRequest> findWithFilters(String tuteeId, String skillId, RequestStatus status, String chapterId,
+                                                 Set<TutoringRequestField> fields) {
+        if (fields.containsAll(EnumSet.allOf(TutoringRequestField.class))) {
+            return findWithFilters(tuteeId, skillId, status, chapterId);
+        }
+        List<TutoringRequestField> columns = fields.stream()
+                .filter(field -> field != TutoringRequestField.ID && field != TutoringRequestField.SKILLS)
+                .toList();
+        Map<String, Object> params = new HashMap<>();
+        String where = where(tuteeId, skillId, status, chapterId, params);
+
+        StringBuilder jpql = new StringBuilder("SELECT tr.id");
+        columns.forEach(field -> jpql.append(", ").append(path(field)));
+        jpql.append(" FROM TutoringRequestsEntity tr");
+        if (fields.contains(TutoringRequestField.TUTEE)) {
+            jpql.append(" LEFT JOIN tr.tutee te");
+        }
+
+        List<TutoringRequest> requests = new ArrayList<>();
+        for (Object[] row : query(jpql + where, params).getResultList()) {
+            TutoringRequest request = new TutoringRequest();
+            request.setId((String) row[0]);
+            for (int i = 0; i < columns.size(); i++) {
+                set(request, columns.get(i), row[i + 1]);
+            }
+            requests.add(request);
+        }
+        if (fields.contains(TutoringRequestField.SKILLS)) {
+            Map<String, List<Skill>> skills = new HashMap<>();
+            query("SELECT tr.id, s FROM TutoringRequestsEntity tr JOIN tr.skills s" + where, params)
+                    .getResultList()
+                    .forEach(row -> skills.computeIfAbsent((String) row[0], id -> new ArrayList<>())
+                            .add(skillMapper.toDomain((SkillEntity) row[1])));
+            requests.forEach(request -> request.setSkills(skills.getOrDefault(request.getId(), new ArrayList<>())));
+        }
+        return requests;
+    }
+
     @Override
     public void delete(String id) {
         repository.deleteById(id);
     }
-}
\ No newline at end of file
+
+    /**
+     * Loads the requests with their tutee and assigned tutoring joined, then initialises their skills with a
+     * second fetch join, so the batch costs two queries whatever its size.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TutoringRequest> findAllById(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<TutoringRequestsEntity> entities = entityManager.createQuery(
+                        "SELECT r FROM TutoringRequestsEntity r LEFT JOIN FETCH r.tutee"
+                                + " WHERE r.id IN :ids", TutoringRequestsEntity.class)
+                .setParameter("ids", ids)
+                .getResultList();
+        if (!entities.isEmpty()) {
+            entityManager.createQuery("SELECT r FROM TutoringRequestsEntity r LEFT JOIN FETCH r.skills WHERE r.id IN :ids",
+                            TutoringRequestsEntity.class)
+                    .setParameter("ids", ids)
+                    .getResultList();
+        }
+        return entities.stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public int updateStatus(Collection<String> ids, RequestStatus from, RequestStatus to, Date updatedAt) {
+        return ids.isEmpty() ? 0 : repository.updateStatus(ids, from, to, updatedAt);
+    }
+
+    private TypedQuery<Object[]> query(String jpql, Map<String, Object> params) {
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql, Object[].class);
+        params.forEach(query::setParameter);
+        return query;
+    }
+
+    private static String where(String tuteeId, String skillId, RequestStatus status, String chapterId,
+                                Map<String, Object> params) {
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+        if (tuteeId != null) {
+            where.append(" AND tr.tutee.id = :tuteeId");
+            params.put("tuteeId", tuteeId);
+        }
+        if (skillId != null) {
+            where.append(" AND EXISTS (SELECT 1 FROM TutoringRequestsEntity x JOIN x.skills xs")
+                    .append(" WHERE x.id = tr.id AND xs.id = :skillId)");
+            params.put("skillId", skillId);
+        }
+        if (status != null) {
+            where.append(" AND tr.requestStatus = :status");
+            params.put("status", status);
+        }
+        if (chapterId != null) {
+            where.append(" AND tr.tutee.chapter.id = :chapterId");
+            params.put("chapterId", chapterId);
+        }
+        return where.toString();
+    }
+
+    private static String path(TutoringRequestField field) {
+        return switch (field) {
+            case TUTEE -> "te";
+            case NEEDS_DESCRIPTION -> "tr.needsDescription";
+            case REQUEST_DATE -> "tr.requestDate";
+            case REQUEST_STATUS -> "tr.requestStatus";
+            case ASSIGNED_TUTORING_ID -> "tr.assignedTutoringId";
+            case CREATED_AT -> "tr.createdAt";
+            case UPDATED_AT -> "tr.updatedAt";
+            case ID, SKILLS -> throw new IllegalArgumentException("Campo sin columna propia: " + field);
+        };
+    }
+
+    private void set(TutoringRequest request, TutoringRequestField field, Object value) {
+        switch (field) {
+            case TUTEE -> request.setTutee(userMapper.toDomain((UsersEntity) value));
+            case NEEDS_DESCRIPTION -> request.setNeedsDescription((String) value);
+            case REQUEST_DATE -> request.setRequestDate((Date) value);
+            case REQUEST_STATUS -> request.setRequestStatus((RequestStatus) value);
+            case ASSIGNED_TUTORING_ID -> request.setAssignedTutoringId((String) value);
+            case CREATED_AT -> request.setCreatedAt((Date) value);
+            case UPDATED_AT -> request.setUpdatedAt((Date) value);
+            case ID, SKILLS -> {
+            }
+        }
+    }
+}
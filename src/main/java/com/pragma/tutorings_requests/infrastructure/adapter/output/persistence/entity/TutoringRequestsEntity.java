@@ -1,7 +1,6 @@
 package com.pragma.tutorings_requests.infrastructure.adapter.output.persistence.entity;
 
 import com.pragma.skills.infrastructure.adapter.output.persistence.entity.SkillEntity;
-import com.pragma.tutorings.infrastructure.adapter.output.persistence.entity.TutoringEntity;
 import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
 import com.pragma.usuarios.infrastructure.adapter.output.persistence.entity.UsersEntity;
 import jakarta.persistence.*;
@@ -46,10 +45,9 @@ public class TutoringRequestsEntity implements Serializable {
     @Enumerated(EnumType.STRING)
     private RequestStatus requestStatus; // "Estado de la solicitud (Enviada(default), Aprobada, Asignada, Rechazada)"
 
-    @OneToOne
-    @JoinColumn(name ="assigned_tutoring_id",
-            referencedColumnName ="id")
-    private TutoringEntity assignedTutoringId; // "ID de la tutoría resultante de esta solicitud (puede ser NULL)"
+    // Columna simple, sin asociación ni FK: la tutoría puede haberse movido a tutoring_archive y la solicitud conserva el id
+    @Column(name = "assigned_tutoring_id")
+    private String assignedTutoringId; // "ID de la tutoría resultante de esta solicitud (puede ser NULL)"
     
     @Column(name = "created_at")
     @Temporal(TemporalType.TIMESTAMP)
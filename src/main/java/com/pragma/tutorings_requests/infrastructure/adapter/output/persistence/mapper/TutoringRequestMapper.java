@@ -23,16 +23,10 @@ import java.util.stream.Collectors;
 )
 public abstract class TutoringRequestMapper {
 
-    @Mapping(target = "assignedTutoringId", ignore = true)
     public abstract TutoringRequestsEntity toEntity(TutoringRequest tutoringRequest);
 
     @Mapping(target = "skills", source = "skills")
     @Mapping(target = "tutee", source = "tutee")
-    @Mapping(target = "assignedTutoringId", expression = "java(mapAssignedTutoringId(entity))")
     public abstract TutoringRequest toDomain(TutoringRequestsEntity entity);
-    
-    protected String mapAssignedTutoringId(TutoringRequestsEntity entity) {
-        return entity.getAssignedTutoringId() != null ? entity.getAssignedTutoringId().getId() : null;
-    }
 
 }
\ No newline at end of file
@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 @Repository
@@ -24,7 +26,9 @@ public interface SpringDataTutoringRequestRepository extends JpaRepository<Tutor
             @Param("status") RequestStatus status,
             @Param("chapterId") String chapterId);
             
-    @Modifying
-    @Query(value = "UPDATE tutoring_requests SET assigned_tutoring_id = :tutoringId WHERE id = :requestId", nativeQuery = true)
-    void updateAssignedTutoringId(@Param("requestId") String requestId, @Param("tutoringId") String tutoringId);
-}
\ No newline at end of file
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TutoringRequestsEntity tr SET tr.requestStatus = :to, tr.updatedAt = :updatedAt "
+            + "WHERE tr.id IN :ids AND tr.requestStatus = :from")
+    int updateStatus(@Param("ids") Collection<String> ids, @Param("from") RequestStatus from,
+                     @Param("to") RequestStatus to, @Param("updatedAt") Date updatedAt);
+}
@@ -0,0 +1,34 @@
+package com.pragma.usuarios.application.service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spaces calls evenly at a fixed rate: each caller reserves the next free slot and sleeps until it.
+ * Callers wait outside the lock, so it works with any number of (virtual) threads.
+ */
+class RequestPacer {
+
+    private final long intervalNanos;
+    private long nextSlot;
+
+    RequestPacer(double permitsPerSecond) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.nextSlot = System.nanoTime();
+    }
+
+    void acquire() throws InterruptedException {
+        long wait;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = Math.max(nextSlot, now);
+            nextSlot = slot + intervalNanos;
+            wait = slot - now;
+        }
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.pragma.usuarios.application.service;
+
+import com.pragma.shared.config.UserEnrichmentProperties;
+import com.pragma.usuarios.domain.port.input.EnrichUsersUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Nightly refresh of user names, chapters and seniorities from the external user API.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserEnrichmentJob {
+
+    private final EnrichUsersUseCase enrichUsersUseCase;
+    private final UserEnrichmentProperties properties;
+
+    @Scheduled(cron = "${app.users.enrichment.cron:0 0 3 * * *}", zone = "${app.sessions.default-zone:UTC}")
+    public void run() {
+        if (properties.isEnabled()) {
+            enrichUsersUseCase.enrichUsers();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.pragma.usuarios.application.service;
+
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.chapter.domain.port.input.GetAllChaptersUseCase;
+import com.pragma.recommendations.domain.port.input.UpdateTutorProfileUseCase;
+import com.pragma.shared.config.UserEnrichmentProperties;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.UserEnrichmentReport;
+import com.pragma.usuarios.domain.port.input.EnrichUsersUseCase;
+import com.pragma.usuarios.domain.port.output.ExternalUserRepository;
+import com.pragma.usuarios.domain.port.output.UserEnrichmentCheckpointRepository;
+import com.pragma.usuarios.domain.port.output.UserRepository;
+import com.pragma.usuarios.infrastructure.adapter.output.external.dto.PragmaUserDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Refreshes local users from the external user API. Users are read in id order, {@code batch-size} at a
+ * time; each batch is looked up on virtual threads, with at most {@code max-concurrency} calls in flight
+ * and no more than {@code requests-per-second} started, and the users that changed are written with one
+ * {@link UserRepository#saveAll}. The checkpoint advances after every batch, so a run that stops halfway
+ * resumes where it left off. A lookup that fails upstream (timeout, 5xx) is counted apart from a user the
+ * API does not know; from the first batch with such a failure on, the checkpoint stops advancing and it is
+ * only cleared after a run that visited every user without failures, so the next run retries them.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserEnrichmentService implements EnrichUsersUseCase {
+
+    private final UserRepository userRepository;
+    private final ExternalUserRepository externalUserRepository;
+    private final UserEnrichmentCheckpointRepository checkpointRepository;
+    private final GetAllChaptersUseCase getAllChaptersUseCase;
+    private final UpdateTutorProfileUseCase updateTutorProfileUseCase;
+    private final UserEnrichmentProperties properties;
+
+    @Override
+    public UserEnrichmentReport enrichUsers() {
+        Map<String, Chapter> chaptersByName = new HashMap<>();
+        for (Chapter chapter : getAllChaptersUseCase.getAllChapters()) {
+            if (chapter.getName() != null) {
+                chaptersByName.putIfAbsent(chapter.getName().toLowerCase(Locale.ROOT), chapter);
+            }
+        }
+        Semaphore inFlight = new Semaphore(properties.getMaxConcurrency());
+        RequestPacer pacer = properties.getRequestsPerSecond() > 0 ? new RequestPacer(properties.getRequestsPerSecond()) : null;
+
+        String lastId = checkpointRepository.findLastUserId().orElse("");
+        if (!lastId.isEmpty()) {
+            log.info("Reanudando el enriquecimiento de usuarios después de {}", lastId);
+        }
+        long checked = 0;
+        long updated = 0;
+        long notFound = 0;
+        long failed = 0;
+        int batchSize = properties.getBatchSize();
+        List<User> batch;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            do {
+                batch = userRepository.findAfter(lastId, batchSize);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                List<Future<Optional<PragmaUserDto>>> lookups = new ArrayList<>(batch.size());
+                for (User user : batch) {
+                    lookups.add(executor.submit(() -> lookup(user.getEmail(), inFlight, pacer)));
+                }
+                List<User> changed = new ArrayList<>();
+                long failedBefore = failed;
+                for (int i = 0; i < batch.size(); i++) {
+                    Optional<PragmaUserDto> external;
+                    try {
+                        external = await(lookups.get(i));
+                    } catch (ExecutionException e) {
+                        log.warn("No se pudo consultar el usuario {} en la API externa: {}", batch.get(i).getEmail(), e.getCause().getMessage());
+                        failed++;
+                        continue;
+                    }
+                    if (external.isEmpty()) {
+                        notFound++;
+                    } else if (apply(batch.get(i), external.get(), chaptersByName)) {
+                        changed.add(batch.get(i));
+                    }
+                }
+                checked += batch.size();
+                if (!changed.isEmpty()) {
+                    List<User> saved = userRepository.saveAll(changed);
+                    saved.forEach(updateTutorProfileUseCase::userSaved);
+                    updated += saved.size();
+                }
+                lastId = batch.get(batch.size() - 1).getId();
+                if (failedBefore == 0 && failed == 0) {
+                    checkpointRepository.saveLastUserId(lastId);
+                }
+            } while (batch.size() == batchSize);
+        }
+        if (failed == 0) {
+            checkpointRepository.clear();
+        }
+        log.info("Enriquecimiento de usuarios: {} consultados, {} actualizados, {} sin datos externos, {} fallidos",
+                checked, updated, notFound, failed);
+        return new UserEnrichmentReport(checked, updated, notFound, failed);
+    }
+
+    private Optional<PragmaUserDto> lookup(String email, Semaphore inFlight, RequestPacer pacer) throws InterruptedException {
+        inFlight.acquire();
+        try {
+            if (pacer != null) {
+                pacer.acquire();
+            }
+            return externalUserRepository.fetchUserByEmail(email);
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    private static Optional<PragmaUserDto> await(Future<Optional<PragmaUserDto>> lookup) throws ExecutionException {
+        try {
+            return lookup.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Enriquecimiento de usuarios interrumpido", e);
+        }
+    }
+
+    /**
+     * Copies the external data onto {@code user} and reports whether anything changed. The full name is
+     * split at the first space into first and last name; chapter and seniority come from the first chapter
+     * listed, and a chapter unknown locally leaves the current one.
+     */
+    static boolean apply(User user, PragmaUserDto external, Map<String, Chapter> chaptersByName) {
+        String firstName = user.getFirstName();
+        String lastName = user.getLastName();
+        Chapter chapter = user.getChapter();
+        int seniority = user.getSeniority();
+
+        if (external.getFullName() != null && !external.getFullName().isBlank()) {
+            String[] parts = external.getFullName().trim().split("\\s+", 2);
+            firstName = parts[0];
+            lastName = parts.length > 1 ? parts[1] : null;
+        }
+        if (external.getChapters() != null && !external.getChapters().isEmpty()) {
+            PragmaUserDto.Chapter first = external.getChapters().get(0);
+            if (first.getChapterName() != null) {
+                chapter = chaptersByName.getOrDefault(first.getChapterName().toLowerCase(Locale.ROOT), chapter);
+            }
+            if (first.getSeniorityId() != null) {
+                seniority = first.getSeniorityId();
+            }
+        }
+
+        boolean changed = !Objects.equals(firstName, user.getFirstName())
+                || !Objects.equals(lastName, user.getLastName())
+                || !Objects.equals(chapterId(chapter), chapterId(user.getChapter()))
+                || seniority != user.getSeniority();
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setChapter(chapter);
+        user.setSeniority(seniority);
+        return changed;
+    }
+
+    private static String chapterId(Chapter chapter) {
+        return chapter == null ? null : chapter.getId();
+    }
+}
@@ -0,0 +1,195 @@
+package com.pragma.usuarios.application.service;
+
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.chapter.domain.port.input.GetAllChaptersUseCase;
+import com.pragma.recommendations.domain.port.input.UpdateTutorProfileUseCase;
+import com.pragma.shared.config.UserImportProperties;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.UserImportError;
+import com.pragma.usuarios.domain.model.UserImportReport;
+import com.pragma.usuarios.domain.model.UserImportRow;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.domain.port.input.ImportUsersUseCase;
+import com.pragma.usuarios.domain.port.output.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Bulk user import. Rows are validated as they are read and the valid ones are inserted in chunks of
+ * {@code app.users.import.chunk-size}, one transaction per chunk, so memory holds one chunk plus the keys
+ * already seen in the file. Chapters are resolved from a map loaded once per import.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserImportService implements ImportUsersUseCase {
+
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+    private final UserRepository userRepository;
+    private final GetAllChaptersUseCase getAllChaptersUseCase;
+    private final UpdateTutorProfileUseCase updateTutorProfileUseCase;
+    private final UserImportProperties properties;
+
+    @Override
+    public UserImportReport importUsers(Stream<UserImportRow> rows) {
+        Map<String, Chapter> chapters = new HashMap<>();
+        for (Chapter chapter : getAllChaptersUseCase.getAllChapters()) {
+            chapters.put(chapter.getId(), chapter);
+            if (chapter.getName() != null) {
+                chapters.putIfAbsent(chapter.getName().toLowerCase(Locale.ROOT), chapter);
+            }
+        }
+
+        ImportRun run = new ImportRun(chapters);
+        try (rows) {
+            rows.forEach(run::accept);
+        }
+        run.flush();
+        log.info("Importación de usuarios: {} filas, {} importadas, {} rechazadas", run.total, run.imported, run.failed);
+        return new UserImportReport(run.total, run.imported, run.failed, run.errors);
+    }
+
+    private final class ImportRun {
+        private final Map<String, Chapter> chapters;
+        private final Set<String> seenEmails = new HashSet<>();
+        private final Set<String> seenGoogleUserIds = new HashSet<>();
+        private final List<UserImportRow> chunkRows = new ArrayList<>();
+        private final List<User> chunk = new ArrayList<>();
+        private final List<UserImportError> errors = new ArrayList<>();
+        private long total;
+        private long imported;
+        private long failed;
+
+        private ImportRun(Map<String, Chapter> chapters) {
+            this.chapters = chapters;
+        }
+
+        void accept(UserImportRow row) {
+            total++;
+            String error = validate(row);
+            if (error != null) {
+                reject(row, error);
+                return;
+            }
+            chunkRows.add(row);
+            chunk.add(toUser(row));
+            if (chunk.size() >= properties.getChunkSize()) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            // Las claves ya registradas se rechazan antes de insertar para no abortar el lote completo
+            Set<String> takenEmails = userRepository.findExistingEmails(chunk.stream().map(User::getEmail).toList());
+            Set<String> takenGoogleUserIds = userRepository.findExistingGoogleUserIds(
+                    chunk.stream().map(User::getGoogleUserId).toList());
+            List<User> toInsert = new ArrayList<>(chunk.size());
+            List<UserImportRow> insertedRows = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                User user = chunk.get(i);
+                if (takenEmails.contains(user.getEmail())) {
+                    reject(chunkRows.get(i), "El correo ya está registrado");
+                } else if (takenGoogleUserIds.contains(user.getGoogleUserId())) {
+                    reject(chunkRows.get(i), "El Google User ID ya está registrado");
+                } else {
+                    toInsert.add(user);
+                    insertedRows.add(chunkRows.get(i));
+                }
+            }
+            if (!toInsert.isEmpty()) {
+                try {
+                    List<User> saved = userRepository.saveAll(toInsert);
+                    imported += saved.size();
+                    saved.forEach(updateTutorProfileUseCase::userSaved);
+                } catch (RuntimeException e) {
+                    log.warn("Lote de importación de usuarios rechazado: {}", e.getMessage());
+                    insertedRows.forEach(row -> reject(row, "No se pudo guardar el lote: " + e.getMessage()));
+                }
+            }
+            chunk.clear();
+            chunkRows.clear();
+        }
+
+        private String validate(UserImportRow row) {
+            if (row.parseError() != null) {
+                return row.parseError();
+            }
+            if (isBlank(row.email()) || !EMAIL.matcher(row.email().trim()).matches()) {
+                return "El correo es requerido y debe ser válido";
+            }
+            if (isBlank(row.googleUserId())) {
+                return "El Google User ID es requerido";
+            }
+            if (!isBlank(row.chapter()) && chapter(row.chapter()) == null) {
+                return "Capítulo no encontrado: " + row.chapter().trim();
+            }
+            if (!isBlank(row.seniority())) {
+                try {
+                    if (Integer.parseInt(row.seniority().trim()) < 0) {
+                        return "El seniority debe ser un número mayor o igual a 0";
+                    }
+                } catch (NumberFormatException e) {
+                    return "El seniority debe ser un número mayor o igual a 0";
+                }
+            }
+            if (!seenEmails.add(row.email().trim())) {
+                return "Correo duplicado en el archivo";
+            }
+            if (!seenGoogleUserIds.add(row.googleUserId().trim())) {
+                return "Google User ID duplicado en el archivo";
+            }
+            return null;
+        }
+
+        private User toUser(UserImportRow row) {
+            User user = new User();
+            user.setEmail(row.email().trim());
+            user.setGoogleUserId(row.googleUserId().trim());
+            user.setFirstName(trimToNull(row.firstName()));
+            user.setLastName(trimToNull(row.lastName()));
+            user.setSlackId(trimToNull(row.slackId()));
+            user.setChapter(isBlank(row.chapter()) ? null : chapter(row.chapter()));
+            user.setSeniority(isBlank(row.seniority()) ? 0 : Integer.parseInt(row.seniority().trim()));
+            // Mismos valores por defecto que CreateUserUseCase
+            user.setRol(RolUsuario.Tutorado);
+            user.setActiveTutoringLimit(0);
+            return user;
+        }
+
+        private Chapter chapter(String reference) {
+            String key = reference.trim();
+            Chapter chapter = chapters.get(key);
+            return chapter != null ? chapter : chapters.get(key.toLowerCase(Locale.ROOT));
+        }
+
+        private void reject(UserImportRow row, String message) {
+            failed++;
+            if (errors.size() < properties.getMaxReportedErrors()) {
+                errors.add(new UserImportError(row.line(), row.email(), message));
+            }
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static String trimToNull(String value) {
+        return isBlank(value) ? null : value.trim();
+    }
+}
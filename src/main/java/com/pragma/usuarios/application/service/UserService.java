@@ -1,5 +1,6 @@
 package com.pragma.usuarios.application.service;
 
+import com.pragma.recommendations.domain.port.input.UpdateTutorProfileUseCase;
 import com.pragma.usuarios.domain.model.User;
 import com.pragma.usuarios.domain.model.enums.RolUsuario;
 import com.pragma.usuarios.domain.port.input.CreateUserUseCase;
@@ -31,6 +32,7 @@ public class UserService implements CreateUserUseCase, UpdateUserUseCase, FindUs
     private final TutoringRepository tutoringRepository;
     private final UserDtoMapper userDtoMapper;
     private final ExternalUserRepository externalUserRepository;
+    private final UpdateTutorProfileUseCase updateTutorProfileUseCase;
 
     @Override
     public User createUser(User user) {
@@ -38,7 +40,7 @@ public class UserService implements CreateUserUseCase, UpdateUserUseCase, FindUs
         user.setRol(RolUsuario.Tutorado);
         user.setActiveTutoringLimit(0);
         
-        return userRepository.save(user);
+        return saveUser(user);
     }
 
     @Override
@@ -65,7 +67,7 @@ public class UserService implements CreateUserUseCase, UpdateUserUseCase, FindUs
                     // Mantener los campos que no deben actualizarse
                     // email, rol y activeTutoringLimit se omiten intencionalmente
 
-                    return userRepository.save(existingUser);
+                    return saveUser(existingUser);
                 });
     }
     
@@ -79,7 +81,7 @@ public class UserService implements CreateUserUseCase, UpdateUserUseCase, FindUs
         return userRepository.findById(id)
                 .map(existingUser -> {
                     existingUser.setRol(role);
-                    return userRepository.save(existingUser);
+                    return saveUser(existingUser);
                 });
     }
     
@@ -89,7 +91,7 @@ public class UserService implements CreateUserUseCase, UpdateUserUseCase, FindUs
                 .filter(existingUser -> existingUser.getRol() == RolUsuario.Tutor)
                 .map(existingUser -> {
                     existingUser.setActiveTutoringLimit(activeTutoringLimit);
-                    return userRepository.save(existingUser);
+                    return saveUser(existingUser);
                 });
     }
     
@@ -132,4 +134,10 @@ public class UserService implements CreateUserUseCase, UpdateUserUseCase, FindUs
     public Optional<PragmaUserDto> getExternalUserByEmail(String email) {
         return externalUserRepository.findUserByEmail(email);
     }
-}
\ No newline at end of file
+
+    private User saveUser(User user) {
+        User savedUser = userRepository.save(user);
+        updateTutorProfileUseCase.userSaved(savedUser);
+        return savedUser;
+    }
+}
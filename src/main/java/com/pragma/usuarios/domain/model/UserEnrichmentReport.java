@@ -0,0 +1,8 @@
+package com.pragma.usuarios.domain.model;
+
+/**
+ * Outcome of a user enrichment run: users looked up upstream, users whose data changed and was saved,
+ * users the external API did not return, and lookups that failed with an upstream error.
+ */
+public record UserEnrichmentReport(long checked, long updated, long notFound, long failed) {
+}
@@ -0,0 +1,7 @@
+package com.pragma.usuarios.domain.model;
+
+/**
+ * A row rejected by a bulk user import.
+ */
+public record UserImportError(long line, String email, String message) {
+}
@@ -0,0 +1,10 @@
+package com.pragma.usuarios.domain.model;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk user import. {@code errors} lists the rejected rows in file order, up to the configured
+ * maximum; {@code failed} always counts all of them.
+ */
+public record UserImportReport(long totalRows, long imported, long failed, List<UserImportError> errors) {
+}
@@ -0,0 +1,13 @@
+package com.pragma.usuarios.domain.model;
+
+/**
+ * One row of a bulk user import, as read from the file. Values are raw and validated by the import;
+ * {@code parseError} is set when the row itself could not be read. {@code chapter} is a chapter id or name.
+ */
+public record UserImportRow(long line, String email, String googleUserId, String firstName, String lastName,
+                            String slackId, String chapter, String seniority, String parseError) {
+
+    public static UserImportRow unreadable(long line, String parseError) {
+        return new UserImportRow(line, null, null, null, null, null, null, null, parseError);
+    }
+}
@@ -0,0 +1,12 @@
+package com.pragma.usuarios.domain.port.input;
+
+import com.pragma.usuarios.domain.model.UserEnrichmentReport;
+
+public interface EnrichUsersUseCase {
+
+    /**
+     * Refreshes name, chapter and seniority of every local user from the external user API,
+     * resuming after the last checkpoint if a previous run was interrupted.
+     */
+    UserEnrichmentReport enrichUsers();
+}
@@ -0,0 +1,14 @@
+package com.pragma.usuarios.domain.port.input;
+
+import com.pragma.usuarios.domain.model.UserImportReport;
+import com.pragma.usuarios.domain.model.UserImportRow;
+
+import java.util.stream.Stream;
+
+public interface ImportUsersUseCase {
+    /**
+     * Validates and inserts the rows as they are read, committing every chunk separately. Invalid rows
+     * are reported and skipped; the valid ones are imported as {@code Tutorado}, like {@link CreateUserUseCase}.
+     */
+    UserImportReport importUsers(Stream<UserImportRow> rows);
+}
@@ -6,4 +6,10 @@ import java.util.Optional;
 
 public interface ExternalUserRepository {
     Optional<PragmaUserDto> findUserByEmail(String email);
-}
\ No newline at end of file
+
+    /**
+     * Like {@link #findUserByEmail} but only an unknown email yields an empty result; timeouts and
+     * upstream errors are thrown so batch callers can tell them apart and retry.
+     */
+    Optional<PragmaUserDto> fetchUserByEmail(String email);
+}
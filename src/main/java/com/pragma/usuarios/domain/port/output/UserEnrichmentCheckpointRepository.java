@@ -0,0 +1,19 @@
+package com.pragma.usuarios.domain.port.output;
+
+import java.util.Optional;
+
+/**
+ * Progress of the user enrichment job: the id of the last user whose batch was written, so an
+ * interrupted run resumes after it instead of starting over.
+ */
+public interface UserEnrichmentCheckpointRepository {
+
+    Optional<String> findLastUserId();
+
+    void saveLastUserId(String lastUserId);
+
+    /**
+     * Forgets the checkpoint once a run has gone through every user.
+     */
+    void clear();
+}
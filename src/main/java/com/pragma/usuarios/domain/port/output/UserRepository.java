@@ -2,8 +2,10 @@ package com.pragma.usuarios.domain.port.output;
 
 import com.pragma.usuarios.domain.model.User;
 import com.pragma.usuarios.domain.model.enums.RolUsuario;
-import java.util.Optional;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 public interface UserRepository {
     User save(User account);
@@ -12,4 +14,24 @@ public interface UserRepository {
     Optional<User> findByGoogleUserId(String googleUserId);
     List<User> findAll();
     List<User> findByFilters(String chapterId, String rol, Integer seniority, String email);
-}
\ No newline at end of file
+
+    /**
+     * Inserts or updates all users in one transaction.
+     */
+    List<User> saveAll(List<User> users);
+
+    /**
+     * Returns which of {@code emails} are already registered.
+     */
+    Set<String> findExistingEmails(Collection<String> emails);
+
+    /**
+     * Returns which of {@code googleUserIds} are already registered.
+     */
+    Set<String> findExistingGoogleUserIds(Collection<String> googleUserIds);
+
+    /**
+     * Up to {@code limit} users with an id greater than {@code afterId}, ordered by id.
+     */
+    List<User> findAfter(String afterId, int limit);
+}
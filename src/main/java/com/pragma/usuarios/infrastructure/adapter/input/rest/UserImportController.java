@@ -0,0 +1,49 @@
+package com.pragma.usuarios.infrastructure.adapter.input.rest;
+
+import com.pragma.shared.context.UserContextHelper;
+import com.pragma.shared.dto.OkResponseDto;
+import com.pragma.usuarios.domain.model.UserImportReport;
+import com.pragma.usuarios.domain.model.UserImportRow;
+import com.pragma.usuarios.domain.port.input.ImportUsersUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+import java.util.stream.Stream;
+
+/**
+ * Bulk user import from a CSV or NDJSON request body. The body is read as a stream while the rows are
+ * inserted, so file size is not limited by memory; the response reports the rows that were rejected.
+ */
+@RestController
+@RequestMapping("/api/v1/users/import")
+@RequiredArgsConstructor
+@Slf4j
+public class UserImportController {
+
+    private final ImportUsersUseCase importUsersUseCase;
+    private final UserImportParser userImportParser;
+
+    @PostMapping(consumes = "text/csv")
+    public ResponseEntity<OkResponseDto<UserImportReport>> importCsv(InputStream body) {
+        UserContextHelper.requireAdminRole();
+        log.info("Administrador {} importando usuarios desde CSV", UserContextHelper.getCurrentUserEmail());
+        return importRows(userImportParser.parseCsv(body));
+    }
+
+    @PostMapping(consumes = "application/x-ndjson")
+    public ResponseEntity<OkResponseDto<UserImportReport>> importNdjson(InputStream body) {
+        UserContextHelper.requireAdminRole();
+        log.info("Administrador {} importando usuarios desde NDJSON", UserContextHelper.getCurrentUserEmail());
+        return importRows(userImportParser.parseNdjson(body));
+    }
+
+    private ResponseEntity<OkResponseDto<UserImportReport>> importRows(Stream<UserImportRow> rows) {
+        UserImportReport report = importUsersUseCase.importUsers(rows);
+        return ResponseEntity.ok(OkResponseDto.of("Importación de usuarios finalizada", report));
+    }
+}
@@ -0,0 +1,167 @@
+package com.pragma.usuarios.infrastructure.adapter.input.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.usuarios.domain.model.UserImportRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+/**
+ * Turns an uploaded CSV or NDJSON file into a lazy stream of {@link UserImportRow}s, one per non-blank line,
+ * so the import never holds the whole file in memory. Lines that cannot be read become rows with a
+ * {@code parseError} instead of aborting the import. The returned stream must be closed.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserImportParser {
+
+    static final List<String> COLUMNS = List.of("email", "googleUserId", "firstName", "lastName", "slackId", "chapter", "seniority");
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * CSV with a header row naming the columns in {@link #COLUMNS} (any order, case-insensitive).
+     * Fields may be quoted with {@code "}; quoted fields cannot span lines.
+     */
+    public Stream<UserImportRow> parseCsv(InputStream input) {
+        BufferedReader reader = reader(input);
+        String header = readLine(reader);
+        if (header == null) {
+            return Stream.empty();
+        }
+        Map<String, Integer> positions = new HashMap<>();
+        List<String> names = splitCsv(stripBom(header));
+        for (int i = 0; i < names.size(); i++) {
+            positions.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!positions.containsKey("email") || !positions.containsKey("googleuserid")) {
+            throw new IllegalArgumentException("El CSV debe incluir las columnas email y googleUserId");
+        }
+        int[] columns = COLUMNS.stream()
+                .mapToInt(column -> positions.getOrDefault(column.toLowerCase(Locale.ROOT), -1))
+                .toArray();
+        // La cabecera es la línea 1
+        return rows(reader, 2, (line, text) -> {
+            List<String> fields;
+            try {
+                fields = splitCsv(text);
+            } catch (IllegalArgumentException e) {
+                return UserImportRow.unreadable(line, e.getMessage());
+            }
+            String[] values = new String[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                values[i] = columns[i] >= 0 && columns[i] < fields.size() ? fields.get(columns[i]) : null;
+            }
+            return toRow(line, values);
+        });
+    }
+
+    /**
+     * One JSON object per line with the properties in {@link #COLUMNS}.
+     */
+    public Stream<UserImportRow> parseNdjson(InputStream input) {
+        return rows(reader(input), 1, (line, text) -> {
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(text);
+            } catch (JsonProcessingException e) {
+                return UserImportRow.unreadable(line, "JSON inválido: " + e.getOriginalMessage());
+            }
+            if (!node.isObject()) {
+                return UserImportRow.unreadable(line, "Cada línea debe ser un objeto JSON");
+            }
+            String[] values = new String[COLUMNS.size()];
+            for (int i = 0; i < values.length; i++) {
+                JsonNode value = node.get(COLUMNS.get(i));
+                values[i] = value == null || value.isNull() ? null : value.asText();
+            }
+            return toRow(line, values);
+        });
+    }
+
+    private Stream<UserImportRow> rows(BufferedReader reader, long firstLine,
+                                       BiFunction<Long, String, UserImportRow> parser) {
+        AtomicLong line = new AtomicLong(firstLine - 1);
+        return reader.lines()
+                .map(text -> {
+                    long number = line.incrementAndGet();
+                    return text.isBlank() ? null : parser.apply(number, text);
+                })
+                .filter(Objects::nonNull)
+                .onClose(() -> {
+                    try {
+                        reader.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    private static UserImportRow toRow(long line, String[] values) {
+        return new UserImportRow(line, values[0], values[1], values[2], values[3], values[4], values[5], values[6], null);
+    }
+
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Comillas sin cerrar en la línea");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static BufferedReader reader(InputStream input) {
+        return new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+    }
+
+    private static String readLine(BufferedReader reader) {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String stripBom(String header) {
+        return header.startsWith("﻿") ? header.substring(1) : header;
+    }
+}
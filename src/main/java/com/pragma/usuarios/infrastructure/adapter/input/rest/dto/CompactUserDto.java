@@ -0,0 +1,24 @@
+package com.pragma.usuarios.infrastructure.adapter.input.rest.dto;
+
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@link UserDto} that references its chapter by id; the chapter itself is side-loaded.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompactUserDto {
+    private String id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String slackId;
+    private String chapterId;
+    private RolUsuario rol;
+    private int activeTutoringLimit;
+    private int seniority;
+}
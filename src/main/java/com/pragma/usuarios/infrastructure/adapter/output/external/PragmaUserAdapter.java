@@ -10,6 +10,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.Optional;
@@ -25,29 +26,38 @@ public class PragmaUserAdapter implements ExternalUserRepository {
     @Override
     public Optional<PragmaUserDto> findUserByEmail(String email) {
         try {
-            String url = apiProperties.getServiceUrl() + "/prod/administration/pragmatic/" + email;
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("accept", "application/json, text/plain, */*");
-            headers.set("x-api-key-prod", apiProperties.getServiceKey());
-            
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-            
-            log.debug("Calling external API: {}", url);
-            ResponseEntity<PragmaUserDto> response = restTemplate.exchange(
-                url, HttpMethod.GET, entity, PragmaUserDto.class);
-            
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                log.debug("Successfully retrieved user data for email: {}", response.getBody());
-                return Optional.of(response.getBody());
-            }
-            
-            log.warn("No user data found for email: {}", email);
-            return Optional.empty();
-            
+            return fetchUserByEmail(email);
         } catch (Exception e) {
             log.error("Error calling external API for email {}: {}", email, e.getMessage());
             return Optional.empty();
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public Optional<PragmaUserDto> fetchUserByEmail(String email) {
+        String url = apiProperties.getServiceUrl() + "/prod/administration/pragmatic/" + email;
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("accept", "application/json, text/plain, */*");
+        headers.set("x-api-key-prod", apiProperties.getServiceKey());
+
+        HttpEntity<String> entity = new HttpEntity<>(headers);
+
+        log.debug("Calling external API: {}", url);
+        ResponseEntity<PragmaUserDto> response;
+        try {
+            response = restTemplate.exchange(url, HttpMethod.GET, entity, PragmaUserDto.class);
+        } catch (HttpClientErrorException.NotFound e) {
+            log.warn("No user data found for email: {}", email);
+            return Optional.empty();
+        }
+
+        if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+            log.debug("Successfully retrieved user data for email: {}", response.getBody());
+            return Optional.of(response.getBody());
+        }
+
+        log.warn("No user data found for email: {}", email);
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,123 @@
+package com.pragma.usuarios.infrastructure.adapter.output.jdbc;
+
+import com.pragma.shared.config.JdbcReadProperties;
+import com.pragma.shared.persistence.PendingWrites;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.port.output.UserRepository;
+import com.pragma.usuarios.infrastructure.adapter.output.persistence.UserPersistenceAdapter;
+import jakarta.persistence.EntityManager;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Read-optimised {@link UserRepository} for the {@code jdbc} profile.
+ * Reads use explicit column lists and map rows straight to domain objects;
+ * writes are delegated to the JPA adapter, and flushed before every read so reads inside a write transaction
+ * see them.
+ */
+@Component
+@Primary
+@Profile("jdbc")
+public class UserJdbcAdapter implements UserRepository {
+
+    private static final String SELECT_USERS = "SELECT " + UserRowMapper.columns("u", "c", "")
+            + " FROM users u LEFT JOIN chapter c ON c.id = u.chapter_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserPersistenceAdapter jpaAdapter;
+    private final EntityManager entityManager;
+
+    public UserJdbcAdapter(DataSource dataSource, JdbcReadProperties properties, UserPersistenceAdapter jpaAdapter,
+                           EntityManager entityManager) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(properties.getFetchSize());
+        this.jpaAdapter = jpaAdapter;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public User save(User user) {
+        return jpaAdapter.save(user);
+    }
+
+    @Override
+    public List<User> saveAll(List<User> users) {
+        return jpaAdapter.saveAll(users);
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        return jpaAdapter.findExistingEmails(emails);
+    }
+
+    @Override
+    public Set<String> findExistingGoogleUserIds(Collection<String> googleUserIds) {
+        return jpaAdapter.findExistingGoogleUserIds(googleUserIds);
+    }
+
+    @Override
+    public Optional<User> findById(String id) {
+        return findOne(SELECT_USERS + " WHERE u.id = ?", id);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return findOne(SELECT_USERS + " WHERE u.correo = ?", email);
+    }
+
+    @Override
+    public Optional<User> findByGoogleUserId(String googleUserId) {
+        return findOne(SELECT_USERS + " WHERE u.google_user_id = ?", googleUserId);
+    }
+
+    @Override
+    public List<User> findAll() {
+        return query(SELECT_USERS);
+    }
+
+    @Override
+    public List<User> findByFilters(String chapterId, String rol, Integer seniority, String email) {
+        StringBuilder sql = new StringBuilder(SELECT_USERS).append(" WHERE 1 = 1");
+        List<Object> params = new ArrayList<>();
+        if (chapterId != null) {
+            sql.append(" AND u.chapter_id = ?");
+            params.add(chapterId);
+        }
+        if (rol != null) {
+            sql.append(" AND LOWER(u.rol) = LOWER(?)");
+            params.add(rol);
+        }
+        if (seniority != null) {
+            sql.append(" AND u.seniority = ?");
+            params.add(seniority);
+        }
+        if (email != null) {
+            sql.append(" AND LOWER(u.correo) LIKE LOWER(?)");
+            params.add("%" + email + "%");
+        }
+        return query(sql.toString(), params.toArray());
+    }
+
+    @Override
+    public List<User> findAfter(String afterId, int limit) {
+        return query(SELECT_USERS + " WHERE u.id > ? ORDER BY u.id LIMIT ?", afterId, limit);
+    }
+
+    private Optional<User> findOne(String sql, Object param) {
+        return query(sql, param).stream().findFirst();
+    }
+
+    private List<User> query(String sql, Object... params) {
+        PendingWrites.flush(entityManager);
+        return jdbcTemplate.query(sql, UserRowMapper.INSTANCE, params);
+    }
+}
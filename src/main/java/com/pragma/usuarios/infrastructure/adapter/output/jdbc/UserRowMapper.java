@@ -0,0 +1,68 @@
+package com.pragma.usuarios.infrastructure.adapter.output.jdbc;
+
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Builds {@link User} domain objects straight from a result set, without going through
+ * JPA entities. The same column list is reused by the tutoring and request adapters,
+ * which join the users table under a prefix (e.g. {@code tutor_}).
+ */
+public class UserRowMapper implements RowMapper<User> {
+
+    public static final UserRowMapper INSTANCE = new UserRowMapper("");
+
+    private final String prefix;
+
+    public UserRowMapper(String prefix) {
+        this.prefix = prefix;
+    }
+
+    /**
+     * Column list for the users table aliased as {@code alias} and chapter aliased as {@code chapterAlias}.
+     */
+    public static String columns(String alias, String chapterAlias, String prefix) {
+        return alias + ".id AS " + prefix + "id, "
+                + alias + ".first_name AS " + prefix + "first_name, "
+                + alias + ".last_name AS " + prefix + "last_name, "
+                + alias + ".correo AS " + prefix + "correo, "
+                + alias + ".google_user_id AS " + prefix + "google_user_id, "
+                + alias + ".slack_id AS " + prefix + "slack_id, "
+                + alias + ".rol AS " + prefix + "rol, "
+                + alias + ".active_tutoring_limit AS " + prefix + "active_tutoring_limit, "
+                + alias + ".seniority AS " + prefix + "seniority, "
+                + chapterAlias + ".id AS " + prefix + "chapter_id, "
+                + chapterAlias + ".name AS " + prefix + "chapter_name";
+    }
+
+    @Override
+    public User mapRow(ResultSet rs, int rowNum) throws SQLException {
+        String id = rs.getString(prefix + "id");
+        if (id == null) {
+            return null;
+        }
+
+        User user = new User();
+        user.setId(id);
+        user.setFirstName(rs.getString(prefix + "first_name"));
+        user.setLastName(rs.getString(prefix + "last_name"));
+        user.setEmail(rs.getString(prefix + "correo"));
+        user.setGoogleUserId(rs.getString(prefix + "google_user_id"));
+        user.setSlackId(rs.getString(prefix + "slack_id"));
+        String rol = rs.getString(prefix + "rol");
+        user.setRol(rol != null ? RolUsuario.valueOf(rol) : null);
+        user.setActiveTutoringLimit(rs.getInt(prefix + "active_tutoring_limit"));
+        user.setSeniority(rs.getInt(prefix + "seniority"));
+
+        String chapterId = rs.getString(prefix + "chapter_id");
+        if (chapterId != null) {
+            user.setChapter(new Chapter(chapterId, rs.getString(prefix + "chapter_name")));
+        }
+        return user;
+    }
+}
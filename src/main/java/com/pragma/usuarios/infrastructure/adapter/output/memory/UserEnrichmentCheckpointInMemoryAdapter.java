@@ -0,0 +1,35 @@
+package com.pragma.usuarios.infrastructure.adapter.output.memory;
+
+import com.pragma.usuarios.domain.port.output.UserEnrichmentCheckpointRepository;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory {@link UserEnrichmentCheckpointRepository} for the {@code memory} profile.
+ */
+@Component
+@Primary
+@Profile("memory")
+public class UserEnrichmentCheckpointInMemoryAdapter implements UserEnrichmentCheckpointRepository {
+
+    private final AtomicReference<String> lastUserId = new AtomicReference<>();
+
+    @Override
+    public Optional<String> findLastUserId() {
+        return Optional.ofNullable(lastUserId.get());
+    }
+
+    @Override
+    public void saveLastUserId(String id) {
+        lastUserId.set(id);
+    }
+
+    @Override
+    public void clear() {
+        lastUserId.set(null);
+    }
+}
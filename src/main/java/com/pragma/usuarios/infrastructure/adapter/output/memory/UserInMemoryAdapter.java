@@ -0,0 +1,170 @@
+package com.pragma.usuarios.infrastructure.adapter.output.memory;
+
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.chapter.infrastructure.adapter.output.memory.ChapterInMemoryAdapter;
+import com.pragma.shared.persistence.memory.InMemoryIndex;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.port.output.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory {@link UserRepository} for the {@code memory} profile.
+ * Email and Google id are unique keys; chapter is a secondary index. The chapter is
+ * resolved on every read so renames are visible, as with the JPA join.
+ */
+@Component
+@Primary
+@Profile("memory")
+@RequiredArgsConstructor
+public class UserInMemoryAdapter implements UserRepository {
+
+    private final ChapterInMemoryAdapter chapterAdapter;
+
+    private final Map<String, User> users = new ConcurrentHashMap<>();
+    private final Map<String, String> idsByEmail = new ConcurrentHashMap<>();
+    private final Map<String, String> idsByGoogleUserId = new ConcurrentHashMap<>();
+    private final InMemoryIndex<String> byChapter = new InMemoryIndex<>();
+
+    @Override
+    public synchronized User save(User user) {
+        User stored = copy(user);
+        if (stored.getId() == null) {
+            stored.setId(UUID.randomUUID().toString());
+        }
+        // Igual que UserMapper: solo se asocia un chapter existente
+        String chapterId = chapterId(stored);
+        stored.setChapter(chapterId == null ? null : chapterAdapter.findById(chapterId).orElse(null));
+        checkUnique(idsByEmail, stored.getEmail(), stored.getId(), "correo");
+        checkUnique(idsByGoogleUserId, stored.getGoogleUserId(), stored.getId(), "google_user_id");
+
+        User previous = users.put(stored.getId(), stored);
+        reindexUnique(idsByEmail, previous == null ? null : previous.getEmail(), stored.getEmail(), stored.getId());
+        reindexUnique(idsByGoogleUserId, previous == null ? null : previous.getGoogleUserId(), stored.getGoogleUserId(), stored.getId());
+        byChapter.update(chapterId(previous), chapterId(stored), stored.getId());
+        return hydrate(stored);
+    }
+
+    @Override
+    public Optional<User> findById(String id) {
+        return Optional.ofNullable(id).map(users::get).map(this::hydrate);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return Optional.ofNullable(email).map(idsByEmail::get).flatMap(this::findById);
+    }
+
+    @Override
+    public Optional<User> findByGoogleUserId(String googleUserId) {
+        return Optional.ofNullable(googleUserId).map(idsByGoogleUserId::get).flatMap(this::findById);
+    }
+
+    @Override
+    public List<User> findAll() {
+        return users.values().stream().map(this::hydrate).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<User> findByFilters(String chapterId, String rol, Integer seniority, String email) {
+        Collection<User> candidates = chapterId == null
+                ? users.values()
+                : byChapter.get(chapterId).stream().map(users::get).filter(Objects::nonNull).toList();
+        String emailFragment = email == null ? null : email.toLowerCase();
+        return candidates.stream()
+                .filter(user -> chapterId == null || chapterId.equals(chapterId(user)))
+                .filter(user -> rol == null || (user.getRol() != null && user.getRol().name().equalsIgnoreCase(rol)))
+                .filter(user -> seniority == null || user.getSeniority() == seniority)
+                .filter(user -> emailFragment == null
+                        || (user.getEmail() != null && user.getEmail().toLowerCase().contains(emailFragment)))
+                .map(this::hydrate)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public synchronized List<User> saveAll(List<User> users) {
+        return users.stream().map(this::save).collect(Collectors.toList());
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        return emails.stream().filter(idsByEmail::containsKey).collect(Collectors.toSet());
+    }
+
+    @Override
+    public Set<String> findExistingGoogleUserIds(Collection<String> googleUserIds) {
+        return googleUserIds.stream().filter(idsByGoogleUserId::containsKey).collect(Collectors.toSet());
+    }
+
+    @Override
+    public List<User> findAfter(String afterId, int limit) {
+        return users.values().stream()
+                .filter(user -> user.getId().compareTo(afterId) > 0)
+                .sorted(Comparator.comparing(User::getId))
+                .limit(limit)
+                .map(this::hydrate)
+                .collect(Collectors.toList());
+    }
+
+    public synchronized void clear() {
+        users.clear();
+        idsByEmail.clear();
+        idsByGoogleUserId.clear();
+        byChapter.clear();
+    }
+
+    private User hydrate(User stored) {
+        User user = copy(stored);
+        String chapterId = chapterId(stored);
+        if (chapterId != null) {
+            chapterAdapter.findById(chapterId).ifPresent(user::setChapter);
+        }
+        return user;
+    }
+
+    private static void checkUnique(Map<String, String> uniqueKey, String value, String id, String column) {
+        if (value == null) {
+            return;
+        }
+        String owner = uniqueKey.get(value);
+        if (owner != null && !owner.equals(id)) {
+            throw new DataIntegrityViolationException("Valor duplicado para " + column + ": " + value);
+        }
+    }
+
+    private static void reindexUnique(Map<String, String> uniqueKey, String oldValue, String newValue, String id) {
+        if (oldValue != null && !oldValue.equals(newValue)) {
+            uniqueKey.remove(oldValue, id);
+        }
+        if (newValue != null) {
+            uniqueKey.put(newValue, id);
+        }
+    }
+
+    private static String chapterId(User user) {
+        return user == null || user.getChapter() == null ? null : user.getChapter().getId();
+    }
+
+    private static User copy(User user) {
+        if (user == null) {
+            return null;
+        }
+        Chapter chapter = user.getChapter() == null ? null : new Chapter(user.getChapter().getId(), user.getChapter().getName());
+        return new User(user.getId(), user.getFirstName(), user.getLastName(), user.getEmail(), user.getGoogleUserId(),
+                user.getSlackId(), chapter, user.getRol(), user.getActiveTutoringLimit(), user.getSeniority());
+    }
+}
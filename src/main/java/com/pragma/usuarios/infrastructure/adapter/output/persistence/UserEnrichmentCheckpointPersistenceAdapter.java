@@ -0,0 +1,34 @@
+package com.pragma.usuarios.infrastructure.adapter.output.persistence;
+
+import com.pragma.shared.persistence.checkpoint.JobCheckpointEntity;
+import com.pragma.shared.persistence.checkpoint.SpringDataJobCheckpointRepository;
+import com.pragma.usuarios.domain.port.output.UserEnrichmentCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class UserEnrichmentCheckpointPersistenceAdapter implements UserEnrichmentCheckpointRepository {
+
+    static final String JOB = "user-enrichment";
+
+    private final SpringDataJobCheckpointRepository repository;
+
+    @Override
+    public Optional<String> findLastUserId() {
+        return repository.findById(JOB).map(JobCheckpointEntity::getLastId);
+    }
+
+    @Override
+    public void saveLastUserId(String lastUserId) {
+        repository.save(new JobCheckpointEntity(JOB, 0L, lastUserId, Instant.now()));
+    }
+
+    @Override
+    public void clear() {
+        repository.deleteById(JOB);
+    }
+}
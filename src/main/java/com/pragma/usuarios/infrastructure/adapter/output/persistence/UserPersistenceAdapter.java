@@ -6,10 +6,15 @@ import com.pragma.usuarios.infrastructure.adapter.output.persistence.entity.User
 import com.pragma.usuarios.infrastructure.adapter.output.persistence.mapper.UserMapper;
 import com.pragma.usuarios.infrastructure.adapter.output.persistence.repository.SpringDataUserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
@@ -57,4 +62,33 @@ public class UserPersistenceAdapter implements UserRepository {
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional
+    public List<User> saveAll(List<User> users) {
+        // Ids UUID generados por Hibernate: los INSERT se agrupan según hibernate.jdbc.batch_size
+        List<UsersEntity> entities = users.stream()
+                .map(mapper::toEntity)
+                .collect(Collectors.toList());
+        return repository.saveAll(entities).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        return emails.isEmpty() ? Set.of() : new HashSet<>(repository.findEmailsIn(emails));
+    }
+
+    @Override
+    public Set<String> findExistingGoogleUserIds(Collection<String> googleUserIds) {
+        return googleUserIds.isEmpty() ? Set.of() : new HashSet<>(repository.findGoogleUserIdsIn(googleUserIds));
+    }
+
+    @Override
+    public List<User> findAfter(String afterId, int limit) {
+        return repository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.ofSize(limit)).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+}
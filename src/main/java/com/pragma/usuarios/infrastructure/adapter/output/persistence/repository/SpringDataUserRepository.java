@@ -2,11 +2,14 @@ package com.pragma.usuarios.infrastructure.adapter.output.persistence.repository
 
 import com.pragma.usuarios.infrastructure.adapter.output.persistence.entity.UsersEntity;
 import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +17,15 @@ import java.util.Optional;
 public interface SpringDataUserRepository extends JpaRepository<UsersEntity, String> {
     Optional<UsersEntity> findByEmail(String email);
     Optional<UsersEntity> findByGoogleUserId(String googleUserId);
+
+    @EntityGraph(attributePaths = "chapter")
+    List<UsersEntity> findByIdGreaterThanOrderByIdAsc(String id, Pageable pageable);
+
+    @Query("SELECT u.email FROM UsersEntity u WHERE u.email IN :emails")
+    List<String> findEmailsIn(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT u.googleUserId FROM UsersEntity u WHERE u.googleUserId IN :googleUserIds")
+    List<String> findGoogleUserIdsIn(@Param("googleUserIds") Collection<String> googleUserIds);
     
     @Query("SELECT u FROM UsersEntity u WHERE " +
            "(:chapterId IS NULL OR u.chapter.id = :chapterId) AND " +
@@ -0,0 +1,17 @@
+-- Elimina la clave foránea de tutoring_requests.assigned_tutoring_id hacia tutoring.
+-- La tutoría asignada puede moverse a tutoring_archive y la solicitud conserva su id, pero
+-- ddl-auto=update no borra restricciones existentes. Ejecutar una vez en bases MySQL creadas antes
+-- del archivado; es idempotente (no hace nada si la clave ya no existe).
+-- SQLite no aplica claves foráneas salvo con PRAGMA foreign_keys=ON, así que allí no hace falta.
+
+SET @fk := (SELECT CONSTRAINT_NAME
+            FROM information_schema.KEY_COLUMN_USAGE
+            WHERE TABLE_SCHEMA = DATABASE()
+              AND TABLE_NAME = 'tutoring_requests'
+              AND COLUMN_NAME = 'assigned_tutoring_id'
+              AND REFERENCED_TABLE_NAME IS NOT NULL
+            LIMIT 1);
+SET @ddl := IF(@fk IS NULL, 'SELECT 1', CONCAT('ALTER TABLE tutoring_requests DROP FOREIGN KEY ', @fk));
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
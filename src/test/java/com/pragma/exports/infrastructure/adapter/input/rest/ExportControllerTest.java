@@ -0,0 +1,165 @@
+package com.pragma.exports.infrastructure.adapter.input.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.exports.domain.port.input.ExportDataUseCase;
+import com.pragma.feedbacks.domain.model.Feedback;
+import com.pragma.feedbacks.infrastructure.adapter.input.rest.dto.FeedbackDto;
+import com.pragma.feedbacks.infrastructure.adapter.input.rest.mapper.FeedbackDtoMapper;
+import com.pragma.shared.context.TestUserContextHelper;
+import com.pragma.tutoring_sessions.infrastructure.adapter.input.rest.mapper.TutoringSessionDtoMapper;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.TutoringDto;
+import com.pragma.tutorings.infrastructure.adapter.input.rest.mapper.TutoringDtoMapper;
+import com.pragma.tutorings_requests.infrastructure.adapter.input.rest.mapper.TutoringRequestDtoMapper;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class ExportControllerTest {
+
+    @Mock
+    private ExportDataUseCase exportDataUseCase;
+
+    @Mock
+    private TutoringDtoMapper tutoringDtoMapper;
+
+    @Mock
+    private TutoringRequestDtoMapper tutoringRequestDtoMapper;
+
+    @Mock
+    private TutoringSessionDtoMapper tutoringSessionDtoMapper;
+
+    @Mock
+    private FeedbackDtoMapper feedbackDtoMapper;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        TestUserContextHelper.setTestUserContext();
+        ExportController controller = new ExportController(exportDataUseCase, tutoringDtoMapper, tutoringRequestDtoMapper,
+                tutoringSessionDtoMapper, feedbackDtoMapper, objectMapper);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestUserContextHelper.clearUserContext();
+    }
+
+    @Test
+    void export_Tutorings_ShouldStreamOneDocumentPerLine() throws Exception {
+        // Arrange
+        Tutoring first = tutoring("t-1");
+        Tutoring second = tutoring("t-2");
+        doAnswer(invocation -> {
+            Consumer<Tutoring> consumer = invocation.getArgument(0);
+            consumer.accept(first);
+            consumer.accept(second);
+            return 2L;
+        }).when(exportDataUseCase).exportTutorings(any());
+        when(tutoringDtoMapper.toDto(any(Tutoring.class)))
+                .thenAnswer(invocation -> dto(invocation.<Tutoring>getArgument(0).getId()));
+
+        // Act
+        MvcResult started = mockMvc.perform(get("/api/v1/exports/tutorings"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tutorings.ndjson\""))
+                .andReturn();
+
+        // Assert
+        List<String> lines = result.getResponse().getContentAsString().lines().toList();
+        assertEquals(2, lines.size());
+        assertEquals("t-1", objectMapper.readTree(lines.get(0)).get("id").asText());
+        assertEquals("Activa", objectMapper.readTree(lines.get(1)).get("status").asText());
+        assertEquals('\n', result.getResponse().getContentAsString().charAt(result.getResponse().getContentAsString().length() - 1));
+    }
+
+    @Test
+    void export_WithGzip_ShouldCompressTheStream() throws Exception {
+        // Arrange
+        doAnswer(invocation -> {
+            Consumer<Feedback> consumer = invocation.getArgument(0);
+            consumer.accept(new Feedback());
+            return 1L;
+        }).when(exportDataUseCase).exportFeedbacks(any());
+        FeedbackDto feedback = new FeedbackDto();
+        feedback.setId("f-1");
+        when(feedbackDtoMapper.toDto(any(Feedback.class))).thenReturn(feedback);
+
+        // Act
+        MvcResult started = mockMvc.perform(get("/api/v1/exports/feedbacks").param("gzip", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn();
+
+        // Assert
+        byte[] body;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            body = in.readAllBytes();
+        }
+        String content = new String(body, StandardCharsets.UTF_8);
+        assertEquals(1, content.lines().count());
+        assertEquals("f-1", objectMapper.readTree(content).get("id").asText());
+    }
+
+    @Test
+    void export_WithUnknownType_ShouldFailBeforeStreaming() {
+        ServletException exception = assertThrows(ServletException.class,
+                () -> mockMvc.perform(get("/api/v1/exports/users")));
+
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        verifyNoInteractions(exportDataUseCase);
+    }
+
+    private static Tutoring tutoring(String id) {
+        Tutoring tutoring = new Tutoring();
+        tutoring.setId(id);
+        tutoring.setStatus(TutoringStatus.Activa);
+        return tutoring;
+    }
+
+    private static TutoringDto dto(String id) {
+        TutoringDto dto = new TutoringDto();
+        dto.setId(id);
+        dto.setStatus(TutoringStatus.Activa);
+        return dto;
+    }
+}
@@ -0,0 +1,123 @@
+package com.pragma.feedbacks.application.service;
+
+import com.pragma.feedbacks.domain.model.PendingFeedback;
+import com.pragma.feedbacks.domain.port.output.FeedbackRepository;
+import com.pragma.notifications.domain.port.output.NotificationSender;
+import com.pragma.shared.config.ReminderProperties;
+import com.pragma.shared.persistence.memory.JobLeaseInMemoryAdapter;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.usuarios.domain.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FeedbackReminderJobTest {
+
+    @Mock
+    private FeedbackRepository feedbackRepository;
+
+    @Mock
+    private NotificationSender notificationSender;
+
+    private ReminderProperties reminderProperties;
+    private JobLeaseInMemoryAdapter leases;
+    private FeedbackReminderJob job;
+    private User tutor;
+    private User tutee;
+
+    @BeforeEach
+    void setUp() {
+        reminderProperties = new ReminderProperties();
+        reminderProperties.setFeedbackBatchSize(2);
+        leases = new JobLeaseInMemoryAdapter();
+        job = new FeedbackReminderJob(feedbackRepository, notificationSender, reminderProperties, leases);
+        tutor = new User();
+        tutor.setId("tutor-id");
+        tutee = new User();
+        tutee.setId("tutee-id");
+    }
+
+    @Test
+    void remindPendingFeedback_ShouldNotifyOnlyMissingParticipantsAcrossBatches() {
+        // Arrange: el primer lote está lleno, así que se pide el siguiente a partir del último id
+        when(feedbackRepository.findActiveTutoringsMissingFeedback("", 2)).thenReturn(List.of(
+                new PendingFeedback(tutoring("t1"), true, true),
+                new PendingFeedback(tutoring("t2"), false, true)));
+        when(feedbackRepository.findActiveTutoringsMissingFeedback("t2", 2)).thenReturn(List.of(
+                new PendingFeedback(tutoring("t3"), true, false)));
+
+        // Act
+        int sent = job.remindPendingFeedback();
+
+        // Assert
+        assertEquals(4, sent);
+        verify(notificationSender, times(2)).send(eq(tutor), anyString());
+        verify(notificationSender, times(2)).send(eq(tutee), anyString());
+        verify(feedbackRepository, times(2)).findActiveTutoringsMissingFeedback(anyString(), anyInt());
+        // El lease se conserva hasta que expira para que otra réplica no repita los recordatorios
+        assertFalse(leases.tryAcquire(FeedbackReminderJob.JOB, "other-replica", Instant.now(), Instant.now().plusSeconds(60)));
+    }
+
+    @Test
+    void remindPendingFeedback_WhenAnotherReplicaHoldsTheLease_ShouldDoNothing() {
+        // Arrange
+        leases.tryAcquire(FeedbackReminderJob.JOB, "other-replica", Instant.now(), Instant.now().plusSeconds(600));
+
+        // Act
+        int sent = job.remindPendingFeedback();
+
+        // Assert
+        assertEquals(0, sent);
+        verifyNoInteractions(feedbackRepository, notificationSender);
+    }
+
+    @Test
+    void remindPendingFeedback_WhenSenderFails_ShouldContinueWithNextReminder() {
+        // Arrange
+        when(feedbackRepository.findActiveTutoringsMissingFeedback("", 2)).thenReturn(List.of(
+                new PendingFeedback(tutoring("t1"), true, true)));
+        doThrow(new IllegalStateException("Slack caído")).when(notificationSender).send(eq(tutor), anyString());
+
+        // Act
+        int sent = job.remindPendingFeedback();
+
+        // Assert
+        assertEquals(1, sent);
+        verify(notificationSender).send(eq(tutee), anyString());
+    }
+
+    @Test
+    void run_WhenRemindersDisabled_ShouldDoNothing() {
+        // Arrange
+        reminderProperties.setEnabled(false);
+
+        // Act
+        job.run();
+
+        // Assert
+        verifyNoInteractions(feedbackRepository);
+        verify(notificationSender, never()).send(any(), anyString());
+    }
+
+    private Tutoring tutoring(String id) {
+        Tutoring tutoring = new Tutoring();
+        tutoring.setId(id);
+        tutoring.setTutor(tutor);
+        tutoring.setTutee(tutee);
+        return tutoring;
+    }
+}
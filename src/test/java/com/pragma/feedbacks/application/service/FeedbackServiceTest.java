@@ -1,7 +1,12 @@
 package com.pragma.feedbacks.application.service;
 
+import com.pragma.feedbacks.domain.event.FeedbackSubmitted;
 import com.pragma.feedbacks.domain.model.Feedback;
+import com.pragma.feedbacks.domain.model.enums.FeedbackKind;
 import com.pragma.feedbacks.domain.port.output.FeedbackRepository;
+import com.pragma.search.domain.model.enums.SearchDocumentType;
+import com.pragma.search.domain.port.input.IndexTextUseCase;
+import com.pragma.shared.events.DomainEventPublisher;
 import com.pragma.tutorings.domain.model.Tutoring;
 import com.pragma.tutorings.domain.port.output.TutoringRepository;
 import com.pragma.usuarios.domain.model.User;
@@ -32,6 +37,12 @@ class FeedbackServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private IndexTextUseCase indexTextUseCase;
+
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+
     @InjectMocks
     private FeedbackService feedbackService;
 
@@ -53,7 +64,7 @@ class FeedbackServiceTest {
         feedback = new Feedback();
         feedback.setEvaluator(evaluator);
         feedback.setTutoring(tutoring);
-        feedback.setScore("5");
+        feedback.setScore(5);
         feedback.setComments("Excelente tutoría");
     }
 
@@ -84,13 +95,34 @@ class FeedbackServiceTest {
         assertEquals("feedback-id", result.getId());
         assertEquals(completeEvaluator, result.getEvaluator());
         assertEquals(completeTutoring, result.getTutoring());
-        assertEquals("5", result.getScore());
+        assertEquals(Integer.valueOf(5), result.getScore());
         assertEquals("Excelente tutoría", result.getComments());
         assertNotNull(result.getEvaluationDate());
+        assertEquals(FeedbackKind.Evaluacion, result.getKind());
         
         verify(tutoringRepository).findById("tutoring-id");
         verify(userRepository).findById("evaluator-id");
         verify(feedbackRepository).save(any(Feedback.class));
+        verify(domainEventPublisher).publish(argThat(event -> event instanceof FeedbackSubmitted submitted
+                && submitted.feedbackId().equals("feedback-id") && submitted.tutoringId().equals("tutoring-id")
+                && submitted.score() == 5));
+        verify(indexTextUseCase).index(SearchDocumentType.FEEDBACK, result.getId(), "Excelente tutoría");
+    }
+
+    @Test
+    void createFeedback_ScoreOutOfRange() {
+        // Arrange
+        feedback.setScore(6);
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            feedbackService.createFeedback(feedback);
+        });
+
+        assertEquals("La puntuación debe estar entre 1 y 5", exception.getMessage());
+        verify(tutoringRepository, never()).findById(anyString());
+        verify(feedbackRepository, never()).save(any(Feedback.class));
+        verifyNoInteractions(domainEventPublisher);
     }
 
     @Test
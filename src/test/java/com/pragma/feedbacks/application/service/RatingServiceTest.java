@@ -0,0 +1,113 @@
+package com.pragma.feedbacks.application.service;
+
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.feedbacks.domain.model.Feedback;
+import com.pragma.feedbacks.domain.model.RatingAggregate;
+import com.pragma.feedbacks.domain.model.enums.FeedbackKind;
+import com.pragma.feedbacks.domain.model.enums.RatingScope;
+import com.pragma.feedbacks.domain.port.output.RatingAggregateRepository;
+import com.pragma.recommendations.domain.port.input.UpdateTutorProfileUseCase;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.usuarios.domain.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RatingServiceTest {
+
+    @Mock
+    private RatingAggregateRepository ratingAggregateRepository;
+
+    @Mock
+    private UpdateTutorProfileUseCase updateTutorProfileUseCase;
+
+    @InjectMocks
+    private RatingService ratingService;
+
+    private User tutor;
+    private User tutee;
+    private Tutoring tutoring;
+
+    @BeforeEach
+    void setUp() {
+        tutor = new User();
+        tutor.setId("tutor-id");
+        tutor.setChapter(new Chapter("chapter-id", "Backend"));
+        tutee = new User();
+        tutee.setId("tutee-id");
+        tutoring = new Tutoring();
+        tutoring.setId("tutoring-id");
+        tutoring.setTutor(tutor);
+        tutoring.setTutee(tutee);
+    }
+
+    @Test
+    void record_TuteeEvaluation_ShouldIncrementTutorAndChapter() {
+        // Act
+        ratingService.record(new Feedback("f1", tutee, new Date(), tutoring, 4, "Bien", FeedbackKind.Evaluacion));
+
+        // Assert
+        verify(ratingAggregateRepository).increment(RatingScope.TUTOR, "tutor-id", 4);
+        verify(ratingAggregateRepository).increment(RatingScope.CHAPTER, "chapter-id", 4);
+        verify(updateTutorProfileUseCase).ratingRecorded("tutor-id", 4);
+    }
+
+    @Test
+    void record_TutorEvaluation_ShouldBeIgnored() {
+        // Act
+        ratingService.record(new Feedback("f1", tutor, new Date(), tutoring, 4, "Bien", FeedbackKind.Evaluacion));
+
+        // Assert
+        verifyNoInteractions(ratingAggregateRepository);
+    }
+
+    @Test
+    void record_CancellationNote_ShouldBeIgnored() {
+        // Act
+        ratingService.record(new Feedback("f1", tutee, new Date(), tutoring, null, "Solicitud de cancelación", FeedbackKind.Cancelacion));
+
+        // Assert
+        verifyNoInteractions(ratingAggregateRepository);
+    }
+
+    @Test
+    void getTutorRatings_ShouldDeriveStatisticsFromTotals() {
+        // Arrange: puntuaciones 5, 3, 4
+        RatingAggregate aggregate = new RatingAggregate(RatingScope.TUTOR, "tutor-id", 3, 12, 50, new long[]{0, 0, 1, 1, 1});
+        when(ratingAggregateRepository.findByScope(RatingScope.TUTOR, "tutor-id")).thenReturn(Optional.of(aggregate));
+
+        // Act
+        RatingAggregate result = ratingService.getTutorRatings("tutor-id");
+
+        // Assert
+        assertEquals(4.0, result.average(), 1e-9);
+        assertEquals(Math.sqrt(2.0 / 3), result.standardDeviation(), 1e-9);
+        assertEquals(Map.of(1, 0L, 2, 0L, 3, 1L, 4, 1L, 5, 1L), result.distribution());
+    }
+
+    @Test
+    void getChapterRatings_WithoutRatings_ShouldReturnEmptyAggregate() {
+        // Arrange
+        when(ratingAggregateRepository.findByScope(RatingScope.CHAPTER, "chapter-id")).thenReturn(Optional.empty());
+
+        // Act
+        RatingAggregate result = ratingService.getChapterRatings("chapter-id");
+
+        // Assert
+        assertEquals(0, result.getCount());
+        assertNull(result.average());
+        assertNull(result.standardDeviation());
+        assertEquals(5, result.distribution().size());
+    }
+}
@@ -55,7 +55,7 @@ class FeedbackControllerTest {
         createFeedbackDto = new CreateFeedbackDto();
         createFeedbackDto.setEvaluatorId("evaluator-id");
         createFeedbackDto.setTutoringId("tutoring-id");
-        createFeedbackDto.setScore("5");
+        createFeedbackDto.setScore(5);
         createFeedbackDto.setComments("Excelente tutoría");
 
         User evaluator = new User();
@@ -71,12 +71,12 @@ class FeedbackControllerTest {
         feedback.setEvaluator(evaluator);
         feedback.setTutoring(tutoring);
         feedback.setEvaluationDate(new Date());
-        feedback.setScore("5");
+        feedback.setScore(5);
         feedback.setComments("Excelente tutoría");
 
         feedbackDto = new FeedbackDto();
         feedbackDto.setId("feedback-id");
-        feedbackDto.setScore("5");
+        feedbackDto.setScore(5);
         feedbackDto.setComments("Excelente tutoría");
         feedbackDto.setEvaluationDate(new Date());
         
@@ -104,7 +104,7 @@ class FeedbackControllerTest {
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.message").value("Feedback creado exitosamente"))
                 .andExpect(jsonPath("$.data.id").value("feedback-id"))
-                .andExpect(jsonPath("$.data.score").value("5"))
+                .andExpect(jsonPath("$.data.score").value(5))
                 .andExpect(jsonPath("$.data.comments").value("Excelente tutoría"));
     }
 
@@ -0,0 +1,64 @@
+package com.pragma.feedbacks.infrastructure.adapter.input.rest;
+
+import com.pragma.feedbacks.domain.model.RatingAggregate;
+import com.pragma.feedbacks.domain.model.enums.RatingScope;
+import com.pragma.feedbacks.domain.port.input.GetRatingSummaryUseCase;
+import com.pragma.feedbacks.infrastructure.adapter.input.rest.mapper.RatingSummaryDtoMapperImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class RatingControllerTest {
+
+    @Mock
+    private GetRatingSummaryUseCase getRatingSummaryUseCase;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        RatingController controller = new RatingController(getRatingSummaryUseCase, new RatingSummaryDtoMapperImpl());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void getTutorRatings_ShouldReturnSummary() throws Exception {
+        // Arrange
+        when(getRatingSummaryUseCase.getTutorRatings("tutor-id")).thenReturn(
+                new RatingAggregate(RatingScope.TUTOR, "tutor-id", 2, 8, 32, new long[]{0, 0, 0, 2, 0}));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/ratings/tutors/tutor-id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Valoraciones del tutor obtenidas exitosamente"))
+                .andExpect(jsonPath("$.data.scope").value("TUTOR"))
+                .andExpect(jsonPath("$.data.count").value(2))
+                .andExpect(jsonPath("$.data.average").value(4.0))
+                .andExpect(jsonPath("$.data.standardDeviation").value(0.0))
+                .andExpect(jsonPath("$.data.distribution.4").value(2));
+    }
+
+    @Test
+    void getChapterRatings_WithoutRatings_ShouldReturnEmptySummary() throws Exception {
+        // Arrange
+        when(getRatingSummaryUseCase.getChapterRatings("chapter-id")).thenReturn(
+                RatingAggregate.empty(RatingScope.CHAPTER, "chapter-id"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/ratings/chapters/chapter-id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.count").value(0))
+                .andExpect(jsonPath("$.data.average").isEmpty())
+                .andExpect(jsonPath("$.data.distribution.5").value(0));
+    }
+}
@@ -0,0 +1,107 @@
+package com.pragma.recommendations.application.service;
+
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.recommendations.domain.model.TutorRecommendation;
+import com.pragma.shared.config.RecommendationProperties;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark de la asignación automática: ranking de candidatos y min-cost flow para
+ * 1.000 solicitudes y 300 tutores. Se ejecuta con {@code mvn test -Pbenchmark}.
+ */
+@Tag("performance")
+class AssignmentSolverBenchmarkTest {
+
+    private static final int REQUESTS = 1_000;
+    private static final int TUTORS = 300;
+    private static final int SKILLS = 60;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private final RecommendationProperties weights = new RecommendationProperties();
+    private final TutorIndex index = new TutorIndex();
+    private final List<User> tutees = new ArrayList<>();
+    private final List<List<String>> requestedSkills = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(42);
+        List<Chapter> chapters = List.of(new Chapter("backend", "Backend"), new Chapter("frontend", "Frontend"),
+                new Chapter("mobile", "Mobile"), new Chapter("data", "Data"));
+        for (int t = 0; t < TUTORS; t++) {
+            String tutorId = "tutor-" + t;
+            index.putUser(new User(tutorId, "Tutor", String.valueOf(t), tutorId + "@pragma.com", null, null,
+                    chapters.get(t % chapters.size()), RolUsuario.Tutor, 3 + random.nextInt(3), 3 + random.nextInt(4)));
+            for (int h = 0; h < 10; h++) {
+                index.putTutoring(tutorId + "-h" + h, tutorId, h == 0, skills(random, 3));
+            }
+            index.setRating(tutorId, 1 + random.nextInt(20), 0);
+            index.addRating(tutorId, 1 + random.nextInt(5));
+        }
+        for (int r = 0; r < REQUESTS; r++) {
+            tutees.add(new User("tutee-" + r, "Tutee", String.valueOf(r), null, null, null,
+                    chapters.get(r % chapters.size()), RolUsuario.Tutorado, 0, 1 + random.nextInt(3)));
+            requestedSkills.add(skills(random, 1 + random.nextInt(3)));
+        }
+    }
+
+    @Test
+    void rankAndSolve_1000RequestsBy300Tutors() {
+        List<AssignmentSolver.Choice> choices = List.of();
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            choices = plan();
+        }
+        long[] samples = new long[MEASURED_ROUNDS];
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            choices = plan();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+
+        Map<String, Long> perTutor = new HashMap<>();
+        choices.forEach(choice -> perTutor.merge(choice.tutorId(), 1L, Long::sum));
+        // Cada tutor tiene entre 2 y 4 cupos libres: unas 900 plazas para 1.000 solicitudes
+        assertTrue(perTutor.values().stream().allMatch(count -> count <= 4));
+        assertTrue(choices.size() > REQUESTS / 2 && choices.size() <= REQUESTS);
+
+        System.out.printf("auto-asignación (%d solicitudes x %d tutores, %d candidatos): %d asignadas, mediana %.1f ms%n",
+                REQUESTS, TUTORS, weights.getAssignmentCandidates(), choices.size(), samples[MEASURED_ROUNDS / 2] / 1e6);
+    }
+
+    private List<AssignmentSolver.Choice> plan() {
+        List<List<AssignmentSolver.Candidate>> candidates = new ArrayList<>(REQUESTS);
+        Map<String, Integer> freeCapacity = new HashMap<>();
+        for (int r = 0; r < REQUESTS; r++) {
+            List<AssignmentSolver.Candidate> ranked = new ArrayList<>();
+            for (TutorRecommendation recommendation : index.rank(tutees.get(r), requestedSkills.get(r),
+                    weights.getAssignmentCandidates(), weights)) {
+                ranked.add(new AssignmentSolver.Candidate(recommendation.getTutorId(), recommendation.getScore()));
+                freeCapacity.put(recommendation.getTutorId(), recommendation.getRemainingCapacity());
+            }
+            candidates.add(ranked);
+        }
+        return AssignmentSolver.solve(candidates, freeCapacity);
+    }
+
+    private static List<String> skills(Random random, int count) {
+        List<String> skills = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            skills.add("skill-" + random.nextInt(SKILLS));
+        }
+        return skills;
+    }
+}
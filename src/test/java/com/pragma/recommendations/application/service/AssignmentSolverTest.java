@@ -0,0 +1,49 @@
+package com.pragma.recommendations.application.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssignmentSolverTest {
+
+    @Test
+    void solve_ShouldPreferTheGlobalOptimumOverTheGreedyChoice() {
+        // Una asignación voraz daría A a la primera solicitud y dejaría la segunda sin tutor
+        List<List<AssignmentSolver.Candidate>> candidates = List.of(
+                List.of(new AssignmentSolver.Candidate("A", 0.9), new AssignmentSolver.Candidate("B", 0.8)),
+                List.of(new AssignmentSolver.Candidate("A", 0.85)));
+
+        List<AssignmentSolver.Choice> choices = AssignmentSolver.solve(candidates, Map.of("A", 1, "B", 1));
+
+        assertEquals(List.of(new AssignmentSolver.Choice(0, "B", 0.8), new AssignmentSolver.Choice(1, "A", 0.85)), choices);
+    }
+
+    @Test
+    void solve_ShouldRespectCapacityAndMaximizeTotalScore() {
+        List<List<AssignmentSolver.Candidate>> candidates = List.of(
+                List.of(new AssignmentSolver.Candidate("A", 0.5), new AssignmentSolver.Candidate("B", 0.4)),
+                List.of(new AssignmentSolver.Candidate("A", 0.9), new AssignmentSolver.Candidate("B", 0.3)),
+                List.of(new AssignmentSolver.Candidate("A", 0.7)));
+
+        List<AssignmentSolver.Choice> choices = AssignmentSolver.solve(candidates, Map.of("A", 2, "B", 1));
+
+        assertEquals(3, choices.size());
+        assertEquals(2, choices.stream().filter(choice -> choice.tutorId().equals("A")).count());
+        assertEquals(List.of("B", "A", "A"), choices.stream().map(AssignmentSolver.Choice::tutorId).toList());
+    }
+
+    @Test
+    void solve_WithoutCapacityOrCandidates_ShouldLeaveRequestsUnassigned() {
+        List<List<AssignmentSolver.Candidate>> candidates = List.of(
+                List.of(new AssignmentSolver.Candidate("A", 0.9)),
+                List.of(),
+                List.of(new AssignmentSolver.Candidate("C", 0.9)));
+
+        List<AssignmentSolver.Choice> choices = AssignmentSolver.solve(candidates, Map.of("A", 1, "C", 0));
+
+        assertEquals(List.of(new AssignmentSolver.Choice(0, "A", 0.9)), choices);
+    }
+}
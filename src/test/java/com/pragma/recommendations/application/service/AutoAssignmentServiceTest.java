@@ -0,0 +1,104 @@
+package com.pragma.recommendations.application.service;
+
+import com.pragma.recommendations.domain.model.AssignmentPlan;
+import com.pragma.recommendations.domain.model.TutorRecommendation;
+import com.pragma.shared.config.RecommendationProperties;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.port.input.CreateTutoringUseCase;
+import com.pragma.tutorings_requests.domain.model.TutoringRequest;
+import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import com.pragma.tutorings_requests.domain.port.output.TutoringRequestRepository;
+import com.pragma.usuarios.domain.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AutoAssignmentServiceTest {
+
+    @Mock
+    private TutoringRequestRepository tutoringRequestRepository;
+
+    @Mock
+    private RecommendationService recommendationService;
+
+    @Mock
+    private CreateTutoringUseCase createTutoringUseCase;
+
+    private AutoAssignmentService autoAssignmentService;
+    private TutoringRequest older;
+    private TutoringRequest newer;
+
+    @BeforeEach
+    void setUp() {
+        autoAssignmentService = new AutoAssignmentService(tutoringRequestRepository, recommendationService,
+                createTutoringUseCase, new RecommendationProperties());
+        older = request("r1", 1_000L, "Aprender Java");
+        newer = request("r2", 2_000L, "Aprender Spring");
+        when(tutoringRequestRepository.findWithFilters(null, null, RequestStatus.Conversando, null))
+                .thenReturn(List.of(newer, older));
+        // Un solo cupo para el tutor A: el plan debe darle la solicitud que no tiene alternativa
+        when(recommendationService.rankCandidates(older, 25)).thenReturn(List.of(
+                recommendation("A", 0.9, 1), recommendation("B", 0.6, 2)));
+        when(recommendationService.rankCandidates(newer, 25)).thenReturn(List.of(recommendation("A", 0.8, 1)));
+    }
+
+    @Test
+    void planAssignments_DryRun_ShouldNotCreateTutorings() {
+        // Act
+        AssignmentPlan plan = autoAssignmentService.planAssignments();
+
+        // Assert
+        assertTrue(plan.isDryRun());
+        assertEquals(List.of("r1", "r2"), plan.getAssignments().stream().map(assignment -> assignment.getRequestId()).toList());
+        assertEquals(List.of("B", "A"), plan.getAssignments().stream().map(assignment -> assignment.getTutorId()).toList());
+        assertEquals(1.4, plan.getTotalScore(), 1e-9);
+        assertTrue(plan.getUnassignedRequestIds().isEmpty());
+        verify(createTutoringUseCase, never()).createTutoring(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void applyAssignments_ShouldCreateEveryTutoringOfThePlan() {
+        // Arrange
+        when(createTutoringUseCase.createTutoring("r1", "B", "Aprender Java")).thenReturn(tutoring("t1"));
+        when(createTutoringUseCase.createTutoring("r2", "A", "Aprender Spring")).thenReturn(tutoring("t2"));
+
+        // Act
+        AssignmentPlan plan = autoAssignmentService.applyAssignments();
+
+        // Assert
+        assertFalse(plan.isDryRun());
+        assertEquals(List.of("t1", "t2"), plan.getAssignments().stream().map(assignment -> assignment.getTutoringId()).toList());
+        verify(createTutoringUseCase).createTutoring("r1", "B", "Aprender Java");
+        verify(createTutoringUseCase).createTutoring("r2", "A", "Aprender Spring");
+    }
+
+    private static TutoringRequest request(String id, long requestedAt, String needs) {
+        User tutee = new User();
+        tutee.setId("tutee-" + id);
+        return new TutoringRequest(id, tutee, List.of(), needs, new Date(requestedAt), RequestStatus.Conversando,
+                null, new Date(requestedAt), new Date(requestedAt));
+    }
+
+    private static TutorRecommendation recommendation(String tutorId, double score, int remainingCapacity) {
+        return new TutorRecommendation(tutorId, tutorId, "Tutor", tutorId + "@pragma.com", "backend", score,
+                0, 0, true, 2, 0, remainingCapacity, null, 0);
+    }
+
+    private static Tutoring tutoring(String id) {
+        Tutoring tutoring = new Tutoring();
+        tutoring.setId(id);
+        return tutoring;
+    }
+}
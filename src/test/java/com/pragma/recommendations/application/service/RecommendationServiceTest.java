@@ -0,0 +1,148 @@
+package com.pragma.recommendations.application.service;
+
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.feedbacks.domain.model.RatingAggregate;
+import com.pragma.feedbacks.domain.model.enums.RatingScope;
+import com.pragma.feedbacks.domain.port.output.RatingAggregateRepository;
+import com.pragma.recommendations.domain.model.TutorRecommendation;
+import com.pragma.recommendations.domain.model.TutoringSkills;
+import com.pragma.recommendations.domain.port.output.TutorProfileSourceRepository;
+import com.pragma.shared.config.RecommendationProperties;
+import com.pragma.skills.domain.model.Skill;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings_requests.domain.model.TutoringRequest;
+import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import com.pragma.tutorings_requests.domain.port.output.TutoringRequestRepository;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.domain.port.output.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecommendationServiceTest {
+
+    @Mock
+    private TutoringRequestRepository tutoringRequestRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RatingAggregateRepository ratingAggregateRepository;
+
+    @Mock
+    private TutorProfileSourceRepository tutorProfileSourceRepository;
+
+    private RecommendationService recommendationService;
+    private final Chapter chapter = new Chapter("backend", "Backend");
+    private User tutee;
+    private User tutor;
+    private TutoringRequest request;
+
+    @BeforeEach
+    void setUp() {
+        recommendationService = new RecommendationService(tutoringRequestRepository, userRepository,
+                ratingAggregateRepository, tutorProfileSourceRepository, new RecommendationProperties(), new TutorIndex());
+        tutee = new User("tutee-id", "Ana", "Tutee", "tutee@pragma.com", "g-tutee", null, chapter, RolUsuario.Tutorado, 0, 1);
+        tutor = new User("tutor-id", "Juan", "Tutor", "tutor@pragma.com", "g-tutor", null, chapter, RolUsuario.Tutor, 2, 3);
+        request = new TutoringRequest("request-id", tutee, List.of(new Skill("java", "Java")), "Necesito Java",
+                new Date(), RequestStatus.Conversando, null, new Date(), new Date());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void rebuild_ShouldLoadUsersTutoringsInBatchesAndRatings() {
+        // Arrange: un lote completo obliga a pedir el siguiente
+        List<TutoringSkills> fullBatch = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            fullBatch.add(new TutoringSkills(String.format("t%03d", i), "other-id", TutoringStatus.Completada, List.of("react")));
+        }
+        when(userRepository.findAll()).thenReturn(List.of(tutee, tutor));
+        when(tutorProfileSourceRepository.findTutoringSkills(anyString(), anyInt())).thenReturn(List.of());
+        when(tutorProfileSourceRepository.findTutoringSkills("", 500)).thenReturn(fullBatch);
+        when(tutorProfileSourceRepository.findTutoringSkills("t499", 500)).thenReturn(
+                List.of(new TutoringSkills("t500", "tutor-id", TutoringStatus.Activa, List.of("java"))));
+        when(ratingAggregateRepository.findAllByScope(RatingScope.TUTOR)).thenReturn(
+                List.of(new RatingAggregate(RatingScope.TUTOR, "tutor-id", 2, 9, 41, new long[]{0, 0, 0, 1, 1})));
+        when(tutoringRequestRepository.findById("request-id")).thenReturn(Optional.of(request));
+
+        // Act
+        int tutors = recommendationService.rebuild();
+        List<TutorRecommendation> recommendations = recommendationService.recommendTutors("request-id", 10);
+
+        // Assert
+        assertEquals(1, tutors);
+        assertEquals(1, recommendations.size());
+        TutorRecommendation recommendation = recommendations.get(0);
+        assertEquals("tutor-id", recommendation.getTutorId());
+        assertEquals(1, recommendation.getMatchedSkills());
+        assertEquals(1, recommendation.getActiveTutorings());
+        assertEquals(4.5, recommendation.getAverageRating());
+    }
+
+    @Test
+    void tutoringSaved_InsideTransaction_ShouldWaitForCommit() {
+        // Arrange
+        when(tutoringRequestRepository.findById("request-id")).thenReturn(Optional.of(request));
+        recommendationService.userSaved(tutor);
+        Tutoring tutoring = new Tutoring("t1", tutor, tutee, List.of(new Skill("java", "Java")), new Date(), new Date(),
+                TutoringStatus.Completada, "Objetivos", null, new Date(), new Date());
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        recommendationService.tutoringSaved(tutoring);
+
+        // Assert
+        assertEquals(0, recommendationService.recommendTutors("request-id", 5).get(0).getMatchedSkills());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, recommendationService.recommendTutors("request-id", 5).get(0).getMatchedSkills());
+    }
+
+    @Test
+    void recommendTutors_WithRequestNotApprovedOrConversing_ShouldThrow() {
+        // Arrange
+        request.setRequestStatus(RequestStatus.Asignada);
+        when(tutoringRequestRepository.findById("request-id")).thenReturn(Optional.of(request));
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> recommendationService.recommendTutors("request-id", 10));
+        assertEquals("Solo se pueden recomendar tutores para solicitudes en estado Aprobada o Conversando", exception.getMessage());
+    }
+
+    @Test
+    void recommendTutors_WithUnknownRequestOrInvalidLimit_ShouldThrow() {
+        when(tutoringRequestRepository.findById("missing")).thenReturn(Optional.empty());
+
+        IllegalArgumentException missing = assertThrows(IllegalArgumentException.class,
+                () -> recommendationService.recommendTutors("missing", 10));
+        assertEquals("La solicitud de tutoría no existe", missing.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> recommendationService.recommendTutors("request-id", 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> recommendationService.recommendTutors("request-id", RecommendationService.MAX_LIMIT + 1));
+    }
+}
@@ -0,0 +1,162 @@
+package com.pragma.recommendations.application.service;
+
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.recommendations.domain.model.TutorRecommendation;
+import com.pragma.shared.config.RecommendationProperties;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TutorIndexTest {
+
+    private final RecommendationProperties weights = new RecommendationProperties();
+    private final Chapter backend = new Chapter("backend", "Backend");
+    private final Chapter frontend = new Chapter("frontend", "Frontend");
+    private TutorIndex index;
+    private User tutee;
+
+    @BeforeEach
+    void setUp() {
+        index = new TutorIndex();
+        tutee = user("tutee", RolUsuario.Tutorado, backend, 0, 1);
+        index.putUser(tutee);
+    }
+
+    @Test
+    void rank_ShouldPreferTutorsWhoTutoredTheRequestedSkills() {
+        index.putUser(user("java-tutor", RolUsuario.Tutor, backend, 3, 3));
+        index.putUser(user("other-tutor", RolUsuario.Tutor, backend, 3, 3));
+        index.putTutoring("t1", "java-tutor", false, List.of("java", "spring"));
+        index.putTutoring("t2", "other-tutor", false, List.of("react"));
+
+        List<TutorRecommendation> ranked = index.rank(tutee, List.of("java", "spring", "docker"), 10, weights);
+
+        assertEquals(List.of("java-tutor", "other-tutor"), ranked.stream().map(TutorRecommendation::getTutorId).toList());
+        assertEquals(2, ranked.get(0).getMatchedSkills());
+        assertEquals(3, ranked.get(0).getRequestedSkills());
+        assertEquals(0, ranked.get(1).getMatchedSkills());
+    }
+
+    @Test
+    void rank_ShouldSkipTutorsWithoutCapacityNonTutorsAndTheTutee() {
+        index.putUser(user("full-tutor", RolUsuario.Tutor, backend, 1, 3));
+        index.putUser(user("free-tutor", RolUsuario.Tutor, backend, 2, 3));
+        index.putUser(user("another-tutee", RolUsuario.Tutorado, backend, 5, 3));
+        index.putTutoring("t1", "full-tutor", true, List.of("java"));
+        index.putTutoring("t2", "free-tutor", true, List.of("java"));
+
+        List<TutorRecommendation> ranked = index.rank(tutee, List.of("java"), 10, weights);
+
+        assertEquals(1, ranked.size());
+        assertEquals("free-tutor", ranked.get(0).getTutorId());
+        assertEquals(1, ranked.get(0).getActiveTutorings());
+        assertEquals(1, ranked.get(0).getRemainingCapacity());
+    }
+
+    @Test
+    void putTutoring_WhenNoLongerActive_ShouldReleaseCapacityButKeepSkills() {
+        index.putUser(user("tutor", RolUsuario.Tutor, backend, 1, 3));
+        index.putTutoring("t1", "tutor", true, List.of("java"));
+        assertTrue(index.rank(tutee, List.of("java"), 10, weights).isEmpty());
+
+        index.putTutoring("t1", "tutor", false, List.of("java"));
+
+        TutorRecommendation recommendation = index.rank(tutee, List.of("java"), 10, weights).get(0);
+        assertEquals(1, recommendation.getMatchedSkills());
+        assertEquals(1, recommendation.getRemainingCapacity());
+    }
+
+    @Test
+    void putTutoring_WhenSkillsChangeOrTutorChanges_ShouldReplacePreviousSkills() {
+        index.putUser(user("tutor", RolUsuario.Tutor, backend, 3, 3));
+        index.putUser(user("new-tutor", RolUsuario.Tutor, backend, 3, 3));
+        index.putTutoring("t1", "tutor", false, List.of("java", "spring"));
+        index.putTutoring("t2", "tutor", false, List.of("java"));
+
+        // Se quita "spring" de t1: "java" sigue en t2
+        index.putTutoring("t1", "tutor", false, List.of("java"));
+        assertEquals(1, matched(index.rank(tutee, List.of("java", "spring"), 10, weights), "tutor"));
+
+        // t2 pasa a otro tutor y se lleva su habilidad; t1 aún la aporta al tutor original
+        index.putTutoring("t2", "new-tutor", false, List.of("java"));
+        index.putTutoring("t1", "tutor", false, List.of());
+        List<TutorRecommendation> ranked = index.rank(tutee, List.of("java"), 10, weights);
+        assertEquals(0, matched(ranked, "tutor"));
+        assertEquals(1, matched(ranked, "new-tutor"));
+    }
+
+    @Test
+    void rebuild_ShouldSwapInTheFreshIndexKeepingWritesMadeWhileLoading() {
+        index.putUser(user("stale-tutor", RolUsuario.Tutor, backend, 3, 3));
+
+        index.rebuild(fresh -> {
+            fresh.putUser(user("tutor", RolUsuario.Tutor, backend, 3, 3));
+            // Mientras se carga se sigue respondiendo con el índice anterior
+            assertEquals(1, index.size());
+            index.putTutoring("t1", "tutor", false, List.of("java"));
+        });
+
+        List<TutorRecommendation> ranked = index.rank(tutee, List.of("java"), 10, weights);
+        assertEquals(List.of("tutor"), ranked.stream().map(TutorRecommendation::getTutorId).toList());
+        assertEquals(1, ranked.get(0).getMatchedSkills());
+    }
+
+    @Test
+    void rebuild_WhenLoadingFails_ShouldKeepThePreviousIndex() {
+        index.putUser(user("tutor", RolUsuario.Tutor, backend, 3, 3));
+
+        assertThrows(IllegalStateException.class, () -> index.rebuild(fresh -> {
+            throw new IllegalStateException("Base de datos no disponible");
+        }));
+
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void rank_WithEqualSkills_ShouldUseChapterSeniorityAndRatings() {
+        index.putUser(user("same-chapter", RolUsuario.Tutor, backend, 3, 3));
+        index.putUser(user("other-chapter", RolUsuario.Tutor, frontend, 3, 3));
+        index.putUser(user("well-rated", RolUsuario.Tutor, frontend, 3, 3));
+        index.setRating("well-rated", 4, 20);
+        index.addRating("well-rated", 5);
+
+        List<TutorRecommendation> ranked = index.rank(tutee, List.of(), 10, weights);
+
+        assertEquals(List.of("same-chapter", "well-rated", "other-chapter"),
+                ranked.stream().map(TutorRecommendation::getTutorId).toList());
+        assertTrue(ranked.get(0).isSameChapter());
+        assertEquals(2, ranked.get(0).getSeniorityGap());
+        assertEquals(5.0, ranked.get(1).getAverageRating());
+        assertEquals(5, ranked.get(1).getRatingCount());
+        assertNull(ranked.get(2).getAverageRating());
+    }
+
+    @Test
+    void rank_ShouldReturnOnlyTheBestLimitTutors() {
+        for (int i = 0; i < 20; i++) {
+            index.putUser(user("tutor-" + i, RolUsuario.Tutor, backend, 20, 3));
+            for (int active = 0; active < i; active++) {
+                index.putTutoring("t-" + i + "-" + active, "tutor-" + i, true, List.of());
+            }
+        }
+
+        List<TutorRecommendation> ranked = index.rank(tutee, List.of("java"), 3, weights);
+
+        assertEquals(List.of("tutor-0", "tutor-1", "tutor-2"), ranked.stream().map(TutorRecommendation::getTutorId).toList());
+        assertTrue(ranked.get(0).getScore() > ranked.get(1).getScore());
+    }
+
+    private static int matched(List<TutorRecommendation> ranked, String tutorId) {
+        return ranked.stream().filter(recommendation -> recommendation.getTutorId().equals(tutorId))
+                .findFirst().orElseThrow().getMatchedSkills();
+    }
+
+    private static User user(String id, RolUsuario rol, Chapter chapter, int limit, int seniority) {
+        return new User(id, id, "Apellido", id + "@pragma.com", "google-" + id, null, chapter, rol, limit, seniority);
+    }
+}
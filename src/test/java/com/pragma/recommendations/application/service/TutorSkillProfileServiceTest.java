@@ -0,0 +1,153 @@
+package com.pragma.recommendations.application.service;
+
+import com.pragma.recommendations.domain.model.TutorSkillProfile;
+import com.pragma.recommendations.domain.port.output.TutorProfileSourceRepository;
+import com.pragma.recommendations.domain.port.output.TutorSkillProfileRepository;
+import com.pragma.skills.domain.model.Skill;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.usuarios.domain.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TutorSkillProfileServiceTest {
+
+    @Mock
+    private TutorSkillProfileRepository tutorSkillProfileRepository;
+
+    @Mock
+    private TutorProfileSourceRepository tutorProfileSourceRepository;
+
+    private TutorSkillProfileService tutorSkillProfileService;
+
+    @BeforeEach
+    void setUp() {
+        tutorSkillProfileService = new TutorSkillProfileService(tutorSkillProfileRepository, tutorProfileSourceRepository,
+                new SkillTutorIndex());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void tutoringCreatedAndCompleted_ShouldIncrementEachSkillAndUpdateTheIndexAfterCommit() {
+        // Arrange
+        Tutoring tutoring = tutoring("tutor-1", new Date(1_000L), new Date(5_000L), "java", "spring");
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        tutorSkillProfileService.tutoringCreated(tutoring);
+        tutorSkillProfileService.tutoringCompleted(tutoring);
+
+        // Assert
+        verify(tutorSkillProfileRepository).increment("tutor-1", "java", 1, 0, new Date(1_000L));
+        verify(tutorSkillProfileRepository).increment("tutor-1", "spring", 0, 1, new Date(5_000L));
+        assertTrue(tutorSkillProfileService.findTutorsBySkill("java", 10).isEmpty());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(List.of(new TutorSkillProfile("tutor-1", "java", 1, 1, new Date(5_000L))),
+                tutorSkillProfileService.findTutorsBySkill("java", 10));
+    }
+
+    @Test
+    void findTutorsBySkill_ShouldRankByCompletedThenTutoringsThenRecency() {
+        // Arrange
+        tutorSkillProfileService.tutoringCreated(tutoring("novice", new Date(9_000L), null, "java"));
+        tutorSkillProfileService.tutoringCreated(tutoring("busy", new Date(1_000L), null, "java"));
+        tutorSkillProfileService.tutoringCreated(tutoring("busy", new Date(2_000L), null, "java"));
+        tutorSkillProfileService.tutoringCreated(tutoring("recent", new Date(8_000L), null, "java"));
+        Tutoring completed = tutoring("expert", new Date(1_000L), new Date(3_000L), "java", "react");
+        tutorSkillProfileService.tutoringCreated(completed);
+        tutorSkillProfileService.tutoringCompleted(completed);
+
+        // Act
+        List<TutorSkillProfile> tutors = tutorSkillProfileService.findTutorsBySkill("java", 3);
+
+        // Assert
+        assertEquals(List.of("expert", "busy", "novice"), tutors.stream().map(TutorSkillProfile::getTutorId).toList());
+        assertEquals(2, tutors.get(1).getTutoringCount());
+        assertEquals(List.of("expert"), tutorSkillProfileService.findTutorsBySkill("react", 10).stream()
+                .map(TutorSkillProfile::getTutorId).toList());
+        assertTrue(tutorSkillProfileService.findTutorsBySkill("quarkus", 10).isEmpty());
+    }
+
+    @Test
+    void findTutorsBySkill_WithLimitOutOfRange_ShouldThrow() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> tutorSkillProfileService.findTutorsBySkill("java", 0));
+
+        assertEquals("El límite debe estar entre 1 y 100", exception.getMessage());
+    }
+
+    @Test
+    void rebuild_WithEmptyProfiles_ShouldSeedFromHistoryAndLoadInBatches() {
+        // Arrange: un lote completo obliga a pedir el siguiente
+        List<TutorSkillProfile> fullBatch = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            fullBatch.add(new TutorSkillProfile(String.format("tutor-%03d", i), "java", 1, 0, new Date(i)));
+        }
+        List<TutorSkillProfile> history = List.of(new TutorSkillProfile("tutor-x", "go", 2, 1, new Date()));
+        when(tutorSkillProfileRepository.count()).thenReturn(0L);
+        when(tutorProfileSourceRepository.aggregateSkillHistory()).thenReturn(history);
+        when(tutorSkillProfileRepository.findAfter("", 500)).thenReturn(fullBatch);
+        when(tutorSkillProfileRepository.findAfter("tutor-499:java", 500)).thenReturn(history);
+
+        // Act
+        int loaded = tutorSkillProfileService.rebuild();
+
+        // Assert
+        assertEquals(501, loaded);
+        verify(tutorSkillProfileRepository).saveAll(history);
+        assertEquals("tutor-x", tutorSkillProfileService.findTutorsBySkill("go", 1).get(0).getTutorId());
+    }
+
+    @Test
+    void rebuild_WithExistingProfiles_ShouldNotReadHistory() {
+        // Arrange
+        when(tutorSkillProfileRepository.count()).thenReturn(3L);
+        when(tutorSkillProfileRepository.findAfter("", 500)).thenReturn(List.of());
+
+        // Act
+        tutorSkillProfileService.rebuild();
+
+        // Assert
+        verify(tutorProfileSourceRepository, never()).aggregateSkillHistory();
+        verify(tutorSkillProfileRepository, never()).saveAll(any());
+    }
+
+    private static Tutoring tutoring(String tutorId, Date createdAt, Date updatedAt, String... skillIds) {
+        User tutor = new User();
+        tutor.setId(tutorId);
+        Tutoring tutoring = new Tutoring();
+        tutoring.setTutor(tutor);
+        tutoring.setStatus(TutoringStatus.Activa);
+        tutoring.setCreatedAt(createdAt);
+        tutoring.setUpdatedAt(updatedAt);
+        List<Skill> skills = new ArrayList<>();
+        for (String skillId : skillIds) {
+            skills.add(new Skill(skillId, skillId));
+        }
+        tutoring.setSkills(skills);
+        return tutoring;
+    }
+}
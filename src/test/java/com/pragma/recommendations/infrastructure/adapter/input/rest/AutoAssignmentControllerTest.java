@@ -0,0 +1,82 @@
+package com.pragma.recommendations.infrastructure.adapter.input.rest;
+
+import com.pragma.recommendations.domain.model.AssignmentPlan;
+import com.pragma.recommendations.domain.model.PlannedAssignment;
+import com.pragma.recommendations.domain.port.input.PlanAssignmentsUseCase;
+import com.pragma.recommendations.infrastructure.adapter.input.rest.mapper.AssignmentPlanDtoMapperImpl;
+import com.pragma.shared.context.TestUserContextHelper;
+import com.pragma.shared.exception.GlobalExceptionHandler;
+import com.pragma.shared.service.MessageService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class AutoAssignmentControllerTest {
+
+    @Mock
+    private PlanAssignmentsUseCase planAssignmentsUseCase;
+
+    @Mock
+    private MessageService messageService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        AutoAssignmentController controller = new AutoAssignmentController(planAssignmentsUseCase,
+                new AssignmentPlanDtoMapperImpl());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler(messageService))
+                .build();
+        TestUserContextHelper.setTestUserContext();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestUserContextHelper.clearUserContext();
+    }
+
+    @Test
+    void planAssignments_ByDefault_ShouldOnlyComputeThePlan() throws Exception {
+        // Arrange
+        when(planAssignmentsUseCase.planAssignments()).thenReturn(new AssignmentPlan(true,
+                List.of(new PlannedAssignment("r1", "tutee-1", "tutor-1", 0.75, null)), List.of("r2"), 0.75));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/tutoring-requests/auto-assignment"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Plan de asignación calculado exitosamente"))
+                .andExpect(jsonPath("$.data.dryRun").value(true))
+                .andExpect(jsonPath("$.data.assignments[0].tutorId").value("tutor-1"))
+                .andExpect(jsonPath("$.data.unassignedRequestIds[0]").value("r2"));
+        verify(planAssignmentsUseCase, never()).applyAssignments();
+    }
+
+    @Test
+    void planAssignments_WithoutDryRun_ShouldReturnCreatedTutorings() throws Exception {
+        // Arrange
+        when(planAssignmentsUseCase.applyAssignments()).thenReturn(new AssignmentPlan(false,
+                List.of(new PlannedAssignment("r1", "tutee-1", "tutor-1", 0.75, "t1")), List.of(), 0.75));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/tutoring-requests/auto-assignment").param("dryRun", "false"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.message").value("Plan de asignación aplicado exitosamente"))
+                .andExpect(jsonPath("$.data.assignments[0].tutoringId").value("t1"));
+    }
+}
@@ -0,0 +1,89 @@
+package com.pragma.recommendations.infrastructure.adapter.input.rest;
+
+import com.pragma.recommendations.domain.model.TutorRecommendation;
+import com.pragma.recommendations.domain.port.input.RecommendTutorsUseCase;
+import com.pragma.recommendations.infrastructure.adapter.input.rest.mapper.TutorRecommendationDtoMapperImpl;
+import com.pragma.shared.context.TestUserContextHelper;
+import com.pragma.shared.context.UserContext;
+import com.pragma.shared.context.UserContextHelper;
+import com.pragma.shared.exception.GlobalExceptionHandler;
+import com.pragma.shared.service.MessageService;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class TutorRecommendationControllerTest {
+
+    @Mock
+    private RecommendTutorsUseCase recommendTutorsUseCase;
+
+    @Mock
+    private MessageService messageService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        TutorRecommendationController controller = new TutorRecommendationController(recommendTutorsUseCase,
+                new TutorRecommendationDtoMapperImpl());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler(messageService))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestUserContextHelper.clearUserContext();
+    }
+
+    @Test
+    void recommendTutors_AsAdmin_ShouldReturnRanking() throws Exception {
+        // Arrange
+        TestUserContextHelper.setTestUserContext();
+        when(recommendTutorsUseCase.recommendTutors("request-id", 5)).thenReturn(List.of(
+                new TutorRecommendation("tutor-id", "Juan", "Tutor", "tutor@pragma.com", "backend", 0.82,
+                        2, 2, true, 2, 1, 2, 4.5, 6)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/tutoring-requests/request-id/recommendations").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Tutores recomendados obtenidos exitosamente"))
+                .andExpect(jsonPath("$.data[0].tutorId").value("tutor-id"))
+                .andExpect(jsonPath("$.data[0].score").value(0.82))
+                .andExpect(jsonPath("$.data[0].matchedSkills").value(2))
+                .andExpect(jsonPath("$.data[0].remainingCapacity").value(2));
+    }
+
+    @Test
+    void recommendTutors_AsNonAdmin_ShouldBeForbidden() throws Exception {
+        // Arrange
+        User tutee = TestUserContextHelper.createTestUser();
+        tutee.setRol(RolUsuario.Tutorado);
+        UserContext.setCurrentUser(tutee);
+        UserContextHelper.setMessageServiceForTesting(messageService);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/tutoring-requests/request-id/recommendations"))
+                .andExpect(status().isForbidden());
+        verify(recommendTutorsUseCase, never()).recommendTutors(anyString(), anyInt());
+    }
+}
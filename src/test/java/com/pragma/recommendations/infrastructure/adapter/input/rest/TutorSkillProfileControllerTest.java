@@ -0,0 +1,77 @@
+package com.pragma.recommendations.infrastructure.adapter.input.rest;
+
+import com.pragma.recommendations.domain.model.TutorSkillProfile;
+import com.pragma.recommendations.domain.port.input.FindTutorsBySkillUseCase;
+import com.pragma.recommendations.infrastructure.adapter.input.rest.mapper.TutorSkillProfileDtoMapperImpl;
+import com.pragma.shared.context.TestUserContextHelper;
+import com.pragma.shared.exception.GlobalExceptionHandler;
+import com.pragma.shared.service.MessageService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class TutorSkillProfileControllerTest {
+
+    @Mock
+    private FindTutorsBySkillUseCase findTutorsBySkillUseCase;
+
+    @Mock
+    private MessageService messageService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        TutorSkillProfileController controller = new TutorSkillProfileController(findTutorsBySkillUseCase,
+                new TutorSkillProfileDtoMapperImpl());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler(messageService))
+                .build();
+        TestUserContextHelper.setTestUserContext();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestUserContextHelper.clearUserContext();
+    }
+
+    @Test
+    void findTutorsBySkill_ShouldReturnTutorsWhoTaughtIt() throws Exception {
+        // Arrange
+        when(findTutorsBySkillUseCase.findTutorsBySkill("quarkus", 5))
+                .thenReturn(List.of(new TutorSkillProfile("tutor-1", "quarkus", 4, 3, new Date())));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/skills/quarkus/tutors").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Tutores de la habilidad obtenidos exitosamente"))
+                .andExpect(jsonPath("$.data[0].tutorId").value("tutor-1"))
+                .andExpect(jsonPath("$.data[0].tutoringCount").value(4))
+                .andExpect(jsonPath("$.data[0].completedCount").value(3));
+    }
+
+    @Test
+    void findTutorsBySkill_WithInvalidLimit_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        when(findTutorsBySkillUseCase.findTutorsBySkill("quarkus", 500))
+                .thenThrow(new IllegalArgumentException("El límite debe estar entre 1 y 100"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/skills/quarkus/tutors").param("limit", "500"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,105 @@
+package com.pragma.search.application.service;
+
+import com.pragma.search.domain.model.SearchHit;
+import com.pragma.search.domain.model.enums.SearchDocumentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex(new TextAnalyzer());
+    }
+
+    @Test
+    void analyzer_ShouldFoldAccentsAndDropStopWords() {
+        List<TextAnalyzer.Token> tokens = new TextAnalyzer().tokenize("La Tutoría de Programación");
+
+        assertEquals(List.of("tutori", "programacion"), tokens.stream().map(TextAnalyzer.Token::term).toList());
+        assertEquals(3, tokens.get(0).start());
+        assertEquals(10, tokens.get(0).end());
+    }
+
+    @Test
+    void analyzer_ShouldReducePluralAndGenderEndingsToTheSameStem() {
+        TextAnalyzer analyzer = new TextAnalyzer();
+
+        assertEquals(List.of("programador", "programador", "programador"),
+                analyzer.terms("programadores programadora programador"));
+        assertEquals(List.of("luz", "luz", "mes", "mes"), analyzer.terms("luces luz meses mes"));
+        // Las palabras cortas y las que tienen dígitos no se recortan
+        assertEquals(List.of("java", "apis", "java8s"), analyzer.terms("Java APIs java8s"));
+    }
+
+    @Test
+    void search_ShouldMatchOtherInflectionsOfTheSameWord() {
+        index.put(SearchDocumentType.TUTORING_REQUEST, "r1", "Busco tutoras con experiencia en microservicios");
+
+        assertEquals(1, index.search("tutor microservicio", Set.of(), 0, 10).total());
+    }
+
+    @Test
+    void search_ShouldMatchRegardlessOfAccentsCaseAndPlural() {
+        index.put(SearchDocumentType.FEEDBACK, "f1", "Las tutorías de Java fueron muy útiles");
+
+        assertEquals(1, index.search("TUTORIA util", Set.of(), 0, 10).total());
+        assertEquals(0, index.search("python", Set.of(), 0, 10).total());
+    }
+
+    @Test
+    void search_ShouldRankDocumentsMatchingMoreTermsFirst() {
+        index.put(SearchDocumentType.TUTORING, "t1", "Aprender Spring Boot y bases de datos");
+        index.put(SearchDocumentType.TUTORING, "t2", "Aprender Spring Boot con arquitectura hexagonal");
+        index.put(SearchDocumentType.TUTORING, "t3", "Mejorar la comunicación con el equipo");
+
+        List<SearchHit> hits = index.search("spring hexagonal", Set.of(), 0, 10).hits();
+
+        assertEquals(List.of("t2", "t1"), hits.stream().map(SearchHit::getId).toList());
+        assertTrue(hits.get(0).getScore() > hits.get(1).getScore());
+    }
+
+    @Test
+    void search_ShouldPageAndFilterByType() {
+        for (int i = 0; i < 5; i++) {
+            index.put(SearchDocumentType.FEEDBACK, "f" + i, "Necesito ayuda con Kotlin");
+        }
+        index.put(SearchDocumentType.TUTORING_REQUEST, "r1", "Necesito ayuda con Kotlin");
+
+        InvertedIndex.Page second = index.search("kotlin", Set.of(SearchDocumentType.FEEDBACK), 2, 2);
+
+        assertEquals(5, second.total());
+        assertEquals(List.of("f2", "f3"), second.hits().stream().map(SearchHit::getId).toList());
+        assertTrue(index.search("kotlin", Set.of(), 10, 2).hits().isEmpty());
+    }
+
+    @Test
+    void put_ShouldReplacePreviousTextAndBlankTextShouldRemove() {
+        index.put(SearchDocumentType.TUTORING, "t1", "Objetivos de React");
+        index.put(SearchDocumentType.TUTORING, "t1", "Objetivos de Angular");
+
+        assertEquals(0, index.search("react", Set.of(), 0, 10).total());
+        assertEquals(1, index.search("angular", Set.of(), 0, 10).total());
+
+        index.put(SearchDocumentType.TUTORING, "t1", "  ");
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void search_ShouldReturnSnippetAroundFirstMatch() {
+        String text = "Comentario inicial muy largo sobre la sesión ".repeat(5) + "y al final hablamos de Kubernetes en producción";
+        index.put(SearchDocumentType.FEEDBACK, "f1", text);
+
+        String snippet = index.search("kubernetes", Set.of(), 0, 1).hits().get(0).getSnippet();
+
+        assertTrue(snippet.startsWith("…"));
+        assertTrue(snippet.contains("Kubernetes"));
+    }
+}
@@ -0,0 +1,113 @@
+package com.pragma.search.application.service;
+
+import com.pragma.search.domain.model.SearchDocument;
+import com.pragma.search.domain.model.SearchResult;
+import com.pragma.search.domain.model.enums.SearchDocumentType;
+import com.pragma.search.domain.port.output.SearchSourceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SearchServiceTest {
+
+    @Mock
+    private SearchSourceRepository searchSourceRepository;
+
+    private SearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        searchService = new SearchService(searchSourceRepository, new InvertedIndex(new TextAnalyzer()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void rebuild_ShouldLoadEveryTypeInBatches() {
+        // Arrange: una página completa de feedbacks obliga a pedir la siguiente
+        List<SearchDocument> fullBatch = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            fullBatch.add(new SearchDocument(SearchDocumentType.FEEDBACK, String.format("f%03d", i), "Comentario sobre Java"));
+        }
+        when(searchSourceRepository.findDocuments(any(), anyString(), anyInt())).thenReturn(List.of());
+        when(searchSourceRepository.findDocuments(SearchDocumentType.FEEDBACK, "", 500)).thenReturn(fullBatch);
+        when(searchSourceRepository.findDocuments(SearchDocumentType.TUTORING, "", 500)).thenReturn(
+                List.of(new SearchDocument(SearchDocumentType.TUTORING, "t1", "Objetivos de Java avanzado")));
+
+        // Act
+        int documents = searchService.rebuild();
+
+        // Assert
+        assertEquals(501, documents);
+        assertEquals(501, searchService.search("java", Set.of(), 0, 10).getTotalHits());
+        assertEquals(1, searchService.search("java", Set.of(SearchDocumentType.TUTORING), 0, 10).getTotalHits());
+    }
+
+    @Test
+    void index_OutsideTransaction_ShouldApplyImmediately() {
+        // Act
+        searchService.index(SearchDocumentType.TUTORING_REQUEST, "r1", "Necesito mejorar en pruebas unitarias");
+        SearchResult result = searchService.search("prueba unitaria", Set.of(), 0, 20);
+
+        // Assert
+        assertEquals(1, result.getTotalHits());
+        assertEquals("r1", result.getHits().get(0).getId());
+        assertEquals(SearchDocumentType.TUTORING_REQUEST, result.getHits().get(0).getType());
+    }
+
+    @Test
+    void index_InsideTransaction_ShouldWaitForCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        searchService.index(SearchDocumentType.FEEDBACK, "f1", "Excelente tutoría");
+
+        // Assert
+        assertEquals(0, searchService.search("excelente", Set.of(), 0, 20).getTotalHits());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, searchService.search("excelente", Set.of(), 0, 20).getTotalHits());
+    }
+
+    @Test
+    void remove_ShouldDropDocument() {
+        // Arrange
+        searchService.index(SearchDocumentType.TUTORING_REQUEST, "r1", "Ayuda con Docker");
+
+        // Act
+        searchService.remove(SearchDocumentType.TUTORING_REQUEST, "r1");
+
+        // Assert
+        assertEquals(0, searchService.search("docker", Set.of(), 0, 20).getTotalHits());
+    }
+
+    @Test
+    void search_WithBlankQueryOrInvalidPage_ShouldThrow() {
+        IllegalArgumentException blank = assertThrows(IllegalArgumentException.class,
+                () -> searchService.search("  ", Set.of(), 0, 20));
+        assertEquals("El texto de búsqueda es requerido", blank.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> searchService.search("java", Set.of(), -1, 20));
+        assertThrows(IllegalArgumentException.class, () -> searchService.search("java", Set.of(), 0, SearchService.MAX_PAGE_SIZE + 1));
+    }
+}
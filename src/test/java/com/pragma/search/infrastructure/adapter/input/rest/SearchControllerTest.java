@@ -0,0 +1,110 @@
+package com.pragma.search.infrastructure.adapter.input.rest;
+
+import com.pragma.search.domain.model.SearchHit;
+import com.pragma.search.domain.model.SearchResult;
+import com.pragma.search.domain.model.enums.SearchDocumentType;
+import com.pragma.search.domain.port.input.SearchTextUseCase;
+import com.pragma.search.infrastructure.adapter.input.rest.mapper.SearchDtoMapperImpl;
+import com.pragma.shared.context.TestUserContextHelper;
+import com.pragma.shared.context.UserContext;
+import com.pragma.shared.context.UserContextHelper;
+import com.pragma.shared.exception.GlobalExceptionHandler;
+import com.pragma.shared.service.MessageService;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class SearchControllerTest {
+
+    @Mock
+    private SearchTextUseCase searchTextUseCase;
+
+    @Mock
+    private MessageService messageService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        SearchController controller = new SearchController(searchTextUseCase, new SearchDtoMapperImpl());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler(messageService))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestUserContextHelper.clearUserContext();
+    }
+
+    @Test
+    void search_AsAdmin_ShouldReturnRankedPage() throws Exception {
+        // Arrange
+        TestUserContextHelper.setTestUserContext();
+        SearchResult result = new SearchResult("spring", 1, 10, 11,
+                List.of(new SearchHit(SearchDocumentType.TUTORING, "t1", 2.5, "Aprender Spring Boot")));
+        when(searchTextUseCase.search("spring", EnumSet.of(SearchDocumentType.TUTORING, SearchDocumentType.FEEDBACK), 1, 10))
+                .thenReturn(result);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/search")
+                        .param("q", "spring")
+                        .param("types", "TUTORING,FEEDBACK")
+                        .param("page", "1")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Búsqueda realizada exitosamente"))
+                .andExpect(jsonPath("$.data.totalHits").value(11))
+                .andExpect(jsonPath("$.data.hits[0].type").value("TUTORING"))
+                .andExpect(jsonPath("$.data.hits[0].id").value("t1"))
+                .andExpect(jsonPath("$.data.hits[0].snippet").value("Aprender Spring Boot"));
+    }
+
+    @Test
+    void search_WithoutTypes_ShouldSearchEverything() throws Exception {
+        // Arrange
+        TestUserContextHelper.setTestUserContext();
+        when(searchTextUseCase.search("java", Set.of(), 0, 20)).thenReturn(new SearchResult("java", 0, 20, 0, List.of()));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/search").param("q", "java"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalHits").value(0));
+    }
+
+    @Test
+    void search_AsNonAdmin_ShouldBeForbidden() throws Exception {
+        // Arrange
+        User tutee = TestUserContextHelper.createTestUser();
+        tutee.setRol(RolUsuario.Tutorado);
+        UserContext.setCurrentUser(tutee);
+        UserContextHelper.setMessageServiceForTesting(messageService);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/search").param("q", "java"))
+                .andExpect(status().isForbidden());
+        verify(searchTextUseCase, never()).search(anyString(), any(), anyInt(), anyInt());
+    }
+}
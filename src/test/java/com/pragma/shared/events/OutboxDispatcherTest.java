@@ -0,0 +1,201 @@
+package com.pragma.shared.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pragma.feedbacks.domain.event.FeedbackSubmitted;
+import com.pragma.feedbacks.domain.model.enums.FeedbackKind;
+import com.pragma.shared.config.OutboxProperties;
+import com.pragma.shared.persistence.memory.JobLeaseInMemoryAdapter;
+import com.pragma.shared.persistence.memory.OutboxInMemoryAdapter;
+import com.pragma.tutorings.domain.event.TutoringCreated;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OutboxDispatcherTest {
+
+    private OutboxInMemoryAdapter outbox;
+    private JobLeaseInMemoryAdapter leases;
+    private OutboxProperties properties;
+    private ObjectMapper objectMapper;
+    private OutboxEventPublisher publisher;
+    private OutboxDispatcher dispatcher;
+    private final List<FeedbackSubmitted> delivered = new ArrayList<>();
+    private int failuresLeft;
+
+    @BeforeEach
+    void setUp() {
+        outbox = new OutboxInMemoryAdapter();
+        leases = new JobLeaseInMemoryAdapter();
+        properties = new OutboxProperties();
+        properties.setBatchSize(2);
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        publisher = new OutboxEventPublisher(outbox, objectMapper);
+
+        DomainEventHandler<FeedbackSubmitted> handler = new DomainEventHandler<>() {
+            @Override
+            public Class<FeedbackSubmitted> eventType() {
+                return FeedbackSubmitted.class;
+            }
+
+            @Override
+            public void handle(FeedbackSubmitted event) {
+                if (failuresLeft > 0) {
+                    failuresLeft--;
+                    throw new IllegalStateException("Slack no disponible");
+                }
+                delivered.add(event);
+            }
+        };
+        dispatcher = new OutboxDispatcher(outbox,
+                new OutboxDeliveryService(outbox, objectMapper, properties, List.of(handler)), leases, properties);
+    }
+
+    @Test
+    void dispatchDue_ShouldDeliverEveryPendingEventInOrderAcrossBatches() {
+        // Arrange: tres eventos con suscriptor y uno sin él
+        Instant occurredAt = Instant.now().minusSeconds(10);
+        publisher.publishAll(List.of(submitted("f1", occurredAt), submitted("f2", occurredAt.plusMillis(1)),
+                submitted("f3", occurredAt.plusMillis(2))));
+        publisher.publish(new TutoringCreated("t1", "r1", "tutor", "tutee", occurredAt.plusMillis(3)));
+
+        // Act
+        int dispatched = dispatcher.dispatchDue();
+
+        // Assert
+        assertEquals(4, dispatched);
+        assertEquals(List.of("f1", "f2", "f3"), delivered.stream().map(FeedbackSubmitted::feedbackId).toList());
+        assertEquals(FeedbackKind.Evaluacion, delivered.get(0).kind());
+        assertEquals(occurredAt, delivered.get(0).occurredAt());
+        assertTrue(outbox.findDue(Instant.now().plusSeconds(3600), 10).isEmpty());
+    }
+
+    @Test
+    void dispatchDue_WhenAHandlerFails_ShouldRetryTheEventUntilMaxAttempts() {
+        // Arrange: reintento inmediato para no depender del reloj
+        properties.setMaxAttempts(3);
+        properties.setInitialBackoff(Duration.ZERO);
+        publisher.publish(submitted("f1", Instant.now()));
+        failuresLeft = 5;
+
+        // Act
+        assertEquals(0, dispatcher.dispatchDue());
+
+        // Assert: sigue pendiente con el intento y el error registrados
+        List<OutboxEvent> retried = outbox.findDue(Instant.now(), 10);
+        assertEquals(1, retried.size());
+        assertEquals(1, retried.get(0).getAttempts());
+        assertEquals("IllegalStateException: Slack no disponible", retried.get(0).getLastError());
+
+        // Act: los siguientes intentos agotan el máximo
+        dispatcher.dispatchDue();
+        dispatcher.dispatchDue();
+
+        // Assert: marcado como fallido, ya no se vuelve a intentar
+        assertTrue(outbox.findDue(Instant.now().plus(Duration.ofDays(1)), 10).isEmpty());
+        assertTrue(delivered.isEmpty());
+        assertEquals(2, failuresLeft);
+    }
+
+    @Test
+    void dispatchDue_ShouldRunExternalHandlersFirstAndSkipTheRestWhenTheyFail() {
+        // Arrange: un suscriptor externo que falla una vez y uno transaccional del mismo tipo
+        properties.setInitialBackoff(Duration.ZERO);
+        List<String> calls = new ArrayList<>();
+        int[] externalFailures = {1};
+        DomainEventHandler<FeedbackSubmitted> external = new DomainEventHandler<>() {
+            @Override
+            public Class<FeedbackSubmitted> eventType() {
+                return FeedbackSubmitted.class;
+            }
+
+            @Override
+            public void handle(FeedbackSubmitted event) {
+                if (externalFailures[0]-- > 0) {
+                    throw new IllegalStateException("Slack no disponible");
+                }
+                calls.add("external:" + event.feedbackId());
+            }
+
+            @Override
+            public boolean external() {
+                return true;
+            }
+        };
+        DomainEventHandler<FeedbackSubmitted> transactional = new DomainEventHandler<>() {
+            @Override
+            public Class<FeedbackSubmitted> eventType() {
+                return FeedbackSubmitted.class;
+            }
+
+            @Override
+            public void handle(FeedbackSubmitted event) {
+                calls.add("transactional:" + event.feedbackId());
+            }
+        };
+        OutboxDispatcher withExternal = new OutboxDispatcher(outbox,
+                new OutboxDeliveryService(outbox, objectMapper, properties, List.of(transactional, external)), leases, properties);
+        publisher.publish(submitted("f1", Instant.now()));
+
+        // Act: el primer intento falla en el envío, el segundo lo completa
+        assertEquals(0, withExternal.dispatchDue());
+        assertTrue(calls.isEmpty());
+        assertEquals(1, withExternal.dispatchDue());
+
+        // Assert
+        assertEquals(List.of("external:f1", "transactional:f1"), calls);
+        assertTrue(outbox.findDue(Instant.now().plusSeconds(3600), 10).isEmpty());
+    }
+
+    @Test
+    void backoff_ShouldDoublePerAttemptUpToTheMaximum() {
+        properties.setInitialBackoff(Duration.ofSeconds(5));
+        properties.setMaxBackoff(Duration.ofSeconds(30));
+        OutboxDeliveryService deliveryService = new OutboxDeliveryService(outbox, new ObjectMapper(), properties, List.of());
+
+        assertEquals(Duration.ofSeconds(5), deliveryService.backoff(1));
+        assertEquals(Duration.ofSeconds(10), deliveryService.backoff(2));
+        assertEquals(Duration.ofSeconds(20), deliveryService.backoff(3));
+        assertEquals(Duration.ofSeconds(30), deliveryService.backoff(4));
+        assertEquals(Duration.ofSeconds(30), deliveryService.backoff(40));
+    }
+
+    @Test
+    void dispatchDue_WhenAnotherReplicaHoldsTheLease_ShouldNotDeliver() {
+        // Arrange
+        publisher.publish(submitted("f1", Instant.now()));
+        leases.tryAcquire(OutboxDispatcher.JOB, "other-replica", Instant.now(), Instant.now().plusSeconds(60));
+
+        // Act
+        int dispatched = dispatcher.dispatchDue();
+
+        // Assert
+        assertEquals(0, dispatched);
+        assertTrue(delivered.isEmpty());
+        assertEquals(1, outbox.findDue(Instant.now(), 10).size());
+    }
+
+    @Test
+    void purge_ShouldKeepEventsDispatchedWithinTheRetention() {
+        // Arrange
+        publisher.publish(submitted("f1", Instant.now()));
+        dispatcher.dispatchDue();
+
+        // Act
+        dispatcher.purge();
+
+        // Assert: la retención por defecto es de 7 días
+        assertEquals(1, outbox.deleteDispatchedBefore(Instant.now().plusSeconds(60)));
+    }
+
+    private static FeedbackSubmitted submitted(String feedbackId, Instant occurredAt) {
+        return new FeedbackSubmitted(feedbackId, "tutoring-1", "evaluator-1", 5, FeedbackKind.Evaluacion, occurredAt);
+    }
+}
@@ -0,0 +1,150 @@
+package com.pragma.shared.persistence;
+
+import com.pragma.chapter.domain.port.output.ChapterRepository;
+import com.pragma.chapter.infrastructure.adapter.output.memory.ChapterInMemoryAdapter;
+import com.pragma.feedbacks.domain.port.output.FeedbackRepository;
+import com.pragma.feedbacks.domain.port.output.RatingAggregateRepository;
+import com.pragma.feedbacks.infrastructure.adapter.output.memory.FeedbackInMemoryAdapter;
+import com.pragma.feedbacks.infrastructure.adapter.output.memory.RatingAggregateInMemoryAdapter;
+import com.pragma.recommendations.domain.port.output.TutorProfileSourceRepository;
+import com.pragma.recommendations.domain.port.output.TutorSkillProfileRepository;
+import com.pragma.recommendations.infrastructure.adapter.output.memory.TutorProfileSourceInMemoryAdapter;
+import com.pragma.recommendations.infrastructure.adapter.output.memory.TutorSkillProfileInMemoryAdapter;
+import com.pragma.search.domain.port.output.SearchSourceRepository;
+import com.pragma.search.infrastructure.adapter.output.memory.SearchSourceInMemoryAdapter;
+import com.pragma.shared.events.OutboxRepository;
+import com.pragma.shared.persistence.memory.JobLeaseInMemoryAdapter;
+import com.pragma.shared.persistence.memory.OutboxInMemoryAdapter;
+import com.pragma.shared.scheduling.JobLeaseRepository;
+import com.pragma.skills.domain.port.output.SkillRepository;
+import com.pragma.skills.infrastructure.adapter.output.memory.SkillInMemoryAdapter;
+import com.pragma.statistics.domain.port.output.StatisticsRepository;
+import com.pragma.statistics.domain.port.output.StatisticsRollupRepository;
+import com.pragma.statistics.domain.port.output.StatusTransitionRepository;
+import com.pragma.statistics.infrastructure.adapter.output.memory.StatisticsInMemoryAdapter;
+import com.pragma.statistics.infrastructure.adapter.output.memory.StatisticsRollupInMemoryAdapter;
+import com.pragma.statistics.infrastructure.adapter.output.memory.StatusTransitionInMemoryAdapter;
+import com.pragma.tutoring_sessions.domain.port.output.TutoringSessionRepository;
+import com.pragma.tutoring_sessions.infrastructure.adapter.output.memory.TutoringSessionInMemoryAdapter;
+import com.pragma.tutorings.domain.port.output.TutoringArchiveRepository;
+import com.pragma.tutorings.domain.port.output.TutoringRepository;
+import com.pragma.tutorings.infrastructure.adapter.output.memory.TutoringArchiveInMemoryAdapter;
+import com.pragma.tutorings.infrastructure.adapter.output.memory.TutoringInMemoryAdapter;
+import com.pragma.tutorings_requests.domain.port.output.TutoringRequestRepository;
+import com.pragma.tutorings_requests.infrastructure.adapter.output.memory.TutoringRequestInMemoryAdapter;
+import com.pragma.usuarios.domain.port.output.UserEnrichmentCheckpointRepository;
+import com.pragma.usuarios.domain.port.output.UserRepository;
+import com.pragma.usuarios.infrastructure.adapter.output.memory.UserEnrichmentCheckpointInMemoryAdapter;
+import com.pragma.usuarios.infrastructure.adapter.output.memory.UserInMemoryAdapter;
+
+class InMemoryOutputPortContractTest extends OutputPortContractTest {
+
+    private final ChapterInMemoryAdapter chapters = new ChapterInMemoryAdapter();
+    private final SkillInMemoryAdapter skills = new SkillInMemoryAdapter();
+    private final UserInMemoryAdapter users = new UserInMemoryAdapter(chapters);
+    private final TutoringInMemoryAdapter tutorings = new TutoringInMemoryAdapter(users, skills);
+    private final TutoringRequestInMemoryAdapter requests = new TutoringRequestInMemoryAdapter(users, skills);
+    private final FeedbackInMemoryAdapter feedbacks = new FeedbackInMemoryAdapter(users, tutorings);
+    private final TutoringSessionInMemoryAdapter sessions = new TutoringSessionInMemoryAdapter(tutorings);
+    private final RatingAggregateInMemoryAdapter ratingAggregates = new RatingAggregateInMemoryAdapter();
+    private final StatisticsInMemoryAdapter statistics = new StatisticsInMemoryAdapter(requests, tutorings, users);
+    private final SearchSourceInMemoryAdapter searchSource = new SearchSourceInMemoryAdapter(feedbacks, tutorings, requests);
+    private final TutorProfileSourceInMemoryAdapter tutorProfileSource = new TutorProfileSourceInMemoryAdapter(tutorings);
+    private final TutorSkillProfileInMemoryAdapter tutorSkillProfiles = new TutorSkillProfileInMemoryAdapter();
+    private final StatisticsRollupInMemoryAdapter statisticsRollups = new StatisticsRollupInMemoryAdapter();
+    private final StatusTransitionInMemoryAdapter statusTransitions = new StatusTransitionInMemoryAdapter();
+    private final UserEnrichmentCheckpointInMemoryAdapter userEnrichmentCheckpoints = new UserEnrichmentCheckpointInMemoryAdapter();
+    private final JobLeaseInMemoryAdapter jobLeases = new JobLeaseInMemoryAdapter();
+    private final OutboxInMemoryAdapter outbox = new OutboxInMemoryAdapter();
+    private final TutoringArchiveInMemoryAdapter tutoringArchive = new TutoringArchiveInMemoryAdapter(tutorings, sessions, feedbacks);
+
+    @Override
+    protected ChapterRepository chapterRepository() {
+        return chapters;
+    }
+
+    @Override
+    protected SkillRepository skillRepository() {
+        return skills;
+    }
+
+    @Override
+    protected UserRepository userRepository() {
+        return users;
+    }
+
+    @Override
+    protected TutoringRepository tutoringRepository() {
+        return tutorings;
+    }
+
+    @Override
+    protected TutoringRequestRepository tutoringRequestRepository() {
+        return requests;
+    }
+
+    @Override
+    protected FeedbackRepository feedbackRepository() {
+        return feedbacks;
+    }
+
+    @Override
+    protected TutoringSessionRepository tutoringSessionRepository() {
+        return sessions;
+    }
+
+    @Override
+    protected RatingAggregateRepository ratingAggregateRepository() {
+        return ratingAggregates;
+    }
+
+    @Override
+    protected StatisticsRepository statisticsRepository() {
+        return statistics;
+    }
+
+    @Override
+    protected SearchSourceRepository searchSourceRepository() {
+        return searchSource;
+    }
+
+    @Override
+    protected TutorProfileSourceRepository tutorProfileSourceRepository() {
+        return tutorProfileSource;
+    }
+
+    @Override
+    protected TutorSkillProfileRepository tutorSkillProfileRepository() {
+        return tutorSkillProfiles;
+    }
+
+    @Override
+    protected StatisticsRollupRepository statisticsRollupRepository() {
+        return statisticsRollups;
+    }
+
+    @Override
+    protected StatusTransitionRepository statusTransitionRepository() {
+        return statusTransitions;
+    }
+
+    @Override
+    protected UserEnrichmentCheckpointRepository userEnrichmentCheckpointRepository() {
+        return userEnrichmentCheckpoints;
+    }
+
+    @Override
+    protected JobLeaseRepository jobLeaseRepository() {
+        return jobLeases;
+    }
+
+    @Override
+    protected TutoringArchiveRepository tutoringArchiveRepository() {
+        return tutoringArchive;
+    }
+
+    @Override
+    protected OutboxRepository outboxRepository() {
+        return outbox;
+    }
+}
@@ -0,0 +1,219 @@
+package com.pragma.shared.persistence;
+
+import com.pragma.chapter.domain.port.output.ChapterRepository;
+import com.pragma.chapter.infrastructure.adapter.output.persistence.ChapterPersistenceAdapter;
+import com.pragma.chapter.infrastructure.adapter.output.persistence.mapper.ChapterMapperImpl;
+import com.pragma.feedbacks.domain.port.output.FeedbackRepository;
+import com.pragma.feedbacks.domain.port.output.RatingAggregateRepository;
+import com.pragma.feedbacks.infrastructure.adapter.output.persistence.FeedbackPersistenceAdapter;
+import com.pragma.feedbacks.infrastructure.adapter.output.persistence.RatingAggregatePersistenceAdapter;
+import com.pragma.feedbacks.infrastructure.adapter.output.persistence.mapper.FeedbackMapperImpl;
+import com.pragma.recommendations.domain.port.output.TutorProfileSourceRepository;
+import com.pragma.recommendations.domain.port.output.TutorSkillProfileRepository;
+import com.pragma.recommendations.infrastructure.adapter.output.persistence.TutorProfileSourcePersistenceAdapter;
+import com.pragma.recommendations.infrastructure.adapter.output.persistence.TutorSkillProfilePersistenceAdapter;
+import com.pragma.search.domain.port.output.SearchSourceRepository;
+import com.pragma.shared.config.ExportProperties;
+import com.pragma.shared.events.OutboxRepository;
+import com.pragma.shared.persistence.lease.JobLeasePersistenceAdapter;
+import com.pragma.shared.persistence.outbox.OutboxPersistenceAdapter;
+import com.pragma.shared.scheduling.JobLeaseRepository;
+import com.pragma.search.infrastructure.adapter.output.persistence.SearchSourcePersistenceAdapter;
+import com.pragma.skills.domain.port.output.SkillRepository;
+import com.pragma.skills.infrastructure.adapter.output.persistence.SkillPersistenceAdapter;
+import com.pragma.skills.infrastructure.adapter.output.persistence.mapper.SkillMapperImpl;
+import com.pragma.statistics.domain.port.output.StatisticsRepository;
+import com.pragma.statistics.domain.port.output.StatisticsRollupRepository;
+import com.pragma.statistics.domain.port.output.StatusTransitionRepository;
+import com.pragma.statistics.infrastructure.adapter.output.persistence.StatisticsPersistenceAdapter;
+import com.pragma.statistics.infrastructure.adapter.output.persistence.StatisticsRollupPersistenceAdapter;
+import com.pragma.statistics.infrastructure.adapter.output.persistence.StatusTransitionPersistenceAdapter;
+import com.pragma.tutoring_sessions.domain.port.output.TutoringSessionRepository;
+import com.pragma.tutoring_sessions.infrastructure.adapter.output.persistence.TutoringSessionPersistenceAdapter;
+import com.pragma.tutoring_sessions.infrastructure.adapter.output.persistence.mapper.TutoringSessionMapperImpl;
+import com.pragma.tutorings.domain.port.output.TutoringArchiveRepository;
+import com.pragma.tutorings.domain.port.output.TutoringRepository;
+import com.pragma.tutorings.infrastructure.adapter.output.persistence.TutoringArchivePersistenceAdapter;
+import com.pragma.tutorings.infrastructure.adapter.output.persistence.TutoringPersistenceAdapter;
+import com.pragma.tutorings.infrastructure.adapter.output.persistence.mapper.TutoringMapperImpl;
+import com.pragma.tutorings_requests.domain.port.output.TutoringRequestRepository;
+import com.pragma.tutorings_requests.infrastructure.adapter.output.persistence.TutoringRequestPersistenceAdapter;
+import com.pragma.tutorings_requests.infrastructure.adapter.output.persistence.mapper.TutoringRequestMapperImpl;
+import com.pragma.usuarios.domain.port.output.UserEnrichmentCheckpointRepository;
+import com.pragma.usuarios.domain.port.output.UserRepository;
+import com.pragma.usuarios.infrastructure.adapter.output.persistence.UserEnrichmentCheckpointPersistenceAdapter;
+import com.pragma.usuarios.infrastructure.adapter.output.persistence.UserPersistenceAdapter;
+import com.pragma.usuarios.infrastructure.adapter.output.persistence.mapper.UserMapperImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ChapterPersistenceAdapter.class, SkillPersistenceAdapter.class, UserPersistenceAdapter.class,
+        TutoringPersistenceAdapter.class, TutoringRequestPersistenceAdapter.class, FeedbackPersistenceAdapter.class,
+        TutoringSessionPersistenceAdapter.class, StatisticsPersistenceAdapter.class, RatingAggregatePersistenceAdapter.class,
+        SearchSourcePersistenceAdapter.class, TutorProfileSourcePersistenceAdapter.class,
+        TutorSkillProfilePersistenceAdapter.class, StatisticsRollupPersistenceAdapter.class,
+        StatusTransitionPersistenceAdapter.class, UserEnrichmentCheckpointPersistenceAdapter.class,
+        JobLeasePersistenceAdapter.class, TutoringArchivePersistenceAdapter.class, OutboxPersistenceAdapter.class,
+        ChapterMapperImpl.class, SkillMapperImpl.class, UserMapperImpl.class,
+        TutoringMapperImpl.class, TutoringRequestMapperImpl.class, FeedbackMapperImpl.class, TutoringSessionMapperImpl.class,
+        ExportProperties.class})
+class JpaOutputPortContractTest extends OutputPortContractTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ChapterPersistenceAdapter chapters;
+
+    @Autowired
+    private SkillPersistenceAdapter skills;
+
+    @Autowired
+    private UserPersistenceAdapter users;
+
+    @Autowired
+    private TutoringPersistenceAdapter tutorings;
+
+    @Autowired
+    private TutoringRequestPersistenceAdapter requests;
+
+    @Autowired
+    private FeedbackPersistenceAdapter feedbacks;
+
+    @Autowired
+    private TutoringSessionPersistenceAdapter sessions;
+
+    @Autowired
+    private StatisticsPersistenceAdapter statistics;
+
+    @Autowired
+    private RatingAggregatePersistenceAdapter ratingAggregates;
+
+    @Autowired
+    private SearchSourcePersistenceAdapter searchSource;
+
+    @Autowired
+    private TutorProfileSourcePersistenceAdapter tutorProfileSource;
+
+    @Autowired
+    private TutorSkillProfilePersistenceAdapter tutorSkillProfiles;
+
+    @Autowired
+    private StatisticsRollupPersistenceAdapter statisticsRollups;
+
+    @Autowired
+    private StatusTransitionPersistenceAdapter statusTransitions;
+
+    @Autowired
+    private UserEnrichmentCheckpointPersistenceAdapter userEnrichmentCheckpoints;
+
+    @Autowired
+    private JobLeasePersistenceAdapter jobLeases;
+
+    @Autowired
+    private TutoringArchivePersistenceAdapter tutoringArchive;
+
+    @Autowired
+    private OutboxPersistenceAdapter outbox;
+
+    @Override
+    protected void afterWrite() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Override
+    protected ChapterRepository chapterRepository() {
+        return chapters;
+    }
+
+    @Override
+    protected SkillRepository skillRepository() {
+        return skills;
+    }
+
+    @Override
+    protected UserRepository userRepository() {
+        return users;
+    }
+
+    @Override
+    protected TutoringRepository tutoringRepository() {
+        return tutorings;
+    }
+
+    @Override
+    protected TutoringRequestRepository tutoringRequestRepository() {
+        return requests;
+    }
+
+    @Override
+    protected FeedbackRepository feedbackRepository() {
+        return feedbacks;
+    }
+
+    @Override
+    protected TutoringSessionRepository tutoringSessionRepository() {
+        return sessions;
+    }
+
+    @Override
+    protected RatingAggregateRepository ratingAggregateRepository() {
+        return ratingAggregates;
+    }
+
+    @Override
+    protected StatisticsRepository statisticsRepository() {
+        return statistics;
+    }
+
+    @Override
+    protected SearchSourceRepository searchSourceRepository() {
+        return searchSource;
+    }
+
+    @Override
+    protected TutorProfileSourceRepository tutorProfileSourceRepository() {
+        return tutorProfileSource;
+    }
+
+    @Override
+    protected TutorSkillProfileRepository tutorSkillProfileRepository() {
+        return tutorSkillProfiles;
+    }
+
+    @Override
+    protected StatisticsRollupRepository statisticsRollupRepository() {
+        return statisticsRollups;
+    }
+
+    @Override
+    protected StatusTransitionRepository statusTransitionRepository() {
+        return statusTransitions;
+    }
+
+    @Override
+    protected UserEnrichmentCheckpointRepository userEnrichmentCheckpointRepository() {
+        return userEnrichmentCheckpoints;
+    }
+
+    @Override
+    protected JobLeaseRepository jobLeaseRepository() {
+        return jobLeases;
+    }
+
+    @Override
+    protected TutoringArchiveRepository tutoringArchiveRepository() {
+        return tutoringArchive;
+    }
+
+    @Override
+    protected OutboxRepository outboxRepository() {
+        return outbox;
+    }
+}
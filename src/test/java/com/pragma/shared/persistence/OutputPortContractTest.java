@@ -0,0 +1,1015 @@
+package com.pragma.shared.persistence;
+
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.chapter.domain.port.output.ChapterRepository;
+import com.pragma.feedbacks.domain.model.Feedback;
+import com.pragma.feedbacks.domain.model.PendingFeedback;
+import com.pragma.feedbacks.domain.model.RatingAggregate;
+import com.pragma.feedbacks.domain.model.enums.FeedbackKind;
+import com.pragma.feedbacks.domain.model.enums.RatingScope;
+import com.pragma.feedbacks.domain.port.output.FeedbackRepository;
+import com.pragma.feedbacks.domain.port.output.RatingAggregateRepository;
+import com.pragma.recommendations.domain.model.TutorSkillProfile;
+import com.pragma.recommendations.domain.model.TutoringSkills;
+import com.pragma.recommendations.domain.port.output.TutorProfileSourceRepository;
+import com.pragma.recommendations.domain.port.output.TutorSkillProfileRepository;
+import com.pragma.search.domain.model.SearchDocument;
+import com.pragma.search.domain.model.enums.SearchDocumentType;
+import com.pragma.search.domain.port.output.SearchSourceRepository;
+import com.pragma.shared.events.OutboxEvent;
+import com.pragma.shared.events.OutboxRepository;
+import com.pragma.shared.events.OutboxStatus;
+import com.pragma.shared.scheduling.JobLeaseRepository;
+import com.pragma.skills.domain.model.Skill;
+import com.pragma.skills.domain.port.output.SkillRepository;
+import com.pragma.statistics.domain.model.DailyRollup;
+import com.pragma.statistics.domain.model.SkillChapterEntry;
+import com.pragma.statistics.domain.model.StatisticEvent;
+import com.pragma.statistics.domain.model.StatusTransition;
+import com.pragma.statistics.domain.model.enums.StatisticMetric;
+import com.pragma.statistics.domain.model.enums.TransitionSubject;
+import com.pragma.statistics.domain.port.output.StatisticsRepository;
+import com.pragma.statistics.domain.port.output.StatisticsRollupRepository;
+import com.pragma.statistics.domain.port.output.StatusTransitionRepository;
+import com.pragma.tutoring_sessions.domain.model.SessionSlot;
+import com.pragma.tutoring_sessions.domain.model.TutoringSession;
+import com.pragma.tutoring_sessions.domain.port.output.TutoringSessionRepository;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringField;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings.domain.port.output.TutoringArchiveRepository;
+import com.pragma.tutorings.domain.port.output.TutoringRepository;
+import com.pragma.tutorings_requests.domain.model.TutoringRequest;
+import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import com.pragma.tutorings_requests.domain.model.enums.TutoringRequestField;
+import com.pragma.tutorings_requests.domain.model.enums.TutoringsSessionStatus;
+import com.pragma.tutorings_requests.domain.port.output.TutoringRequestRepository;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.domain.port.output.UserEnrichmentCheckpointRepository;
+import com.pragma.usuarios.domain.port.output.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Contract shared by every implementation of the output ports. Each backend
+ * (JPA, in-memory) runs the same scenarios through a concrete subclass.
+ * The scenarios are declared here, so the test transaction must be declared here too;
+ * it has no effect on subclasses that do not run in a Spring test context.
+ */
+@Transactional
+public abstract class OutputPortContractTest {
+
+    protected abstract ChapterRepository chapterRepository();
+
+    protected abstract SkillRepository skillRepository();
+
+    protected abstract UserRepository userRepository();
+
+    protected abstract TutoringRepository tutoringRepository();
+
+    protected abstract TutoringRequestRepository tutoringRequestRepository();
+
+    protected abstract FeedbackRepository feedbackRepository();
+
+    protected abstract TutoringSessionRepository tutoringSessionRepository();
+
+    protected abstract RatingAggregateRepository ratingAggregateRepository();
+
+    protected abstract StatisticsRepository statisticsRepository();
+
+    protected abstract SearchSourceRepository searchSourceRepository();
+
+    protected abstract TutorProfileSourceRepository tutorProfileSourceRepository();
+
+    protected abstract TutorSkillProfileRepository tutorSkillProfileRepository();
+
+    protected abstract StatisticsRollupRepository statisticsRollupRepository();
+
+    protected abstract StatusTransitionRepository statusTransitionRepository();
+
+    protected abstract UserEnrichmentCheckpointRepository userEnrichmentCheckpointRepository();
+
+    protected abstract JobLeaseRepository jobLeaseRepository();
+
+    protected abstract TutoringArchiveRepository tutoringArchiveRepository();
+
+    protected abstract OutboxRepository outboxRepository();
+
+    /**
+     * Called after writes whose effect must be visible to the next read (e.g. flushing a persistence context).
+     */
+    protected void afterWrite() {
+    }
+
+    private String suffix;
+    private Chapter chapter;
+    private Skill java;
+    private Skill spring;
+    private User tutor;
+    private User tutee;
+
+    @BeforeEach
+    void seed() {
+        suffix = UUID.randomUUID().toString().substring(0, 8);
+        chapter = chapterRepository().save(new Chapter(null, "Chapter " + suffix));
+        java = skillRepository().save(new Skill(null, "Java " + suffix));
+        spring = skillRepository().save(new Skill(null, "Spring " + suffix));
+        tutor = userRepository().save(user("tutor", RolUsuario.Tutor, 5));
+        tutee = userRepository().save(user("tutee", RolUsuario.Tutorado, 1));
+        afterWrite();
+    }
+
+    @Test
+    void chapter_ShouldBeFoundByIdAndName() {
+        assertNotNull(chapter.getId());
+        assertEquals(chapter, chapterRepository().findById(chapter.getId()).orElseThrow());
+        assertEquals(chapter, chapterRepository().findByName("Chapter " + suffix).orElseThrow());
+        assertTrue(chapterRepository().findAll().contains(chapter));
+        assertTrue(chapterRepository().findByName("missing " + suffix).isEmpty());
+    }
+
+    @Test
+    void skill_DeleteById_ShouldReportWhetherItExisted() {
+        Skill skill = skillRepository().save(new Skill(null, "Temporal " + suffix));
+        afterWrite();
+
+        assertEquals(skill, skillRepository().findById(skill.getId()).orElseThrow());
+        assertTrue(skillRepository().deleteById(skill.getId()));
+        afterWrite();
+        assertFalse(skillRepository().deleteById(skill.getId()));
+        assertTrue(skillRepository().findById(skill.getId()).isEmpty());
+    }
+
+    @Test
+    void user_ShouldBeFoundByUniqueKeysWithChapter() {
+        User byGoogle = userRepository().findByGoogleUserId("google-tutor-" + suffix).orElseThrow();
+
+        assertEquals(tutor, byGoogle);
+        assertEquals(chapter, byGoogle.getChapter());
+        assertEquals(tutee, userRepository().findByEmail("tutee-" + suffix + "@pragma.com").orElseThrow());
+        assertEquals(tutor, userRepository().findById(tutor.getId()).orElseThrow());
+    }
+
+    @Test
+    void user_FindByFilters_ShouldCombineCriteria() {
+        List<User> tutors = userRepository().findByFilters(chapter.getId(), "tutor", null, null);
+        List<User> byEmail = userRepository().findByFilters(null, null, 1, "TUTEE-" + suffix);
+
+        assertEquals(List.of(tutor), tutors);
+        assertEquals(List.of(tutee), byEmail);
+        assertTrue(userRepository().findByFilters(chapter.getId(), "Administrador", null, null).isEmpty());
+    }
+
+    @Test
+    void user_Update_ShouldReindexEmail() {
+        tutee.setEmail("renamed-" + suffix + "@pragma.com");
+        userRepository().save(tutee);
+        afterWrite();
+
+        assertTrue(userRepository().findByEmail("tutee-" + suffix + "@pragma.com").isEmpty());
+        assertEquals(tutee.getId(), userRepository().findByEmail("renamed-" + suffix + "@pragma.com").orElseThrow().getId());
+    }
+
+    @Test
+    void user_SaveAll_ShouldAssignIdsAndReportExistingKeys() {
+        List<User> saved = userRepository().saveAll(List.of(user("bulk1", RolUsuario.Tutorado, 0),
+                user("bulk2", RolUsuario.Tutorado, 0)));
+        afterWrite();
+
+        assertEquals(2, saved.size());
+        saved.forEach(user -> assertNotNull(user.getId()));
+        assertEquals(saved.get(1), userRepository().findByEmail("bulk2-" + suffix + "@pragma.com").orElseThrow());
+        assertEquals(Set.of("bulk1-" + suffix + "@pragma.com", "tutor-" + suffix + "@pragma.com"),
+                userRepository().findExistingEmails(List.of("bulk1-" + suffix + "@pragma.com",
+                        "tutor-" + suffix + "@pragma.com", "missing-" + suffix + "@pragma.com")));
+        assertEquals(Set.of("google-bulk2-" + suffix),
+                userRepository().findExistingGoogleUserIds(List.of("google-bulk2-" + suffix, "google-missing-" + suffix)));
+        assertTrue(userRepository().findExistingEmails(List.of()).isEmpty());
+    }
+
+    @Test
+    void user_FindAfter_ShouldPageByIdWithChapter() {
+        List<String> ids = Stream.of(tutor.getId(), tutee.getId()).sorted().toList();
+
+        List<User> afterFirst = userRepository().findAfter(ids.get(0), 100);
+
+        List<String> pageIds = afterFirst.stream().map(User::getId).toList();
+        assertTrue(pageIds.contains(ids.get(1)));
+        assertFalse(pageIds.contains(ids.get(0)));
+        assertEquals(pageIds.stream().sorted().toList(), pageIds);
+        assertEquals(chapter, afterFirst.get(pageIds.indexOf(ids.get(1))).getChapter());
+        assertEquals(1, userRepository().findAfter("", 1).size());
+    }
+
+    @Test
+    void userEnrichmentCheckpoint_ShouldBeOverwrittenAndCleared() {
+        userEnrichmentCheckpointRepository().clear();
+        assertTrue(userEnrichmentCheckpointRepository().findLastUserId().isEmpty());
+
+        userEnrichmentCheckpointRepository().saveLastUserId("a-" + suffix);
+        userEnrichmentCheckpointRepository().saveLastUserId("b-" + suffix);
+        afterWrite();
+        assertEquals("b-" + suffix, userEnrichmentCheckpointRepository().findLastUserId().orElseThrow());
+
+        userEnrichmentCheckpointRepository().clear();
+        afterWrite();
+        assertTrue(userEnrichmentCheckpointRepository().findLastUserId().isEmpty());
+    }
+
+    @Test
+    void outbox_ShouldReturnDueEventsInOrderAndForgetDispatchedOnes() {
+        // Fechas en el pasado lejano para no ver eventos escritos por otras pruebas
+        Instant t0 = Instant.parse("2000-01-01T00:00:00Z");
+        OutboxEvent first = new OutboxEvent(null, "Created", "{\"n\":1}", t0, OutboxStatus.PENDING, 0, t0, null);
+        OutboxEvent second = new OutboxEvent(null, "Created", "{\"n\":2}", t0.plusSeconds(1), OutboxStatus.PENDING, 0,
+                t0.plusSeconds(1), null);
+        OutboxEvent later = new OutboxEvent(null, "Created", "{\"n\":3}", t0.plusSeconds(2), OutboxStatus.PENDING, 0,
+                t0.plusSeconds(600), null);
+        outboxRepository().saveAll(List.of(second, later, first));
+        afterWrite();
+        assertNotNull(first.getId());
+
+        List<OutboxEvent> due = outboxRepository().findDue(t0.plusSeconds(60), 10);
+        assertEquals(List.of(first.getId(), second.getId()), due.stream().map(OutboxEvent::getId).toList());
+        assertEquals("{\"n\":1}", due.get(0).getPayload());
+        assertEquals(1, outboxRepository().findDue(t0.plusSeconds(60), 1).size());
+
+        // Un fallo pospone el evento; agotar los intentos lo saca de la cola
+        outboxRepository().recordFailure(first.getId(), 1, OutboxStatus.PENDING, t0.plusSeconds(120), "boom");
+        outboxRepository().recordFailure(second.getId(), 10, OutboxStatus.FAILED, t0.plusSeconds(60), "boom");
+        assertEquals(1, outboxRepository().markDispatched(List.of(later.getId()), t0.plusSeconds(30)));
+        afterWrite();
+        assertTrue(outboxRepository().findDue(t0.plusSeconds(60), 10).isEmpty());
+        OutboxEvent retried = outboxRepository().findDue(t0.plusSeconds(3600), 10).get(0);
+        assertEquals(first.getId(), retried.getId());
+        assertEquals(1, retried.getAttempts());
+        assertEquals("boom", retried.getLastError());
+
+        assertEquals(1, outboxRepository().deleteDispatchedBefore(t0.plusSeconds(31)));
+        afterWrite();
+        assertEquals(0, outboxRepository().markDispatched(List.of(later.getId()), t0.plusSeconds(40)));
+    }
+
+    @Test
+    void jobLease_ShouldBeExclusiveUntilExpiredOrReleased() {
+        String job = "job-" + suffix;
+        Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        assertTrue(jobLeaseRepository().tryAcquire(job, "a", now, now.plusSeconds(60)));
+        afterWrite();
+        assertFalse(jobLeaseRepository().tryAcquire(job, "b", now.plusSeconds(30), now.plusSeconds(90)));
+        assertTrue(jobLeaseRepository().tryAcquire(job, "a", now.plusSeconds(30), now.plusSeconds(90)));
+        afterWrite();
+        assertFalse(jobLeaseRepository().tryAcquire(job, "b", now.plusSeconds(60), now.plusSeconds(120)));
+
+        // Caducado: cualquier réplica lo toma
+        assertTrue(jobLeaseRepository().tryAcquire(job, "b", now.plusSeconds(90), now.plusSeconds(150)));
+        afterWrite();
+        assertFalse(jobLeaseRepository().tryAcquire(job, "a", now.plusSeconds(100), now.plusSeconds(160)));
+
+        // Solo lo libera quien lo tiene
+        jobLeaseRepository().release(job, "a");
+        afterWrite();
+        assertFalse(jobLeaseRepository().tryAcquire(job, "a", now.plusSeconds(100), now.plusSeconds(160)));
+        jobLeaseRepository().release(job, "b");
+        afterWrite();
+        assertTrue(jobLeaseRepository().tryAcquire(job, "a", now.plusSeconds(100), now.plusSeconds(160)));
+    }
+
+    @Test
+    void tutoring_FindOverdueForUpdate_ShouldReturnOverdueActiveOldestFirst() {
+        Date cutoff = new Date(1_700_000_000_000L);
+        Tutoring oldest = tutoringRepository().save(dueAt(tutoring(TutoringStatus.Activa), cutoff.getTime() - 20_000));
+        Tutoring overdue = tutoringRepository().save(dueAt(tutoring(TutoringStatus.Activa), cutoff.getTime() - 10_000));
+        Tutoring notYetDue = tutoringRepository().save(dueAt(tutoring(TutoringStatus.Activa), cutoff.getTime() + 10_000));
+        Tutoring completed = tutoringRepository().save(dueAt(tutoring(TutoringStatus.Completada), cutoff.getTime() - 30_000));
+        afterWrite();
+
+        List<Tutoring> found = tutoringRepository().findOverdueForUpdate(TutoringStatus.Activa, cutoff, 1000).stream()
+                .filter(tutoring -> tutor.equals(tutoring.getTutor()))
+                .toList();
+
+        assertEquals(List.of(oldest.getId(), overdue.getId()), ids(found));
+        assertEquals(2, found.get(0).getSkills().size());
+        assertFalse(ids(found).contains(notYetDue.getId()));
+        assertFalse(ids(found).contains(completed.getId()));
+        assertEquals(1, tutoringRepository().findOverdueForUpdate(TutoringStatus.Activa, cutoff, 1).size());
+    }
+
+    @Test
+    void tutoringArchive_ShouldMoveClosedTutoringsFromHotReadsToHistory() {
+        Tutoring completed = tutoringRepository().save(tutoring(TutoringStatus.Completada));
+        Tutoring cancelled = tutoringRepository().save(tutoring(TutoringStatus.Cancelada));
+        Tutoring active = tutoringRepository().save(tutoring(TutoringStatus.Activa));
+        TutoringSession session = tutoringSessionRepository().save(session(completed, "2024-05-01T10:00:00Z"));
+        Feedback feedback = feedbackRepository().save(new Feedback(null, tutor, new Date(), completed, 5, "Bien", FeedbackKind.Evaluacion));
+        TutoringRequest request = tutoringRequestRepository().save(request(RequestStatus.Asignada));
+        request.setAssignedTutoringId(completed.getId());
+        tutoringRequestRepository().save(request);
+        afterWrite();
+
+        Date closedBefore = new Date(System.currentTimeMillis() + 60_000);
+        List<String> archivable = tutoringArchiveRepository().findArchivableIds(closedBefore, 1000);
+        assertTrue(archivable.containsAll(List.of(completed.getId(), cancelled.getId())));
+        assertFalse(archivable.contains(active.getId()));
+        assertEquals(List.of(feedback.getId()), tutoringArchiveRepository().findFeedbackIds(List.of(completed.getId(), cancelled.getId())));
+        assertTrue(tutoringArchiveRepository().findFeedbackIds(List.of()).isEmpty());
+
+        assertEquals(2, tutoringArchiveRepository().archive(List.of(completed.getId(), cancelled.getId()), new Date()));
+        afterWrite();
+
+        assertTrue(tutoringRepository().findById(completed.getId()).isEmpty());
+        assertEquals(List.of(active.getId()), ids(tutoringRepository().findByTutorId(tutor.getId())));
+        assertTrue(tutoringSessionRepository().findByTutoringId(completed.getId()).isEmpty());
+        assertTrue(feedbackRepository().findByTutoringId(completed.getId()).isEmpty());
+        assertFalse(tutoringArchiveRepository().findArchivableIds(closedBefore, 1000).contains(completed.getId()));
+        assertEquals(completed.getId(), tutoringRequestRepository().findById(request.getId()).orElseThrow().getAssignedTutoringId());
+
+        Tutoring archived = tutoringRepository().findByIdIncludingHistory(completed.getId()).orElseThrow();
+        assertEquals(TutoringStatus.Completada, archived.getStatus());
+        assertEquals(tutor, archived.getTutor());
+        assertEquals(2, archived.getSkills().size());
+        assertEquals(Set.of(completed.getId(), cancelled.getId(), active.getId()),
+                Set.copyOf(ids(tutoringRepository().findByTutorIdIncludingHistory(tutor.getId()))));
+        assertEquals(3, tutoringRepository().findByTuteeIdIncludingHistory(tutee.getId()).size());
+
+        List<TutoringSession> sessions = tutoringSessionRepository().findByTutoringIdIncludingHistory(completed.getId());
+        assertEquals(List.of(session.getId()), sessions.stream().map(TutoringSession::getId).toList());
+        assertEquals(Instant.parse("2024-05-01T10:00:00Z"), sessions.get(0).getDatetime());
+        assertEquals(completed.getId(), sessions.get(0).getTutoring().getId());
+
+        List<Feedback> feedbacks = feedbackRepository().findByTutoringIdIncludingHistory(completed.getId());
+        assertEquals(List.of(feedback.getId()), feedbacks.stream().map(Feedback::getId).toList());
+        assertEquals(tutor, feedbacks.get(0).getEvaluator());
+        assertEquals(Integer.valueOf(5), feedbacks.get(0).getScore());
+        assertEquals(completed.getId(), feedbacks.get(0).getTutoring().getId());
+    }
+
+    @Test
+    void tutoring_FindAllById_ShouldLoadTheExistingOnes() {
+        Tutoring first = tutoringRepository().save(tutoring(TutoringStatus.Activa));
+        Tutoring second = tutoringRepository().save(tutoring(TutoringStatus.Cancelada));
+        afterWrite();
+
+        List<Tutoring> found = tutoringRepository().findAllById(List.of(first.getId(), second.getId(), "missing-" + suffix));
+        assertEquals(Set.of(first.getId(), second.getId()), found.stream().map(Tutoring::getId).collect(Collectors.toSet()));
+        assertEquals(TutoringStatus.Cancelada, found.stream().filter(t -> t.getId().equals(second.getId())).findFirst().orElseThrow().getStatus());
+        assertTrue(found.stream().allMatch(t -> tutor.equals(t.getTutor()) && tutee.equals(t.getTutee())
+                && Set.copyOf(t.getSkills()).equals(Set.of(java, spring))));
+        assertTrue(tutoringRepository().findAllById(List.of()).isEmpty());
+    }
+
+    @Test
+    void tutoring_ShouldBeFoundByParticipants() {
+        Tutoring saved = tutoringRepository().save(tutoring(TutoringStatus.Activa));
+        afterWrite();
+
+        assertNotNull(saved.getId());
+        assertNotNull(saved.getCreatedAt());
+        Tutoring found = tutoringRepository().findById(saved.getId()).orElseThrow();
+        assertEquals(tutor, found.getTutor());
+        assertEquals(tutee, found.getTutee());
+        assertEquals(2, found.getSkills().size());
+        assertEquals(List.of(saved.getId()), ids(tutoringRepository().findByTutorId(tutor.getId())));
+        assertEquals(List.of(saved.getId()), ids(tutoringRepository().findByTuteeId(tutee.getId())));
+        assertTrue(tutoringRepository().findByTutorId(tutee.getId()).isEmpty());
+        assertTrue(tutoringRepository().findByTutorId("missing-" + suffix).isEmpty());
+    }
+
+    @Test
+    void tutoring_Counts_ShouldFollowStatusChanges() {
+        Tutoring active = tutoringRepository().save(tutoring(TutoringStatus.Activa));
+        tutoringRepository().save(tutoring(TutoringStatus.Completada));
+        afterWrite();
+
+        assertEquals(1L, tutoringRepository().countActiveTutoringByTutorId(tutor.getId()));
+        assertEquals(2L, tutoringRepository().countTutoringsByTutorId(tutor.getId()));
+        assertEquals(2L, tutoringRepository().countTutoringsByTuteeId(tutee.getId()));
+
+        active.setStatus(TutoringStatus.Cancelada);
+        tutoringRepository().save(active);
+        afterWrite();
+
+        assertEquals(0L, tutoringRepository().countActiveTutoringByTutorId(tutor.getId()));
+        assertEquals(TutoringStatus.Cancelada, tutoringRepository().findById(active.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void request_Save_ShouldKeepOnlyExistingSkills() {
+        TutoringRequest request = request(RequestStatus.Pendiente);
+        request.getSkills().add(new Skill("missing-" + suffix, "Missing"));
+
+        TutoringRequest saved = tutoringRequestRepository().save(request);
+        afterWrite();
+
+        TutoringRequest found = tutoringRequestRepository().findById(saved.getId()).orElseThrow();
+        assertEquals(List.of(java), found.getSkills());
+        assertEquals(tutee, found.getTutee());
+        assertNotNull(found.getCreatedAt());
+    }
+
+    @Test
+    void request_FindWithFilters_ShouldCombineCriteria() {
+        TutoringRequest pending = tutoringRequestRepository().save(request(RequestStatus.Pendiente));
+        TutoringRequest approved = tutoringRequestRepository().save(request(RequestStatus.Aprobada));
+        afterWrite();
+
+        assertEquals(List.of(pending.getId()),
+                ids(tutoringRequestRepository().findWithFilters(tutee.getId(), java.getId(), RequestStatus.Pendiente, chapter.getId())));
+        assertEquals(2, tutoringRequestRepository().findWithFilters(null, null, null, chapter.getId()).size());
+        assertTrue(tutoringRequestRepository().findWithFilters(null, null, null, "missing-" + suffix).isEmpty());
+        assertEquals(List.of(approved.getId()),
+                ids(tutoringRequestRepository().findWithFilters(tutee.getId(), null, RequestStatus.Aprobada, null)));
+        assertTrue(tutoringRequestRepository().findWithFilters(tutee.getId(), spring.getId(), null, null).isEmpty());
+
+        pending.setRequestStatus(RequestStatus.Conversando);
+        tutoringRequestRepository().save(pending);
+        afterWrite();
+
+        assertTrue(tutoringRequestRepository().findWithFilters(tutee.getId(), null, RequestStatus.Pendiente, null).isEmpty());
+        assertEquals(1, tutoringRequestRepository().findWithFilters(tutee.getId(), null, RequestStatus.Conversando, null).size());
+    }
+
+    @Test
+    void request_FindAllByIdAndUpdateStatus_ShouldWorkOnTheWholeBatch() {
+        TutoringRequest first = tutoringRequestRepository().save(request(RequestStatus.Pendiente));
+        TutoringRequest second = tutoringRequestRepository().save(request(RequestStatus.Pendiente));
+        TutoringRequest moved = tutoringRequestRepository().save(request(RequestStatus.Cancelada));
+        afterWrite();
+
+        List<TutoringRequest> found = tutoringRequestRepository().findAllById(List.of(first.getId(), second.getId(), "missing-" + suffix));
+        assertEquals(Set.of(first.getId(), second.getId()), found.stream().map(TutoringRequest::getId).collect(Collectors.toSet()));
+        assertTrue(found.stream().allMatch(request -> request.getSkills().equals(List.of(java)) && tutee.equals(request.getTutee())));
+        assertTrue(tutoringRequestRepository().findAllById(List.of()).isEmpty());
+
+        Date updatedAt = new Date(1_700_000_000_000L);
+        assertEquals(2, tutoringRequestRepository().updateStatus(List.of(first.getId(), second.getId(), moved.getId()),
+                RequestStatus.Pendiente, RequestStatus.Aprobada, updatedAt));
+        afterWrite();
+
+        TutoringRequest updated = tutoringRequestRepository().findById(first.getId()).orElseThrow();
+        assertEquals(RequestStatus.Aprobada, updated.getRequestStatus());
+        assertEquals(updatedAt.getTime(), updated.getUpdatedAt().getTime());
+        assertEquals(2, tutoringRequestRepository().findWithFilters(tutee.getId(), null, RequestStatus.Aprobada, null).size());
+        assertTrue(tutoringRequestRepository().findWithFilters(tutee.getId(), null, RequestStatus.Pendiente, null).isEmpty());
+        assertEquals(RequestStatus.Cancelada, tutoringRequestRepository().findById(moved.getId()).orElseThrow().getRequestStatus());
+    }
+
+    @Test
+    void request_Delete_ShouldRemoveFromQueries() {
+        TutoringRequest saved = tutoringRequestRepository().save(request(RequestStatus.Cancelada));
+        afterWrite();
+
+        tutoringRequestRepository().delete(saved.getId());
+        afterWrite();
+
+        assertTrue(tutoringRequestRepository().findById(saved.getId()).isEmpty());
+        assertTrue(tutoringRequestRepository().findWithFilters(tutee.getId(), null, null, null).isEmpty());
+    }
+
+    @Test
+    void tutoring_FindAllWithFields_ShouldLoadSelectedFields() {
+        Tutoring saved = tutoringRepository().save(tutoring(TutoringStatus.Activa));
+        afterWrite();
+
+        Tutoring narrow = tutoringRepository().findAll(EnumSet.of(TutoringField.ID, TutoringField.STATUS, TutoringField.TUTOR))
+                .stream().filter(tutoring -> saved.getId().equals(tutoring.getId())).findFirst().orElseThrow();
+        Tutoring skillsOnly = tutoringRepository().findAll(EnumSet.of(TutoringField.ID, TutoringField.SKILLS))
+                .stream().filter(tutoring -> saved.getId().equals(tutoring.getId())).findFirst().orElseThrow();
+
+        assertEquals(TutoringStatus.Activa, narrow.getStatus());
+        assertEquals(tutor, narrow.getTutor());
+        assertEquals(2, skillsOnly.getSkills().size());
+    }
+
+    @Test
+    void request_FindWithFiltersAndFields_ShouldLoadSelectedFields() {
+        TutoringRequest pending = tutoringRequestRepository().save(request(RequestStatus.Pendiente));
+        tutoringRequestRepository().save(request(RequestStatus.Aprobada));
+        afterWrite();
+
+        List<TutoringRequest> found = tutoringRequestRepository().findWithFilters(tutee.getId(), java.getId(),
+                RequestStatus.Pendiente, chapter.getId(),
+                EnumSet.of(TutoringRequestField.ID, TutoringRequestField.REQUEST_STATUS, TutoringRequestField.SKILLS));
+        List<TutoringRequest> withTutee = tutoringRequestRepository().findWithFilters(tutee.getId(), null, null, null,
+                EnumSet.of(TutoringRequestField.ID, TutoringRequestField.TUTEE, TutoringRequestField.ASSIGNED_TUTORING_ID));
+
+        assertEquals(List.of(pending.getId()), ids(found));
+        assertEquals(RequestStatus.Pendiente, found.get(0).getRequestStatus());
+        assertEquals(List.of(java), found.get(0).getSkills());
+        assertEquals(2, withTutee.size());
+        assertEquals(tutee, withTutee.get(0).getTutee());
+        assertNull(withTutee.get(0).getAssignedTutoringId());
+    }
+
+    @Test
+    void feedback_ShouldBeFoundByTutoringAndEvaluator() {
+        Tutoring tutoring = tutoringRepository().save(tutoring(TutoringStatus.Activa));
+        Feedback fromTutor = feedbackRepository().save(new Feedback(null, tutor, new Date(), tutoring, 4, "Bien", FeedbackKind.Evaluacion));
+        feedbackRepository().save(new Feedback(null, tutee, new Date(), tutoring, 5, "Muy bien", FeedbackKind.Evaluacion));
+        afterWrite();
+
+        List<Feedback> byTutoring = feedbackRepository().findByTutoringId(tutoring.getId());
+        List<Feedback> byTutor = feedbackRepository().findByTutoringIdAndEvaluatorId(tutoring.getId(), tutor.getId());
+
+        assertEquals(2, byTutoring.size());
+        assertEquals(List.of(fromTutor.getId()), byTutor.stream().map(Feedback::getId).toList());
+        assertEquals(tutor, byTutor.get(0).getEvaluator());
+        assertEquals(tutoring.getId(), byTutor.get(0).getTutoring().getId());
+        assertTrue(feedbackRepository().findByTutoringId("missing-" + suffix).isEmpty());
+        assertEquals(Integer.valueOf(4), byTutor.get(0).getScore());
+        assertEquals(FeedbackKind.Evaluacion, byTutor.get(0).getKind());
+    }
+
+    @Test
+    void tutoring_FindByStatusAndUpdateStatus_ShouldMoveTheWholeBatch() {
+        Tutoring first = tutoringRepository().save(tutoring(TutoringStatus.EnCancelacion));
+        Tutoring second = tutoringRepository().save(tutoring(TutoringStatus.EnCancelacion));
+        Tutoring active = tutoringRepository().save(tutoring(TutoringStatus.Activa));
+        afterWrite();
+
+        List<String> pending = ids(tutoringRepository().findByStatusForUpdate(TutoringStatus.EnCancelacion, 1000));
+        assertTrue(pending.containsAll(List.of(first.getId(), second.getId())));
+        assertFalse(pending.contains(active.getId()));
+        assertEquals(pending.stream().sorted().toList(), pending);
+        assertEquals(1, tutoringRepository().findByStatusForUpdate(TutoringStatus.EnCancelacion, 1).size());
+        Tutoring loaded = tutoringRepository().findByStatusForUpdate(TutoringStatus.EnCancelacion, 1000).stream()
+                .filter(tutoring -> first.getId().equals(tutoring.getId())).findFirst().orElseThrow();
+        assertEquals(tutor, loaded.getTutor());
+        assertEquals(2, loaded.getSkills().size());
+
+        Date updatedAt = new Date(1_700_000_000_000L);
+        assertEquals(2, tutoringRepository().updateStatus(List.of(first.getId(), second.getId(), active.getId()),
+                TutoringStatus.EnCancelacion, TutoringStatus.Cancelada, updatedAt));
+        afterWrite();
+
+        Tutoring cancelled = tutoringRepository().findById(first.getId()).orElseThrow();
+        assertEquals(TutoringStatus.Cancelada, cancelled.getStatus());
+        assertEquals(updatedAt.getTime(), cancelled.getUpdatedAt().getTime());
+        assertFalse(ids(tutoringRepository().findByStatusForUpdate(TutoringStatus.EnCancelacion, 1000)).contains(second.getId()));
+        assertEquals(TutoringStatus.Activa, tutoringRepository().findById(active.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void feedback_ExistsAndMissingFeedback_ShouldFollowSubmittedFeedback() {
+        Tutoring complete = tutoringRepository().save(tutoring(TutoringStatus.Activa));
+        Tutoring onlyTutor = tutoringRepository().save(tutoring(TutoringStatus.Activa));
+        Tutoring none = tutoringRepository().save(tutoring(TutoringStatus.Activa));
+        Tutoring finished = tutoringRepository().save(tutoring(TutoringStatus.Completada));
+        feedbackRepository().save(new Feedback(null, tutor, new Date(), complete, 4, "Bien", FeedbackKind.Evaluacion));
+        feedbackRepository().save(new Feedback(null, tutee, new Date(), complete, 5, "Muy bien", FeedbackKind.Evaluacion));
+        feedbackRepository().save(new Feedback(null, tutor, new Date(), onlyTutor, 4, "Bien", FeedbackKind.Evaluacion));
+        afterWrite();
+
+        assertTrue(feedbackRepository().existsByTutoringIdAndEvaluatorId(onlyTutor.getId(), tutor.getId()));
+        assertFalse(feedbackRepository().existsByTutoringIdAndEvaluatorId(onlyTutor.getId(), tutee.getId()));
+
+        List<PendingFeedback> pending = feedbackRepository().findActiveTutoringsMissingFeedback("", 1000).stream()
+                .filter(item -> tutor.getId().equals(item.tutoring().getTutor().getId()))
+                .toList();
+        Map<String, PendingFeedback> byTutoring = pending.stream()
+                .collect(Collectors.toMap(item -> item.tutoring().getId(), item -> item));
+
+        assertEquals(Set.of(onlyTutor.getId(), none.getId()), byTutoring.keySet());
+        assertFalse(byTutoring.get(onlyTutor.getId()).tutorMissing());
+        assertTrue(byTutoring.get(onlyTutor.getId()).tuteeMissing());
+        assertTrue(byTutoring.get(none.getId()).tutorMissing());
+        assertEquals(tutee, byTutoring.get(none.getId()).tutoring().getTutee());
+        assertFalse(byTutoring.containsKey(finished.getId()));
+        List<String> ids = pending.stream().map(item -> item.tutoring().getId()).toList();
+        assertEquals(ids.stream().sorted().toList(), ids);
+    }
+
+    @Test
+    void streamAll_ShouldVisitEveryRecordWithItsRelations() {
+        Tutoring tutoring = tutoringRepository().save(tutoring(TutoringStatus.Activa));
+        TutoringRequest request = tutoringRequestRepository().save(request(RequestStatus.Pendiente));
+        TutoringSession session = tutoringSessionRepository().save(session(tutoring, "2025-06-02T10:00:00Z"));
+        Feedback feedback = feedbackRepository().save(new Feedback(null, tutee, new Date(), tutoring, 5, "Muy bien", FeedbackKind.Evaluacion));
+        afterWrite();
+
+        Map<String, Tutoring> tutorings = new HashMap<>();
+        Map<String, TutoringRequest> requests = new HashMap<>();
+        Map<String, TutoringSession> sessions = new HashMap<>();
+        Map<String, Feedback> feedbacks = new HashMap<>();
+        tutoringRepository().streamAll(item -> tutorings.put(item.getId(), item));
+        tutoringRequestRepository().streamAll(item -> requests.put(item.getId(), item));
+        tutoringSessionRepository().streamAll(item -> sessions.put(item.getId(), item));
+        feedbackRepository().streamAll(item -> feedbacks.put(item.getId(), item));
+
+        assertEquals(tutor, tutorings.get(tutoring.getId()).getTutor());
+        assertEquals(2, tutorings.get(tutoring.getId()).getSkills().size());
+        assertEquals(tutee, requests.get(request.getId()).getTutee());
+        assertEquals(List.of(java), requests.get(request.getId()).getSkills());
+        assertEquals(tutoring.getId(), sessions.get(session.getId()).getTutoring().getId());
+        assertEquals(tutee, feedbacks.get(feedback.getId()).getEvaluator());
+        assertEquals(tutoring.getId(), feedbacks.get(feedback.getId()).getTutoring().getId());
+    }
+
+    @Test
+    void ratingAggregate_Increment_ShouldAccumulateTotalsAndHistogram() {
+        String tutorScope = "tutor-" + suffix;
+        ratingAggregateRepository().increment(RatingScope.TUTOR, tutorScope, 5);
+        ratingAggregateRepository().increment(RatingScope.TUTOR, tutorScope, 3);
+        ratingAggregateRepository().increment(RatingScope.TUTOR, tutorScope, 5);
+        ratingAggregateRepository().increment(RatingScope.CHAPTER, tutorScope, 1);
+        afterWrite();
+
+        RatingAggregate aggregate = ratingAggregateRepository().findByScope(RatingScope.TUTOR, tutorScope).orElseThrow();
+
+        assertEquals(3, aggregate.getCount());
+        assertEquals(13, aggregate.getSum());
+        assertEquals(59, aggregate.getSumOfSquares());
+        assertEquals(Map.of(1, 0L, 2, 0L, 3, 1L, 4, 0L, 5, 2L), aggregate.distribution());
+        assertEquals(1, ratingAggregateRepository().findByScope(RatingScope.CHAPTER, tutorScope).orElseThrow().getCount());
+        assertTrue(ratingAggregateRepository().findByScope(RatingScope.TUTOR, "missing-" + suffix).isEmpty());
+        assertTrue(ratingAggregateRepository().findAllByScope(RatingScope.TUTOR).stream()
+                .anyMatch(tutorAggregate -> tutorAggregate.getScopeId().equals(tutorScope) && tutorAggregate.getSum() == 13));
+        assertTrue(ratingAggregateRepository().findAllByScope(RatingScope.CHAPTER).stream()
+                .allMatch(chapterAggregate -> chapterAggregate.getScope() == RatingScope.CHAPTER));
+    }
+
+    @Test
+    void session_UpdateStatus_ShouldKeepNotesWhenNoneGiven() {
+        Tutoring tutoring = tutoringRepository().save(tutoring(TutoringStatus.Activa));
+        TutoringSession session = tutoringSessionRepository().save(new TutoringSession(null, tutoring, Instant.parse("2025-06-01T10:00:00Z"),
+                60, "https://meet", "Intro", "Notas", TutoringsSessionStatus.Programada, null));
+        afterWrite();
+
+        assertEquals(List.of(session.getId()),
+                tutoringSessionRepository().findByTutoringId(tutoring.getId()).stream().map(TutoringSession::getId).toList());
+
+        TutoringSession done = tutoringSessionRepository().updateStatus(session.getId(), TutoringsSessionStatus.Realizada, null);
+        assertEquals(TutoringsSessionStatus.Realizada, done.getSessionStatus());
+        assertEquals("Notas", done.getNotes());
+
+        TutoringSession cancelled = tutoringSessionRepository().updateStatus(session.getId(), TutoringsSessionStatus.Cancelada, "Cancelada");
+        assertEquals("Cancelada", cancelled.getNotes());
+        assertThrows(IllegalArgumentException.class,
+                () -> tutoringSessionRepository().updateStatus("missing-" + suffix, TutoringsSessionStatus.Realizada, null));
+    }
+
+    @Test
+    void session_MarkReminded_ShouldSucceedOncePerReminderWhileScheduled() {
+        Instant start = Instant.parse("2025-06-01T10:00:00Z");
+        Tutoring tutoring = tutoringRepository().save(tutoring(TutoringStatus.Activa));
+        TutoringSession session = tutoringSessionRepository().save(new TutoringSession(null, tutoring, start,
+                60, "https://meet", "Intro", null, TutoringsSessionStatus.Programada, null));
+        afterWrite();
+
+        // Primer recordatorio (24 h antes): solo una réplica lo registra
+        assertTrue(tutoringSessionRepository().markReminded(session.getId(), start, start.minusSeconds(86400)));
+        assertFalse(tutoringSessionRepository().markReminded(session.getId(), start, start.minusSeconds(86400)));
+        // Sesión movida: el recordatorio antiguo ya no aplica
+        assertFalse(tutoringSessionRepository().markReminded(session.getId(), start.plusSeconds(60), start.minusSeconds(3600)));
+        assertTrue(tutoringSessionRepository().markReminded(session.getId(), start, start.minusSeconds(3600)));
+        assertFalse(tutoringSessionRepository().markReminded(session.getId(), start, start.minusSeconds(86400)));
+
+        tutoringSessionRepository().updateStatus(session.getId(), TutoringsSessionStatus.Cancelada, null);
+        afterWrite();
+        assertFalse(tutoringSessionRepository().markReminded(session.getId(), start, start.minusSeconds(60)));
+        assertFalse(tutoringSessionRepository().markReminded("missing-" + suffix, start, start));
+    }
+
+    @Test
+    void session_FindByParticipantAndRange_ShouldReturnWindowInOrder() {
+        Tutoring tutoring = tutoringRepository().save(tutoring(TutoringStatus.Activa));
+        TutoringSession late = tutoringSessionRepository().save(session(tutoring, "2025-06-03T10:00:00Z"));
+        TutoringSession early = tutoringSessionRepository().save(session(tutoring, "2025-06-02T10:00:00Z"));
+        tutoringSessionRepository().save(session(tutoring, "2025-06-10T10:00:00Z"));
+        afterWrite();
+
+        Instant from = Instant.parse("2025-06-02T10:00:00Z");
+        Instant to = Instant.parse("2025-06-10T10:00:00Z");
+        List<String> forTutor = tutoringSessionRepository().findByParticipantAndRange(tutor.getId(), from, to).stream()
+                .map(TutoringSession::getId).toList();
+        List<String> forTutee = tutoringSessionRepository().findByParticipantAndRange(tutee.getId(), from, to).stream()
+                .map(TutoringSession::getId).toList();
+
+        assertEquals(List.of(early.getId(), late.getId()), forTutor);
+        assertEquals(forTutor, forTutee);
+        assertTrue(tutoringSessionRepository().findByParticipantAndRange("missing-" + suffix, from, to).isEmpty());
+    }
+
+    @Test
+    void session_SaveAll_ShouldPersistEverySession() {
+        Tutoring tutoring = tutoringRepository().save(tutoring(TutoringStatus.Activa));
+        List<TutoringSession> saved = tutoringSessionRepository().saveAll(List.of(
+                session(tutoring, "2025-06-02T10:00:00Z"), session(tutoring, "2025-06-09T10:00:00Z")));
+        afterWrite();
+
+        assertEquals(2, saved.size());
+        assertTrue(saved.stream().allMatch(session -> session.getId() != null));
+        assertEquals(saved.stream().map(TutoringSession::getId).toList(),
+                tutoringSessionRepository().findByParticipantAndRange(tutor.getId(),
+                        Instant.parse("2025-06-01T00:00:00Z"), Instant.parse("2025-06-30T00:00:00Z")).stream()
+                        .map(TutoringSession::getId).toList());
+    }
+
+    @Test
+    void session_FindActiveSlots_ShouldSkipCancelledSessions() {
+        Tutoring tutoring = tutoringRepository().save(tutoring(TutoringStatus.Activa));
+        TutoringSession active = tutoringSessionRepository().save(session(tutoring, "2025-06-02T10:00:00Z"));
+        TutoringSession cancelled = tutoringSessionRepository().save(session(tutoring, "2025-06-03T10:00:00Z"));
+        tutoringSessionRepository().updateStatus(cancelled.getId(), TutoringsSessionStatus.Cancelada, null);
+        afterWrite();
+
+        List<SessionSlot> slots = tutoringSessionRepository().findActiveSlots().stream()
+                .filter(slot -> tutor.getId().equals(slot.tutorId()))
+                .toList();
+
+        assertEquals(List.of(new SessionSlot(active.getId(), tutor.getId(), tutee.getId(),
+                Instant.parse("2025-06-02T10:00:00Z"), Instant.parse("2025-06-02T11:00:00Z"))), slots);
+        assertEquals(slots, tutoringSessionRepository().findUpcomingSlots(Instant.parse("2025-06-02T10:00:00Z")).stream()
+                .filter(slot -> tutor.getId().equals(slot.tutorId()))
+                .toList());
+        assertTrue(tutoringSessionRepository().findUpcomingSlots(Instant.parse("2025-06-02T10:00:01Z")).stream()
+                .noneMatch(slot -> tutor.getId().equals(slot.tutorId())));
+    }
+
+    @Test
+    void statistics_ShouldCountByChapter() {
+        tutoringRepository().save(tutoring(TutoringStatus.Activa));
+        tutoringRequestRepository().save(request(RequestStatus.Pendiente));
+        tutoringRequestRepository().save(request(RequestStatus.Pendiente));
+        afterWrite();
+
+        Map<String, Long> requests = statisticsRepository().countRequestsByStatus(chapter.getId());
+        Map<String, Long> tutorings = statisticsRepository().countTutoringsByStatus(chapter.getId());
+
+        assertEquals(RequestStatus.values().length, requests.size());
+        assertEquals(2L, requests.get("Pendiente"));
+        assertEquals(0L, requests.get("Aprobada"));
+        assertEquals(1L, tutorings.get("Activa"));
+        assertEquals(0L, tutorings.get("Cancelada"));
+        assertEquals(Map.of("activeTutors", 1L), statisticsRepository().countActiveTutorsByChapter(chapter.getId()));
+        assertEquals(1L, statisticsRepository().countActiveTutorsByChapter(null).get(chapter.getName()));
+    }
+
+    @Test
+    void statistics_SkillEntries_ShouldListOpenRequestsAndActiveTutorings() {
+        TutoringRequest open = tutoringRequestRepository().save(request(RequestStatus.Conversando));
+        TutoringRequest assigned = tutoringRequestRepository().save(request(RequestStatus.Asignada));
+        Tutoring active = tutoringRepository().save(tutoring(TutoringStatus.Activa));
+        Tutoring completed = tutoringRepository().save(tutoring(TutoringStatus.Completada));
+        afterWrite();
+
+        List<SkillChapterEntry> demand = statisticsRepository().findOpenRequestSkills();
+        List<SkillChapterEntry> supply = statisticsRepository().findActiveTutoringSkills();
+
+        assertTrue(demand.contains(new SkillChapterEntry(open.getId(), java.getId(), java.getName(), chapter.getId(), chapter.getName())));
+        assertTrue(demand.stream().noneMatch(entry -> entry.itemId().equals(assigned.getId())));
+        assertEquals(Set.of(java.getId(), spring.getId()), supply.stream()
+                .filter(entry -> entry.itemId().equals(active.getId()))
+                .map(SkillChapterEntry::skillId)
+                .collect(Collectors.toSet()));
+        assertTrue(supply.stream().noneMatch(entry -> entry.itemId().equals(completed.getId())));
+    }
+
+    @Test
+    void statisticsRollup_Events_ShouldBeReadInIdOrderAfterWatermark() {
+        Instant now = Instant.now();
+        statisticsRollupRepository().appendEvent(StatisticMetric.REQUESTS_CREATED, chapter.getId(), now);
+        statisticsRollupRepository().appendEvent(StatisticMetric.REQUESTS_APPROVED, chapter.getId(), now);
+        statisticsRollupRepository().appendEvent(StatisticMetric.TUTORINGS_STARTED, null, now);
+        afterWrite();
+
+        List<StatisticEvent> events = statisticsRollupRepository().findEventsAfter(0, 10);
+        List<StatisticEvent> afterFirst = statisticsRollupRepository().findEventsAfter(events.get(0).id(), 10);
+
+        assertEquals(List.of(StatisticMetric.REQUESTS_CREATED, StatisticMetric.REQUESTS_APPROVED, StatisticMetric.TUTORINGS_STARTED),
+                events.stream().map(StatisticEvent::metric).toList());
+        assertTrue(events.get(0).id() < events.get(1).id() && events.get(1).id() < events.get(2).id());
+        assertNull(events.get(2).chapterId());
+        assertEquals(events.subList(1, 3), afterFirst);
+    }
+
+    @Test
+    void statisticsRollup_Rollups_ShouldAccumulateAndFilterByDayAndChapter() {
+        LocalDate day = LocalDate.of(2025, 3, 10);
+        statisticsRollupRepository().incrementRollup(day, chapter.getId(), StatisticMetric.REQUESTS_CREATED, 2);
+        statisticsRollupRepository().incrementRollup(day, chapter.getId(), StatisticMetric.REQUESTS_CREATED, 3);
+        statisticsRollupRepository().incrementRollup(day, null, StatisticMetric.REQUESTS_CREATED, 1);
+        statisticsRollupRepository().incrementRollup(day.plusDays(1), chapter.getId(), StatisticMetric.TUTORINGS_COMPLETED, 4);
+        afterWrite();
+
+        assertEquals(List.of(new DailyRollup(day, chapter.getId(), StatisticMetric.REQUESTS_CREATED, 5)),
+                statisticsRollupRepository().findRollups(day, day, chapter.getId()));
+        assertEquals(6, statisticsRollupRepository().findRollups(day, day, null).stream().mapToLong(DailyRollup::count).sum());
+        assertEquals(2, statisticsRollupRepository().findRollups(day, day.plusDays(1), chapter.getId()).size());
+    }
+
+    @Test
+    void statisticsRollup_Watermark_ShouldStartAtZeroAndBeOverwritten() {
+        String job = "job-" + suffix;
+        assertEquals(0, statisticsRollupRepository().findWatermark(job));
+
+        statisticsRollupRepository().saveWatermark(job, 42);
+        statisticsRollupRepository().saveWatermark(job, 43);
+        afterWrite();
+
+        assertEquals(43, statisticsRollupRepository().findWatermark(job));
+    }
+
+    @Test
+    void statusTransition_SaveAll_ShouldAssignIdsAndPageById() {
+        Instant now = Instant.now();
+        statusTransitionRepository().saveAll(List.of(
+                new StatusTransition(null, TransitionSubject.REQUEST, "r-" + suffix, chapter.getId(), null, "Pendiente", now, null),
+                new StatusTransition(null, TransitionSubject.REQUEST, "r-" + suffix, chapter.getId(), "Pendiente", "Aprobada", now, 1_500L),
+                new StatusTransition(null, TransitionSubject.TUTORING, "t-" + suffix, null, "Activa", "Completada", now, 60_000L)));
+        afterWrite();
+
+        List<StatusTransition> first = statusTransitionRepository().findAfter("", 2);
+        List<StatusTransition> rest = statusTransitionRepository().findAfter(first.get(1).id(), 2);
+
+        assertEquals(2, first.size());
+        assertEquals(1, rest.size());
+        assertTrue(first.get(0).id().compareTo(first.get(1).id()) < 0 && first.get(1).id().compareTo(rest.get(0).id()) < 0);
+        StatusTransition approved = Stream.concat(first.stream(), rest.stream())
+                .filter(transition -> "Aprobada".equals(transition.toStatus()))
+                .findFirst().orElseThrow();
+        assertEquals("Pendiente", approved.fromStatus());
+        assertEquals(1_500L, approved.elapsedMillis());
+        assertEquals(chapter.getId(), approved.chapterId());
+    }
+
+    @Test
+    void statusTransition_FindLastOccurredAt_ShouldReturnLatestTransitionOfTheSubject() {
+        Instant created = Instant.now().truncatedTo(ChronoUnit.MILLIS).minusSeconds(600);
+        Instant approved = created.plusSeconds(300);
+        statusTransitionRepository().saveAll(List.of(
+                new StatusTransition(null, TransitionSubject.REQUEST, "r-" + suffix, chapter.getId(), "Pendiente", "Aprobada", approved, 300_000L),
+                new StatusTransition(null, TransitionSubject.REQUEST, "r-" + suffix, chapter.getId(), null, "Pendiente", created, null),
+                new StatusTransition(null, TransitionSubject.TUTORING, "r-" + suffix, null, null, "Activa", Instant.now(), null)));
+        afterWrite();
+
+        assertEquals(Map.of("r-" + suffix, approved), statusTransitionRepository().findLastOccurredAt(TransitionSubject.REQUEST,
+                List.of("r-" + suffix, "missing-" + suffix)));
+        assertTrue(statusTransitionRepository().findLastOccurredAt(TransitionSubject.REQUEST, List.of()).isEmpty());
+    }
+
+    @Test
+    void searchSource_FindDocuments_ShouldPageByIdAndSkipMissingText() {
+        Tutoring first = tutoringRepository().save(tutoring(TutoringStatus.Activa));
+        Tutoring second = tutoringRepository().save(tutoring(TutoringStatus.Activa));
+        Tutoring withoutObjectives = tutoring(TutoringStatus.Activa);
+        withoutObjectives.setObjectives(null);
+        withoutObjectives = tutoringRepository().save(withoutObjectives);
+        TutoringRequest request = tutoringRequestRepository().save(request(RequestStatus.Pendiente));
+        afterWrite();
+
+        List<SearchDocument> tutorings = searchSourceRepository().findDocuments(SearchDocumentType.TUTORING, "", 1000);
+        List<String> ids = tutorings.stream().map(SearchDocument::id).toList();
+        String lowest = first.getId().compareTo(second.getId()) < 0 ? first.getId() : second.getId();
+        String highest = lowest.equals(first.getId()) ? second.getId() : first.getId();
+
+        assertTrue(ids.containsAll(List.of(first.getId(), second.getId())));
+        assertFalse(ids.contains(withoutObjectives.getId()));
+        assertEquals(ids.stream().sorted().toList(), ids);
+        assertEquals("Objetivos " + suffix, tutorings.get(ids.indexOf(lowest)).text());
+        assertEquals(List.of(highest), searchSourceRepository().findDocuments(SearchDocumentType.TUTORING, lowest, 1000).stream()
+                .map(SearchDocument::id).filter(id -> id.equals(first.getId()) || id.equals(second.getId())).toList());
+        assertEquals(1, searchSourceRepository().findDocuments(SearchDocumentType.TUTORING, "", 1).size());
+        assertTrue(searchSourceRepository().findDocuments(SearchDocumentType.TUTORING_REQUEST, "", 1000).stream()
+                .anyMatch(document -> document.id().equals(request.getId()) && document.text().equals("Necesidad " + suffix)));
+    }
+
+    @Test
+    void tutorProfileSource_FindTutoringSkills_ShouldPageByIdWithSkills() {
+        Tutoring active = tutoringRepository().save(tutoring(TutoringStatus.Activa));
+        Tutoring withoutSkills = tutoring(TutoringStatus.Completada);
+        withoutSkills.setSkills(new ArrayList<>());
+        withoutSkills = tutoringRepository().save(withoutSkills);
+        afterWrite();
+
+        Map<String, TutoringSkills> byId = tutorProfileSourceRepository().findTutoringSkills("", 1000).stream()
+                .collect(Collectors.toMap(TutoringSkills::tutoringId, tutoring -> tutoring));
+        List<String> ids = List.copyOf(byId.keySet());
+
+        assertEquals(tutor.getId(), byId.get(active.getId()).tutorId());
+        assertEquals(TutoringStatus.Activa, byId.get(active.getId()).status());
+        assertEquals(Set.of(java.getId(), spring.getId()), Set.copyOf(byId.get(active.getId()).skillIds()));
+        assertTrue(byId.get(withoutSkills.getId()).skillIds().isEmpty());
+        assertEquals(1, tutorProfileSourceRepository().findTutoringSkills("", 1).size());
+        String lowest = ids.stream().sorted().findFirst().orElseThrow();
+        assertTrue(tutorProfileSourceRepository().findTutoringSkills(lowest, 1000).stream()
+                .noneMatch(tutoring -> tutoring.tutoringId().compareTo(lowest) <= 0));
+    }
+
+    @Test
+    void tutorProfileSource_AggregateSkillHistory_ShouldCountTutoringsPerTutorAndSkill() {
+        tutoringRepository().save(tutoring(TutoringStatus.Activa));
+        tutoringRepository().save(tutoring(TutoringStatus.Completada));
+        afterWrite();
+
+        Map<String, TutorSkillProfile> byKey = tutorProfileSourceRepository().aggregateSkillHistory().stream()
+                .collect(Collectors.toMap(TutorSkillProfile::key, profile -> profile));
+        TutorSkillProfile javaProfile = byKey.get(TutorSkillProfile.key(tutor.getId(), java.getId()));
+
+        assertEquals(2, javaProfile.getTutoringCount());
+        assertEquals(1, javaProfile.getCompletedCount());
+        assertNotNull(javaProfile.getLastTaughtAt());
+        assertEquals(2, byKey.get(TutorSkillProfile.key(tutor.getId(), spring.getId())).getTutoringCount());
+        assertFalse(byKey.containsKey(TutorSkillProfile.key(tutee.getId(), java.getId())));
+    }
+
+    @Test
+    void tutorSkillProfile_Increment_ShouldAccumulateAndKeepLatestDate() {
+        String tutorId = "tutor-" + suffix;
+        long before = tutorSkillProfileRepository().count();
+        tutorSkillProfileRepository().increment(tutorId, "java", 1, 0, new Date(2_000L));
+        tutorSkillProfileRepository().increment(tutorId, "java", 0, 1, new Date(1_000L));
+        tutorSkillProfileRepository().saveAll(List.of(new TutorSkillProfile(tutorId, "go", 3, 2, new Date(5_000L))));
+        afterWrite();
+
+        List<TutorSkillProfile> profiles = tutorSkillProfileRepository().findAfter(tutorId + ":", 10).stream()
+                .filter(profile -> profile.getTutorId().equals(tutorId))
+                .toList();
+
+        assertEquals(before + 2, tutorSkillProfileRepository().count());
+        assertEquals(List.of("go", "java"), profiles.stream().map(TutorSkillProfile::getSkillId).toList());
+        assertEquals(1, profiles.get(1).getTutoringCount());
+        assertEquals(1, profiles.get(1).getCompletedCount());
+        assertEquals(2_000L, profiles.get(1).getLastTaughtAt().getTime());
+        assertEquals(1, tutorSkillProfileRepository().findAfter(TutorSkillProfile.key(tutorId, "go"), 1).stream()
+                .filter(profile -> profile.getTutorId().equals(tutorId)).count());
+    }
+
+    @Test
+    void findById_WithUnknownId_ShouldBeEmpty() {
+        String id = "missing-" + suffix;
+
+        assertTrue(tutoringRepository().findById(id).isEmpty());
+        assertTrue(tutoringRequestRepository().findById(id).isEmpty());
+        assertTrue(userRepository().findById(id).isEmpty());
+        assertTrue(feedbackRepository().findById(id).isEmpty());
+        assertTrue(tutoringSessionRepository().findById(id).isEmpty());
+        assertNull(userRepository().findByGoogleUserId(id).orElse(null));
+    }
+
+    private User user(String role, RolUsuario rol, int seniority) {
+        return new User(null, role, suffix, role + "-" + suffix + "@pragma.com", "google-" + role + "-" + suffix,
+                null, chapter, rol, 3, seniority);
+    }
+
+    private Tutoring tutoring(TutoringStatus status) {
+        Tutoring tutoring = new Tutoring();
+        tutoring.setTutor(tutor);
+        tutoring.setTutee(tutee);
+        tutoring.setSkills(new ArrayList<>(List.of(java, spring)));
+        tutoring.setStartDate(new Date());
+        tutoring.setExpectedEndDate(new Date());
+        tutoring.setStatus(status);
+        tutoring.setObjectives("Objetivos " + suffix);
+        return tutoring;
+    }
+
+    private static Tutoring dueAt(Tutoring tutoring, long expectedEndMillis) {
+        tutoring.setExpectedEndDate(new Date(expectedEndMillis));
+        return tutoring;
+    }
+
+    private TutoringRequest request(RequestStatus status) {
+        TutoringRequest request = new TutoringRequest();
+        request.setTutee(tutee);
+        request.setSkills(new ArrayList<>(List.of(java)));
+        request.setNeedsDescription("Necesidad " + suffix);
+        request.setRequestDate(new Date());
+        request.setRequestStatus(status);
+        return request;
+    }
+
+    private static TutoringSession session(Tutoring tutoring, String instant) {
+        return new TutoringSession(null, tutoring, Instant.parse(instant), 60, null, null, null, TutoringsSessionStatus.Programada, null);
+    }
+
+    private static List<String> ids(List<?> items) {
+        return items.stream()
+                .map(item -> item instanceof Tutoring tutoring ? tutoring.getId() : ((TutoringRequest) item).getId())
+                .toList();
+    }
+}
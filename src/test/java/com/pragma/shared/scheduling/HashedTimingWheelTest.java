@@ -0,0 +1,195 @@
+package com.pragma.shared.scheduling;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedTimingWheelTest {
+
+    private static final Instant START = Instant.parse("2025-06-01T00:00:00Z");
+
+    private MutableClock clock;
+    private HashedTimingWheel wheel;
+    private List<String> fired;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START);
+        wheel = new HashedTimingWheel(Duration.ofSeconds(1), 8, clock);
+        fired = new ArrayList<>();
+    }
+
+    @Test
+    void advance_ShouldFireTasksInDeadlineOrder() {
+        wheel.schedule("b", START.plusSeconds(5), () -> fired.add("b"));
+        wheel.schedule("a", START.plusSeconds(2), () -> fired.add("a"));
+
+        clock.set(START.plusSeconds(4));
+        wheel.advance();
+        assertEquals(List.of("a"), fired);
+
+        clock.set(START.plusSeconds(5));
+        wheel.advance();
+        assertEquals(List.of("a", "b"), fired);
+        assertEquals(0, wheel.pending());
+    }
+
+    @Test
+    void advance_WithWorkers_ShouldRunTasksOffTheTickThread() throws InterruptedException {
+        HashedTimingWheel pooled = new HashedTimingWheel(Duration.ofSeconds(1), 8, clock, 1);
+        pooled.start();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        List<String> threads = new CopyOnWriteArrayList<>();
+        try {
+            pooled.schedule("slow", START.plusSeconds(1), () -> {
+                threads.add(Thread.currentThread().getName());
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                done.countDown();
+            });
+
+            // Una tarea lenta no bloquea el avance de la rueda
+            clock.set(START.plusSeconds(1));
+            assertTimeoutPreemptively(Duration.ofSeconds(5), pooled::advance);
+            release.countDown();
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of("timing-wheel-worker-1"), threads);
+        } finally {
+            pooled.stop();
+        }
+    }
+
+    @Test
+    void advance_ShouldWaitExtraRoundsForDistantDeadlines() {
+        // 8 buckets of 1s: a 19s deadline shares the bucket of 3s and 11s
+        wheel.schedule("far", START.plusSeconds(19), () -> fired.add("far"));
+
+        clock.set(START.plusSeconds(18));
+        wheel.advance();
+        assertTrue(fired.isEmpty());
+
+        clock.set(START.plusSeconds(19));
+        wheel.advance();
+        assertEquals(List.of("far"), fired);
+    }
+
+    @Test
+    void advance_ShouldRoundPartialTicksUp() {
+        wheel.schedule("late", START.plusMillis(2500), () -> fired.add("late"));
+
+        clock.set(START.plusMillis(2999));
+        wheel.advance();
+        assertTrue(fired.isEmpty());
+
+        clock.set(START.plusSeconds(3));
+        wheel.advance();
+        assertEquals(List.of("late"), fired);
+    }
+
+    @Test
+    void schedule_PastDeadline_ShouldFireOnNextTick() {
+        clock.set(START.plusSeconds(10));
+        wheel.advance();
+
+        wheel.schedule("overdue", START, () -> fired.add("overdue"));
+        clock.set(START.plusSeconds(11));
+        wheel.advance();
+
+        assertEquals(List.of("overdue"), fired);
+    }
+
+    @Test
+    void cancel_ShouldPreventExecution() {
+        wheel.schedule("a", START.plusSeconds(2), () -> fired.add("a"));
+
+        assertTrue(wheel.cancel("a"));
+        assertFalse(wheel.cancel("a"));
+
+        clock.set(START.plusSeconds(5));
+        wheel.advance();
+        assertTrue(fired.isEmpty());
+    }
+
+    @Test
+    void schedule_SameKey_ShouldReplacePreviousTask() {
+        wheel.schedule("a", START.plusSeconds(2), () -> fired.add("first"));
+        wheel.schedule("a", START.plusSeconds(3), () -> fired.add("second"));
+
+        clock.set(START.plusSeconds(5));
+        wheel.advance();
+
+        assertEquals(List.of("second"), fired);
+    }
+
+    @Test
+    void advance_FailingTask_ShouldNotStopOthers() {
+        wheel.schedule("boom", START.plusSeconds(1), () -> {
+            throw new IllegalStateException("boom");
+        });
+        wheel.schedule("ok", START.plusSeconds(1), () -> fired.add("ok"));
+
+        clock.set(START.plusSeconds(1));
+        wheel.advance();
+
+        assertEquals(List.of("ok"), fired);
+    }
+
+    @Test
+    void schedule_ManyTasks_ShouldKeepCountsConsistent() {
+        for (int i = 0; i < 100_000; i++) {
+            wheel.schedule("task-" + i, START.plusSeconds(1 + i % 1000), () -> { });
+        }
+        for (int i = 0; i < 100_000; i += 2) {
+            wheel.cancel("task-" + i);
+        }
+        assertEquals(50_000, wheel.pending());
+
+        clock.set(START.plusSeconds(1000));
+        wheel.advance();
+        assertEquals(0, wheel.pending());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void set(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.pragma.statistics.application.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void index_ShouldMapEveryValueIntoABucketThatContainsIt() {
+        for (long value : new long[]{0, 1, 63, 64, 65, 127, 128, 1_000, 86_400_000L, 1L << 40, (1L << 41) - 1}) {
+            int index = LatencyHistogram.index(value);
+            assertTrue(index < LatencyHistogram.COUNTERS);
+            assertTrue(LatencyHistogram.highestEquivalentValue(index) >= value);
+            assertTrue(index == 0 || LatencyHistogram.highestEquivalentValue(index - 1) < value);
+        }
+    }
+
+    @Test
+    void valueAtPercentile_ShouldStayWithinTheBucketPrecision() {
+        // Given: 1..10000 ms, uno de cada valor
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long millis = 1; millis <= 10_000; millis++) {
+            histogram.record(millis);
+        }
+
+        // Then: cada percentil se aleja como mucho un 3.2% del valor exacto
+        assertEquals(10_000, histogram.count());
+        assertWithin(5_000, histogram.valueAtPercentile(50));
+        assertWithin(9_000, histogram.valueAtPercentile(90));
+        assertWithin(9_900, histogram.valueAtPercentile(99));
+        assertEquals(10_000, histogram.valueAtPercentile(100));
+        assertEquals(10_000, histogram.max());
+    }
+
+    @Test
+    void add_ShouldMergeCountsAndMaximum() {
+        LatencyHistogram fast = new LatencyHistogram();
+        LatencyHistogram slow = new LatencyHistogram();
+        fast.record(10);
+        slow.record(5_000);
+        slow.record(-3);
+
+        LatencyHistogram merged = new LatencyHistogram();
+        merged.add(fast);
+        merged.add(slow);
+
+        assertEquals(3, merged.count());
+        assertEquals(5_000, merged.max());
+        assertEquals(0, merged.valueAtPercentile(1));
+        assertEquals(10, merged.valueAtPercentile(50));
+        assertEquals(0, new LatencyHistogram().valueAtPercentile(99));
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / 31, () -> "esperado ~" + expected + " pero fue " + actual);
+    }
+}
@@ -0,0 +1,121 @@
+package com.pragma.statistics.application.service;
+
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.skills.domain.model.Skill;
+import com.pragma.statistics.domain.model.SkillChapterEntry;
+import com.pragma.statistics.domain.model.SkillHeatmap;
+import com.pragma.statistics.domain.port.output.StatisticsRepository;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings_requests.domain.model.TutoringRequest;
+import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import com.pragma.usuarios.domain.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SkillHeatmapServiceTest {
+
+    @Mock
+    private StatisticsRepository statisticsRepository;
+
+    @InjectMocks
+    private SkillHeatmapService skillHeatmapService;
+
+    @BeforeEach
+    void setUp() {
+        // Given: r1 pide Java y Spring desde Backend, r2 pide Java desde Frontend; t1 enseña Java en Backend
+        when(statisticsRepository.findOpenRequestSkills()).thenReturn(List.of(
+                new SkillChapterEntry("r1", "java", "Java", "backend", "Backend"),
+                new SkillChapterEntry("r1", "spring", "Spring", "backend", "Backend"),
+                new SkillChapterEntry("r2", "java", "Java", "frontend", "Frontend")));
+        when(statisticsRepository.findActiveTutoringSkills()).thenReturn(List.of(
+                new SkillChapterEntry("t1", "java", "Java", "backend", "Backend")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldBuildTheMatrixOnceWithAxesSortedByName() {
+        // When
+        SkillHeatmap heatmap = skillHeatmapService.getSkillHeatmap();
+        skillHeatmapService.getSkillHeatmap();
+
+        // Then
+        assertEquals(List.of("Java", "Spring"), heatmap.getSkillNames());
+        assertEquals(List.of("backend", "frontend"), heatmap.getChapterIds());
+        assertArrayEquals(new int[][]{{1, 1}, {1, 0}}, heatmap.getDemand());
+        assertArrayEquals(new int[][]{{1, 0}, {0, 0}}, heatmap.getSupply());
+        verify(statisticsRepository, times(1)).findOpenRequestSkills();
+    }
+
+    @Test
+    void shouldReplaceTheContributionOfEachWriteAfterCommit() {
+        // Given
+        skillHeatmapService.rebuild();
+        Chapter backend = new Chapter("backend", "Backend");
+        Chapter data = new Chapter("data", "Data");
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When: r1 pasa a Asignada, r3 nueva desde Data, r2 se elimina, t1 se completa y t2 empieza
+        skillHeatmapService.requestSaved(request("r1", RequestStatus.Asignada, backend, "java", "spring"));
+        skillHeatmapService.requestSaved(request("r3", RequestStatus.Pendiente, data, "spring", "spring"));
+        skillHeatmapService.requestDeleted("r2");
+        skillHeatmapService.tutoringSaved(tutoring("t1", TutoringStatus.Completada, backend, "java"));
+        skillHeatmapService.tutoringSaved(tutoring("t2", TutoringStatus.Activa, data, "spring"));
+
+        // Then
+        assertArrayEquals(new int[][]{{1, 1}, {1, 0}}, skillHeatmapService.getSkillHeatmap().getDemand());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        SkillHeatmap heatmap = skillHeatmapService.getSkillHeatmap();
+        assertEquals(List.of("backend", "data", "frontend"), heatmap.getChapterIds());
+        assertArrayEquals(new int[][]{{0, 0, 0}, {0, 1, 0}}, heatmap.getDemand());
+        assertArrayEquals(new int[][]{{0, 0, 0}, {0, 1, 0}}, heatmap.getSupply());
+    }
+
+    private static TutoringRequest request(String id, RequestStatus status, Chapter chapter, String... skillIds) {
+        User tutee = new User();
+        tutee.setId("tutee-" + id);
+        tutee.setChapter(chapter);
+        return new TutoringRequest(id, tutee, skills(skillIds), "Necesidad", new Date(), status, null, new Date(), new Date());
+    }
+
+    private static Tutoring tutoring(String id, TutoringStatus status, Chapter chapter, String... skillIds) {
+        User tutor = new User();
+        tutor.setId("tutor-" + id);
+        tutor.setChapter(chapter);
+        Tutoring tutoring = new Tutoring();
+        tutoring.setId(id);
+        tutoring.setTutor(tutor);
+        tutoring.setStatus(status);
+        tutoring.setSkills(skills(skillIds));
+        return tutoring;
+    }
+
+    private static List<Skill> skills(String... ids) {
+        return Arrays.stream(ids).map(id -> new Skill(id, id.substring(0, 1).toUpperCase() + id.substring(1))).toList();
+    }
+}
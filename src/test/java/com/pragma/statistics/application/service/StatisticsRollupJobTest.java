@@ -0,0 +1,60 @@
+package com.pragma.statistics.application.service;
+
+import com.pragma.shared.config.StatisticsProperties;
+import com.pragma.shared.persistence.memory.JobLeaseInMemoryAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatisticsRollupJobTest {
+
+    @Mock
+    private StatisticsRollupService statisticsRollupService;
+
+    private JobLeaseInMemoryAdapter leases;
+    private StatisticsRollupJob job;
+
+    @BeforeEach
+    void setUp() {
+        leases = new JobLeaseInMemoryAdapter();
+        StatisticsProperties properties = new StatisticsProperties();
+        properties.setRollupBatchSize(2);
+        job = new StatisticsRollupJob(statisticsRollupService, properties, leases);
+    }
+
+    @Test
+    void rollupPending_ShouldProcessBatchesUntilOneIsNotFullAndReleaseTheLease() {
+        // Arrange: dos lotes llenos y uno parcial
+        when(statisticsRollupService.rollupNextBatch()).thenReturn(2, 2, 1);
+
+        // Act
+        int processed = job.rollupPending();
+
+        // Assert
+        assertEquals(5, processed);
+        verify(statisticsRollupService, times(3)).rollupNextBatch();
+        assertTrue(leases.tryAcquire(StatisticsRollupJob.JOB, "other-replica", Instant.now(), Instant.now().plusSeconds(60)));
+    }
+
+    @Test
+    void rollupPending_WhenAnotherReplicaHoldsTheLease_ShouldDoNothing() {
+        // Arrange
+        leases.tryAcquire(StatisticsRollupJob.JOB, "other-replica", Instant.now(), Instant.now().plusSeconds(300));
+
+        // Act
+        int processed = job.rollupPending();
+
+        // Assert
+        assertEquals(0, processed);
+        verifyNoInteractions(statisticsRollupService);
+    }
+}
@@ -0,0 +1,133 @@
+package com.pragma.statistics.application.service;
+
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.shared.config.StatisticsProperties;
+import com.pragma.shared.config.TutoringSessionProperties;
+import com.pragma.statistics.domain.model.DailyRollup;
+import com.pragma.statistics.domain.model.StatisticEvent;
+import com.pragma.statistics.domain.model.TimeSeries;
+import com.pragma.statistics.domain.model.TimeSeriesPoint;
+import com.pragma.statistics.domain.model.enums.StatisticMetric;
+import com.pragma.statistics.domain.model.enums.TimeSeriesGranularity;
+import com.pragma.statistics.domain.port.output.StatisticsRollupRepository;
+import com.pragma.tutorings_requests.domain.model.TutoringRequest;
+import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import com.pragma.usuarios.domain.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StatisticsRollupServiceTest {
+
+    @Mock
+    private StatisticsRollupRepository rollupRepository;
+
+    private StatisticsRollupService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new StatisticsRollupService(rollupRepository, new StatisticsProperties(), new TutoringSessionProperties());
+    }
+
+    @Test
+    void requestStatusChanged_ShouldRecordCountedStatusesWithTuteeChapter() {
+        // Given: una solicitud cancelada de un tutee del capítulo backend y otra en conversación
+        User tutee = new User();
+        tutee.setChapter(new Chapter("backend", "Backend"));
+        TutoringRequest cancelled = new TutoringRequest();
+        cancelled.setTutee(tutee);
+        cancelled.setRequestStatus(RequestStatus.Cancelada);
+        TutoringRequest talking = new TutoringRequest();
+        talking.setTutee(tutee);
+        talking.setRequestStatus(RequestStatus.Conversando);
+
+        // When
+        service.requestStatusChanged(cancelled);
+        service.requestStatusChanged(talking);
+
+        // Then: solo la cancelación se registra
+        verify(rollupRepository).appendEvent(eq(StatisticMetric.REQUESTS_CANCELLED), eq("backend"), any(Instant.class));
+        verify(rollupRepository, never()).appendEvent(eq(StatisticMetric.REQUESTS_APPROVED), any(), any());
+    }
+
+    @Test
+    void rollupNextBatch_ShouldFoldSettledEventsAndStopAtRecentOnes() {
+        // Given: dos eventos del mismo día y capítulo, uno sin capítulo y uno demasiado reciente
+        Instant old = Instant.parse("2025-03-10T15:00:00Z");
+        when(rollupRepository.findWatermark(StatisticsRollupService.ROLLUP_JOB)).thenReturn(10L);
+        when(rollupRepository.findEventsAfter(10L, 500)).thenReturn(List.of(
+                new StatisticEvent(11, StatisticMetric.REQUESTS_CREATED, "backend", old),
+                new StatisticEvent(12, StatisticMetric.REQUESTS_CREATED, "backend", old.plusSeconds(60)),
+                new StatisticEvent(13, StatisticMetric.TUTORINGS_STARTED, null, old),
+                new StatisticEvent(14, StatisticMetric.REQUESTS_CREATED, "backend", Instant.now())));
+
+        // When
+        int processed = service.rollupNextBatch();
+
+        // Then
+        assertEquals(3, processed);
+        LocalDate day = LocalDate.of(2025, 3, 10);
+        verify(rollupRepository).incrementRollup(day, "backend", StatisticMetric.REQUESTS_CREATED, 2);
+        verify(rollupRepository).incrementRollup(eq(day), isNull(), eq(StatisticMetric.TUTORINGS_STARTED), eq(1L));
+        verify(rollupRepository).saveWatermark(StatisticsRollupService.ROLLUP_JOB, 13);
+    }
+
+    @Test
+    void rollupNextBatch_WithoutSettledEvents_ShouldKeepWatermark() {
+        when(rollupRepository.findEventsAfter(0L, 500)).thenReturn(List.of(
+                new StatisticEvent(1, StatisticMetric.REQUESTS_CREATED, "backend", Instant.now())));
+
+        assertEquals(0, service.rollupNextBatch());
+        verify(rollupRepository, never()).saveWatermark(any(), anyLong());
+    }
+
+    @Test
+    void getTimeSeries_ByWeek_ShouldAddDailyRollupsIntoDensePoints() {
+        // Given: miércoles 12 y viernes 14 de marzo caen en la semana del lunes 10; el domingo 23, en la del 17
+        LocalDate from = LocalDate.of(2025, 3, 12);
+        LocalDate to = LocalDate.of(2025, 3, 23);
+        when(rollupRepository.findRollups(from, to, "backend")).thenReturn(List.of(
+                new DailyRollup(LocalDate.of(2025, 3, 12), "backend", StatisticMetric.REQUESTS_CREATED, 2),
+                new DailyRollup(LocalDate.of(2025, 3, 14), "backend", StatisticMetric.REQUESTS_CREATED, 1),
+                new DailyRollup(LocalDate.of(2025, 3, 23), "backend", StatisticMetric.TUTORINGS_COMPLETED, 4)));
+
+        // When
+        TimeSeries series = service.getTimeSeries(from, to, TimeSeriesGranularity.WEEK, "backend");
+
+        // Then: semanas del 10 y del 17 de marzo, con todas las métricas
+        assertEquals(List.of(LocalDate.of(2025, 3, 10), LocalDate.of(2025, 3, 17)),
+                series.getPoints().stream().map(TimeSeriesPoint::periodStart).toList());
+        assertEquals(3L, series.getPoints().get(0).counts().get(StatisticMetric.REQUESTS_CREATED));
+        assertEquals(0L, series.getPoints().get(0).counts().get(StatisticMetric.TUTORINGS_COMPLETED));
+        assertEquals(4L, series.getPoints().get(1).counts().get(StatisticMetric.TUTORINGS_COMPLETED));
+        assertEquals(StatisticMetric.values().length, series.getPoints().get(1).counts().size());
+    }
+
+    @Test
+    void getTimeSeries_WithInvalidRange_ShouldThrow() {
+        LocalDate today = LocalDate.of(2025, 3, 10);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getTimeSeries(today, today.minusDays(1), TimeSeriesGranularity.DAY, null));
+        assertThrows(IllegalArgumentException.class, () -> service.getTimeSeries(today,
+                today.plus(StatisticsRollupService.MAX_PERIODS, ChronoUnit.DAYS), TimeSeriesGranularity.DAY, null));
+    }
+}
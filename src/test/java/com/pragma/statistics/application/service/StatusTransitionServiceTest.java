@@ -0,0 +1,181 @@
+package com.pragma.statistics.application.service;
+
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.statistics.domain.model.StatusTransition;
+import com.pragma.statistics.domain.model.TransitionLatency;
+import com.pragma.statistics.domain.model.enums.TransitionSubject;
+import com.pragma.statistics.domain.port.output.StatusTransitionRepository;
+import com.pragma.tutorings_requests.domain.model.TutoringRequest;
+import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import com.pragma.usuarios.domain.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StatusTransitionServiceTest {
+
+    @Mock
+    private StatusTransitionRepository statusTransitionRepository;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void transitionsOfATransaction_ShouldBeInsertedTogetherBeforeCommitAndMeasuredAfterCommit() {
+        // Given: una transacción en la que la solicitud se crea y se aprueba; la aprobación se mide desde
+        // la creación aún pendiente de insertar, sin consultar el registro
+        StatusTransitionService service = new StatusTransitionService(statusTransitionRepository);
+        TransactionSynchronizationManager.initSynchronization();
+        TutoringRequest request = request("r1", RequestStatus.Pendiente);
+        service.requestTransitioned(request, null);
+        request.setRequestStatus(RequestStatus.Aprobada);
+        service.requestTransitioned(request, RequestStatus.Pendiente);
+
+        // Then: nada se inserta ni se mide antes del commit
+        verify(statusTransitionRepository, never()).saveAll(any());
+        assertTrue(service.getTransitionLatencies("backend").isEmpty());
+
+        // When
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Then: un solo lote con las dos transiciones y un histograma Pendiente -> Aprobada
+        ArgumentCaptor<List<StatusTransition>> batch = ArgumentCaptor.forClass(List.class);
+        verify(statusTransitionRepository).saveAll(batch.capture());
+        assertEquals(2, batch.getValue().size());
+        assertNull(batch.getValue().get(0).fromStatus());
+        assertEquals("backend", batch.getValue().get(1).chapterId());
+
+        List<TransitionLatency> latencies = service.getTransitionLatencies("backend");
+        assertEquals(1, latencies.size());
+        TransitionLatency latency = latencies.get(0);
+        assertEquals("Pendiente", latency.fromStatus());
+        assertEquals("Aprobada", latency.toStatus());
+        assertEquals(1, latency.count());
+        assertTrue(latency.p50Millis() < 60_000);
+        verify(statusTransitionRepository, never()).findLastOccurredAt(any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void transition_ShouldMeasureFromTheLastLoggedTransitionNotFromUpdatedAt() {
+        // Given: la solicitud se editó hace un momento, pero cambió de estado por última vez hace 10 minutos
+        StatusTransitionService service = new StatusTransitionService(statusTransitionRepository);
+        TutoringRequest request = request("r1", RequestStatus.Aprobada);
+        request.setCreatedAt(new Date(System.currentTimeMillis() - 3_600_000));
+        request.setUpdatedAt(new Date());
+        when(statusTransitionRepository.findLastOccurredAt(TransitionSubject.REQUEST, List.of("r1")))
+                .thenReturn(Map.of("r1", Instant.now().minusSeconds(600)));
+
+        // When
+        service.requestTransitioned(request, RequestStatus.Pendiente);
+
+        // Then
+        ArgumentCaptor<List<StatusTransition>> saved = ArgumentCaptor.forClass(List.class);
+        verify(statusTransitionRepository).saveAll(saved.capture());
+        assertTrue(Math.abs(saved.getValue().get(0).elapsedMillis() - 600_000) < 60_000);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void transition_WithoutLoggedTransitions_ShouldMeasureFromCreation() {
+        // Given: una solicitud anterior al registro de transiciones, creada hace una hora
+        StatusTransitionService service = new StatusTransitionService(statusTransitionRepository);
+        TutoringRequest request = request("r1", RequestStatus.Aprobada);
+        request.setCreatedAt(new Date(System.currentTimeMillis() - 3_600_000));
+        request.setUpdatedAt(new Date());
+        when(statusTransitionRepository.findLastOccurredAt(TransitionSubject.REQUEST, List.of("r1"))).thenReturn(Map.of());
+
+        // When
+        service.requestTransitioned(request, RequestStatus.Pendiente);
+
+        // Then
+        ArgumentCaptor<List<StatusTransition>> saved = ArgumentCaptor.forClass(List.class);
+        verify(statusTransitionRepository).saveAll(saved.capture());
+        assertTrue(Math.abs(saved.getValue().get(0).elapsedMillis() - 3_600_000) < 60_000);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void requestsTransitioned_ShouldReadThePreviousTransitionsOfTheBatchWithOneQuery() {
+        // Given: dos solicitudes aprobadas en lote, una con transición registrada y otra sin ella
+        StatusTransitionService service = new StatusTransitionService(statusTransitionRepository);
+        TutoringRequest logged = request("r1", RequestStatus.Aprobada);
+        TutoringRequest legacy = request("r2", RequestStatus.Aprobada);
+        legacy.setCreatedAt(new Date(System.currentTimeMillis() - 3_600_000));
+        when(statusTransitionRepository.findLastOccurredAt(TransitionSubject.REQUEST, List.of("r1", "r2")))
+                .thenReturn(Map.of("r1", Instant.now().minusSeconds(600)));
+
+        // When
+        service.requestsTransitioned(List.of(logged, legacy), RequestStatus.Pendiente);
+
+        // Then
+        verify(statusTransitionRepository, times(1)).findLastOccurredAt(any(), any());
+        ArgumentCaptor<List<StatusTransition>> saved = ArgumentCaptor.forClass(List.class);
+        verify(statusTransitionRepository, times(2)).saveAll(saved.capture());
+        assertTrue(Math.abs(saved.getAllValues().get(0).get(0).elapsedMillis() - 600_000) < 60_000);
+        assertTrue(Math.abs(saved.getAllValues().get(1).get(0).elapsedMillis() - 3_600_000) < 60_000);
+    }
+
+    @Test
+    void rebuild_ShouldMergeChaptersWhenNoChapterIsRequested() {
+        // Given: la misma transición en dos capítulos
+        Instant now = Instant.now();
+        when(statusTransitionRepository.findAfter(anyString(), anyInt())).thenReturn(List.of(
+                new StatusTransition("1", TransitionSubject.REQUEST, "r1", "backend", "Pendiente", "Aprobada", now, 1_000L),
+                new StatusTransition("2", TransitionSubject.REQUEST, "r2", "frontend", "Pendiente", "Aprobada", now, 3_000L),
+                new StatusTransition("3", TransitionSubject.TUTORING, "t1", "backend", null, "Activa", now, null)));
+        StatusTransitionService service = new StatusTransitionService(statusTransitionRepository);
+
+        // When
+        int read = service.rebuild();
+
+        // Then
+        assertEquals(3, read);
+        assertEquals(1, service.getTransitionLatencies("frontend").size());
+        List<TransitionLatency> all = service.getTransitionLatencies(null);
+        assertEquals(1, all.size());
+        assertEquals(2, all.get(0).count());
+        assertNull(all.get(0).chapterId());
+        assertEquals(3_000, all.get(0).maxMillis());
+    }
+
+    private static TutoringRequest request(String id, RequestStatus status) {
+        User tutee = new User();
+        tutee.setChapter(new Chapter("backend", "Backend"));
+        TutoringRequest request = new TutoringRequest();
+        request.setId(id);
+        request.setTutee(tutee);
+        request.setRequestStatus(status);
+        return request;
+    }
+}
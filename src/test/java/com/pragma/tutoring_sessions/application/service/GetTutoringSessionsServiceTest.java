@@ -0,0 +1,77 @@
+package com.pragma.tutoring_sessions.application.service;
+
+import com.pragma.shared.config.TutoringSessionProperties;
+import com.pragma.tutoring_sessions.domain.model.TutoringSession;
+import com.pragma.tutoring_sessions.domain.port.output.TutoringSessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GetTutoringSessionsServiceTest {
+
+    @Mock
+    private TutoringSessionRepository tutoringSessionRepository;
+
+    private TutoringSessionProperties properties;
+    private GetTutoringSessionsService service;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        properties = new TutoringSessionProperties();
+        properties.setDefaultZone("America/Bogota");
+        service = new GetTutoringSessionsService(tutoringSessionRepository, new SessionDateTimeParser(properties), properties);
+    }
+
+    @Test
+    void getSessionsByParticipant_ShouldQueryRangeInDefaultZone() {
+        // Arrange
+        TutoringSession session = new TutoringSession();
+        Instant from = Instant.parse("2025-06-01T05:00:00Z");
+        Instant to = Instant.parse("2025-06-08T05:00:00Z");
+        when(tutoringSessionRepository.findByParticipantAndRange("user-1", from, to)).thenReturn(List.of(session));
+
+        // Act
+        List<TutoringSession> result = service.getSessionsByParticipant("user-1", "2025-06-01", "2025-06-08T00:00:00");
+
+        // Assert
+        assertEquals(List.of(session), result);
+        verify(tutoringSessionRepository).findByParticipantAndRange("user-1", from, to);
+    }
+
+    @Test
+    void getSessionsByParticipant_WithInvertedRange_ShouldThrow() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> service.getSessionsByParticipant("user-1", "2025-06-08T00:00:00Z", "2025-06-01T00:00:00Z"));
+
+        assertEquals("'from' must be before 'to'", exception.getMessage());
+        verify(tutoringSessionRepository, never()).findByParticipantAndRange(any(), any(), any());
+    }
+
+    @Test
+    void getSessionsByParticipant_WithTooWideRange_ShouldThrow() {
+        properties.setMaxRangeDays(31);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> service.getSessionsByParticipant("user-1", "2025-01-01", "2025-03-01"));
+
+        assertEquals("The requested range cannot exceed 31 days", exception.getMessage());
+    }
+
+    @Test
+    void getSessionsByParticipant_WithoutParticipant_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getSessionsByParticipant(" ", "2025-01-01", "2025-01-02"));
+    }
+}
@@ -0,0 +1,93 @@
+package com.pragma.tutoring_sessions.application.service;
+
+import com.pragma.tutoring_sessions.domain.model.SessionSlot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionIntervalIndexTest {
+
+    private SessionIntervalIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SessionIntervalIndex();
+    }
+
+    @Test
+    void findOverlapping_ShouldMatchSharedParticipantOnly() {
+        index.put(slot("s1", "tutor-1", "tutee-1", "2025-06-02T10:00:00Z", 60));
+        index.put(slot("s2", "tutor-2", "tutee-2", "2025-06-02T10:00:00Z", 60));
+
+        List<SessionSlot> forTutee = index.findOverlapping(List.of("tutee-1"),
+                Instant.parse("2025-06-02T10:30:00Z"), Instant.parse("2025-06-02T11:30:00Z"));
+
+        assertEquals(List.of("s1"), forTutee.stream().map(SessionSlot::sessionId).toList());
+    }
+
+    @Test
+    void findOverlapping_ShouldTreatIntervalsAsHalfOpen() {
+        index.put(slot("s1", "tutor-1", "tutee-1", "2025-06-02T10:00:00Z", 60));
+
+        assertTrue(index.findOverlapping(List.of("tutor-1"),
+                Instant.parse("2025-06-02T11:00:00Z"), Instant.parse("2025-06-02T12:00:00Z")).isEmpty());
+        assertTrue(index.findOverlapping(List.of("tutor-1"),
+                Instant.parse("2025-06-02T09:00:00Z"), Instant.parse("2025-06-02T10:00:00Z")).isEmpty());
+        assertEquals(1, index.findOverlapping(List.of("tutor-1"),
+                Instant.parse("2025-06-02T10:59:00Z"), Instant.parse("2025-06-02T12:00:00Z")).size());
+    }
+
+    @Test
+    void findOverlapping_ShouldFindLongSessionStartingBeforeShortOnes() {
+        index.put(slot("long", "tutor-1", "tutee-1", "2025-06-02T08:00:00Z", 240));
+        index.put(slot("short", "tutor-1", "tutee-2", "2025-06-02T09:00:00Z", 30));
+
+        List<SessionSlot> result = index.findOverlapping(List.of("tutor-1"),
+                Instant.parse("2025-06-02T11:00:00Z"), Instant.parse("2025-06-02T11:30:00Z"));
+
+        assertEquals(List.of("long"), result.stream().map(SessionSlot::sessionId).toList());
+    }
+
+    @Test
+    void findOverlapping_ShouldReportSessionOnceWhenBothParticipantsMatch() {
+        index.put(slot("s1", "tutor-1", "tutee-1", "2025-06-02T10:00:00Z", 60));
+
+        assertEquals(1, index.findOverlapping(List.of("tutor-1", "tutee-1"),
+                Instant.parse("2025-06-02T10:00:00Z"), Instant.parse("2025-06-02T10:30:00Z")).size());
+    }
+
+    @Test
+    void remove_And_Put_ShouldKeepIndexConsistent() {
+        index.put(slot("s1", "tutor-1", "tutee-1", "2025-06-02T10:00:00Z", 60));
+        index.put(slot("s1", "tutor-1", "tutee-1", "2025-06-03T10:00:00Z", 60));
+
+        assertEquals(1, index.size());
+        assertTrue(index.findOverlapping(List.of("tutor-1"),
+                Instant.parse("2025-06-02T10:00:00Z"), Instant.parse("2025-06-02T11:00:00Z")).isEmpty());
+
+        index.remove("s1");
+
+        assertEquals(0, index.size());
+        assertTrue(index.findOverlapping(List.of("tutor-1"),
+                Instant.parse("2025-06-03T10:00:00Z"), Instant.parse("2025-06-03T11:00:00Z")).isEmpty());
+    }
+
+    @Test
+    void rebuild_ShouldReplaceContents() {
+        index.put(slot("old", "tutor-1", "tutee-1", "2025-06-02T10:00:00Z", 60));
+
+        index.rebuild(List.of(slot("new", "tutor-2", "tutee-2", "2025-06-02T10:00:00Z", 60)));
+
+        assertEquals(1, index.size());
+        assertTrue(index.findOverlapping(List.of("tutor-1"),
+                Instant.parse("2025-06-02T10:00:00Z"), Instant.parse("2025-06-02T11:00:00Z")).isEmpty());
+    }
+
+    private static SessionSlot slot(String id, String tutorId, String tuteeId, String start, int minutes) {
+        return new SessionSlot(id, tutorId, tuteeId, Instant.parse(start), minutes);
+    }
+}
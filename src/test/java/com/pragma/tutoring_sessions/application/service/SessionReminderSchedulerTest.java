@@ -0,0 +1,154 @@
+package com.pragma.tutoring_sessions.application.service;
+
+import com.pragma.notifications.domain.port.output.NotificationSender;
+import com.pragma.shared.config.ReminderProperties;
+import com.pragma.shared.config.TutoringSessionProperties;
+import com.pragma.shared.scheduling.HashedTimingWheel;
+import com.pragma.tutoring_sessions.domain.model.SessionSlot;
+import com.pragma.tutoring_sessions.domain.model.TutoringSession;
+import com.pragma.tutoring_sessions.domain.port.output.TutoringSessionRepository;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings_requests.domain.model.enums.TutoringsSessionStatus;
+import com.pragma.usuarios.domain.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SessionReminderSchedulerTest {
+
+    @Mock
+    private TutoringSessionRepository tutoringSessionRepository;
+
+    @Mock
+    private NotificationSender notificationSender;
+
+    private HashedTimingWheel timingWheel;
+    private ReminderProperties reminderProperties;
+    private SessionReminderScheduler scheduler;
+
+    private User tutor;
+    private User tutee;
+    private Instant start;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        timingWheel = new HashedTimingWheel(Duration.ofSeconds(1), 64, Clock.systemUTC());
+        reminderProperties = new ReminderProperties();
+        scheduler = new SessionReminderScheduler(timingWheel, tutoringSessionRepository, notificationSender,
+                reminderProperties, new TutoringSessionProperties());
+
+        tutor = new User();
+        tutor.setId("tutor-1");
+        tutor.setSlackId("U-TUTOR");
+        tutee = new User();
+        tutee.setId("tutee-1");
+        tutee.setSlackId("U-TUTEE");
+        start = Instant.now().plus(2, ChronoUnit.DAYS).truncatedTo(ChronoUnit.MINUTES);
+    }
+
+    @Test
+    void schedule_ShouldRegisterOneReminderPerLeadTime() {
+        scheduler.schedule(new SessionSlot("s1", "tutor-1", "tutee-1", start, 60));
+
+        assertEquals(2, timingWheel.pending());
+    }
+
+    @Test
+    void schedule_ShouldSkipLeadTimesAlreadyPassed() {
+        scheduler.schedule(new SessionSlot("s1", "tutor-1", "tutee-1", Instant.now().plus(3, ChronoUnit.HOURS), 60));
+
+        assertEquals(1, timingWheel.pending());
+    }
+
+    @Test
+    void schedule_WhenDisabled_ShouldDoNothing() {
+        reminderProperties.setEnabled(false);
+
+        scheduler.schedule(new SessionSlot("s1", "tutor-1", "tutee-1", start, 60));
+
+        assertEquals(0, timingWheel.pending());
+    }
+
+    @Test
+    void cancel_ShouldRemoveAllReminders() {
+        scheduler.schedule(new SessionSlot("s1", "tutor-1", "tutee-1", start, 60));
+
+        scheduler.cancel("s1");
+
+        assertEquals(0, timingWheel.pending());
+    }
+
+    @Test
+    void loadUpcoming_ShouldScheduleSlotsFromRepository() {
+        when(tutoringSessionRepository.findUpcomingSlots(any())).thenReturn(List.of(
+                new SessionSlot("s1", "tutor-1", "tutee-1", start, 60),
+                new SessionSlot("s2", "tutor-1", "tutee-2", start.plus(1, ChronoUnit.DAYS), 60)));
+
+        scheduler.loadUpcoming();
+
+        assertEquals(4, timingWheel.pending());
+    }
+
+    @Test
+    void remind_ShouldNotifyTutorAndTutee() {
+        Instant remindAt = start.minus(1, ChronoUnit.HOURS);
+        when(tutoringSessionRepository.markReminded("s1", start, remindAt)).thenReturn(true);
+        when(tutoringSessionRepository.findById("s1")).thenReturn(Optional.of(session(TutoringsSessionStatus.Programada, start)));
+
+        scheduler.remind("s1", start, remindAt);
+
+        verify(notificationSender).send(eq(tutor), contains("Recordatorio"));
+        verify(notificationSender).send(eq(tutee), contains("https://meet.example.com"));
+    }
+
+    @Test
+    void remind_CancelledOrMovedSession_ShouldNotNotify() {
+        when(tutoringSessionRepository.markReminded(any(), any(), any())).thenReturn(true);
+        when(tutoringSessionRepository.findById("s1")).thenReturn(Optional.of(session(TutoringsSessionStatus.Cancelada, start)));
+        when(tutoringSessionRepository.findById("s2")).thenReturn(Optional.of(session(TutoringsSessionStatus.Programada, start.plusSeconds(3600))));
+
+        scheduler.remind("s1", start, start);
+        scheduler.remind("s2", start, start);
+        scheduler.remind("missing", start, start);
+
+        verifyNoInteractions(notificationSender);
+    }
+
+    @Test
+    void remind_WhenAnotherReplicaAlreadyRecordedIt_ShouldNotNotify() {
+        when(tutoringSessionRepository.markReminded("s1", start, start)).thenReturn(false);
+
+        scheduler.remind("s1", start, start);
+
+        verify(tutoringSessionRepository, never()).findById(any());
+        verifyNoInteractions(notificationSender);
+    }
+
+    private TutoringSession session(TutoringsSessionStatus status, Instant datetime) {
+        Tutoring tutoring = new Tutoring();
+        tutoring.setTutor(tutor);
+        tutoring.setTutee(tutee);
+        TutoringSession session = new TutoringSession();
+        session.setTutoring(tutoring);
+        session.setDatetime(datetime);
+        session.setDurationMinutes(60);
+        session.setLocationLink("https://meet.example.com/abc");
+        session.setSessionStatus(status);
+        return session;
+    }
+}
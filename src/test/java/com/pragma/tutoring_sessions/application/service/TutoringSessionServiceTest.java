@@ -1,21 +1,35 @@
 package com.pragma.tutoring_sessions.application.service;
 
+import com.pragma.shared.config.TutoringSessionProperties;
+import com.pragma.shared.events.DomainEventPublisher;
+import com.pragma.tutoring_sessions.domain.model.RecurrenceRule;
+import com.pragma.tutoring_sessions.domain.model.SessionSlot;
 import com.pragma.tutoring_sessions.domain.model.TutoringSession;
+import com.pragma.tutoring_sessions.domain.model.enums.RecurrenceFrequency;
 import com.pragma.tutoring_sessions.domain.port.output.TutoringSessionRepository;
 import com.pragma.tutorings.domain.model.Tutoring;
 import com.pragma.tutorings.domain.port.output.TutoringRepository;
 import com.pragma.tutorings_requests.domain.model.enums.TutoringsSessionStatus;
+import com.pragma.usuarios.domain.model.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 class TutoringSessionServiceTest {
@@ -26,6 +40,21 @@ class TutoringSessionServiceTest {
     @Mock
     private TutoringRepository tutoringRepository;
 
+    @Spy
+    private SessionDateTimeParser dateTimeParser = new SessionDateTimeParser(new TutoringSessionProperties());
+
+    @Spy
+    private SessionIntervalIndex intervalIndex = new SessionIntervalIndex();
+
+    @Spy
+    private TutoringSessionProperties properties = new TutoringSessionProperties();
+
+    @Mock
+    private SessionReminderScheduler reminderScheduler;
+
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+
     @InjectMocks
     private TutoringSessionService tutoringSessionService;
 
@@ -55,7 +84,7 @@ class TutoringSessionServiceTest {
         TutoringSession savedSession = new TutoringSession();
         savedSession.setId(sessionId);
         savedSession.setTutoring(tutoring);
-        savedSession.setDatetime(datetime);
+        savedSession.setDatetime(Instant.parse("2023-06-15T14:00:00Z"));
         savedSession.setDurationMinutes(durationMinutes);
         savedSession.setLocationLink(locationLink);
         savedSession.setTopicsCovered(topicsCovered);
@@ -70,14 +99,255 @@ class TutoringSessionServiceTest {
         assertNotNull(result);
         assertEquals(sessionId, result.getId());
         assertEquals(tutoring, result.getTutoring());
-        assertEquals(datetime, result.getDatetime());
+        assertEquals(Instant.parse("2023-06-15T14:00:00Z"), result.getDatetime());
         assertEquals(durationMinutes, result.getDurationMinutes());
         assertEquals(locationLink, result.getLocationLink());
         assertEquals(topicsCovered, result.getTopicsCovered());
         assertEquals(TutoringsSessionStatus.Programada, result.getSessionStatus());
         
         verify(tutoringRepository).findById(tutoringId);
-        verify(tutoringSessionRepository).save(any(TutoringSession.class));
+        verify(tutoringSessionRepository).save(argThat(session ->
+                Instant.parse("2023-06-15T14:00:00Z").equals(session.getDatetime())));
+    }
+
+    @Test
+    void createTutoringSession_WithOffset_ShouldStoreInstant() {
+        // Arrange
+        when(tutoringRepository.findById(tutoringId)).thenReturn(Optional.of(tutoring));
+        when(tutoringSessionRepository.save(any(TutoringSession.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        TutoringSession result = tutoringSessionService.createTutoringSession(tutoringId, "2023-06-15T09:00:00-05:00", 60, null, null);
+
+        // Assert
+        assertEquals(Instant.parse("2023-06-15T14:00:00Z"), result.getDatetime());
+    }
+
+    @Test
+    void createTutoringSession_InvalidDatetime() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            tutoringSessionService.createTutoringSession(tutoringId, "mañana a las 3", 60, null, null)
+        );
+
+        assertTrue(exception.getMessage().startsWith("Invalid datetime format"));
+        verify(tutoringRepository, never()).findById(any());
+        verify(tutoringSessionRepository, never()).save(any(TutoringSession.class));
+    }
+
+    @Test
+    void createTutoringSession_OverlappingTutorSession_ShouldReject() {
+        // Arrange
+        withParticipants("tutor-1", "tutee-1");
+        intervalIndex.put(new SessionSlot("existing", "tutor-1", "other-tutee", Instant.parse("2023-06-15T13:30:00Z"), 60));
+        when(tutoringRepository.findById(tutoringId)).thenReturn(Optional.of(tutoring));
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            tutoringSessionService.createTutoringSession(tutoringId, "2023-06-15T14:00:00Z", 60, null, null)
+        );
+
+        assertTrue(exception.getMessage().startsWith("Session overlaps an existing session"));
+        assertTrue(exception.getMessage().contains("existing"));
+        verify(tutoringSessionRepository, never()).save(any(TutoringSession.class));
+    }
+
+    @Test
+    void createTutoringSession_OverlappingWithFlagPolicy_ShouldSaveFlagged() {
+        // Arrange
+        properties.setConflictPolicy(TutoringSessionProperties.ConflictPolicy.FLAG);
+        withParticipants("tutor-1", "tutee-1");
+        intervalIndex.put(new SessionSlot("existing", "other-tutor", "tutee-1", Instant.parse("2023-06-15T14:30:00Z"), 60));
+        when(tutoringRepository.findById(tutoringId)).thenReturn(Optional.of(tutoring));
+        when(tutoringSessionRepository.save(any(TutoringSession.class))).thenAnswer(invocation -> {
+            TutoringSession session = invocation.getArgument(0);
+            session.setId(sessionId);
+            return session;
+        });
+
+        // Act
+        TutoringSession result = tutoringSessionService.createTutoringSession(tutoringId, "2023-06-15T14:00:00Z", 60, null, null);
+
+        // Assert
+        assertEquals(Boolean.TRUE, result.getHasConflict());
+        assertEquals(2, intervalIndex.size());
+    }
+
+    @Test
+    void createTutoringSession_BackToBackSessions_ShouldNotConflict() {
+        // Arrange
+        withParticipants("tutor-1", "tutee-1");
+        intervalIndex.put(new SessionSlot("existing", "tutor-1", "tutee-1", Instant.parse("2023-06-15T13:00:00Z"), 60));
+        when(tutoringRepository.findById(tutoringId)).thenReturn(Optional.of(tutoring));
+        when(tutoringSessionRepository.save(any(TutoringSession.class))).thenAnswer(invocation -> {
+            TutoringSession session = invocation.getArgument(0);
+            session.setId(sessionId);
+            return session;
+        });
+
+        // Act
+        TutoringSession result = tutoringSessionService.createTutoringSession(tutoringId, "2023-06-15T14:00:00Z", 60, null, null);
+
+        // Assert
+        assertNull(result.getHasConflict());
+        assertEquals(2, intervalIndex.size());
+        verify(reminderScheduler).schedule(argThat(slot -> sessionId.equals(slot.sessionId())));
+    }
+
+    @Test
+    void createTutoringSession_InsideTransaction_ShouldTrackAfterCommitAndHoldTheLockUntilCompletion() throws Exception {
+        // Arrange
+        withParticipants("tutor-1", "tutee-1");
+        when(tutoringRepository.findById(tutoringId)).thenReturn(Optional.of(tutoring));
+        when(tutoringSessionRepository.save(any(TutoringSession.class))).thenAnswer(invocation -> {
+            TutoringSession session = invocation.getArgument(0);
+            session.setId(sessionId);
+            return session;
+        });
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            tutoringSessionService.createTutoringSession(tutoringId, "2023-06-15T14:00:00Z", 60, null, null);
+
+            // Assert: ni índice ni recordatorio antes del commit, y otra reserva sigue esperando el lock
+            assertEquals(0, intervalIndex.size());
+            verify(reminderScheduler, never()).schedule(any());
+            Thread other = new Thread(() -> tutoringSessionService.createTutoringSession(tutoringId, "2023-06-15T14:00:00Z", 60, null, null));
+            other.start();
+            other.join(200);
+            assertTrue(other.isAlive());
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            assertEquals(1, intervalIndex.size());
+            verify(reminderScheduler).schedule(argThat(slot -> sessionId.equals(slot.sessionId())));
+
+            // Assert: liberado el lock, la segunda reserva ve la sesión confirmada y se rechaza
+            other.join(5000);
+            assertFalse(other.isAlive());
+            verify(tutoringSessionRepository, times(1)).save(any(TutoringSession.class));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void updateSessionStatus_Cancelled_ShouldFreeSlot() {
+        // Arrange
+        intervalIndex.put(new SessionSlot(sessionId, "tutor-1", "tutee-1", Instant.parse("2023-06-15T14:00:00Z"), 60));
+        TutoringSession existingSession = new TutoringSession();
+        existingSession.setId(sessionId);
+        when(tutoringSessionRepository.findById(sessionId)).thenReturn(Optional.of(existingSession));
+        when(tutoringSessionRepository.updateStatus(sessionId, TutoringsSessionStatus.Cancelada, null)).thenReturn(existingSession);
+
+        // Act
+        tutoringSessionService.updateSessionStatus(sessionId, TutoringsSessionStatus.Cancelada, null);
+
+        // Assert
+        assertEquals(0, intervalIndex.size());
+        verify(reminderScheduler).cancel(sessionId);
+    }
+
+    @Test
+    void createTutoringSessionSeries_ShouldUseExpectedEndDateAndSaveInOneBatch() {
+        // Arrange
+        withParticipants("tutor-1", "tutee-1");
+        tutoring.setExpectedEndDate(Date.from(Instant.parse("2023-07-06T14:00:00Z")));
+        when(tutoringRepository.findById(tutoringId)).thenReturn(Optional.of(tutoring));
+        when(tutoringSessionRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<TutoringSession> sessions = invocation.getArgument(0);
+            sessions.forEach(session -> session.setId(UUID.randomUUID().toString()));
+            return sessions;
+        });
+
+        // Act
+        List<TutoringSession> result = tutoringSessionService.createTutoringSessionSeries(tutoringId, "2023-06-15T14:00:00Z", 60,
+                new RecurrenceRule(RecurrenceFrequency.WEEKLY, 1, null), null, "https://meet.example.com/session", null);
+
+        // Assert
+        assertEquals(List.of(Instant.parse("2023-06-15T14:00:00Z"), Instant.parse("2023-06-22T14:00:00Z"),
+                        Instant.parse("2023-06-29T14:00:00Z"), Instant.parse("2023-07-06T14:00:00Z")),
+                result.stream().map(TutoringSession::getDatetime).toList());
+        verify(tutoringRepository, times(1)).findById(tutoringId);
+        verify(tutoringSessionRepository, times(1)).saveAll(anyList());
+        verify(tutoringSessionRepository, never()).save(any(TutoringSession.class));
+        assertEquals(4, intervalIndex.size());
+    }
+
+    @Test
+    void createTutoringSessionSeries_ConflictWithExistingSession_ShouldRejectWholeSeries() {
+        // Arrange
+        withParticipants("tutor-1", "tutee-1");
+        intervalIndex.put(new SessionSlot("existing", "tutor-1", "other-tutee", Instant.parse("2023-06-22T14:30:00Z"), 60));
+        when(tutoringRepository.findById(tutoringId)).thenReturn(Optional.of(tutoring));
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            tutoringSessionService.createTutoringSessionSeries(tutoringId, "2023-06-15T14:00:00Z", 60,
+                    new RecurrenceRule(RecurrenceFrequency.WEEKLY, 1, 3), "2023-12-31", null, null)
+        );
+
+        assertTrue(exception.getMessage().contains("existing"));
+        verify(tutoringSessionRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void createTutoringSessionSeries_Monthly_ShouldKeepLocalTimeAcrossDst() {
+        // Arrange
+        properties.setDefaultZone("America/New_York");
+        when(tutoringRepository.findById(tutoringId)).thenReturn(Optional.of(tutoring));
+        when(tutoringSessionRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        List<TutoringSession> result = tutoringSessionService.createTutoringSessionSeries(tutoringId, "2023-10-15T10:00:00-04:00", 60,
+                new RecurrenceRule(RecurrenceFrequency.MONTHLY, 1, 2), "2024-12-31", null, null);
+
+        // Assert: 10:00 local antes y después del cambio de horario
+        assertEquals(List.of(Instant.parse("2023-10-15T14:00:00Z"), Instant.parse("2023-11-15T15:00:00Z")),
+                result.stream().map(TutoringSession::getDatetime).toList());
+    }
+
+    @Test
+    void createTutoringSessionSeries_TooManyOccurrences_ShouldFail() {
+        // Arrange
+        properties.setMaxSeriesOccurrences(5);
+        when(tutoringRepository.findById(tutoringId)).thenReturn(Optional.of(tutoring));
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            tutoringSessionService.createTutoringSessionSeries(tutoringId, "2023-06-15T14:00:00Z", 60,
+                    new RecurrenceRule(RecurrenceFrequency.DAILY, 1, null), "2023-12-31", null, null)
+        );
+
+        assertEquals("The recurrence produces more than 5 sessions", exception.getMessage());
+    }
+
+    @Test
+    void createTutoringSessionSeries_SelfOverlappingOccurrences_ShouldFail() {
+        // Arrange
+        when(tutoringRepository.findById(tutoringId)).thenReturn(Optional.of(tutoring));
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            tutoringSessionService.createTutoringSessionSeries(tutoringId, "2023-06-15T14:00:00Z", 25 * 60,
+                    new RecurrenceRule(RecurrenceFrequency.DAILY, 1, 3), "2023-12-31", null, null)
+        );
+
+        assertEquals("Sessions in the series would overlap each other", exception.getMessage());
+    }
+
+    @Test
+    void createTutoringSessionSeries_WithoutUntilAndEndDate_ShouldFail() {
+        // Arrange
+        when(tutoringRepository.findById(tutoringId)).thenReturn(Optional.of(tutoring));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+            tutoringSessionService.createTutoringSessionSeries(tutoringId, "2023-06-15T14:00:00Z", 60,
+                    new RecurrenceRule(RecurrenceFrequency.WEEKLY, 1, null), null, null, null)
+        );
+        verify(tutoringSessionRepository, never()).saveAll(anyList());
     }
 
     @Test
@@ -139,4 +409,13 @@ class TutoringSessionServiceTest {
         verify(tutoringSessionRepository).findById(sessionId);
         verify(tutoringSessionRepository, never()).updateStatus(any(), any(), any());
     }
-}
\ No newline at end of file
+
+    private void withParticipants(String tutorId, String tuteeId) {
+        User tutor = new User();
+        tutor.setId(tutorId);
+        User tutee = new User();
+        tutee.setId(tuteeId);
+        tutoring.setTutor(tutor);
+        tutoring.setTutee(tutee);
+    }
+}
@@ -1,10 +1,17 @@
 package com.pragma.tutoring_sessions.infrastructure.adapter.input.rest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.pragma.shared.context.TestUserContextHelper;
+import com.pragma.tutoring_sessions.domain.model.RecurrenceRule;
 import com.pragma.tutoring_sessions.domain.model.TutoringSession;
+import com.pragma.tutoring_sessions.domain.model.enums.RecurrenceFrequency;
+import com.pragma.tutoring_sessions.domain.port.input.CreateTutoringSessionSeriesUseCase;
 import com.pragma.tutoring_sessions.domain.port.input.CreateTutoringSessionUseCase;
+import com.pragma.tutoring_sessions.domain.port.input.GetTutoringSessionsUseCase;
 import com.pragma.tutoring_sessions.domain.port.input.UpdateTutoringSessionStatusUseCase;
 import com.pragma.tutoring_sessions.infrastructure.adapter.input.rest.dto.CreateTutoringSessionDto;
+import com.pragma.tutoring_sessions.infrastructure.adapter.input.rest.dto.CreateTutoringSessionSeriesDto;
 import com.pragma.tutoring_sessions.infrastructure.adapter.input.rest.dto.TutoringSessionDto;
 import com.pragma.tutoring_sessions.infrastructure.adapter.input.rest.dto.UpdateTutoringSessionStatusDto;
 import com.pragma.tutoring_sessions.infrastructure.adapter.input.rest.mapper.TutoringSessionDtoMapper;
@@ -16,13 +23,19 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -35,9 +48,15 @@ class TutoringSessionControllerTest {
     @Mock
     private CreateTutoringSessionUseCase createTutoringSessionUseCase;
 
+    @Mock
+    private CreateTutoringSessionSeriesUseCase createTutoringSessionSeriesUseCase;
+
     @Mock
     private UpdateTutoringSessionStatusUseCase updateTutoringSessionStatusUseCase;
 
+    @Mock
+    private GetTutoringSessionsUseCase getTutoringSessionsUseCase;
+
     @Mock
     private TutoringSessionDtoMapper mapper;
 
@@ -51,7 +70,11 @@ class TutoringSessionControllerTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        // Mismo ObjectMapper que configura Spring Boot: fechas en ISO-8601
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json()
+                        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build()))
+                .build();
         objectMapper = new ObjectMapper();
         tutoringId = UUID.randomUUID().toString();
         sessionId = UUID.randomUUID().toString();
@@ -70,7 +93,7 @@ class TutoringSessionControllerTest {
         TutoringSession createdSession = new TutoringSession();
         createdSession.setId(sessionId);
         createdSession.setTutoring(tutoring);
-        createdSession.setDatetime(createDto.getDatetime());
+        createdSession.setDatetime(Instant.parse("2023-06-15T14:00:00Z"));
         createdSession.setDurationMinutes(createDto.getDurationMinutes());
         createdSession.setLocationLink(createDto.getLocationLink());
         createdSession.setTopicsCovered(createDto.getTopicsCovered());
@@ -78,7 +101,7 @@ class TutoringSessionControllerTest {
 
         TutoringSessionDto responseDto = new TutoringSessionDto();
         responseDto.setId(sessionId);
-        responseDto.setDatetime(createDto.getDatetime());
+        responseDto.setDatetime(Instant.parse("2023-06-15T14:00:00Z"));
         responseDto.setDurationMinutes(createDto.getDurationMinutes());
         responseDto.setLocationLink(createDto.getLocationLink());
         responseDto.setTopicsCovered(createDto.getTopicsCovered());
@@ -101,13 +124,53 @@ class TutoringSessionControllerTest {
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.message").value("Tutoring session created successfully"))
                 .andExpect(jsonPath("$.data.id").value(sessionId))
-                .andExpect(jsonPath("$.data.datetime").value(createDto.getDatetime()))
+                .andExpect(jsonPath("$.data.datetime").value("2023-06-15T14:00:00Z"))
                 .andExpect(jsonPath("$.data.durationMinutes").value(createDto.getDurationMinutes()))
                 .andExpect(jsonPath("$.data.locationLink").value(createDto.getLocationLink()))
                 .andExpect(jsonPath("$.data.topicsCovered").value(createDto.getTopicsCovered()))
                 .andExpect(jsonPath("$.data.sessionStatus").value(TutoringsSessionStatus.Programada.toString()));
     }
 
+    @Test
+    void createTutoringSessionSeries_Success() throws Exception {
+        // Arrange
+        CreateTutoringSessionSeriesDto seriesDto = new CreateTutoringSessionSeriesDto(
+                tutoringId, "2023-06-15T14:00:00", 60, RecurrenceFrequency.WEEKLY, 1, 2, null, "https://meet.example.com/session", null);
+
+        TutoringSession first = new TutoringSession();
+        first.setId("s1");
+        TutoringSession second = new TutoringSession();
+        second.setId("s2");
+
+        TutoringSessionDto firstDto = new TutoringSessionDto();
+        firstDto.setId("s1");
+        firstDto.setDatetime(Instant.parse("2023-06-15T14:00:00Z"));
+        TutoringSessionDto secondDto = new TutoringSessionDto();
+        secondDto.setId("s2");
+        secondDto.setDatetime(Instant.parse("2023-06-22T14:00:00Z"));
+
+        when(createTutoringSessionSeriesUseCase.createTutoringSessionSeries(
+                eq(tutoringId),
+                eq("2023-06-15T14:00:00"),
+                eq(60),
+                eq(new RecurrenceRule(RecurrenceFrequency.WEEKLY, 1, 2)),
+                eq(null),
+                eq("https://meet.example.com/session"),
+                eq(null)
+        )).thenReturn(List.of(first, second));
+        when(mapper.toDto(first)).thenReturn(firstDto);
+        when(mapper.toDto(second)).thenReturn(secondDto);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/tutoring-sessions/series")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(seriesDto)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.message").value("Tutoring session series created successfully"))
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[1].datetime").value("2023-06-22T14:00:00Z"));
+    }
+
     @Test
     void updateTutoringSessionStatus_Success() throws Exception {
         // Arrange
@@ -142,4 +205,53 @@ class TutoringSessionControllerTest {
                 .andExpect(jsonPath("$.data.sessionStatus").value(TutoringsSessionStatus.Realizada.toString()))
                 .andExpect(jsonPath("$.data.notes").value(notes));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getSessionsByParticipant_WithParticipantId_ShouldReturnSessions() throws Exception {
+        // Arrange
+        TestUserContextHelper.setTestUserContext();
+        TutoringSession session = new TutoringSession();
+        session.setId(sessionId);
+        TutoringSessionDto dto = new TutoringSessionDto();
+        dto.setId(sessionId);
+        dto.setDatetime(Instant.parse("2025-06-02T15:00:00Z"));
+
+        when(getTutoringSessionsUseCase.getSessionsByParticipant("tutor-1", "2025-06-01T00:00:00Z", "2025-06-08T00:00:00Z"))
+                .thenReturn(List.of(session));
+        when(mapper.toDto(session)).thenReturn(dto);
+
+        try {
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/tutoring-sessions")
+                    .param("participantId", "tutor-1")
+                    .param("from", "2025-06-01T00:00:00Z")
+                    .param("to", "2025-06-08T00:00:00Z"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.message").value("Tutoring sessions retrieved successfully"))
+                    .andExpect(jsonPath("$.data[0].id").value(sessionId))
+                    .andExpect(jsonPath("$.data[0].datetime").value("2025-06-02T15:00:00Z"));
+        } finally {
+            TestUserContextHelper.clearUserContext();
+        }
+    }
+
+    @Test
+    void getSessionsByParticipant_WithoutParticipantId_ShouldUseCurrentUser() throws Exception {
+        // Arrange
+        TestUserContextHelper.setTestUserContext();
+        when(getTutoringSessionsUseCase.getSessionsByParticipant("test-user-id", "2025-06-01", "2025-06-08"))
+                .thenReturn(List.of());
+
+        try {
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/tutoring-sessions")
+                    .param("from", "2025-06-01")
+                    .param("to", "2025-06-08"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data").isEmpty());
+            verify(getTutoringSessionsUseCase).getSessionsByParticipant("test-user-id", "2025-06-01", "2025-06-08");
+        } finally {
+            TestUserContextHelper.clearUserContext();
+        }
+    }
+}
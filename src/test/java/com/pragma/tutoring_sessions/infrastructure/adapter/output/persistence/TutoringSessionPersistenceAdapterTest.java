@@ -14,6 +14,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -55,18 +56,35 @@ class TutoringSessionPersistenceAdapterTest {
         tutoringSession = new TutoringSession();
         tutoringSession.setId(sessionId);
         tutoringSession.setTutoring(tutoring);
-        tutoringSession.setDatetime("2023-06-15T14:00:00");
+        tutoringSession.setDatetime(Instant.parse("2023-06-15T14:00:00Z"));
         tutoringSession.setDurationMinutes(60);
         tutoringSession.setSessionStatus(TutoringsSessionStatus.Programada);
         
         tutoringSessionsEntity = new TutoringSessionsEntity();
         tutoringSessionsEntity.setId(sessionId);
         tutoringSessionsEntity.setTutoringId(tutoringEntity);
-        tutoringSessionsEntity.setDatetime("2023-06-15T14:00:00");
+        tutoringSessionsEntity.setScheduledAt(Instant.parse("2023-06-15T14:00:00Z"));
         tutoringSessionsEntity.setDurationMinutes(60);
         tutoringSessionsEntity.setSessionStatus(TutoringsSessionStatus.Programada);
     }
 
+    @Test
+    void saveAll_ShouldDelegateToSingleRepositoryCall() {
+        // Arrange
+        List<TutoringSessionsEntity> entities = List.of(tutoringSessionsEntity);
+        when(mapper.toEntity(tutoringSession)).thenReturn(tutoringSessionsEntity);
+        when(repository.saveAll(entities)).thenReturn(entities);
+        when(mapper.toModel(tutoringSessionsEntity)).thenReturn(tutoringSession);
+
+        // Act
+        List<TutoringSession> result = adapter.saveAll(List.of(tutoringSession));
+
+        // Assert
+        assertEquals(List.of(tutoringSession), result);
+        verify(repository).saveAll(entities);
+        verify(repository, never()).save(any());
+    }
+
     @Test
     void save_Success() {
         // Arrange
@@ -133,6 +151,22 @@ class TutoringSessionPersistenceAdapterTest {
         verify(mapper).toModel(tutoringSessionsEntity);
     }
 
+    @Test
+    void findByParticipantAndRange_Success() {
+        // Arrange
+        Instant from = Instant.parse("2023-06-01T00:00:00Z");
+        Instant to = Instant.parse("2023-07-01T00:00:00Z");
+        when(repository.findByParticipantAndRange("tutor-1", from, to)).thenReturn(List.of(tutoringSessionsEntity));
+        when(mapper.toModel(tutoringSessionsEntity)).thenReturn(tutoringSession);
+
+        // Act
+        List<TutoringSession> result = adapter.findByParticipantAndRange("tutor-1", from, to);
+
+        // Assert
+        assertEquals(List.of(tutoringSession), result);
+        verify(repository).findByParticipantAndRange("tutor-1", from, to);
+    }
+
     @Test
     void updateStatus_Success() {
         // Arrange
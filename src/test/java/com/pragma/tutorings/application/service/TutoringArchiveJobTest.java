@@ -0,0 +1,75 @@
+package com.pragma.tutorings.application.service;
+
+import com.pragma.shared.config.ArchiveProperties;
+import com.pragma.shared.persistence.memory.JobLeaseInMemoryAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TutoringArchiveJobTest {
+
+    @Mock
+    private TutoringArchiveService tutoringArchiveService;
+
+    private JobLeaseInMemoryAdapter leases;
+    private ArchiveProperties properties;
+    private TutoringArchiveJob job;
+
+    @BeforeEach
+    void setUp() {
+        leases = new JobLeaseInMemoryAdapter();
+        properties = new ArchiveProperties();
+        properties.setBatchSize(2);
+        job = new TutoringArchiveJob(tutoringArchiveService, leases, properties);
+    }
+
+    @Test
+    void archiveClosed_ShouldProcessBatchesUntilOneIsNotFullAndReleaseTheLease() {
+        // Arrange: dos lotes llenos y uno vacío
+        when(tutoringArchiveService.archiveNextBatch(any(Date.class), eq(2))).thenReturn(2, 2, 0);
+        Instant before = Instant.now();
+
+        // Act
+        int archived = job.archiveClosed();
+
+        // Assert: todos los lotes usan el mismo corte, un año antes de la ejecución
+        assertEquals(4, archived);
+        verify(tutoringArchiveService, times(3)).archiveNextBatch(argThat(closedBefore ->
+                !closedBefore.toInstant().isAfter(before.minus(Duration.ofDays(365)).plusSeconds(5))), eq(2));
+        assertTrue(leases.tryAcquire(TutoringArchiveJob.JOB, "other-replica", Instant.now(), Instant.now().plusSeconds(60)));
+    }
+
+    @Test
+    void archiveClosed_WhenAnotherReplicaHoldsTheLease_ShouldDoNothing() {
+        // Arrange
+        leases.tryAcquire(TutoringArchiveJob.JOB, "other-replica", Instant.now(), Instant.now().plusSeconds(600));
+
+        // Act
+        int archived = job.archiveClosed();
+
+        // Assert
+        assertEquals(0, archived);
+        verify(tutoringArchiveService, never()).archiveNextBatch(any(), anyInt());
+    }
+
+    @Test
+    void run_ByDefault_ShouldNotArchive() {
+        job.run();
+
+        verifyNoInteractions(tutoringArchiveService);
+    }
+}
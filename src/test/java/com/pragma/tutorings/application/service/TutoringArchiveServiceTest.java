@@ -0,0 +1,66 @@
+package com.pragma.tutorings.application.service;
+
+import com.pragma.search.domain.model.enums.SearchDocumentType;
+import com.pragma.search.domain.port.input.IndexTextUseCase;
+import com.pragma.tutorings.domain.port.output.TutoringArchiveRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TutoringArchiveServiceTest {
+
+    @Mock
+    private TutoringArchiveRepository tutoringArchiveRepository;
+
+    @Mock
+    private IndexTextUseCase indexTextUseCase;
+
+    @InjectMocks
+    private TutoringArchiveService tutoringArchiveService;
+
+    @Test
+    void archiveNextBatch_ShouldArchiveTheSelectedTutorings() {
+        // Arrange
+        Date closedBefore = new Date(1_700_000_000_000L);
+        when(tutoringArchiveRepository.findArchivableIds(closedBefore, 2)).thenReturn(List.of("t1", "t2"));
+        when(tutoringArchiveRepository.findFeedbackIds(List.of("t1", "t2"))).thenReturn(List.of("f1"));
+        when(tutoringArchiveRepository.archive(eq(List.of("t1", "t2")), any(Date.class))).thenReturn(2);
+
+        // Act
+        int archived = tutoringArchiveService.archiveNextBatch(closedBefore, 2);
+
+        // Assert
+        assertEquals(2, archived);
+        verify(tutoringArchiveRepository).archive(eq(List.of("t1", "t2")), any(Date.class));
+        verify(indexTextUseCase).remove(SearchDocumentType.TUTORING, "t1");
+        verify(indexTextUseCase).remove(SearchDocumentType.TUTORING, "t2");
+        verify(indexTextUseCase).remove(SearchDocumentType.FEEDBACK, "f1");
+    }
+
+    @Test
+    void archiveNextBatch_WhenNothingIsArchivable_ShouldNotArchive() {
+        // Arrange
+        Date closedBefore = new Date(1_700_000_000_000L);
+        when(tutoringArchiveRepository.findArchivableIds(closedBefore, 2)).thenReturn(List.of());
+
+        // Act
+        int archived = tutoringArchiveService.archiveNextBatch(closedBefore, 2);
+
+        // Assert
+        assertEquals(0, archived);
+        verify(tutoringArchiveRepository, never()).archive(anyCollection(), any());
+        verifyNoInteractions(indexTextUseCase);
+    }
+}
@@ -0,0 +1,98 @@
+package com.pragma.tutorings.application.service;
+
+import com.pragma.feedbacks.domain.model.Feedback;
+import com.pragma.feedbacks.domain.model.enums.FeedbackKind;
+import com.pragma.feedbacks.domain.port.output.FeedbackRepository;
+import com.pragma.search.domain.model.enums.SearchDocumentType;
+import com.pragma.search.domain.port.input.IndexTextUseCase;
+import com.pragma.tutorings.domain.event.TutoringStatusChanged;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings.domain.port.output.TutoringRepository;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.port.input.FindUserByIdUseCase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TutoringCancellationFeedbackHandlerTest {
+
+    @Mock
+    private TutoringRepository tutoringRepository;
+
+    @Mock
+    private FindUserByIdUseCase findUserByIdUseCase;
+
+    @Mock
+    private FeedbackRepository feedbackRepository;
+
+    @Mock
+    private IndexTextUseCase indexTextUseCase;
+
+    @InjectMocks
+    private TutoringCancellationFeedbackHandler handler;
+
+    @Test
+    void handle_CancellationRequest_ShouldCreateAndIndexTheRequestFeedback() {
+        // Arrange
+        Tutoring tutoring = new Tutoring();
+        tutoring.setId("tutoring-id");
+        User tutor = new User();
+        tutor.setId("tutor-id");
+        when(tutoringRepository.findById("tutoring-id")).thenReturn(Optional.of(tutoring));
+        when(findUserByIdUseCase.findUserById("tutor-id")).thenReturn(Optional.of(tutor));
+        when(feedbackRepository.save(any(Feedback.class))).thenAnswer(invocation -> {
+            Feedback feedback = invocation.getArgument(0);
+            feedback.setId("feedback-id");
+            return feedback;
+        });
+
+        // Act
+        handler.handle(changed(TutoringStatus.Activa, TutoringStatus.EnCancelacion, "tutor-id", "Viaje"));
+
+        // Assert
+        verify(feedbackRepository).save(argThat(feedback -> feedback.getKind() == FeedbackKind.Cancelacion
+                && tutor.equals(feedback.getEvaluator()) && tutoring.equals(feedback.getTutoring())
+                && "Solicitud de cancelación: Viaje".equals(feedback.getComments())));
+        verify(indexTextUseCase).index(SearchDocumentType.FEEDBACK, "feedback-id", "Solicitud de cancelación: Viaje");
+    }
+
+    @Test
+    void handle_CancellationByAdminWithoutComment_ShouldUseTheDefaultComment() {
+        // Arrange
+        User admin = new User();
+        admin.setId("admin-id");
+        when(tutoringRepository.findById("tutoring-id")).thenReturn(Optional.of(new Tutoring()));
+        when(findUserByIdUseCase.findUserById("admin-id")).thenReturn(Optional.of(admin));
+        when(feedbackRepository.save(any(Feedback.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        handler.handle(changed(TutoringStatus.EnCancelacion, TutoringStatus.Cancelada, "admin-id", null));
+
+        // Assert
+        verify(feedbackRepository).save(argThat(feedback -> "Tutoría cancelada por administrador".equals(feedback.getComments())));
+    }
+
+    @Test
+    void handle_ExpiryOrCompletion_ShouldNotCreateFeedback() {
+        // Act: el vencimiento no tiene actor y la finalización no es una cancelación
+        handler.handle(changed(TutoringStatus.Activa, TutoringStatus.EnCancelacion, null, null));
+        handler.handle(changed(TutoringStatus.Activa, TutoringStatus.Completada, "tutor-id", null));
+
+        // Assert
+        verifyNoInteractions(tutoringRepository, findUserByIdUseCase, feedbackRepository, indexTextUseCase);
+    }
+
+    private static TutoringStatusChanged changed(TutoringStatus previous, TutoringStatus next, String actorId, String comment) {
+        return new TutoringStatusChanged("tutoring-id", "tutor-id", "tutee-id", previous, next, actorId, comment, Instant.now());
+    }
+}
@@ -0,0 +1,77 @@
+package com.pragma.tutorings.application.service;
+
+import com.pragma.shared.config.TutoringExpiryProperties;
+import com.pragma.shared.persistence.memory.JobLeaseInMemoryAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TutoringExpiryJobTest {
+
+    @Mock
+    private TutoringExpiryService tutoringExpiryService;
+
+    private JobLeaseInMemoryAdapter leases;
+    private TutoringExpiryProperties properties;
+    private TutoringExpiryJob job;
+
+    @BeforeEach
+    void setUp() {
+        leases = new JobLeaseInMemoryAdapter();
+        properties = new TutoringExpiryProperties();
+        properties.setChunkSize(2);
+        job = new TutoringExpiryJob(tutoringExpiryService, leases, properties);
+    }
+
+    @Test
+    void expireOverdue_ShouldProcessChunksUntilOneIsNotFullAndReleaseTheLease() {
+        // Arrange: dos lotes llenos y uno parcial
+        when(tutoringExpiryService.expireNextChunk(any(Date.class), eq(2))).thenReturn(2, 2, 1);
+        Instant before = Instant.now();
+
+        // Act
+        int expired = job.expireOverdue();
+
+        // Assert: todos los lotes usan el mismo corte, una semana antes de la ejecución
+        assertEquals(5, expired);
+        verify(tutoringExpiryService, times(3)).expireNextChunk(argThat(cutoff ->
+                !cutoff.toInstant().isAfter(before.minus(Duration.ofDays(7)).plusSeconds(5))), eq(2));
+        assertTrue(leases.tryAcquire(TutoringExpiryJob.JOB, "other-replica", Instant.now(), Instant.now().plusSeconds(60)));
+    }
+
+    @Test
+    void expireOverdue_WhenAnotherReplicaHoldsTheLease_ShouldDoNothing() {
+        // Arrange
+        leases.tryAcquire(TutoringExpiryJob.JOB, "other-replica", Instant.now(), Instant.now().plusSeconds(600));
+
+        // Act
+        int expired = job.expireOverdue();
+
+        // Assert
+        assertEquals(0, expired);
+        verify(tutoringExpiryService, never()).expireNextChunk(any(), anyInt());
+    }
+
+    @Test
+    void run_WhenDisabled_ShouldNotSweep() {
+        properties.setEnabled(false);
+
+        job.run();
+
+        verifyNoInteractions(tutoringExpiryService);
+    }
+}
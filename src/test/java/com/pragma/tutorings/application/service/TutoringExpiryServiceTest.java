@@ -0,0 +1,93 @@
+package com.pragma.tutorings.application.service;
+
+import com.pragma.recommendations.domain.port.input.UpdateTutorProfileUseCase;
+import com.pragma.shared.events.DomainEventPublisher;
+import com.pragma.statistics.domain.port.input.RecordStatusTransitionUseCase;
+import com.pragma.statistics.domain.port.input.RefreshSkillHeatmapUseCase;
+import com.pragma.tutorings.domain.event.TutoringStatusChanged;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings.domain.port.output.TutoringRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TutoringExpiryServiceTest {
+
+    @Mock
+    private TutoringRepository tutoringRepository;
+
+    @Mock
+    private UpdateTutorProfileUseCase updateTutorProfileUseCase;
+
+    @Mock
+    private RefreshSkillHeatmapUseCase refreshSkillHeatmapUseCase;
+
+    @Mock
+    private RecordStatusTransitionUseCase recordStatusTransitionUseCase;
+
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+
+    @InjectMocks
+    private TutoringExpiryService tutoringExpiryService;
+
+    @Test
+    void expireNextChunk_ShouldFlagTheChunkWithOneUpdate() {
+        // Arrange
+        Date cutoff = new Date();
+        Tutoring first = overdue("t1");
+        Tutoring second = overdue("t2");
+        when(tutoringRepository.findOverdueForUpdate(TutoringStatus.Activa, cutoff, 50)).thenReturn(List.of(first, second));
+
+        // Act
+        int expired = tutoringExpiryService.expireNextChunk(cutoff, 50);
+
+        // Assert
+        assertEquals(2, expired);
+        assertEquals(TutoringStatus.EnCancelacion, first.getStatus());
+        verify(tutoringRepository).updateStatus(eq(List.of("t1", "t2")), eq(TutoringStatus.Activa), eq(TutoringStatus.EnCancelacion), any(Date.class));
+        verify(updateTutorProfileUseCase, times(2)).tutoringSaved(any());
+        verify(recordStatusTransitionUseCase).tutoringsTransitioned(List.of(first, second), TutoringStatus.Activa);
+        verify(tutoringRepository, never()).save(any());
+        // Sin actor, para que el vencimiento no cree feedback de cancelación
+        verify(domainEventPublisher).publishAll(argThat(events -> events.size() == 2
+                && events.stream().map(TutoringStatusChanged.class::cast).allMatch(event -> event.actorId() == null
+                && event.previousStatus() == TutoringStatus.Activa && event.newStatus() == TutoringStatus.EnCancelacion)));
+    }
+
+    @Test
+    void expireNextChunk_WithoutOverdueTutorings_ShouldNotUpdate() {
+        // Arrange
+        Date cutoff = new Date();
+        when(tutoringRepository.findOverdueForUpdate(TutoringStatus.Activa, cutoff, 50)).thenReturn(List.of());
+
+        // Act
+        int expired = tutoringExpiryService.expireNextChunk(cutoff, 50);
+
+        // Assert
+        assertEquals(0, expired);
+        verify(tutoringRepository, never()).updateStatus(any(), any(), any(), any());
+        verifyNoInteractions(recordStatusTransitionUseCase);
+    }
+
+    private static Tutoring overdue(String id) {
+        Tutoring tutoring = new Tutoring();
+        tutoring.setId(id);
+        tutoring.setStatus(TutoringStatus.Activa);
+        tutoring.setExpectedEndDate(new Date(0));
+        tutoring.setUpdatedAt(new Date(0));
+        return tutoring;
+    }
+}
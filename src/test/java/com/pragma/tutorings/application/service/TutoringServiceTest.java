@@ -1,5 +1,12 @@
 package com.pragma.tutorings.application.service;
 
+import com.pragma.recommendations.domain.port.input.UpdateTutorProfileUseCase;
+import com.pragma.search.domain.model.enums.SearchDocumentType;
+import com.pragma.search.domain.port.input.IndexTextUseCase;
+import com.pragma.shared.events.DomainEventPublisher;
+import com.pragma.statistics.domain.port.input.RecordStatisticEventUseCase;
+import com.pragma.statistics.domain.port.input.RecordStatusTransitionUseCase;
+import com.pragma.statistics.domain.port.input.RefreshSkillHeatmapUseCase;
 import com.pragma.skills.domain.model.Skill;
 import com.pragma.tutorings.domain.model.Tutoring;
 import com.pragma.tutorings.domain.model.enums.TutoringStatus;
@@ -38,6 +45,24 @@ class TutoringServiceTest {
     @Mock
     private FindUserByIdUseCase findUserByIdUseCase;
 
+    @Mock
+    private IndexTextUseCase indexTextUseCase;
+
+    @Mock
+    private UpdateTutorProfileUseCase updateTutorProfileUseCase;
+
+    @Mock
+    private RefreshSkillHeatmapUseCase refreshSkillHeatmapUseCase;
+
+    @Mock
+    private RecordStatisticEventUseCase recordStatisticEventUseCase;
+
+    @Mock
+    private RecordStatusTransitionUseCase recordStatusTransitionUseCase;
+
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+
     @InjectMocks
     private TutoringService tutoringService;
 
@@ -113,6 +138,15 @@ class TutoringServiceTest {
         verify(tutoringRequestRepository).save(any(TutoringRequest.class));
         assertEquals(RequestStatus.Asignada, tutoringRequest.getRequestStatus());
         assertEquals("tutoring-id", tutoringRequest.getAssignedTutoringId());
+        verify(indexTextUseCase).index(SearchDocumentType.TUTORING, "tutoring-id", tutoring.getObjectives());
+        verify(updateTutorProfileUseCase).tutoringSaved(tutoring);
+        verify(refreshSkillHeatmapUseCase).tutoringSaved(tutoring);
+        verify(refreshSkillHeatmapUseCase).requestSaved(tutoringRequest);
+        verify(recordStatisticEventUseCase).tutoringStarted(tutoring);
+        verify(recordStatisticEventUseCase).requestStatusChanged(tutoringRequest);
+        verify(recordStatusTransitionUseCase).tutoringTransitioned(tutoring, null);
+        verify(recordStatusTransitionUseCase).requestTransitioned(tutoringRequest, RequestStatus.Conversando);
+        verify(domainEventPublisher).publishAll(argThat(events -> events.size() == 2));
     }
 
     @Test
@@ -2,6 +2,12 @@ package com.pragma.tutorings.application.service;
 
 import com.pragma.feedbacks.domain.model.Feedback;
 import com.pragma.feedbacks.domain.port.output.FeedbackRepository;
+import com.pragma.recommendations.domain.port.input.UpdateTutorProfileUseCase;
+import com.pragma.shared.events.DomainEventPublisher;
+import com.pragma.statistics.domain.port.input.RecordStatisticEventUseCase;
+import com.pragma.statistics.domain.port.input.RecordStatusTransitionUseCase;
+import com.pragma.statistics.domain.port.input.RefreshSkillHeatmapUseCase;
+import com.pragma.tutorings.domain.event.TutoringStatusChanged;
 import com.pragma.tutorings.domain.model.Tutoring;
 import com.pragma.tutorings.domain.model.enums.TutoringStatus;
 import com.pragma.tutorings.domain.port.output.TutoringRepository;
@@ -15,13 +21,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +44,21 @@ class TutoringStatusServiceTest {
     @Mock
     private FeedbackRepository feedbackRepository;
 
+    @Mock
+    private UpdateTutorProfileUseCase updateTutorProfileUseCase;
+
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+
+    @Mock
+    private RefreshSkillHeatmapUseCase refreshSkillHeatmapUseCase;
+
+    @Mock
+    private RecordStatisticEventUseCase recordStatisticEventUseCase;
+
+    @Mock
+    private RecordStatusTransitionUseCase recordStatusTransitionUseCase;
+
     @InjectMocks
     private TutoringStatusService tutoringStatusService;
 
@@ -45,8 +68,6 @@ class TutoringStatusServiceTest {
     private Tutoring activeTutoring;
     private Tutoring completedTutoring;
     private Tutoring inCancellationTutoring;
-    private Feedback tutorFeedback;
-    private Feedback tuteeFeedback;
 
     @BeforeEach
     void setUp() {
@@ -95,22 +116,6 @@ class TutoringStatusServiceTest {
         inCancellationTutoring.setExpectedEndDate(new Date());
         inCancellationTutoring.setStatus(TutoringStatus.EnCancelacion);
         inCancellationTutoring.setObjectives("Objetivos de prueba");
-
-        tutorFeedback = new Feedback();
-        tutorFeedback.setId("tutor-feedback-id");
-        tutorFeedback.setEvaluator(tutor);
-        tutorFeedback.setTutoring(activeTutoring);
-        tutorFeedback.setEvaluationDate(new Date());
-        tutorFeedback.setScore("5");
-        tutorFeedback.setComments("Excelente tutoría");
-
-        tuteeFeedback = new Feedback();
-        tuteeFeedback.setId("tutee-feedback-id");
-        tuteeFeedback.setEvaluator(tutee);
-        tuteeFeedback.setTutoring(activeTutoring);
-        tuteeFeedback.setEvaluationDate(new Date());
-        tuteeFeedback.setScore("5");
-        tuteeFeedback.setComments("Aprendí mucho");
     }
 
     @Test
@@ -118,10 +123,8 @@ class TutoringStatusServiceTest {
         // Arrange
         when(tutoringRepository.findById("tutoring-id")).thenReturn(Optional.of(activeTutoring));
         when(findUserByIdUseCase.findUserById("tutor-id")).thenReturn(Optional.of(tutor));
-        when(feedbackRepository.findByTutoringIdAndEvaluatorId("tutoring-id", "tutor-id"))
-                .thenReturn(List.of(tutorFeedback));
-        when(feedbackRepository.findByTutoringIdAndEvaluatorId("tutoring-id", "tutee-id"))
-                .thenReturn(List.of(tuteeFeedback));
+        when(feedbackRepository.existsByTutoringIdAndEvaluatorId("tutoring-id", "tutor-id")).thenReturn(true);
+        when(feedbackRepository.existsByTutoringIdAndEvaluatorId("tutoring-id", "tutee-id")).thenReturn(true);
         when(tutoringRepository.save(any(Tutoring.class))).thenAnswer(invocation -> {
             Tutoring savedTutoring = invocation.getArgument(0);
             savedTutoring.setStatus(TutoringStatus.Completada);
@@ -135,6 +138,13 @@ class TutoringStatusServiceTest {
         assertNotNull(result);
         assertEquals(TutoringStatus.Completada, result.getStatus());
         verify(tutoringRepository).save(any(Tutoring.class));
+        verify(updateTutorProfileUseCase).tutoringSaved(result);
+        verify(domainEventPublisher).publish(argThat(event -> event instanceof TutoringStatusChanged changed
+                && changed.previousStatus() == TutoringStatus.Activa && changed.newStatus() == TutoringStatus.Completada
+                && "tutor-id".equals(changed.actorId())));
+        verify(refreshSkillHeatmapUseCase).tutoringSaved(result);
+        verify(recordStatisticEventUseCase).tutoringCompleted(result);
+        verify(recordStatusTransitionUseCase).tutoringTransitioned(result, TutoringStatus.Activa);
     }
 
     @Test
@@ -142,10 +152,8 @@ class TutoringStatusServiceTest {
         // Arrange
         when(tutoringRepository.findById("tutoring-id")).thenReturn(Optional.of(activeTutoring));
         when(findUserByIdUseCase.findUserById("admin-id")).thenReturn(Optional.of(admin));
-        when(feedbackRepository.findByTutoringIdAndEvaluatorId("tutoring-id", "tutor-id"))
-                .thenReturn(List.of(tutorFeedback));
-        when(feedbackRepository.findByTutoringIdAndEvaluatorId("tutoring-id", "tutee-id"))
-                .thenReturn(List.of(tuteeFeedback));
+        when(feedbackRepository.existsByTutoringIdAndEvaluatorId("tutoring-id", "tutor-id")).thenReturn(true);
+        when(feedbackRepository.existsByTutoringIdAndEvaluatorId("tutoring-id", "tutee-id")).thenReturn(true);
         when(tutoringRepository.save(any(Tutoring.class))).thenAnswer(invocation -> {
             Tutoring savedTutoring = invocation.getArgument(0);
             savedTutoring.setStatus(TutoringStatus.Completada);
@@ -228,10 +236,7 @@ class TutoringStatusServiceTest {
         // Arrange
         when(tutoringRepository.findById("tutoring-id")).thenReturn(Optional.of(activeTutoring));
         when(findUserByIdUseCase.findUserById("tutor-id")).thenReturn(Optional.of(tutor));
-        when(feedbackRepository.findByTutoringIdAndEvaluatorId("tutoring-id", "tutor-id"))
-                .thenReturn(new ArrayList<>());
-        when(feedbackRepository.findByTutoringIdAndEvaluatorId("tutoring-id", "tutee-id"))
-                .thenReturn(List.of(tuteeFeedback));
+        when(feedbackRepository.existsByTutoringIdAndEvaluatorId("tutoring-id", "tutor-id")).thenReturn(false);
 
         // Act & Assert
         IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
@@ -247,10 +252,8 @@ class TutoringStatusServiceTest {
         // Arrange
         when(tutoringRepository.findById("tutoring-id")).thenReturn(Optional.of(activeTutoring));
         when(findUserByIdUseCase.findUserById("tutor-id")).thenReturn(Optional.of(tutor));
-        when(feedbackRepository.findByTutoringIdAndEvaluatorId("tutoring-id", "tutor-id"))
-                .thenReturn(List.of(tutorFeedback));
-        when(feedbackRepository.findByTutoringIdAndEvaluatorId("tutoring-id", "tutee-id"))
-                .thenReturn(new ArrayList<>());
+        when(feedbackRepository.existsByTutoringIdAndEvaluatorId("tutoring-id", "tutor-id")).thenReturn(true);
+        when(feedbackRepository.existsByTutoringIdAndEvaluatorId("tutoring-id", "tutee-id")).thenReturn(false);
 
         // Act & Assert
         IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
@@ -267,7 +270,6 @@ class TutoringStatusServiceTest {
         String cancellationReason = "No puedo continuar con la tutoría";
         when(tutoringRepository.findById("tutoring-id")).thenReturn(Optional.of(activeTutoring));
         when(findUserByIdUseCase.findUserById("tutor-id")).thenReturn(Optional.of(tutor));
-        when(feedbackRepository.save(any(Feedback.class))).thenReturn(new Feedback());
         when(tutoringRepository.save(any(Tutoring.class))).thenAnswer(invocation -> {
             Tutoring savedTutoring = invocation.getArgument(0);
             savedTutoring.setStatus(TutoringStatus.EnCancelacion);
@@ -280,8 +282,13 @@ class TutoringStatusServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(TutoringStatus.EnCancelacion, result.getStatus());
-        verify(feedbackRepository).save(any(Feedback.class));
         verify(tutoringRepository).save(any(Tutoring.class));
+        // El feedback de solicitud lo crea el handler del evento, no la petición
+        verify(feedbackRepository, never()).save(any(Feedback.class));
+        verify(domainEventPublisher).publish(argThat(event -> event instanceof TutoringStatusChanged changed
+                && "tutoring-id".equals(changed.tutoringId()) && "tutee-id".equals(changed.tuteeId())
+                && changed.previousStatus() == TutoringStatus.Activa && changed.newStatus() == TutoringStatus.EnCancelacion
+                && "tutor-id".equals(changed.actorId()) && cancellationReason.equals(changed.comment())));
     }
 
     @Test
@@ -290,7 +297,6 @@ class TutoringStatusServiceTest {
         String cancellationReason = "Ya no necesito la tutoría";
         when(tutoringRepository.findById("tutoring-id")).thenReturn(Optional.of(activeTutoring));
         when(findUserByIdUseCase.findUserById("tutee-id")).thenReturn(Optional.of(tutee));
-        when(feedbackRepository.save(any(Feedback.class))).thenReturn(new Feedback());
         when(tutoringRepository.save(any(Tutoring.class))).thenAnswer(invocation -> {
             Tutoring savedTutoring = invocation.getArgument(0);
             savedTutoring.setStatus(TutoringStatus.EnCancelacion);
@@ -303,8 +309,9 @@ class TutoringStatusServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(TutoringStatus.EnCancelacion, result.getStatus());
-        verify(feedbackRepository).save(any(Feedback.class));
         verify(tutoringRepository).save(any(Tutoring.class));
+        verify(domainEventPublisher).publish(argThat(event -> event instanceof TutoringStatusChanged changed
+                && "tutee-id".equals(changed.actorId()) && cancellationReason.equals(changed.comment())));
     }
 
     @Test
@@ -332,7 +339,6 @@ class TutoringStatusServiceTest {
         String cancellationComment = "Cancelada por inactividad";
         when(tutoringRepository.findById("in-cancellation-tutoring-id")).thenReturn(Optional.of(inCancellationTutoring));
         when(findUserByIdUseCase.findUserById("admin-id")).thenReturn(Optional.of(admin));
-        when(feedbackRepository.save(any(Feedback.class))).thenReturn(new Feedback());
         when(tutoringRepository.save(any(Tutoring.class))).thenAnswer(invocation -> {
             Tutoring savedTutoring = invocation.getArgument(0);
             savedTutoring.setStatus(TutoringStatus.Cancelada);
@@ -345,8 +351,11 @@ class TutoringStatusServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(TutoringStatus.Cancelada, result.getStatus());
-        verify(feedbackRepository).save(any(Feedback.class));
         verify(tutoringRepository).save(any(Tutoring.class));
+        verify(feedbackRepository, never()).save(any(Feedback.class));
+        verify(domainEventPublisher).publish(argThat(event -> event instanceof TutoringStatusChanged changed
+                && changed.previousStatus() == TutoringStatus.EnCancelacion && changed.newStatus() == TutoringStatus.Cancelada
+                && "admin-id".equals(changed.actorId()) && cancellationComment.equals(changed.comment())));
     }
 
     @Test
@@ -378,6 +387,95 @@ class TutoringStatusServiceTest {
         verify(tutoringRepository, never()).save(any(Tutoring.class));
     }
 
+    @Test
+    void cancelPendingTutorings_ShouldUpdateStatusesOnceAndPublishOneEventPerTutoring() {
+        // Arrange
+        Tutoring second = new Tutoring();
+        second.setId("second-in-cancellation-id");
+        second.setTutor(tutor);
+        second.setTutee(tutee);
+        second.setStatus(TutoringStatus.EnCancelacion);
+        when(findUserByIdUseCase.findUserById("admin-id")).thenReturn(Optional.of(admin));
+        when(tutoringRepository.findByStatusForUpdate(TutoringStatus.EnCancelacion, 100))
+                .thenReturn(List.of(inCancellationTutoring, second));
+        when(tutoringRepository.updateStatus(anyList(), eq(TutoringStatus.EnCancelacion), eq(TutoringStatus.Cancelada), any(Date.class)))
+                .thenReturn(2);
+
+        // Act
+        List<Tutoring> result = tutoringStatusService.cancelPendingTutorings("admin-id", "Cierre de mes", 100);
+
+        // Assert
+        assertEquals(2, result.size());
+        assertTrue(result.stream().allMatch(tutoring -> tutoring.getStatus() == TutoringStatus.Cancelada));
+        verify(domainEventPublisher).publishAll(argThat(events -> events.size() == 2
+                && events.stream().map(TutoringStatusChanged.class::cast).allMatch(event -> "Cierre de mes".equals(event.comment())
+                && "admin-id".equals(event.actorId()) && event.newStatus() == TutoringStatus.Cancelada)));
+        verify(tutoringRepository).updateStatus(eq(List.of("in-cancellation-tutoring-id", "second-in-cancellation-id")),
+                eq(TutoringStatus.EnCancelacion), eq(TutoringStatus.Cancelada), any(Date.class));
+        verify(recordStatusTransitionUseCase).tutoringsTransitioned(argThat(tutorings -> tutorings.size() == 2),
+                eq(TutoringStatus.EnCancelacion));
+        verify(tutoringRepository, never()).findById(any());
+        verify(tutoringRepository, never()).findAllById(any());
+        verify(tutoringRepository, never()).save(any(Tutoring.class));
+        verifyNoInteractions(feedbackRepository);
+    }
+
+    @Test
+    void cancelPendingTutorings_NonAdminUser_ShouldNotTouchTutorings() {
+        // Arrange
+        when(findUserByIdUseCase.findUserById("tutor-id")).thenReturn(Optional.of(tutor));
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                tutoringStatusService.cancelPendingTutorings("tutor-id", null, 100));
+
+        assertEquals("Solo los administradores pueden cancelar tutorías", exception.getMessage());
+        verify(tutoringRepository, never()).findByStatusForUpdate(any(), anyInt());
+        verify(tutoringRepository, never()).updateStatus(any(), any(), any(), any());
+    }
+
+    @Test
+    void cancelPendingTutorings_WhenTutoringChangedConcurrently_ShouldSkipIt() {
+        // Arrange: la segunda tutoría dejó de estar en cancelación antes del UPDATE
+        Tutoring second = new Tutoring();
+        second.setId("second-in-cancellation-id");
+        second.setTutor(tutor);
+        second.setTutee(tutee);
+        second.setStatus(TutoringStatus.EnCancelacion);
+        Tutoring secondNow = new Tutoring();
+        secondNow.setId(second.getId());
+        secondNow.setStatus(TutoringStatus.Activa);
+        Tutoring firstNow = new Tutoring();
+        firstNow.setId(inCancellationTutoring.getId());
+        firstNow.setStatus(TutoringStatus.Cancelada);
+        when(findUserByIdUseCase.findUserById("admin-id")).thenReturn(Optional.of(admin));
+        when(tutoringRepository.findByStatusForUpdate(TutoringStatus.EnCancelacion, 100))
+                .thenReturn(List.of(inCancellationTutoring, second));
+        when(tutoringRepository.updateStatus(anyList(), eq(TutoringStatus.EnCancelacion), eq(TutoringStatus.Cancelada), any(Date.class)))
+                .thenReturn(1);
+        when(tutoringRepository.findAllById(List.of(inCancellationTutoring.getId(), second.getId())))
+                .thenReturn(List.of(firstNow, secondNow));
+
+        // Act
+        List<Tutoring> result = tutoringStatusService.cancelPendingTutorings("admin-id", null, 100);
+
+        // Assert
+        assertEquals(List.of(inCancellationTutoring.getId()), result.stream().map(Tutoring::getId).toList());
+        verify(domainEventPublisher).publishAll(argThat(events -> events.size() == 1
+                && ((TutoringStatusChanged) events.get(0)).tutoringId().equals(inCancellationTutoring.getId())));
+        verify(recordStatusTransitionUseCase).tutoringsTransitioned(argThat(tutorings -> tutorings.size() == 1),
+                eq(TutoringStatus.EnCancelacion));
+        // Una sola relectura del lote, no una consulta por tutoría
+        verify(tutoringRepository, never()).findById(any());
+    }
+
+    @Test
+    void cancelPendingTutorings_LimitOutOfRange_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                tutoringStatusService.cancelPendingTutorings("admin-id", null, TutoringStatusService.MAX_BATCH_SIZE + 1));
+        verifyNoInteractions(findUserByIdUseCase, tutoringRepository, feedbackRepository);
+    }
+
     @Test
     void completeTutoring_MissingFinalActUrl() {
         // Act & Assert
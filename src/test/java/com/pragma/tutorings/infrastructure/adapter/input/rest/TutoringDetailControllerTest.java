@@ -26,6 +26,7 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -79,9 +80,9 @@ class TutoringDetailControllerTest {
         List<TutoringSession> sessions = new ArrayList<>();
         List<Feedback> feedbacks = new ArrayList<>();
 
-        when(getTutoringsUseCase.getTutoringById(anyString())).thenReturn(testTutoring);
-        when(getTutoringSessionsUseCase.getSessionsByTutoringId(anyString())).thenReturn(sessions);
-        when(getFeedbacksUseCase.getFeedbacksByTutoringId(anyString())).thenReturn(feedbacks);
+        when(getTutoringsUseCase.getTutoringById(anyString(), eq(false))).thenReturn(testTutoring);
+        when(getTutoringSessionsUseCase.getSessionsByTutoringId(anyString(), eq(false))).thenReturn(sessions);
+        when(getFeedbacksUseCase.getFeedbacksByTutoringId(anyString(), eq(false))).thenReturn(feedbacks);
         when(tutoringDetailDtoMapper.toDetailDto(any(), any(), any())).thenReturn(null);
 
         // Act & Assert
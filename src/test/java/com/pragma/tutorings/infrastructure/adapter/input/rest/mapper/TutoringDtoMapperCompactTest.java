@@ -0,0 +1,79 @@
+package com.pragma.tutorings.infrastructure.adapter.input.rest.mapper;
+
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.skills.domain.model.Skill;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.CompactTutoringDto;
+import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.CompactTutoringListDto;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TutoringDtoMapperCompactTest {
+
+    private final TutoringDtoMapper mapper = Mappers.getMapper(TutoringDtoMapper.class);
+
+    private final Chapter backend = new Chapter("chapter-1", "Backend");
+    private final User tutor = new User("tutor-1", "Ana", "Tutor", "ana@pragma.com", "google-1", "U1",
+            backend, RolUsuario.Tutor, 3, 5);
+    private final Skill java = new Skill("skill-1", "Java");
+    private final Skill spring = new Skill("skill-2", "Spring");
+
+    @Test
+    void toCompactListDto_SharedReferences_ShouldBeIncludedOnce() {
+        User firstTutee = new User("tutee-1", "Luis", "Tutee", "luis@pragma.com", null, null,
+                backend, RolUsuario.Tutorado, 0, 1);
+        User secondTutee = new User("tutee-2", "Eva", "Tutee", "eva@pragma.com", null, null,
+                null, RolUsuario.Tutorado, 0, 2);
+
+        CompactTutoringListDto result = mapper.toCompactListDto(List.of(
+                tutoring("t-1", firstTutee, List.of(java, spring)),
+                tutoring("t-2", secondTutee, List.of(java))));
+
+        CompactTutoringDto first = result.getTutorings().get(0);
+        assertEquals("tutor-1", first.getTutorId());
+        assertEquals("tutee-1", first.getTuteeId());
+        assertEquals(List.of("skill-1", "skill-2"), first.getSkillIds());
+        assertEquals(TutoringStatus.Activa, first.getStatus());
+        assertEquals(List.of("skill-1"), result.getTutorings().get(1).getSkillIds());
+
+        assertEquals(List.of("tutor-1", "tutee-1", "tutee-2"), List.copyOf(result.getIncluded().getUsers().keySet()));
+        assertEquals("chapter-1", result.getIncluded().getUsers().get("tutor-1").getChapterId());
+        assertNull(result.getIncluded().getUsers().get("tutee-2").getChapterId());
+        assertEquals(1, result.getIncluded().getChapters().size());
+        assertEquals("Backend", result.getIncluded().getChapters().get("chapter-1").getName());
+        assertEquals(2, result.getIncluded().getSkills().size());
+    }
+
+    @Test
+    void toCompactListDto_MissingReferences_ShouldMapToNullsAndEmptyLists() {
+        Tutoring orphan = tutoring("t-1", null, null);
+        orphan.setTutor(null);
+
+        CompactTutoringListDto result = mapper.toCompactListDto(List.of(orphan));
+
+        assertNull(result.getTutorings().get(0).getTutorId());
+        assertNull(result.getTutorings().get(0).getTuteeId());
+        assertTrue(result.getTutorings().get(0).getSkillIds().isEmpty());
+        assertTrue(result.getIncluded().getUsers().isEmpty());
+    }
+
+    private Tutoring tutoring(String id, User tutee, List<Skill> skills) {
+        Tutoring tutoring = new Tutoring();
+        tutoring.setId(id);
+        tutoring.setTutor(tutor);
+        tutoring.setTutee(tutee);
+        tutoring.setSkills(skills);
+        tutoring.setStatus(TutoringStatus.Activa);
+        tutoring.setObjectives("Objetivos");
+        return tutoring;
+    }
+}
@@ -0,0 +1,106 @@
+package com.pragma.tutorings.infrastructure.adapter.input.rest.mapper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.chapter.infrastructure.adapter.input.rest.mapper.ChapterDtoMapperImpl;
+import com.pragma.skills.domain.model.Skill;
+import com.pragma.skills.infrastructure.adapter.input.rest.mapper.SkillDtoMapperImpl;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.infrastructure.adapter.input.rest.mapper.UserDtoMapperImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark del listado de tutorías: tamaño del payload y tiempo de mapeo + serialización del formato
+ * completo frente al compacto para 2.000 tutorías entre 200 usuarios. Se ejecuta con {@code mvn test -Pbenchmark}.
+ */
+@Tag("performance")
+class TutoringPayloadBenchmarkTest {
+
+    private static final int TUTORINGS = 2_000;
+    private static final int USERS = 200;
+    private static final int SKILLS = 40;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 9;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TutoringDtoMapperImpl mapper = new TutoringDtoMapperImpl();
+    private final List<Tutoring> tutorings = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(mapper, "userDtoMapper", new UserDtoMapperImpl(new ChapterDtoMapperImpl()));
+        ReflectionTestUtils.setField(mapper, "skillDtoMapper", new SkillDtoMapperImpl());
+
+        Random random = new Random(42);
+        List<Chapter> chapters = List.of(new Chapter("backend", "Backend"), new Chapter("frontend", "Frontend"),
+                new Chapter("mobile", "Mobile"), new Chapter("data", "Data"));
+        List<User> users = new ArrayList<>();
+        for (int u = 0; u < USERS; u++) {
+            users.add(new User("user-" + u, "Nombre" + u, "Apellido" + u, "user" + u + "@pragma.com", null,
+                    "U" + u, chapters.get(u % chapters.size()), u % 4 == 0 ? RolUsuario.Tutor : RolUsuario.Tutorado,
+                    3, 1 + random.nextInt(6)));
+        }
+        for (int t = 0; t < TUTORINGS; t++) {
+            Tutoring tutoring = new Tutoring();
+            tutoring.setId("tutoring-" + t);
+            tutoring.setTutor(users.get(4 * random.nextInt(USERS / 4)));
+            tutoring.setTutee(users.get(random.nextInt(USERS)));
+            List<Skill> skills = new ArrayList<>();
+            for (int s = 0, count = 1 + random.nextInt(3); s < count; s++) {
+                int skill = random.nextInt(SKILLS);
+                skills.add(new Skill("skill-" + skill, "Skill " + skill));
+            }
+            tutoring.setSkills(skills);
+            tutoring.setStartDate(new Date());
+            tutoring.setExpectedEndDate(new Date());
+            tutoring.setStatus(TutoringStatus.Activa);
+            tutoring.setObjectives("Objetivos de la tutoría " + t);
+            tutoring.setCreatedAt(new Date());
+            tutorings.add(tutoring);
+        }
+    }
+
+    @Test
+    void serialize_2000Tutorings_FullVersusCompact() throws JsonProcessingException {
+        byte[] full = objectMapper.writeValueAsBytes(mapper.toDtoList(tutorings));
+        byte[] compact = objectMapper.writeValueAsBytes(mapper.toCompactListDto(tutorings));
+        double fullMillis = median(() -> mapper.toDtoList(tutorings));
+        double compactMillis = median(() -> mapper.toCompactListDto(tutorings));
+
+        assertTrue(compact.length < full.length);
+
+        System.out.printf("listado de tutorías (%d tutorías, %d usuarios): completo %d KB, mediana %.1f ms; "
+                        + "compacto %d KB, mediana %.1f ms%n",
+                TUTORINGS, USERS, full.length / 1024, fullMillis, compact.length / 1024, compactMillis);
+    }
+
+    private double median(Supplier<Object> response) throws JsonProcessingException {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            objectMapper.writeValueAsBytes(response.get());
+        }
+        long[] samples = new long[MEASURED_ROUNDS];
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            objectMapper.writeValueAsBytes(response.get());
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[MEASURED_ROUNDS / 2] / 1e6;
+    }
+}
@@ -0,0 +1,265 @@
+package com.pragma.tutorings.infrastructure.adapter.output.jdbc;
+
+import com.pragma.chapter.infrastructure.adapter.output.persistence.entity.ChapterEntity;
+import com.pragma.chapter.infrastructure.adapter.output.persistence.mapper.ChapterMapperImpl;
+import com.pragma.shared.config.ExportProperties;
+import com.pragma.shared.config.JdbcReadProperties;
+import com.pragma.skills.infrastructure.adapter.output.persistence.entity.SkillEntity;
+import com.pragma.skills.infrastructure.adapter.output.persistence.mapper.SkillMapperImpl;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringField;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings.infrastructure.adapter.output.persistence.TutoringPersistenceAdapter;
+import com.pragma.tutorings.infrastructure.adapter.output.persistence.entity.TutoringEntity;
+import com.pragma.tutorings.infrastructure.adapter.output.persistence.mapper.TutoringMapperImpl;
+import com.pragma.tutorings_requests.domain.model.TutoringRequest;
+import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import com.pragma.tutorings_requests.domain.model.enums.TutoringRequestField;
+import com.pragma.tutorings_requests.infrastructure.adapter.output.jdbc.TutoringRequestJdbcAdapter;
+import com.pragma.tutorings_requests.infrastructure.adapter.output.persistence.TutoringRequestPersistenceAdapter;
+import com.pragma.tutorings_requests.infrastructure.adapter.output.persistence.entity.TutoringRequestsEntity;
+import com.pragma.tutorings_requests.infrastructure.adapter.output.persistence.mapper.TutoringRequestMapperImpl;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.infrastructure.adapter.output.jdbc.UserJdbcAdapter;
+import com.pragma.usuarios.infrastructure.adapter.output.persistence.UserPersistenceAdapter;
+import com.pragma.usuarios.infrastructure.adapter.output.persistence.entity.UsersEntity;
+import com.pragma.usuarios.infrastructure.adapter.output.persistence.mapper.UserMapperImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the JDBC read adapters return exactly what the JPA adapters return.
+ */
+@DataJpaTest
+@ActiveProfiles({"test", "jdbc"})
+@Import({TutoringJdbcAdapter.class, TutoringPersistenceAdapter.class, TutoringRequestJdbcAdapter.class,
+        TutoringRequestPersistenceAdapter.class, UserJdbcAdapter.class, UserPersistenceAdapter.class,
+        JdbcReadProperties.class, ExportProperties.class, TutoringMapperImpl.class, TutoringRequestMapperImpl.class, UserMapperImpl.class,
+        ChapterMapperImpl.class, SkillMapperImpl.class})
+class TutoringJdbcAdapterTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TutoringJdbcAdapter tutoringJdbcAdapter;
+
+    @Autowired
+    private TutoringPersistenceAdapter tutoringJpaAdapter;
+
+    @Autowired
+    private TutoringRequestJdbcAdapter requestJdbcAdapter;
+
+    @Autowired
+    private TutoringRequestPersistenceAdapter requestJpaAdapter;
+
+    @Autowired
+    private UserJdbcAdapter userJdbcAdapter;
+
+    @Autowired
+    private UserPersistenceAdapter userJpaAdapter;
+
+    private UsersEntity tutor;
+    private UsersEntity tutee;
+    private SkillEntity java;
+    private TutoringEntity tutoring;
+
+    @BeforeEach
+    void setUp() {
+        ChapterEntity chapter = entityManager.persist(new ChapterEntity(null, "Chapter JDBC"));
+        tutor = entityManager.persist(user("tutor-jdbc", chapter, RolUsuario.Tutor));
+        tutee = entityManager.persist(user("tutee-jdbc", chapter, RolUsuario.Tutorado));
+        java = entityManager.persist(new SkillEntity(null, "Java JDBC", null));
+        SkillEntity sql = entityManager.persist(new SkillEntity(null, "SQL JDBC", null));
+
+        tutoring = new TutoringEntity();
+        tutoring.setTutorId(tutor);
+        tutoring.setTuteeId(tutee);
+        tutoring.setSkills(new ArrayList<>(List.of(java, sql)));
+        tutoring.setStart_date(new Date());
+        tutoring.setExpected_end_date(new Date());
+        tutoring.setStatus(TutoringStatus.Activa);
+        tutoring.setObjectives("Aprender JDBC");
+        tutoring = entityManager.persist(tutoring);
+
+        TutoringEntity withoutSkills = new TutoringEntity();
+        withoutSkills.setTutorId(tutor);
+        withoutSkills.setTuteeId(tutee);
+        withoutSkills.setSkills(new ArrayList<>());
+        withoutSkills.setStatus(TutoringStatus.Completada);
+        entityManager.persist(withoutSkills);
+
+        TutoringRequestsEntity request = new TutoringRequestsEntity();
+        request.setTutee(tutee);
+        request.setSkills(new ArrayList<>(List.of(java)));
+        request.setNeedsDescription("Necesito JDBC");
+        request.setRequestDate(new Date());
+        request.setRequestStatus(RequestStatus.Pendiente);
+        entityManager.persist(request);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findAll_ShouldMatchJpaAdapter() {
+        // Act
+        List<Tutoring> jdbc = sorted(tutoringJdbcAdapter.findAll());
+        List<Tutoring> jpa = sorted(tutoringJpaAdapter.findAll());
+
+        // Assert
+        assertEquals(jpa, jdbc);
+    }
+
+    @Test
+    void findById_ShouldMatchJpaAdapter() {
+        // Act
+        Tutoring jdbc = normalize(tutoringJdbcAdapter.findById(tutoring.getId()).orElseThrow());
+        Tutoring jpa = normalize(tutoringJpaAdapter.findById(tutoring.getId()).orElseThrow());
+
+        // Assert
+        assertEquals(jpa, jdbc);
+        assertEquals(2, jdbc.getSkills().size());
+    }
+
+    @Test
+    void findByTutorAndTutee_ShouldMatchJpaAdapter() {
+        assertEquals(sorted(tutoringJpaAdapter.findByTutorId(tutor.getId())), sorted(tutoringJdbcAdapter.findByTutorId(tutor.getId())));
+        assertEquals(sorted(tutoringJpaAdapter.findByTuteeId(tutee.getId())), sorted(tutoringJdbcAdapter.findByTuteeId(tutee.getId())));
+        assertTrue(tutoringJdbcAdapter.findByTutorId("missing").isEmpty());
+    }
+
+    @Test
+    void counts_ShouldMatchJpaAdapter() {
+        assertEquals(tutoringJpaAdapter.countActiveTutoringByTutorId(tutor.getId()),
+                tutoringJdbcAdapter.countActiveTutoringByTutorId(tutor.getId()));
+        assertEquals(tutoringJpaAdapter.countTutoringsByTutorId(tutor.getId()),
+                tutoringJdbcAdapter.countTutoringsByTutorId(tutor.getId()));
+        assertEquals(tutoringJpaAdapter.countTutoringsByTuteeId(tutee.getId()),
+                tutoringJdbcAdapter.countTutoringsByTuteeId(tutee.getId()));
+    }
+
+    @Test
+    void requestFilters_ShouldMatchJpaAdapter() {
+        List<TutoringRequest> jpa = requestJpaAdapter.findWithFilters(tutee.getId(), java.getId(), RequestStatus.Pendiente,
+                tutee.getChapter().getId());
+        List<TutoringRequest> jdbc = requestJdbcAdapter.findWithFilters(tutee.getId(), java.getId(), RequestStatus.Pendiente,
+                tutee.getChapter().getId());
+
+        assertEquals(1, jdbc.size());
+        assertEquals(jpa, jdbc);
+        assertTrue(requestJdbcAdapter.findWithFilters(null, null, RequestStatus.Aprobada, null).isEmpty());
+    }
+
+    @Test
+    void projections_ShouldMatchJpaAdapterAndSkipUnselectedFields() {
+        Set<TutoringField> tutoringFields = EnumSet.of(TutoringField.ID, TutoringField.STATUS, TutoringField.TUTOR);
+        Set<TutoringRequestField> requestFields = EnumSet.of(TutoringRequestField.ID, TutoringRequestField.REQUEST_STATUS,
+                TutoringRequestField.SKILLS);
+
+        List<Tutoring> jdbc = byId(tutoringJdbcAdapter.findAll(tutoringFields));
+        List<Tutoring> jpa = byId(tutoringJpaAdapter.findAll(tutoringFields));
+        List<TutoringRequest> jdbcRequests = requestJdbcAdapter.findWithFilters(null, null, null,
+                tutee.getChapter().getId(), requestFields);
+        List<TutoringRequest> jpaRequests = requestJpaAdapter.findWithFilters(null, null, null,
+                tutee.getChapter().getId(), requestFields);
+
+        assertEquals(jpa, jdbc);
+        assertEquals(2, jdbc.size());
+        assertEquals(tutor.getId(), jdbc.get(0).getTutor().getId());
+        assertNull(jdbc.get(0).getTutee());
+        assertNull(jdbc.get(0).getObjectives());
+        assertNull(jdbc.get(0).getSkills());
+        assertEquals(jpaRequests, jdbcRequests);
+        assertEquals(RequestStatus.Pendiente, jdbcRequests.get(0).getRequestStatus());
+        assertEquals(java.getId(), jdbcRequests.get(0).getSkills().get(0).getId());
+        assertNull(jdbcRequests.get(0).getNeedsDescription());
+        assertNull(jdbcRequests.get(0).getTutee());
+    }
+
+    @Test
+    void streamAll_ShouldMatchJpaAdapter() {
+        List<Tutoring> jdbc = new ArrayList<>();
+        List<Tutoring> jpa = new ArrayList<>();
+        List<TutoringRequest> jdbcRequests = new ArrayList<>();
+        List<TutoringRequest> jpaRequests = new ArrayList<>();
+
+        tutoringJdbcAdapter.streamAll(jdbc::add);
+        tutoringJpaAdapter.streamAll(jpa::add);
+        requestJdbcAdapter.streamAll(jdbcRequests::add);
+        requestJpaAdapter.streamAll(jpaRequests::add);
+
+        assertEquals(sorted(jpa), sorted(jdbc));
+        assertEquals(sorted(tutoringJdbcAdapter.findAll()), sorted(jdbc));
+        assertEquals(jpaRequests, jdbcRequests);
+        assertEquals(1, jdbcRequests.size());
+    }
+
+    @Test
+    void reads_ShouldSeeJpaWritesNotYetFlushedInTheSameTransaction() {
+        // Arrange: el cambio queda en el contexto de persistencia, sin flush
+        Tutoring changed = tutoringJpaAdapter.findById(tutoring.getId()).orElseThrow();
+        changed.setObjectives("Objetivo sin flush");
+        changed.setStatus(TutoringStatus.EnCancelacion);
+        tutoringJpaAdapter.save(changed);
+
+        // Act & Assert
+        assertEquals("Objetivo sin flush", tutoringJdbcAdapter.findById(tutoring.getId()).orElseThrow().getObjectives());
+        assertEquals(0L, tutoringJdbcAdapter.countActiveTutoringByTutorId(tutor.getId()));
+    }
+
+    @Test
+    void userReads_ShouldMatchJpaAdapter() {
+        assertEquals(userJpaAdapter.findByGoogleUserId("google-tutor-jdbc"), userJdbcAdapter.findByGoogleUserId("google-tutor-jdbc"));
+        assertEquals(userJpaAdapter.findByEmail("tutee-jdbc@pragma.com"), userJdbcAdapter.findByEmail("tutee-jdbc@pragma.com"));
+        assertEquals(userJpaAdapter.findByFilters(null, "tutor", null, "JDBC"),
+                userJdbcAdapter.findByFilters(null, "tutor", null, "JDBC"));
+    }
+
+    private static UsersEntity user(String key, ChapterEntity chapter, RolUsuario rol) {
+        UsersEntity user = new UsersEntity();
+        user.setFirstName(key);
+        user.setLastName("Jdbc");
+        user.setEmail(key + "@pragma.com");
+        user.setGoogleUserId("google-" + key);
+        user.setChapter(chapter);
+        user.setRol(rol);
+        user.setActiveTutoringLimit(2);
+        user.setSeniority(3);
+        return user;
+    }
+
+    private static List<Tutoring> byId(List<Tutoring> tutorings) {
+        return tutorings.stream().sorted(Comparator.comparing(Tutoring::getId)).toList();
+    }
+
+    private static List<Tutoring> sorted(List<Tutoring> tutorings) {
+        return tutorings.stream()
+                .map(TutoringJdbcAdapterTest::normalize)
+                .sorted(Comparator.comparing(Tutoring::getId))
+                .toList();
+    }
+
+    private static Tutoring normalize(Tutoring tutoring) {
+        tutoring.setSkills(tutoring.getSkills().stream()
+                .sorted(Comparator.comparing(skill -> skill.getId()))
+                .toList());
+        return tutoring;
+    }
+}
@@ -0,0 +1,180 @@
+package com.pragma.tutorings.infrastructure.adapter.output.jdbc;
+
+import com.pragma.chapter.infrastructure.adapter.output.persistence.mapper.ChapterMapperImpl;
+import com.pragma.shared.config.ExportProperties;
+import com.pragma.shared.config.JdbcReadProperties;
+import com.pragma.skills.infrastructure.adapter.output.persistence.mapper.SkillMapperImpl;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringField;
+import com.pragma.tutorings.infrastructure.adapter.output.persistence.TutoringPersistenceAdapter;
+import com.pragma.tutorings.infrastructure.adapter.output.persistence.mapper.TutoringMapperImpl;
+import com.pragma.tutorings_requests.infrastructure.adapter.output.persistence.mapper.TutoringRequestMapperImpl;
+import com.pragma.usuarios.infrastructure.adapter.output.persistence.mapper.UserMapperImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Benchmark de lectura: adaptador JDBC vs adaptador JPA sobre el mismo dataset.
+ * Se ejecuta con {@code mvn test -Pbenchmark}.
+ */
+@Tag("performance")
+@DataJpaTest
+@ActiveProfiles({"test", "jdbc"})
+@Import({TutoringJdbcAdapter.class, TutoringPersistenceAdapter.class, JdbcReadProperties.class, ExportProperties.class,
+        TutoringMapperImpl.class, TutoringRequestMapperImpl.class, UserMapperImpl.class,
+        ChapterMapperImpl.class, SkillMapperImpl.class})
+class TutoringReadBenchmarkTest {
+
+    private static final int USERS = 200;
+    private static final int TUTORINGS = 5_000;
+    private static final int SKILLS_PER_TUTORING = 3;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TutoringJdbcAdapter jdbcAdapter;
+
+    @Autowired
+    private TutoringPersistenceAdapter jpaAdapter;
+
+    private int existing;
+
+    @BeforeEach
+    void setUp() {
+        existing = jpaAdapter.findAll().size();
+
+        jdbcTemplate.update("INSERT INTO chapter (id, name) VALUES ('bench', 'Benchmark')");
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(new Object[]{"bench-user-" + i, "Bench", "User " + i, "bench" + i + "@pragma.com", "bench-google-" + i, "bench"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, first_name, last_name, correo, google_user_id, chapter_id, rol, active_tutoring_limit, seniority) "
+                + "VALUES (?, ?, ?, ?, ?, ?, 'Tutor', 3, 5)", users);
+
+        List<Object[]> skills = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            skills.add(new Object[]{"bench-skill-" + i, "Bench Skill " + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO skills (id, name) VALUES (?, ?)", skills);
+
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<Object[]> tutorings = new ArrayList<>();
+        List<Object[]> tutoringSkills = new ArrayList<>();
+        for (int i = 0; i < TUTORINGS; i++) {
+            String id = UUID.randomUUID().toString();
+            tutorings.add(new Object[]{id, "bench-user-" + (i % USERS), "bench-user-" + ((i + 1) % USERS), now, now, "Objetivo " + i});
+            for (int s = 0; s < SKILLS_PER_TUTORING; s++) {
+                tutoringSkills.add(new Object[]{id, "bench-skill-" + ((i + s) % 20)});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tutoring (id, tutor_id_id, tutee_id_id, start_date, expected_end_date, status, objectives) "
+                + "VALUES (?, ?, ?, ?, ?, 'Activa', ?)", tutorings);
+        jdbcTemplate.batchUpdate("INSERT INTO tutoring_skills (tutorings_id, skills_id) VALUES (?, ?)", tutoringSkills);
+        entityManager.clear();
+    }
+
+    @Test
+    void findAll_JdbcVsJpa() {
+        assertEquals(existing + TUTORINGS, jdbcAdapter.findAll().size());
+        assertEquals(existing + TUTORINGS, jpaAdapter.findAll().size());
+
+        long jpaNanos = measure(jpaAdapter::findAll);
+        long jdbcNanos = measure(jdbcAdapter::findAll);
+
+        System.out.printf("findAll (%d tutorías, %d skills c/u): JPA %.1f ms, JDBC %.1f ms, speedup x%.2f%n",
+                TUTORINGS, SKILLS_PER_TUTORING, jpaNanos / 1e6, jdbcNanos / 1e6, (double) jpaNanos / jdbcNanos);
+    }
+
+    @Test
+    void findAll_SparseFieldsVsFull() {
+        Set<TutoringField> fields = EnumSet.of(TutoringField.ID, TutoringField.STATUS, TutoringField.TUTOR);
+        assertEquals(existing + TUTORINGS, jdbcAdapter.findAll(fields).size());
+        assertEquals(existing + TUTORINGS, jpaAdapter.findAll(fields).size());
+
+        long jpaFull = measure(jpaAdapter::findAll);
+        long jpaSparse = measure(() -> jpaAdapter.findAll(fields));
+        long jdbcFull = measure(jdbcAdapter::findAll);
+        long jdbcSparse = measure(() -> jdbcAdapter.findAll(fields));
+
+        System.out.printf("findAll con fields=id,status,tutor (%d tutorías): JPA %.1f -> %.1f ms, JDBC %.1f -> %.1f ms%n",
+                TUTORINGS, jpaFull / 1e6, jpaSparse / 1e6, jdbcFull / 1e6, jdbcSparse / 1e6);
+    }
+
+    @Test
+    void streamAll_VsFindAll() {
+        AtomicInteger streamed = new AtomicInteger();
+        jpaAdapter.streamAll(tutoring -> streamed.incrementAndGet());
+        jdbcAdapter.streamAll(tutoring -> streamed.incrementAndGet());
+        assertEquals(2 * (existing + TUTORINGS), streamed.get());
+
+        long jpaList = measure(jpaAdapter::findAll);
+        long jpaStream = measure(() -> {
+            jpaAdapter.streamAll(tutoring -> { });
+            return List.of();
+        });
+        long jdbcList = measure(jdbcAdapter::findAll);
+        long jdbcStream = measure(() -> {
+            jdbcAdapter.streamAll(tutoring -> { });
+            return List.of();
+        });
+
+        System.out.printf("streamAll vs findAll (%d tutorías): JPA %.1f -> %.1f ms, JDBC %.1f -> %.1f ms%n",
+                TUTORINGS, jpaList / 1e6, jpaStream / 1e6, jdbcList / 1e6, jdbcStream / 1e6);
+    }
+
+    @Test
+    void findByTutorId_JdbcVsJpa() {
+        String tutorId = "bench-user-7";
+
+        long jpaNanos = measure(() -> jpaAdapter.findByTutorId(tutorId));
+        long jdbcNanos = measure(() -> jdbcAdapter.findByTutorId(tutorId));
+
+        System.out.printf("findByTutorId (%d tutorías por tutor): JPA %.2f ms, JDBC %.2f ms, speedup x%.2f%n",
+                TUTORINGS / USERS, jpaNanos / 1e6, jdbcNanos / 1e6, (double) jpaNanos / jdbcNanos);
+    }
+
+    /**
+     * Mediana de {@value #MEASURED_ROUNDS} rondas tras {@value #WARMUP_ROUNDS} de calentamiento,
+     * limpiando el contexto de persistencia para que JPA no lea desde caché.
+     */
+    private long measure(Supplier<List<Tutoring>> read) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            read.get();
+            entityManager.clear();
+        }
+        long[] samples = new long[MEASURED_ROUNDS];
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            read.get();
+            samples[i] = System.nanoTime() - start;
+            entityManager.clear();
+        }
+        Arrays.sort(samples);
+        return samples[MEASURED_ROUNDS / 2];
+    }
+}
@@ -1,10 +1,18 @@
 package com.pragma.tutorings_requests.application.service;
 
 import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.search.domain.model.enums.SearchDocumentType;
+import com.pragma.search.domain.port.input.IndexTextUseCase;
+import com.pragma.shared.events.DomainEventPublisher;
+import com.pragma.statistics.domain.port.input.RecordStatisticEventUseCase;
+import com.pragma.statistics.domain.port.input.RecordStatusTransitionUseCase;
+import com.pragma.statistics.domain.port.input.RefreshSkillHeatmapUseCase;
 import com.pragma.shared.context.UserContext;
 import com.pragma.shared.context.UserContextHelper;
 import com.pragma.shared.service.MessageService;
 import com.pragma.skills.domain.model.Skill;
+import com.pragma.tutorings_requests.domain.model.StatusChangeResult;
+import com.pragma.tutorings_requests.domain.event.RequestStatusChanged;
 import com.pragma.tutorings_requests.domain.model.TutoringRequest;
 import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
 import com.pragma.tutorings_requests.domain.port.output.TutoringRequestRepository;
@@ -24,6 +32,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -39,6 +48,21 @@ class TutoringRequestServiceTest {
     @Mock
     private MessageService messageService;
 
+    @Mock
+    private IndexTextUseCase indexTextUseCase;
+
+    @Mock
+    private RefreshSkillHeatmapUseCase refreshSkillHeatmapUseCase;
+
+    @Mock
+    private RecordStatisticEventUseCase recordStatisticEventUseCase;
+
+    @Mock
+    private RecordStatusTransitionUseCase recordStatusTransitionUseCase;
+
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+
     @InjectMocks
     private TutoringRequestService tutoringRequestService;
 
@@ -104,6 +128,10 @@ class TutoringRequestServiceTest {
         assertEquals(requestId, result.getId());
         assertEquals(RequestStatus.Pendiente, result.getRequestStatus());
         verify(tutoringRequestRepository, times(1)).save(any(TutoringRequest.class));
+        verify(indexTextUseCase).index(SearchDocumentType.TUTORING_REQUEST, requestId, tutoringRequest.getNeedsDescription());
+        verify(refreshSkillHeatmapUseCase).requestSaved(tutoringRequest);
+        verify(recordStatisticEventUseCase).requestCreated(tutoringRequest);
+        verify(recordStatusTransitionUseCase).requestTransitioned(tutoringRequest, null);
     }
 
     @Test
@@ -125,6 +153,10 @@ class TutoringRequestServiceTest {
         assertEquals(RequestStatus.Aprobada, result.getRequestStatus());
         verify(tutoringRequestRepository, times(1)).findById(requestId);
         verify(tutoringRequestRepository, times(1)).save(any(TutoringRequest.class));
+        verify(recordStatisticEventUseCase).requestStatusChanged(result);
+        verify(recordStatusTransitionUseCase).requestTransitioned(result, RequestStatus.Pendiente);
+        verify(domainEventPublisher).publish(argThat(event -> event instanceof RequestStatusChanged changed
+                && changed.previousStatus() == RequestStatus.Pendiente && changed.newStatus() == RequestStatus.Aprobada));
     }
 
     @Test
@@ -144,6 +176,9 @@ class TutoringRequestServiceTest {
         verify(tutoringRequestRepository, times(1)).findById(requestId);
         verify(tutoringRequestRepository, times(1)).delete(requestId);
         verify(tutoringRequestRepository, never()).save(any(TutoringRequest.class));
+        verify(indexTextUseCase).remove(SearchDocumentType.TUTORING_REQUEST, requestId);
+        verify(refreshSkillHeatmapUseCase).requestDeleted(requestId);
+        verify(recordStatisticEventUseCase).requestStatusChanged(result);
     }
 
     @Test
@@ -235,6 +270,110 @@ class TutoringRequestServiceTest {
         verify(tutoringRequestRepository, never()).save(any(TutoringRequest.class));
     }
 
+    @Test
+    void updateStatuses_ShouldUpdateValidRequestsWithOneUpdateAndReportTheRest() {
+        // Arrange
+        UserContext.setCurrentUser(adminUser);
+        TutoringRequest finished = request("finished", RequestStatus.Finalizada);
+        TutoringRequest pending = request("pending", RequestStatus.Pendiente);
+        when(tutoringRequestRepository.findAllById(List.of(requestId, "missing", "finished", "pending")))
+                .thenReturn(List.of(pending, tutoringRequest, finished));
+        when(tutoringRequestRepository.updateStatus(eq(List.of(requestId, "pending")), eq(RequestStatus.Pendiente),
+                eq(RequestStatus.Aprobada), any(Date.class))).thenReturn(2);
+
+        // Act
+        List<StatusChangeResult> results = tutoringRequestService.updateStatuses(
+                List.of(requestId, "missing", "finished", requestId, "pending"), RequestStatus.Aprobada);
+
+        // Assert
+        assertEquals(List.of(requestId, "missing", "finished", "pending"),
+                results.stream().map(StatusChangeResult::requestId).toList());
+        assertTrue(results.get(0).success());
+        assertEquals(RequestStatus.Aprobada, results.get(0).request().getRequestStatus());
+        assertTrue(results.get(1).error().contains("no encontrada"));
+        assertTrue(results.get(2).error().contains("Transición de estado inválida"));
+        assertTrue(results.get(3).success());
+        verify(tutoringRequestRepository).updateStatus(eq(List.of(requestId, "pending")), eq(RequestStatus.Pendiente),
+                eq(RequestStatus.Aprobada), any(Date.class));
+        verify(tutoringRequestRepository, never()).save(any(TutoringRequest.class));
+        // Un solo registro de transiciones para el grupo que salía de Pendiente
+        verify(recordStatusTransitionUseCase).requestsTransitioned(List.of(tutoringRequest, pending), RequestStatus.Pendiente);
+        verify(recordStatusTransitionUseCase, never()).requestTransitioned(any(), any());
+        verify(recordStatisticEventUseCase, times(2)).requestStatusChanged(any(TutoringRequest.class));
+    }
+
+    @Test
+    void updateStatuses_WhenRequestChangedConcurrently_ShouldReportConflict() {
+        // Arrange: "pending" cambió de estado entre la lectura y el UPDATE
+        UserContext.setCurrentUser(adminUser);
+        TutoringRequest pending = request("pending", RequestStatus.Pendiente);
+        when(tutoringRequestRepository.findAllById(List.of(requestId, "pending")))
+                .thenReturn(List.of(tutoringRequest, pending))
+                .thenReturn(List.of(request(requestId, RequestStatus.Aprobada), request("pending", RequestStatus.Cancelada)));
+        when(tutoringRequestRepository.updateStatus(eq(List.of(requestId, "pending")), eq(RequestStatus.Pendiente),
+                eq(RequestStatus.Aprobada), any(Date.class))).thenReturn(1);
+
+        // Act
+        List<StatusChangeResult> results = tutoringRequestService.updateStatuses(
+                List.of(requestId, "pending"), RequestStatus.Aprobada);
+
+        // Assert
+        assertTrue(results.get(0).success());
+        assertFalse(results.get(1).success());
+        assertTrue(results.get(1).error().contains("cambió de estado"));
+        verify(recordStatusTransitionUseCase).requestsTransitioned(List.of(tutoringRequest), RequestStatus.Pendiente);
+        verify(recordStatisticEventUseCase, times(1)).requestStatusChanged(any(TutoringRequest.class));
+    }
+
+    @Test
+    void updateStatuses_WithoutPermission_ShouldRejectEveryItem() {
+        // Arrange
+        UserContext.setCurrentUser(tutorUser);
+        when(tutoringRequestRepository.findAllById(List.of(requestId))).thenReturn(List.of(tutoringRequest));
+
+        // Act
+        List<StatusChangeResult> results = tutoringRequestService.updateStatuses(List.of(requestId), RequestStatus.Aprobada);
+
+        // Assert
+        assertFalse(results.get(0).success());
+        assertEquals("Solo los administradores pueden aprobar solicitudes", results.get(0).error());
+        verify(tutoringRequestRepository, never()).updateStatus(any(), any(), any(), any());
+    }
+
+    @Test
+    void updateStatuses_CancellingUnassignedRequest_ShouldDeleteIt() {
+        // Arrange
+        UserContext.setCurrentUser(adminUser);
+        when(tutoringRequestRepository.findAllById(List.of(requestId))).thenReturn(List.of(tutoringRequest));
+
+        // Act
+        List<StatusChangeResult> results = tutoringRequestService.updateStatuses(List.of(requestId), RequestStatus.Cancelada);
+
+        // Assert
+        assertEquals(RequestStatus.Cancelada, results.get(0).request().getRequestStatus());
+        verify(tutoringRequestRepository).delete(requestId);
+        verify(refreshSkillHeatmapUseCase).requestDeleted(requestId);
+    }
+
+    @Test
+    void updateStatuses_TooManyIds_ThrowsException() {
+        List<String> ids = IntStream.rangeClosed(0, TutoringRequestService.MAX_BATCH_SIZE)
+                .mapToObj(String::valueOf).toList();
+
+        assertThrows(IllegalArgumentException.class, () -> tutoringRequestService.updateStatuses(ids, RequestStatus.Aprobada));
+        assertThrows(IllegalArgumentException.class, () -> tutoringRequestService.updateStatuses(List.of(), RequestStatus.Aprobada));
+        verifyNoInteractions(tutoringRequestRepository);
+    }
+
+    private TutoringRequest request(String id, RequestStatus status) {
+        TutoringRequest request = new TutoringRequest();
+        request.setId(id);
+        request.setTutee(tutoringRequest.getTutee());
+        request.setSkills(tutoringRequest.getSkills());
+        request.setRequestStatus(status);
+        return request;
+    }
+
     @Test
     void getAllTutoringRequests_Success() {
         // Arrange
@@ -5,6 +5,7 @@ import com.pragma.shared.context.TestUserContextHelper;
 import com.pragma.shared.service.MessageService;
 import com.pragma.tutorings_requests.domain.model.TutoringRequest;
 import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import com.pragma.tutorings_requests.domain.model.enums.TutoringRequestField;
 import com.pragma.tutorings_requests.domain.port.input.GetTutoringRequestsUseCase;
 import com.pragma.tutorings_requests.infrastructure.adapter.input.rest.dto.TutoringRequestDto;
 import com.pragma.tutorings_requests.infrastructure.adapter.input.rest.mapper.TutoringRequestDtoMapper;
@@ -19,9 +20,12 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -202,4 +206,26 @@ class TutoringRequestControllerGetTest {
                 .andExpect(jsonPath("$.data[0].requestStatus").value("Pendiente"))
                 .andExpect(jsonPath("$.data[0].skills").isArray());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getTutoringRequestsWithFields_ShouldLoadAndReturnOnlySelectedFields() throws Exception {
+        // Arrange
+        tutoringRequestDto1.setNeedsDescription("Necesito ayuda con Spring");
+        Set<TutoringRequestField> loaded = EnumSet.of(TutoringRequestField.ID, TutoringRequestField.REQUEST_STATUS);
+        when(getTutoringRequestsUseCase.getTutoringRequestsWithFilters(eq(tuteeId), isNull(), isNull(), isNull(), eq(loaded)))
+                .thenReturn(List.of(tutoringRequest1));
+        when(tutoringRequestDtoMapper.toDto(tutoringRequest1)).thenReturn(tutoringRequestDto1);
+        when(tutoringRequestDtoMapper.toSparseDto(any(), any())).thenCallRealMethod();
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/tutoring-requests")
+                .param("tuteeId", tuteeId)
+                .param("fields", "id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].id").value(tutoringRequestDto1.getId()))
+                .andExpect(jsonPath("$.data[0].requestStatus").doesNotExist())
+                .andExpect(jsonPath("$.data[0].needsDescription").doesNotExist())
+                .andExpect(jsonPath("$.data[0].skills").doesNotExist());
+    }
+}
@@ -0,0 +1,219 @@
+package com.pragma.usuarios.application.service;
+
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.chapter.domain.port.input.GetAllChaptersUseCase;
+import com.pragma.chapter.infrastructure.adapter.output.memory.ChapterInMemoryAdapter;
+import com.pragma.recommendations.domain.port.input.UpdateTutorProfileUseCase;
+import com.pragma.shared.config.ExternalApiProperties;
+import com.pragma.shared.config.UserEnrichmentProperties;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.UserEnrichmentReport;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.infrastructure.adapter.output.external.PragmaUserAdapter;
+import com.pragma.usuarios.infrastructure.adapter.output.memory.UserEnrichmentCheckpointInMemoryAdapter;
+import com.pragma.usuarios.infrastructure.adapter.output.memory.UserInMemoryAdapter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the enrichment job against a local HTTP stub of the Pragma user API.
+ */
+class UserEnrichmentServiceTest {
+
+    private static final int USERS = 12;
+    private static final String MISSING = "user-05@pragma.com";
+    private static final String FAILING = "user-07@pragma.com";
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final Set<String> requested = ConcurrentHashMap.newKeySet();
+    private volatile boolean upstreamFailing;
+
+    private HttpServer stub;
+    private UserInMemoryAdapter users;
+    private UserEnrichmentCheckpointInMemoryAdapter checkpoint;
+    private UpdateTutorProfileUseCase updateTutorProfileUseCase;
+    private UserEnrichmentProperties properties;
+    private UserEnrichmentService service;
+    private Chapter backend;
+    private Chapter frontend;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stub.createContext("/prod/administration/pragmatic/", this::respond);
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.start();
+
+        ExternalApiProperties apiProperties = new ExternalApiProperties();
+        apiProperties.setServiceUrl("http://localhost:" + stub.getAddress().getPort());
+        apiProperties.setServiceKey("test-key");
+        PragmaUserAdapter externalUsers = new PragmaUserAdapter(apiProperties, new RestTemplate());
+
+        ChapterInMemoryAdapter chapters = new ChapterInMemoryAdapter();
+        backend = chapters.save(new Chapter(null, "Backend"));
+        frontend = chapters.save(new Chapter(null, "Frontend"));
+        users = new UserInMemoryAdapter(chapters);
+        for (int i = 0; i < USERS; i++) {
+            users.save(new User(String.format("u%02d", i), "Viejo", null, String.format("user-%02d@pragma.com", i),
+                    "google-" + i, null, backend, RolUsuario.Tutorado, 0, 1));
+        }
+        GetAllChaptersUseCase getAllChaptersUseCase = mock(GetAllChaptersUseCase.class);
+        when(getAllChaptersUseCase.getAllChapters()).thenReturn(chapters.findAll());
+
+        checkpoint = new UserEnrichmentCheckpointInMemoryAdapter();
+        updateTutorProfileUseCase = mock(UpdateTutorProfileUseCase.class);
+        properties = new UserEnrichmentProperties();
+        properties.setBatchSize(5);
+        properties.setMaxConcurrency(3);
+        properties.setRequestsPerSecond(0);
+        service = new UserEnrichmentService(users, externalUsers, checkpoint, getAllChaptersUseCase,
+                updateTutorProfileUseCase, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.stop(0);
+    }
+
+    @Test
+    void enrichUsers_ShouldUpdateUsersFromExternalApi() {
+        // Act
+        UserEnrichmentReport report = service.enrichUsers();
+
+        // Assert
+        assertEquals(new UserEnrichmentReport(USERS, USERS - 1, 1, 0), report);
+        User updated = users.findById("u03").orElseThrow();
+        assertEquals("Nombre", updated.getFirstName());
+        assertEquals("Apellido 03", updated.getLastName());
+        assertEquals(frontend, updated.getChapter());
+        assertEquals(4, updated.getSeniority());
+        assertEquals("Viejo", users.findByEmail(MISSING).orElseThrow().getFirstName());
+        assertEquals(USERS, requested.size());
+        assertTrue(maxInFlight.get() <= properties.getMaxConcurrency(), "concurrencia máxima: " + maxInFlight.get());
+        assertTrue(checkpoint.findLastUserId().isEmpty());
+        verify(updateTutorProfileUseCase, times(USERS - 1)).userSaved(any(User.class));
+    }
+
+    @Test
+    void enrichUsers_ShouldResumeAfterCheckpoint() {
+        // Arrange
+        checkpoint.saveLastUserId("u07");
+
+        // Act
+        UserEnrichmentReport report = service.enrichUsers();
+
+        // Assert
+        assertEquals(4, report.checked());
+        assertEquals(Set.of("user-08@pragma.com", "user-09@pragma.com", "user-10@pragma.com", "user-11@pragma.com"), requested);
+        assertEquals("Viejo", users.findById("u07").orElseThrow().getFirstName());
+        assertTrue(checkpoint.findLastUserId().isEmpty());
+    }
+
+    @Test
+    void enrichUsers_WhenUpstreamFails_ShouldCountFailureAndKeepCheckpoint() {
+        // Arrange
+        upstreamFailing = true;
+
+        // Act
+        UserEnrichmentReport report = service.enrichUsers();
+
+        // Assert: el error no cuenta como usuario inexistente y el checkpoint queda antes del lote fallido
+        assertEquals(new UserEnrichmentReport(USERS, USERS - 2, 1, 1), report);
+        assertEquals("Viejo", users.findByEmail(FAILING).orElseThrow().getFirstName());
+        assertEquals("u04", checkpoint.findLastUserId().orElseThrow());
+    }
+
+    @Test
+    void enrichUsers_ShouldRetryFailedBatchOnNextRun() {
+        // Arrange
+        upstreamFailing = true;
+        service.enrichUsers();
+        upstreamFailing = false;
+        requested.clear();
+
+        // Act
+        UserEnrichmentReport report = service.enrichUsers();
+
+        // Assert
+        assertEquals(new UserEnrichmentReport(7, 1, 1, 0), report);
+        assertTrue(requested.contains(FAILING));
+        assertEquals("Nombre", users.findByEmail(FAILING).orElseThrow().getFirstName());
+        assertTrue(checkpoint.findLastUserId().isEmpty());
+    }
+
+    @Test
+    void enrichUsers_ShouldRespectRequestRate() {
+        // Arrange
+        properties.setRequestsPerSecond(40);
+
+        // Act
+        long start = System.nanoTime();
+        service.enrichUsers();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Assert: 12 llamadas espaciadas 25 ms
+        assertTrue(elapsedMillis >= (USERS - 1) * 25L, "duración: " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void enrichUsers_WhenNothingChanged_ShouldNotSave() {
+        // Arrange
+        service.enrichUsers();
+        reset(updateTutorProfileUseCase);
+
+        // Act
+        UserEnrichmentReport report = service.enrichUsers();
+
+        // Assert
+        assertEquals(0, report.updated());
+        verify(updateTutorProfileUseCase, never()).userSaved(any(User.class));
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            String path = exchange.getRequestURI().getPath();
+            String email = path.substring(path.lastIndexOf('/') + 1);
+            requested.add(email);
+            Thread.sleep(10);
+            if (email.equals(MISSING)) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            if (upstreamFailing && email.equals(FAILING)) {
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+            String number = email.substring(5, 7);
+            byte[] body = ("{\"email\":\"" + email + "\",\"full_name\":\"Nombre Apellido " + number + "\","
+                    + "\"chapters\":[{\"chapter_name\":\"frontend\",\"seniority_id\":4}]}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+            inFlight.decrementAndGet();
+        }
+    }
+}
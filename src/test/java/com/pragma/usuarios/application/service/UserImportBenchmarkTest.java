@@ -0,0 +1,98 @@
+package com.pragma.usuarios.application.service;
+
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.chapter.domain.port.input.GetAllChaptersUseCase;
+import com.pragma.chapter.infrastructure.adapter.output.persistence.mapper.ChapterMapperImpl;
+import com.pragma.recommendations.domain.port.input.UpdateTutorProfileUseCase;
+import com.pragma.shared.config.UserImportProperties;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.UserImportReport;
+import com.pragma.usuarios.domain.model.UserImportRow;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.infrastructure.adapter.output.persistence.UserPersistenceAdapter;
+import com.pragma.usuarios.infrastructure.adapter.output.persistence.mapper.UserMapperImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmark de la importación masiva de usuarios frente a guardarlos uno a uno.
+ * Sin transacción de test, para que cada lote se confirme como en producción.
+ * Se ejecuta con {@code mvn test -Pbenchmark}.
+ */
+@Tag("performance")
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({UserPersistenceAdapter.class, UserMapperImpl.class, ChapterMapperImpl.class})
+class UserImportBenchmarkTest {
+
+    private static final int IMPORTED_USERS = 50_000;
+    private static final int ONE_BY_ONE_USERS = 5_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserPersistenceAdapter userPersistenceAdapter;
+
+    private UserImportService service;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO chapter (id, name) VALUES ('bench-import', 'Benchmark Import')");
+        GetAllChaptersUseCase chapters = mock(GetAllChaptersUseCase.class);
+        when(chapters.getAllChapters()).thenReturn(List.of(new Chapter("bench-import", "Benchmark Import")));
+        service = new UserImportService(userPersistenceAdapter, chapters, mock(UpdateTutorProfileUseCase.class),
+                new UserImportProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM users WHERE chapter_id = 'bench-import'");
+        jdbcTemplate.update("DELETE FROM chapter WHERE id = 'bench-import'");
+    }
+
+    @Test
+    void importUsers_VsSaveOneByOne() {
+        long start = System.nanoTime();
+        for (int i = 0; i < ONE_BY_ONE_USERS; i++) {
+            User user = new User(null, "Single", "User " + i, "single" + i + "@pragma.com", "single-google-" + i,
+                    null, new Chapter("bench-import", "Benchmark Import"), RolUsuario.Tutorado, 0, 1);
+            userPersistenceAdapter.save(user);
+        }
+        long oneByOne = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        UserImportReport report = service.importUsers(rows());
+        long imported = System.nanoTime() - start;
+
+        assertEquals(IMPORTED_USERS, report.imported());
+        assertEquals(0, report.failed());
+        System.out.printf("Alta de usuarios: uno a uno %.0f filas/s (%d), importación %.0f filas/s (%d en %.1f s)%n",
+                ONE_BY_ONE_USERS / (oneByOne / 1e9), ONE_BY_ONE_USERS,
+                IMPORTED_USERS / (imported / 1e9), IMPORTED_USERS, imported / 1e9);
+    }
+
+    private static Stream<UserImportRow> rows() {
+        return LongStream.range(0, IMPORTED_USERS)
+                .mapToObj(i -> new UserImportRow(i + 2, "bench" + i + "@pragma.com", "bench-google-" + i,
+                        "Bench", "User " + i, null, "Benchmark Import", String.valueOf(i % 10), null));
+    }
+}
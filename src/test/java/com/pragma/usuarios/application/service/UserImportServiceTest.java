@@ -0,0 +1,153 @@
+package com.pragma.usuarios.application.service;
+
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.chapter.domain.port.input.GetAllChaptersUseCase;
+import com.pragma.recommendations.domain.port.input.UpdateTutorProfileUseCase;
+import com.pragma.shared.config.UserImportProperties;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.UserImportError;
+import com.pragma.usuarios.domain.model.UserImportReport;
+import com.pragma.usuarios.domain.model.UserImportRow;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.domain.port.output.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class UserImportServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private GetAllChaptersUseCase getAllChaptersUseCase;
+
+    @Mock
+    private UpdateTutorProfileUseCase updateTutorProfileUseCase;
+
+    private UserImportProperties properties;
+    private UserImportService service;
+    private Chapter chapter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        properties = new UserImportProperties();
+        properties.setChunkSize(2);
+        service = new UserImportService(userRepository, getAllChaptersUseCase, updateTutorProfileUseCase, properties);
+
+        chapter = new Chapter("c1", "Backend");
+        when(getAllChaptersUseCase.getAllChapters()).thenReturn(List.of(chapter));
+        when(userRepository.findExistingEmails(any())).thenReturn(Set.of());
+        when(userRepository.findExistingGoogleUserIds(any())).thenReturn(Set.of());
+        when(userRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void importUsers_ShouldSaveValidRowsInChunksWithDefaults() {
+        // Arrange
+        Stream<UserImportRow> rows = Stream.of(
+                row(2, "ana@pragma.com", "g-ana", "backend", "3"),
+                row(3, "luis@pragma.com", "g-luis", "c1", ""),
+                row(4, "eva@pragma.com", "g-eva", null, null));
+
+        // Act
+        UserImportReport report = service.importUsers(rows);
+
+        // Assert
+        assertEquals(new UserImportReport(3, 3, 0, List.of()), report);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<User>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(userRepository, times(2)).saveAll(chunks.capture());
+        assertEquals(2, chunks.getAllValues().get(0).size());
+        assertEquals(1, chunks.getAllValues().get(1).size());
+        User ana = chunks.getAllValues().get(0).get(0);
+        assertEquals(chapter, ana.getChapter());
+        assertEquals(3, ana.getSeniority());
+        assertEquals(RolUsuario.Tutorado, ana.getRol());
+        assertEquals(0, ana.getActiveTutoringLimit());
+        assertNull(chunks.getAllValues().get(1).get(0).getChapter());
+        verify(getAllChaptersUseCase, times(1)).getAllChapters();
+        verify(updateTutorProfileUseCase, times(3)).userSaved(any(User.class));
+    }
+
+    @Test
+    void importUsers_ShouldReportInvalidAndDuplicateRows() {
+        // Arrange
+        when(userRepository.findExistingEmails(any())).thenReturn(Set.of("taken@pragma.com"));
+        Stream<UserImportRow> rows = Stream.of(
+                UserImportRow.unreadable(2, "JSON inválido"),
+                row(3, "no-es-correo", "g-1", null, null),
+                row(4, "a@pragma.com", "", null, null),
+                row(5, "b@pragma.com", "g-b", "Frontend", null),
+                row(6, "c@pragma.com", "g-c", null, "-1"),
+                row(7, "d@pragma.com", "g-d", null, null),
+                row(8, "d@pragma.com", "g-d2", null, null),
+                row(9, "taken@pragma.com", "g-taken", null, null));
+
+        // Act
+        UserImportReport report = service.importUsers(rows);
+
+        // Assert
+        assertEquals(8, report.totalRows());
+        assertEquals(1, report.imported());
+        assertEquals(7, report.failed());
+        assertEquals(List.of(2L, 3L, 4L, 5L, 6L, 8L, 9L), report.errors().stream().map(UserImportError::line).toList());
+        assertEquals("Capítulo no encontrado: Frontend", report.errors().get(3).message());
+        assertEquals("El correo ya está registrado", report.errors().get(6).message());
+    }
+
+    @Test
+    void importUsers_WhenChunkFails_ShouldRejectOnlyThatChunk() {
+        // Arrange
+        when(userRepository.saveAll(anyList()))
+                .thenThrow(new RuntimeException("constraint"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        Stream<UserImportRow> rows = Stream.of(
+                row(2, "a@pragma.com", "g-a", null, null),
+                row(3, "b@pragma.com", "g-b", null, null),
+                row(4, "c@pragma.com", "g-c", null, null));
+
+        // Act
+        UserImportReport report = service.importUsers(rows);
+
+        // Assert
+        assertEquals(1, report.imported());
+        assertEquals(2, report.failed());
+        assertEquals(List.of(2L, 3L), report.errors().stream().map(UserImportError::line).toList());
+        verify(updateTutorProfileUseCase, times(1)).userSaved(any(User.class));
+    }
+
+    @Test
+    void importUsers_ShouldCapReportedErrors() {
+        // Arrange
+        properties.setMaxReportedErrors(2);
+        Stream<UserImportRow> rows = Stream.of(
+                UserImportRow.unreadable(2, "x"),
+                UserImportRow.unreadable(3, "x"),
+                UserImportRow.unreadable(4, "x"));
+
+        // Act
+        UserImportReport report = service.importUsers(rows);
+
+        // Assert
+        assertEquals(3, report.failed());
+        assertEquals(2, report.errors().size());
+        verify(userRepository, never()).saveAll(anyList());
+    }
+
+    private static UserImportRow row(long line, String email, String googleUserId, String chapter, String seniority) {
+        return new UserImportRow(line, email, googleUserId, "Nombre", "Apellido", null, chapter, seniority, null);
+    }
+}
@@ -1,6 +1,7 @@
 package com.pragma.usuarios.application.service;
 
 import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.recommendations.domain.port.input.UpdateTutorProfileUseCase;
 import com.pragma.usuarios.domain.model.User;
 import com.pragma.usuarios.domain.model.enums.RolUsuario;
 import com.pragma.usuarios.domain.port.output.ExternalUserRepository;
@@ -37,6 +38,9 @@ class UserServiceCompleteTest {
     @Mock
     private ExternalUserRepository externalUserRepository;
 
+    @Mock
+    private UpdateTutorProfileUseCase updateTutorProfileUseCase;
+
     @InjectMocks
     private UserService userService;
 
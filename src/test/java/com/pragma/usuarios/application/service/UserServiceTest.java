@@ -1,6 +1,7 @@
 package com.pragma.usuarios.application.service;
 
 import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.recommendations.domain.port.input.UpdateTutorProfileUseCase;
 import com.pragma.usuarios.domain.model.User;
 import com.pragma.usuarios.domain.model.enums.RolUsuario;
 import com.pragma.usuarios.domain.port.output.UserRepository;
@@ -22,6 +23,9 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UpdateTutorProfileUseCase updateTutorProfileUseCase;
+
     @InjectMocks
     private UserService userService;
 
@@ -140,6 +144,7 @@ class UserServiceTest {
         // Verify repository was called with correct parameters
         verify(userRepository).findById("1");
         verify(userRepository).save(argThat(user -> user.getRol() == RolUsuario.Tutor));
+        verify(updateTutorProfileUseCase).userSaved(updatedUser);
     }
     
     @Test
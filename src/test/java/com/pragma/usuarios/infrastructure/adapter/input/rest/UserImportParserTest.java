@@ -0,0 +1,70 @@
+package com.pragma.usuarios.infrastructure.adapter.input.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.usuarios.domain.model.UserImportRow;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserImportParserTest {
+
+    private final UserImportParser parser = new UserImportParser(new ObjectMapper());
+
+    @Test
+    void parseCsv_ShouldMapColumnsByHeaderAndKeepLineNumbers() {
+        // Arrange
+        String csv = "googleUserId,EMAIL,firstName,seniority,chapter\n"
+                + "g-1,ana@pragma.com,\"Ana, María\",3,Backend\n"
+                + "\n"
+                + "g-2,luis@pragma.com,\"Luis \"\"Lucho\"\"\",,\n"
+                + "g-3,eva@pragma.com,\"sin cerrar\n";
+
+        // Act
+        List<UserImportRow> rows = read(parser.parseCsv(input(csv)));
+
+        // Assert
+        assertEquals(new UserImportRow(2, "ana@pragma.com", "g-1", "Ana, María", null, null, "Backend", "3", null), rows.get(0));
+        assertEquals(4, rows.get(1).line());
+        assertEquals("Luis \"Lucho\"", rows.get(1).firstName());
+        assertEquals(5, rows.get(2).line());
+        assertNotNull(rows.get(2).parseError());
+        assertEquals(3, rows.size());
+    }
+
+    @Test
+    void parseCsv_WithoutRequiredColumns_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> parser.parseCsv(input("email,firstName\na@pragma.com,Ana\n")));
+    }
+
+    @Test
+    void parseNdjson_ShouldReadOneObjectPerLine() {
+        // Arrange
+        String ndjson = "{\"email\":\"ana@pragma.com\",\"googleUserId\":\"g-1\",\"seniority\":3}\n"
+                + "{no es json\n"
+                + "[1,2]\n";
+
+        // Act
+        List<UserImportRow> rows = read(parser.parseNdjson(input(ndjson)));
+
+        // Assert
+        assertEquals(new UserImportRow(1, "ana@pragma.com", "g-1", null, null, null, null, "3", null), rows.get(0));
+        assertNotNull(rows.get(1).parseError());
+        assertEquals("Cada línea debe ser un objeto JSON", rows.get(2).parseError());
+    }
+
+    private static InputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<UserImportRow> read(Stream<UserImportRow> rows) {
+        try (rows) {
+            return rows.toList();
+        }
+    }
+}
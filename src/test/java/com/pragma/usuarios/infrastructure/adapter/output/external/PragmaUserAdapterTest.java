@@ -11,6 +11,8 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.Optional;
@@ -105,4 +107,31 @@ class PragmaUserAdapterTest {
         // Assert
         assertFalse(result.isPresent());
     }
-}
\ No newline at end of file
+
+    @Test
+    void fetchUserByEmail_shouldReturnEmpty_whenApiThrowsNotFound() {
+        // Arrange
+        when(apiProperties.getServiceUrl()).thenReturn("https://api.pragma.com");
+        when(apiProperties.getServiceKey()).thenReturn("test-key");
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(PragmaUserDto.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+        // Act
+        Optional<PragmaUserDto> result = pragmaUserAdapter.fetchUserByEmail("notfound@pragma.com");
+
+        // Assert
+        assertFalse(result.isPresent());
+    }
+
+    @Test
+    void fetchUserByEmail_shouldPropagate_whenApiFails() {
+        // Arrange
+        when(apiProperties.getServiceUrl()).thenReturn("https://api.pragma.com");
+        when(apiProperties.getServiceKey()).thenReturn("test-key");
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(PragmaUserDto.class)))
+                .thenThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+
+        // Act & Assert
+        assertThrows(HttpServerErrorException.class, () -> pragmaUserAdapter.fetchUserByEmail("error@pragma.com"));
+    }
+}